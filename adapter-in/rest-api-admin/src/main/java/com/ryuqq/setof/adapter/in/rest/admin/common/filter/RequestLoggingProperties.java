@@ -0,0 +1,101 @@
+package com.ryuqq.setof.adapter.in.rest.admin.common.filter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Request Logging Properties
+ *
+ * <p>{@link RequestResponseLoggingFilter}의 샘플링/본문 캡처 설정입니다.
+ *
+ * <p>설정 항목:
+ *
+ * <ul>
+ *   <li>enabled: 필터 등록 여부 (기본 false)
+ *   <li>sample-rate: 완료 로그 기본 샘플링 비율 (0.0 ~ 1.0)
+ *   <li>route-sample-rates: 라우트 템플릿별 샘플링 비율 (기본값보다 우선)
+ *   <li>slow-threshold: 이 시간 이상 걸린 요청은 샘플링과 무관하게 로깅
+ *   <li>body-capture-bytes: 요청 본문 앞부분 캡처 크기 (0이면 본문을 버퍼링하지 않음)
+ *   <li>masked-field-keywords: 이름에 포함되면 로그에서 값을 가리는 본문 필드 키워드 (대소문자 무시)
+ * </ul>
+ *
+ * <p>사용 예시 (application.yml):
+ *
+ * <pre>{@code
+ * api:
+ *   request-logging:
+ *     enabled: true
+ *     sample-rate: 0.1
+ *     route-sample-rates:
+ *       "[/api/v1/products]": 0.01
+ *     slow-threshold: 1s
+ *     body-capture-bytes: 0
+ *     masked-field-keywords: password, token, secret, card, account
+ * }</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "api.request-logging")
+public class RequestLoggingProperties {
+
+    private boolean enabled = false;
+    private double sampleRate = 1.0;
+    private Map<String, Double> routeSampleRates = new HashMap<>();
+    private Duration slowThreshold = Duration.ofSeconds(1);
+    private int bodyCaptureBytes = 0;
+    private List<String> maskedFieldKeywords =
+            new ArrayList<>(List.of("password", "token", "secret", "card", "account"));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public Map<String, Double> getRouteSampleRates() {
+        return routeSampleRates;
+    }
+
+    public void setRouteSampleRates(Map<String, Double> routeSampleRates) {
+        this.routeSampleRates = routeSampleRates;
+    }
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+        this.slowThreshold = slowThreshold;
+    }
+
+    public int getBodyCaptureBytes() {
+        return bodyCaptureBytes;
+    }
+
+    public void setBodyCaptureBytes(int bodyCaptureBytes) {
+        this.bodyCaptureBytes = bodyCaptureBytes;
+    }
+
+    public List<String> getMaskedFieldKeywords() {
+        return maskedFieldKeywords;
+    }
+
+    public void setMaskedFieldKeywords(List<String> maskedFieldKeywords) {
+        this.maskedFieldKeywords = maskedFieldKeywords;
+    }
+}
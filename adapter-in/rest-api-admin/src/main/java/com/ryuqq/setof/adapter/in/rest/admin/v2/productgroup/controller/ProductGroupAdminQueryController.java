@@ -7,6 +7,7 @@ import com.ryuqq.setof.adapter.in.rest.admin.v2.productgroup.dto.response.Produc
 import com.ryuqq.setof.adapter.in.rest.admin.v2.productgroup.dto.response.ProductGroupSummaryV2ApiResponse;
 import com.ryuqq.setof.adapter.in.rest.admin.v2.productgroup.dto.response.ProductGroupV2ApiResponse;
 import com.ryuqq.setof.adapter.in.rest.admin.v2.productgroup.mapper.ProductGroupAdminV2ApiMapper;
+import com.ryuqq.setof.application.common.response.SliceResponse;
 import com.ryuqq.setof.application.product.dto.query.ProductGroupSearchQuery;
 import com.ryuqq.setof.application.product.dto.response.ProductGroupResponse;
 import com.ryuqq.setof.application.product.dto.response.ProductGroupSummaryResponse;
@@ -52,6 +53,9 @@ import org.springframework.web.bind.annotation.RestController;
 @Validated
 public class ProductGroupAdminQueryController {
 
+    /** 커서 조회 시 totalCount 집계 상한 */
+    private static final long MAX_COUNT = 10_000L;
+
     private final GetProductGroupUseCase getProductGroupUseCase;
     private final GetProductGroupsUseCase getProductGroupsUseCase;
     private final ProductGroupAdminV2ApiMapper mapper;
@@ -101,16 +105,36 @@ public class ProductGroupAdminQueryController {
 
         ProductGroupSearchQuery query = mapper.toSearchQuery(request);
 
-        List<ProductGroupSummaryResponse> responses = getProductGroupsUseCase.execute(query);
-        long totalCount = getProductGroupsUseCase.count(query);
+        if (request.isOffsetPaging()) {
+            List<ProductGroupSummaryResponse> responses = getProductGroupsUseCase.execute(query);
+            long totalCount = getProductGroupsUseCase.count(query);
+
+            ProductGroupListV2ApiResponse apiResponse =
+                    ProductGroupListV2ApiResponse.of(
+                            toItems(responses),
+                            request.pageNumber(),
+                            request.pageSize(),
+                            totalCount);
+            return ResponseEntity.ok(ApiResponse.ofSuccess(apiResponse));
+        }
 
-        List<ProductGroupSummaryV2ApiResponse> items =
-                responses.stream().map(ProductGroupSummaryV2ApiResponse::from).toList();
+        SliceResponse<ProductGroupSummaryResponse> slice =
+                getProductGroupsUseCase.executeSlice(query, request.cursor());
+        long totalCount = getProductGroupsUseCase.countUpTo(query, MAX_COUNT);
 
         ProductGroupListV2ApiResponse apiResponse =
-                ProductGroupListV2ApiResponse.of(
-                        items, request.pageNumber(), request.pageSize(), totalCount);
+                ProductGroupListV2ApiResponse.ofSlice(
+                        toItems(slice.content()),
+                        request.pageSize(),
+                        totalCount,
+                        slice.hasNext(),
+                        slice.nextCursor());
 
         return ResponseEntity.ok(ApiResponse.ofSuccess(apiResponse));
     }
+
+    private List<ProductGroupSummaryV2ApiResponse> toItems(
+            List<ProductGroupSummaryResponse> responses) {
+        return responses.stream().map(ProductGroupSummaryV2ApiResponse::from).toList();
+    }
 }
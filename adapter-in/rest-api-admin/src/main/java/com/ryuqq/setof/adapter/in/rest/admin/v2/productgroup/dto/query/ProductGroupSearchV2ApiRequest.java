@@ -125,7 +125,9 @@ public record ProductGroupSearchV2ApiRequest(
             @Schema(description = "페이지 크기", example = "20", minimum = "1", maximum = "100")
                     @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다")
                     @Max(value = 100, message = "페이지 크기는 100 이하이어야 합니다")
-                    Integer size) {
+                    Integer size,
+            @Schema(description = "다음 페이지 커서 (이전 응답의 nextCursor, 지정 시 number 무시)")
+                    String cursor) {
 
         /** Compact Constructor - 기본값 처리 */
         public PageRequest {
@@ -135,6 +137,9 @@ public record ProductGroupSearchV2ApiRequest(
             if (size == null) {
                 size = DEFAULT_PAGE_SIZE;
             }
+            if (cursor != null && cursor.isBlank()) {
+                cursor = null;
+            }
         }
 
         /**
@@ -143,7 +148,7 @@ public record ProductGroupSearchV2ApiRequest(
          * @return 첫 페이지, 기본 크기
          */
         public static PageRequest defaultPage() {
-            return new PageRequest(0, DEFAULT_PAGE_SIZE);
+            return new PageRequest(0, DEFAULT_PAGE_SIZE, null);
         }
     }
 
@@ -167,6 +172,27 @@ public record ProductGroupSearchV2ApiRequest(
         return page.size();
     }
 
+    /**
+     * 다음 페이지 커서 반환
+     *
+     * @return 커서 (nullable)
+     */
+    public String cursor() {
+        return page.cursor();
+    }
+
+    /**
+     * OFFSET 페이징 요청 여부
+     *
+     * <p>커서 없이 2페이지 이상을 번호로 요청한 경우에만 OFFSET 방식으로 조회합니다. 첫 페이지와 커서 요청은 Keyset 방식으로
+     * 조회합니다.
+     *
+     * @return OFFSET 페이징이면 true
+     */
+    public boolean isOffsetPaging() {
+        return page.cursor() == null && page.number() > 0;
+    }
+
     /**
      * 정렬 필드 반환
      *
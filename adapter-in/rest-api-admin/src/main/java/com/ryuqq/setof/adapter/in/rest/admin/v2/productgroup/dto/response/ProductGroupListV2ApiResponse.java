@@ -16,7 +16,8 @@ public record ProductGroupListV2ApiResponse(
         @Schema(description = "페이지 크기", example = "20") int size,
         @Schema(description = "전체 개수", example = "150") long totalCount,
         @Schema(description = "전체 페이지 수", example = "8") int totalPages,
-        @Schema(description = "마지막 페이지 여부", example = "false") boolean last) {
+        @Schema(description = "마지막 페이지 여부", example = "false") boolean last,
+        @Schema(description = "다음 페이지 커서 (커서 조회 시에만 제공)") String nextCursor) {
 
     /**
      * 목록 응답 생성
@@ -31,6 +32,30 @@ public record ProductGroupListV2ApiResponse(
             List<ProductGroupSummaryV2ApiResponse> items, int page, int size, long totalCount) {
         int totalPages = (int) Math.ceil((double) totalCount / size);
         boolean isLast = (page + 1) >= totalPages;
-        return new ProductGroupListV2ApiResponse(items, page, size, totalCount, totalPages, isLast);
+        return new ProductGroupListV2ApiResponse(
+                items, page, size, totalCount, totalPages, isLast, null);
+    }
+
+    /**
+     * 커서 기반 목록 응답 생성
+     *
+     * <p>마지막 페이지 여부는 hasNext로 판단하며, totalCount는 상한이 적용된 개수일 수 있습니다.
+     *
+     * @param items 상품그룹 요약 목록
+     * @param size 페이지 크기
+     * @param totalCount 전체 개수 (상한 적용)
+     * @param hasNext 다음 페이지 존재 여부
+     * @param nextCursor 다음 페이지 커서 (nullable)
+     * @return 목록 응답 DTO
+     */
+    public static ProductGroupListV2ApiResponse ofSlice(
+            List<ProductGroupSummaryV2ApiResponse> items,
+            int size,
+            long totalCount,
+            boolean hasNext,
+            String nextCursor) {
+        int totalPages = (int) Math.ceil((double) totalCount / size);
+        return new ProductGroupListV2ApiResponse(
+                items, 0, size, totalCount, totalPages, !hasNext, nextCursor);
     }
 }
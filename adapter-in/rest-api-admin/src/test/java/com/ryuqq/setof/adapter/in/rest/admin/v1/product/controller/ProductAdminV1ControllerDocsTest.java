@@ -156,6 +156,7 @@ class ProductAdminV1ControllerDocsTest extends RestDocsTestSupport {
                                 "테스트 상품 1",
                                 "SIZE_COLOR",
                                 BigDecimal.valueOf(45000),
+                                BigDecimal.valueOf(45000),
                                 "ON_SALE",
                                 5),
                         new ProductGroupSummaryResponse(
@@ -164,6 +165,7 @@ class ProductAdminV1ControllerDocsTest extends RestDocsTestSupport {
                                 "테스트 상품 2",
                                 "SIZE_COLOR",
                                 BigDecimal.valueOf(35000),
+                                BigDecimal.valueOf(35000),
                                 "ON_SALE",
                                 3));
 
@@ -62,6 +62,18 @@ public class SecurityContextAuthenticator {
         return memberId;
     }
 
+    /**
+     * 검증된 토큰의 회원 ID로 SecurityContext에 인증 설정
+     *
+     * <p>{@link TokenProviderPort#verify(String)} 결과를 이미 가진 호출자가 토큰을 다시 파싱하지 않도록 사용합니다.
+     *
+     * @param request HttpServletRequest (인증 세부정보 설정용)
+     * @param memberId 검증된 회원 ID
+     */
+    public void authenticateMember(HttpServletRequest request, String memberId) {
+        authenticate(request, MemberPrincipal.of(memberId, null));
+    }
+
     /**
      * MemberPrincipal로 직접 SecurityContext에 인증 설정
      *
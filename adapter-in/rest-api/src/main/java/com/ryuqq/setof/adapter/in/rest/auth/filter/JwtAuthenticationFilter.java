@@ -5,6 +5,7 @@ import com.ryuqq.setof.adapter.in.rest.auth.component.SecurityContextAuthenticat
 import com.ryuqq.setof.adapter.in.rest.auth.component.TokenCookieWriter;
 import com.ryuqq.setof.adapter.in.rest.auth.utils.CookieUtils;
 import com.ryuqq.setof.application.auth.dto.response.TokenPairResponse;
+import com.ryuqq.setof.application.auth.dto.response.TokenVerificationResponse;
 import com.ryuqq.setof.application.auth.port.out.client.TokenProviderPort;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -28,6 +29,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
  *   <li>둘 다 없거나 만료 → 인증 실패 (다음 필터로 전달)
  * </ol>
  *
+ * <p>각 토큰은 {@link TokenProviderPort#verify(String)}로 한 번만 검증하고, 그 결과(유효성, 만료 여부, 회원 ID)를 인증까지
+ * 그대로 사용합니다.
+ *
  * <p>Silent Refresh:
  *
  * <ul>
@@ -68,12 +72,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         Optional<String> accessToken = extractAccessToken(request);
 
         if (accessToken.isPresent()) {
-            String token = accessToken.get();
+            TokenVerificationResponse verified = tokenProviderPort.verify(accessToken.get());
 
-            if (tokenProviderPort.validateAccessToken(token)) {
+            if (verified.isValidAccessToken()) {
                 // Access Token 유효 → 인증 성공
-                authenticateAndSetMdc(request, token);
-            } else if (tokenProviderPort.isAccessTokenExpired(token)) {
+                authenticateAndSetMdc(request, verified.memberId());
+            } else if (verified.isExpired()) {
                 // Access Token 만료 → Silent Refresh 시도
                 trySilentRefresh(request, response);
             }
@@ -89,10 +93,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * SecurityContext 인증 및 MDC 설정
      *
      * @param request HttpServletRequest
-     * @param accessToken 검증된 Access Token
+     * @param memberId 검증된 토큰의 회원 ID
      */
-    private void authenticateAndSetMdc(HttpServletRequest request, String accessToken) {
-        String memberId = securityContextAuthenticator.authenticate(request, accessToken);
+    private void authenticateAndSetMdc(HttpServletRequest request, String memberId) {
+        securityContextAuthenticator.authenticateMember(request, memberId);
         mdcContextHolder.setMemberId(memberId);
     }
 
@@ -106,11 +110,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     private void trySilentRefresh(HttpServletRequest request, HttpServletResponse response) {
         CookieUtils.getRefreshToken(request)
-                .filter(tokenProviderPort::validateRefreshToken)
+                .map(tokenProviderPort::verify)
+                .filter(TokenVerificationResponse::isValidRefreshToken)
                 .ifPresent(
-                        refreshToken -> {
-                            String memberId =
-                                    tokenProviderPort.extractMemberIdFromRefreshToken(refreshToken);
+                        verifiedRefreshToken -> {
+                            String memberId = verifiedRefreshToken.memberId();
                             TokenPairResponse newTokens =
                                     tokenProviderPort.generateTokenPair(memberId);
 
@@ -122,8 +126,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     newTokens.accessTokenExpiresIn(),
                                     newTokens.refreshTokenExpiresIn());
 
-                            // 새 Access Token으로 인증 설정
-                            authenticateAndSetMdc(request, newTokens.accessToken());
+                            // 새 Access Token의 회원으로 인증 설정 (방금 발급한 토큰은 재검증하지 않음)
+                            authenticateAndSetMdc(request, memberId);
                         });
     }
 
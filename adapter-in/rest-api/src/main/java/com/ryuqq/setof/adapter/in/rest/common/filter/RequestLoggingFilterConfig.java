@@ -0,0 +1,36 @@
+package com.ryuqq.setof.adapter.in.rest.common.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Request Logging Filter 등록 설정
+ *
+ * <p>{@code api.request-logging.enabled=true}일 때만 {@link RequestResponseLoggingFilter}를 등록합니다. MDC
+ * requestId를 설정하는 필터 다음 순서로 실행됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(RequestLoggingProperties.class)
+@ConditionalOnProperty(prefix = "api.request-logging", name = "enabled", havingValue = "true")
+public class RequestLoggingFilterConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestResponseLoggingFilter> requestResponseLoggingFilter(
+            RequestLoggingProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        FilterRegistrationBean<RequestResponseLoggingFilter> registration =
+                new FilterRegistrationBean<>(
+                        new RequestResponseLoggingFilter(
+                                properties, meterRegistry.getIfAvailable()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
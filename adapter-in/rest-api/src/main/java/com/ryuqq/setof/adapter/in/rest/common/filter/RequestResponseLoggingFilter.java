@@ -1,23 +1,31 @@
 package com.ryuqq.setof.adapter.in.rest.common.filter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 /**
  * Request/Response 로깅 Filter.
  *
- * <p>모든 HTTP 요청과 응답을 로깅하며, MDC에 요청 추적 정보를 설정합니다.
+ * <p>HTTP 요청 완료 로그를 샘플링하여 남기고, MDC에 요청 추적 정보를 설정합니다.
  *
  * <p><strong>MDC 설정 항목</strong>:
  *
@@ -31,10 +39,25 @@ import org.springframework.web.util.ContentCachingResponseWrapper;
  * <p><strong>로깅 내용</strong>:
  *
  * <ul>
- *   <li>요청: 메서드, URI, 쿼리스트링, 클라이언트 IP
- *   <li>응답: 상태 코드, 처리 시간
+ *   <li>요청 (DEBUG): 메서드, URI, 쿼리스트링, 클라이언트 IP
+ *   <li>응답 (INFO, 샘플링): 메서드, URI, 상태 코드, 처리 시간 (+ 설정 시 요청 본문 앞부분)
+ *   <li>5xx 응답과 slow-threshold 이상 요청은 샘플링과 무관하게 로깅
  * </ul>
  *
+ * <p><strong>저부하 원칙</strong>:
+ *
+ * <ul>
+ *   <li>응답 본문은 버퍼링하지 않습니다 (대용량 목록/엑셀 응답을 힙에 두 번 올리지 않음)
+ *   <li>요청 본문은 {@code body-capture-bytes > 0}일 때만, 그 크기까지만 캐시합니다
+ *   <li>본문의 비밀번호/토큰/카드/계좌 등 {@code masked-field-keywords}에 해당하는 필드 값은 {@code ****}로 가려서
+ *       로깅합니다 (JSON, form-urlencoded)
+ *   <li>샘플링 비율은 라우트 템플릿 기준이며, 처리 시간은 {@link System#nanoTime()}으로 측정합니다
+ * </ul>
+ *
+ * <p><strong>메트릭</strong>: {@code http.api.requests} Timer (method, route, status 태그). route는 라우트
+ * 템플릿(예: {@code /api/v1/products/{productGroupId}})이며, 매칭되지 않은 요청은 {@code UNMATCHED}로 묶어 태그
+ * 카디널리티를 제한합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -50,18 +73,61 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
     private static final String HEADER_X_FORWARDED_FOR = "X-Forwarded-For";
     private static final String HEADER_X_REQUEST_ID = "X-Request-Id";
 
+    private static final String METRIC_NAME = "http.api.requests";
+    private static final String UNMATCHED_ROUTE = "UNMATCHED";
+    private static final int SERVER_ERROR_STATUS = 500;
+    private static final String MASK = "****";
+
+    private final RequestLoggingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final Pattern maskedJsonField;
+    private final Pattern maskedFormField;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /** 기본 설정 (전체 로깅, 본문 캡처 없음, 메트릭 미기록) */
+    public RequestResponseLoggingFilter() {
+        this(new RequestLoggingProperties(), null);
+    }
+
+    /**
+     * @param properties 샘플링/본문 캡처 설정
+     * @param meterRegistry 메트릭 레지스트리 (null이면 메트릭 미기록)
+     */
+    public RequestResponseLoggingFilter(
+            RequestLoggingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+
+        String keywords =
+                properties.getMaskedFieldKeywords().stream()
+                        .map(Pattern::quote)
+                        .collect(Collectors.joining("|"));
+        String fieldName = "[^\"=&]*(?:" + keywords + ")[^\"=&]*";
+        // 값: 문자열(캡처 크기에서 잘린 경우 포함) 또는 숫자/리터럴
+        String jsonValue = "(?:\"(?:[^\"\\\\]|\\\\.)*\"?|[^,}\\]\\s]+)";
+        this.maskedJsonField =
+                Pattern.compile(
+                        "\"(" + fieldName + ")\"(\\s*:\\s*)" + jsonValue, Pattern.CASE_INSENSITIVE);
+        this.maskedFormField =
+                Pattern.compile("(^|&)(" + fieldName + ")=[^&]*", Pattern.CASE_INSENSITIVE);
+    }
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(request);
-        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
+        ContentCachingRequestWrapper capturingRequest =
+                properties.getBodyCaptureBytes() > 0
+                        ? new ContentCachingRequestWrapper(
+                                request, properties.getBodyCaptureBytes())
+                        : null;
 
         String requestId = extractOrGenerateRequestId(request);
         String method = request.getMethod();
         String uri = request.getRequestURI();
-        String queryString = request.getQueryString();
         String clientIp = extractClientIp(request);
 
         // MDC 설정
@@ -70,22 +136,28 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
         MDC.put(MDC_URI, uri);
         MDC.put(MDC_CLIENT_IP, clientIp);
 
-        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        boolean completed = false;
 
         try {
             // 요청 로깅
-            logRequest(method, uri, queryString, clientIp);
+            logRequest(method, uri, request.getQueryString(), clientIp);
 
-            filterChain.doFilter(wrappedRequest, wrappedResponse);
+            filterChain.doFilter(
+                    capturingRequest != null ? capturingRequest : request, response);
+            completed = true;
 
         } finally {
-            long duration = System.currentTimeMillis() - startTime;
+            long elapsedNanos = System.nanoTime() - startNanos;
+            int status = completed ? response.getStatus() : SERVER_ERROR_STATUS;
+            String route = resolveRoute(request);
 
-            // 응답 로깅
-            logResponse(method, uri, wrappedResponse.getStatus(), duration);
+            recordTimer(method, route, status, elapsedNanos);
 
-            // Response body 복사 (필수)
-            wrappedResponse.copyBodyToResponse();
+            // 응답 로깅 (샘플링)
+            if (shouldLog(route, status, elapsedNanos)) {
+                logResponse(method, uri, status, elapsedNanos, capturingRequest);
+            }
 
             // MDC 정리
             MDC.remove(MDC_REQUEST_ID);
@@ -123,6 +195,61 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
         return request.getRemoteAddr();
     }
 
+    /**
+     * 매칭된 라우트 템플릿을 조회합니다.
+     *
+     * @param request HTTP 요청 (핸들러 매핑 이후)
+     * @return 라우트 템플릿 (매칭되지 않았으면 UNMATCHED)
+     */
+    private String resolveRoute(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMATCHED_ROUTE;
+    }
+
+    /**
+     * 완료 로그 여부를 결정합니다.
+     *
+     * <p>5xx 응답과 느린 요청은 항상 로깅하고, 나머지는 라우트별 샘플링 비율을 적용합니다.
+     *
+     * @param route 라우트 템플릿
+     * @param status 응답 상태 코드
+     * @param elapsedNanos 처리 시간 (ns)
+     * @return 로깅 여부
+     */
+    private boolean shouldLog(String route, int status, long elapsedNanos) {
+        if (status >= SERVER_ERROR_STATUS || elapsedNanos >= slowThresholdNanos) {
+            return true;
+        }
+        double rate =
+                properties.getRouteSampleRates().getOrDefault(route, properties.getSampleRate());
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /**
+     * 라우트별 Timer에 처리 시간을 기록합니다.
+     *
+     * @param method HTTP 메서드
+     * @param route 라우트 템플릿
+     * @param status 응답 상태 코드
+     * @param elapsedNanos 처리 시간 (ns)
+     */
+    private void recordTimer(String method, String route, int status, long elapsedNanos) {
+        if (meterRegistry == null) {
+            return;
+        }
+        String key = method + ' ' + status + ' ' + route;
+        timers.computeIfAbsent(
+                        key,
+                        ignored ->
+                                Timer.builder(METRIC_NAME)
+                                        .description("API 요청 처리 시간")
+                                        .tag("method", method)
+                                        .tag("route", route)
+                                        .tag("status", String.valueOf(status))
+                                        .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * 요청을 로깅합니다.
      *
@@ -132,8 +259,11 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
      * @param clientIp 클라이언트 IP
      */
     private void logRequest(String method, String uri, String queryString, String clientIp) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
         String fullUri = queryString != null ? uri + "?" + queryString : uri;
-        log.info("[REQ] {} {} from {}", method, fullUri, clientIp);
+        log.debug("[REQ] {} {} from {}", method, fullUri, clientIp);
     }
 
     /**
@@ -142,37 +272,61 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
      * @param method HTTP 메서드
      * @param uri 요청 URI
      * @param status 응답 상태 코드
-     * @param duration 처리 시간 (ms)
+     * @param elapsedNanos 처리 시간 (ns)
+     * @param capturingRequest 본문 캡처 요청 (캡처하지 않으면 null)
      */
-    private void logResponse(String method, String uri, int status, long duration) {
-        log.info("[RES] {} {} - {} ({}ms)", method, uri, status, duration);
+    private void logResponse(
+            String method,
+            String uri,
+            int status,
+            long elapsedNanos,
+            ContentCachingRequestWrapper capturingRequest) {
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (capturingRequest == null) {
+            log.info("[RES] {} {} - {} ({}ms)", method, uri, status, durationMs);
+            return;
+        }
+        log.info(
+                "[RES] {} {} - {} ({}ms) body={}",
+                method,
+                uri,
+                status,
+                durationMs,
+                maskSensitiveFields(extractRequestBody(capturingRequest)));
     }
 
     /**
-     * 요청 본문을 추출합니다 (디버그용).
+     * 캡처된 요청 본문 앞부분을 추출합니다.
      *
-     * @param request 캐싱된 요청
-     * @return 요청 본문 문자열
+     * @param request 본문 캡처 요청
+     * @return 요청 본문 문자열 (최대 body-capture-bytes)
      */
     private String extractRequestBody(ContentCachingRequestWrapper request) {
         byte[] content = request.getContentAsByteArray();
-        if (content.length > 0) {
-            return new String(content, StandardCharsets.UTF_8);
+        int length = Math.min(content.length, properties.getBodyCaptureBytes());
+        if (length > 0) {
+            return new String(content, 0, length, StandardCharsets.UTF_8);
         }
         return "";
     }
 
     /**
-     * 응답 본문을 추출합니다 (디버그용).
+     * 요청 본문에서 민감 필드 값을 가립니다.
+     *
+     * <p>캡처 크기에서 잘린 본문도 처리할 수 있도록 JSON을 파싱하지 않고 필드 이름 기준으로 치환합니다. 키워드가 없으면 본문을
+     * 그대로 반환합니다.
      *
-     * @param response 캐싱된 응답
-     * @return 응답 본문 문자열
+     * @param body 요청 본문 앞부분
+     * @return 민감 필드 값이 가려진 본문
      */
-    private String extractResponseBody(ContentCachingResponseWrapper response) {
-        byte[] content = response.getContentAsByteArray();
-        if (content.length > 0) {
-            return new String(content, StandardCharsets.UTF_8);
+    String maskSensitiveFields(String body) {
+        if (body.isEmpty() || properties.getMaskedFieldKeywords().isEmpty()) {
+            return body;
         }
-        return "";
+        String trimmed = body.stripLeading();
+        if (trimmed.startsWith("{") || trimmed.startsWith("[")) {
+            return maskedJsonField.matcher(body).replaceAll("\"$1\"$2\"" + MASK + "\"");
+        }
+        return maskedFormField.matcher(body).replaceAll("$1$2=" + MASK);
     }
 }
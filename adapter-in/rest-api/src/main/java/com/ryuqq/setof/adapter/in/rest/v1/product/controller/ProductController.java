@@ -9,11 +9,17 @@ import com.ryuqq.setof.adapter.in.rest.v1.product.dto.query.ProductGroupV1Search
 import com.ryuqq.setof.adapter.in.rest.v1.product.dto.response.ProductGroupDetailV1ApiResponse;
 import com.ryuqq.setof.adapter.in.rest.v1.product.dto.response.ProductGroupThumbnailV1ApiResponse;
 import com.ryuqq.setof.adapter.in.rest.v1.product.mapper.ProductV1ApiMapper;
+import com.ryuqq.setof.application.common.response.SliceResponse;
 import com.ryuqq.setof.application.product.dto.query.ProductGroupSearchQuery;
+import com.ryuqq.setof.application.product.dto.query.ProductKeywordSearchQuery;
 import com.ryuqq.setof.application.product.dto.response.FullProductResponse;
 import com.ryuqq.setof.application.product.dto.response.ProductGroupSummaryResponse;
+import com.ryuqq.setof.application.product.dto.response.ProductGroupThumbnailResponse;
+import com.ryuqq.setof.application.product.dto.response.ProductSearchResponse;
 import com.ryuqq.setof.application.product.port.in.query.GetFullProductUseCase;
+import com.ryuqq.setof.application.product.port.in.query.GetProductGroupThumbnailsUseCase;
 import com.ryuqq.setof.application.product.port.in.query.GetProductGroupsUseCase;
+import com.ryuqq.setof.application.product.port.in.query.SearchProductGroupsUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
@@ -41,14 +47,20 @@ public class ProductController {
 
     private final GetFullProductUseCase getFullProductUseCase;
     private final GetProductGroupsUseCase getProductGroupsUseCase;
+    private final GetProductGroupThumbnailsUseCase getProductGroupThumbnailsUseCase;
+    private final SearchProductGroupsUseCase searchProductGroupsUseCase;
     private final ProductV1ApiMapper mapper;
 
     public ProductController(
             GetFullProductUseCase getFullProductUseCase,
             GetProductGroupsUseCase getProductGroupsUseCase,
+            GetProductGroupThumbnailsUseCase getProductGroupThumbnailsUseCase,
+            SearchProductGroupsUseCase searchProductGroupsUseCase,
             ProductV1ApiMapper mapper) {
         this.getFullProductUseCase = getFullProductUseCase;
         this.getProductGroupsUseCase = getProductGroupsUseCase;
+        this.getProductGroupThumbnailsUseCase = getProductGroupThumbnailsUseCase;
+        this.searchProductGroupsUseCase = searchProductGroupsUseCase;
         this.mapper = mapper;
     }
 
@@ -68,7 +80,10 @@ public class ProductController {
     @GetMapping(ApiPaths.Product.GROUP_RECENT)
     public ResponseEntity<ApiResponse<List<ProductGroupThumbnailV1ApiResponse>>>
             getProductGroupsDesc(@RequestParam List<Long> productGroupIds) {
-        throw new UnsupportedOperationException("최근 상품 목록 조회 기능은 아직 지원되지 않습니다.");
+        List<ProductGroupThumbnailResponse> responses =
+                getProductGroupThumbnailsUseCase.execute(productGroupIds);
+        return ResponseEntity.ok(
+                ApiResponse.ofSuccess(mapper.toRecentThumbnailResponses(responses)));
     }
 
     @Deprecated
@@ -122,6 +137,8 @@ public class ProductController {
     public ResponseEntity<ApiResponse<SliceApiResponse<ProductGroupThumbnailV1ApiResponse>>>
             getProductGroupBySearchKeyword(
                     @ModelAttribute ProductGroupV1KeywordSearchApiRequest request) {
-        throw new UnsupportedOperationException("상품 검색 목록 조회 기능은 아직 지원되지 않습니다.");
+        ProductKeywordSearchQuery query = mapper.toKeywordSearchQuery(request);
+        SliceResponse<ProductSearchResponse> response = searchProductGroupsUseCase.execute(query);
+        return ResponseEntity.ok(ApiResponse.ofSuccess(mapper.toSearchSliceResponse(response)));
     }
 }
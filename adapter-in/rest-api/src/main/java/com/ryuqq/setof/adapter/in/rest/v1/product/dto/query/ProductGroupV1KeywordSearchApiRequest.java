@@ -20,6 +20,7 @@ import java.util.List;
  * @param brandIds 브랜드 ID 목록
  * @param sellerId 판매자 ID
  * @param orderType 정렬 타입
+ * @param pageSize 페이지 크기
  * @author development-team
  * @since 1.0.0
  */
@@ -36,4 +37,5 @@ public record ProductGroupV1KeywordSearchApiRequest(
         @Schema(description = "브랜드 ID", example = "1") Long brandId,
         @Schema(description = "브랜드 ID 목록", example = "[1, 2, 3]") List<Long> brandIds,
         @Schema(description = "판매자 ID", example = "100") Long sellerId,
-        @Schema(description = "정렬 타입", example = "LATEST") String orderType) {}
+        @Schema(description = "정렬 타입", example = "LATEST") String orderType,
+        @Schema(description = "페이지 크기", example = "20") Integer pageSize) {}
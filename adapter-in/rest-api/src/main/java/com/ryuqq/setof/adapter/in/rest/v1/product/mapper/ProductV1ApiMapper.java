@@ -1,5 +1,7 @@
 package com.ryuqq.setof.adapter.in.rest.v1.product.mapper;
 
+import com.ryuqq.setof.adapter.in.rest.common.dto.SliceApiResponse;
+import com.ryuqq.setof.adapter.in.rest.v1.product.dto.query.ProductGroupV1KeywordSearchApiRequest;
 import com.ryuqq.setof.adapter.in.rest.v1.product.dto.query.ProductGroupV1SearchApiRequest;
 import com.ryuqq.setof.adapter.in.rest.v1.product.dto.response.ProductGroupDetailV1ApiResponse;
 import com.ryuqq.setof.adapter.in.rest.v1.product.dto.response.ProductGroupThumbnailV1ApiResponse;
@@ -15,19 +17,27 @@ import com.ryuqq.setof.adapter.in.rest.v1.product.dto.response.ProductGroupV1Api
 import com.ryuqq.setof.adapter.in.rest.v1.product.dto.response.ProductImageV1ApiResponse;
 import com.ryuqq.setof.adapter.in.rest.v1.product.dto.response.ProductNoticeV1ApiResponse;
 import com.ryuqq.setof.adapter.in.rest.v1.product.dto.response.ProductV1ApiResponse;
+import com.ryuqq.setof.application.common.response.SliceResponse;
 import com.ryuqq.setof.application.product.dto.query.ProductGroupSearchQuery;
+import com.ryuqq.setof.application.product.dto.query.ProductKeywordSearchQuery;
 import com.ryuqq.setof.application.product.dto.response.FullProductResponse;
 import com.ryuqq.setof.application.product.dto.response.ProductGroupResponse;
 import com.ryuqq.setof.application.product.dto.response.ProductGroupSummaryResponse;
+import com.ryuqq.setof.application.product.dto.response.ProductGroupThumbnailResponse;
 import com.ryuqq.setof.application.product.dto.response.ProductResponse;
+import com.ryuqq.setof.application.product.dto.response.ProductSearchResponse;
 import com.ryuqq.setof.application.productdescription.dto.response.ProductDescriptionResponse;
 import com.ryuqq.setof.application.productimage.dto.response.ProductImageResponse;
 import com.ryuqq.setof.application.productnotice.dto.response.ProductNoticeResponse;
 import com.ryuqq.setof.application.productstock.dto.response.ProductStockResponse;
 import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
@@ -45,6 +55,10 @@ import org.springframework.stereotype.Component;
 public class ProductV1ApiMapper {
 
     private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
+    private static final DateTimeFormatter INSERT_DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.of("Asia/Seoul"));
 
     /**
      * V1 Search Request를 Application Query로 변환
@@ -66,6 +80,120 @@ public class ProductV1ApiMapper {
                 size > 0 ? size : DEFAULT_PAGE_SIZE);
     }
 
+    /**
+     * V1 키워드 검색 Request를 Application Query로 변환
+     *
+     * <p>단일/목록 카테고리·브랜드 필터는 합쳐서 전달하고, 커서는 {@code cursorValue}를 그대로 사용합니다. {@code cursorValue}
+     * 없이 {@code lastDomainId}만 보내는 레거시 클라이언트는 해당 상품그룹 다음부터 조회합니다. 지원하지 않는 정렬 타입은 랭킹
+     * 점수순으로 처리하고, 페이지 크기는 최대 {@value #MAX_SEARCH_PAGE_SIZE}건으로 제한합니다.
+     *
+     * @param request V1 키워드 검색 요청
+     * @return Application 키워드 검색 쿼리
+     */
+    public ProductKeywordSearchQuery toKeywordSearchQuery(
+            ProductGroupV1KeywordSearchApiRequest request) {
+        return new ProductKeywordSearchQuery(
+                request.searchWord(),
+                mergeIds(request.categoryId(), request.categoryIds()),
+                mergeIds(request.brandId(), request.brandIds()),
+                request.sellerId(),
+                request.lowestPrice(),
+                request.highestPrice(),
+                toSortType(request.orderType()),
+                request.cursorValue(),
+                request.lastDomainId(),
+                toSearchPageSize(request.pageSize()));
+    }
+
+    /**
+     * 키워드 검색 결과를 V1 썸네일 Slice Response로 변환
+     *
+     * @param response Application 검색 결과 Slice
+     * @return V1 썸네일 Slice 응답
+     */
+    public SliceApiResponse<ProductGroupThumbnailV1ApiResponse> toSearchSliceResponse(
+            SliceResponse<ProductSearchResponse> response) {
+        return SliceApiResponse.from(response, this::toThumbnailResponse);
+    }
+
+    /**
+     * ProductSearchResponse를 V1 썸네일 Response로 변환
+     *
+     * @param response Application 검색 결과 응답
+     * @return V1 썸네일 응답
+     */
+    public ProductGroupThumbnailV1ApiResponse toThumbnailResponse(ProductSearchResponse response) {
+        Long regularPrice = toLong(response.regularPrice());
+        Long currentPrice = toLong(response.currentPrice());
+        int discountRate = calculateDiscountRate(regularPrice, currentPrice);
+        return new ProductGroupThumbnailV1ApiResponse(
+                response.productGroupId(),
+                response.sellerId(),
+                response.name(),
+                new ProductGroupBrandV1ApiResponse(response.brandId(), response.brandName()),
+                response.imageUrl(),
+                new ProductGroupPriceV1ApiResponse(
+                        regularPrice,
+                        currentPrice,
+                        currentPrice,
+                        regularPrice - currentPrice,
+                        discountRate,
+                        discountRate),
+                response.createdAt() != null
+                        ? INSERT_DATE_FORMATTER.format(response.createdAt())
+                        : null,
+                response.averageRating(),
+                (int) response.reviewCount(),
+                response.score(),
+                false,
+                toStatusResponse(response.status()));
+    }
+
+    /**
+     * 썸네일 일괄 조회 결과를 V1 썸네일 Response 목록으로 변환
+     *
+     * @param responses Application 썸네일 목록 (요청 순서)
+     * @return V1 썸네일 응답 목록
+     */
+    public List<ProductGroupThumbnailV1ApiResponse> toRecentThumbnailResponses(
+            List<ProductGroupThumbnailResponse> responses) {
+        return responses.stream().map(this::toThumbnailResponse).toList();
+    }
+
+    /**
+     * ProductGroupThumbnailResponse를 V1 썸네일 Response로 변환
+     *
+     * @param response Application 썸네일 응답 (할인 적용)
+     * @return V1 썸네일 응답
+     */
+    public ProductGroupThumbnailV1ApiResponse toThumbnailResponse(
+            ProductGroupThumbnailResponse response) {
+        Long regularPrice = toLong(response.regularPrice());
+        Long currentPrice = toLong(response.currentPrice());
+        Long salePrice = toLong(response.salePrice());
+        return new ProductGroupThumbnailV1ApiResponse(
+                response.productGroupId(),
+                response.sellerId(),
+                response.name(),
+                new ProductGroupBrandV1ApiResponse(response.brandId(), response.brandName()),
+                response.imageUrl(),
+                new ProductGroupPriceV1ApiResponse(
+                        regularPrice,
+                        currentPrice,
+                        salePrice,
+                        currentPrice - salePrice,
+                        calculateDiscountRate(regularPrice, salePrice),
+                        calculateDiscountRate(currentPrice, salePrice)),
+                response.createdAt() != null
+                        ? INSERT_DATE_FORMATTER.format(response.createdAt())
+                        : null,
+                response.averageRating(),
+                (int) response.reviewCount(),
+                response.averageRating(),
+                false,
+                toStatusResponse(response.status()));
+    }
+
     /**
      * FullProductResponse를 V1 상세 Response로 변환
      *
@@ -115,6 +243,7 @@ public class ProductV1ApiMapper {
     public ProductGroupThumbnailV1ApiResponse toThumbnailResponse(
             ProductGroupSummaryResponse response) {
         Long currentPrice = toLong(response.currentPrice());
+        Long salePrice = toLong(response.salePrice());
 
         return new ProductGroupThumbnailV1ApiResponse(
                 response.productGroupId(),
@@ -123,14 +252,29 @@ public class ProductV1ApiMapper {
                 new ProductGroupBrandV1ApiResponse(null, null),
                 null,
                 new ProductGroupPriceV1ApiResponse(
-                        currentPrice, currentPrice, currentPrice, 0L, 0, 0),
+                        currentPrice,
+                        currentPrice,
+                        salePrice,
+                        currentPrice - salePrice,
+                        calculateDiscountRate(currentPrice, salePrice),
+                        calculateDiscountRate(currentPrice, salePrice)),
                 null,
                 0.0,
                 0,
                 0.0,
                 false,
-                new ProductGroupStatusV1ApiResponse(
-                        "ACTIVE".equals(response.status()) ? "N" : "Y", "Y"));
+                toStatusResponse(response.status()));
+    }
+
+    private ProductGroupStatusV1ApiResponse toStatusResponse(String status) {
+        return new ProductGroupStatusV1ApiResponse("ACTIVE".equals(status) ? "N" : "Y", "Y");
+    }
+
+    private int toSearchPageSize(Integer pageSize) {
+        if (pageSize == null || pageSize <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(pageSize, MAX_SEARCH_PAGE_SIZE);
     }
 
     private ProductGroupV1ApiResponse toProductGroupV1Response(ProductGroupResponse pg) {
@@ -242,6 +386,29 @@ public class ProductV1ApiMapper {
         return option1 + " " + option2;
     }
 
+    private List<Long> mergeIds(Long id, List<Long> ids) {
+        List<Long> merged = new ArrayList<>();
+        if (id != null) {
+            merged.add(id);
+        }
+        if (ids != null) {
+            ids.stream().filter(Objects::nonNull).forEach(merged::add);
+        }
+        return merged;
+    }
+
+    private String toSortType(String orderType) {
+        if (orderType == null) {
+            return null;
+        }
+        return switch (orderType) {
+            case "LATEST", "RECENT" -> "LATEST";
+            case "PRICE_ASC", "LOW_PRICE" -> "PRICE_ASC";
+            case "PRICE_DESC", "HIGH_PRICE" -> "PRICE_DESC";
+            default -> null;
+        };
+    }
+
     private Long toLong(BigDecimal value) {
         return value != null ? value.longValue() : 0L;
     }
@@ -17,6 +17,7 @@ public record ProductGroupSummaryV2ApiResponse(
         @Schema(description = "상품그룹명", example = "기본 반팔 티셔츠") String name,
         @Schema(description = "옵션 타입", example = "SINGLE") String optionType,
         @Schema(description = "판매가", example = "19900") BigDecimal currentPrice,
+        @Schema(description = "최종 판매가 (할인 적용)", example = "17900") BigDecimal salePrice,
         @Schema(description = "상태", example = "ACTIVE") String status,
         @Schema(description = "상품(SKU) 개수", example = "5") int productCount) {
 
@@ -33,6 +34,7 @@ public record ProductGroupSummaryV2ApiResponse(
                 response.name(),
                 response.optionType(),
                 response.currentPrice(),
+                response.salePrice(),
                 response.status(),
                 response.productCount());
     }
@@ -0,0 +1,134 @@
+package com.ryuqq.setof.adapter.in.rest.auth.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.adapter.in.rest.auth.component.MdcContextHolder;
+import com.ryuqq.setof.adapter.in.rest.auth.component.SecurityContextAuthenticator;
+import com.ryuqq.setof.adapter.in.rest.auth.component.TokenCookieWriter;
+import com.ryuqq.setof.adapter.in.rest.auth.utils.CookieUtils;
+import com.ryuqq.setof.application.auth.dto.response.TokenPairResponse;
+import com.ryuqq.setof.application.auth.dto.response.TokenVerificationResponse;
+import com.ryuqq.setof.application.auth.port.out.client.TokenProviderPort;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter")
+class JwtAuthenticationFilterTest {
+
+    private static final String MEMBER_ID = "member-1";
+
+    @Mock private TokenProviderPort tokenProviderPort;
+    @Mock private TokenCookieWriter tokenCookieWriter;
+    @Mock private SecurityContextAuthenticator securityContextAuthenticator;
+    @Mock private MdcContextHolder mdcContextHolder;
+    @Mock private FilterChain filterChain;
+
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter =
+                new JwtAuthenticationFilter(
+                        tokenProviderPort,
+                        tokenCookieWriter,
+                        securityContextAuthenticator,
+                        mdcContextHolder);
+    }
+
+    @Test
+    @DisplayName("유효한 Access Token은 한 번만 검증하고 검증 결과의 회원 ID로 인증")
+    void shouldVerifyAccessTokenOnce() throws ServletException, IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer access-token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(tokenProviderPort.verify("access-token"))
+                .thenReturn(
+                        TokenVerificationResponse.valid(
+                                MEMBER_ID,
+                                TokenVerificationResponse.ACCESS_TOKEN_TYPE,
+                                Long.MAX_VALUE));
+
+        // When
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(tokenProviderPort, times(1)).verify(anyString());
+        verify(tokenProviderPort, never()).extractMemberId(anyString());
+        verify(securityContextAuthenticator).authenticateMember(request, MEMBER_ID);
+        verify(mdcContextHolder).setMemberId(MEMBER_ID);
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("만료된 Access Token은 Refresh Token 검증 1회로 Silent Refresh")
+    void shouldSilentRefreshWithSingleRefreshTokenVerification()
+            throws ServletException, IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(
+                new Cookie(CookieUtils.ACCESS_TOKEN_COOKIE, "expired-access"),
+                new Cookie(CookieUtils.REFRESH_TOKEN_COOKIE, "refresh-token"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(tokenProviderPort.verify("expired-access"))
+                .thenReturn(
+                        TokenVerificationResponse.expired(
+                                MEMBER_ID, TokenVerificationResponse.ACCESS_TOKEN_TYPE, 1L));
+        when(tokenProviderPort.verify("refresh-token"))
+                .thenReturn(
+                        TokenVerificationResponse.valid(
+                                MEMBER_ID,
+                                TokenVerificationResponse.REFRESH_TOKEN_TYPE,
+                                Long.MAX_VALUE));
+        when(tokenProviderPort.generateTokenPair(MEMBER_ID))
+                .thenReturn(TokenPairResponse.of("new-access", 3600L, "new-refresh", 604800L));
+
+        // When
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(tokenProviderPort, times(2)).verify(anyString());
+        verify(tokenProviderPort, never()).extractMemberIdFromRefreshToken(anyString());
+        verify(tokenCookieWriter)
+                .addTokenCookies(
+                        eq(response), eq("new-access"), eq("new-refresh"), eq(3600L), eq(604800L));
+        verify(securityContextAuthenticator).authenticateMember(request, MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("위조된 Access Token은 인증하지 않고 다음 필터로 전달")
+    void shouldSkipAuthenticationForInvalidToken() throws ServletException, IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer forged-token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(tokenProviderPort.verify("forged-token"))
+                .thenReturn(TokenVerificationResponse.invalid());
+
+        // When
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(securityContextAuthenticator, never()).authenticateMember(any(), anyString());
+        verify(filterChain).doFilter(request, response);
+        assertEquals(200, response.getStatus());
+    }
+}
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.ryuqq.setof.application.auth.dto.response.TokenPairResponse;
+import com.ryuqq.setof.application.auth.dto.response.TokenVerificationResponse;
 import com.ryuqq.setof.application.auth.port.out.client.TokenProviderPort;
 import com.ryuqq.setof.application.refundaccount.port.out.client.AccountVerificationPort;
 import com.ryuqq.setof.domain.common.util.ClockHolder;
@@ -59,6 +60,19 @@ public class TestMockBeanConfig {
                             return null;
                         });
 
+        when(mockPort.verify(anyString()))
+                .thenAnswer(
+                        invocation -> {
+                            String token = invocation.getArgument(0);
+                            if (token != null && token.startsWith(TEST_TOKEN_PREFIX)) {
+                                return TokenVerificationResponse.valid(
+                                        token.substring(TEST_TOKEN_PREFIX.length()),
+                                        TokenVerificationResponse.ACCESS_TOKEN_TYPE,
+                                        Long.MAX_VALUE);
+                            }
+                            return TokenVerificationResponse.invalid();
+                        });
+
         when(mockPort.isAccessTokenExpired(anyString())).thenReturn(false);
         when(mockPort.validateRefreshToken(anyString())).thenReturn(false);
 
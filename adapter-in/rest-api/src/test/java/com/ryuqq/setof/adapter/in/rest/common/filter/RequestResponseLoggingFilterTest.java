@@ -0,0 +1,162 @@
+package com.ryuqq.setof.adapter.in.rest.common.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+@DisplayName("RequestResponseLoggingFilter")
+class RequestResponseLoggingFilterTest {
+
+    private static final String ROUTE = "/api/v1/products/{productGroupId}";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestLoggingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new RequestLoggingProperties();
+        properties.setSampleRate(0.0);
+    }
+
+    @Test
+    @DisplayName("요청/응답을 감싸지 않고 그대로 전달하여 응답 본문을 버퍼링하지 않음")
+    void shouldPassThroughRequestAndResponseWithoutBuffering()
+            throws ServletException, IOException {
+        // Given
+        RequestResponseLoggingFilter filter =
+                new RequestResponseLoggingFilter(properties, meterRegistry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletRequest[] passedRequest = new ServletRequest[1];
+        ServletResponse[] passedResponse = new ServletResponse[1];
+
+        // When
+        filter.doFilter(
+                request,
+                response,
+                (req, res) -> {
+                    passedRequest[0] = req;
+                    passedResponse[0] = res;
+                    res.getWriter().write("body");
+                    assertThat(response.getContentAsString()).isEqualTo("body");
+                });
+
+        // Then
+        assertThat(passedRequest[0]).isSameAs(request);
+        assertThat(passedResponse[0]).isSameAs(response);
+    }
+
+    @Test
+    @DisplayName("라우트 템플릿과 상태 코드 태그로 처리 시간 기록")
+    void shouldRecordTimerTaggedByRouteTemplate() throws ServletException, IOException {
+        // Given
+        RequestResponseLoggingFilter filter =
+                new RequestResponseLoggingFilter(properties, meterRegistry);
+
+        // When
+        for (long id = 1; id <= 3; id++) {
+            MockHttpServletRequest request =
+                    new MockHttpServletRequest("GET", "/api/v1/products/" + id);
+            filter.doFilter(
+                    request,
+                    new MockHttpServletResponse(),
+                    (req, res) ->
+                            req.setAttribute(
+                                    HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ROUTE));
+        }
+
+        // Then
+        Timer timer =
+                meterRegistry
+                        .get("http.api.requests")
+                        .tags("method", "GET", "route", ROUTE, "status", "200")
+                        .timer();
+        assertThat(timer.count()).isEqualTo(3);
+        assertThat(meterRegistry.getMeters()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("핸들러 예외는 500, 매칭되지 않은 요청은 UNMATCHED로 기록")
+    void shouldRecordFailedUnmatchedRequestAsServerError() {
+        // Given
+        RequestResponseLoggingFilter filter =
+                new RequestResponseLoggingFilter(properties, meterRegistry);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/unknown");
+
+        // When
+        assertThrows(
+                ServletException.class,
+                () ->
+                        filter.doFilter(
+                                request,
+                                new MockHttpServletResponse(),
+                                (req, res) -> {
+                                    throw new ServletException("boom");
+                                }));
+
+        // Then
+        assertThat(
+                        meterRegistry
+                                .get("http.api.requests")
+                                .tags("route", "UNMATCHED", "status", "500")
+                                .timer()
+                                .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("body-capture-bytes 설정 시 제한된 크기로만 요청 본문 캐시")
+    void shouldWrapRequestWithBoundedCacheWhenCaptureEnabled()
+            throws ServletException, IOException {
+        // Given
+        properties.setBodyCaptureBytes(4);
+        RequestResponseLoggingFilter filter = new RequestResponseLoggingFilter(properties, null);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/orders");
+        request.setContent("0123456789".getBytes());
+        ContentCachingRequestWrapper[] captured = new ContentCachingRequestWrapper[1];
+
+        // When
+        filter.doFilter(
+                request,
+                new MockHttpServletResponse(),
+                (req, res) -> {
+                    captured[0] = (ContentCachingRequestWrapper) req;
+                    req.getInputStream().readAllBytes();
+                });
+
+        // Then
+        assertThat(captured[0].getContentAsByteArray()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("로그용 본문에서 비밀번호/토큰/카드 필드 값을 가림 (잘린 JSON, form 포함)")
+    void shouldMaskSensitiveFieldsInCapturedBody() {
+        // Given
+        RequestResponseLoggingFilter filter = new RequestResponseLoggingFilter(properties, null);
+
+        // When & Then
+        assertThat(
+                        filter.maskSensitiveFields(
+                                "{\"phoneNumber\":\"01012345678\",\"password\":\"p\\\"w\","
+                                        + "\"cardNo\":1234,\"refreshToken\": \"eyJhbGci"))
+                .isEqualTo(
+                        "{\"phoneNumber\":\"01012345678\",\"password\":\"****\","
+                                + "\"cardNo\":\"****\",\"refreshToken\": \"****\"");
+        assertThat(filter.maskSensitiveFields("id=kim&newPassword=secret&size=1"))
+                .isEqualTo("id=kim&newPassword=****&size=1");
+    }
+}
@@ -1,12 +1,14 @@
 package com.ryuqq.setof.adapter.out.persistence.bank.entity;
 
 import com.ryuqq.setof.adapter.out.persistence.common.entity.BaseAuditEntity;
+import com.ryuqq.setof.adapter.out.persistence.common.entity.PooledIdSequence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.Instant;
 
 /**
@@ -36,9 +38,16 @@ import java.time.Instant;
 @Table(name = "banks")
 public class BankJpaEntity extends BaseAuditEntity {
 
-    /** 기본 키 (Auto Increment) */
+    /** 기본 키 (id_sequences 기반 Pooled 채번) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "banks")
+    @TableGenerator(
+            name = "banks",
+            table = PooledIdSequence.TABLE,
+            pkColumnName = PooledIdSequence.NAME_COLUMN,
+            valueColumnName = PooledIdSequence.VALUE_COLUMN,
+            pkColumnValue = "banks",
+            allocationSize = PooledIdSequence.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -1,5 +1,6 @@
 package com.ryuqq.setof.adapter.out.persistence.board.entity;
 
+import com.ryuqq.setof.adapter.out.persistence.common.entity.PooledIdSequence;
 import com.ryuqq.setof.adapter.out.persistence.common.entity.SoftDeletableEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -7,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.Instant;
 
 /**
@@ -23,9 +25,16 @@ import java.time.Instant;
 @Table(name = "cms_boards")
 public class BoardJpaEntity extends SoftDeletableEntity {
 
-    /** 기본 키 (Auto Increment) */
+    /** 기본 키 (id_sequences 기반 Pooled 채번) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "cms_boards")
+    @TableGenerator(
+            name = "cms_boards",
+            table = PooledIdSequence.TABLE,
+            pkColumnName = PooledIdSequence.NAME_COLUMN,
+            valueColumnName = PooledIdSequence.VALUE_COLUMN,
+            pkColumnValue = "cms_boards",
+            allocationSize = PooledIdSequence.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -20,6 +20,7 @@ import org.springframework.stereotype.Component;
  *
  * <ul>
  *   <li>ID로 단건 조회 (findById)
+ *   <li>ID 목록으로 일괄 조회 (findByIds)
  *   <li>브랜드 코드로 조회 (findByCode)
  *   <li>검색 조건으로 목록 조회 (findByCondition)
  *   <li>활성 브랜드 목록 조회 (findAllActive)
@@ -60,6 +61,23 @@ public class BrandQueryAdapter implements BrandQueryPort {
         return queryDslRepository.findById(id.value()).map(brandJpaEntityMapper::toDomain);
     }
 
+    /**
+     * ID 목록으로 Brand 일괄 조회
+     *
+     * @param ids Brand ID 목록 (Value Object)
+     * @return Brand Domain 목록
+     */
+    @Override
+    public List<Brand> findByIds(List<BrandId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Long> idValues = ids.stream().map(BrandId::value).toList();
+        return queryDslRepository.findByIds(idValues).stream()
+                .map(brandJpaEntityMapper::toDomain)
+                .toList();
+    }
+
     /**
      * 브랜드 코드로 Brand 조회
      *
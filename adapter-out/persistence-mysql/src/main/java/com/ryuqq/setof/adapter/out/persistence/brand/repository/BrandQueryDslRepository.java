@@ -18,6 +18,7 @@ import org.springframework.stereotype.Repository;
  *
  * <ul>
  *   <li>findById(Long id): ID로 단건 조회
+ *   <li>findByIds(List ids): ID 목록으로 일괄 조회
  *   <li>findByCode(String code): 브랜드 코드로 조회
  *   <li>findByCondition(condition): 검색 조건으로 목록 조회
  *   <li>findAllActive(): 활성 브랜드 목록 조회
@@ -58,6 +59,16 @@ public class BrandQueryDslRepository {
                 queryFactory.selectFrom(qBrand).where(qBrand.id.eq(id)).fetchOne());
     }
 
+    /**
+     * ID 목록으로 Brand 일괄 조회
+     *
+     * @param ids Brand ID 목록
+     * @return BrandJpaEntity 목록
+     */
+    public List<BrandJpaEntity> findByIds(List<Long> ids) {
+        return queryFactory.selectFrom(qBrand).where(qBrand.id.in(ids)).fetch();
+    }
+
     /**
      * 브랜드 코드로 Brand 단건 조회
      *
@@ -1,18 +1,22 @@
 package com.ryuqq.setof.adapter.out.persistence.cart.adapter;
 
-import com.ryuqq.setof.adapter.out.persistence.cart.entity.CartItemJpaEntity;
 import com.ryuqq.setof.adapter.out.persistence.cart.entity.CartJpaEntity;
 import com.ryuqq.setof.adapter.out.persistence.cart.mapper.CartJpaEntityMapper;
 import com.ryuqq.setof.adapter.out.persistence.cart.repository.CartItemJpaRepository;
 import com.ryuqq.setof.adapter.out.persistence.cart.repository.CartItemQueryDslRepository;
 import com.ryuqq.setof.adapter.out.persistence.cart.repository.CartJpaRepository;
+import com.ryuqq.setof.adapter.out.persistence.cart.repository.CartQueryDslRepository;
 import com.ryuqq.setof.application.cart.port.out.command.CartPersistencePort;
 import com.ryuqq.setof.domain.cart.aggregate.Cart;
+import com.ryuqq.setof.domain.cart.vo.CartChanges;
 import com.ryuqq.setof.domain.cart.vo.CartId;
 import com.ryuqq.setof.domain.cart.vo.CartItem;
-import java.util.HashSet;
+import com.ryuqq.setof.domain.cart.vo.CartItemId;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
 /**
@@ -23,10 +27,21 @@ import org.springframework.stereotype.Component;
  * <p><strong>전략:</strong>
  *
  * <ul>
- *   <li>Cart는 upsert 방식으로 저장
- *   <li>CartItem은 delete-insert 방식으로 동기화
+ *   <li>신규 Cart: Cart와 모든 아이템을 INSERT
+ *   <li>기존 Cart: {@link Cart#changes()} 변경분만 반영 (기존 아이템 재조회/전체 재저장 없음)
  * </ul>
  *
+ * <p><strong>변경분 반영 순서:</strong>
+ *
+ * <ol>
+ *   <li>Cart 수정 시각 UPDATE
+ *   <li>삭제 아이템: {@code DELETE ... WHERE id IN (...)} 1회
+ *   <li>변경 아이템: 최종 상태(수량/선택/삭제 시각)가 같은 아이템끼리 묶어 상태별 UPDATE 1회
+ *   <li>추가 아이템: saveAll (Pooled 채번으로 JDBC Batch INSERT)
+ * </ol>
+ *
+ * <p>변경분이 없으면 아무 쿼리도 실행하지 않습니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -34,16 +49,19 @@ import org.springframework.stereotype.Component;
 public class CartPersistenceAdapter implements CartPersistencePort {
 
     private final CartJpaRepository cartJpaRepository;
+    private final CartQueryDslRepository cartQueryDslRepository;
     private final CartItemJpaRepository cartItemJpaRepository;
     private final CartItemQueryDslRepository cartItemQueryDslRepository;
     private final CartJpaEntityMapper mapper;
 
     public CartPersistenceAdapter(
             CartJpaRepository cartJpaRepository,
+            CartQueryDslRepository cartQueryDslRepository,
             CartItemJpaRepository cartItemJpaRepository,
             CartItemQueryDslRepository cartItemQueryDslRepository,
             CartJpaEntityMapper mapper) {
         this.cartJpaRepository = cartJpaRepository;
+        this.cartQueryDslRepository = cartQueryDslRepository;
         this.cartItemJpaRepository = cartItemJpaRepository;
         this.cartItemQueryDslRepository = cartItemQueryDslRepository;
         this.mapper = mapper;
@@ -51,48 +69,69 @@ public class CartPersistenceAdapter implements CartPersistencePort {
 
     @Override
     public CartId persist(Cart cart) {
-        // Cart Entity 저장 (upsert)
-        CartJpaEntity cartEntity = mapper.toEntity(cart);
-        CartJpaEntity savedCart = cartJpaRepository.save(cartEntity);
-        Long cartId = savedCart.getId();
+        if (cart.isNew()) {
+            return insertCart(cart);
+        }
 
-        // 기존 아이템과 새 아이템 비교하여 동기화
-        // 소프트 딜리트된 아이템도 items()에 포함되어 있으므로 정상 동기화됨
-        syncCartItems(cartId, cart.items());
+        CartChanges changes = cart.changes();
+        if (changes.isEmpty()) {
+            return cart.id();
+        }
+
+        Long cartId = cart.id().value();
+        cartQueryDslRepository.updateUpdatedAt(cartId, cart.updatedAt());
+        deleteRemovedItems(cartId, changes.removedItemIds());
+        updateModifiedItems(cartId, changes.modifiedItems());
+        insertItems(cartId, changes.addedItems());
+
+        return cart.id();
+    }
 
+    private CartId insertCart(Cart cart) {
+        CartJpaEntity savedCart = cartJpaRepository.save(mapper.toEntity(cart));
+        Long cartId = savedCart.getId();
+        insertItems(cartId, cart.items());
         return CartId.of(cartId);
     }
 
+    private void deleteRemovedItems(Long cartId, List<CartItemId> removedItemIds) {
+        if (removedItemIds.isEmpty()) {
+            return;
+        }
+        List<Long> itemIds = removedItemIds.stream().map(CartItemId::value).toList();
+        cartItemQueryDslRepository.deleteByCartIdAndIdIn(cartId, itemIds);
+    }
+
     /**
-     * 장바구니 아이템 동기화
+     * 변경 아이템 반영
      *
-     * <p>Domain의 items와 DB의 items를 비교하여: - 새로운 아이템: INSERT - 기존 아이템: UPDATE - 삭제된 아이템: DELETE
+     * <p>전체 선택/해제, 일괄 소프트 딜리트처럼 여러 아이템이 같은 상태로 바뀌는 경우 UPDATE 1회로 처리됩니다.
      */
-    private void syncCartItems(Long cartId, List<CartItem> domainItems) {
-        // 현재 DB의 아이템 조회 (QueryDslRepository 사용)
-        List<CartItemJpaEntity> existingEntities = cartItemQueryDslRepository.findByCartId(cartId);
-
-        // 삭제할 아이템 ID 수집
-        Set<Long> domainItemIds = new HashSet<>();
-        for (CartItem item : domainItems) {
-            if (item.id() != null) {
-                domainItemIds.add(item.id().value());
-            }
+    private void updateModifiedItems(Long cartId, List<CartItem> modifiedItems) {
+        Map<ItemState, List<Long>> itemIdsByState = new LinkedHashMap<>();
+        for (CartItem item : modifiedItems) {
+            ItemState state = new ItemState(item.quantity(), item.selected(), item.deletedAt());
+            itemIdsByState.computeIfAbsent(state, key -> new ArrayList<>()).add(item.id().value());
         }
 
-        List<Long> itemsToDelete =
-                existingEntities.stream()
-                        .map(CartItemJpaEntity::getId)
-                        .filter(id -> !domainItemIds.contains(id))
-                        .toList();
-
-        // 삭제 (QueryDslRepository 사용)
-        if (!itemsToDelete.isEmpty()) {
-            cartItemQueryDslRepository.deleteByCartIdAndIdIn(cartId, itemsToDelete);
+        for (Map.Entry<ItemState, List<Long>> entry : itemIdsByState.entrySet()) {
+            ItemState state = entry.getKey();
+            cartItemQueryDslRepository.updateStateByCartIdAndIdIn(
+                    cartId,
+                    entry.getValue(),
+                    state.quantity(),
+                    state.selected(),
+                    state.deletedAt());
         }
+    }
 
-        // 신규/업데이트 아이템 저장
-        List<CartItemJpaEntity> itemEntities = mapper.toItemEntities(cartId, domainItems);
-        cartItemJpaRepository.saveAll(itemEntities);
+    private void insertItems(Long cartId, List<CartItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        cartItemJpaRepository.saveAll(mapper.toItemEntities(cartId, items));
     }
+
+    /** 아이템의 변경 가능한 상태 (UPDATE 그룹핑 키) */
+    private record ItemState(int quantity, boolean selected, Instant deletedAt) {}
 }
@@ -1,11 +1,13 @@
 package com.ryuqq.setof.adapter.out.persistence.cart.entity;
 
+import com.ryuqq.setof.adapter.out.persistence.common.entity.PooledIdSequence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.math.BigDecimal;
 import java.time.Instant;
 
@@ -37,7 +39,14 @@ import java.time.Instant;
 public class CartItemJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "cart_items")
+    @TableGenerator(
+            name = "cart_items",
+            table = PooledIdSequence.TABLE,
+            pkColumnName = PooledIdSequence.NAME_COLUMN,
+            valueColumnName = PooledIdSequence.VALUE_COLUMN,
+            pkColumnValue = "cart_items",
+            allocationSize = PooledIdSequence.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
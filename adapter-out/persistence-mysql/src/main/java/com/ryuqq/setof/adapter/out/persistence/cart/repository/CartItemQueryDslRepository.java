@@ -3,13 +3,15 @@ package com.ryuqq.setof.adapter.out.persistence.cart.repository;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ryuqq.setof.adapter.out.persistence.cart.entity.CartItemJpaEntity;
 import com.ryuqq.setof.adapter.out.persistence.cart.entity.QCartItemJpaEntity;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
 import java.util.List;
 import org.springframework.stereotype.Repository;
 
 /**
  * CartItemQueryDslRepository - CartItem QueryDSL Repository
  *
- * <p>QueryDSL 기반 조회 및 벌크 삭제 쿼리를 처리하는 전용 Repository입니다.
+ * <p>QueryDSL 기반 조회 및 벌크 수정/삭제 쿼리를 처리하는 전용 Repository입니다.
  *
  * <p><strong>표준 메서드:</strong>
  *
@@ -18,6 +20,7 @@ import org.springframework.stereotype.Repository;
  *   <li>countByCartId(Long cartId): 장바구니 아이템 개수 조회
  *   <li>deleteByCartId(Long cartId): 장바구니의 모든 아이템 삭제
  *   <li>deleteByCartIdAndIdIn(Long cartId, List itemIds): 특정 아이템들 삭제
+ *   <li>updateStateByCartIdAndIdIn(...): 특정 아이템들의 수량/선택/삭제 상태 일괄 변경
  * </ul>
  *
  * <p><strong>금지 사항:</strong>
@@ -35,10 +38,12 @@ import org.springframework.stereotype.Repository;
 public class CartItemQueryDslRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
     private static final QCartItemJpaEntity qCartItem = QCartItemJpaEntity.cartItemJpaEntity;
 
-    public CartItemQueryDslRepository(JPAQueryFactory queryFactory) {
+    public CartItemQueryDslRepository(JPAQueryFactory queryFactory, EntityManager entityManager) {
         this.queryFactory = queryFactory;
+        this.entityManager = entityManager;
     }
 
     /**
@@ -90,4 +95,34 @@ public class CartItemQueryDslRepository {
                 .where(qCartItem.cartId.eq(cartId), qCartItem.id.in(itemIds))
                 .execute();
     }
+
+    /**
+     * 장바구니 ID와 아이템 ID 목록으로 아이템 상태 일괄 변경
+     *
+     * <p>{@code UPDATE ... WHERE cart_id = ? AND id IN (...)} 단일 문으로 처리합니다. 벌크 UPDATE는 영속성 컨텍스트를
+     * 거치지 않으므로, 같은 트랜잭션에서 이미 로딩된 엔티티가 이전 값을 반환하지 않도록 대상 엔티티를 분리(detach)합니다.
+     *
+     * @param cartId 장바구니 ID
+     * @param itemIds 아이템 ID 목록
+     * @param quantity 변경할 수량
+     * @param selected 변경할 선택 상태
+     * @param deletedAt 변경할 소프트 딜리트 시각 (null이면 활성 상태)
+     * @return 업데이트된 아이템 개수
+     */
+    public long updateStateByCartIdAndIdIn(
+            Long cartId, List<Long> itemIds, int quantity, boolean selected, Instant deletedAt) {
+        long updated =
+                queryFactory
+                        .update(qCartItem)
+                        .set(qCartItem.quantity, quantity)
+                        .set(qCartItem.selected, selected)
+                        .set(qCartItem.deletedAt, deletedAt)
+                        .where(qCartItem.cartId.eq(cartId), qCartItem.id.in(itemIds))
+                        .execute();
+
+        for (Long itemId : itemIds) {
+            entityManager.detach(entityManager.getReference(CartItemJpaEntity.class, itemId));
+        }
+        return updated;
+    }
 }
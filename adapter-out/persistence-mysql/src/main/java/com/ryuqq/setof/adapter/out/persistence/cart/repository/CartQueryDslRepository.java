@@ -3,18 +3,21 @@ package com.ryuqq.setof.adapter.out.persistence.cart.repository;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ryuqq.setof.adapter.out.persistence.cart.entity.CartJpaEntity;
 import com.ryuqq.setof.adapter.out.persistence.cart.entity.QCartJpaEntity;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
 
 /**
  * CartQueryDslRepository - Cart QueryDSL Repository
  *
- * <p>QueryDSL 기반 조회 쿼리를 처리하는 전용 Repository입니다.
+ * <p>QueryDSL 기반 조회 및 벌크 수정 쿼리를 처리하는 전용 Repository입니다.
  *
  * <p><strong>표준 메서드:</strong>
  *
  * <ul>
  *   <li>findByMemberId(String memberId): 회원 ID로 장바구니 조회
+ *   <li>updateUpdatedAt(Long cartId, Instant updatedAt): 장바구니 수정 시각 변경
  * </ul>
  *
  * <p><strong>금지 사항:</strong>
@@ -32,10 +35,12 @@ import org.springframework.stereotype.Repository;
 public class CartQueryDslRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
     private static final QCartJpaEntity qCart = QCartJpaEntity.cartJpaEntity;
 
-    public CartQueryDslRepository(JPAQueryFactory queryFactory) {
+    public CartQueryDslRepository(JPAQueryFactory queryFactory, EntityManager entityManager) {
         this.queryFactory = queryFactory;
+        this.entityManager = entityManager;
     }
 
     /**
@@ -64,4 +69,25 @@ public class CartQueryDslRepository {
                         .fetchFirst();
         return result != null;
     }
+
+    /**
+     * 장바구니 수정 시각 변경
+     *
+     * <p>Cart 행을 조회(merge)하지 않고 단일 UPDATE로 처리합니다. 같은 트랜잭션에서 로딩된 엔티티는 분리(detach)합니다.
+     *
+     * @param cartId 장바구니 ID
+     * @param updatedAt 수정 시각
+     * @return 업데이트된 행 수
+     */
+    public long updateUpdatedAt(Long cartId, Instant updatedAt) {
+        long updated =
+                queryFactory
+                        .update(qCart)
+                        .set(qCart.updatedAt, updatedAt)
+                        .where(qCart.id.eq(cartId))
+                        .execute();
+
+        entityManager.detach(entityManager.getReference(CartJpaEntity.class, cartId));
+        return updated;
+    }
 }
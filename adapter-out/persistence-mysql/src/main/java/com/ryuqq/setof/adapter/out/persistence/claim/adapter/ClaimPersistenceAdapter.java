@@ -12,7 +12,10 @@ import com.ryuqq.setof.domain.claim.aggregate.Claim;
 import com.ryuqq.setof.domain.claim.vo.ClaimId;
 import com.ryuqq.setof.domain.claim.vo.ClaimNumber;
 import com.ryuqq.setof.domain.claim.vo.ClaimStatus;
+import com.ryuqq.setof.domain.common.vo.KeysetCursor;
 import com.ryuqq.setof.domain.order.vo.OrderId;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
@@ -110,6 +113,21 @@ public class ClaimPersistenceAdapter implements ClaimPersistencePort, ClaimQuery
 
     @Override
     public List<Claim> findByAdminQuery(GetAdminClaimsQuery query) {
+        Optional<KeysetCursor> keysetCursor = KeysetCursor.decode(query.lastClaimId());
+        String legacyClaimId = keysetCursor.isPresent() ? null : query.lastClaimId();
+        Instant lastCreatedAt = null;
+        Long lastId = null;
+        if (keysetCursor.isPresent()) {
+            try {
+                Instant parsedCreatedAt = Instant.parse(keysetCursor.get().value(0));
+                Long parsedId = Long.valueOf(keysetCursor.get().lastValue());
+                lastCreatedAt = parsedCreatedAt;
+                lastId = parsedId;
+            } catch (DateTimeParseException | NumberFormatException e) {
+                // 손상된 커서: 첫 페이지부터 조회
+            }
+        }
+
         AdminClaimSearchCondition condition =
                 AdminClaimSearchCondition.of(
                         query.sellerId(),
@@ -119,7 +137,9 @@ public class ClaimPersistenceAdapter implements ClaimPersistencePort, ClaimQuery
                         query.searchKeyword(),
                         query.startDate(),
                         query.endDate(),
-                        query.lastClaimId(),
+                        legacyClaimId,
+                        lastCreatedAt,
+                        lastId,
                         query.pageSize());
 
         return claimQueryDslRepository.findByAdminCondition(condition).stream()
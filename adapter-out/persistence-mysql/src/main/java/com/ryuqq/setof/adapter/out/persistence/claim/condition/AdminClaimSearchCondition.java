@@ -15,7 +15,9 @@ import java.util.List;
  * @param searchKeyword 검색어 (선택)
  * @param startDate 시작 일시 (선택)
  * @param endDate 종료 일시 (선택)
- * @param lastClaimId 마지막 클레임 ID - 커서 (선택)
+ * @param lastClaimId 마지막 클레임 ID - 레거시 커서 (선택)
+ * @param lastCreatedAt 마지막 클레임 생성 일시 - Keyset 커서 (선택)
+ * @param lastId 마지막 클레임 PK - Keyset 커서 (선택)
  * @param limit 조회 개수
  * @author development-team
  * @since 2.0.0
@@ -29,6 +31,8 @@ public record AdminClaimSearchCondition(
         Instant startDate,
         Instant endDate,
         String lastClaimId,
+        Instant lastCreatedAt,
+        Long lastId,
         int limit) {
 
     public static AdminClaimSearchCondition of(
@@ -40,6 +44,8 @@ public record AdminClaimSearchCondition(
             Instant startDate,
             Instant endDate,
             String lastClaimId,
+            Instant lastCreatedAt,
+            Long lastId,
             int limit) {
         return new AdminClaimSearchCondition(
                 sellerId,
@@ -50,6 +56,8 @@ public record AdminClaimSearchCondition(
                 startDate,
                 endDate,
                 lastClaimId,
+                lastCreatedAt,
+                lastId,
                 limit);
     }
 
@@ -84,4 +92,8 @@ public record AdminClaimSearchCondition(
     public boolean hasCursor() {
         return lastClaimId != null && !lastClaimId.isBlank();
     }
+
+    public boolean hasKeysetCursor() {
+        return lastCreatedAt != null && lastId != null;
+    }
 }
@@ -5,6 +5,7 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ryuqq.setof.adapter.out.persistence.claim.condition.AdminClaimSearchCondition;
 import com.ryuqq.setof.adapter.out.persistence.claim.entity.ClaimJpaEntity;
 import com.ryuqq.setof.adapter.out.persistence.claim.entity.QClaimJpaEntity;
+import com.ryuqq.setof.adapter.out.persistence.common.querydsl.KeysetPagination;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
@@ -58,6 +59,8 @@ public class ClaimQueryDslRepository {
      *
      * <p>Slice 방식으로 limit + 1 조회하여 hasNext 판단
      *
+     * <p>정렬(createdAt, id)과 동일한 복합 Keyset 조건으로 다음 페이지를 조회합니다.
+     *
      * @param condition Admin 검색 조건
      * @return ClaimJpaEntity 목록
      */
@@ -96,7 +99,7 @@ public class ClaimQueryDslRepository {
         return queryFactory
                 .selectFrom(qClaim)
                 .where(qClaim.orderId.eq(orderId))
-                .orderBy(qClaim.createdAt.desc())
+                .orderBy(qClaim.createdAt.desc(), qClaim.id.desc())
                 .fetch();
     }
 
@@ -124,7 +127,7 @@ public class ClaimQueryDslRepository {
         return queryFactory
                 .selectFrom(qClaim)
                 .where(qClaim.status.eq(status))
-                .orderBy(qClaim.createdAt.desc())
+                .orderBy(qClaim.createdAt.desc(), qClaim.id.desc())
                 .fetch();
     }
 
@@ -177,7 +180,15 @@ public class ClaimQueryDslRepository {
             builder.and(qClaim.createdAt.loe(condition.endDate()));
         }
 
-        if (condition.hasCursor()) {
+        if (condition.hasKeysetCursor()) {
+            builder.and(
+                    KeysetPagination.after(
+                            qClaim.createdAt,
+                            condition.lastCreatedAt(),
+                            qClaim.id,
+                            condition.lastId(),
+                            false));
+        } else if (condition.hasCursor()) {
             builder.and(qClaim.claimId.lt(condition.lastClaimId()));
         }
 
@@ -0,0 +1,54 @@
+package com.ryuqq.setof.adapter.out.persistence.common.entity;
+
+/**
+ * PooledIdSequence - 테이블 기반 Pooled ID 채번 설정
+ *
+ * <p>Long PK Entity의 ID를 {@code id_sequences} 테이블에서 블록 단위로 미리 할당받아 애플리케이션에서 부여합니다.
+ *
+ * <p><strong>IDENTITY 대신 사용하는 이유:</strong>
+ *
+ * <ul>
+ *   <li>IDENTITY는 INSERT를 실행해야 ID를 알 수 있어 Hibernate가 persist 즉시 단건 INSERT를 실행 (JDBC Batch 비활성화)
+ *   <li>Pooled 채번은 ID를 먼저 부여하므로 flush 시점에 {@code hibernate.jdbc.batch_size} 단위로 INSERT를 묶어 실행
+ *   <li>시퀀스 행 조회/갱신은 {@link #ALLOCATION_SIZE}건당 1회 (별도 트랜잭션)
+ * </ul>
+ *
+ * <p><strong>사용 방법:</strong>
+ *
+ * <pre>{@code
+ * @Id
+ * @GeneratedValue(strategy = GenerationType.TABLE, generator = "cart_items")
+ * @TableGenerator(
+ *         name = "cart_items",
+ *         table = PooledIdSequence.TABLE,
+ *         pkColumnName = PooledIdSequence.NAME_COLUMN,
+ *         valueColumnName = PooledIdSequence.VALUE_COLUMN,
+ *         pkColumnValue = "cart_items",
+ *         allocationSize = PooledIdSequence.ALLOCATION_SIZE)
+ * private Long id;
+ * }</pre>
+ *
+ * <p>generator 이름과 시퀀스 키({@code pkColumnValue})는 테이블명을 사용합니다. 신규 테이블은 Flyway 마이그레이션에서 {@code
+ * id_sequences}에 시퀀스 행을 함께 추가해야 합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class PooledIdSequence {
+
+    /** 시퀀스 테이블명 */
+    public static final String TABLE = "id_sequences";
+
+    /** 시퀀스 키 컬럼 (대상 테이블명) */
+    public static final String NAME_COLUMN = "sequence_name";
+
+    /** 시퀀스 값 컬럼 */
+    public static final String VALUE_COLUMN = "next_val";
+
+    /** 한 번에 할당받는 ID 블록 크기 (hibernate.jdbc.batch_size와 동일) */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private PooledIdSequence() {
+        // Constants class
+    }
+}
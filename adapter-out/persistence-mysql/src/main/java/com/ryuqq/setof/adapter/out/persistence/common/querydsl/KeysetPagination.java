@@ -0,0 +1,103 @@
+package com.ryuqq.setof.adapter.out.persistence.common.querydsl;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+
+/**
+ * Keyset(Seek) 페이징 조건 Expression for QueryDSL
+ *
+ * <p>OFFSET 없이 "마지막으로 본 정렬키 다음"부터 조회하는 WHERE 조건을 생성합니다. OFFSET은 건너뛴 행을 모두 읽고 버리므로 페이지가
+ * 깊어질수록 느려지지만, Keyset 조건은 (정렬키, id) 인덱스를 바로 탐색하므로 페이지 깊이와 무관하게 일정합니다.
+ *
+ * <p><strong>사전 요구사항:</strong>
+ *
+ * <ul>
+ *   <li>ORDER BY는 반드시 (정렬키, id) 순서이며 두 컬럼의 방향이 같아야 합니다
+ *   <li>정렬키 컬럼은 NOT NULL 이어야 합니다
+ *   <li>(정렬키, id) 복합 인덱스가 있어야 Range Scan으로 동작합니다
+ * </ul>
+ *
+ * <p><strong>생성 조건 (내림차순 예시):</strong>
+ *
+ * <pre>{@code
+ * created_at <= :lastCreatedAt AND (created_at < :lastCreatedAt OR id < :lastId)
+ * }</pre>
+ *
+ * <p>첫 항({@code <=})은 OR 조건만으로는 옵티마이저가 Range Scan을 선택하지 못하는 경우를 위해 인덱스 탐색 범위를 명시합니다.
+ *
+ * <p><strong>사용 예시:</strong>
+ *
+ * <pre>{@code
+ * builder.and(KeysetPagination.after(qClaim.createdAt, lastCreatedAt, qClaim.id, lastId, false));
+ * query.orderBy(qClaim.createdAt.desc(), qClaim.id.desc());
+ * }</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class KeysetPagination {
+
+    private KeysetPagination() {
+        // Utility class
+    }
+
+    /**
+     * 단일 키(고유 식별자) Keyset 조건
+     *
+     * @param idPath 식별자 컬럼
+     * @param lastId 마지막으로 조회한 식별자 (null이면 조건 없음)
+     * @param ascending 오름차순 여부
+     * @param <I> 식별자 타입
+     * @return BooleanExpression (lastId가 null이면 null)
+     */
+    public static <I extends Comparable<?>> BooleanExpression after(
+            Expression<I> idPath, I lastId, boolean ascending) {
+        if (lastId == null) {
+            return null;
+        }
+        return compare(idPath, lastId, ascending);
+    }
+
+    /**
+     * 복합 키(정렬키 + 고유 식별자) Keyset 조건
+     *
+     * @param sortPath 정렬키 컬럼
+     * @param lastSortValue 마지막으로 조회한 정렬키 값
+     * @param idPath 식별자 컬럼 (정렬키 동률 시 tie-breaker)
+     * @param lastId 마지막으로 조회한 식별자
+     * @param ascending 오름차순 여부
+     * @param <S> 정렬키 타입
+     * @param <I> 식별자 타입
+     * @return BooleanExpression (lastId가 null이면 null, 정렬키 값이 null이면 식별자 단일 조건)
+     */
+    public static <S extends Comparable<?>, I extends Comparable<?>> BooleanExpression after(
+            Expression<S> sortPath,
+            S lastSortValue,
+            Expression<I> idPath,
+            I lastId,
+            boolean ascending) {
+        if (lastId == null) {
+            return null;
+        }
+        if (lastSortValue == null) {
+            return compare(idPath, lastId, ascending);
+        }
+
+        Ops inclusive = ascending ? Ops.GOE : Ops.LOE;
+        BooleanExpression range =
+                Expressions.booleanOperation(
+                        inclusive, sortPath, Expressions.constant(lastSortValue));
+        BooleanExpression beyondSort = compare(sortPath, lastSortValue, ascending);
+        BooleanExpression beyondId = compare(idPath, lastId, ascending);
+
+        return range.and(beyondSort.or(beyondId));
+    }
+
+    private static <T> BooleanExpression compare(
+            Expression<T> path, T value, boolean ascending) {
+        Ops exclusive = ascending ? Ops.GT : Ops.LT;
+        return Expressions.booleanOperation(exclusive, path, Expressions.constant(value));
+    }
+}
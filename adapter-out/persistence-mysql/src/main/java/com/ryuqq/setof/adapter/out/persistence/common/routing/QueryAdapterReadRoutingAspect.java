@@ -0,0 +1,43 @@
+package com.ryuqq.setof.adapter.out.persistence.common.routing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * QueryAdapterReadRoutingAspect - QueryAdapter 호출을 Replica로 라우팅
+ *
+ * <p>{@code *QueryAdapter}의 public 메서드 호출 구간에 {@link ReadRoutingHint}를 설정합니다. 트랜잭션 밖에서 실행되는 조회는
+ * 이 힌트로 Replica 커넥션을 사용합니다. 트랜잭션 안에서는 트랜잭션의 읽기 전용 여부가 우선합니다.
+ *
+ * <p>{@code *LockQueryAdapter}는 잠금 조회(SELECT ... FOR UPDATE)이므로 제외합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class QueryAdapterReadRoutingAspect {
+
+    /**
+     * QueryAdapter 호출 구간에 조회 힌트 설정
+     *
+     * @param joinPoint QueryAdapter 메서드 호출
+     * @return 메서드 반환값
+     * @throws Throwable 메서드에서 발생한 예외
+     */
+    @Around(
+            "execution(public * com.ryuqq.setof.adapter.out.persistence..*QueryAdapter.*(..))"
+                    + " && !within(com.ryuqq.setof.adapter.out.persistence..*LockQueryAdapter)")
+    public Object routeToReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+        ReadRoutingHint.enter();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReadRoutingHint.exit();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.ryuqq.setof.adapter.out.persistence.common.routing;
+
+/**
+ * ReadRoutingHint - 트랜잭션 밖 조회의 Replica 라우팅 힌트
+ *
+ * <p>트랜잭션 없이 호출되는 QueryAdapter는 읽기 전용 여부를 트랜잭션 속성으로 알 수 없으므로, {@link
+ * QueryAdapterReadRoutingAspect}가 호출 구간 동안 이 힌트를 설정합니다.
+ *
+ * <p>QueryAdapter 안에서 다른 QueryAdapter를 호출해도 바깥 호출이 끝날 때까지 힌트가 유지되도록 중첩 깊이로 관리합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class ReadRoutingHint {
+
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private ReadRoutingHint() {}
+
+    /** 조회 구간 진입 */
+    public static void enter() {
+        DEPTH.get()[0]++;
+    }
+
+    /** 조회 구간 종료 (가장 바깥 구간이 끝나면 ThreadLocal 정리) */
+    public static void exit() {
+        int[] depth = DEPTH.get();
+        if (--depth[0] <= 0) {
+            DEPTH.remove();
+        }
+    }
+
+    /**
+     * 현재 스레드가 조회 구간 안에 있는지 확인
+     *
+     * @return 조회 구간이면 true
+     */
+    public static boolean isActive() {
+        return DEPTH.get()[0] > 0;
+    }
+}
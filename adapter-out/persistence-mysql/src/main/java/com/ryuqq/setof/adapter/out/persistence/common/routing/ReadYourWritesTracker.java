@@ -0,0 +1,88 @@
+package com.ryuqq.setof.adapter.out.persistence.common.routing;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * ReadYourWritesTracker - 쓰기 직후 조회의 Primary 고정 (read-your-writes)
+ *
+ * <p>쓰기 트랜잭션을 커밋한 요청 주체(회원)는 설정한 시간 동안 조회도 Primary에서 수행하여, Replica 복제 지연으로 방금 쓴 데이터가 보이지
+ * 않는 상황을 막습니다.
+ *
+ * <p><strong>요청 주체:</strong> MDC 키(기본 {@code memberId}) 값으로 식별합니다. 인증 필터가 요청마다 MDC에 회원 ID를
+ * 설정하므로 Persistence Layer가 Web Layer에 의존하지 않습니다. 주체가 없는 요청(비회원, 배치)은 고정하지 않습니다.
+ *
+ * <p><strong>범위:</strong> 노드 로컬 메모리에 기록하므로 같은 노드로 들어온 후속 요청에만 적용됩니다. 고정 시간은 Replica 복제 지연보다
+ * 충분히 길게 설정합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReadYourWritesTracker {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final String subjectMdcKey;
+    private final ConcurrentMap<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(
+            @Value("${datasource.routing.read-your-writes-window:3s}") Duration window,
+            @Value("${datasource.routing.subject-mdc-key:memberId}") String subjectMdcKey) {
+        this.windowNanos = window.toNanos();
+        this.subjectMdcKey = subjectMdcKey;
+    }
+
+    /**
+     * 현재 요청 주체 조회
+     *
+     * @return MDC의 요청 주체 (없으면 null)
+     */
+    public String currentSubject() {
+        return MDC.get(subjectMdcKey);
+    }
+
+    /**
+     * 쓰기 커밋 기록
+     *
+     * @param subject 요청 주체 (null이면 무시)
+     */
+    public void markWritten(String subject) {
+        if (subject == null || windowNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (pinnedUntil.size() >= PURGE_THRESHOLD) {
+            pinnedUntil.values().removeIf(until -> now - until >= 0);
+        }
+        pinnedUntil.put(subject, now + windowNanos);
+    }
+
+    /**
+     * Primary 고정 여부 확인
+     *
+     * @param subject 요청 주체
+     * @return 고정 시간 안이면 true
+     */
+    public boolean isPinnedToPrimary(String subject) {
+        if (subject == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(subject);
+        if (until == null) {
+            return false;
+        }
+        if (System.nanoTime() - until < 0) {
+            return true;
+        }
+        pinnedUntil.remove(subject, until);
+        return false;
+    }
+}
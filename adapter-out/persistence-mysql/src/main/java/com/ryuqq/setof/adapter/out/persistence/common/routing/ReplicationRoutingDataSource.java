@@ -0,0 +1,158 @@
+package com.ryuqq.setof.adapter.out.persistence.common.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ReplicationRoutingDataSource - Primary/Replica 읽기/쓰기 라우팅 DataSource
+ *
+ * <p>애플리케이션이 사용하는 기본 DataSource입니다. 실제 커넥션은 첫 SQL 실행 시점에 획득하므로({@link
+ * LazyConnectionDataSourceProxy}), 트랜잭션 시작 후 확정된 읽기 전용 여부로 대상 풀을 고릅니다.
+ *
+ * <p><strong>라우팅 규칙 (위에서부터 적용):</strong>
+ *
+ * <ol>
+ *   <li>쓰기 트랜잭션 → Primary (커밋 후 요청 주체를 read-your-writes 대상으로 기록)
+ *   <li>최근 쓰기를 커밋한 요청 주체의 조회 → Primary
+ *   <li>{@code @Transactional(readOnly = true)} → Replica
+ *   <li>트랜잭션 밖 QueryAdapter 호출 → Replica
+ *   <li>그 외 → Primary
+ * </ol>
+ *
+ * <p><strong>메트릭:</strong> 풀별 커넥션 메트릭은 풀 이름(HikariCP)으로 구분되고, 라우팅 결정은 {@code datasource.routing}
+ * 카운터(target, reason 태그)로 기록합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Primary
+@Component("dataSource")
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicationRoutingDataSource extends LazyConnectionDataSourceProxy {
+
+    public ReplicationRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReadYourWritesTracker readYourWritesTracker,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        super(
+                new RoutingTarget(
+                        primaryDataSource,
+                        replicaDataSource,
+                        readYourWritesTracker,
+                        meterRegistryProvider.getIfAvailable()));
+    }
+
+    private enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private enum RoutingReason {
+        WRITE_TRANSACTION(Route.PRIMARY),
+        READ_YOUR_WRITES(Route.PRIMARY),
+        READ_ONLY_TRANSACTION(Route.REPLICA),
+        QUERY_ADAPTER(Route.REPLICA),
+        DEFAULT(Route.PRIMARY);
+
+        private final Route route;
+
+        RoutingReason(Route route) {
+            this.route = route;
+        }
+    }
+
+    private static final class RoutingTarget extends AbstractRoutingDataSource {
+
+        private final ReadYourWritesTracker readYourWritesTracker;
+        private final Map<RoutingReason, Counter> counters;
+
+        RoutingTarget(
+                DataSource primaryDataSource,
+                DataSource replicaDataSource,
+                ReadYourWritesTracker readYourWritesTracker,
+                MeterRegistry meterRegistry) {
+            this.readYourWritesTracker = readYourWritesTracker;
+            this.counters = registerCounters(meterRegistry);
+            setTargetDataSources(
+                    Map.<Object, Object>of(
+                            Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+            setDefaultTargetDataSource(primaryDataSource);
+            setLenientFallback(false);
+            afterPropertiesSet();
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            RoutingReason reason = decide();
+            Counter counter = counters.get(reason);
+            if (counter != null) {
+                counter.increment();
+            }
+            return reason.route;
+        }
+
+        private RoutingReason decide() {
+            String subject = readYourWritesTracker.currentSubject();
+            boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+            boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+            if (inTransaction && !readOnly) {
+                rememberWriteOnCommit(subject);
+                return RoutingReason.WRITE_TRANSACTION;
+            }
+            if (!inTransaction && !ReadRoutingHint.isActive()) {
+                return RoutingReason.DEFAULT;
+            }
+            if (readYourWritesTracker.isPinnedToPrimary(subject)) {
+                return RoutingReason.READ_YOUR_WRITES;
+            }
+            return inTransaction
+                    ? RoutingReason.READ_ONLY_TRANSACTION
+                    : RoutingReason.QUERY_ADAPTER;
+        }
+
+        private void rememberWriteOnCommit(String subject) {
+            if (subject == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            readYourWritesTracker.markWritten(subject);
+                        }
+                    });
+        }
+
+        private static Map<RoutingReason, Counter> registerCounters(MeterRegistry meterRegistry) {
+            Map<RoutingReason, Counter> counters = new EnumMap<>(RoutingReason.class);
+            if (meterRegistry == null) {
+                return counters;
+            }
+            for (RoutingReason reason : RoutingReason.values()) {
+                counters.put(
+                        reason,
+                        Counter.builder("datasource.routing")
+                                .description("커넥션 라우팅 결정 수")
+                                .tag("target", reason.route.name().toLowerCase(Locale.ROOT))
+                                .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                                .register(meterRegistry));
+            }
+            return counters;
+        }
+    }
+}
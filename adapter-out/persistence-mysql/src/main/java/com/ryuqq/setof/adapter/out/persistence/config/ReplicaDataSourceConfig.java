@@ -0,0 +1,67 @@
+package com.ryuqq.setof.adapter.out.persistence.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * ReplicaDataSourceConfig - Primary/Replica 커넥션 풀 설정
+ *
+ * <p>{@code datasource.replica.enabled=true}일 때만 활성화됩니다. 비활성화 시에는 Spring Boot가 {@code
+ * spring.datasource} 단일 풀을 자동 구성합니다.
+ *
+ * <p>2개의 커넥션 풀을 관리합니다:
+ *
+ * <ul>
+ *   <li>primaryDataSource: 쓰기 + 읽기 (spring.datasource, spring.datasource.hikari)
+ *   <li>replicaDataSource: 읽기 전용 (datasource.replica, datasource.replica.hikari)
+ * </ul>
+ *
+ * <p>애플리케이션이 사용하는 기본 DataSource는 두 풀을 감싸는 {@code ReplicationRoutingDataSource}입니다. 풀별 메트릭을
+ * 구분하도록 두 풀의 {@code pool-name}은 서로 다르게 설정합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource() {
+        return primaryDataSourceProperties()
+                .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource =
+                replicaDataSourceProperties()
+                        .initializeDataSourceBuilder()
+                        .type(HikariDataSource.class)
+                        .build();
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
@@ -78,6 +78,22 @@ public class DiscountPolicyQueryAdapter implements DiscountPolicyQueryPort {
                 .toList();
     }
 
+    /** 여러 셀러의 현재 유효한 할인 정책 일괄 조회 */
+    @Override
+    public List<DiscountPolicy> findValidPoliciesBySellerIds(List<Long> sellerIds) {
+        return queryDslRepository.findValidPoliciesBySellerIds(sellerIds).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    /** 여러 셀러의 종료되지 않은 할인 정책 일괄 조회 */
+    @Override
+    public List<DiscountPolicy> findUnexpiredPoliciesBySellerIds(List<Long> sellerIds) {
+        return queryDslRepository.findUnexpiredPoliciesBySellerIds(sellerIds).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     /** 셀러의 정책 개수 조회 */
     @Override
     public long countBySellerId(Long sellerId, boolean includeDeleted) {
@@ -0,0 +1,101 @@
+package com.ryuqq.setof.adapter.out.persistence.discount.adapter;
+
+import com.ryuqq.setof.adapter.out.persistence.discount.entity.ProductEffectivePriceJpaEntity;
+import com.ryuqq.setof.adapter.out.persistence.discount.mapper.ProductEffectivePriceJpaEntityMapper;
+import com.ryuqq.setof.adapter.out.persistence.discount.repository.ProductEffectivePriceJpaRepository;
+import com.ryuqq.setof.adapter.out.persistence.discount.repository.ProductEffectivePriceQueryDslRepository;
+import com.ryuqq.setof.application.discount.port.out.command.ProductEffectivePricePersistencePort;
+import com.ryuqq.setof.domain.discount.aggregate.ProductEffectivePrice;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * ProductEffectivePricePersistenceAdapter - 상품 최종 판매가 인덱스 Command Adapter
+ *
+ * <p>CQRS의 Command(쓰기) 담당으로, 최종 판매가 인덱스 저장을 처리합니다.
+ *
+ * <p><strong>책임:</strong>
+ *
+ * <ul>
+ *   <li>최종 판매가 일괄 저장 (persistAll)
+ *   <li>기존 레코드는 ID/생성 일시를 유지하여 업데이트, 없으면 신규 생성
+ *   <li>삭제된 상품그룹의 레코드 삭제 (deleteByProductGroupIds)
+ * </ul>
+ *
+ * <p><strong>금지 사항:</strong>
+ *
+ * <ul>
+ *   <li>비즈니스 로직 금지
+ *   <li>조회 로직 금지 (QueryAdapter로 분리)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductEffectivePricePersistenceAdapter
+        implements ProductEffectivePricePersistencePort {
+
+    private final ProductEffectivePriceJpaRepository jpaRepository;
+    private final ProductEffectivePriceQueryDslRepository queryDslRepository;
+    private final ProductEffectivePriceJpaEntityMapper mapper;
+
+    public ProductEffectivePricePersistenceAdapter(
+            ProductEffectivePriceJpaRepository jpaRepository,
+            ProductEffectivePriceQueryDslRepository queryDslRepository,
+            ProductEffectivePriceJpaEntityMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.queryDslRepository = queryDslRepository;
+        this.mapper = mapper;
+    }
+
+    /**
+     * 최종 판매가 일괄 저장 (생성/수정)
+     *
+     * <p>기존 레코드를 한 번의 IN 조회로 가져와 ID를 유지한 채 업데이트하고, 없으면 신규 생성합니다.
+     *
+     * @param effectivePrices 최종 판매가 목록
+     */
+    @Override
+    public void persistAll(List<ProductEffectivePrice> effectivePrices) {
+        List<Long> productGroupIds =
+                effectivePrices.stream().map(ProductEffectivePrice::getProductGroupId).toList();
+        Map<Long, ProductEffectivePriceJpaEntity> existingByProductGroupId =
+                queryDslRepository.findByProductGroupIds(productGroupIds).stream()
+                        .collect(
+                                Collectors.toMap(
+                                        ProductEffectivePriceJpaEntity::getProductGroupId,
+                                        Function.identity()));
+
+        List<ProductEffectivePriceJpaEntity> entities =
+                effectivePrices.stream()
+                        .map(
+                                price -> {
+                                    ProductEffectivePriceJpaEntity existing =
+                                            existingByProductGroupId.get(
+                                                    price.getProductGroupId());
+                                    return existing == null
+                                            ? mapper.toEntity(price, null, null)
+                                            : mapper.toEntity(
+                                                    price,
+                                                    existing.getId(),
+                                                    existing.getCreatedAt());
+                                })
+                        .toList();
+
+        jpaRepository.saveAll(entities);
+    }
+
+    /**
+     * 상품 그룹 ID 목록의 최종 판매가 삭제
+     *
+     * @param productGroupIds 상품 그룹 ID 목록
+     */
+    @Override
+    public void deleteByProductGroupIds(List<Long> productGroupIds) {
+        jpaRepository.deleteAll(queryDslRepository.findByProductGroupIds(productGroupIds));
+    }
+}
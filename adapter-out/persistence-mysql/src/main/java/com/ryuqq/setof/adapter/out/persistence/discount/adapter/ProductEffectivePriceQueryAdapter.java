@@ -0,0 +1,52 @@
+package com.ryuqq.setof.adapter.out.persistence.discount.adapter;
+
+import com.ryuqq.setof.adapter.out.persistence.discount.mapper.ProductEffectivePriceJpaEntityMapper;
+import com.ryuqq.setof.adapter.out.persistence.discount.repository.ProductEffectivePriceQueryDslRepository;
+import com.ryuqq.setof.application.discount.port.out.query.ProductEffectivePriceQueryPort;
+import com.ryuqq.setof.domain.discount.aggregate.ProductEffectivePrice;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * ProductEffectivePriceQueryAdapter - 상품 최종 판매가 인덱스 Query Adapter
+ *
+ * <p>CQRS의 Query(읽기) 담당으로, 최종 판매가 인덱스 조회를 처리합니다.
+ *
+ * <p><strong>금지 사항:</strong>
+ *
+ * <ul>
+ *   <li>비즈니스 로직 금지
+ *   <li>저장/수정 금지 (PersistenceAdapter로 분리)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductEffectivePriceQueryAdapter implements ProductEffectivePriceQueryPort {
+
+    private final ProductEffectivePriceQueryDslRepository queryDslRepository;
+    private final ProductEffectivePriceJpaEntityMapper mapper;
+
+    public ProductEffectivePriceQueryAdapter(
+            ProductEffectivePriceQueryDslRepository queryDslRepository,
+            ProductEffectivePriceJpaEntityMapper mapper) {
+        this.queryDslRepository = queryDslRepository;
+        this.mapper = mapper;
+    }
+
+    /** 상품 그룹 ID 목록으로 최종 판매가 일괄 조회 */
+    @Override
+    public List<ProductEffectivePrice> findByProductGroupIds(List<Long> productGroupIds) {
+        return queryDslRepository.findByProductGroupIds(productGroupIds).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    /** 유효 시한이 지난 상품 그룹 ID 조회 */
+    @Override
+    public List<Long> findProductGroupIdsExpiredAt(Instant now, int limit) {
+        return queryDslRepository.findProductGroupIdsExpiredAt(now, limit);
+    }
+}
@@ -0,0 +1,186 @@
+package com.ryuqq.setof.adapter.out.persistence.discount.entity;
+
+import com.ryuqq.setof.adapter.out.persistence.common.entity.BaseAuditEntity;
+import com.ryuqq.setof.adapter.out.persistence.common.entity.PooledIdSequence;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import java.time.Instant;
+
+/**
+ * ProductEffectivePriceJpaEntity - 상품 최종 판매가 인덱스 JPA Entity
+ *
+ * <p>Persistence Layer의 JPA Entity로서 product_effective_prices 테이블과 매핑됩니다.
+ *
+ * <p><strong>인덱스 규칙:</strong>
+ *
+ * <ul>
+ *   <li>상품 그룹당 1개의 레코드
+ *   <li>validUntil 이후에는 재계산 대상 (null이면 무기한)
+ * </ul>
+ *
+ * <p><strong>Long FK 전략:</strong>
+ *
+ * <ul>
+ *   <li>productGroupId: 상품 그룹 FK (Long)
+ *   <li>sellerId: 셀러 FK (Long)
+ *   <li>JPA 관계 어노테이션 금지
+ * </ul>
+ *
+ * <p><strong>Lombok 금지:</strong>
+ *
+ * <ul>
+ *   <li>Plain Java getter 사용
+ *   <li>Setter 제공 금지
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "product_effective_prices")
+public class ProductEffectivePriceJpaEntity extends BaseAuditEntity {
+
+    /** 기본 키 (id_sequences 기반 Pooled 채번) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "product_effective_prices")
+    @TableGenerator(
+            name = "product_effective_prices",
+            table = PooledIdSequence.TABLE,
+            pkColumnName = PooledIdSequence.NAME_COLUMN,
+            valueColumnName = PooledIdSequence.VALUE_COLUMN,
+            pkColumnValue = "product_effective_prices",
+            allocationSize = PooledIdSequence.ALLOCATION_SIZE)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    /** 상품 그룹 ID (Long FK, Unique) */
+    @Column(name = "product_group_id", nullable = false, unique = true)
+    private Long productGroupId;
+
+    /** 셀러 ID (Long FK) */
+    @Column(name = "seller_id", nullable = false)
+    private Long sellerId;
+
+    /** 판매가 (할인 전) */
+    @Column(name = "current_price", nullable = false)
+    private long currentPrice;
+
+    /** 최종 판매가 (할인 후) */
+    @Column(name = "sale_price", nullable = false)
+    private long salePrice;
+
+    /** 유효 시한 (null이면 무기한) */
+    @Column(name = "valid_until")
+    private Instant validUntil;
+
+    /** 계산 시각 */
+    @Column(name = "computed_at", nullable = false)
+    private Instant computedAt;
+
+    /**
+     * JPA 기본 생성자 (protected)
+     *
+     * <p>JPA 스펙 요구사항으로 반드시 필요합니다.
+     */
+    protected ProductEffectivePriceJpaEntity() {
+        // JPA 기본 생성자
+    }
+
+    /**
+     * 전체 필드 생성자 (private)
+     *
+     * <p>직접 호출 금지, of() 스태틱 메서드로만 생성하세요.
+     */
+    private ProductEffectivePriceJpaEntity(
+            Long id,
+            Long productGroupId,
+            Long sellerId,
+            long currentPrice,
+            long salePrice,
+            Instant validUntil,
+            Instant computedAt,
+            Instant createdAt,
+            Instant updatedAt) {
+        super(createdAt, updatedAt);
+        this.id = id;
+        this.productGroupId = productGroupId;
+        this.sellerId = sellerId;
+        this.currentPrice = currentPrice;
+        this.salePrice = salePrice;
+        this.validUntil = validUntil;
+        this.computedAt = computedAt;
+    }
+
+    /**
+     * of() 스태틱 팩토리 메서드 (Mapper 전용)
+     *
+     * <p>Entity 생성은 반드시 이 메서드를 통해서만 가능합니다.
+     *
+     * @param id 인덱스 ID (null이면 신규 생성)
+     * @param productGroupId 상품 그룹 ID
+     * @param sellerId 셀러 ID
+     * @param currentPrice 판매가 (할인 전)
+     * @param salePrice 최종 판매가 (할인 후)
+     * @param validUntil 유효 시한 (nullable)
+     * @param computedAt 계산 시각
+     * @param createdAt 생성 일시
+     * @param updatedAt 수정 일시
+     * @return ProductEffectivePriceJpaEntity 인스턴스
+     */
+    public static ProductEffectivePriceJpaEntity of(
+            Long id,
+            Long productGroupId,
+            Long sellerId,
+            long currentPrice,
+            long salePrice,
+            Instant validUntil,
+            Instant computedAt,
+            Instant createdAt,
+            Instant updatedAt) {
+        return new ProductEffectivePriceJpaEntity(
+                id,
+                productGroupId,
+                sellerId,
+                currentPrice,
+                salePrice,
+                validUntil,
+                computedAt,
+                createdAt,
+                updatedAt);
+    }
+
+    // ===== Getters (Setter 제공 금지) =====
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getProductGroupId() {
+        return productGroupId;
+    }
+
+    public Long getSellerId() {
+        return sellerId;
+    }
+
+    public long getCurrentPrice() {
+        return currentPrice;
+    }
+
+    public long getSalePrice() {
+        return salePrice;
+    }
+
+    public Instant getValidUntil() {
+        return validUntil;
+    }
+
+    public Instant getComputedAt() {
+        return computedAt;
+    }
+}
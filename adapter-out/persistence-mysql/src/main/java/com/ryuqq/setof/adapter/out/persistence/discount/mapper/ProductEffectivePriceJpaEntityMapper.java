@@ -0,0 +1,55 @@
+package com.ryuqq.setof.adapter.out.persistence.discount.mapper;
+
+import com.ryuqq.setof.adapter.out.persistence.discount.entity.ProductEffectivePriceJpaEntity;
+import com.ryuqq.setof.domain.discount.aggregate.ProductEffectivePrice;
+import java.time.Instant;
+import org.springframework.stereotype.Component;
+
+/**
+ * ProductEffectivePriceJpaEntityMapper - 최종 판매가 인덱스 Entity <-> Domain 변환 Mapper
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductEffectivePriceJpaEntityMapper {
+
+    /**
+     * Domain -> Entity 변환
+     *
+     * @param domain ProductEffectivePrice 도메인
+     * @param existingId 기존 Entity ID (null이면 신규)
+     * @param createdAt 기존 생성 일시 (null이면 현재 시각)
+     * @return ProductEffectivePriceJpaEntity
+     */
+    public ProductEffectivePriceJpaEntity toEntity(
+            ProductEffectivePrice domain, Long existingId, Instant createdAt) {
+        Instant now = Instant.now();
+        return ProductEffectivePriceJpaEntity.of(
+                existingId,
+                domain.getProductGroupId(),
+                domain.getSellerId(),
+                domain.getCurrentPrice(),
+                domain.getSalePrice(),
+                domain.getValidUntil(),
+                domain.getComputedAt(),
+                createdAt != null ? createdAt : now,
+                now);
+    }
+
+    /**
+     * Entity -> Domain 변환
+     *
+     * @param entity ProductEffectivePriceJpaEntity
+     * @return ProductEffectivePrice 도메인
+     */
+    public ProductEffectivePrice toDomain(ProductEffectivePriceJpaEntity entity) {
+        return ProductEffectivePrice.reconstitute(
+                entity.getProductGroupId(),
+                entity.getSellerId(),
+                entity.getCurrentPrice(),
+                entity.getSalePrice(),
+                entity.getValidUntil(),
+                entity.getComputedAt());
+    }
+}
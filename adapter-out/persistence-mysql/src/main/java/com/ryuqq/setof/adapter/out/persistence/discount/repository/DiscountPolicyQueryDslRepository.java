@@ -106,6 +106,35 @@ public class DiscountPolicyQueryDslRepository {
                 .fetch();
     }
 
+    /** 여러 셀러의 현재 유효한 할인 정책 일괄 조회 */
+    public List<DiscountPolicyJpaEntity> findValidPoliciesBySellerIds(List<Long> sellerIds) {
+        Instant now = Instant.now();
+        return queryFactory
+                .selectFrom(qPolicy)
+                .where(
+                        qPolicy.sellerId.in(sellerIds),
+                        qPolicy.isActive.isTrue(),
+                        qPolicy.deletedAt.isNull(),
+                        qPolicy.validStartAt.loe(now),
+                        qPolicy.validEndAt.goe(now))
+                .orderBy(qPolicy.sellerId.asc(), qPolicy.priority.asc())
+                .fetch();
+    }
+
+    /** 여러 셀러의 종료되지 않은 할인 정책 일괄 조회 (시작 전 정책 포함) */
+    public List<DiscountPolicyJpaEntity> findUnexpiredPoliciesBySellerIds(List<Long> sellerIds) {
+        Instant now = Instant.now();
+        return queryFactory
+                .selectFrom(qPolicy)
+                .where(
+                        qPolicy.sellerId.in(sellerIds),
+                        qPolicy.isActive.isTrue(),
+                        qPolicy.deletedAt.isNull(),
+                        qPolicy.validEndAt.goe(now))
+                .orderBy(qPolicy.sellerId.asc(), qPolicy.priority.asc())
+                .fetch();
+    }
+
     /** 셀러의 정책 개수 조회 */
     public long countBySellerId(Long sellerId, boolean includeDeleted) {
         var query =
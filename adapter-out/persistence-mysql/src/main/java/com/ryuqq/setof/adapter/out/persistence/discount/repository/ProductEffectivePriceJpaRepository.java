@@ -0,0 +1,30 @@
+package com.ryuqq.setof.adapter.out.persistence.discount.repository;
+
+import com.ryuqq.setof.adapter.out.persistence.discount.entity.ProductEffectivePriceJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * ProductEffectivePriceJpaRepository - 상품 최종 판매가 인덱스 JPA Repository
+ *
+ * <p>Spring Data JPA Repository로서 ProductEffectivePrice Entity의 기본 CRUD를 담당합니다.
+ *
+ * <p><strong>제공 메서드 (Command 전용):</strong>
+ *
+ * <ul>
+ *   <li>saveAll(entities): 일괄 저장/수정 (INSERT/UPDATE)
+ * </ul>
+ *
+ * <p><strong>Query 작업:</strong>
+ *
+ * <ul>
+ *   <li>모든 Query 작업은 ProductEffectivePriceQueryDslRepository 사용
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface ProductEffectivePriceJpaRepository
+        extends JpaRepository<ProductEffectivePriceJpaEntity, Long> {
+    // Query Method 추가 금지
+    // @Query 추가 금지
+}
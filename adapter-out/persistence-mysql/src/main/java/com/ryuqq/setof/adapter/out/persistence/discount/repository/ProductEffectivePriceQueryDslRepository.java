@@ -0,0 +1,47 @@
+package com.ryuqq.setof.adapter.out.persistence.discount.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.setof.adapter.out.persistence.discount.entity.ProductEffectivePriceJpaEntity;
+import com.ryuqq.setof.adapter.out.persistence.discount.entity.QProductEffectivePriceJpaEntity;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+/**
+ * ProductEffectivePriceQueryDslRepository - 상품 최종 판매가 인덱스 QueryDSL Repository
+ *
+ * <p>QueryDSL 기반 조회 쿼리를 처리하는 전용 Repository입니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Repository
+public class ProductEffectivePriceQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private static final QProductEffectivePriceJpaEntity qPrice =
+            QProductEffectivePriceJpaEntity.productEffectivePriceJpaEntity;
+
+    public ProductEffectivePriceQueryDslRepository(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    /** 상품 그룹 ID 목록으로 최종 판매가 일괄 조회 */
+    public List<ProductEffectivePriceJpaEntity> findByProductGroupIds(List<Long> productGroupIds) {
+        return queryFactory
+                .selectFrom(qPrice)
+                .where(qPrice.productGroupId.in(productGroupIds))
+                .fetch();
+    }
+
+    /** 유효 시한이 지난 상품 그룹 ID 조회 (유효 시한 오름차순) */
+    public List<Long> findProductGroupIdsExpiredAt(Instant now, int limit) {
+        return queryFactory
+                .select(qPrice.productGroupId)
+                .from(qPrice)
+                .where(qPrice.validUntil.loe(now))
+                .orderBy(qPrice.validUntil.asc())
+                .limit(limit)
+                .fetch();
+    }
+}
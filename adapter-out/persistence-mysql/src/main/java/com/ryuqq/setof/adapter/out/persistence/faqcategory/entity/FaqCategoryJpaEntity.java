@@ -1,11 +1,13 @@
 package com.ryuqq.setof.adapter.out.persistence.faqcategory.entity;
 
+import com.ryuqq.setof.adapter.out.persistence.common.entity.PooledIdSequence;
 import com.ryuqq.setof.adapter.out.persistence.common.entity.SoftDeletableEntity;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.Instant;
 
 /**
@@ -30,7 +32,14 @@ import java.time.Instant;
 public class FaqCategoryJpaEntity extends SoftDeletableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "cms_faq_categories")
+    @TableGenerator(
+            name = "cms_faq_categories",
+            table = PooledIdSequence.TABLE,
+            pkColumnName = PooledIdSequence.NAME_COLUMN,
+            valueColumnName = PooledIdSequence.VALUE_COLUMN,
+            pkColumnValue = "cms_faq_categories",
+            allocationSize = PooledIdSequence.ALLOCATION_SIZE)
     private Long id;
 
     private String code;
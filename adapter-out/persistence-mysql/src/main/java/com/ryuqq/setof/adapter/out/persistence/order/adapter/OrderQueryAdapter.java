@@ -8,6 +8,7 @@ import com.ryuqq.setof.adapter.out.persistence.order.mapper.OrderJpaEntityMapper
 import com.ryuqq.setof.adapter.out.persistence.order.repository.OrderItemQueryDslRepository;
 import com.ryuqq.setof.adapter.out.persistence.order.repository.OrderQueryDslRepository;
 import com.ryuqq.setof.application.order.port.out.query.OrderQueryPort;
+import com.ryuqq.setof.domain.common.vo.KeysetCursor;
 import com.ryuqq.setof.domain.common.vo.SortDirection;
 import com.ryuqq.setof.domain.order.aggregate.Order;
 import com.ryuqq.setof.domain.order.query.criteria.OrderSearchCriteria;
@@ -192,9 +193,24 @@ public class OrderQueryAdapter implements OrderQueryPort {
      * @return Persistence Layer 전용 검색 조건
      */
     private OrderSearchCondition toCondition(OrderSearchCriteria criteria) {
+        String lastSortValue = null;
         UUID lastOrderUuid = null;
         if (criteria.hasCursor()) {
-            lastOrderUuid = UUID.fromString(criteria.lastOrderId());
+            Optional<KeysetCursor> keysetCursor = KeysetCursor.decode(criteria.lastOrderId());
+            try {
+                if (keysetCursor.isPresent()) {
+                    KeysetCursor cursor = keysetCursor.get();
+                    lastOrderUuid = UUID.fromString(cursor.lastValue());
+                    lastSortValue = cursor.size() > 1 ? cursor.value(0) : null;
+                } else {
+                    // 레거시 커서: 주문 ID(UUID) 단독
+                    lastOrderUuid = UUID.fromString(criteria.lastOrderId());
+                }
+            } catch (IllegalArgumentException e) {
+                // 손상된 커서: 첫 페이지부터 조회
+                lastOrderUuid = null;
+                lastSortValue = null;
+            }
         }
 
         SortField sortField = toSortField(criteria.effectiveSortBy());
@@ -209,6 +225,7 @@ public class OrderQueryAdapter implements OrderQueryPort {
                 criteria.endDate(),
                 sortField,
                 sortAscending,
+                lastSortValue,
                 lastOrderUuid,
                 criteria.fetchSize());
     }
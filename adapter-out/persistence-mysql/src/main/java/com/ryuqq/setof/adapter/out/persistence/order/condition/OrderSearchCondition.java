@@ -26,6 +26,7 @@ import java.util.UUID;
  * @param endDate 종료 일시 (nullable)
  * @param sortField 정렬 필드
  * @param sortAscending 오름차순 정렬 여부
+ * @param lastSortValue 마지막 주문의 정렬 필드 값 - Keyset 페이징 (nullable, ID 정렬이면 null)
  * @param lastOrderId 마지막 주문 ID - 커서 기반 페이징 (nullable)
  * @param limit 조회 개수
  * @author development-team
@@ -40,6 +41,7 @@ public record OrderSearchCondition(
         Instant endDate,
         SortField sortField,
         boolean sortAscending,
+        String lastSortValue,
         UUID lastOrderId,
         int limit) {
 
@@ -63,6 +65,7 @@ public record OrderSearchCondition(
      * @param endDate 종료 일시
      * @param sortField 정렬 필드
      * @param sortAscending 오름차순 정렬 여부
+     * @param lastSortValue 마지막 주문의 정렬 필드 값
      * @param lastOrderId 마지막 주문 ID
      * @param limit 조회 개수
      * @return OrderSearchCondition 인스턴스
@@ -76,6 +79,7 @@ public record OrderSearchCondition(
             Instant endDate,
             SortField sortField,
             boolean sortAscending,
+            String lastSortValue,
             UUID lastOrderId,
             int limit) {
         return new OrderSearchCondition(
@@ -87,6 +91,7 @@ public record OrderSearchCondition(
                 endDate,
                 sortField != null ? sortField : SortField.CREATED_AT,
                 sortAscending,
+                lastSortValue,
                 lastOrderId,
                 limit);
     }
@@ -162,4 +167,13 @@ public record OrderSearchCondition(
     public boolean hasCursor() {
         return lastOrderId != null;
     }
+
+    /**
+     * 복합 Keyset 커서 여부 (정렬 필드 값 + 주문 ID)
+     *
+     * @return 정렬 필드 값이 함께 존재하면 true
+     */
+    public boolean hasSortCursor() {
+        return lastSortValue != null && sortField != SortField.ID;
+    }
 }
@@ -2,11 +2,16 @@ package com.ryuqq.setof.adapter.out.persistence.order.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.setof.adapter.out.persistence.common.querydsl.KeysetPagination;
 import com.ryuqq.setof.adapter.out.persistence.order.condition.OrderSearchCondition;
 import com.ryuqq.setof.adapter.out.persistence.order.condition.OrderSearchCondition.SortField;
 import com.ryuqq.setof.adapter.out.persistence.order.entity.OrderJpaEntity;
 import com.ryuqq.setof.adapter.out.persistence.order.entity.QOrderJpaEntity;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -209,18 +214,85 @@ public class OrderQueryDslRepository {
             builder.and(qOrder.orderedAt.loe(condition.endDate()));
         }
 
-        // 커서 기반 페이징
+        // Keyset 페이징 (정렬 필드 + ID)
         if (condition.hasCursor()) {
-            if (condition.sortAscending()) {
-                builder.and(qOrder.id.gt(condition.lastOrderId()));
-            } else {
-                builder.and(qOrder.id.lt(condition.lastOrderId()));
-            }
+            builder.and(buildCursorCondition(condition));
         }
 
         return builder;
     }
 
+    /**
+     * Keyset 커서 조건 생성
+     *
+     * <p>정렬 필드 값이 있으면 (정렬 필드, id) 복합 조건, 없으면 (ID 정렬 또는 레거시 커서) id 단일 조건을 생성합니다. ORDER
+     * BY(정렬 필드, id)와 같은 방향으로 비교해야 페이지 경계에서 누락/중복이 없습니다.
+     *
+     * <p>정렬키 값을 해석할 수 없는 커서는 null(조건 없음)을 반환하여 첫 페이지부터 조회합니다.
+     *
+     * @param condition 검색 조건
+     * @return BooleanExpression
+     */
+    private BooleanExpression buildCursorCondition(OrderSearchCondition condition) {
+        UUID lastOrderId = condition.lastOrderId();
+        boolean ascending = condition.sortAscending();
+
+        if (!condition.hasSortCursor()) {
+            return KeysetPagination.after(qOrder.id, lastOrderId, ascending);
+        }
+
+        try {
+            return buildSortCursorCondition(condition, lastOrderId, ascending);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            // 손상된 정렬키 커서: 커서 조건 없이 첫 페이지부터 조회
+            return null;
+        }
+    }
+
+    /**
+     * 정렬 필드별 (정렬 필드, id) 복합 커서 조건 생성
+     *
+     * @param condition 검색 조건
+     * @param lastOrderId 마지막 주문 ID
+     * @param ascending 오름차순 여부
+     * @return BooleanExpression
+     */
+    private BooleanExpression buildSortCursorCondition(
+            OrderSearchCondition condition, UUID lastOrderId, boolean ascending) {
+        String lastSortValue = condition.lastSortValue();
+        return switch (condition.sortField()) {
+            case ID -> KeysetPagination.after(qOrder.id, lastOrderId, ascending);
+            case ORDER_DATE ->
+                    KeysetPagination.after(
+                            qOrder.orderedAt,
+                            Instant.parse(lastSortValue),
+                            qOrder.id,
+                            lastOrderId,
+                            ascending);
+            case CREATED_AT ->
+                    KeysetPagination.after(
+                            qOrder.createdAt,
+                            Instant.parse(lastSortValue),
+                            qOrder.id,
+                            lastOrderId,
+                            ascending);
+            case UPDATED_AT ->
+                    KeysetPagination.after(
+                            qOrder.updatedAt,
+                            Instant.parse(lastSortValue),
+                            qOrder.id,
+                            lastOrderId,
+                            ascending);
+            case TOTAL_AMOUNT ->
+                    KeysetPagination.after(
+                            qOrder.totalAmount,
+                            new BigDecimal(lastSortValue),
+                            qOrder.id,
+                            lastOrderId,
+                            ascending);
+        };
+    }
+
     /**
      * 정렬 조건 생성
      *
@@ -7,6 +7,7 @@ import com.ryuqq.setof.adapter.out.persistence.product.repository.ProductQueryDs
 import com.ryuqq.setof.application.product.port.out.query.ProductGroupQueryPort;
 import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
 import com.ryuqq.setof.domain.product.vo.ProductGroupId;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
@@ -42,6 +43,15 @@ public class ProductQueryAdapter implements ProductGroupQueryPort {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<ProductGroup> findByIds(List<ProductGroupId> productGroupIds) {
+        if (productGroupIds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = productGroupIds.stream().map(ProductGroupId::value).toList();
+        return queryDslRepository.findByIds(ids).stream().map(mapper::toDomain).toList();
+    }
+
     @Override
     public List<ProductGroup> findByConditions(
             Long sellerId,
@@ -63,6 +73,42 @@ public class ProductQueryAdapter implements ProductGroupQueryPort {
         return queryDslRepository.countByConditions(sellerId, categoryId, brandId, name, status);
     }
 
+    @Override
+    public List<ProductGroup> findByConditionsAfter(
+            Long sellerId,
+            Long categoryId,
+            Long brandId,
+            String name,
+            String status,
+            Long lastProductGroupId,
+            int limit) {
+        List<ProductGroupJpaEntity> entities =
+                queryDslRepository.findByConditionsAfter(
+                        sellerId, categoryId, brandId, name, status, lastProductGroupId, limit);
+        return entities.stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public List<ProductGroup> findByUpdatedAtAfter(
+            Instant updatedAfter, Instant lastUpdatedAt, Long lastProductGroupId, int limit) {
+        List<ProductGroupJpaEntity> entities =
+                queryDslRepository.findByUpdatedAtAfter(
+                        updatedAfter, lastUpdatedAt, lastProductGroupId, limit);
+        return entities.stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public long countByConditionsUpTo(
+            Long sellerId,
+            Long categoryId,
+            Long brandId,
+            String name,
+            String status,
+            long maxCount) {
+        return queryDslRepository.countByConditionsUpTo(
+                sellerId, categoryId, brandId, name, status, maxCount);
+    }
+
     @Override
     public boolean existsById(ProductGroupId productGroupId) {
         return jpaRepository.existsByIdAndDeletedAtIsNull(productGroupId.value());
@@ -1,9 +1,17 @@
 package com.ryuqq.setof.adapter.out.persistence.product.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.impl.JPAProvider;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUtil;
+import com.ryuqq.setof.adapter.out.persistence.common.querydsl.KeysetPagination;
 import com.ryuqq.setof.adapter.out.persistence.product.entity.ProductGroupJpaEntity;
 import com.ryuqq.setof.adapter.out.persistence.product.entity.QProductGroupJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.time.Instant;
 import java.util.List;
 import org.springframework.stereotype.Repository;
 
@@ -19,9 +27,26 @@ import org.springframework.stereotype.Repository;
 public class ProductQueryDslRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
-    public ProductQueryDslRepository(JPAQueryFactory queryFactory) {
+    public ProductQueryDslRepository(JPAQueryFactory queryFactory, EntityManager entityManager) {
         this.queryFactory = queryFactory;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * ID 목록으로 삭제되지 않은 ProductGroup 일괄 조회
+     *
+     * @param ids 상품그룹 ID 목록
+     * @return ProductGroup Entity 목록
+     */
+    public List<ProductGroupJpaEntity> findByIds(List<Long> ids) {
+        QProductGroupJpaEntity productGroup = QProductGroupJpaEntity.productGroupJpaEntity;
+
+        return queryFactory
+                .selectFrom(productGroup)
+                .where(productGroup.id.in(ids), productGroup.deletedAt.isNull())
+                .fetch();
     }
 
     /**
@@ -83,6 +108,124 @@ public class ProductQueryDslRepository {
         return count != null ? count : 0L;
     }
 
+    /**
+     * 조건으로 ProductGroup 목록 Keyset 조회 (ID 내림차순)
+     *
+     * <p>OFFSET 없이 {@code id < lastProductGroupId} 조건으로 PK 인덱스를 바로 탐색하므로 페이지 깊이와 무관하게 일정한
+     * 비용으로 조회합니다.
+     *
+     * @param sellerId 셀러 ID (nullable)
+     * @param categoryId 카테고리 ID (nullable)
+     * @param brandId 브랜드 ID (nullable)
+     * @param name 상품그룹명 (nullable, like 검색)
+     * @param status 상태 (nullable)
+     * @param lastProductGroupId 마지막으로 조회한 상품그룹 ID (nullable, null이면 첫 페이지)
+     * @param limit 제한
+     * @return ProductGroup Entity 목록
+     */
+    public List<ProductGroupJpaEntity> findByConditionsAfter(
+            Long sellerId,
+            Long categoryId,
+            Long brandId,
+            String name,
+            String status,
+            Long lastProductGroupId,
+            int limit) {
+        QProductGroupJpaEntity productGroup = QProductGroupJpaEntity.productGroupJpaEntity;
+
+        BooleanBuilder builder = buildConditions(sellerId, categoryId, brandId, name, status);
+        builder.and(KeysetPagination.after(productGroup.id, lastProductGroupId, false));
+
+        return queryFactory
+                .selectFrom(productGroup)
+                .where(builder)
+                .orderBy(productGroup.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 수정일시 이후 변경된 ProductGroup Keyset 조회 ((수정일시, ID) 오름차순)
+     *
+     * <p>검색 인덱스 증분 동기화용으로, 삭제(soft delete)된 상품그룹도 포함합니다.
+     *
+     * @param updatedAfter 기준 수정일시 (포함)
+     * @param lastUpdatedAt 마지막으로 조회한 수정일시 (nullable)
+     * @param lastProductGroupId 마지막으로 조회한 상품그룹 ID (nullable)
+     * @param limit 제한
+     * @return ProductGroup Entity 목록
+     */
+    public List<ProductGroupJpaEntity> findByUpdatedAtAfter(
+            Instant updatedAfter, Instant lastUpdatedAt, Long lastProductGroupId, int limit) {
+        QProductGroupJpaEntity productGroup = QProductGroupJpaEntity.productGroupJpaEntity;
+
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(productGroup.updatedAt.goe(updatedAfter));
+        builder.and(
+                KeysetPagination.after(
+                        productGroup.updatedAt,
+                        lastUpdatedAt,
+                        productGroup.id,
+                        lastProductGroupId,
+                        true));
+
+        return queryFactory
+                .selectFrom(productGroup)
+                .where(builder)
+                .orderBy(productGroup.updatedAt.asc(), productGroup.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 조건에 맞는 ProductGroup 개수 조회 (상한 적용)
+     *
+     * <p>COUNT(*)는 조건에 맞는 모든 행을 읽어야 하므로, maxCount건으로 제한한 파생 테이블을 DB에서 바로 집계합니다({@code
+     * SELECT COUNT(*) FROM (SELECT id ... LIMIT n)}). ID 목록을 애플리케이션으로 가져오지 않고 결과 한 행만 전송합니다. 상한을
+     * 넘는 목록에서는 정확한 개수 대신 maxCount를 반환합니다.
+     *
+     * <p>QueryDSL JPA는 FROM 절 서브쿼리를 지원하지 않으므로, {@link #buildConditions}로 만든 내부 조회를 JPQL로 직렬화해 HQL
+     * 파생 테이블로 감쌉니다. 목록 조회와 같은 조건식을 그대로 사용합니다.
+     *
+     * @param sellerId 셀러 ID (nullable)
+     * @param categoryId 카테고리 ID (nullable)
+     * @param brandId 브랜드 ID (nullable)
+     * @param name 상품그룹명 (nullable)
+     * @param status 상태 (nullable)
+     * @param maxCount 최대 집계 개수
+     * @return min(실제 개수, maxCount)
+     */
+    public long countByConditionsUpTo(
+            Long sellerId,
+            Long categoryId,
+            Long brandId,
+            String name,
+            String status,
+            long maxCount) {
+        QProductGroupJpaEntity productGroup = QProductGroupJpaEntity.productGroupJpaEntity;
+        JPAQuery<Long> limited =
+                queryFactory
+                        .select(productGroup.id)
+                        .from(productGroup)
+                        .where(buildConditions(sellerId, categoryId, brandId, name, status));
+
+        JPQLSerializer serializer =
+                new JPQLSerializer(JPAProvider.getTemplates(entityManager), entityManager);
+        serializer.serialize(limited.getMetadata(), false, null);
+        List<Object> constants = serializer.getConstants();
+
+        String hql =
+                "select count(*) from ("
+                        + serializer
+                        + " limit ?"
+                        + (constants.size() + 1)
+                        + ") limited";
+        TypedQuery<Long> query = entityManager.createQuery(hql, Long.class);
+        JPAUtil.setConstants(query, constants, limited.getMetadata().getParams());
+        query.setParameter(constants.size() + 1, (int) Math.min(maxCount, Integer.MAX_VALUE));
+        return query.getSingleResult();
+    }
+
     private BooleanBuilder buildConditions(
             Long sellerId, Long categoryId, Long brandId, String name, String status) {
         QProductGroupJpaEntity productGroup = QProductGroupJpaEntity.productGroupJpaEntity;
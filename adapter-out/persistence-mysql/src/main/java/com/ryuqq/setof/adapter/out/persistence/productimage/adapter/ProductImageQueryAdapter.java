@@ -51,4 +51,20 @@ public class ProductImageQueryAdapter implements ProductImageQueryPort {
                 .map(mapper::toDomain)
                 .toList();
     }
+
+    /**
+     * 상품그룹 ID 목록으로 이미지 목록 일괄 조회
+     *
+     * @param productGroupIds 상품그룹 ID 목록
+     * @return 이미지 목록
+     */
+    @Override
+    public List<ProductImage> findByProductGroupIds(List<Long> productGroupIds) {
+        if (productGroupIds.isEmpty()) {
+            return List.of();
+        }
+        return queryDslRepository.findByProductGroupIds(productGroupIds).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
 }
@@ -55,6 +55,20 @@ public class ProductImageQueryDslRepository {
                 .fetch();
     }
 
+    /**
+     * 상품그룹 ID 목록으로 이미지 목록 일괄 조회 (상품그룹, 표시 순서 정렬)
+     *
+     * @param productGroupIds 상품그룹 ID 목록
+     * @return 이미지 Entity 목록
+     */
+    public List<ProductImageJpaEntity> findByProductGroupIds(List<Long> productGroupIds) {
+        return queryFactory
+                .selectFrom(productImage)
+                .where(productImage.productGroupId.in(productGroupIds))
+                .orderBy(productImage.productGroupId.asc(), productImage.displayOrder.asc())
+                .fetch();
+    }
+
     /**
      * 상품그룹 ID와 이미지 타입으로 이미지 목록 조회
      *
@@ -2,10 +2,13 @@ package com.ryuqq.setof.adapter.out.persistence.productstock.adapter;
 
 import com.ryuqq.setof.adapter.out.persistence.productstock.entity.ProductStockJpaEntity;
 import com.ryuqq.setof.adapter.out.persistence.productstock.mapper.ProductStockJpaEntityMapper;
+import com.ryuqq.setof.adapter.out.persistence.productstock.repository.ProductStockCommandRepository;
 import com.ryuqq.setof.adapter.out.persistence.productstock.repository.ProductStockJpaRepository;
 import com.ryuqq.setof.application.productstock.port.out.command.ProductStockPersistencePort;
 import com.ryuqq.setof.domain.productstock.aggregate.ProductStock;
 import com.ryuqq.setof.domain.productstock.exception.StockOptimisticLockException;
+import java.time.Instant;
+import java.util.Map;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
@@ -21,11 +24,15 @@ import org.springframework.stereotype.Component;
 public class ProductStockPersistenceAdapter implements ProductStockPersistencePort {
 
     private final ProductStockJpaRepository jpaRepository;
+    private final ProductStockCommandRepository commandRepository;
     private final ProductStockJpaEntityMapper mapper;
 
     public ProductStockPersistenceAdapter(
-            ProductStockJpaRepository jpaRepository, ProductStockJpaEntityMapper mapper) {
+            ProductStockJpaRepository jpaRepository,
+            ProductStockCommandRepository commandRepository,
+            ProductStockJpaEntityMapper mapper) {
         this.jpaRepository = jpaRepository;
+        this.commandRepository = commandRepository;
         this.mapper = mapper;
     }
 
@@ -59,4 +66,18 @@ public class ProductStockPersistenceAdapter implements ProductStockPersistencePo
             throw new StockOptimisticLockException(productStock.getProductIdValue());
         }
     }
+
+    /**
+     * 재고 수량 조건부 일괄 업데이트
+     *
+     * @param quantities productStockId → 새 수량
+     * @param expectedQuantities productStockId → 기대 DB 수량
+     * @param now 수정 시각
+     * @return 업데이트된 행 수
+     */
+    @Override
+    public long updateQuantities(
+            Map<Long, Integer> quantities, Map<Long, Integer> expectedQuantities, Instant now) {
+        return commandRepository.updateQuantities(quantities, expectedQuantities, now);
+    }
 }
@@ -62,4 +62,44 @@ public class ProductStockQueryAdapter implements ProductStockQueryPort {
     public Optional<ProductStock> findById(Long productStockId) {
         return queryDslRepository.findById(productStockId).map(mapper::toDomain);
     }
+
+    /**
+     * 여러 재고 ID로 일괄 조회
+     *
+     * @param productStockIds 재고 ID 목록
+     * @return 재고 목록
+     */
+    @Override
+    public List<ProductStock> findByIds(List<Long> productStockIds) {
+        return queryDslRepository.findByIds(productStockIds).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * 판매자의 전체 재고 조회
+     *
+     * @param sellerId 판매자 ID
+     * @return 재고 목록
+     */
+    @Override
+    public List<ProductStock> findBySellerId(Long sellerId) {
+        return queryDslRepository.findBySellerId(sellerId).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * 재고 ID 커서 기반 순차 조회
+     *
+     * @param lastProductStockId 마지막으로 조회한 재고 ID (처음이면 null)
+     * @param size 조회 크기
+     * @return 재고 목록
+     */
+    @Override
+    public List<ProductStock> findByIdGreaterThan(Long lastProductStockId, Integer size) {
+        return queryDslRepository.findByIdGreaterThan(lastProductStockId, size).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
 }
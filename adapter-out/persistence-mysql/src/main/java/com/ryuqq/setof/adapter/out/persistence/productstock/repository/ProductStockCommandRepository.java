@@ -0,0 +1,79 @@
+package com.ryuqq.setof.adapter.out.persistence.productstock.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.setof.adapter.out.persistence.productstock.entity.QProductStockJpaEntity;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Repository;
+
+/**
+ * ProductStockCommandRepository - ProductStock 벌크 수정 Repository
+ *
+ * <p>엔티티를 읽지 않고 변경분만 반영하는 벌크 UPDATE를 담당합니다. 조회 전용인 {@link ProductStockQueryDslRepository}와
+ * 분리하여 Command 경로({@code ProductStockPersistenceAdapter})에서만 사용합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Repository
+public class ProductStockCommandRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final QProductStockJpaEntity productStock =
+            QProductStockJpaEntity.productStockJpaEntity;
+
+    public ProductStockCommandRepository(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * 재고 수량 조건부 일괄 업데이트
+     *
+     * <p>{@code UPDATE ... SET quantity = CASE id WHEN ... END WHERE (id = ? AND quantity = ?) OR
+     * ...} 단일 문으로 처리합니다. 기대 수량과 현재 수량이 다른 행(값을 읽은 뒤 다른 트랜잭션이 수정한 행)과 기대 수량이 없는 행은 변경하지 않습니다.
+     * 버전을 증가시켜 같은 행을 수정 중인 낙관적 락 트랜잭션이 충돌을 감지하도록 합니다.
+     *
+     * @param quantities productStockId → 새 수량
+     * @param expectedQuantities productStockId → 기대 DB 수량
+     * @param now 수정 시각
+     * @return 업데이트된 행 수
+     */
+    public long updateQuantities(
+            Map<Long, Integer> quantities, Map<Long, Integer> expectedQuantities, Instant now) {
+        CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = null;
+        BooleanBuilder unchanged = new BooleanBuilder();
+        List<Long> productStockIds = new ArrayList<>(quantities.size());
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Integer expected = expectedQuantities.get(entry.getKey());
+            if (expected == null) {
+                continue;
+            }
+            productStockIds.add(entry.getKey());
+            unchanged.or(
+                    productStock.id.eq(entry.getKey()).and(productStock.quantity.eq(expected)));
+            cases =
+                    (cases == null)
+                            ? new CaseBuilder()
+                                    .when(productStock.id.eq(entry.getKey()))
+                                    .then(entry.getValue())
+                            : cases.when(productStock.id.eq(entry.getKey()))
+                                    .then(entry.getValue());
+        }
+        if (cases == null) {
+            return 0;
+        }
+
+        return queryFactory
+                .update(productStock)
+                .set(productStock.quantity, cases.otherwise(productStock.quantity))
+                .set(productStock.version, productStock.version.add(1))
+                .set(productStock.updatedAt, now)
+                .where(productStock.id.in(productStockIds), unchanged)
+                .execute();
+    }
+}
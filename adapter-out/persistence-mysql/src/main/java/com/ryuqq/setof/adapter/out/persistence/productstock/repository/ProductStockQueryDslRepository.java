@@ -1,6 +1,9 @@
 package com.ryuqq.setof.adapter.out.persistence.productstock.repository;
 
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.setof.adapter.out.persistence.product.entity.QProductGroupJpaEntity;
+import com.ryuqq.setof.adapter.out.persistence.product.entity.QProductJpaEntity;
 import com.ryuqq.setof.adapter.out.persistence.productstock.entity.ProductStockJpaEntity;
 import com.ryuqq.setof.adapter.out.persistence.productstock.entity.QProductStockJpaEntity;
 import java.util.List;
@@ -21,6 +24,9 @@ public class ProductStockQueryDslRepository {
     private final JPAQueryFactory queryFactory;
     private final QProductStockJpaEntity productStock =
             QProductStockJpaEntity.productStockJpaEntity;
+    private final QProductJpaEntity product = QProductJpaEntity.productJpaEntity;
+    private final QProductGroupJpaEntity productGroup =
+            QProductGroupJpaEntity.productGroupJpaEntity;
 
     public ProductStockQueryDslRepository(JPAQueryFactory queryFactory) {
         this.queryFactory = queryFactory;
@@ -68,4 +74,61 @@ public class ProductStockQueryDslRepository {
                         .fetchOne();
         return Optional.ofNullable(result);
     }
+
+    /**
+     * 여러 재고 ID로 일괄 조회
+     *
+     * @param productStockIds 재고 ID 목록
+     * @return 재고 Entity 목록
+     */
+    public List<ProductStockJpaEntity> findByIds(List<Long> productStockIds) {
+        return queryFactory
+                .selectFrom(productStock)
+                .where(productStock.id.in(productStockIds))
+                .fetch();
+    }
+
+    /**
+     * 판매자의 전체 재고 조회
+     *
+     * <p>Join 없이 서브쿼리로 판매자 → 상품그룹 → 상품(SKU) → 재고를 좁힙니다. 삭제된 상품그룹/SKU는 제외합니다.
+     *
+     * @param sellerId 판매자 ID
+     * @return 재고 Entity 목록
+     */
+    public List<ProductStockJpaEntity> findBySellerId(Long sellerId) {
+        return queryFactory
+                .selectFrom(productStock)
+                .where(
+                        productStock.productId.in(
+                                JPAExpressions.select(product.id)
+                                        .from(product)
+                                        .where(
+                                                product.deletedAt.isNull(),
+                                                product.productGroupId.in(
+                                                        JPAExpressions.select(productGroup.id)
+                                                                .from(productGroup)
+                                                                .where(
+                                                                        productGroup.sellerId.eq(
+                                                                                sellerId),
+                                                                        productGroup.deletedAt
+                                                                                .isNull())))))
+                .fetch();
+    }
+
+    /**
+     * 재고 ID 커서 기반 순차 조회
+     *
+     * @param lastProductStockId 마지막으로 조회한 재고 ID (처음이면 null)
+     * @param size 조회 크기
+     * @return 재고 Entity 목록 (ID 오름차순)
+     */
+    public List<ProductStockJpaEntity> findByIdGreaterThan(Long lastProductStockId, int size) {
+        return queryFactory
+                .selectFrom(productStock)
+                .where(lastProductStockId != null ? productStock.id.gt(lastProductStockId) : null)
+                .orderBy(productStock.id.asc())
+                .limit(size)
+                .fetch();
+    }
 }
@@ -1,11 +1,13 @@
 package com.ryuqq.setof.adapter.out.persistence.refreshtoken.entity;
 
+import com.ryuqq.setof.adapter.out.persistence.common.entity.PooledIdSequence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.Instant;
 
 /**
@@ -13,7 +15,7 @@ import java.time.Instant;
  *
  * <p>Persistence Layer의 JPA Entity로서 refresh_tokens 테이블과 매핑됩니다.
  *
- * <p><strong>Auto Increment PK:</strong>
+ * <p><strong>순차 Long PK (Pooled 채번):</strong>
  *
  * <ul>
  *   <li>토큰은 내부 관리용이므로 순차 ID 사용
@@ -43,12 +45,19 @@ import java.time.Instant;
 public class RefreshTokenJpaEntity {
 
     /**
-     * 기본 키 (Auto Increment)
+     * 기본 키 (id_sequences 기반 Pooled 채번)
      *
      * <p>내부 관리용 순차 ID
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "refresh_tokens")
+    @TableGenerator(
+            name = "refresh_tokens",
+            table = PooledIdSequence.TABLE,
+            pkColumnName = PooledIdSequence.NAME_COLUMN,
+            valueColumnName = PooledIdSequence.VALUE_COLUMN,
+            pkColumnValue = "refresh_tokens",
+            allocationSize = PooledIdSequence.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
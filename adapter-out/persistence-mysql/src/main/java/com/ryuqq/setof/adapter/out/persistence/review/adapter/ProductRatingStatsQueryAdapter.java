@@ -5,6 +5,7 @@ import com.ryuqq.setof.adapter.out.persistence.review.mapper.ReviewJpaEntityMapp
 import com.ryuqq.setof.adapter.out.persistence.review.repository.ReviewQueryDslRepository;
 import com.ryuqq.setof.application.review.port.out.query.ProductRatingStatsQueryPort;
 import com.ryuqq.setof.domain.review.aggregate.ProductRatingStats;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
 
@@ -17,6 +18,7 @@ import org.springframework.stereotype.Component;
  *
  * <ul>
  *   <li>상품 그룹 ID로 통계 조회 (findByProductGroupId)
+ *   <li>상품 그룹 ID 목록으로 통계 일괄 조회 (findByProductGroupIds)
  *   <li>통계 존재 여부 확인 (existsByProductGroupId)
  * </ul>
  *
@@ -56,6 +58,19 @@ public class ProductRatingStatsQueryAdapter implements ProductRatingStatsQueryPo
         return statsEntity.map(reviewJpaEntityMapper::toStatsDomain);
     }
 
+    /**
+     * 상품 그룹 ID 목록으로 평점 통계 일괄 조회
+     *
+     * @param productGroupIds 상품 그룹 ID 목록
+     * @return ProductRatingStats Domain 목록
+     */
+    @Override
+    public List<ProductRatingStats> findByProductGroupIds(List<Long> productGroupIds) {
+        return queryDslRepository.findStatsByProductGroupIds(productGroupIds).stream()
+                .map(reviewJpaEntityMapper::toStatsDomain)
+                .toList();
+    }
+
     /**
      * 상품 그룹 ID로 평점 통계 존재 여부 확인
      *
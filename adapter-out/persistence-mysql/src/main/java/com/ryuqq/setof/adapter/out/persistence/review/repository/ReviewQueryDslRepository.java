@@ -243,6 +243,23 @@ public class ReviewQueryDslRepository {
                         .fetchOne());
     }
 
+    /**
+     * 상품 그룹 ID 목록으로 평점 통계 일괄 조회
+     *
+     * @param productGroupIds 상품 그룹 ID 목록
+     * @return ProductRatingStatsJpaEntity 목록
+     */
+    public List<ProductRatingStatsJpaEntity> findStatsByProductGroupIds(
+            List<Long> productGroupIds) {
+        if (productGroupIds == null || productGroupIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(qStats)
+                .where(qStats.productGroupId.in(productGroupIds))
+                .fetch();
+    }
+
     /**
      * 상품 그룹 ID로 평점 통계 존재 여부 확인
      *
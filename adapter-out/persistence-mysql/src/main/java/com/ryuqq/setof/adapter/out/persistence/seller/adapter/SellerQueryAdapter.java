@@ -8,7 +8,10 @@ import com.ryuqq.setof.application.seller.port.out.query.SellerQueryPort;
 import com.ryuqq.setof.domain.seller.aggregate.Seller;
 import com.ryuqq.setof.domain.seller.vo.SellerId;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 /**
@@ -20,6 +23,7 @@ import org.springframework.stereotype.Component;
  *
  * <ul>
  *   <li>ID로 단건 조회 (findById)
+ *   <li>ID 목록으로 일괄 조회 (findByIds)
  *   <li>검색 조건으로 목록 조회 (findByConditions)
  *   <li>총 개수 조회 (countByConditions)
  *   <li>존재 여부 확인 (existsById, existsActiveById)
@@ -68,6 +72,45 @@ public class SellerQueryAdapter implements SellerQueryPort {
         return Optional.of(sellerJpaEntityMapper.toDomain(sellerEntity.get(), csInfoEntity));
     }
 
+    /**
+     * ID 목록으로 Seller 일괄 조회
+     *
+     * <p>CS Info도 IN 조회 1회로 함께 가져와 N+1 조회를 방지합니다.
+     *
+     * @param ids Seller ID 목록 (Value Object)
+     * @return Seller Domain 목록
+     */
+    @Override
+    public List<Seller> findByIds(List<SellerId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> idValues = ids.stream().map(SellerId::value).toList();
+        List<SellerJpaEntity> sellerEntities = queryDslRepository.findByIds(idValues);
+        if (sellerEntities.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, SellerCsInfoJpaEntity> csInfoMap =
+                queryDslRepository
+                        .findCsInfosBySellerIds(
+                                sellerEntities.stream().map(SellerJpaEntity::getId).toList())
+                        .stream()
+                        .collect(
+                                Collectors.toMap(
+                                        SellerCsInfoJpaEntity::getSellerId,
+                                        Function.identity(),
+                                        (existing, replacement) -> existing));
+
+        return sellerEntities.stream()
+                .map(
+                        sellerEntity ->
+                                sellerJpaEntityMapper.toDomain(
+                                        sellerEntity, csInfoMap.get(sellerEntity.getId())))
+                .toList();
+    }
+
     /**
      * 셀러명으로 검색
      *
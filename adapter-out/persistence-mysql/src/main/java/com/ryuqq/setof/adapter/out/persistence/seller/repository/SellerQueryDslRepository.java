@@ -19,10 +19,12 @@ import org.springframework.stereotype.Repository;
  *
  * <ul>
  *   <li>findById(Long id): ID로 Seller 단건 조회
+ *   <li>findByIds(List ids): ID 목록으로 Seller 일괄 조회
  *   <li>findByCondition(condition): 검색 조건으로 목록 조회
  *   <li>countByCondition(condition): 검색 조건으로 총 개수 조회
  *   <li>existsById(Long id): 존재 여부 확인
  *   <li>findCsInfoBySellerId(Long sellerId): Seller ID로 CS Info 조회
+ *   <li>findCsInfosBySellerIds(List sellerIds): Seller ID 목록으로 CS Info 일괄 조회
  * </ul>
  *
  * <p><strong>금지 사항:</strong>
@@ -59,6 +61,16 @@ public class SellerQueryDslRepository {
                 queryFactory.selectFrom(qSeller).where(qSeller.id.eq(id), notDeleted()).fetchOne());
     }
 
+    /**
+     * ID 목록으로 Seller 일괄 조회
+     *
+     * @param ids Seller ID 목록
+     * @return SellerJpaEntity 목록
+     */
+    public List<SellerJpaEntity> findByIds(List<Long> ids) {
+        return queryFactory.selectFrom(qSeller).where(qSeller.id.in(ids), notDeleted()).fetch();
+    }
+
     /**
      * ID로 Seller 단건 조회 (삭제 포함)
      *
@@ -136,6 +148,16 @@ public class SellerQueryDslRepository {
                 queryFactory.selectFrom(qCsInfo).where(qCsInfo.sellerId.eq(sellerId)).fetchOne());
     }
 
+    /**
+     * Seller ID 목록으로 CS Info 일괄 조회
+     *
+     * @param sellerIds Seller ID 목록
+     * @return SellerCsInfoJpaEntity 목록
+     */
+    public List<SellerCsInfoJpaEntity> findCsInfosBySellerIds(List<Long> sellerIds) {
+        return queryFactory.selectFrom(qCsInfo).where(qCsInfo.sellerId.in(sellerIds)).fetch();
+    }
+
     /** 검색 조건 빌더 */
     private BooleanBuilder buildCondition(String keyword, String status, boolean includeDeleted) {
         BooleanBuilder builder = new BooleanBuilder();
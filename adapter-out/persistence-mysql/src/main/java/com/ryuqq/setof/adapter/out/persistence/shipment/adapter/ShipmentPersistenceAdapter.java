@@ -6,6 +6,7 @@ import com.ryuqq.setof.adapter.out.persistence.shipment.repository.ShipmentJpaRe
 import com.ryuqq.setof.application.shipment.port.out.command.ShipmentPersistencePort;
 import com.ryuqq.setof.domain.shipment.aggregate.Shipment;
 import com.ryuqq.setof.domain.shipment.vo.ShipmentId;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 /**
@@ -17,6 +18,7 @@ import org.springframework.stereotype.Component;
  *
  * <ul>
  *   <li>Shipment 저장 (persist)
+ *   <li>Shipment 일괄 저장 (persistAll)
  * </ul>
  *
  * <p><strong>금지 사항:</strong>
@@ -54,4 +56,21 @@ public class ShipmentPersistenceAdapter implements ShipmentPersistencePort {
         ShipmentJpaEntity savedEntity = shipmentJpaRepository.save(entity);
         return ShipmentId.of(savedEntity.getId());
     }
+
+    /**
+     * Shipment 일괄 저장 (생성/수정)
+     *
+     * <p>saveAll로 한 번에 위임하여 flush 시 JDBC Batch로 실행됩니다.
+     *
+     * @param shipments Shipment 도메인 목록
+     * @return 저장된 ShipmentId 목록
+     */
+    @Override
+    public List<ShipmentId> persistAll(List<Shipment> shipments) {
+        List<ShipmentJpaEntity> entities =
+                shipments.stream().map(shipmentJpaEntityMapper::toEntity).toList();
+        return shipmentJpaRepository.saveAll(entities).stream()
+                .map(entity -> ShipmentId.of(entity.getId()))
+                .toList();
+    }
 }
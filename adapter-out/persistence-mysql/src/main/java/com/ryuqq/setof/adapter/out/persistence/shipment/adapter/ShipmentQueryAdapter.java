@@ -21,7 +21,8 @@ import org.springframework.stereotype.Component;
  *   <li>ID로 단건 조회 (findById)
  *   <li>결제건 ID로 목록 조회 (findByCheckoutId)
  *   <li>셀러 ID로 목록 조회 (findBySellerId)
- *   <li>추적 대상 목록 조회 (findActiveShipments)
+ *   <li>추적 대상 목록 조회 (findActiveShipments, ID 커서 페이지 포함)
+ *   <li>ID 목록으로 일괄 조회 (findByIds)
  *   <li>택배사 ID + 운송장 번호로 조회 (findByCarrierIdAndInvoiceNumber)
  *   <li>존재 여부 확인 (existsById, existsByCarrierIdAndInvoiceNumber)
  * </ul>
@@ -98,6 +99,34 @@ public class ShipmentQueryAdapter implements ShipmentQueryPort {
                 .toList();
     }
 
+    /**
+     * 추적 대상 Shipment 페이지 조회 (ID 커서)
+     *
+     * @param lastShipmentId 마지막으로 조회한 Shipment ID (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return Shipment 목록
+     */
+    @Override
+    public List<Shipment> findActiveShipments(Long lastShipmentId, Integer size) {
+        return queryDslRepository.findActiveShipments(lastShipmentId, size).stream()
+                .map(shipmentJpaEntityMapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * ID 목록으로 Shipment 일괄 조회
+     *
+     * @param ids Shipment ID 목록
+     * @return Shipment 목록
+     */
+    @Override
+    public List<Shipment> findByIds(List<ShipmentId> ids) {
+        List<Long> idValues = ids.stream().map(ShipmentId::value).toList();
+        return queryDslRepository.findByIds(idValues).stream()
+                .map(shipmentJpaEntityMapper::toDomain)
+                .toList();
+    }
+
     /**
      * 택배사 ID + 운송장 번호로 Shipment 조회
      *
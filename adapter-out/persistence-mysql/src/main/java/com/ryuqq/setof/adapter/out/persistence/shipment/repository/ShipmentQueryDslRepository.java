@@ -85,6 +85,39 @@ public class ShipmentQueryDslRepository {
                 .fetch();
     }
 
+    /**
+     * 추적 대상 Shipment 페이지 조회 (ID 커서)
+     *
+     * <p>{@code WHERE status IN (...) AND id > :lastShipmentId ORDER BY id LIMIT :size}
+     *
+     * @param lastShipmentId 마지막으로 조회한 Shipment ID (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return ShipmentJpaEntity 목록 (ID 오름차순)
+     */
+    public List<ShipmentJpaEntity> findActiveShipments(Long lastShipmentId, int size) {
+        return queryFactory
+                .selectFrom(shipment)
+                .where(
+                        shipment.status.in(ACTIVE_STATUSES),
+                        lastShipmentId != null ? shipment.id.gt(lastShipmentId) : null)
+                .orderBy(shipment.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * ID 목록으로 Shipment 일괄 조회
+     *
+     * @param ids Shipment ID 목록
+     * @return ShipmentJpaEntity 목록
+     */
+    public List<ShipmentJpaEntity> findByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory.selectFrom(shipment).where(shipment.id.in(ids)).fetch();
+    }
+
     /**
      * 택배사 ID + 운송장 번호로 Shipment 조회
      *
@@ -0,0 +1,12 @@
+-- =============================================================================
+-- V25: Add composite indexes for keyset pagination
+-- Purpose: 주문 목록 Keyset 조회 (member/seller 필터 + created_at, id 정렬)
+-- Note: InnoDB 보조 인덱스는 PK(id)를 포함하므로 (필터, 정렬키) 인덱스로
+--       ORDER BY created_at, id 와 Keyset 조건을 인덱스 범위 탐색으로 처리합니다.
+-- =============================================================================
+
+CREATE INDEX idx_orders_member_id_created_at
+    ON orders (member_id, created_at);
+
+CREATE INDEX idx_orders_seller_id_created_at
+    ON orders (seller_id, created_at);
@@ -0,0 +1,9 @@
+-- =============================================================================
+-- V26: Add updated_at index to product_groups
+-- Purpose: 검색 인덱스 증분 동기화 (updated_at > :since 변경분 Keyset 스캔)
+-- Note: InnoDB 보조 인덱스는 PK(id)를 포함하므로 ORDER BY updated_at, id 와
+--       Keyset 조건을 인덱스 범위 탐색으로 처리합니다.
+-- =============================================================================
+
+CREATE INDEX idx_product_groups_updated_at
+    ON product_groups (updated_at);
@@ -0,0 +1,21 @@
+-- =============================================================================
+-- V27: Create product_effective_prices table
+-- Purpose: 상품그룹별 할인 적용 최종 판매가 인덱스 (요청 시 할인 계산 제거)
+-- Note: 할인 정책 활성화/비활성화/대상 변경 및 상품 가격 변경 시 증분 재계산되며,
+--       valid_until 도달(정책 시작/만료) 행은 스케줄러가 재계산합니다.
+-- =============================================================================
+
+CREATE TABLE product_effective_prices (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    product_group_id BIGINT NOT NULL COMMENT '상품 그룹 ID',
+    seller_id BIGINT NOT NULL COMMENT '셀러 ID',
+    current_price BIGINT NOT NULL COMMENT '판매가 (할인 전)',
+    sale_price BIGINT NOT NULL COMMENT '최종 판매가 (할인 후)',
+    valid_until DATETIME(6) NULL COMMENT '유효 시한 (정책 시작/종료 시각, NULL이면 무기한)',
+    computed_at DATETIME(6) NOT NULL COMMENT '계산 시각',
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+
+    UNIQUE INDEX uk_product_effective_prices_product_group_id (product_group_id),
+    INDEX idx_product_effective_prices_valid_until (valid_until)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='상품 최종 판매가 인덱스';
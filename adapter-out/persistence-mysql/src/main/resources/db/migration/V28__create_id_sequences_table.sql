@@ -0,0 +1,62 @@
+-- =============================================================================
+-- V28: Create id_sequences table
+-- Purpose: Long PK 채번을 IDENTITY에서 테이블 기반 Pooled 채번으로 전환 (JDBC Batch INSERT 활성화)
+-- Note: 애플리케이션이 테이블별 시퀀스 행에서 ID를 50개 블록 단위로 할당받아 INSERT 전에 부여합니다.
+--       기존 컬럼의 AUTO_INCREMENT 속성은 유지하며, 명시적 ID INSERT에 그대로 사용됩니다.
+--       시작 값은 현재 MAX(id) + 1000000 입니다. 마이그레이션 이후에도 구 버전 인스턴스가
+--       AUTO_INCREMENT로 INSERT하면 새 버전이 할당받는 블록과 겹칠 수 있으므로, 여유 구간만으로는
+--       롤링 배포를 보호하지 못합니다.
+-- Deploy: 하드 컷오버로 배포합니다.
+--       1. 구 버전 인스턴스를 모두 중지(드레인)해 AUTO_INCREMENT INSERT를 멈춥니다.
+--       2. 이 마이그레이션을 적용합니다.
+--       3. 새 버전 인스턴스를 기동합니다.
+--       1000000 구간은 컷오버 전후 수동 INSERT나 배치 등 예정된 AUTO_INCREMENT 사용분을 위한 간격이며,
+--       컷오버 이후에는 AUTO_INCREMENT로 INSERT하지 않아야 합니다.
+--       신규 테이블은 생성 마이그레이션에서 시퀀스 행을 함께 추가해야 합니다.
+-- =============================================================================
+
+CREATE TABLE id_sequences (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY COMMENT '시퀀스 키 (대상 테이블명)',
+    next_val BIGINT NOT NULL COMMENT '다음 할당 블록 기준 값'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Pooled ID 채번 시퀀스';
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'banks', COALESCE(MAX(id), 0) + 1000000 FROM banks
+UNION ALL SELECT 'brand', COALESCE(MAX(id), 0) + 1000000 FROM brand
+UNION ALL SELECT 'cart_items', COALESCE(MAX(id), 0) + 1000000 FROM cart_items
+UNION ALL SELECT 'carts', COALESCE(MAX(id), 0) + 1000000 FROM carts
+UNION ALL SELECT 'category', COALESCE(MAX(id), 0) + 1000000 FROM category
+UNION ALL SELECT 'claim', COALESCE(MAX(id), 0) + 1000000 FROM claim
+UNION ALL SELECT 'cms_banner_items', COALESCE(MAX(id), 0) + 1000000 FROM cms_banner_items
+UNION ALL SELECT 'cms_boards', COALESCE(MAX(id), 0) + 1000000 FROM cms_boards
+UNION ALL SELECT 'cms_component_items', COALESCE(MAX(id), 0) + 1000000 FROM cms_component_items
+UNION ALL SELECT 'cms_components', COALESCE(MAX(id), 0) + 1000000 FROM cms_components
+UNION ALL SELECT 'cms_contents', COALESCE(MAX(id), 0) + 1000000 FROM cms_contents
+UNION ALL SELECT 'cms_faq_categories', COALESCE(MAX(id), 0) + 1000000 FROM cms_faq_categories
+UNION ALL SELECT 'cms_faqs', COALESCE(MAX(id), 0) + 1000000 FROM cms_faqs
+UNION ALL SELECT 'cms_gnbs', COALESCE(MAX(id), 0) + 1000000 FROM cms_gnbs
+UNION ALL SELECT 'discount_policies', COALESCE(MAX(id), 0) + 1000000 FROM discount_policies
+UNION ALL SELECT 'discount_usage_histories', COALESCE(MAX(id), 0) + 1000000 FROM discount_usage_histories
+UNION ALL SELECT 'order_event', COALESCE(MAX(id), 0) + 1000000 FROM order_event
+UNION ALL SELECT 'product_description_images', COALESCE(MAX(id), 0) + 1000000 FROM product_description_images
+UNION ALL SELECT 'product_descriptions', COALESCE(MAX(id), 0) + 1000000 FROM product_descriptions
+UNION ALL SELECT 'product_effective_prices', COALESCE(MAX(id), 0) + 1000000 FROM product_effective_prices
+UNION ALL SELECT 'product_groups', COALESCE(MAX(id), 0) + 1000000 FROM product_groups
+UNION ALL SELECT 'product_images', COALESCE(MAX(id), 0) + 1000000 FROM product_images
+UNION ALL SELECT 'product_notice_items', COALESCE(MAX(id), 0) + 1000000 FROM product_notice_items
+UNION ALL SELECT 'product_notices', COALESCE(MAX(id), 0) + 1000000 FROM product_notices
+UNION ALL SELECT 'product_rating_stats', COALESCE(MAX(id), 0) + 1000000 FROM product_rating_stats
+UNION ALL SELECT 'product_stocks', COALESCE(MAX(id), 0) + 1000000 FROM product_stocks
+UNION ALL SELECT 'products', COALESCE(MAX(id), 0) + 1000000 FROM products
+UNION ALL SELECT 'qna_images', COALESCE(MAX(id), 0) + 1000000 FROM qna_images
+UNION ALL SELECT 'qna_replies', COALESCE(MAX(id), 0) + 1000000 FROM qna_replies
+UNION ALL SELECT 'qnas', COALESCE(MAX(id), 0) + 1000000 FROM qnas
+UNION ALL SELECT 'refresh_tokens', COALESCE(MAX(id), 0) + 1000000 FROM refresh_tokens
+UNION ALL SELECT 'refund_accounts', COALESCE(MAX(id), 0) + 1000000 FROM refund_accounts
+UNION ALL SELECT 'review_images', COALESCE(MAX(id), 0) + 1000000 FROM review_images
+UNION ALL SELECT 'reviews', COALESCE(MAX(id), 0) + 1000000 FROM reviews
+UNION ALL SELECT 'seller_cs_infos', COALESCE(MAX(id), 0) + 1000000 FROM seller_cs_infos
+UNION ALL SELECT 'seller_refund_policies', COALESCE(MAX(id), 0) + 1000000 FROM seller_refund_policies
+UNION ALL SELECT 'seller_shipping_policies', COALESCE(MAX(id), 0) + 1000000 FROM seller_shipping_policies
+UNION ALL SELECT 'sellers', COALESCE(MAX(id), 0) + 1000000 FROM sellers
+UNION ALL SELECT 'shipping_addresses', COALESCE(MAX(id), 0) + 1000000 FROM shipping_addresses;
@@ -0,0 +1,25 @@
+-- =============================================================================
+-- V29: Add composite indexes for keyset pagination on remaining sort fields
+-- Purpose: 주문 목록 Keyset 조회 (member/seller 필터 + ordered_at/updated_at/total_amount, id 정렬)
+-- Note: V25는 created_at 정렬만 다룹니다. 정렬 필드마다 (필터, 정렬키, id) 인덱스가 있어야
+--       ORDER BY sort_col, id 와 Keyset 조건을 filesort 없이 인덱스 범위 탐색으로 처리합니다.
+--       id는 InnoDB가 암묵적으로 붙이지만, tiebreak 컬럼임을 드러내기 위해 명시합니다.
+-- =============================================================================
+
+CREATE INDEX idx_orders_member_id_ordered_at_id
+    ON orders (member_id, ordered_at, id);
+
+CREATE INDEX idx_orders_seller_id_ordered_at_id
+    ON orders (seller_id, ordered_at, id);
+
+CREATE INDEX idx_orders_member_id_updated_at_id
+    ON orders (member_id, updated_at, id);
+
+CREATE INDEX idx_orders_seller_id_updated_at_id
+    ON orders (seller_id, updated_at, id);
+
+CREATE INDEX idx_orders_member_id_total_amount_id
+    ON orders (member_id, total_amount, id);
+
+CREATE INDEX idx_orders_seller_id_total_amount_id
+    ON orders (seller_id, total_amount, id);
@@ -261,6 +261,7 @@ class DataAccessPatternArchTest {
         // - findBy*, existsBy* (조건 조회)
         // - findByCriteria, countByCriteria (동적 검색)
         // - deleteBy* (벌크 삭제 - RefreshToken 등 임시 데이터용 예외 허용)
+        // - update* (벌크 수정 - 장바구니 등 조회 없이 변경분만 반영하는 경우)
         ArchRule rule =
                 methods()
                         .that()
@@ -278,9 +279,11 @@ class DataAccessPatternArchTest {
                         .haveNameStartingWith("count")
                         .orShould()
                         .haveNameStartingWith("delete")
+                        .orShould()
+                        .haveNameStartingWith("update")
                         .because(
-                                "QueryDslRepository 메서드는 find*, exists*, count*, delete* 패턴을 따라야"
-                                        + " 합니다");
+                                "QueryDslRepository 메서드는 find*, exists*, count*, delete*, update*"
+                                        + " 패턴을 따라야 합니다");
 
         rule.allowEmptyShould(true).check(allClasses);
     }
@@ -0,0 +1,248 @@
+package com.ryuqq.setof.adapter.out.persistence.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.setof.adapter.out.persistence.cart.entity.CartItemJpaEntity;
+import com.ryuqq.setof.adapter.out.persistence.cart.repository.CartItemJpaRepository;
+import com.ryuqq.setof.adapter.out.persistence.discount.entity.DiscountUsageHistoryJpaEntity;
+import com.ryuqq.setof.adapter.out.persistence.discount.repository.DiscountUsageHistoryJpaRepository;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Pooled ID 채번 Batch INSERT 벤치마크
+ *
+ * <p>장바구니 상품(cart_items)과 주문 시 기록되는 할인 사용 이력(discount_usage_histories)을 대량 저장할 때, 행마다 INSERT를
+ * 실행하는 IDENTITY 방식과 Pooled 채번 + JDBC Batch 방식의 실행 INSERT 문 수와 소요 시간을 비교합니다.
+ *
+ * <p>IDENTITY 방식은 Hibernate IDENTITY 채번과 같은 방식으로 측정합니다. ID 없이 INSERT해 AUTO_INCREMENT 값을 받고, 행마다
+ * {@code getGeneratedKeys}로 생성 키를 읽습니다. 생성 키를 행마다 읽어야 하므로 Batch로 묶을 수 없습니다. 실행 INSERT 문 수는
+ * MySQL 세션 상태 변수 {@code Com_insert}로 측정합니다 (rewriteBatchedStatements 사용 시 Batch는 다건 INSERT 1회로 집계).
+ *
+ * <p>{@code benchmark} 태그는 루트 build.gradle에서 기본 test 태스크에서 제외됩니다.
+ */
+@Tag("benchmark")
+@DisplayName("Pooled ID 채번 Batch INSERT 벤치마크")
+@TestPropertySource(
+        properties = {
+            "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+            "spring.jpa.properties.hibernate.order_inserts=true",
+            "spring.jpa.show-sql=false",
+            "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true"
+        })
+class PooledIdBatchInsertBenchmarkTest extends RepositoryTestSupport {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(PooledIdBatchInsertBenchmarkTest.class);
+
+    private static final int ROW_COUNT = 1_000;
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private static final String CART_ITEM_INSERT_SQL =
+            "INSERT INTO cart_items (cart_id, product_stock_id, product_id, product_group_id,"
+                    + " seller_id, quantity, unit_price, selected, added_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String DISCOUNT_USAGE_HISTORY_INSERT_SQL =
+            "INSERT INTO discount_usage_histories (discount_policy_id, member_id, checkout_id,"
+                    + " order_id, applied_amount, original_amount, platform_ratio, seller_ratio,"
+                    + " platform_cost, seller_cost, used_at, created_at, updated_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired private CartItemJpaRepository cartItemJpaRepository;
+    @Autowired private DiscountUsageHistoryJpaRepository discountUsageHistoryJpaRepository;
+
+    @Test
+    @DisplayName("장바구니 상품 대량 저장 시 Batch INSERT로 실행 문 수가 줄어든다")
+    void cartItemBulkInsert() {
+        Result identity =
+                insertWithIdentity("cart_items", CART_ITEM_INSERT_SQL, this::bindCartItem);
+        Result batched = insertBatched(cartItemJpaRepository, this::cartItem);
+
+        report("cart_items", identity, batched);
+        assertThat(identity.insertStatements()).isEqualTo(ROW_COUNT);
+        assertThat(batched.insertStatements()).isLessThan(identity.insertStatements());
+    }
+
+    @Test
+    @DisplayName("주문 할인 사용 이력 대량 저장 시 Batch INSERT로 실행 문 수가 줄어든다")
+    void discountUsageHistoryBulkInsert() {
+        Result identity =
+                insertWithIdentity(
+                        "discount_usage_histories",
+                        DISCOUNT_USAGE_HISTORY_INSERT_SQL,
+                        this::bindDiscountUsageHistory);
+        Result batched =
+                insertBatched(discountUsageHistoryJpaRepository, this::discountUsageHistory);
+
+        report("discount_usage_histories", identity, batched);
+        assertThat(identity.insertStatements()).isEqualTo(ROW_COUNT);
+        assertThat(batched.insertStatements()).isLessThan(identity.insertStatements());
+    }
+
+    /**
+     * IDENTITY 방식 INSERT 측정
+     *
+     * <p>테스트 스키마는 ddl-auto로 생성되어 id 컬럼에 AUTO_INCREMENT가 없으므로, 운영 스키마(Flyway)와 같이
+     * AUTO_INCREMENT를 먼저 부여합니다. MySQL DDL은 암묵적 커밋을 일으키므로 측정 전에 실행합니다.
+     */
+    private Result insertWithIdentity(String table, String sql, RowBinder binder) {
+        entityManager.flush();
+        entityManager
+                .createNativeQuery(
+                        "ALTER TABLE " + table + " MODIFY id BIGINT NOT NULL AUTO_INCREMENT")
+                .executeUpdate();
+        long insertsBefore = comInsert();
+        long[] elapsedNanos = new long[1];
+
+        entityManager
+                .unwrap(Session.class)
+                .doWork(
+                        connection -> {
+                            long start = System.nanoTime();
+                            try (PreparedStatement statement =
+                                    connection.prepareStatement(
+                                            sql, Statement.RETURN_GENERATED_KEYS)) {
+                                for (int i = 0; i < ROW_COUNT; i++) {
+                                    binder.bind(statement, i);
+                                    statement.executeUpdate();
+                                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                                        keys.next();
+                                        keys.getLong(1);
+                                    }
+                                }
+                            }
+                            elapsedNanos[0] = System.nanoTime() - start;
+                        });
+
+        return new Result(comInsert() - insertsBefore, elapsedNanos[0]);
+    }
+
+    private <T> Result insertBatched(JpaRepository<T, Long> repository, IntFunction<T> factory) {
+        List<T> entities = create(factory);
+        long insertsBefore = comInsert();
+        long start = System.nanoTime();
+
+        repository.saveAll(entities);
+        entityManager.flush();
+
+        long elapsedNanos = System.nanoTime() - start;
+        Result result = new Result(comInsert() - insertsBefore, elapsedNanos);
+        entityManager.clear();
+        return result;
+    }
+
+    private <T> List<T> create(IntFunction<T> factory) {
+        List<T> entities = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            entities.add(factory.apply(i));
+        }
+        return entities;
+    }
+
+    private long comInsert() {
+        Object[] row =
+                (Object[])
+                        entityManager
+                                .createNativeQuery("SHOW SESSION STATUS LIKE 'Com_insert'")
+                                .getSingleResult();
+        return Long.parseLong(row[1].toString());
+    }
+
+    private void bindCartItem(PreparedStatement statement, int index) throws SQLException {
+        statement.setLong(1, 1L);
+        statement.setLong(2, 1_000L + index);
+        statement.setLong(3, 100L + index);
+        statement.setLong(4, 10L);
+        statement.setLong(5, 1L);
+        statement.setInt(6, 1);
+        statement.setBigDecimal(7, BigDecimal.valueOf(10_000));
+        statement.setBoolean(8, true);
+        statement.setTimestamp(9, Timestamp.from(NOW));
+    }
+
+    private void bindDiscountUsageHistory(PreparedStatement statement, int index)
+            throws SQLException {
+        statement.setLong(1, 1L);
+        statement.setString(2, UUID.randomUUID().toString());
+        statement.setString(3, UUID.randomUUID().toString());
+        statement.setString(4, UUID.randomUUID().toString());
+        statement.setLong(5, 1_000L);
+        statement.setLong(6, 10_000L + index);
+        statement.setBigDecimal(7, new BigDecimal("100.00"));
+        statement.setBigDecimal(8, BigDecimal.ZERO);
+        statement.setLong(9, 1_000L);
+        statement.setLong(10, 0L);
+        statement.setTimestamp(11, Timestamp.from(NOW));
+        statement.setTimestamp(12, Timestamp.from(NOW));
+        statement.setTimestamp(13, Timestamp.from(NOW));
+    }
+
+    private CartItemJpaEntity cartItem(int index) {
+        return CartItemJpaEntity.of(
+                null,
+                1L,
+                1_000L + index,
+                100L + index,
+                10L,
+                1L,
+                1,
+                BigDecimal.valueOf(10_000),
+                true,
+                NOW,
+                null);
+    }
+
+    private DiscountUsageHistoryJpaEntity discountUsageHistory(int index) {
+        return DiscountUsageHistoryJpaEntity.of(
+                null,
+                1L,
+                UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(),
+                1_000L,
+                10_000L + index,
+                new BigDecimal("100.00"),
+                BigDecimal.ZERO,
+                1_000L,
+                0L,
+                NOW,
+                NOW,
+                NOW);
+    }
+
+    private void report(String table, Result identity, Result batched) {
+        log.info(
+                "[Benchmark] {} x{} identity: inserts={}, {}ms / pooled batch: inserts={}, {}ms",
+                table,
+                ROW_COUNT,
+                identity.insertStatements(),
+                String.format("%.1f", identity.elapsedNanos() / 1_000_000.0),
+                batched.insertStatements(),
+                String.format("%.1f", batched.elapsedNanos() / 1_000_000.0));
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement statement, int index) throws SQLException;
+    }
+
+    private record Result(long insertStatements, long elapsedNanos) {}
+}
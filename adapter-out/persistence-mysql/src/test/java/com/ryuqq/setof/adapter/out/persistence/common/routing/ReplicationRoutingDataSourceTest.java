@@ -0,0 +1,244 @@
+package com.ryuqq.setof.adapter.out.persistence.common.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.setof.application.common.component.ParallelQueryExecutor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * ReplicationRoutingDataSource 통합 테스트
+ *
+ * <p>MySQL 컨테이너 하나에 primary/replica 두 데이터베이스를 만들고, 각 데이터베이스의 {@code routing_marker} 값으로 실제
+ * 커넥션이 어느 풀에서 나왔는지 확인합니다.
+ *
+ * <p>테스트 시나리오:
+ *
+ * <ul>
+ *   <li>트랜잭션 밖 일반 호출 → Primary, QueryAdapter 호출 → Replica
+ *   <li>읽기 전용 트랜잭션 → Replica, 쓰기 트랜잭션 → Primary
+ *   <li>쓰기 커밋 후 같은 회원의 조회 → 고정 시간 동안 Primary
+ *   <li>쓰기 커밋 후 같은 회원의 병렬 조회(ParallelQueryExecutor) → Primary
+ *   <li>롤백, 다른 회원, 고정 시간 경과 → Replica
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("ReplicationRoutingDataSource 통합 테스트")
+@Testcontainers
+class ReplicationRoutingDataSourceTest {
+
+    @Container
+    static MySQLContainer<?> mysql =
+            new MySQLContainer<>("mysql:8.0").withDatabaseName("primary_db").withUsername("root");
+
+    private static final String MEMBER_ID = "01936f2a-0000-7000-8000-000000000001";
+    private static final Duration WINDOW = Duration.ofMillis(500);
+
+    private static HikariDataSource primary;
+    private static HikariDataSource replica;
+
+    private MeterRegistry meterRegistry;
+    private ReplicationRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeAll
+    static void setUpDatabases() {
+        primary = pool("HikariPool-Primary", mysql.getJdbcUrl());
+        JdbcTemplate primaryJdbc = new JdbcTemplate(primary);
+        primaryJdbc.execute("CREATE DATABASE replica_db");
+        primaryJdbc.execute("CREATE TABLE routing_marker (name VARCHAR(20))");
+        primaryJdbc.update("INSERT INTO routing_marker VALUES ('primary')");
+
+        String replicaUrl = mysql.getJdbcUrl().replace("/primary_db", "/replica_db");
+        replica = pool("HikariPool-Replica", replicaUrl);
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("CREATE TABLE routing_marker (name VARCHAR(20))");
+        replicaJdbc.update("INSERT INTO routing_marker VALUES ('replica')");
+    }
+
+    @AfterAll
+    static void closePools() {
+        replica.close();
+        primary.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+
+        routingDataSource =
+                new ReplicationRoutingDataSource(
+                        primary,
+                        replica,
+                        new ReadYourWritesTracker(WINDOW, "memberId"),
+                        beanFactory.getBeanProvider(MeterRegistry.class));
+        jdbcTemplate = new JdbcTemplate(routingDataSource);
+
+        DataSourceTransactionManager transactionManager =
+                new DataSourceTransactionManager(routingDataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 속성 기반 라우팅")
+    class TransactionRouting {
+
+        @Test
+        @DisplayName("트랜잭션 밖 일반 호출은 Primary를 사용한다")
+        void shouldUsePrimaryWithoutTransaction() {
+            assertThat(currentMarker()).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("읽기 전용 트랜잭션은 Replica를 사용한다")
+        void shouldUseReplicaForReadOnlyTransaction() {
+            assertThat(readOnlyTransaction.execute(status -> currentMarker())).isEqualTo("replica");
+            assertThat(routingCount("replica", "read_only_transaction")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("쓰기 트랜잭션은 Primary를 사용한다")
+        void shouldUsePrimaryForWriteTransaction() {
+            assertThat(writeTransaction.execute(status -> currentMarker())).isEqualTo("primary");
+            assertThat(routingCount("primary", "write_transaction")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("트랜잭션 밖 QueryAdapter 호출은 Replica를 사용한다")
+        void shouldUseReplicaForQueryAdapterCall() {
+            ReadRoutingHint.enter();
+            try {
+                assertThat(currentMarker()).isEqualTo("replica");
+            } finally {
+                ReadRoutingHint.exit();
+            }
+            assertThat(currentMarker()).isEqualTo("primary");
+        }
+    }
+
+    @Nested
+    @DisplayName("read-your-writes")
+    class ReadYourWrites {
+
+        @Test
+        @DisplayName("쓰기를 커밋한 회원의 조회는 고정 시간 동안 Primary를 사용한다")
+        void shouldPinWriterToPrimary() {
+            MDC.put("memberId", MEMBER_ID);
+            writeTransaction.executeWithoutResult(status -> currentMarker());
+
+            assertThat(readOnlyTransaction.execute(status -> currentMarker())).isEqualTo("primary");
+            assertThat(routingCount("primary", "read_your_writes")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("쓰기를 커밋한 회원의 병렬 조회도 Primary를 사용한다")
+        void shouldPinWriterForParallelRead() {
+            MDC.put("memberId", MEMBER_ID);
+            writeTransaction.executeWithoutResult(status -> currentMarker());
+
+            ParallelQueryExecutor parallelQueryExecutor = new ParallelQueryExecutor(2);
+            try {
+                String marker =
+                        parallelQueryExecutor.join(
+                                parallelQueryExecutor
+                                        .openScope()
+                                        .submit(
+                                                () ->
+                                                        readOnlyTransaction.execute(
+                                                                status -> currentMarker())));
+
+                assertThat(marker).isEqualTo("primary");
+                assertThat(routingCount("primary", "read_your_writes")).isEqualTo(1.0);
+            } finally {
+                parallelQueryExecutor.destroy();
+            }
+        }
+
+        @Test
+        @DisplayName("다른 회원의 조회는 Replica를 사용한다")
+        void shouldNotPinOtherMember() {
+            MDC.put("memberId", MEMBER_ID);
+            writeTransaction.executeWithoutResult(status -> currentMarker());
+
+            MDC.put("memberId", "other-member");
+            assertThat(readOnlyTransaction.execute(status -> currentMarker())).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("롤백된 쓰기는 Primary 고정을 남기지 않는다")
+        void shouldNotPinAfterRollback() {
+            MDC.put("memberId", MEMBER_ID);
+            writeTransaction.executeWithoutResult(
+                    status -> {
+                        currentMarker();
+                        status.setRollbackOnly();
+                    });
+
+            assertThat(readOnlyTransaction.execute(status -> currentMarker())).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("고정 시간이 지나면 다시 Replica를 사용한다")
+        void shouldReleasePinAfterWindow() throws InterruptedException {
+            MDC.put("memberId", MEMBER_ID);
+            writeTransaction.executeWithoutResult(status -> currentMarker());
+
+            Thread.sleep(WINDOW.toMillis() + 100);
+
+            assertThat(readOnlyTransaction.execute(status -> currentMarker())).isEqualTo("replica");
+        }
+    }
+
+    private String currentMarker() {
+        return jdbcTemplate.queryForObject("SELECT name FROM routing_marker", String.class);
+    }
+
+    private double routingCount(String target, String reason) {
+        return meterRegistry
+                .get("datasource.routing")
+                .tag("target", target)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    private static HikariDataSource pool(String poolName, String jdbcUrl) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(jdbcUrl);
+        dataSource.setUsername(mysql.getUsername());
+        dataSource.setPassword(mysql.getPassword());
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+}
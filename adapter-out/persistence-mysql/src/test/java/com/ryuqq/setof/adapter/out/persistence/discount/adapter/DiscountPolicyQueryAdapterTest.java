@@ -37,6 +37,8 @@ class DiscountPolicyQueryAdapterTest extends RepositoryTestSupport {
     private static final Instant FIXED_TIME = Instant.parse("2025-01-01T00:00:00Z");
     private static final Instant FUTURE_TIME = Instant.parse("2025-12-31T23:59:59Z");
     private static final Instant PAST_TIME = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant UPCOMING_START_TIME = Instant.parse("2099-01-01T00:00:00Z");
+    private static final Instant UPCOMING_END_TIME = Instant.parse("2099-12-31T23:59:59Z");
     private static final Long TEST_SELLER_ID = 100L;
     private static final Long OTHER_SELLER_ID = 200L;
 
@@ -233,6 +235,56 @@ class DiscountPolicyQueryAdapterTest extends RepositoryTestSupport {
         }
     }
 
+    @Nested
+    @DisplayName("findValidPoliciesBySellerIds 메서드")
+    class FindValidPoliciesBySellerIds {
+
+        @Test
+        @DisplayName("성공 - 여러 셀러의 현재 유효한 정책만 한 번에 조회한다")
+        void findValidPoliciesBySellerIds_returnsOnlyValidPolicies() {
+            // Given
+            persistAll(
+                    createActiveRateDiscountEntity(), // 유효
+                    createInactiveRateDiscountEntity(), // 비활성
+                    createExpiredEntity()); // 만료
+            flushAndClear();
+
+            // When
+            List<DiscountPolicy> result =
+                    discountPolicyQueryAdapter.findValidPoliciesBySellerIds(
+                            List.of(TEST_SELLER_ID, TEST_SELLER_ID + 1));
+
+            // Then
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getSellerId()).isEqualTo(TEST_SELLER_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("findUnexpiredPoliciesBySellerIds 메서드")
+    class FindUnexpiredPoliciesBySellerIds {
+
+        @Test
+        @DisplayName("성공 - 시작 전 정책은 포함하고 만료/비활성 정책은 제외한다")
+        void findUnexpiredPoliciesBySellerIds_includesUpcomingPolicies() {
+            // Given
+            persistAll(
+                    createUpcomingEntity(), // 시작 전
+                    createInactiveRateDiscountEntity(), // 비활성
+                    createExpiredEntity()); // 만료
+            flushAndClear();
+
+            // When
+            List<DiscountPolicy> result =
+                    discountPolicyQueryAdapter.findUnexpiredPoliciesBySellerIds(
+                            List.of(TEST_SELLER_ID));
+
+            // Then
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getPolicyNameValue()).isEqualTo("예정 할인");
+        }
+    }
+
     @Nested
     @DisplayName("countBySellerId 메서드")
     class CountBySellerId {
@@ -463,4 +515,30 @@ class DiscountPolicyQueryAdapterTest extends RepositoryTestSupport {
                 PAST_TIME,
                 null);
     }
+
+    private DiscountPolicyJpaEntity createUpcomingEntity() {
+        return DiscountPolicyJpaEntity.of(
+                null,
+                TEST_SELLER_ID,
+                "예정 할인",
+                DiscountGroupType.PRODUCT,
+                DiscountTypeEnum.RATE,
+                DiscountTargetTypeEnum.ALL,
+                null,
+                new BigDecimal("10"),
+                null,
+                10000L,
+                30000L,
+                UPCOMING_START_TIME,
+                UPCOMING_END_TIME,
+                1,
+                1000,
+                new BigDecimal("50"),
+                new BigDecimal("50"),
+                100,
+                true,
+                FIXED_TIME,
+                FIXED_TIME,
+                null);
+    }
 }
@@ -0,0 +1,218 @@
+package com.ryuqq.setof.adapter.out.persistence.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.ryuqq.setof.adapter.out.persistence.common.RepositoryTestSupport;
+import com.ryuqq.setof.application.common.component.ParallelQueryExecutor;
+import com.ryuqq.setof.application.common.port.out.StockCounterQueryPort;
+import com.ryuqq.setof.application.product.assembler.ProductGroupAssembler;
+import com.ryuqq.setof.application.product.dto.response.FullProductResponse;
+import com.ryuqq.setof.application.product.facade.ProductQueryFacade;
+import com.ryuqq.setof.application.product.manager.command.FullProductCacheManager;
+import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
+import com.ryuqq.setof.application.product.manager.query.ProductSkuReadManager;
+import com.ryuqq.setof.application.product.port.out.cache.FullProductCachePort;
+import com.ryuqq.setof.application.product.port.out.command.ProductGroupPersistencePort;
+import com.ryuqq.setof.application.product.port.out.command.ProductPersistencePort;
+import com.ryuqq.setof.application.product.port.out.query.ProductGroupQueryPort;
+import com.ryuqq.setof.application.product.port.out.query.ProductSkuQueryPort;
+import com.ryuqq.setof.application.productdescription.assembler.ProductDescriptionAssembler;
+import com.ryuqq.setof.application.productdescription.manager.query.ProductDescriptionReadManager;
+import com.ryuqq.setof.application.productdescription.port.out.query.ProductDescriptionQueryPort;
+import com.ryuqq.setof.application.productimage.assembler.ProductImageAssembler;
+import com.ryuqq.setof.application.productimage.manager.query.ProductImageReadManager;
+import com.ryuqq.setof.application.productimage.port.out.command.ProductImagePersistencePort;
+import com.ryuqq.setof.application.productimage.port.out.query.ProductImageQueryPort;
+import com.ryuqq.setof.application.productnotice.assembler.ProductNoticeAssembler;
+import com.ryuqq.setof.application.productnotice.manager.query.ProductNoticeReadManager;
+import com.ryuqq.setof.application.productnotice.port.out.query.ProductNoticeQueryPort;
+import com.ryuqq.setof.application.productstock.assembler.ProductStockAssembler;
+import com.ryuqq.setof.application.productstock.manager.query.ProductStockCacheReadManager;
+import com.ryuqq.setof.application.productstock.manager.query.ProductStockReadManager;
+import com.ryuqq.setof.application.productstock.port.out.command.ProductStockPersistencePort;
+import com.ryuqq.setof.application.productstock.port.out.query.ProductStockQueryPort;
+import com.ryuqq.setof.domain.product.ProductFixture;
+import com.ryuqq.setof.domain.product.ProductGroupFixture;
+import com.ryuqq.setof.domain.product.aggregate.Product;
+import com.ryuqq.setof.domain.product.vo.ProductGroupId;
+import com.ryuqq.setof.domain.product.vo.ProductId;
+import com.ryuqq.setof.domain.productimage.ProductImageFixture;
+import com.ryuqq.setof.domain.productimage.vo.ImageType;
+import com.ryuqq.setof.domain.productstock.ProductStockFixture;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 상세 로딩 모드 벤치마크
+ *
+ * <p>실제 MySQL(Testcontainers)에 상품그룹/SKU/이미지/재고를 적재하고, 실제 Query Adapter와 ReadManager로 구성한
+ * {@link ProductQueryFacade#getFullProduct(Long)}의 순차 로딩과 병렬 로딩 p50/p99 지연시간을 비교합니다. 전체 상품 캐시는
+ * 비활성화하고 Redis 재고 카운터는 빈 결과를 반환하도록 두어 매 호출이 DB 조회 경로를 타게 합니다.
+ *
+ * <p>병렬 로딩은 작업 스레드가 각자 커넥션으로 조회하므로, 적재 데이터가 보이도록 테스트 트랜잭션을 사용하지 않고 종료 시 직접
+ * 삭제합니다.
+ *
+ * <p>{@code benchmark} 태그는 루트 build.gradle에서 기본 test 태스크에서 제외됩니다.
+ */
+@Tag("benchmark")
+@DisplayName("상품 상세 로딩 모드 벤치마크")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductDetailLoadingBenchmarkTest extends RepositoryTestSupport {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ProductDetailLoadingBenchmarkTest.class);
+
+    private static final int SKU_COUNT = 10;
+    private static final int IMAGE_COUNT = 5;
+    private static final int WARMUP_ITERATIONS = 30;
+    private static final int MEASURE_ITERATIONS = 200;
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Autowired private ProductGroupQueryPort productGroupQueryPort;
+    @Autowired private ProductSkuQueryPort productSkuQueryPort;
+    @Autowired private ProductImageQueryPort productImageQueryPort;
+    @Autowired private ProductDescriptionQueryPort productDescriptionQueryPort;
+    @Autowired private ProductNoticeQueryPort productNoticeQueryPort;
+    @Autowired private ProductStockQueryPort productStockQueryPort;
+
+    @Autowired private ProductGroupPersistencePort productGroupPersistencePort;
+    @Autowired private ProductPersistencePort productPersistencePort;
+    @Autowired private ProductImagePersistencePort productImagePersistencePort;
+    @Autowired private ProductStockPersistencePort productStockPersistencePort;
+
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private ParallelQueryExecutor parallelQueryExecutor;
+    private Long productGroupId;
+
+    @BeforeEach
+    void setUp() {
+        parallelQueryExecutor = new ParallelQueryExecutor(4);
+
+        ProductGroupId groupId =
+                productGroupPersistencePort.persist(ProductGroupFixture.createNew());
+        productGroupId = groupId.value();
+
+        List<Product> skus = new ArrayList<>(SKU_COUNT);
+        for (int i = 0; i < SKU_COUNT; i++) {
+            skus.add(ProductFixture.createNewSingle(groupId));
+        }
+        for (ProductId productId : productPersistencePort.persistAll(skus)) {
+            productStockPersistencePort.save(
+                    ProductStockFixture.createNew(productId.value(), 50, NOW));
+        }
+        for (int i = 0; i < IMAGE_COUNT; i++) {
+            productImagePersistencePort.save(
+                    ProductImageFixture.builder()
+                            .productGroupId(productGroupId)
+                            .imageType(i == 0 ? ImageType.MAIN : ImageType.SUB)
+                            .displayOrder(i)
+                            .buildNew());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelQueryExecutor.destroy();
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    entityManager
+                            .createNativeQuery(
+                                    "DELETE FROM product_stocks WHERE product_id IN (SELECT id"
+                                            + " FROM products WHERE product_group_id = :id)")
+                            .setParameter("id", productGroupId)
+                            .executeUpdate();
+                    deleteByProductGroupId("products");
+                    deleteByProductGroupId("product_images");
+                    entityManager
+                            .createNativeQuery("DELETE FROM product_groups WHERE id = :id")
+                            .setParameter("id", productGroupId)
+                            .executeUpdate();
+                });
+    }
+
+    @Test
+    @DisplayName("병렬 로딩의 p50 지연시간이 순차 로딩보다 짧다")
+    void parallelLoadingShouldBeFasterThanSequential() {
+        ProductQueryFacade sequentialFacade = createFacade(false);
+        ProductQueryFacade parallelFacade = createFacade(true);
+        assertThat(parallelFacade.getFullProduct(productGroupId))
+                .isEqualTo(sequentialFacade.getFullProduct(productGroupId));
+
+        long[] sequential = measure(sequentialFacade);
+        long[] parallel = measure(parallelFacade);
+
+        log.info(
+                "[Benchmark] getFullProduct skus={}, images={} sequential p50={}ms p99={}ms /"
+                        + " parallel p50={}ms p99={}ms",
+                SKU_COUNT,
+                IMAGE_COUNT,
+                String.format("%.2f", percentileMillis(sequential, 50)),
+                String.format("%.2f", percentileMillis(sequential, 99)),
+                String.format("%.2f", percentileMillis(parallel, 50)),
+                String.format("%.2f", percentileMillis(parallel, 99)));
+
+        assertThat(percentileMillis(parallel, 50)).isLessThan(percentileMillis(sequential, 50));
+    }
+
+    private ProductQueryFacade createFacade(boolean parallelLoading) {
+        return new ProductQueryFacade(
+                new ProductGroupReadManager(productGroupQueryPort),
+                new ProductSkuReadManager(productSkuQueryPort),
+                new ProductImageReadManager(productImageQueryPort),
+                new ProductDescriptionReadManager(productDescriptionQueryPort),
+                new ProductNoticeReadManager(productNoticeQueryPort),
+                new ProductStockReadManager(productStockQueryPort),
+                new ProductStockCacheReadManager(mock(StockCounterQueryPort.class)),
+                new FullProductCacheManager(mock(FullProductCachePort.class), false),
+                new ProductGroupAssembler(),
+                new ProductImageAssembler(),
+                new ProductDescriptionAssembler(),
+                new ProductNoticeAssembler(),
+                new ProductStockAssembler(),
+                parallelQueryExecutor,
+                parallelLoading);
+    }
+
+    private long[] measure(ProductQueryFacade facade) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            facade.getFullProduct(productGroupId);
+        }
+
+        long[] elapsedNanos = new long[MEASURE_ITERATIONS];
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            FullProductResponse response = facade.getFullProduct(productGroupId);
+            elapsedNanos[i] = System.nanoTime() - start;
+            assertThat(response).isNotNull();
+        }
+        Arrays.sort(elapsedNanos);
+        return elapsedNanos;
+    }
+
+    private double percentileMillis(long[] sortedNanos, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private void deleteByProductGroupId(String table) {
+        entityManager
+                .createNativeQuery("DELETE FROM " + table + " WHERE product_group_id = :id")
+                .setParameter("id", productGroupId)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,107 @@
+package com.ryuqq.setof.adapter.out.persistence.product.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.setof.adapter.out.persistence.common.JpaSliceTestSupport;
+import com.ryuqq.setof.adapter.out.persistence.product.entity.ProductGroupJpaEntity;
+import java.math.BigDecimal;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+/**
+ * ProductQueryDslRepository Slice 테스트
+ *
+ * <p>상한 개수 집계가 목록/총 개수 조회와 같은 조건으로 동작하는지 검증합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("ProductQueryDslRepository Slice 테스트")
+@Import(ProductQueryDslRepository.class)
+class ProductQueryDslRepositoryTest extends JpaSliceTestSupport {
+
+    @Autowired private ProductQueryDslRepository productQueryDslRepository;
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        persistAndFlush(productGroup(1L, 10L, "Summer 100% Cotton", "ACTIVE", null));
+        persistAndFlush(productGroup(1L, 10L, "summer_linen shirt", "ACTIVE", null));
+        persistAndFlush(productGroup(1L, 20L, "Winter Coat", "INACTIVE", null));
+        persistAndFlush(productGroup(2L, 10L, "Summer Hat", "ACTIVE", null));
+        persistAndFlush(productGroup(1L, 10L, "Summer Deleted", "ACTIVE", NOW));
+        flushAndClear();
+    }
+
+    @Nested
+    @DisplayName("countByConditionsUpTo 메서드")
+    class CountByConditionsUpTo {
+
+        @Test
+        @DisplayName("성공 - 상한보다 적으면 countByConditions와 같은 개수를 반환한다")
+        void countByConditionsUpTo_belowLimit_matchesCountByConditions() {
+            assertParity(null, null, null, null, null);
+            assertParity(1L, null, null, null, null);
+            assertParity(null, 10L, null, null, "ACTIVE");
+            assertParity(null, null, null, "summer", null);
+            assertParity(null, null, null, "100%", null);
+            assertParity(null, null, null, "_linen", null);
+            assertParity(1L, 20L, null, "coat", "INACTIVE");
+        }
+
+        @Test
+        @DisplayName("성공 - 상한을 넘으면 상한 개수를 반환한다")
+        void countByConditionsUpTo_aboveLimit_returnsMaxCount() {
+            // Given
+            long total =
+                    productQueryDslRepository.countByConditions(null, null, null, "summer", null);
+
+            // When
+            long result =
+                    productQueryDslRepository.countByConditionsUpTo(
+                            null, null, null, "summer", null, 2);
+
+            // Then
+            assertThat(total).isEqualTo(3);
+            assertThat(result).isEqualTo(2);
+        }
+    }
+
+    private void assertParity(
+            Long sellerId, Long categoryId, Long brandId, String name, String status) {
+        long expected =
+                productQueryDslRepository.countByConditions(
+                        sellerId, categoryId, brandId, name, status);
+
+        long result =
+                productQueryDslRepository.countByConditionsUpTo(
+                        sellerId, categoryId, brandId, name, status, 100);
+
+        assertThat(result).isEqualTo(expected);
+    }
+
+    private ProductGroupJpaEntity productGroup(
+            Long sellerId, Long categoryId, String name, String status, Instant deletedAt) {
+        return ProductGroupJpaEntity.of(
+                null,
+                sellerId,
+                categoryId,
+                1L,
+                name,
+                "SINGLE",
+                BigDecimal.valueOf(10_000),
+                BigDecimal.valueOf(9_000),
+                status,
+                1L,
+                1L,
+                NOW,
+                NOW,
+                deletedAt);
+    }
+}
@@ -0,0 +1,102 @@
+package com.ryuqq.setof.adapter.out.persistence.productstock.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.setof.adapter.out.persistence.common.JpaSliceTestSupport;
+import com.ryuqq.setof.adapter.out.persistence.productstock.entity.ProductStockJpaEntity;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+/**
+ * ProductStockCommandRepository Slice 테스트
+ *
+ * <p>기대 수량 기반 조건부 일괄 업데이트 쿼리를 검증합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("ProductStockCommandRepository Slice 테스트")
+@Import(ProductStockCommandRepository.class)
+class ProductStockCommandRepositoryTest extends JpaSliceTestSupport {
+
+    @Autowired private ProductStockCommandRepository productStockCommandRepository;
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Instant LATER = Instant.parse("2025-01-01T00:05:00Z");
+
+    private ProductStockJpaEntity first;
+    private ProductStockJpaEntity second;
+    private ProductStockJpaEntity third;
+
+    @BeforeEach
+    void setUp() {
+        first = persistAndFlush(ProductStockJpaEntity.of(null, 100L, 10, 0L, NOW, NOW));
+        second = persistAndFlush(ProductStockJpaEntity.of(null, 200L, 5, 0L, NOW, NOW));
+        third = persistAndFlush(ProductStockJpaEntity.of(null, 300L, 8, 0L, NOW, NOW));
+        flushAndClear();
+    }
+
+    @Nested
+    @DisplayName("updateQuantities 메서드")
+    class UpdateQuantities {
+
+        @Test
+        @DisplayName("성공 - 기대 수량과 일치하는 행만 새 수량으로 바꾸고 버전을 올린다")
+        void updateQuantities_matchingExpected_updatesRows() {
+            // When
+            long updated =
+                    productStockCommandRepository.updateQuantities(
+                            Map.of(first.getId(), 7, second.getId(), 3),
+                            Map.of(first.getId(), 10, second.getId(), 5),
+                            LATER);
+            flushAndClear();
+
+            // Then
+            assertThat(updated).isEqualTo(2);
+            ProductStockJpaEntity foundFirst = find(ProductStockJpaEntity.class, first.getId());
+            assertThat(foundFirst.getQuantity()).isEqualTo(7);
+            assertThat(foundFirst.getVersion()).isEqualTo(1L);
+            assertThat(foundFirst.getUpdatedAt()).isEqualTo(LATER);
+            assertThat(find(ProductStockJpaEntity.class, second.getId()).getQuantity())
+                    .isEqualTo(3);
+            assertThat(find(ProductStockJpaEntity.class, third.getId()).getQuantity())
+                    .isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("성공 - 읽은 뒤 수량이 바뀐 행은 덮어쓰지 않는다")
+        void updateQuantities_changedAfterRead_skipsRow() {
+            // When - second를 4로 읽은 뒤 다른 트랜잭션이 5로 바꾼 상황
+            long updated =
+                    productStockCommandRepository.updateQuantities(
+                            Map.of(first.getId(), 7, second.getId(), 3),
+                            Map.of(first.getId(), 10, second.getId(), 4),
+                            LATER);
+            flushAndClear();
+
+            // Then
+            assertThat(updated).isEqualTo(1);
+            ProductStockJpaEntity foundSecond = find(ProductStockJpaEntity.class, second.getId());
+            assertThat(foundSecond.getQuantity()).isEqualTo(5);
+            assertThat(foundSecond.getVersion()).isZero();
+        }
+
+        @Test
+        @DisplayName("성공 - 기대 수량이 없는 행만 있으면 아무것도 바꾸지 않는다")
+        void updateQuantities_withoutExpected_returnsZero() {
+            // When
+            long updated =
+                    productStockCommandRepository.updateQuantities(
+                            Map.of(first.getId(), 7), Map.of(), LATER);
+
+            // Then
+            assertThat(updated).isZero();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.ryuqq.setof.adapter.out.persistence.productstock.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.setof.adapter.out.persistence.common.JpaSliceTestSupport;
+import com.ryuqq.setof.adapter.out.persistence.productstock.entity.ProductStockJpaEntity;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+/**
+ * ProductStockQueryDslRepository Slice 테스트
+ *
+ * <p>재고 일괄 조회, 커서 순차 조회 쿼리를 검증합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("ProductStockQueryDslRepository Slice 테스트")
+@Import(ProductStockQueryDslRepository.class)
+class ProductStockQueryDslRepositoryTest extends JpaSliceTestSupport {
+
+    @Autowired private ProductStockQueryDslRepository productStockQueryDslRepository;
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private ProductStockJpaEntity first;
+    private ProductStockJpaEntity second;
+    private ProductStockJpaEntity third;
+
+    @BeforeEach
+    void setUp() {
+        first = persistAndFlush(ProductStockJpaEntity.of(null, 100L, 10, 0L, NOW, NOW));
+        second = persistAndFlush(ProductStockJpaEntity.of(null, 200L, 5, 0L, NOW, NOW));
+        third = persistAndFlush(ProductStockJpaEntity.of(null, 300L, 8, 0L, NOW, NOW));
+        flushAndClear();
+    }
+
+    @Nested
+    @DisplayName("findByIds 메서드")
+    class FindByIds {
+
+        @Test
+        @DisplayName("성공 - 재고 ID 목록으로 한 번에 조회한다")
+        void findByIds_existingIds_returnsStocks() {
+            // When
+            List<ProductStockJpaEntity> result =
+                    productStockQueryDslRepository.findByIds(
+                            List.of(first.getId(), third.getId(), 9999L));
+
+            // Then
+            assertThat(result)
+                    .extracting(ProductStockJpaEntity::getProductId)
+                    .containsExactlyInAnyOrder(100L, 300L);
+        }
+    }
+
+    @Nested
+    @DisplayName("findByIdGreaterThan 메서드")
+    class FindByIdGreaterThan {
+
+        @Test
+        @DisplayName("성공 - 커서가 없으면 처음부터 ID 오름차순으로 size만큼 조회한다")
+        void findByIdGreaterThan_nullCursor_returnsFirstPage() {
+            // When
+            List<ProductStockJpaEntity> result =
+                    productStockQueryDslRepository.findByIdGreaterThan(null, 2);
+
+            // Then
+            assertThat(result)
+                    .extracting(ProductStockJpaEntity::getId)
+                    .containsExactly(first.getId(), second.getId());
+        }
+
+        @Test
+        @DisplayName("성공 - 커서 다음 ID부터 조회한다")
+        void findByIdGreaterThan_withCursor_returnsNextPage() {
+            // When
+            List<ProductStockJpaEntity> result =
+                    productStockQueryDslRepository.findByIdGreaterThan(second.getId(), 2);
+
+            // Then
+            assertThat(result)
+                    .extracting(ProductStockJpaEntity::getId)
+                    .containsExactly(third.getId());
+        }
+    }
+}
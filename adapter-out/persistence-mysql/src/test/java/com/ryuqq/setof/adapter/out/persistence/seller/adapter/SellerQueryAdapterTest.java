@@ -0,0 +1,122 @@
+package com.ryuqq.setof.adapter.out.persistence.seller.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.setof.adapter.out.persistence.common.RepositoryTestSupport;
+import com.ryuqq.setof.adapter.out.persistence.seller.entity.SellerCsInfoJpaEntity;
+import com.ryuqq.setof.adapter.out.persistence.seller.entity.SellerJpaEntity;
+import com.ryuqq.setof.domain.seller.aggregate.Seller;
+import com.ryuqq.setof.domain.seller.vo.SellerId;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * SellerQueryAdapter 통합 테스트
+ *
+ * <p>SellerQueryPort 구현체의 일괄 조회 기능을 검증합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("SellerQueryAdapter 통합 테스트")
+class SellerQueryAdapterTest extends RepositoryTestSupport {
+
+    @Autowired private SellerQueryAdapter sellerQueryAdapter;
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Nested
+    @DisplayName("findByIds 메서드")
+    class FindByIds {
+
+        private SellerJpaEntity withCsInfo;
+        private SellerJpaEntity withoutCsInfo;
+        private SellerJpaEntity deleted;
+
+        @BeforeEach
+        void setUp() {
+            withCsInfo = persistAndFlush(createSellerEntity("CS 셀러", null));
+            withoutCsInfo = persistAndFlush(createSellerEntity("일반 셀러", null));
+            deleted = persistAndFlush(createSellerEntity("삭제 셀러", NOW));
+            persistAndFlush(
+                    SellerCsInfoJpaEntity.of(
+                            null,
+                            withCsInfo.getId(),
+                            "cs@example.com",
+                            "01012345678",
+                            null,
+                            NOW,
+                            NOW));
+            flushAndClear();
+        }
+
+        @Test
+        @DisplayName("성공 - 셀러와 CS 정보를 한 번에 조회해 매핑한다")
+        void findByIds_existingIds_returnsSellersWithCsInfo() {
+            // When
+            List<Seller> result =
+                    sellerQueryAdapter.findByIds(
+                            List.of(
+                                    SellerId.of(withCsInfo.getId()),
+                                    SellerId.of(withoutCsInfo.getId())));
+
+            // Then
+            Map<Long, Seller> sellers =
+                    result.stream()
+                            .collect(Collectors.toMap(Seller::getIdValue, Function.identity()));
+            assertThat(sellers).containsOnlyKeys(withCsInfo.getId(), withoutCsInfo.getId());
+            assertThat(sellers.get(withCsInfo.getId()).getCsEmail()).isEqualTo("cs@example.com");
+            assertThat(sellers.get(withoutCsInfo.getId()).getCustomerServiceInfo()).isNull();
+        }
+
+        @Test
+        @DisplayName("성공 - 삭제된 셀러와 존재하지 않는 ID는 제외한다")
+        void findByIds_deletedOrMissing_excluded() {
+            // When
+            List<Seller> result =
+                    sellerQueryAdapter.findByIds(
+                            List.of(SellerId.of(deleted.getId()), SellerId.of(9999L)));
+
+            // Then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공 - 빈 ID 목록이면 조회 없이 빈 목록을 반환한다")
+        void findByIds_emptyIds_returnsEmpty() {
+            // When
+            List<Seller> result = sellerQueryAdapter.findByIds(List.of());
+
+            // Then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private SellerJpaEntity createSellerEntity(String sellerName, Instant deletedAt) {
+        return SellerJpaEntity.of(
+                null,
+                sellerName,
+                null,
+                null,
+                "APPROVED",
+                "123-45-67890",
+                null,
+                "홍길동",
+                "서울시 강남구 테헤란로 123",
+                null,
+                "06234",
+                NOW,
+                NOW,
+                deletedAt);
+    }
+}
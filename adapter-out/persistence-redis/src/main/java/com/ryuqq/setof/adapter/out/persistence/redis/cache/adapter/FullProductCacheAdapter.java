@@ -0,0 +1,156 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ryuqq.setof.application.common.port.out.CachePort;
+import com.ryuqq.setof.application.product.dto.response.FullProductResponse;
+import com.ryuqq.setof.application.product.port.out.cache.FullProductCachePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전체 상품 조회 응답 2단 캐시 Adapter
+ *
+ * <p>In-Process Near Cache(Caffeine, W-TinyLFU)를 Redis 앞단에 두어 인기 상품 상세 조회의 네트워크 왕복과 역직렬화 비용을
+ * 제거합니다.
+ *
+ * <p><strong>캐시 구조:</strong>
+ *
+ * <ul>
+ *   <li>L1 (Near Cache): productGroupId → {@link FullProductResponse}, 크기 제한 + 짧은 TTL
+ *   <li>L2 (Redis): cache:product:full:{productGroupId} → {@link CachePort}({@link
+ *       ObjectCacheAdapter})에 위임하여 공용 코덱/바이너리 포맷과 soft expiry로 저장
+ * </ul>
+ *
+ * <p><strong>무효화:</strong> Redis 키 삭제 후 {@value #INVALIDATION_CHANNEL} 채널로 productGroupId를 발행하여 다른
+ * 인스턴스의 Near Cache도 제거합니다 ({@code FullProductCacheInvalidationSubscriber}). 메시지 유실에 대비해 Near Cache
+ * TTL은 짧게 유지합니다.
+ *
+ * <p><strong>적재:</strong> {@link #getOrLoad(Long, Supplier)}는 Near Cache Miss 시 {@link
+ * CachePort#getOrLoad}로 Redis 조회와 DB 적재를 조정하여, 인기 상품 캐시가 만료된 순간의 동시 요청이 DB를 한 번만 조회하도록
+ * 합니다.
+ *
+ * <p><strong>메트릭:</strong> Near Cache의 hit/miss/eviction은 {@code cache.*{cache=product.full.near}}로
+ * Micrometer에 노출됩니다. MeterRegistry가 없는 애플리케이션에서는 등록하지 않습니다.
+ *
+ * <p><strong>금지 사항:</strong>
+ *
+ * <ul>
+ *   <li>비즈니스 로직 포함 금지
+ *   <li>@Transactional 금지
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class FullProductCacheAdapter implements FullProductCachePort {
+
+    /** Near Cache 무효화 Pub/Sub 채널 */
+    public static final String INVALIDATION_CHANNEL = "cache:product:full:invalidate";
+
+    private static final String KEY_PREFIX = "cache:product:full:";
+    private static final String NEAR_CACHE_NAME = "product.full.near";
+
+    private final CachePort<Object> cachePort;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<Long, FullProductResponse> nearCache;
+    private final Duration redisTtl;
+
+    public FullProductCacheAdapter(
+            CachePort<Object> cachePort,
+            RedisTemplate<String, Object> redisTemplate,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${product.query.cache.near.maximum-size:10000}") long nearMaximumSize,
+            @Value("${product.query.cache.near.ttl:30s}") Duration nearTtl,
+            @Value("${product.query.cache.redis.ttl:10m}") Duration redisTtl) {
+        this.cachePort = cachePort;
+        this.redisTemplate = redisTemplate;
+        this.redisTtl = redisTtl;
+        this.nearCache =
+                Caffeine.newBuilder()
+                        .maximumSize(nearMaximumSize)
+                        .expireAfterWrite(nearTtl)
+                        .recordStats()
+                        .build();
+        meterRegistryProvider.ifAvailable(
+                registry -> CaffeineCacheMetrics.monitor(registry, nearCache, NEAR_CACHE_NAME));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Near Cache에 없으면 Redis를 조회하고, Redis 적중 시 Near Cache에 적재합니다.
+     */
+    @Override
+    public Optional<FullProductResponse> get(Long productGroupId) {
+        FullProductResponse local = nearCache.getIfPresent(productGroupId);
+        if (local != null) {
+            return Optional.of(local);
+        }
+
+        Optional<FullProductResponse> cached =
+                cachePort.get(toKey(productGroupId), FullProductResponse.class);
+        cached.ifPresent(response -> nearCache.put(productGroupId, response));
+        return cached;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void set(Long productGroupId, FullProductResponse response) {
+        cachePort.set(toKey(productGroupId), response, redisTtl);
+        nearCache.put(productGroupId, response);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Near Cache에 없으면 {@link CachePort#getOrLoad}로 Redis 조회/적재를 조정하고, 결과를 Near Cache에 적재합니다.
+     */
+    @Override
+    public FullProductResponse getOrLoad(
+            Long productGroupId, Supplier<FullProductResponse> loader) {
+        FullProductResponse local = nearCache.getIfPresent(productGroupId);
+        if (local != null) {
+            return local;
+        }
+
+        FullProductResponse response =
+                cachePort.getOrLoad(
+                        toKey(productGroupId), FullProductResponse.class, redisTtl, loader);
+        if (response != null) {
+            nearCache.put(productGroupId, response);
+        }
+        return response;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evict(Long productGroupId) {
+        nearCache.invalidate(productGroupId);
+        cachePort.evict(toKey(productGroupId));
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(productGroupId));
+    }
+
+    /**
+     * 현재 인스턴스의 Near Cache만 무효화
+     *
+     * <p>다른 인스턴스에서 발행한 무효화 메시지를 수신했을 때 사용합니다.
+     *
+     * @param productGroupId 상품그룹 ID
+     */
+    public void evictLocal(Long productGroupId) {
+        nearCache.invalidate(productGroupId);
+    }
+
+    private String toKey(Long productGroupId) {
+        return KEY_PREFIX + productGroupId;
+    }
+}
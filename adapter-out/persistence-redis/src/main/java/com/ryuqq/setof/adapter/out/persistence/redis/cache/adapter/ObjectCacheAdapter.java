@@ -1,14 +1,26 @@
 package com.ryuqq.setof.adapter.out.persistence.redis.cache.adapter;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ryuqq.setof.adapter.out.persistence.redis.common.exception.CacheSerializationException;
+import com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.BinaryCacheSerializer;
+import com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.CacheCodec;
+import com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.CacheCodecRegistry;
+import com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.JsonCacheCodec;
+import com.ryuqq.setof.adapter.out.persistence.redis.cache.load.CacheEntry;
+import com.ryuqq.setof.adapter.out.persistence.redis.cache.load.CacheEntryStore;
+import com.ryuqq.setof.adapter.out.persistence.redis.cache.load.CacheLoadCoordinator;
+import com.ryuqq.setof.adapter.out.persistence.redis.cache.tag.CacheTagIndex;
+import com.ryuqq.setof.application.common.dto.CacheTag;
 import com.ryuqq.setof.application.common.port.out.CachePort;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
@@ -21,13 +33,20 @@ import org.springframework.stereotype.Component;
  *
  * <ul>
  *   <li>객체 캐시 저장/조회/무효화
- *   <li>JSON 직렬화/역직렬화 (Jackson)
+ *   <li>타입별 코덱 기반 바이너리 직렬화/역직렬화
  *   <li>TTL 관리
+ *   <li>태그 기반 무효화 ({@link CacheTagIndex})
+ *   <li>Single-Flight + Stale-While-Revalidate 적재 ({@link CacheLoadCoordinator})
  * </ul>
  *
  * <p><strong>직렬화 전략:</strong>
  *
- * <p>GenericJackson2JsonRedisSerializer 사용으로 @class 타입 정보를 포함합니다. 이를 통해 다형성 객체도 안전하게 역직렬화됩니다.
+ * <p>값 타입에 맞는 {@link CacheCodec}으로 인코딩하고 {@link BinaryCacheSerializer} 포맷(스키마 버전 + 선택적 LZ4 압축)으로
+ * 저장합니다. {@code CacheCodec} Bean이 없는 타입은 {@link JsonCacheCodec}을 사용합니다. 타입 지정 조회는 대상 타입 코덱으로
+ * 한 번만 디코딩하며, 저장된 타입/스키마 버전이 다르거나 이전 JSON 포맷으로 저장된 값은 Cache Miss로 처리합니다.
+ *
+ * <p><strong>캐시 이름:</strong> 메트릭의 cache 태그는 키에서 마지막 {@code ::} 앞부분입니다 (예: {@code
+ * cache::orders::123} → {@code cache::orders}, {@code ::}가 없으면 마지막 {@code :} 기준).
  *
  * <p><strong>사용 예시:</strong>
  *
@@ -48,14 +67,31 @@ public class ObjectCacheAdapter implements CachePort<Object> {
 
     private static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
     private static final int SCAN_COUNT = 100;
+    private static final String CACHE_NAME_SEPARATOR = "::";
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
     private final ObjectMapper objectMapper;
+    private final BinaryCacheSerializer serializer;
+    private final CacheTagIndex cacheTagIndex;
+    private final CacheLoadCoordinator cacheLoadCoordinator;
 
     public ObjectCacheAdapter(
-            RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
-        this.redisTemplate = redisTemplate;
+            RedisTemplate<String, byte[]> binaryRedisTemplate,
+            ObjectMapper objectMapper,
+            CacheTagIndex cacheTagIndex,
+            CacheLoadCoordinator cacheLoadCoordinator,
+            ObjectProvider<CacheCodec<?>> codecs,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${cache.codec.compression-threshold:1024}") int compressionThreshold) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
         this.objectMapper = objectMapper;
+        this.cacheTagIndex = cacheTagIndex;
+        this.cacheLoadCoordinator = cacheLoadCoordinator;
+        this.serializer =
+                new BinaryCacheSerializer(
+                        new CacheCodecRegistry(codecs.orderedStream().toList(), this::jsonCodec),
+                        compressionThreshold,
+                        meterRegistryProvider.getIfAvailable());
     }
 
     /**
@@ -71,46 +107,74 @@ public class ObjectCacheAdapter implements CachePort<Object> {
     /**
      * {@inheritDoc}
      *
-     * <p>객체를 JSON으로 직렬화하여 저장합니다.
+     * <p>값 타입의 코덱으로 인코딩하여 저장합니다.
      */
     @Override
     public void set(String key, Object value, Duration ttl) {
-        redisTemplate.opsForValue().set(key, value, ttl);
+        byte[] bytes = serializer.serialize(cacheName(key), value);
+        binaryRedisTemplate.opsForValue().set(key, bytes, ttl);
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>저장된 객체를 그대로 반환합니다. 타입 변환이 필요한 경우 {@link #get(String, Class)}를 사용하세요.
+     * <p>값 저장과 태그 등록을 하나의 Pipeline으로 전송합니다.
      */
     @Override
-    public Optional<Object> get(String key) {
-        Object value = redisTemplate.opsForValue().get(key);
-        return Optional.ofNullable(value);
+    public void set(String key, Object value, Duration ttl, Collection<CacheTag> tags) {
+        byte[] bytes = serializer.serialize(cacheName(key), value);
+        cacheTagIndex.setTagged(key, bytes, ttl, tags);
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>캐시된 객체를 지정된 타입으로 변환하여 반환합니다.
-     *
-     * @throws CacheSerializationException JSON 역직렬화 실패 시
+     * <p>저장 시 기록된 타입이 전용 코덱으로 등록되었거나 이 인스턴스에서 이미 사용한 타입일 때만 디코딩하고, 그 외에는 Cache Miss로
+     * 처리합니다. 타입을 알고 있다면 {@link #get(String, Class)}를 사용하세요.
      */
     @Override
-    public Optional<Object> get(String key, Class<Object> clazz) {
-        Object value = redisTemplate.opsForValue().get(key);
+    public Optional<Object> get(String key) {
+        byte[] bytes = binaryRedisTemplate.opsForValue().get(key);
+        if (bytes == null) {
+            return Optional.empty();
+        }
+        return serializer.deserialize(cacheName(key), bytes);
+    }
 
-        if (value == null) {
+    /**
+     * {@inheritDoc}
+     *
+     * <p>요청 타입의 코덱으로만 디코딩합니다. 저장된 타입이나 스키마 버전이 다르거나 디코딩에 실패하면 Cache Miss입니다.
+     */
+    @Override
+    public <V> Optional<V> get(String key, Class<V> type) {
+        byte[] bytes = binaryRedisTemplate.opsForValue().get(key);
+        if (bytes == null) {
             return Optional.empty();
         }
+        return serializer.deserialize(cacheName(key), bytes, type);
+    }
 
-        return Optional.of(convertToType(value, clazz));
+    /**
+     * {@inheritDoc}
+     *
+     * <p>soft expiry를 값 헤더에 기록하므로 stale 값도 한 번의 GET으로 판별합니다.
+     */
+    @Override
+    public <V> V getOrLoad(String key, Class<V> type, Duration ttl, Supplier<V> loader) {
+        return cacheLoadCoordinator.getOrLoad(key, ttl, loader, entryStore(type));
     }
 
     /** {@inheritDoc} */
     @Override
     public void evict(String key) {
-        redisTemplate.delete(key);
+        binaryRedisTemplate.delete(key);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evictByTag(CacheTag tag) {
+        cacheTagIndex.evict(tag);
     }
 
     /**
@@ -118,28 +182,29 @@ public class ObjectCacheAdapter implements CachePort<Object> {
      *
      * <p><strong>SCAN 기반 패턴 삭제:</strong>
      *
-     * <p>KEYS 명령어 대신 SCAN을 사용하여 블로킹 없이 안전하게 키를 삭제합니다.
+     * <p>KEYS 명령어 대신 SCAN을 사용하여 블로킹 없이 안전하게 키를 삭제합니다. 전체 키스페이스를 순회하므로 태그가 등록된 값은 {@link
+     * #evictByTag(CacheTag)}를 사용하세요.
      */
     @Override
     public void evictByPattern(String pattern) {
         Set<String> keysToDelete = scanKeys(pattern);
 
         if (!keysToDelete.isEmpty()) {
-            redisTemplate.delete(keysToDelete);
+            binaryRedisTemplate.delete(keysToDelete);
         }
     }
 
     /** {@inheritDoc} */
     @Override
     public boolean exists(String key) {
-        Boolean result = redisTemplate.hasKey(key);
+        Boolean result = binaryRedisTemplate.hasKey(key);
         return Boolean.TRUE.equals(result);
     }
 
     /** {@inheritDoc} */
     @Override
     public Duration getTtl(String key) {
-        Long ttlSeconds = redisTemplate.getExpire(key, TimeUnit.SECONDS);
+        Long ttlSeconds = binaryRedisTemplate.getExpire(key, TimeUnit.SECONDS);
 
         if (ttlSeconds == null || ttlSeconds < 0) {
             return null;
@@ -148,26 +213,6 @@ public class ObjectCacheAdapter implements CachePort<Object> {
         return Duration.ofSeconds(ttlSeconds);
     }
 
-    /**
-     * 지정된 타입으로 캐시 조회 (타입 안전)
-     *
-     * <p>CachePort의 제네릭 제약을 우회하기 위한 헬퍼 메서드입니다.
-     *
-     * @param key 캐시 키
-     * @param clazz 대상 타입
-     * @param <T> 대상 타입 파라미터
-     * @return Optional<T>
-     */
-    public <T> Optional<T> getAs(String key, Class<T> clazz) {
-        Object value = redisTemplate.opsForValue().get(key);
-
-        if (value == null) {
-            return Optional.empty();
-        }
-
-        return Optional.of(convertToType(value, clazz));
-    }
-
     /**
      * SCAN 기반 키 조회
      *
@@ -180,7 +225,7 @@ public class ObjectCacheAdapter implements CachePort<Object> {
         ScanOptions scanOptions =
                 ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
 
-        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+        try (Cursor<String> cursor = binaryRedisTemplate.scan(scanOptions)) {
             while (cursor.hasNext()) {
                 keys.add(cursor.next());
             }
@@ -190,27 +235,39 @@ public class ObjectCacheAdapter implements CachePort<Object> {
     }
 
     /**
-     * 객체를 지정된 타입으로 변환
+     * 캐시 키에서 캐시 이름 추출 (메트릭 태그)
      *
-     * @param value 원본 객체
-     * @param clazz 대상 타입
-     * @param <T> 대상 타입 파라미터
-     * @return 변환된 객체
-     * @throws CacheSerializationException 변환 실패 시
+     * @param key 캐시 키
+     * @return 마지막 구분자({@code ::}, 없으면 {@code :}) 앞부분 (구분자가 없으면 키 전체)
      */
-    private <T> T convertToType(Object value, Class<T> clazz) {
-        if (clazz.isInstance(value)) {
-            return clazz.cast(value);
+    private static String cacheName(String key) {
+        int index = key.lastIndexOf(CACHE_NAME_SEPARATOR);
+        if (index < 0) {
+            index = key.lastIndexOf(':');
         }
+        return index > 0 ? key.substring(0, index) : key;
+    }
 
-        try {
-            String json = objectMapper.writeValueAsString(value);
-            return objectMapper.readValue(json, clazz);
-        } catch (JsonProcessingException e) {
-            throw new CacheSerializationException(
-                    String.format(
-                            "캐시 역직렬화 실패: %s → %s", value.getClass().getName(), clazz.getName()),
-                    e);
-        }
+    private <V> CacheEntryStore<V> entryStore(Class<V> type) {
+        return new CacheEntryStore<>() {
+            @Override
+            public Optional<CacheEntry<V>> read(String key) {
+                byte[] bytes = binaryRedisTemplate.opsForValue().get(key);
+                if (bytes == null) {
+                    return Optional.empty();
+                }
+                return serializer.deserializeEntry(cacheName(key), bytes, type);
+            }
+
+            @Override
+            public void write(String key, V value, long freshUntilMillis, Duration ttl) {
+                byte[] bytes = serializer.serialize(cacheName(key), value, type, freshUntilMillis);
+                binaryRedisTemplate.opsForValue().set(key, bytes, ttl);
+            }
+        };
+    }
+
+    private CacheCodec<?> jsonCodec(Class<?> type) {
+        return new JsonCacheCodec<>(objectMapper, type);
     }
 }
@@ -0,0 +1,135 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.setof.adapter.out.persistence.redis.common.exception.CacheSerializationException;
+import com.ryuqq.setof.application.product.dto.bundle.ProductThumbnailSnapshot;
+import com.ryuqq.setof.application.product.port.out.cache.ProductThumbnailCachePort;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 썸네일 스냅샷 캐시 Adapter
+ *
+ * <p>목록 화면의 N건 조회를 1회 왕복으로 처리하기 위해 조회는 MGET, 저장은 Pipeline(SET EX)으로 수행합니다.
+ *
+ * <p><strong>캐시 구조:</strong> cache:product:thumbnail:{productGroupId} → JSON 문자열
+ *
+ * <p><strong>금지 사항:</strong>
+ *
+ * <ul>
+ *   <li>비즈니스 로직 포함 금지
+ *   <li>@Transactional 금지
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductThumbnailCacheAdapter implements ProductThumbnailCachePort {
+
+    private static final String KEY_PREFIX = "cache:product:thumbnail:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public ProductThumbnailCacheAdapter(
+            RedisTemplate<String, Object> redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${product.thumbnail.cache.ttl:10m}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>역직렬화에 실패한 항목(스키마 변경 등)은 캐시 미스로 취급하여 DB에서 다시 적재되도록 합니다.
+     */
+    @Override
+    public Map<Long, ProductThumbnailSnapshot> getAll(List<Long> productGroupIds) {
+        List<String> keys = productGroupIds.stream().map(this::toKey).toList();
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return Map.of();
+        }
+
+        Map<Long, ProductThumbnailSnapshot> result = new HashMap<>(values.size());
+        for (int i = 0; i < productGroupIds.size() && i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            try {
+                result.put(
+                        productGroupIds.get(i),
+                        objectMapper.readValue(value.toString(), ProductThumbnailSnapshot.class));
+            } catch (JsonProcessingException e) {
+                // 캐시 미스로 처리
+            }
+        }
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setAll(List<ProductThumbnailSnapshot> snapshots) {
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> valueSerializer =
+                (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        Expiration expiration = Expiration.from(ttl);
+
+        Map<byte[], byte[]> entries = new HashMap<>(snapshots.size());
+        for (ProductThumbnailSnapshot snapshot : snapshots) {
+            entries.put(
+                    toKey(snapshot.productGroupId()).getBytes(StandardCharsets.UTF_8),
+                    valueSerializer.serialize(serialize(snapshot)));
+        }
+
+        redisTemplate.executePipelined(
+                (RedisCallback<Object>)
+                        connection -> {
+                            for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+                                connection
+                                        .stringCommands()
+                                        .set(
+                                                entry.getKey(),
+                                                entry.getValue(),
+                                                expiration,
+                                                SetOption.upsert());
+                            }
+                            return null;
+                        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evict(Long productGroupId) {
+        redisTemplate.delete(toKey(productGroupId));
+    }
+
+    private String toKey(Long productGroupId) {
+        return KEY_PREFIX + productGroupId;
+    }
+
+    private String serialize(ProductThumbnailSnapshot snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new CacheSerializationException(
+                    "캐시 직렬화 실패: " + ProductThumbnailSnapshot.class.getName(), e);
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package com.ryuqq.setof.adapter.out.persistence.redis.cache.adapter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.setof.adapter.out.persistence.redis.cache.load.CacheEntry;
+import com.ryuqq.setof.adapter.out.persistence.redis.cache.load.CacheEntryStore;
+import com.ryuqq.setof.adapter.out.persistence.redis.cache.load.CacheLoadCoordinator;
+import com.ryuqq.setof.adapter.out.persistence.redis.cache.tag.CacheTagIndex;
+import com.ryuqq.setof.application.common.dto.CacheTag;
 import com.ryuqq.setof.application.common.port.out.CachePort;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
 /**
@@ -21,6 +29,8 @@ import org.springframework.stereotype.Component;
  *   <li>캐시 저장/조회/무효화
  *   <li>JSON 직렬화/역직렬화
  *   <li>TTL 관리
+ *   <li>태그 기반 무효화 ({@link CacheTagIndex})
+ *   <li>Single-Flight 적재 ({@link CacheLoadCoordinator})
  * </ul>
  *
  * <p><strong>SCAN 사용 이유:</strong>
@@ -46,11 +56,18 @@ public class StringCacheAdapter implements CachePort<String> {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final CacheTagIndex cacheTagIndex;
+    private final CacheLoadCoordinator cacheLoadCoordinator;
 
     public StringCacheAdapter(
-            RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
+            RedisTemplate<String, Object> redisTemplate,
+            ObjectMapper objectMapper,
+            CacheTagIndex cacheTagIndex,
+            CacheLoadCoordinator cacheLoadCoordinator) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
+        this.cacheTagIndex = cacheTagIndex;
+        this.cacheLoadCoordinator = cacheLoadCoordinator;
     }
 
     /**
@@ -69,6 +86,19 @@ public class StringCacheAdapter implements CachePort<String> {
         redisTemplate.opsForValue().set(key, value, ttl);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>RedisTemplate의 값 Serializer로 직렬화한 뒤 값 저장과 태그 등록을 하나의 Pipeline으로 전송합니다.
+     */
+    @Override
+    public void set(String key, String value, Duration ttl, Collection<CacheTag> tags) {
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> valueSerializer =
+                (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        cacheTagIndex.setTagged(key, valueSerializer.serialize(value), ttl, tags);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Optional<String> get(String key) {
@@ -82,11 +112,37 @@ public class StringCacheAdapter implements CachePort<String> {
     /**
      * {@inheritDoc}
      *
-     * <p>JSON 문자열을 지정된 타입으로 역직렬화합니다.
+     * <p>String은 final 타입이므로 저장된 문자열을 그대로 반환합니다.
+     */
+    @Override
+    public <V extends String> Optional<V> get(String key, Class<V> type) {
+        return get(key).map(type::cast);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>문자열 값에는 soft expiry를 기록하지 않으므로 stale 구간 없이 (jitter가 적용된 TTL로 저장) Single-Flight만 적용됩니다.
      */
     @Override
-    public Optional<String> get(String key, Class<String> clazz) {
-        return get(key);
+    public <V extends String> V getOrLoad(
+            String key, Class<V> type, Duration ttl, Supplier<V> loader) {
+        CacheEntryStore<V> store =
+                new CacheEntryStore<>() {
+                    @Override
+                    public Optional<CacheEntry<V>> read(String cacheKey) {
+                        return get(cacheKey, type)
+                                .map(value -> new CacheEntry<>(value, CacheEntry.NO_SOFT_EXPIRY));
+                    }
+
+                    @Override
+                    public void write(
+                            String cacheKey, V value, long freshUntilMillis, Duration storeTtl) {
+                        long freshMillis = freshUntilMillis - System.currentTimeMillis();
+                        set(cacheKey, value, Duration.ofMillis(Math.max(1L, freshMillis)));
+                    }
+                };
+        return cacheLoadCoordinator.getOrLoad(key, ttl, loader, store);
     }
 
     /** {@inheritDoc} */
@@ -95,6 +151,12 @@ public class StringCacheAdapter implements CachePort<String> {
         redisTemplate.delete(key);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void evictByTag(CacheTag tag) {
+        cacheTagIndex.evict(tag);
+    }
+
     /**
      * {@inheritDoc}
      *
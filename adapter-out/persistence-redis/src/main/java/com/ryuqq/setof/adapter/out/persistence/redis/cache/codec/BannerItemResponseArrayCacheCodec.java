@@ -0,0 +1,84 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.codec;
+
+import static com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.BinaryCodecSupport.readCount;
+import static com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.BinaryCodecSupport.readInstant;
+import static com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.BinaryCodecSupport.readInteger;
+import static com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.BinaryCodecSupport.readLong;
+import static com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.BinaryCodecSupport.readString;
+import static com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.BinaryCodecSupport.writeInstant;
+import static com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.BinaryCodecSupport.writeInteger;
+import static com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.BinaryCodecSupport.writeLong;
+import static com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.BinaryCodecSupport.writeString;
+
+import com.ryuqq.setof.application.banneritem.dto.response.BannerItemResponse;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배너 아이템 목록 캐시 코덱
+ *
+ * <p>메인/카테고리 화면마다 조회되는 배너 아이템 목록을 JSON 대신 필드 순서 기반 바이너리로 인코딩합니다. {@link
+ * BannerItemResponse} 필드가 바뀌면 {@link #schemaVersion()}을 올립니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class BannerItemResponseArrayCacheCodec implements CacheCodec<BannerItemResponse[]> {
+
+    @Override
+    public Class<BannerItemResponse[]> type() {
+        return BannerItemResponse[].class;
+    }
+
+    @Override
+    public byte[] encode(BannerItemResponse[] value) {
+        return BinaryCodecSupport.encode(type(), value, BannerItemResponseArrayCacheCodec::write);
+    }
+
+    @Override
+    public BannerItemResponse[] decode(byte[] payload) {
+        return BinaryCodecSupport.decode(type(), payload, BannerItemResponseArrayCacheCodec::read);
+    }
+
+    private static void write(DataOutputStream out, BannerItemResponse[] items) throws IOException {
+        out.writeInt(items.length);
+        for (BannerItemResponse item : items) {
+            writeLong(out, item.bannerItemId());
+            writeLong(out, item.bannerId());
+            writeString(out, item.title());
+            writeString(out, item.imageUrl());
+            writeString(out, item.linkUrl());
+            writeInteger(out, item.displayOrder());
+            writeString(out, item.status());
+            writeInstant(out, item.displayStartDate());
+            writeInstant(out, item.displayEndDate());
+            writeInteger(out, item.imageWidth());
+            writeInteger(out, item.imageHeight());
+            writeInstant(out, item.createdAt());
+        }
+    }
+
+    private static BannerItemResponse[] read(DataInputStream in) throws IOException {
+        BannerItemResponse[] items = new BannerItemResponse[readCount(in)];
+        for (int i = 0; i < items.length; i++) {
+            items[i] =
+                    new BannerItemResponse(
+                            readLong(in),
+                            readLong(in),
+                            readString(in),
+                            readString(in),
+                            readString(in),
+                            readInteger(in),
+                            readString(in),
+                            readInstant(in),
+                            readInstant(in),
+                            readInteger(in),
+                            readInteger(in),
+                            readInstant(in));
+        }
+        return items;
+    }
+}
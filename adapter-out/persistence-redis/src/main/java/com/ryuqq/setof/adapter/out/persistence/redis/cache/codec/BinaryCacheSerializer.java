@@ -0,0 +1,336 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.codec;
+
+import com.ryuqq.setof.adapter.out.persistence.redis.cache.load.CacheEntry;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+/**
+ * 캐시 값 바이너리 직렬화기
+ *
+ * <p>{@link CacheCodec}으로 인코딩한 값을 스키마 버전이 포함된 바이너리 포맷으로 감쌉니다.
+ *
+ * <p><strong>포맷:</strong>
+ *
+ * <pre>
+ * magic(1) | flags(1) | schemaVersion(2) | typeNameLength(2) | typeName
+ *   | [freshUntil(8)] | [rawLength(4)] | payload
+ * </pre>
+ *
+ * <ul>
+ *   <li>flags bit0: payload LZ4 압축 여부 (압축 시에만 rawLength 포함)
+ *   <li>flags bit1: soft expiry 기록 여부 (stale-while-revalidate 대상 값만 freshUntil 포함)
+ *   <li>payload가 압축 임계값 이상이고 압축 결과가 더 작을 때만 압축
+ *   <li>magic 불일치(이전 JSON 포맷 등), 타입 불일치, 스키마 버전 불일치, 디코딩 실패는 Cache Miss로 처리
+ * </ul>
+ *
+ * <p><strong>타입:</strong> 타입을 지정한 조회는 요청 타입의 코덱으로만 디코딩하고, 저장된 타입명은 일치 여부 확인에만 사용합니다.
+ * 타입을 지정하지 않고 저장하면 값의 클래스를 기록하되, {@code List.of()} 같은 JDK 컬렉션 구현 클래스는 역직렬화할 수 없으므로
+ * {@link List}/{@link Set}/{@link Map} 인터페이스 타입으로 기록합니다.
+ *
+ * <p><strong>메트릭 (cache 태그 = 캐시 이름):</strong>
+ *
+ * <ul>
+ *   <li>{@code cache.codec.payload.size{stage=raw|stored}}: 인코딩 크기 / 압축 후 저장 크기
+ *   <li>{@code cache.codec.decode}: 압축 해제 + 디코딩 시간
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class BinaryCacheSerializer {
+
+    static final byte MAGIC = (byte) 0xC5;
+    static final byte FLAG_LZ4 = 0x01;
+    static final byte FLAG_FRESH_UNTIL = 0x02;
+
+    /** magic(1) + flags(1) + schemaVersion(2) + typeNameLength(2) */
+    private static final int HEADER_SIZE = 6;
+
+    private static final int MAX_UNSIGNED_SHORT = 0xFFFF;
+
+    private final CacheCodecRegistry codecRegistry;
+    private final int compressionThreshold;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CacheMeters> metersByCacheName = new ConcurrentHashMap<>();
+    private final LZ4Compressor compressor;
+    private final LZ4SafeDecompressor decompressor;
+
+    /**
+     * @param codecRegistry 타입별 코덱 레지스트리
+     * @param compressionThreshold LZ4 압축을 시도할 최소 payload 크기 (bytes)
+     * @param meterRegistry 메트릭 레지스트리 (null이면 메트릭 미기록)
+     */
+    public BinaryCacheSerializer(
+            CacheCodecRegistry codecRegistry,
+            int compressionThreshold,
+            MeterRegistry meterRegistry) {
+        this.codecRegistry = codecRegistry;
+        this.compressionThreshold = compressionThreshold;
+        this.meterRegistry = meterRegistry;
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.safeDecompressor();
+    }
+
+    /**
+     * 값 직렬화
+     *
+     * @param cacheName 캐시 이름 (메트릭 태그)
+     * @param value 저장할 값
+     * @return 바이너리 포맷 바이트 배열
+     */
+    @SuppressWarnings("unchecked")
+    public byte[] serialize(String cacheName, Object value) {
+        CacheCodec<Object> codec = (CacheCodec<Object>) codecRegistry.codecFor(storageType(value));
+        return serialize(cacheName, value, codec, CacheEntry.NO_SOFT_EXPIRY);
+    }
+
+    /**
+     * 지정 타입으로 값 직렬화 (soft expiry 포함)
+     *
+     * @param cacheName 캐시 이름 (메트릭 태그)
+     * @param value 저장할 값
+     * @param type 저장 타입 (조회 시 같은 타입으로 요청해야 함)
+     * @param freshUntilMillis 값이 신선한 시각 (epoch millis, {@link CacheEntry#NO_SOFT_EXPIRY}면 미기록)
+     * @param <V> 저장 타입 파라미터
+     * @return 바이너리 포맷 바이트 배열
+     */
+    public <V> byte[] serialize(String cacheName, V value, Class<V> type, long freshUntilMillis) {
+        return serialize(cacheName, value, codecRegistry.codecFor(type), freshUntilMillis);
+    }
+
+    private <V> byte[] serialize(
+            String cacheName, V value, CacheCodec<V> codec, long freshUntilMillis) {
+        byte[] raw = codec.encode(value);
+        byte[] typeName = codec.type().getName().getBytes(StandardCharsets.UTF_8);
+        if (typeName.length > MAX_UNSIGNED_SHORT || codec.schemaVersion() > MAX_UNSIGNED_SHORT) {
+            throw new IllegalArgumentException("캐시 타입명 또는 스키마 버전이 허용 범위를 넘습니다: " + codec.type());
+        }
+
+        byte[] payload = raw;
+        boolean compressed = false;
+        if (raw.length >= compressionThreshold) {
+            byte[] candidate = compressor.compress(raw);
+            if (candidate.length < raw.length) {
+                payload = candidate;
+                compressed = true;
+            }
+        }
+
+        boolean softExpiry = freshUntilMillis != CacheEntry.NO_SOFT_EXPIRY;
+        byte flags = (byte) ((compressed ? FLAG_LZ4 : 0) | (softExpiry ? FLAG_FRESH_UNTIL : 0));
+        ByteBuffer buffer =
+                ByteBuffer.allocate(
+                        HEADER_SIZE
+                                + typeName.length
+                                + (softExpiry ? Long.BYTES : 0)
+                                + (compressed ? Integer.BYTES : 0)
+                                + payload.length);
+        buffer.put(MAGIC);
+        buffer.put(flags);
+        buffer.putShort((short) codec.schemaVersion());
+        buffer.putShort((short) typeName.length);
+        buffer.put(typeName);
+        if (softExpiry) {
+            buffer.putLong(freshUntilMillis);
+        }
+        if (compressed) {
+            buffer.putInt(raw.length);
+        }
+        buffer.put(payload);
+        byte[] stored = buffer.array();
+
+        CacheMeters meters = meters(cacheName);
+        if (meters != null) {
+            meters.rawSize().record(raw.length);
+            meters.storedSize().record(stored.length);
+        }
+        return stored;
+    }
+
+    /**
+     * 지정 타입으로 역직렬화
+     *
+     * @param cacheName 캐시 이름 (메트릭 태그)
+     * @param bytes 저장된 바이트 배열
+     * @param type 대상 타입
+     * @param <V> 대상 타입 파라미터
+     * @return 디코딩된 값 (포맷/타입/스키마 버전 불일치 또는 디코딩 실패 시 Empty)
+     */
+    public <V> Optional<V> deserialize(String cacheName, byte[] bytes, Class<V> type) {
+        return decode(cacheName, bytes, codecRegistry.codecFor(type)).map(CacheEntry::value);
+    }
+
+    /**
+     * 지정 타입으로 역직렬화 (soft expiry 포함)
+     *
+     * @param cacheName 캐시 이름 (메트릭 태그)
+     * @param bytes 저장된 바이트 배열
+     * @param type 대상 타입
+     * @param <V> 대상 타입 파라미터
+     * @return 값과 soft expiry (포맷/타입/스키마 버전 불일치 또는 디코딩 실패 시 Empty)
+     */
+    public <V> Optional<CacheEntry<V>> deserializeEntry(
+            String cacheName, byte[] bytes, Class<V> type) {
+        return decode(cacheName, bytes, codecRegistry.codecFor(type));
+    }
+
+    /**
+     * 저장된 타입으로 역직렬화 (타입 미지정 조회)
+     *
+     * <p>전용 코덱으로 등록되었거나 이 프로세스에서 이미 사용한 타입만 디코딩합니다 ({@link
+     * CacheCodecRegistry#findByTypeName(String)}).
+     *
+     * @param cacheName 캐시 이름 (메트릭 태그)
+     * @param bytes 저장된 바이트 배열
+     * @return 디코딩된 값 (포맷/스키마 버전 불일치, 허용되지 않은 타입 또는 디코딩 실패 시 Empty)
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<Object> deserialize(String cacheName, byte[] bytes) {
+        return readTypeName(bytes)
+                .flatMap(codecRegistry::findByTypeName)
+                .flatMap(codec -> decode(cacheName, bytes, (CacheCodec<Object>) codec))
+                .map(CacheEntry::value);
+    }
+
+    private Optional<String> readTypeName(byte[] bytes) {
+        if (bytes.length < HEADER_SIZE || bytes[0] != MAGIC) {
+            return Optional.empty();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, HEADER_SIZE - Short.BYTES, Short.BYTES);
+        int typeNameLength = Short.toUnsignedInt(buffer.getShort());
+        if (bytes.length - HEADER_SIZE < typeNameLength) {
+            return Optional.empty();
+        }
+        return Optional.of(new String(bytes, HEADER_SIZE, typeNameLength, StandardCharsets.UTF_8));
+    }
+
+    private <V> Optional<CacheEntry<V>> decode(
+            String cacheName, byte[] bytes, CacheCodec<V> codec) {
+        long start = System.nanoTime();
+        if (bytes.length < HEADER_SIZE || bytes[0] != MAGIC) {
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.get();
+        byte flags = buffer.get();
+        int schemaVersion = Short.toUnsignedInt(buffer.getShort());
+        int typeNameLength = Short.toUnsignedInt(buffer.getShort());
+        if (buffer.remaining() < typeNameLength) {
+            return Optional.empty();
+        }
+        String typeName =
+                new String(bytes, buffer.position(), typeNameLength, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + typeNameLength);
+
+        if (!codec.type().getName().equals(typeName) || codec.schemaVersion() != schemaVersion) {
+            return Optional.empty();
+        }
+
+        long freshUntilMillis = CacheEntry.NO_SOFT_EXPIRY;
+        if ((flags & FLAG_FRESH_UNTIL) != 0) {
+            if (buffer.remaining() < Long.BYTES) {
+                return Optional.empty();
+            }
+            freshUntilMillis = buffer.getLong();
+        }
+
+        byte[] payload = (flags & FLAG_LZ4) != 0 ? decompress(buffer) : remaining(buffer);
+        if (payload == null) {
+            return Optional.empty();
+        }
+        V value;
+        try {
+            value = codec.decode(payload);
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+
+        CacheMeters meters = meters(cacheName);
+        if (meters != null) {
+            meters.decode().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return Optional.of(new CacheEntry<>(value, freshUntilMillis));
+    }
+
+    private static Class<?> storageType(Object value) {
+        if (value instanceof List) {
+            return List.class;
+        }
+        if (value instanceof Set) {
+            return Set.class;
+        }
+        if (value instanceof Map) {
+            return Map.class;
+        }
+        return value.getClass();
+    }
+
+    private byte[] decompress(ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES) {
+            return null;
+        }
+        int rawLength = buffer.getInt();
+        if (rawLength < 0) {
+            return null;
+        }
+        byte[] raw = new byte[rawLength];
+        try {
+            int written =
+                    decompressor.decompress(
+                            buffer.array(), buffer.position(), buffer.remaining(), raw, 0);
+            return written == rawLength ? raw : null;
+        } catch (LZ4Exception e) {
+            return null;
+        }
+    }
+
+    private static byte[] remaining(ByteBuffer buffer) {
+        byte[] payload = new byte[buffer.remaining()];
+        buffer.get(payload);
+        return payload;
+    }
+
+    private CacheMeters meters(String cacheName) {
+        if (meterRegistry == null) {
+            return null;
+        }
+        return metersByCacheName.computeIfAbsent(cacheName, this::registerMeters);
+    }
+
+    private CacheMeters registerMeters(String cacheName) {
+        return new CacheMeters(
+                payloadSize(cacheName, "raw"),
+                payloadSize(cacheName, "stored"),
+                Timer.builder("cache.codec.decode")
+                        .description("캐시 값 압축 해제 + 디코딩 시간")
+                        .tag("cache", cacheName)
+                        .register(meterRegistry));
+    }
+
+    private DistributionSummary payloadSize(String cacheName, String stage) {
+        return DistributionSummary.builder("cache.codec.payload.size")
+                .description("캐시 값 크기 (raw: 인코딩 직후, stored: 압축/헤더 포함 저장 크기)")
+                .baseUnit("bytes")
+                .tag("cache", cacheName)
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    private record CacheMeters(
+            DistributionSummary rawSize, DistributionSummary storedSize, Timer decode) {}
+}
@@ -0,0 +1,128 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.codec;
+
+import com.ryuqq.setof.adapter.out.persistence.redis.common.exception.CacheSerializationException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * 바이너리 캐시 코덱 공통 입출력
+ *
+ * <p>필드를 선언 순서대로 기록하는 전용 {@link CacheCodec}이 사용합니다. null이 가능한 필드는 존재 여부 1바이트 뒤에 값을 기록하고,
+ * 문자열은 UTF-8 길이(int) + 바이트로 기록합니다. 필드 구성이 바뀌면 코덱의 스키마 버전을 올려야 합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+final class BinaryCodecSupport {
+
+    private BinaryCodecSupport() {}
+
+    /**
+     * 값 기록 함수
+     *
+     * @param <V> 기록 대상 타입
+     */
+    @FunctionalInterface
+    interface Writer<V> {
+        void write(DataOutputStream out, V value) throws IOException;
+    }
+
+    /**
+     * 값 읽기 함수
+     *
+     * @param <V> 읽기 대상 타입
+     */
+    @FunctionalInterface
+    interface Reader<V> {
+        V read(DataInputStream in) throws IOException;
+    }
+
+    static <V> byte[] encode(Class<V> type, V value, Writer<V> writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out, value);
+        } catch (IOException e) {
+            throw new CacheSerializationException("캐시 직렬화 실패: " + type.getName(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static <V> V decode(Class<V> type, byte[] payload, Reader<V> reader) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            V value = reader.read(in);
+            if (in.available() > 0) {
+                throw new CacheSerializationException("캐시 역직렬화 후 남은 바이트가 있습니다: " + type.getName());
+            }
+            return value;
+        } catch (IOException e) {
+            throw new CacheSerializationException("캐시 역직렬화 실패: " + type.getName(), e);
+        }
+    }
+
+    static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    static Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    static Integer readInteger(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(utf8.length);
+            out.write(utf8);
+        }
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new IOException("잘못된 문자열 길이: " + length);
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    static void writeInstant(DataOutputStream out, Instant value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.getEpochSecond());
+            out.writeInt(value.getNano());
+        }
+    }
+
+    static Instant readInstant(DataInputStream in) throws IOException {
+        return in.readBoolean() ? Instant.ofEpochSecond(in.readLong(), in.readInt()) : null;
+    }
+
+    static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > in.available()) {
+            throw new IOException("잘못된 원소 개수: " + count);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,65 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.codec;
+
+/**
+ * 타입별 캐시 코덱
+ *
+ * <p>{@code ObjectCacheAdapter}가 특정 타입의 값을 바이너리로 인코딩/디코딩할 때 사용합니다. Spring Bean으로 등록하면 해당 타입에
+ * 자동 적용되고, 등록되지 않은 타입은 {@link JsonCacheCodec}(타입 메타데이터 없는 JSON)으로 처리됩니다.
+ *
+ * <p><strong>스키마 버전:</strong> 인코딩 형식이 바뀌면 {@link #schemaVersion()}을 올립니다. 이전 버전으로 저장된 값은 디코딩하지
+ * 않고 Cache Miss로 처리되어 원본에서 다시 적재됩니다.
+ *
+ * <p><strong>사용 예시:</strong>
+ *
+ * <pre>{@code
+ * @Component
+ * public class ProductSummaryCacheCodec implements CacheCodec<ProductSummary> {
+ *
+ *     public Class<ProductSummary> type() { return ProductSummary.class; }
+ *
+ *     public int schemaVersion() { return 2; }
+ *
+ *     public byte[] encode(ProductSummary value) { ... }
+ *
+ *     public ProductSummary decode(byte[] payload) { ... }
+ * }
+ * }</pre>
+ *
+ * @param <V> 코덱 대상 타입
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface CacheCodec<V> {
+
+    /**
+     * 코덱 대상 타입
+     *
+     * @return 대상 타입 클래스
+     */
+    Class<V> type();
+
+    /**
+     * 인코딩 스키마 버전 (0 ~ 65535)
+     *
+     * @return 스키마 버전
+     */
+    default int schemaVersion() {
+        return 1;
+    }
+
+    /**
+     * 값 인코딩
+     *
+     * @param value 인코딩할 값
+     * @return 인코딩된 바이트 배열 (압축 전)
+     */
+    byte[] encode(V value);
+
+    /**
+     * 값 디코딩
+     *
+     * @param payload 인코딩된 바이트 배열 (압축 해제 후)
+     * @return 디코딩된 값
+     */
+    V decode(byte[] payload);
+}
@@ -0,0 +1,66 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.codec;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 타입별 캐시 코덱 레지스트리
+ *
+ * <p>등록된 {@link CacheCodec}을 타입 기준으로 찾고, 없으면 기본 코덱 팩토리로 생성하여 재사용합니다. 코덱은 호출 측이 지정한
+ * 타입({@code Class})으로만 생성하며, 캐시 값에 기록된 타입명으로는 클래스를 로드하지 않습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class CacheCodecRegistry {
+
+    private final Map<String, CacheCodec<?>> codecsByTypeName = new ConcurrentHashMap<>();
+    private final Function<Class<?>, CacheCodec<?>> fallbackFactory;
+
+    /**
+     * @param codecs 타입 전용 코덱 목록
+     * @param fallbackFactory 전용 코덱이 없는 타입의 기본 코덱 팩토리
+     */
+    public CacheCodecRegistry(
+            Collection<? extends CacheCodec<?>> codecs,
+            Function<Class<?>, CacheCodec<?>> fallbackFactory) {
+        this.fallbackFactory = fallbackFactory;
+        for (CacheCodec<?> codec : codecs) {
+            CacheCodec<?> previous = codecsByTypeName.putIfAbsent(codec.type().getName(), codec);
+            if (previous != null) {
+                throw new IllegalStateException(
+                        "동일 타입에 CacheCodec이 중복 등록되었습니다: " + codec.type().getName());
+            }
+        }
+    }
+
+    /**
+     * 타입으로 코덱 조회
+     *
+     * @param type 대상 타입
+     * @param <V> 대상 타입 파라미터
+     * @return 전용 코덱 또는 기본 코덱
+     */
+    @SuppressWarnings("unchecked")
+    public <V> CacheCodec<V> codecFor(Class<V> type) {
+        return (CacheCodec<V>)
+                codecsByTypeName.computeIfAbsent(
+                        type.getName(), name -> fallbackFactory.apply(type));
+    }
+
+    /**
+     * 저장된 타입명으로 코덱 조회 (타입 미지정 조회용)
+     *
+     * <p>저장된 타입명으로 클래스를 로드하지 않습니다. 전용 코덱으로 등록되었거나 이 프로세스에서 {@link #codecFor(Class)}로 이미
+     * 생성된 타입만 찾으므로, 캐시 값에 기록된 임의의 타입명이 클래스 로딩으로 이어지지 않습니다.
+     *
+     * @param typeName 저장 시 기록된 타입명
+     * @return 코덱 (허용되지 않은 타입이면 Empty)
+     */
+    public Optional<CacheCodec<?>> findByTypeName(String typeName) {
+        return Optional.ofNullable(codecsByTypeName.get(typeName));
+    }
+}
@@ -0,0 +1,76 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.codec;
+
+import static com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.BinaryCodecSupport.readCount;
+import static com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.BinaryCodecSupport.readInstant;
+import static com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.BinaryCodecSupport.readLong;
+import static com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.BinaryCodecSupport.readString;
+import static com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.BinaryCodecSupport.writeInstant;
+import static com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.BinaryCodecSupport.writeLong;
+import static com.ryuqq.setof.adapter.out.persistence.redis.cache.codec.BinaryCodecSupport.writeString;
+
+import com.ryuqq.setof.application.gnb.dto.response.GnbResponse;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전시 중인 GNB 목록 캐시 코덱
+ *
+ * <p>모든 페이지에서 조회되는 GNB 목록을 JSON 대신 필드 순서 기반 바이너리로 인코딩하여, 캐시 Hit마다 JSON 파싱과 필드명 매칭 비용을
+ * 없앱니다. {@link GnbResponse} 필드가 바뀌면 {@link #schemaVersion()}을 올립니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class GnbResponseArrayCacheCodec implements CacheCodec<GnbResponse[]> {
+
+    @Override
+    public Class<GnbResponse[]> type() {
+        return GnbResponse[].class;
+    }
+
+    @Override
+    public byte[] encode(GnbResponse[] value) {
+        return BinaryCodecSupport.encode(type(), value, GnbResponseArrayCacheCodec::write);
+    }
+
+    @Override
+    public GnbResponse[] decode(byte[] payload) {
+        return BinaryCodecSupport.decode(type(), payload, GnbResponseArrayCacheCodec::read);
+    }
+
+    private static void write(DataOutputStream out, GnbResponse[] gnbs) throws IOException {
+        out.writeInt(gnbs.length);
+        for (GnbResponse gnb : gnbs) {
+            writeLong(out, gnb.gnbId());
+            writeString(out, gnb.title());
+            writeString(out, gnb.linkUrl());
+            out.writeInt(gnb.displayOrder());
+            writeString(out, gnb.status());
+            writeInstant(out, gnb.displayStartDate());
+            writeInstant(out, gnb.displayEndDate());
+            writeInstant(out, gnb.createdAt());
+            writeInstant(out, gnb.updatedAt());
+        }
+    }
+
+    private static GnbResponse[] read(DataInputStream in) throws IOException {
+        GnbResponse[] gnbs = new GnbResponse[readCount(in)];
+        for (int i = 0; i < gnbs.length; i++) {
+            gnbs[i] =
+                    new GnbResponse(
+                            readLong(in),
+                            readString(in),
+                            readString(in),
+                            in.readInt(),
+                            readString(in),
+                            readInstant(in),
+                            readInstant(in),
+                            readInstant(in),
+                            readInstant(in));
+        }
+        return gnbs;
+    }
+}
@@ -0,0 +1,53 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ryuqq.setof.adapter.out.persistence.redis.common.exception.CacheSerializationException;
+import java.io.IOException;
+
+/**
+ * JSON 기반 기본 캐시 코덱
+ *
+ * <p>전용 {@link CacheCodec}이 등록되지 않은 타입에 사용됩니다. 대상 타입이 고정되어 있으므로 {@code @class} 메타데이터 없이
+ * UTF-8 JSON 바이트로 저장하고, 조회 시 대상 타입으로 한 번만 파싱합니다.
+ *
+ * @param <V> 코덱 대상 타입
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class JsonCacheCodec<V> implements CacheCodec<V> {
+
+    private final Class<V> type;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    public JsonCacheCodec(ObjectMapper objectMapper, Class<V> type) {
+        this.type = type;
+        this.writer = objectMapper.writerFor(type);
+        this.reader = objectMapper.readerFor(type);
+    }
+
+    @Override
+    public Class<V> type() {
+        return type;
+    }
+
+    @Override
+    public byte[] encode(V value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new CacheSerializationException("캐시 직렬화 실패: " + type.getName(), e);
+        }
+    }
+
+    @Override
+    public V decode(byte[] payload) {
+        try {
+            return reader.readValue(payload);
+        } catch (IOException e) {
+            throw new CacheSerializationException("캐시 역직렬화 실패: " + type.getName(), e);
+        }
+    }
+}
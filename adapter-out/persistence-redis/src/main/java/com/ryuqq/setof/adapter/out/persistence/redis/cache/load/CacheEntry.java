@@ -0,0 +1,29 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.load;
+
+/**
+ * 캐시 엔트리 (값 + soft expiry)
+ *
+ * <p>Redis 키의 물리 TTL은 soft expiry 이후 stale 허용 구간까지 유지됩니다. soft expiry가 지난 값은 stale로 반환되고 백그라운드에서
+ * 다시 적재됩니다.
+ *
+ * @param value 캐시 값
+ * @param freshUntilMillis 값이 신선한 시각 (epoch millis, {@link #NO_SOFT_EXPIRY}면 만료 전까지 항상 신선)
+ * @param <V> 값 타입
+ * @author development-team
+ * @since 1.0.0
+ */
+public record CacheEntry<V>(V value, long freshUntilMillis) {
+
+    /** soft expiry 미기록 (물리 TTL까지 항상 신선) */
+    public static final long NO_SOFT_EXPIRY = 0L;
+
+    /**
+     * stale 여부
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @return soft expiry가 지났으면 true
+     */
+    public boolean isStale(long nowMillis) {
+        return freshUntilMillis != NO_SOFT_EXPIRY && nowMillis >= freshUntilMillis;
+    }
+}
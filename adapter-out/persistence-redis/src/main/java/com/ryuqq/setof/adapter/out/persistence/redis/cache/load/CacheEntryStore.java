@@ -0,0 +1,34 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.load;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * {@link CacheLoadCoordinator}가 사용하는 캐시 엔트리 저장소
+ *
+ * <p>각 CacheAdapter가 자신의 직렬화 방식으로 구현합니다.
+ *
+ * @param <V> 값 타입
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface CacheEntryStore<V> {
+
+    /**
+     * 엔트리 조회
+     *
+     * @param key 캐시 키
+     * @return 엔트리 (Miss 시 Empty)
+     */
+    Optional<CacheEntry<V>> read(String key);
+
+    /**
+     * 엔트리 저장
+     *
+     * @param key 캐시 키
+     * @param value 저장할 값
+     * @param freshUntilMillis 값이 신선한 시각 (epoch millis)
+     * @param ttl 물리 TTL (stale 허용 구간 포함)
+     */
+    void write(String key, V value, long freshUntilMillis, Duration ttl);
+}
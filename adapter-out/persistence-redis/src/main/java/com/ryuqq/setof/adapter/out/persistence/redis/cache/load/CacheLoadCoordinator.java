@@ -0,0 +1,298 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.load;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 적재 조정기 (Single-Flight + Stale-While-Revalidate)
+ *
+ * <p>Hot Key 만료 시 다수 요청이 동시에 원본(DB)을 조회하는 Cache Stampede를 막습니다.
+ *
+ * <ul>
+ *   <li><strong>Single-Flight:</strong> 같은 JVM에서 같은 키의 적재는 한 번만 실행하고, 나머지 요청은 그 결과를 기다립니다.
+ *   <li><strong>Lease:</strong> 노드 간에는 짧은 Redis Lease({@code SET NX PX})로 적재자를 하나로 제한합니다. Lease를 얻지
+ *       못한 노드는 잠시 캐시를 폴링하고, 대기 시간 안에 값이 채워지지 않으면 직접 적재합니다.
+ *   <li><strong>Stale-While-Revalidate:</strong> soft expiry가 지난 값은 즉시 반환하고 백그라운드(Virtual
+ *       Thread)에서 한 번만 다시 적재합니다. 물리 TTL은 soft expiry + stale 허용 구간입니다.
+ *   <li><strong>TTL Jitter:</strong> soft expiry에 무작위 여유를 더해 같은 시점에 저장된 키들의 만료를 분산합니다.
+ * </ul>
+ *
+ * <p><strong>장애 격리:</strong> 캐시 조회/저장이나 Lease 처리 중 Redis 예외가 발생하면 로그만 남기고 loader 결과를 그대로
+ * 반환합니다. 같은 JVM의 적재 결과를 기다리는 요청은 최대 {@code join-timeout}까지만 기다리고, 이후에는 직접 적재합니다. loader
+ * 예외는 그대로 전파됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class CacheLoadCoordinator implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheLoadCoordinator.class);
+
+    private static final String LEASE_KEY_PREFIX = "cache:lease:";
+    private static final Duration LEASE_POLL_INTERVAL = Duration.ofMillis(25);
+
+    /** KEYS[1]=Lease 키, ARGV[1]=토큰. 본인 Lease일 때만 삭제합니다. */
+    private static final String RELEASE_LEASE_SCRIPT =
+            """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """;
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final DefaultRedisScript<Long> releaseLeaseScript;
+    private final Duration staleWindow;
+    private final double ttlJitterRatio;
+    private final Duration leaseTtl;
+    private final Duration leaseWait;
+    private final Duration joinTimeout;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight =
+            new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 생성자
+     *
+     * @param binaryRedisTemplate Lease용 RedisTemplate
+     * @param staleWindow soft expiry 이후 stale 값을 반환할 수 있는 구간
+     * @param ttlJitterRatio soft expiry에 더할 최대 무작위 비율 (0.1 = 최대 10%)
+     * @param leaseTtl 노드 간 적재 Lease TTL (0이면 Lease 미사용)
+     * @param leaseWait Lease를 얻지 못했을 때 다른 노드의 적재를 기다리는 최대 시간
+     * @param joinTimeout 같은 JVM에서 진행 중인 적재 결과를 기다리는 최대 시간
+     */
+    public CacheLoadCoordinator(
+            RedisTemplate<String, byte[]> binaryRedisTemplate,
+            @Value("${cache.load.stale-window:60s}") Duration staleWindow,
+            @Value("${cache.load.ttl-jitter-ratio:0.1}") double ttlJitterRatio,
+            @Value("${cache.load.lease-ttl:3s}") Duration leaseTtl,
+            @Value("${cache.load.lease-wait:500ms}") Duration leaseWait,
+            @Value("${cache.load.join-timeout:5s}") Duration joinTimeout) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.releaseLeaseScript = new DefaultRedisScript<>(RELEASE_LEASE_SCRIPT, Long.class);
+        this.staleWindow = staleWindow;
+        this.ttlJitterRatio = ttlJitterRatio;
+        this.leaseTtl = leaseTtl;
+        this.leaseWait = leaseWait;
+        this.joinTimeout = joinTimeout;
+    }
+
+    /**
+     * 캐시 조회, Miss 시 적재
+     *
+     * @param key 캐시 키
+     * @param ttl soft expiry 기준 TTL (jitter 적용 전)
+     * @param loader 원본 조회 함수 (null 반환 시 캐시하지 않음)
+     * @param store 캐시 엔트리 저장소
+     * @param <V> 값 타입
+     * @return 캐시 값 또는 적재 결과
+     */
+    public <V> V getOrLoad(
+            String key, Duration ttl, Supplier<V> loader, CacheEntryStore<V> store) {
+        Optional<CacheEntry<V>> cached = readQuietly(key, store);
+        if (cached.isPresent()) {
+            CacheEntry<V> entry = cached.get();
+            if (entry.isStale(System.currentTimeMillis())) {
+                refreshInBackground(key, ttl, loader, store);
+            }
+            return entry.value();
+        }
+        return loadCoalesced(key, ttl, loader, store);
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdown();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V loadCoalesced(
+            String key, Duration ttl, Supplier<V> loader, CacheEntryStore<V> store) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            try {
+                return (V) join(existing);
+            } catch (TimeoutException e) {
+                log.warn("Cache load wait timed out, loading directly: key={}", key);
+                return loadAndStore(key, ttl, loader, store);
+            }
+        }
+        try {
+            V value = loadWithLease(key, ttl, loader, store, true);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private <V> void refreshInBackground(
+            String key, Duration ttl, Supplier<V> loader, CacheEntryStore<V> store) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(
+                    () -> {
+                        try {
+                            loadWithLease(key, ttl, loader, store, false);
+                        } catch (RuntimeException e) {
+                            log.warn("Cache refresh failed, keeping stale value: key={}", key, e);
+                        } finally {
+                            refreshing.remove(key);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * Lease를 잡고 적재
+     *
+     * @param waitForOthers Lease를 얻지 못했을 때 다른 노드의 적재 결과를 기다릴지 여부 (false면 기존 stale 값 유지)
+     */
+    private <V> V loadWithLease(
+            String key,
+            Duration ttl,
+            Supplier<V> loader,
+            CacheEntryStore<V> store,
+            boolean waitForOthers) {
+        if (leaseTtl.isZero()) {
+            return loadAndStore(key, ttl, loader, store);
+        }
+
+        String leaseKey = LEASE_KEY_PREFIX + key;
+        byte[] token = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+        Boolean acquired;
+        try {
+            acquired = binaryRedisTemplate.opsForValue().setIfAbsent(leaseKey, token, leaseTtl);
+        } catch (RuntimeException e) {
+            log.warn("Cache lease unavailable, loading without lease: key={}", key, e);
+            return loadAndStore(key, ttl, loader, store);
+        }
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                return loadAndStore(key, ttl, loader, store);
+            } finally {
+                releaseLease(leaseKey, token);
+            }
+        }
+
+        if (!waitForOthers) {
+            return null;
+        }
+        Optional<V> loadedByOther = awaitOtherNode(key, store);
+        return loadedByOther.isPresent()
+                ? loadedByOther.get()
+                : loadAndStore(key, ttl, loader, store);
+    }
+
+    private <V> Optional<V> awaitOtherNode(String key, CacheEntryStore<V> store) {
+        long deadline = System.nanoTime() + leaseWait.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(LEASE_POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+            Optional<CacheEntry<V>> loaded = readQuietly(key, store);
+            if (loaded.isPresent()) {
+                return Optional.of(loaded.get().value());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private <V> V loadAndStore(
+            String key, Duration ttl, Supplier<V> loader, CacheEntryStore<V> store) {
+        V value = loader.get();
+        if (value != null) {
+            Duration freshTtl = withJitter(ttl);
+            long freshUntilMillis = System.currentTimeMillis() + freshTtl.toMillis();
+            try {
+                store.write(key, value, freshUntilMillis, freshTtl.plus(staleWindow));
+            } catch (RuntimeException e) {
+                log.warn("Cache write failed, returning loaded value: key={}", key, e);
+            }
+        }
+        return value;
+    }
+
+    private <V> Optional<CacheEntry<V>> readQuietly(String key, CacheEntryStore<V> store) {
+        try {
+            return store.read(key);
+        } catch (RuntimeException e) {
+            log.warn("Cache read failed, falling back to loader: key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    private void releaseLease(String leaseKey, byte[] token) {
+        try {
+            binaryRedisTemplate.execute(releaseLeaseScript, List.of(leaseKey), token);
+        } catch (RuntimeException e) {
+            log.warn("Cache lease release failed, expires by TTL: leaseKey={}", leaseKey, e);
+        }
+    }
+
+    private Duration withJitter(Duration ttl) {
+        long maxJitterMillis = (long) (ttl.toMillis() * ttlJitterRatio);
+        if (maxJitterMillis <= 0) {
+            return ttl;
+        }
+        return ttl.plusMillis(ThreadLocalRandom.current().nextLong(maxJitterMillis + 1));
+    }
+
+    /**
+     * 같은 JVM의 적재 결과 대기
+     *
+     * @throws TimeoutException join-timeout 안에 적재가 끝나지 않았거나 대기 중 인터럽트된 경우
+     */
+    private Object join(CompletableFuture<Object> future) throws TimeoutException {
+        try {
+            return future.get(joinTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting for cache load");
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.subscriber;
+
+import com.ryuqq.setof.adapter.out.persistence.redis.cache.adapter.FullProductCacheAdapter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전체 상품 Near Cache 무효화 구독자
+ *
+ * <p>{@link FullProductCacheAdapter#INVALIDATION_CHANNEL} 채널을 구독하여, 다른 인스턴스에서 무효화한 상품그룹을 현재
+ * 인스턴스의 Near Cache에서도 제거합니다. Redis 키는 발행한 인스턴스가 이미 삭제했으므로 Near Cache만 비웁니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class FullProductCacheInvalidationSubscriber
+        implements MessageListener, InitializingBean, DisposableBean {
+
+    private final FullProductCacheAdapter fullProductCacheAdapter;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public FullProductCacheInvalidationSubscriber(
+            FullProductCacheAdapter fullProductCacheAdapter,
+            RedisTemplate<String, Object> redisTemplate,
+            RedisConnectionFactory connectionFactory) {
+        this.fullProductCacheAdapter = fullProductCacheAdapter;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.addMessageListener(
+                this, new ChannelTopic(FullProductCacheAdapter.INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object productGroupId = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (productGroupId != null) {
+            fullProductCacheAdapter.evictLocal(Long.valueOf(productGroupId.toString()));
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+}
@@ -0,0 +1,181 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.tag;
+
+import com.ryuqq.setof.application.common.dto.CacheTag;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 태그 인덱스
+ *
+ * <p>태그별로 Redis Set에 캐시 키를 기록해 두고, 태그 무효화 시 해당 Set의 멤버만 삭제합니다. 무효화 비용이 전체 키스페이스가 아니라 태그에
+ * 등록된 키 수에 비례합니다.
+ *
+ * <p><strong>키 구조:</strong> {@code cache:tag:{type:id}} → Set(캐시 키). Hash Tag로 감싸 무효화 중 이름을 바꾼 Set도
+ * 같은 슬롯에 위치합니다.
+ *
+ * <p><strong>저장:</strong> 값 SET과 태그별 SADD를 하나의 Pipeline으로 전송합니다. 태그 Set의 TTL은 등록된 값 중 가장 긴 TTL로
+ * 늘어나기만 하므로 만료된 값의 키가 Set에 남아 있어도 Set 자체가 함께 만료됩니다.
+ *
+ * <p><strong>무효화:</strong>
+ *
+ * <ol>
+ *   <li>태그 Set을 임시 키로 RENAME (이후 저장되는 값은 새 Set에 등록되어 삭제 대상에서 제외)
+ *   <li>SSCAN으로 멤버를 읽어 배치 단위 Pipeline UNLINK
+ *   <li>임시 키 UNLINK (중간 실패 시에도 원래 TTL로 만료)
+ * </ol>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class CacheTagIndex {
+
+    private static final String TAG_KEY_PREFIX = "cache:tag:{";
+    private static final String TAG_KEY_SUFFIX = "}";
+    private static final String EVICTING_SUFFIX = ":evicting:";
+    private static final int SCAN_COUNT = 500;
+    private static final int UNLINK_BATCH_SIZE = 500;
+
+    /** KEYS[1]=태그 Set, ARGV[1]=캐시 키, ARGV[2]=TTL(초). Set TTL은 늘어나기만 합니다. */
+    private static final byte[] REGISTER_SCRIPT =
+            """
+            redis.call('SADD', KEYS[1], ARGV[1])
+            local ttl = tonumber(ARGV[2])
+            if redis.call('TTL', KEYS[1]) < ttl then
+                redis.call('EXPIRE', KEYS[1], ttl)
+            end
+            return 1
+            """
+                    .getBytes(StandardCharsets.UTF_8);
+
+    /** KEYS[1]=태그 Set, KEYS[2]=임시 키. 태그 Set이 있으면 임시 키로 옮기고 1, 없으면 0을 반환합니다. */
+    private static final String CLAIM_SCRIPT =
+            """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('RENAME', KEYS[1], KEYS[2])
+                return 1
+            end
+            return 0
+            """;
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final DefaultRedisScript<Long> claimScript;
+
+    public CacheTagIndex(RedisTemplate<String, byte[]> binaryRedisTemplate) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.claimScript = new DefaultRedisScript<>(CLAIM_SCRIPT, Long.class);
+    }
+
+    /**
+     * 값 저장 + 태그 등록 (단일 Pipeline)
+     *
+     * @param key 캐시 키
+     * @param value 직렬화된 값
+     * @param ttl Time-To-Live
+     * @param tags 등록할 태그
+     */
+    public void setTagged(String key, byte[] value, Duration ttl, Collection<CacheTag> tags) {
+        byte[] keyBytes = toBytes(key);
+        byte[] ttlSeconds = toBytes(String.valueOf(Math.max(1L, ttl.toSeconds())));
+        Expiration expiration = Expiration.from(ttl);
+        Set<CacheTag> distinctTags = new LinkedHashSet<>(tags);
+
+        binaryRedisTemplate.executePipelined(
+                (RedisCallback<Object>)
+                        connection -> {
+                            connection
+                                    .stringCommands()
+                                    .set(keyBytes, value, expiration, SetOption.upsert());
+                            for (CacheTag tag : distinctTags) {
+                                connection
+                                        .scriptingCommands()
+                                        .eval(
+                                                REGISTER_SCRIPT,
+                                                ReturnType.INTEGER,
+                                                1,
+                                                toBytes(tagKey(tag)),
+                                                keyBytes,
+                                                ttlSeconds);
+                            }
+                            return null;
+                        });
+    }
+
+    /**
+     * 태그에 등록된 캐시 키 전체 삭제
+     *
+     * @param tag 무효화할 태그
+     * @return 삭제 요청한 캐시 키 수 (이미 만료된 키 포함)
+     */
+    public long evict(CacheTag tag) {
+        String tagKey = tagKey(tag);
+        String claimedKey = tagKey + EVICTING_SUFFIX + UUID.randomUUID();
+        Long claimed = binaryRedisTemplate.execute(claimScript, List.of(tagKey, claimedKey));
+        if (claimed == null || claimed == 0L) {
+            return 0L;
+        }
+
+        long evicted = 0L;
+        List<byte[]> batch = new ArrayList<>(UNLINK_BATCH_SIZE);
+        ScanOptions scanOptions = ScanOptions.scanOptions().count(SCAN_COUNT).build();
+        SetOperations<String, byte[]> setOperations = binaryRedisTemplate.opsForSet();
+        try (Cursor<byte[]> cursor = setOperations.scan(claimedKey, scanOptions)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == UNLINK_BATCH_SIZE) {
+                    evicted += unlinkAll(batch);
+                    batch.clear();
+                }
+            }
+        }
+        evicted += unlinkAll(batch);
+
+        binaryRedisTemplate.unlink(claimedKey);
+        return evicted;
+    }
+
+    /**
+     * 키 배치 UNLINK (Pipeline, 클러스터 슬롯이 달라도 되도록 키마다 개별 명령)
+     *
+     * @param keys 삭제할 키
+     * @return 배치 크기
+     */
+    private int unlinkAll(List<byte[]> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        binaryRedisTemplate.executePipelined(
+                (RedisCallback<Object>)
+                        connection -> {
+                            for (byte[] key : keys) {
+                                connection.keyCommands().unlink(key);
+                            }
+                            return null;
+                        });
+        return keys.size();
+    }
+
+    private static String tagKey(CacheTag tag) {
+        return TAG_KEY_PREFIX + tag.value() + TAG_KEY_SUFFIX;
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -22,6 +22,7 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
@@ -199,6 +200,31 @@ public class LettuceConfig {
         return template;
     }
 
+    /**
+     * 바이너리 값 RedisTemplate 설정
+     *
+     * <p>값을 직렬화하지 않고 byte[] 그대로 저장/조회합니다. 값 인코딩은 호출 측 코덱이 담당합니다 ({@code
+     * ObjectCacheAdapter}).
+     *
+     * @param connectionFactory RedisConnectionFactory
+     * @return RedisTemplate 인스턴스
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(
+            RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        StringRedisSerializer stringSerializer = new StringRedisSerializer();
+        template.setKeySerializer(stringSerializer);
+        template.setHashKeySerializer(stringSerializer);
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+
+        template.afterPropertiesSet();
+        return template;
+    }
+
     /**
      * JSON Serializer 생성 (타입 정보 포함)
      *
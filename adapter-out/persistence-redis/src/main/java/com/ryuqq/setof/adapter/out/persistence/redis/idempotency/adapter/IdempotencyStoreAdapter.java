@@ -0,0 +1,156 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.idempotency.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.setof.adapter.out.persistence.redis.common.exception.CacheSerializationException;
+import com.ryuqq.setof.application.common.port.out.IdempotencyStorePort;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 멱등 레코드 저장소 Adapter (Lettuce 기반)
+ *
+ * <p><strong>책임:</strong>
+ *
+ * <ul>
+ *   <li>처리 중 레코드 선점 (SET NX PX) 및 기존 레코드 조회를 한 번의 라운드트립으로 처리
+ *   <li>완료 결과 저장 및 처리 실패 시 레코드 해제 (소유 토큰 비교 후에만 변경)
+ * </ul>
+ *
+ * <p><strong>값 포맷:</strong>
+ *
+ * <pre>
+ * 처리 중: 'P' | ownerToken(UTF-8)
+ * 완료:   'C' | response(JSON)
+ * </pre>
+ *
+ * <p>키는 호출 측이 넘긴 멱등키를 그대로 사용합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class IdempotencyStoreAdapter implements IdempotencyStorePort {
+
+    private static final byte IN_PROGRESS = 'P';
+    private static final byte COMPLETED = 'C';
+
+    /** KEYS[1]=멱등키, ARGV[1]=처리 중 값, ARGV[2]=TTL(ms). 선점하면 ARGV[1], 아니면 기존 값을 반환합니다. */
+    private static final String BEGIN_SCRIPT =
+            """
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return ARGV[1]
+            end
+            return redis.call('GET', KEYS[1])
+            """;
+
+    /** KEYS[1]=멱등키, ARGV[1]=처리 중 값, ARGV[2]=완료 값, ARGV[3]=TTL(ms). 본인 레코드일 때만 교체합니다. */
+    private static final String COMPLETE_SCRIPT =
+            """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """;
+
+    /** KEYS[1]=멱등키, ARGV[1]=처리 중 값. 본인 레코드일 때만 삭제합니다. */
+    private static final String RELEASE_SCRIPT =
+            """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """;
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final DefaultRedisScript<byte[]> beginScript;
+    private final DefaultRedisScript<Long> completeScript;
+    private final DefaultRedisScript<Long> releaseScript;
+
+    public IdempotencyStoreAdapter(
+            RedisTemplate<String, byte[]> binaryRedisTemplate, ObjectMapper objectMapper) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.beginScript = new DefaultRedisScript<>(BEGIN_SCRIPT, byte[].class);
+        this.completeScript = new DefaultRedisScript<>(COMPLETE_SCRIPT, Long.class);
+        this.releaseScript = new DefaultRedisScript<>(RELEASE_SCRIPT, Long.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> IdempotencyRecord<T> begin(
+            String key, Class<T> responseType, Duration inProgressTtl) {
+        String ownerToken = UUID.randomUUID().toString();
+        byte[] marker = inProgressValue(ownerToken);
+        byte[] current =
+                binaryRedisTemplate.execute(
+                        beginScript, List.of(key), marker, millis(inProgressTtl));
+
+        if (Arrays.equals(current, marker)) {
+            return IdempotencyRecord.acquired(ownerToken);
+        }
+        if (current != null && current.length > 0 && current[0] == COMPLETED) {
+            return IdempotencyRecord.completed(readResponse(key, current, responseType));
+        }
+        return IdempotencyRecord.inProgress();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean complete(String key, String ownerToken, Object response, Duration ttl) {
+        Long replaced =
+                binaryRedisTemplate.execute(
+                        completeScript,
+                        List.of(key),
+                        inProgressValue(ownerToken),
+                        completedValue(key, response),
+                        millis(ttl));
+        return replaced != null && replaced == 1L;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void release(String key, String ownerToken) {
+        binaryRedisTemplate.execute(releaseScript, List.of(key), inProgressValue(ownerToken));
+    }
+
+    private static byte[] inProgressValue(String ownerToken) {
+        return prefixed(IN_PROGRESS, ownerToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private byte[] completedValue(String key, Object response) {
+        try {
+            return prefixed(COMPLETED, objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new CacheSerializationException("멱등 결과 직렬화 실패: " + key, e);
+        }
+    }
+
+    private <T> T readResponse(String key, byte[] value, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(value, 1, value.length - 1, responseType);
+        } catch (IOException e) {
+            throw new CacheSerializationException("멱등 결과 역직렬화 실패: " + key, e);
+        }
+    }
+
+    private static byte[] prefixed(byte prefix, byte[] payload) {
+        byte[] value = new byte[payload.length + 1];
+        value[0] = prefix;
+        System.arraycopy(payload, 0, value, 1, payload.length);
+        return value;
+    }
+
+    private static byte[] millis(Duration duration) {
+        return Long.toString(duration.toMillis()).getBytes(StandardCharsets.US_ASCII);
+    }
+}
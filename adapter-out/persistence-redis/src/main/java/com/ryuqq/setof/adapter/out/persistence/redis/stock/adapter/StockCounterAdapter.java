@@ -2,14 +2,18 @@ package com.ryuqq.setof.adapter.out.persistence.redis.stock.adapter;
 
 import com.ryuqq.setof.application.common.port.out.StockCounterPort;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Component;
 
 /**
@@ -19,6 +23,7 @@ import org.springframework.stereotype.Component;
  *
  * <ul>
  *   <li>원자적 재고 차감/증가 (DECRBY/INCRBY)
+ *   <li>복수 상품 All-or-Nothing 일괄 차감 (단일 Lua 스크립트)
  *   <li>재고 조회 및 초기화
  *   <li>키 형식: {@code stock:counter:{productStockId}}
  * </ul>
@@ -78,9 +83,46 @@ public class StockCounterAdapter implements StockCounterPort {
             return redis.call('INCRBY', key, quantity)
             """;
 
+    /**
+     * Lua 스크립트: 복수 키 All-or-Nothing 차감
+     *
+     * <p>모든 키의 존재 여부와 잔여 재고를 먼저 확인한 뒤, 전부 충분할 때만 DECRBY를 수행합니다. 부족한 키가 있으면 아무것도 차감하지 않고
+     * {@code [index, currentStock, ...]} 형태로 부족 목록을 반환합니다 (키 없으면 currentStock = -1).
+     *
+     * <p>ARGV[1]이 1이면 검증만 수행합니다 (dry-run). ARGV[2..]는 KEYS 순서와 동일한 차감 수량입니다.
+     */
+    private static final String DECREMENT_ALL_SCRIPT =
+            """
+            local dryRun = tonumber(ARGV[1]) == 1
+            local shortages = {}
+            for i = 1, #KEYS do
+                local quantity = tonumber(ARGV[i + 1])
+                local current = redis.call('GET', KEYS[i])
+                if not current then
+                    table.insert(shortages, i)
+                    table.insert(shortages, -1)
+                elseif tonumber(current) < quantity then
+                    table.insert(shortages, i)
+                    table.insert(shortages, tonumber(current))
+                end
+            end
+            if #shortages > 0 or dryRun then
+                return shortages
+            end
+            for i = 1, #KEYS do
+                redis.call('DECRBY', KEYS[i], tonumber(ARGV[i + 1]))
+            end
+            return shortages
+            """;
+
+    private static final int DRY_RUN = 1;
+    private static final int EXECUTE = 0;
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final DefaultRedisScript<Long> decrementScript;
     private final DefaultRedisScript<Long> incrementScript;
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> decrementAllScript;
     private final Duration stockKeyTtl;
 
     /**
@@ -95,6 +137,7 @@ public class StockCounterAdapter implements StockCounterPort {
         this.redisTemplate = redisTemplate;
         this.decrementScript = new DefaultRedisScript<>(DECREMENT_IF_EXISTS_SCRIPT, Long.class);
         this.incrementScript = new DefaultRedisScript<>(INCREMENT_IF_EXISTS_SCRIPT, Long.class);
+        this.decrementAllScript = new DefaultRedisScript<>(DECREMENT_ALL_SCRIPT, List.class);
         this.stockKeyTtl = Duration.ofSeconds(stockKeyTtlSeconds);
     }
 
@@ -191,7 +234,7 @@ public class StockCounterAdapter implements StockCounterPort {
      *
      * <p><strong>Batch 재고 확인:</strong>
      *
-     * <p>모든 상품의 재고가 충분한지 확인합니다. 하나라도 부족하면 false를 반환합니다.
+     * <p>일괄 차감 스크립트를 dry-run 모드로 실행하여 모든 상품의 재고가 충분한지 확인합니다. 하나라도 부족하면 false를 반환합니다.
      */
     @Override
     public boolean hasStocks(Map<Long, Integer> stockRequirements) {
@@ -199,20 +242,28 @@ public class StockCounterAdapter implements StockCounterPort {
             return true;
         }
 
-        List<Long> productStockIds = stockRequirements.keySet().stream().toList();
-        Map<Long, Integer> currentStocks = getStocks(productStockIds);
-
-        for (Map.Entry<Long, Integer> entry : stockRequirements.entrySet()) {
-            Long productStockId = entry.getKey();
-            int requiredQuantity = entry.getValue();
-            int currentStock = currentStocks.getOrDefault(productStockId, NOT_FOUND);
+        return executeDecrementAll(stockRequirements, DRY_RUN).reserved();
+    }
 
-            if (currentStock < requiredQuantity) {
-                return false;
-            }
+    /**
+     * {@inheritDoc}
+     *
+     * <p><strong>단일 라운드트립 일괄 차감:</strong>
+     *
+     * <p>Lua 스크립트 하나로 모든 {@code stock:counter:{id}} 키를 검증 후 차감합니다. Redis는 스크립트를 원자적으로 실행하므로
+     * 부분 차감 상태가 외부에 노출되지 않습니다.
+     *
+     * <p><strong>Cluster 주의:</strong>
+     *
+     * <p>Redis Cluster 환경에서는 모든 키가 같은 슬롯에 있어야 합니다 (현재 단일 노드/Replication 구성 기준).
+     */
+    @Override
+    public StockReservationResult decrementAll(Map<Long, Integer> stockRequirements) {
+        if (stockRequirements == null || stockRequirements.isEmpty()) {
+            return StockReservationResult.success();
         }
 
-        return true;
+        return executeDecrementAll(stockRequirements, EXECUTE);
     }
 
     /**
@@ -260,6 +311,63 @@ public class StockCounterAdapter implements StockCounterPort {
                         });
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p><strong>Batch 초기화 (SET NX EX):</strong>
+     *
+     * <p>Pipeline으로 키가 없는 경우에만 값을 설정합니다. 동시에 차감된 카운터를 DB 값으로 덮어쓰지 않습니다.
+     */
+    @Override
+    public void initializeAllIfAbsent(Map<Long, Integer> stocks) {
+        if (stocks == null || stocks.isEmpty()) {
+            return;
+        }
+
+        Expiration expiration = Expiration.from(stockKeyTtl);
+        redisTemplate.executePipelined(
+                (RedisCallback<Object>)
+                        connection -> {
+                            for (Map.Entry<Long, Integer> entry : stocks.entrySet()) {
+                                byte[] keyBytes = buildKey(entry.getKey()).getBytes();
+                                byte[] valueBytes = String.valueOf(entry.getValue()).getBytes();
+                                connection
+                                        .stringCommands()
+                                        .set(
+                                                keyBytes,
+                                                valueBytes,
+                                                expiration,
+                                                SetOption.ifAbsent());
+                            }
+                            return null;
+                        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p><strong>Batch TTL 갱신 (EXPIRE):</strong>
+     *
+     * <p>Pipeline으로 각 키에 EXPIRE를 실행합니다. 존재하지 않는 키에 대한 EXPIRE는 Redis에서 무시됩니다.
+     */
+    @Override
+    public void refreshTtl(List<Long> productStockIds) {
+        if (productStockIds == null || productStockIds.isEmpty()) {
+            return;
+        }
+
+        long ttlSeconds = stockKeyTtl.toSeconds();
+        redisTemplate.executePipelined(
+                (RedisCallback<Object>)
+                        connection -> {
+                            for (Long productStockId : productStockIds) {
+                                byte[] keyBytes = buildKey(productStockId).getBytes();
+                                connection.keyCommands().expire(keyBytes, ttlSeconds);
+                            }
+                            return null;
+                        });
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean exists(Long productStockId) {
@@ -275,6 +383,41 @@ public class StockCounterAdapter implements StockCounterPort {
         redisTemplate.delete(key);
     }
 
+    /**
+     * 일괄 차감 스크립트 실행
+     *
+     * @param stockRequirements productStockId → 수량 매핑
+     * @param mode DRY_RUN(검증만) 또는 EXECUTE(검증 후 차감)
+     * @return 차감 결과
+     */
+    private StockReservationResult executeDecrementAll(
+            Map<Long, Integer> stockRequirements, int mode) {
+        List<Long> productStockIds = new ArrayList<>(stockRequirements.size());
+        List<String> keys = new ArrayList<>(stockRequirements.size());
+        Object[] args = new Object[stockRequirements.size() + 1];
+        args[0] = mode;
+
+        int index = 1;
+        for (Map.Entry<Long, Integer> entry : stockRequirements.entrySet()) {
+            productStockIds.add(entry.getKey());
+            keys.add(buildKey(entry.getKey()));
+            args[index++] = entry.getValue();
+        }
+
+        List<?> shortages = redisTemplate.execute(decrementAllScript, keys, args);
+        if (shortages == null || shortages.isEmpty()) {
+            return StockReservationResult.success();
+        }
+
+        Map<Long, Integer> insufficient = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < shortages.size(); i += 2) {
+            int keyIndex = ((Number) shortages.get(i)).intValue() - 1;
+            int currentStock = ((Number) shortages.get(i + 1)).intValue();
+            insufficient.put(productStockIds.get(keyIndex), currentStock);
+        }
+        return StockReservationResult.insufficient(insufficient);
+    }
+
     /**
      * 재고 키 생성
      *
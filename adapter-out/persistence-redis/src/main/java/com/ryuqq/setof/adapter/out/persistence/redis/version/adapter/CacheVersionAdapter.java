@@ -0,0 +1,54 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.version.adapter;
+
+import com.ryuqq.setof.application.common.port.out.CacheVersionPort;
+import java.nio.charset.StandardCharsets;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 캐시 버전 카운터 Adapter (Lettuce 기반)
+ *
+ * <p><strong>책임:</strong>
+ *
+ * <ul>
+ *   <li>버전 조회 (GET) 및 원자적 증가 (INCR)
+ *   <li>키 형식: {@code cache:version:{name}}
+ * </ul>
+ *
+ * <p>버전 키는 TTL 없이 유지됩니다. 키가 사라지면 버전이 0부터 다시 시작하며, 조회 측은 값이 달라진 것만 보고 재적재하므로 문제가 되지
+ * 않습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class CacheVersionAdapter implements CacheVersionPort {
+
+    private static final String KEY_PREFIX = "cache:version:";
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    public CacheVersionAdapter(RedisTemplate<String, byte[]> binaryRedisTemplate) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getVersion(String name) {
+        byte[] value = binaryRedisTemplate.opsForValue().get(KEY_PREFIX + name);
+        if (value == null) {
+            return 0L;
+        }
+        return Long.parseLong(new String(value, StandardCharsets.US_ASCII));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long increment(String name) {
+        Long version = binaryRedisTemplate.opsForValue().increment(KEY_PREFIX + name);
+        if (version == null) {
+            throw new IllegalStateException("Redis INCR returned null for version: " + name);
+        }
+        return version;
+    }
+}
@@ -4,6 +4,7 @@ import static com.ryuqq.setof.adapter.out.persistence.redis.architecture.ArchUni
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.*;
 
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
 import com.tngtech.archunit.core.importer.ImportOption;
@@ -25,7 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * <ul>
  *   <li>클래스 구조: @Component, CachePort 구현
- *   <li>의존성: RedisTemplate, ObjectMapper
+ *   <li>의존성: RedisTemplate, ObjectMapper (범용 CachePort 구현체), CachePort 위임 (특화 Port 구현체)
  *   <li>금지 사항: @Transactional, KEYS 명령어
  *   <li>메서드: SCAN 기반 evictByPattern
  * </ul>
@@ -36,8 +37,13 @@ import org.springframework.transaction.annotation.Transactional;
 @DisplayName("CacheAdapter 아키텍처 규칙 검증")
 class CacheAdapterArchTest {
 
+    private static final String CACHE_PORT =
+            "com.ryuqq.setof.application.common.port.out.CachePort";
+
     private static JavaClasses allClasses;
     private static JavaClasses cacheAdapterClasses;
+    private static JavaClasses genericCacheAdapterClasses;
+    private static JavaClasses specializedCacheAdapterClasses;
 
     /**
      * 특화 Adapter 제외 목록
@@ -46,10 +52,11 @@ class CacheAdapterArchTest {
      *
      * <ul>
      *   <li>RefreshTokenCacheAdapter - 토큰 전용 Adapter (RefreshTokenCacheCommandPort/QueryPort 구현)
+     *   <li>ProductThumbnailCacheAdapter - 다건 MGET/Pipeline 전용 Adapter (CachePort에 다건 연산 없음)
      * </ul>
      */
     private static final java.util.Set<String> EXCLUDED_ADAPTERS =
-            java.util.Set.of("RefreshTokenCacheAdapter");
+            java.util.Set.of("RefreshTokenCacheAdapter", "ProductThumbnailCacheAdapter");
 
     @BeforeAll
     static void setUp() {
@@ -67,6 +74,23 @@ class CacheAdapterArchTest {
                                                 && !javaClass.isInterface()
                                                 && !EXCLUDED_ADAPTERS.contains(
                                                         javaClass.getSimpleName())));
+
+        genericCacheAdapterClasses =
+                cacheAdapterClasses.that(
+                        DescribedPredicate.describe(
+                                "범용 CachePort 구현 Cache Adapter",
+                                CacheAdapterArchTest::implementsCachePort));
+
+        specializedCacheAdapterClasses =
+                cacheAdapterClasses.that(
+                        DescribedPredicate.describe(
+                                "특화 Port 구현 Cache Adapter (Near Cache 등)",
+                                javaClass -> !implementsCachePort(javaClass)));
+    }
+
+    private static boolean implementsCachePort(JavaClass javaClass) {
+        return javaClass.getAllRawInterfaces().stream()
+                .anyMatch(iface -> iface.getName().equals(CACHE_PORT));
     }
 
     // ========================================================================
@@ -190,7 +214,7 @@ class CacheAdapterArchTest {
                             .allowEmptyShould(true)
                             .because("Cache Adapter는 RedisTemplate 의존성이 필수입니다 (Lettuce)");
 
-            rule.check(cacheAdapterClasses);
+            rule.check(genericCacheAdapterClasses);
         }
 
         @Test
@@ -217,7 +241,7 @@ class CacheAdapterArchTest {
                             .allowEmptyShould(true)
                             .because("Cache Adapter는 ObjectMapper 의존성이 필수입니다 (JSON 직렬화)");
 
-            rule.check(cacheAdapterClasses);
+            rule.check(genericCacheAdapterClasses);
         }
 
         @Test
@@ -239,6 +263,29 @@ class CacheAdapterArchTest {
 
             rule.check(cacheAdapterClasses);
         }
+
+        @Test
+        @DisplayName("규칙 2-4: 특화 Port Cache Adapter는 Redis 값 저장을 CachePort에 위임해야 합니다")
+        void specializedCacheAdapter_MustDelegateToCachePort() {
+            ArchRule delegateRule =
+                    classes()
+                            .should()
+                            .dependOnClassesThat()
+                            .haveFullyQualifiedName(CACHE_PORT)
+                            .allowEmptyShould(true)
+                            .because("Redis 계층은 CachePort(ObjectCacheAdapter)의 코덱/적재 정책을 공유해야 합니다");
+
+            ArchRule serializationRule =
+                    noClasses()
+                            .should()
+                            .dependOnClassesThat()
+                            .haveNameMatching("com\\.fasterxml\\.jackson\\..*")
+                            .allowEmptyShould(true)
+                            .because("특화 Cache Adapter는 자체 직렬화를 두지 않습니다");
+
+            delegateRule.check(specializedCacheAdapterClasses);
+            serializationRule.check(specializedCacheAdapterClasses);
+        }
     }
 
     // ========================================================================
@@ -272,7 +319,7 @@ class CacheAdapterArchTest {
                             .allowEmptyShould(true)
                             .because("패턴 기반 캐시 무효화 메서드가 필수입니다");
 
-            rule.check(cacheAdapterClasses);
+            rule.check(genericCacheAdapterClasses);
         }
 
         @Test
@@ -298,7 +345,7 @@ class CacheAdapterArchTest {
                             .allowEmptyShould(true)
                             .because("KEYS 명령어 대신 SCAN을 사용하는 scanKeys 메서드가 필수입니다");
 
-            rule.check(cacheAdapterClasses);
+            rule.check(genericCacheAdapterClasses);
         }
     }
 
@@ -0,0 +1,194 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.setof.adapter.out.persistence.redis.cache.load.CacheLoadCoordinator;
+import com.ryuqq.setof.adapter.out.persistence.redis.cache.tag.CacheTagIndex;
+import com.ryuqq.setof.adapter.out.persistence.redis.common.config.LettuceConfig;
+import com.ryuqq.setof.application.product.dto.response.FullProductResponse;
+import com.ryuqq.setof.application.productstock.dto.response.ProductStockResponse;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * FullProductCacheAdapter 통합 테스트
+ *
+ * <p>Near Cache(Caffeine)와 Redis({@link ObjectCacheAdapter} 위임) 2단 캐시의 조회/저장/무효화를 검증합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("FullProductCacheAdapter 통합 테스트")
+@SpringBootTest(
+        classes = {
+            LettuceConfig.class,
+            JacksonAutoConfiguration.class,
+            CacheLoadCoordinator.class,
+            CacheTagIndex.class,
+            ObjectCacheAdapter.class,
+            FullProductCacheAdapter.class
+        },
+        properties = "cache.load.ttl-jitter-ratio=0")
+@ActiveProfiles("test")
+@Testcontainers
+class FullProductCacheAdapterTest {
+
+    @Container
+    static GenericContainer<?> redis =
+            new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+    }
+
+    private static final String KEY_PREFIX = "cache:product:full:";
+    private static final Long PRODUCT_GROUP_ID = 1L;
+
+    @Autowired private RedisTemplate<String, Object> redisTemplate;
+    @Autowired private FullProductCacheAdapter fullProductCacheAdapter;
+
+    @AfterEach
+    void tearDown() {
+        fullProductCacheAdapter.evictLocal(PRODUCT_GROUP_ID);
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
+    }
+
+    private FullProductResponse createResponse() {
+        return new FullProductResponse(
+                null,
+                List.of(),
+                List.of(),
+                null,
+                null,
+                List.of(
+                        ProductStockResponse.of(
+                                100L, 10L, 50, Instant.parse("2025-01-01T00:00:00Z"))));
+    }
+
+    @Nested
+    @DisplayName("get 메서드")
+    class GetTest {
+
+        @Test
+        @DisplayName("성공 - Near Cache 미스 시 Redis에서 역직렬화하여 반환")
+        void shouldReadFromRedisWhenNearCacheMiss() {
+            // given
+            FullProductResponse response = createResponse();
+            fullProductCacheAdapter.set(PRODUCT_GROUP_ID, response);
+            fullProductCacheAdapter.evictLocal(PRODUCT_GROUP_ID);
+
+            // when
+            Optional<FullProductResponse> result = fullProductCacheAdapter.get(PRODUCT_GROUP_ID);
+
+            // then
+            assertThat(result).contains(response);
+        }
+
+        @Test
+        @DisplayName("성공 - Near Cache 적중 시 Redis를 조회하지 않음")
+        void shouldReadFromNearCacheWhenPresent() {
+            // given
+            FullProductResponse response = createResponse();
+            fullProductCacheAdapter.set(PRODUCT_GROUP_ID, response);
+            redisTemplate.delete(KEY_PREFIX + PRODUCT_GROUP_ID);
+
+            // when
+            Optional<FullProductResponse> result = fullProductCacheAdapter.get(PRODUCT_GROUP_ID);
+
+            // then
+            assertThat(result).containsSame(response);
+        }
+
+        @Test
+        @DisplayName("성공 - 두 계층 모두 없으면 empty 반환")
+        void shouldReturnEmptyWhenNotCached() {
+            assertThat(fullProductCacheAdapter.get(PRODUCT_GROUP_ID)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("getOrLoad 메서드")
+    class GetOrLoadTest {
+
+        @Test
+        @DisplayName("성공 - 캐시가 없으면 적재 후 Redis와 Near Cache에 저장")
+        void shouldLoadAndStoreWhenNotCached() {
+            // given
+            FullProductResponse response = createResponse();
+            AtomicInteger loadCount = new AtomicInteger();
+
+            // when
+            FullProductResponse first =
+                    fullProductCacheAdapter.getOrLoad(
+                            PRODUCT_GROUP_ID,
+                            () -> {
+                                loadCount.incrementAndGet();
+                                return response;
+                            });
+            fullProductCacheAdapter.evictLocal(PRODUCT_GROUP_ID);
+            FullProductResponse second =
+                    fullProductCacheAdapter.getOrLoad(
+                            PRODUCT_GROUP_ID,
+                            () -> {
+                                loadCount.incrementAndGet();
+                                return response;
+                            });
+
+            // then
+            assertThat(first).isEqualTo(response);
+            assertThat(second).isEqualTo(response);
+            assertThat(loadCount).hasValue(1);
+            assertThat(redisTemplate.hasKey(KEY_PREFIX + PRODUCT_GROUP_ID)).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공 - Redis 키는 soft expiry 이후 stale 구간까지 유지")
+        void shouldKeepRedisKeyThroughStaleWindow() {
+            // when
+            fullProductCacheAdapter.getOrLoad(PRODUCT_GROUP_ID, () -> createResponse());
+
+            // then (redis ttl 10m + stale-window 60s)
+            Long expireSeconds =
+                    redisTemplate.getExpire(KEY_PREFIX + PRODUCT_GROUP_ID, TimeUnit.SECONDS);
+            assertThat(expireSeconds).isGreaterThan(630L);
+        }
+    }
+
+    @Nested
+    @DisplayName("evict 메서드")
+    class EvictTest {
+
+        @Test
+        @DisplayName("성공 - Near Cache와 Redis 키를 모두 제거")
+        void shouldEvictBothTiers() {
+            // given
+            fullProductCacheAdapter.set(PRODUCT_GROUP_ID, createResponse());
+
+            // when
+            fullProductCacheAdapter.evict(PRODUCT_GROUP_ID);
+
+            // then
+            assertThat(redisTemplate.hasKey(KEY_PREFIX + PRODUCT_GROUP_ID)).isFalse();
+            assertThat(fullProductCacheAdapter.get(PRODUCT_GROUP_ID)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.setof.application.banneritem.dto.response.BannerItemResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BannerItemResponseArrayCacheCodec 단위 테스트
+ *
+ * <p>null 필드를 포함한 왕복 인코딩과 {@link BinaryCacheSerializer}의 전용 코덱 적용을 검증합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("BannerItemResponseArrayCacheCodec 단위 테스트")
+class BannerItemResponseArrayCacheCodecTest {
+
+    private final BannerItemResponseArrayCacheCodec codec = new BannerItemResponseArrayCacheCodec();
+
+    private final BannerItemResponse[] items = {
+        new BannerItemResponse(
+                10L,
+                1L,
+                "메인 배너",
+                "https://cdn.example.com/banner/10.jpg",
+                "/event/10",
+                1,
+                "ACTIVE",
+                Instant.parse("2025-01-01T00:00:00Z"),
+                Instant.parse("2025-01-31T00:00:00Z"),
+                1200,
+                600,
+                Instant.parse("2024-12-20T00:00:00Z")),
+        new BannerItemResponse(
+                11L, 1L, null, null, null, null, "ACTIVE", null, null, null, null, null)
+    };
+
+    @Test
+    @DisplayName("null 필드를 포함해 왕복 인코딩된다")
+    void shouldRoundTrip() {
+        assertThat(codec.decode(codec.encode(items))).containsExactly(items);
+    }
+
+    @Test
+    @DisplayName("BinaryCacheSerializer에 등록하면 JSON 대신 전용 코덱으로 저장한다")
+    void shouldBeUsedByBinaryCacheSerializer() {
+        BinaryCacheSerializer serializer =
+                new BinaryCacheSerializer(
+                        new CacheCodecRegistry(
+                                List.of(codec),
+                                type -> {
+                                    throw new AssertionError("JSON 코덱을 사용하면 안 됩니다: " + type);
+                                }),
+                        1024,
+                        new SimpleMeterRegistry());
+
+        byte[] bytes = serializer.serialize("cache:banner", items);
+
+        assertThat(serializer.deserialize("cache:banner", bytes, BannerItemResponse[].class))
+                .hasValueSatisfying(decoded -> assertThat(decoded).containsExactly(items));
+    }
+}
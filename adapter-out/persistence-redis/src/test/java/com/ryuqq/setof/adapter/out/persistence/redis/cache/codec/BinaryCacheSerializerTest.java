@@ -0,0 +1,252 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.setof.adapter.out.persistence.redis.cache.load.CacheEntry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BinaryCacheSerializer 단위 테스트
+ *
+ * <p>바이너리 포맷 왕복, LZ4 압축, 스키마/타입 불일치와 디코딩 실패의 Miss 처리, 메트릭 기록을 검증합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("BinaryCacheSerializer 단위 테스트")
+class BinaryCacheSerializerTest {
+
+    private static final String CACHE_NAME = "cache:product";
+    private static final int COMPRESSION_THRESHOLD = 256;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+
+    record SampleValue(Long id, String name) {}
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private BinaryCacheSerializer serializer(CacheCodec<?>... codecs) {
+        CacheCodecRegistry registry =
+                new CacheCodecRegistry(
+                        List.of(codecs), type -> new JsonCacheCodec<>(objectMapper, type));
+        return new BinaryCacheSerializer(registry, COMPRESSION_THRESHOLD, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("기본 JSON 코덱")
+    class JsonFallback {
+
+        @Test
+        @DisplayName("전용 코덱이 없는 타입은 JSON으로 왕복 직렬화된다")
+        void shouldRoundTripWithJsonCodec() {
+            BinaryCacheSerializer serializer = serializer();
+            SampleValue value = new SampleValue(1L, "상품");
+
+            byte[] bytes = serializer.serialize(CACHE_NAME, value);
+
+            assertThat(bytes[0]).isEqualTo(BinaryCacheSerializer.MAGIC);
+            assertThat(serializer.deserialize(CACHE_NAME, bytes, SampleValue.class))
+                    .contains(value);
+            assertThat(serializer.deserialize(CACHE_NAME, bytes)).contains(value);
+        }
+
+        @Test
+        @DisplayName("이전 JSON 포맷 값은 Cache Miss로 처리된다")
+        void shouldTreatLegacyJsonAsMiss() {
+            BinaryCacheSerializer serializer = serializer();
+            byte[] legacy =
+                    "{\"@class\":\"x.SampleValue\",\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+            assertThat(serializer.deserialize(CACHE_NAME, legacy, SampleValue.class)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("호환되지 않는 타입으로 조회하면 Cache Miss로 처리된다")
+        void shouldTreatIncompatibleTypeAsMiss() {
+            BinaryCacheSerializer serializer = serializer();
+            byte[] bytes = serializer.serialize(CACHE_NAME, new SampleValue(1L, "상품"));
+
+            assertThat(serializer.deserialize(CACHE_NAME, bytes, String.class)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("JDK 불변 컬렉션은 인터페이스 타입으로 저장되어 왕복 직렬화된다")
+        void shouldRoundTripImmutableList() {
+            BinaryCacheSerializer serializer = serializer();
+
+            byte[] bytes = serializer.serialize(CACHE_NAME, List.of("a", "b"));
+
+            assertThat(serializer.deserialize(CACHE_NAME, bytes, List.class))
+                    .contains(List.of("a", "b"));
+        }
+
+        @Test
+        @DisplayName("타입 미지정 조회는 사용한 적 없는 타입명을 로드하지 않고 Cache Miss로 처리된다")
+        void shouldNotLoadUnknownTypeName() {
+            byte[] bytes = serializer().serialize(CACHE_NAME, new SampleValue(1L, "상품"));
+
+            assertThat(serializer().deserialize(CACHE_NAME, bytes)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("전용 코덱")
+    class CustomCodec {
+
+        @Test
+        @DisplayName("등록된 전용 코덱으로 인코딩/디코딩한다")
+        void shouldUseRegisteredCodec() {
+            BinaryCacheSerializer serializer = serializer(new SampleValueCodec(1));
+            SampleValue value = new SampleValue(7L, "codec");
+
+            byte[] bytes = serializer.serialize(CACHE_NAME, value);
+
+            assertThat(new String(bytes, StandardCharsets.UTF_8)).contains("7|codec");
+            assertThat(serializer.deserialize(CACHE_NAME, bytes, SampleValue.class))
+                    .contains(value);
+        }
+
+        @Test
+        @DisplayName("스키마 버전이 다르면 Cache Miss로 처리된다")
+        void shouldTreatSchemaVersionMismatchAsMiss() {
+            byte[] bytes =
+                    serializer(new SampleValueCodec(1))
+                            .serialize(CACHE_NAME, new SampleValue(7L, "codec"));
+
+            Optional<SampleValue> result =
+                    serializer(new SampleValueCodec(2))
+                            .deserialize(CACHE_NAME, bytes, SampleValue.class);
+
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("디코딩에 실패하면 Cache Miss로 처리된다")
+        void shouldTreatDecodeFailureAsMiss() {
+            BinaryCacheSerializer serializer = serializer(new SampleValueCodec(1));
+            byte[] bytes = serializer.serialize(CACHE_NAME, new SampleValue(7L, "codec"));
+            byte[] corrupted = Arrays.copyOf(bytes, bytes.length - "7|codec".length());
+
+            assertThat(serializer.deserialize(CACHE_NAME, corrupted, SampleValue.class))
+                    .isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("LZ4 압축")
+    class Compression {
+
+        @Test
+        @DisplayName("임계값 이상 payload는 압축 저장되고 원본으로 복원된다")
+        void shouldCompressLargePayload() throws Exception {
+            BinaryCacheSerializer serializer = serializer();
+            SampleValue value = new SampleValue(1L, "상품설명".repeat(200));
+            int rawLength = objectMapper.writeValueAsBytes(value).length;
+
+            byte[] bytes = serializer.serialize(CACHE_NAME, value);
+
+            assertThat(bytes[1] & BinaryCacheSerializer.FLAG_LZ4).isNotZero();
+            assertThat(bytes.length).isLessThan(rawLength);
+            assertThat(serializer.deserialize(CACHE_NAME, bytes, SampleValue.class))
+                    .contains(value);
+        }
+
+        @Test
+        @DisplayName("임계값 미만 payload는 압축하지 않는다")
+        void shouldNotCompressSmallPayload() {
+            byte[] bytes = serializer().serialize(CACHE_NAME, new SampleValue(1L, "상품"));
+
+            assertThat(bytes[1] & BinaryCacheSerializer.FLAG_LZ4).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("soft expiry")
+    class SoftExpiry {
+
+        @Test
+        @DisplayName("freshUntil을 기록하고 값과 함께 복원한다")
+        void shouldRoundTripFreshUntil() {
+            BinaryCacheSerializer serializer = serializer();
+            SampleValue value = new SampleValue(1L, "상품설명".repeat(200));
+
+            byte[] bytes =
+                    serializer.serialize(
+                            CACHE_NAME, value, SampleValue.class, 1_700_000_000_000L);
+
+            assertThat(serializer.deserializeEntry(CACHE_NAME, bytes, SampleValue.class))
+                    .contains(new CacheEntry<>(value, 1_700_000_000_000L));
+            assertThat(serializer.deserialize(CACHE_NAME, bytes, SampleValue.class))
+                    .contains(value);
+        }
+
+        @Test
+        @DisplayName("freshUntil 없이 저장한 값은 soft expiry가 없다")
+        void shouldReturnNoSoftExpiryByDefault() {
+            BinaryCacheSerializer serializer = serializer();
+            byte[] bytes = serializer.serialize(CACHE_NAME, new SampleValue(1L, "상품"));
+
+            assertThat(serializer.deserializeEntry(CACHE_NAME, bytes, SampleValue.class))
+                    .hasValueSatisfying(
+                            entry ->
+                                    assertThat(entry.freshUntilMillis())
+                                            .isEqualTo(CacheEntry.NO_SOFT_EXPIRY));
+        }
+    }
+
+    @Test
+    @DisplayName("캐시 이름 태그로 payload 크기와 디코딩 시간을 기록한다")
+    void shouldRecordMetricsPerCacheName() {
+        BinaryCacheSerializer serializer = serializer();
+        byte[] bytes = serializer.serialize(CACHE_NAME, new SampleValue(1L, "상품"));
+        serializer.deserialize(CACHE_NAME, bytes, SampleValue.class);
+
+        assertThat(
+                        meterRegistry
+                                .get("cache.codec.payload.size")
+                                .tag("cache", CACHE_NAME)
+                                .tag("stage", "stored")
+                                .summary()
+                                .totalAmount())
+                .isEqualTo(bytes.length);
+        assertThat(meterRegistry.get("cache.codec.decode").tag("cache", CACHE_NAME).timer().count())
+                .isEqualTo(1);
+    }
+
+    private record SampleValueCodec(int version) implements CacheCodec<SampleValue> {
+
+        @Override
+        public Class<SampleValue> type() {
+            return SampleValue.class;
+        }
+
+        @Override
+        public int schemaVersion() {
+            return version;
+        }
+
+        @Override
+        public byte[] encode(SampleValue value) {
+            return (value.id() + "|" + value.name()).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public SampleValue decode(byte[] payload) {
+            String[] parts = new String(payload, StandardCharsets.UTF_8).split("\\|", 2);
+            return new SampleValue(Long.parseLong(parts[0]), parts[1]);
+        }
+    }
+}
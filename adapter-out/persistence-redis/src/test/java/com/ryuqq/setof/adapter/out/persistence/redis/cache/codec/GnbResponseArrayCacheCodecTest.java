@@ -0,0 +1,62 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ryuqq.setof.adapter.out.persistence.redis.common.exception.CacheSerializationException;
+import com.ryuqq.setof.application.gnb.dto.response.GnbResponse;
+import java.time.Instant;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * GnbResponseArrayCacheCodec 단위 테스트
+ *
+ * <p>null 필드를 포함한 왕복 인코딩, JSON 대비 크기, 잘린 payload의 디코딩 실패를 검증합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("GnbResponseArrayCacheCodec 단위 테스트")
+class GnbResponseArrayCacheCodecTest {
+
+    private final GnbResponseArrayCacheCodec codec = new GnbResponseArrayCacheCodec();
+
+    private final GnbResponse[] gnbs = {
+        new GnbResponse(
+                1L,
+                "신상품",
+                "/new",
+                1,
+                "ACTIVE",
+                Instant.parse("2025-01-01T00:00:00Z"),
+                Instant.parse("2025-12-31T23:59:59.123456789Z"),
+                Instant.parse("2024-12-01T00:00:00Z"),
+                Instant.parse("2024-12-02T00:00:00Z")),
+        new GnbResponse(2L, "세일", null, 2, "ACTIVE", null, null, null, null)
+    };
+
+    @Test
+    @DisplayName("null 필드를 포함해 왕복 인코딩되고 JSON보다 작다")
+    void shouldRoundTripAndBeSmallerThanJson() throws Exception {
+        byte[] payload = codec.encode(gnbs);
+
+        assertThat(codec.decode(payload)).containsExactly(gnbs);
+        byte[] json =
+                new ObjectMapper().registerModule(new JavaTimeModule()).writeValueAsBytes(gnbs);
+        assertThat(payload.length).isLessThan(json.length);
+    }
+
+    @Test
+    @DisplayName("잘린 payload는 CacheSerializationException으로 실패한다")
+    void shouldFailOnTruncatedPayload() {
+        byte[] payload = codec.encode(gnbs);
+        byte[] truncated = Arrays.copyOf(payload, payload.length - 3);
+
+        assertThatThrownBy(() -> codec.decode(truncated))
+                .isInstanceOf(CacheSerializationException.class);
+    }
+}
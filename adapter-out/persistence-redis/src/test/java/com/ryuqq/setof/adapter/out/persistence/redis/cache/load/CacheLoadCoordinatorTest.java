@@ -0,0 +1,251 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CacheLoadCoordinator 단위 테스트
+ *
+ * <p>Lease를 끈 상태(JVM 내부 Single-Flight)에서 적재 병합, stale 값 반환과 백그라운드 갱신, TTL jitter, 저장소 장애 시
+ * loader 대체와 대기 시간 제한을 검증합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("CacheLoadCoordinator 단위 테스트")
+class CacheLoadCoordinatorTest {
+
+    private static final String KEY = "cache:gnb";
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration STALE_WINDOW = Duration.ofMinutes(1);
+    private static final Duration JOIN_TIMEOUT = Duration.ofMillis(200);
+
+    private final CacheLoadCoordinator coordinator =
+            new CacheLoadCoordinator(
+                    null, STALE_WINDOW, 0.1, Duration.ZERO, Duration.ZERO, JOIN_TIMEOUT);
+    private final InMemoryStore store = new InMemoryStore();
+
+    @AfterEach
+    void tearDown() {
+        coordinator.destroy();
+    }
+
+    @Nested
+    @DisplayName("Cache Miss")
+    class MissTest {
+
+        @Test
+        @DisplayName("동시 Miss는 loader를 한 번만 실행하고 결과를 공유")
+        void shouldCoalesceConcurrentLoads() throws Exception {
+            // given
+            int threadCount = 20;
+            AtomicInteger loadCount = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+            // when
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                results.add(
+                        executor.submit(
+                                () ->
+                                        coordinator.getOrLoad(
+                                                KEY,
+                                                TTL,
+                                                () -> {
+                                                    loadCount.incrementAndGet();
+                                                    await(release);
+                                                    return "loaded";
+                                                },
+                                                store)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+            }
+            assertThat(loadCount).hasValue(1);
+            executor.shutdown();
+        }
+
+        @Test
+        @DisplayName("loader가 null을 반환하면 캐시하지 않음")
+        void shouldNotCacheNull() {
+            // when
+            String result = coordinator.getOrLoad(KEY, TTL, () -> null, store);
+
+            // then
+            assertThat(result).isNull();
+            assertThat(store.entries).isEmpty();
+        }
+
+        @Test
+        @DisplayName("물리 TTL은 jitter 적용 TTL + stale 구간")
+        void shouldStoreWithJitterAndStaleWindow() {
+            // when
+            coordinator.getOrLoad(KEY, TTL, () -> "loaded", store);
+
+            // then
+            Duration storedTtl = store.ttls.get(KEY);
+            assertThat(storedTtl)
+                    .isBetween(TTL.plus(STALE_WINDOW), TTL.plus(Duration.ofMinutes(2)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Cache Hit")
+    class HitTest {
+
+        @Test
+        @DisplayName("신선한 값은 loader 없이 반환")
+        void shouldReturnFreshValue() {
+            // given
+            store.entries.put(
+                    KEY, new CacheEntry<>("cached", System.currentTimeMillis() + 60_000));
+
+            // when
+            String result = coordinator.getOrLoad(KEY, TTL, () -> "loaded", store);
+
+            // then
+            assertThat(result).isEqualTo("cached");
+        }
+
+        @Test
+        @DisplayName("stale 값은 즉시 반환하고 백그라운드에서 한 번만 갱신")
+        void shouldServeStaleAndRefreshOnce() throws Exception {
+            // given
+            store.entries.put(KEY, new CacheEntry<>("stale", System.currentTimeMillis() - 1));
+            AtomicInteger loadCount = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+
+            // when
+            List<String> results = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                results.add(
+                        coordinator.getOrLoad(
+                                KEY,
+                                TTL,
+                                () -> {
+                                    loadCount.incrementAndGet();
+                                    await(release);
+                                    return "refreshed";
+                                },
+                                store));
+            }
+            release.countDown();
+
+            // then
+            assertThat(results).containsOnly("stale");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!"refreshed".equals(store.entries.get(KEY).value())
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(store.entries.get(KEY).value()).isEqualTo("refreshed");
+            assertThat(loadCount).hasValue(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("장애 격리")
+    class FailureTest {
+
+        @Test
+        @DisplayName("저장소 조회/저장이 실패하면 loader 결과를 반환")
+        void shouldFallBackToLoaderWhenStoreFails() {
+            // given
+            store.failing = true;
+
+            // when
+            String result = coordinator.getOrLoad(KEY, TTL, () -> "loaded", store);
+
+            // then
+            assertThat(result).isEqualTo("loaded");
+            assertThat(store.entries).isEmpty();
+        }
+
+        @Test
+        @DisplayName("진행 중인 적재가 join-timeout을 넘기면 대기 요청이 직접 적재")
+        void shouldLoadDirectlyWhenJoinTimesOut() throws Exception {
+            // given
+            CountDownLatch leaderStarted = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            Future<String> leader =
+                    executor.submit(
+                            () ->
+                                    coordinator.getOrLoad(
+                                            KEY,
+                                            TTL,
+                                            () -> {
+                                                leaderStarted.countDown();
+                                                await(release);
+                                                return "leader";
+                                            },
+                                            store));
+            await(leaderStarted);
+
+            // when
+            long start = System.nanoTime();
+            String result = coordinator.getOrLoad(KEY, TTL, () -> "follower", store);
+            long elapsed = System.nanoTime() - start;
+            release.countDown();
+
+            // then
+            assertThat(result).isEqualTo("follower");
+            assertThat(Duration.ofNanos(elapsed)).isBetween(JOIN_TIMEOUT, Duration.ofSeconds(4));
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class InMemoryStore implements CacheEntryStore<String> {
+
+        private final Map<String, CacheEntry<String>> entries = new ConcurrentHashMap<>();
+        private final Map<String, Duration> ttls = new ConcurrentHashMap<>();
+        private volatile boolean failing;
+
+        @Override
+        public Optional<CacheEntry<String>> read(String key) {
+            if (failing) {
+                throw new IllegalStateException("store unavailable");
+            }
+            return Optional.ofNullable(entries.get(key));
+        }
+
+        @Override
+        public void write(String key, String value, long freshUntilMillis, Duration ttl) {
+            if (failing) {
+                throw new IllegalStateException("store unavailable");
+            }
+            entries.put(key, new CacheEntry<>(value, freshUntilMillis));
+            ttls.put(key, ttl);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.cache.tag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.setof.adapter.out.persistence.redis.common.config.LettuceConfig;
+import com.ryuqq.setof.application.common.dto.CacheTag;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * CacheTagIndex 통합 테스트
+ *
+ * <p>태그 등록, 태그 Set TTL 유지, 태그 단위 무효화를 검증합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("CacheTagIndex 통합 테스트")
+@SpringBootTest(
+        classes = {LettuceConfig.class, JacksonAutoConfiguration.class, CacheTagIndex.class})
+@ActiveProfiles("test")
+@Testcontainers
+class CacheTagIndexTest {
+
+    @Container
+    static GenericContainer<?> redis =
+            new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+    }
+
+    private static final CacheTag SELLER = CacheTag.seller(1L);
+    private static final CacheTag BRAND = CacheTag.brand(2L);
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final byte[] VALUE = "value".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired private RedisTemplate<String, byte[]> binaryRedisTemplate;
+    @Autowired private CacheTagIndex cacheTagIndex;
+
+    @AfterEach
+    void tearDown() {
+        binaryRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
+    }
+
+    @Nested
+    @DisplayName("setTagged 메서드")
+    class SetTaggedTest {
+
+        @Test
+        @DisplayName("성공 - 값을 저장하고 각 태그 Set에 키를 등록")
+        void shouldStoreValueAndRegisterKey() {
+            // when
+            cacheTagIndex.setTagged("cache:a", VALUE, TTL, List.of(SELLER, BRAND));
+
+            // then
+            assertThat(binaryRedisTemplate.opsForValue().get("cache:a")).isEqualTo(VALUE);
+            assertThat(binaryRedisTemplate.opsForSet().size("cache:tag:{seller:1}")).isEqualTo(1);
+            assertThat(binaryRedisTemplate.opsForSet().size("cache:tag:{brand:2}")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 - 태그 Set TTL은 가장 긴 값 TTL로만 연장")
+        void shouldOnlyExtendTagTtl() {
+            // given
+            cacheTagIndex.setTagged("cache:long", VALUE, Duration.ofMinutes(10), List.of(SELLER));
+
+            // when
+            cacheTagIndex.setTagged("cache:short", VALUE, Duration.ofMinutes(1), List.of(SELLER));
+
+            // then
+            assertThat(binaryRedisTemplate.getExpire("cache:tag:{seller:1}"))
+                    .isGreaterThan(Duration.ofMinutes(5).toSeconds());
+        }
+    }
+
+    @Nested
+    @DisplayName("evict 메서드")
+    class EvictTest {
+
+        @Test
+        @DisplayName("성공 - 태그에 등록된 키만 삭제")
+        void shouldEvictOnlyTaggedKeys() {
+            // given
+            cacheTagIndex.setTagged("cache:a", VALUE, TTL, List.of(SELLER));
+            cacheTagIndex.setTagged("cache:b", VALUE, TTL, List.of(SELLER, BRAND));
+            cacheTagIndex.setTagged("cache:c", VALUE, TTL, List.of(BRAND));
+
+            // when
+            long evicted = cacheTagIndex.evict(SELLER);
+
+            // then
+            assertThat(evicted).isEqualTo(2);
+            assertThat(binaryRedisTemplate.hasKey("cache:a")).isFalse();
+            assertThat(binaryRedisTemplate.hasKey("cache:b")).isFalse();
+            assertThat(binaryRedisTemplate.hasKey("cache:c")).isTrue();
+            assertThat(binaryRedisTemplate.hasKey("cache:tag:{seller:1}")).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 배치 크기를 넘는 키도 모두 삭제")
+        void shouldEvictAcrossBatches() {
+            // given
+            for (int i = 0; i < 1_200; i++) {
+                cacheTagIndex.setTagged("cache:item:" + i, VALUE, TTL, List.of(SELLER));
+            }
+
+            // when
+            long evicted = cacheTagIndex.evict(SELLER);
+
+            // then
+            assertThat(evicted).isEqualTo(1_200);
+            assertThat(binaryRedisTemplate.hasKey("cache:item:0")).isFalse();
+            assertThat(binaryRedisTemplate.hasKey("cache:item:1199")).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 등록된 키가 없는 태그는 0 반환")
+        void shouldReturnZeroWhenTagMissing() {
+            assertThat(cacheTagIndex.evict(CacheTag.category(99L))).isZero();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.ryuqq.setof.adapter.out.persistence.redis.idempotency.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.setof.adapter.out.persistence.redis.common.config.LettuceConfig;
+import com.ryuqq.setof.application.common.port.out.IdempotencyStorePort.IdempotencyRecord;
+import com.ryuqq.setof.application.common.port.out.IdempotencyStorePort.IdempotencyState;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * IdempotencyStoreAdapter 통합 테스트
+ *
+ * <p>테스트 시나리오:
+ *
+ * <ul>
+ *   <li>최초 begin 선점, 이후 begin 처리 중 반환
+ *   <li>complete 후 begin 시 저장된 결과 반환
+ *   <li>release 후 재선점 가능
+ *   <li>소유 토큰이 다르면 complete/release 무시
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("IdempotencyStoreAdapter 통합 테스트")
+@SpringBootTest(
+        classes = {
+            LettuceConfig.class,
+            JacksonAutoConfiguration.class,
+            IdempotencyStoreAdapter.class
+        })
+@ActiveProfiles("test")
+@Testcontainers
+class IdempotencyStoreAdapterTest {
+
+    @Container
+    static GenericContainer<?> redis =
+            new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+    }
+
+    private static final String KEY = "idempotency:test:order-001";
+    private static final Duration IN_PROGRESS_TTL = Duration.ofSeconds(30);
+    private static final Duration COMPLETED_TTL = Duration.ofMinutes(10);
+
+    @Autowired private RedisTemplate<String, Object> redisTemplate;
+    @Autowired private IdempotencyStoreAdapter idempotencyStoreAdapter;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
+    }
+
+    record TestResponse(String id, BigDecimal amount, Instant createdAt) {}
+
+    @Nested
+    @DisplayName("begin")
+    class Begin {
+
+        @Test
+        @DisplayName("최초 요청은 선점하고, 이후 요청은 처리 중을 반환한다")
+        void shouldAcquireOnceThenReportInProgress() {
+            IdempotencyRecord<TestResponse> first =
+                    idempotencyStoreAdapter.begin(KEY, TestResponse.class, IN_PROGRESS_TTL);
+            IdempotencyRecord<TestResponse> second =
+                    idempotencyStoreAdapter.begin(KEY, TestResponse.class, IN_PROGRESS_TTL);
+
+            assertThat(first.isAcquired()).isTrue();
+            assertThat(first.ownerToken()).isNotBlank();
+            assertThat(second.state()).isEqualTo(IdempotencyState.IN_PROGRESS);
+        }
+
+        @Test
+        @DisplayName("완료된 키는 저장된 결과를 반환한다")
+        void shouldReturnStoredResponseAfterComplete() {
+            TestResponse response =
+                    new TestResponse(
+                            "order-001",
+                            new BigDecimal("10000"),
+                            Instant.parse("2025-01-01T00:00:00Z"));
+            IdempotencyRecord<TestResponse> first =
+                    idempotencyStoreAdapter.begin(KEY, TestResponse.class, IN_PROGRESS_TTL);
+
+            boolean completed =
+                    idempotencyStoreAdapter.complete(
+                            KEY, first.ownerToken(), response, COMPLETED_TTL);
+            IdempotencyRecord<TestResponse> retry =
+                    idempotencyStoreAdapter.begin(KEY, TestResponse.class, IN_PROGRESS_TTL);
+
+            assertThat(completed).isTrue();
+            assertThat(retry.isCompleted()).isTrue();
+            assertThat(retry.response()).isEqualTo(response);
+        }
+
+        @Test
+        @DisplayName("결과 없이 완료된 키도 완료 상태를 반환한다")
+        void shouldReturnCompletedWithoutResponse() {
+            IdempotencyRecord<Void> first =
+                    idempotencyStoreAdapter.begin(KEY, Void.class, IN_PROGRESS_TTL);
+            idempotencyStoreAdapter.complete(KEY, first.ownerToken(), null, COMPLETED_TTL);
+
+            IdempotencyRecord<Void> retry =
+                    idempotencyStoreAdapter.begin(KEY, Void.class, IN_PROGRESS_TTL);
+
+            assertThat(retry.isCompleted()).isTrue();
+            assertThat(retry.response()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("release")
+    class Release {
+
+        @Test
+        @DisplayName("해제 후에는 같은 키를 다시 선점할 수 있다")
+        void shouldAllowRetryAfterRelease() {
+            IdempotencyRecord<TestResponse> first =
+                    idempotencyStoreAdapter.begin(KEY, TestResponse.class, IN_PROGRESS_TTL);
+
+            idempotencyStoreAdapter.release(KEY, first.ownerToken());
+            IdempotencyRecord<TestResponse> retry =
+                    idempotencyStoreAdapter.begin(KEY, TestResponse.class, IN_PROGRESS_TTL);
+
+            assertThat(retry.isAcquired()).isTrue();
+        }
+
+        @Test
+        @DisplayName("다른 소유 토큰으로는 해제/완료할 수 없다")
+        void shouldIgnoreForeignOwnerToken() {
+            idempotencyStoreAdapter.begin(KEY, TestResponse.class, IN_PROGRESS_TTL);
+
+            idempotencyStoreAdapter.release(KEY, "foreign-token");
+            boolean completed =
+                    idempotencyStoreAdapter.complete(KEY, "foreign-token", null, COMPLETED_TTL);
+            IdempotencyRecord<TestResponse> retry =
+                    idempotencyStoreAdapter.begin(KEY, TestResponse.class, IN_PROGRESS_TTL);
+
+            assertThat(completed).isFalse();
+            assertThat(retry.state()).isEqualTo(IdempotencyState.IN_PROGRESS);
+        }
+    }
+}
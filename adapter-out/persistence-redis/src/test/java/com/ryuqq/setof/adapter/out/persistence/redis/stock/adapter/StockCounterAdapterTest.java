@@ -32,6 +32,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
  *   <li>키 미존재 시 NOT_FOUND(-1) 반환
  *   <li>재고 부족 시 음수 반환
  *   <li>배치 연산 동작
+ *   <li>All-or-Nothing 일괄 차감
  * </ul>
  *
  * @author Development Team
@@ -267,6 +268,97 @@ class StockCounterAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("hasStocks 배치 메서드")
+    class HasStocksTest {
+
+        @Test
+        @DisplayName("성공 - 모든 상품 재고 충분 시 true 반환 (차감 없음)")
+        void shouldReturnTrueWithoutDecrementing() {
+            // given
+            stockCounterAdapter.initialize(1L, 10);
+            stockCounterAdapter.initialize(2L, 20);
+
+            // when
+            boolean result = stockCounterAdapter.hasStocks(Map.of(1L, 10, 2L, 5));
+
+            // then
+            assertThat(result).isTrue();
+            assertThat(stockCounterAdapter.getStock(1L)).isEqualTo(10);
+            assertThat(stockCounterAdapter.getStock(2L)).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("성공 - 하나라도 부족하거나 키가 없으면 false 반환")
+        void shouldReturnFalseWhenAnyInsufficient() {
+            // given
+            stockCounterAdapter.initialize(1L, 10);
+
+            // when & then
+            assertThat(stockCounterAdapter.hasStocks(Map.of(1L, 11))).isFalse();
+            assertThat(stockCounterAdapter.hasStocks(Map.of(1L, 1, 999L, 1))).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("decrementAll 배치 메서드")
+    class DecrementAllTest {
+
+        @Test
+        @DisplayName("성공 - 모든 상품 재고 충분 시 전체 차감")
+        void shouldDecrementAllWhenSufficient() {
+            // given
+            stockCounterAdapter.initialize(1L, 10);
+            stockCounterAdapter.initialize(2L, 20);
+            stockCounterAdapter.initialize(3L, 30);
+
+            // when
+            StockCounterAdapter.StockReservationResult result =
+                    stockCounterAdapter.decrementAll(Map.of(1L, 1, 2L, 2, 3L, 30));
+
+            // then
+            assertThat(result.reserved()).isTrue();
+            assertThat(result.shortages()).isEmpty();
+            assertThat(stockCounterAdapter.getStocks(List.of(1L, 2L, 3L)))
+                    .containsEntry(1L, 9)
+                    .containsEntry(2L, 18)
+                    .containsEntry(3L, 0);
+        }
+
+        @Test
+        @DisplayName("성공 - 하나라도 부족하면 아무것도 차감하지 않고 부족 목록 반환")
+        void shouldDecrementNothingWhenAnyInsufficient() {
+            // given
+            stockCounterAdapter.initialize(1L, 10);
+            stockCounterAdapter.initialize(2L, 1);
+
+            // when
+            StockCounterAdapter.StockReservationResult result =
+                    stockCounterAdapter.decrementAll(Map.of(1L, 5, 2L, 3, 999L, 1));
+
+            // then
+            assertThat(result.reserved()).isFalse();
+            assertThat(result.shortages())
+                    .hasSize(2)
+                    .containsEntry(2L, 1)
+                    .containsEntry(999L, NOT_FOUND);
+            assertThat(stockCounterAdapter.getStock(1L)).isEqualTo(10);
+            assertThat(stockCounterAdapter.getStock(2L)).isEqualTo(1);
+            assertKeyNotExists(KEY_PREFIX + 999L);
+        }
+
+        @Test
+        @DisplayName("성공 - 빈 요청은 성공으로 처리")
+        void shouldReturnSuccessForEmptyRequest() {
+            // when
+            StockCounterAdapter.StockReservationResult result =
+                    stockCounterAdapter.decrementAll(Map.of());
+
+            // then
+            assertThat(result.reserved()).isTrue();
+        }
+    }
+
     @Nested
     @DisplayName("exists 메서드")
     class ExistsTest {
@@ -0,0 +1,132 @@
+package com.ryuqq.setof.adapter.out.search.adapter;
+
+import com.ryuqq.setof.adapter.out.search.index.NGramTokenizer;
+import com.ryuqq.setof.adapter.out.search.index.ProductInvertedIndex;
+import com.ryuqq.setof.adapter.out.search.index.SearchRanking;
+import com.ryuqq.setof.application.common.response.SliceResponse;
+import com.ryuqq.setof.application.product.dto.bundle.ProductSearchDocument;
+import com.ryuqq.setof.application.product.dto.query.ProductKeywordSearchQuery;
+import com.ryuqq.setof.application.product.port.out.query.ProductSearchQueryPort;
+import com.ryuqq.setof.application.product.port.out.search.ProductSearchIndexPort;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.springframework.stereotype.Component;
+
+/**
+ * InMemoryProductSearchAdapter - 상품 검색 In-Memory Adapter
+ *
+ * <p>인스턴스 메모리의 {@link ProductInvertedIndex}로 상품 키워드 검색을 처리합니다. 검색 요청은 DB를 조회하지 않습니다.
+ *
+ * <p><strong>책임:</strong>
+ *
+ * <ul>
+ *   <li>키워드 검색 + 필터(셀러/브랜드/카테고리/가격) + 정렬 + 커서 페이징 (search)
+ *   <li>증분 색인/제거 (index, remove)
+ *   <li>전체 재구축 시 새 인덱스로 원자적 교체 (replaceAll)
+ * </ul>
+ *
+ * <p><strong>커서:</strong> {@link SearchRanking}이 마지막 문서의 정렬키를 인코딩한 불투명 문자열입니다. 정렬키 기준으로 이어서
+ * 조회하므로 페이지 사이에 색인이 갱신되어도 중복/누락이 최소화됩니다. 커서 없이 마지막 상품그룹 ID만 전달하는 레거시 요청은 색인된 해당
+ * 문서를 위치로 사용합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class InMemoryProductSearchAdapter
+        implements ProductSearchQueryPort, ProductSearchIndexPort {
+
+    private final Object writeMonitor = new Object();
+
+    private volatile ProductInvertedIndex index = ProductInvertedIndex.empty();
+
+    @Override
+    public SliceResponse<ProductSearchDocument> search(ProductKeywordSearchQuery query) {
+        Set<String> grams = NGramTokenizer.queryGrams(query.keyword());
+        if (query.hasKeyword() && grams.isEmpty()) {
+            return SliceResponse.empty(query.size());
+        }
+
+        SearchRanking ranking = SearchRanking.from(query.sortType());
+        ProductSearchDocument after =
+                ranking.positionOf(query.cursor()).or(() -> legacyPositionOf(query)).orElse(null);
+
+        List<ProductSearchDocument> hits =
+                index.search(
+                        grams, filterOf(query), ranking.comparator(), after, query.size() + 1);
+
+        boolean hasNext = hits.size() > query.size();
+        List<ProductSearchDocument> content = hasNext ? hits.subList(0, query.size()) : hits;
+        String nextCursor = hasNext ? ranking.cursorOf(content.get(content.size() - 1)) : null;
+
+        return SliceResponse.of(List.copyOf(content), query.size(), hasNext, nextCursor);
+    }
+
+    @Override
+    public void index(List<ProductSearchDocument> documents) {
+        synchronized (writeMonitor) {
+            index.upsert(documents);
+        }
+    }
+
+    @Override
+    public void remove(List<Long> productGroupIds) {
+        synchronized (writeMonitor) {
+            index.remove(productGroupIds);
+        }
+    }
+
+    @Override
+    public void replaceAll(List<ProductSearchDocument> documents) {
+        synchronized (writeMonitor) {
+            index = ProductInvertedIndex.of(documents);
+        }
+    }
+
+    /**
+     * 색인된 문서 수
+     *
+     * @return 문서 수
+     */
+    public int size() {
+        return index.size();
+    }
+
+    private Optional<ProductSearchDocument> legacyPositionOf(ProductKeywordSearchQuery query) {
+        if (query.cursor() != null || query.lastProductGroupId() == null) {
+            return Optional.empty();
+        }
+        return index.find(query.lastProductGroupId());
+    }
+
+    private Predicate<ProductSearchDocument> filterOf(ProductKeywordSearchQuery query) {
+        Long sellerId = query.sellerId();
+        Set<Long> brandIds = Set.copyOf(query.brandIds());
+        Set<Long> categoryIds = Set.copyOf(query.categoryIds());
+        BigDecimal lowestPrice =
+                query.lowestPrice() != null ? BigDecimal.valueOf(query.lowestPrice()) : null;
+        BigDecimal highestPrice =
+                query.highestPrice() != null ? BigDecimal.valueOf(query.highestPrice()) : null;
+
+        return document ->
+                (sellerId == null || sellerId.equals(document.sellerId()))
+                        && (brandIds.isEmpty() || brandIds.contains(document.brandId()))
+                        && (categoryIds.isEmpty()
+                                || document.categoryIds().stream().anyMatch(categoryIds::contains))
+                        && withinPrice(document.currentPrice(), lowestPrice, highestPrice);
+    }
+
+    private boolean withinPrice(BigDecimal price, BigDecimal lowest, BigDecimal highest) {
+        if (lowest == null && highest == null) {
+            return true;
+        }
+        if (price == null) {
+            return false;
+        }
+        return (lowest == null || price.compareTo(lowest) >= 0)
+                && (highest == null || price.compareTo(highest) <= 0);
+    }
+}
@@ -0,0 +1,101 @@
+package com.ryuqq.setof.adapter.out.search.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * N-gram 토크나이저 (한글 Bigram)
+ *
+ * <p>한글은 조사/어미가 붙고 띄어쓰기가 일정하지 않아 공백 단위 토큰으로는 부분 일치 검색이 어렵습니다. 형태소 분석기 없이 2글자 단위(Bigram)로
+ * 잘라 색인하여 "티셔츠"로 "반팔티셔츠"를 찾을 수 있도록 합니다.
+ *
+ * <p><strong>정규화:</strong> NFKC(전각/반각, 호환 문자 통합) → 소문자 → 문자/숫자 외 구분자로 분리
+ *
+ * <p><strong>색인 Gram:</strong> 필드 내 토큰을 공백 없이 이어 붙인 문자열의 모든 Unigram + Bigram. 이어 붙이므로 "나이키 티셔츠"는
+ * "나이키티셔츠"로 검색해도 일치합니다.
+ *
+ * <p><strong>검색 Gram:</strong> 토큰별 Bigram (1글자 토큰은 Unigram). 모든 Gram이 포함된 문서만 일치(AND)합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+        // Utility class
+    }
+
+    /**
+     * 색인용 Gram 추출
+     *
+     * @param fields 색인 대상 필드 값 목록 (null 허용)
+     * @return Gram 집합
+     */
+    public static Set<String> indexGrams(List<String> fields) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String field : fields) {
+            String joined = String.join("", tokens(field));
+            for (int i = 0; i < joined.length(); i++) {
+                grams.add(joined.substring(i, i + 1));
+                if (i + 1 < joined.length()) {
+                    grams.add(joined.substring(i, i + 2));
+                }
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색용 Gram 추출
+     *
+     * @param keyword 검색 키워드 (null 허용)
+     * @return Gram 집합 (키워드가 비어 있으면 빈 집합)
+     */
+    public static Set<String> queryGrams(String keyword) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : tokens(keyword)) {
+            if (token.length() == 1) {
+                grams.add(token);
+                continue;
+            }
+            for (int i = 0; i + 1 < token.length(); i++) {
+                grams.add(token.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 정규화 후 토큰 분리
+     *
+     * @param text 원문 (null 허용)
+     * @return 토큰 목록
+     */
+    static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized =
+                Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (!current.isEmpty()) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,227 @@
+package com.ryuqq.setof.adapter.out.search.index;
+
+import com.ryuqq.setof.application.product.dto.bundle.ProductSearchDocument;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 상품 역색인 (Inverted Index)
+ *
+ * <p>Gram → 상품그룹 ID 집합(Posting)을 메모리에 유지합니다. 상품명, 브랜드명, 카테고리 경로명을 {@link NGramTokenizer}로 색인합니다.
+ *
+ * <p><strong>검색:</strong>
+ *
+ * <ul>
+ *   <li>가장 작은 Posting부터 순회하며 나머지 Gram Posting에 모두 포함된 문서만 후보로 선택 (AND)
+ *   <li>필터와 커서 조건을 통과한 후보 중 상위 limit건만 크기 제한 Heap으로 선택 (전체 정렬 없음)
+ * </ul>
+ *
+ * <p><strong>동시성:</strong> 검색은 읽기 락, 증분 색인/제거는 쓰기 락으로 보호합니다. 전체 재구축은 새 인스턴스를 만들어 교체하므로 락
+ * 경합이 없습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public class ProductInvertedIndex {
+
+    private final Map<Long, ProductSearchDocument> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> documentGrams = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private ProductInvertedIndex() {}
+
+    /**
+     * 빈 인덱스 생성
+     *
+     * @return ProductInvertedIndex
+     */
+    public static ProductInvertedIndex empty() {
+        return new ProductInvertedIndex();
+    }
+
+    /**
+     * 문서 목록으로 인덱스 생성
+     *
+     * @param documents 검색 문서 목록
+     * @return ProductInvertedIndex
+     */
+    public static ProductInvertedIndex of(List<ProductSearchDocument> documents) {
+        ProductInvertedIndex index = new ProductInvertedIndex();
+        documents.forEach(index::add);
+        return index;
+    }
+
+    /**
+     * 문서 색인 (같은 ID의 기존 문서는 교체)
+     *
+     * @param documents 검색 문서 목록
+     */
+    public void upsert(List<ProductSearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            for (ProductSearchDocument document : documents) {
+                delete(document.productGroupId());
+                add(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 제거
+     *
+     * @param productGroupIds 상품그룹 ID 목록
+     */
+    public void remove(List<Long> productGroupIds) {
+        lock.writeLock().lock();
+        try {
+            productGroupIds.forEach(this::delete);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품그룹 ID로 색인된 문서 조회
+     *
+     * @param productGroupId 상품그룹 ID
+     * @return 색인된 문서 (없으면 empty)
+     */
+    public Optional<ProductSearchDocument> find(Long productGroupId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(documents.get(productGroupId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 문서 수
+     *
+     * @return 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색
+     *
+     * @param grams 검색 Gram (비어 있으면 전체 문서가 후보)
+     * @param filter 필터 조건
+     * @param comparator 정렬 기준
+     * @param after 커서 위치 문서 (nullable, 이 문서보다 뒤에 정렬되는 문서만 반환)
+     * @param limit 최대 반환 건수
+     * @return 정렬된 문서 목록 (최대 limit건)
+     */
+    public List<ProductSearchDocument> search(
+            Set<String> grams,
+            Predicate<ProductSearchDocument> filter,
+            Comparator<ProductSearchDocument> comparator,
+            ProductSearchDocument after,
+            int limit) {
+        PriorityQueue<ProductSearchDocument> top =
+                new PriorityQueue<>(limit + 1, comparator.reversed());
+
+        lock.readLock().lock();
+        try {
+            for (ProductSearchDocument document : candidates(grams)) {
+                if (!filter.test(document)) {
+                    continue;
+                }
+                if (after != null && comparator.compare(document, after) <= 0) {
+                    continue;
+                }
+                if (top.size() < limit) {
+                    top.add(document);
+                } else if (comparator.compare(document, top.peek()) < 0) {
+                    top.poll();
+                    top.add(document);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<ProductSearchDocument> result = new ArrayList<>(top);
+        result.sort(comparator);
+        return result;
+    }
+
+    private Collection<ProductSearchDocument> candidates(Set<String> grams) {
+        if (grams.isEmpty()) {
+            return documents.values();
+        }
+
+        List<Set<Long>> gramPostings = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            gramPostings.add(posting);
+        }
+        gramPostings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> smallest = gramPostings.get(0);
+        List<Set<Long>> others = gramPostings.subList(1, gramPostings.size());
+        List<ProductSearchDocument> matched = new ArrayList<>();
+        for (Long productGroupId : smallest) {
+            if (others.stream().allMatch(posting -> posting.contains(productGroupId))) {
+                matched.add(documents.get(productGroupId));
+            }
+        }
+        return matched;
+    }
+
+    private void add(ProductSearchDocument document) {
+        Long productGroupId = document.productGroupId();
+        List<String> fields = new ArrayList<>();
+        fields.add(document.name());
+        fields.add(document.brandName());
+        fields.addAll(document.categoryNames());
+
+        Set<String> grams = NGramTokenizer.indexGrams(fields);
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(productGroupId);
+        }
+        documents.put(productGroupId, document);
+        documentGrams.put(productGroupId, grams);
+    }
+
+    private void delete(Long productGroupId) {
+        Set<String> grams = documentGrams.remove(productGroupId);
+        documents.remove(productGroupId);
+        if (grams == null) {
+            return;
+        }
+        for (String gram : grams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(productGroupId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.ryuqq.setof.adapter.out.search.index;
+
+import com.ryuqq.setof.application.product.dto.bundle.ProductSearchDocument;
+import com.ryuqq.setof.domain.common.vo.KeysetCursor;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 검색 결과 정렬 기준
+ *
+ * <p>정렬키 값들과 상품그룹 ID(tie-breaker)로 전체 순서를 정의하고, 마지막 문서의 정렬키를 {@link KeysetCursor}로 인코딩합니다.
+ * 커서 첫 값은 정렬 기준 이름이므로, 정렬 기준이 바뀐 요청의 커서는 무시되고 첫 페이지부터 조회됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public enum SearchRanking {
+
+    /** 랭킹 점수순 (점수 → 리뷰 수 → ID 내림차순) */
+    SCORE(
+            Comparator.comparingDouble(ProductSearchDocument::score)
+                    .reversed()
+                    .thenComparing(
+                            Comparator.comparingLong(ProductSearchDocument::reviewCount)
+                                    .reversed())) {
+        @Override
+        List<String> sortValues(ProductSearchDocument document) {
+            return List.of(
+                    Double.toString(document.score()), Long.toString(document.reviewCount()));
+        }
+
+        @Override
+        ProductSearchDocument probe(List<String> sortValues, Long productGroupId) {
+            return probeOf(
+                    productGroupId,
+                    null,
+                    Double.parseDouble(sortValues.get(0)),
+                    Long.parseLong(sortValues.get(1)),
+                    null);
+        }
+    },
+
+    /** 최신순 (등록일시 → ID 내림차순) */
+    LATEST(
+            Comparator.comparing(
+                    ProductSearchDocument::createdAt,
+                    Comparator.nullsLast(Comparator.<Instant>reverseOrder()))) {
+        @Override
+        List<String> sortValues(ProductSearchDocument document) {
+            return List.of(document.createdAt() != null ? document.createdAt().toString() : "");
+        }
+
+        @Override
+        ProductSearchDocument probe(List<String> sortValues, Long productGroupId) {
+            String createdAt = sortValues.get(0);
+            return probeOf(
+                    productGroupId,
+                    null,
+                    0.0,
+                    0L,
+                    createdAt.isEmpty() ? null : Instant.parse(createdAt));
+        }
+    },
+
+    /** 가격 낮은순 (판매가 오름차순 → ID 내림차순) */
+    PRICE_ASC(
+            Comparator.comparing(
+                    ProductSearchDocument::currentPrice,
+                    Comparator.nullsLast(Comparator.<BigDecimal>naturalOrder()))) {
+        @Override
+        List<String> sortValues(ProductSearchDocument document) {
+            return List.of(priceValue(document));
+        }
+
+        @Override
+        ProductSearchDocument probe(List<String> sortValues, Long productGroupId) {
+            return probeOf(productGroupId, parsePrice(sortValues.get(0)), 0.0, 0L, null);
+        }
+    },
+
+    /** 가격 높은순 (판매가 내림차순 → ID 내림차순) */
+    PRICE_DESC(
+            Comparator.comparing(
+                    ProductSearchDocument::currentPrice,
+                    Comparator.nullsLast(Comparator.<BigDecimal>reverseOrder()))) {
+        @Override
+        List<String> sortValues(ProductSearchDocument document) {
+            return List.of(priceValue(document));
+        }
+
+        @Override
+        ProductSearchDocument probe(List<String> sortValues, Long productGroupId) {
+            return probeOf(productGroupId, parsePrice(sortValues.get(0)), 0.0, 0L, null);
+        }
+    };
+
+    private final Comparator<ProductSearchDocument> comparator;
+
+    SearchRanking(Comparator<ProductSearchDocument> sortKeyComparator) {
+        this.comparator =
+                sortKeyComparator.thenComparing(
+                        ProductSearchDocument::productGroupId, Comparator.reverseOrder());
+    }
+
+    /**
+     * 정렬 기준 조회
+     *
+     * @param sortType 정렬 타입 (LATEST, PRICE_ASC, PRICE_DESC / null 또는 그 외 값이면 랭킹 점수순)
+     * @return SearchRanking
+     */
+    public static SearchRanking from(String sortType) {
+        if (sortType == null) {
+            return SCORE;
+        }
+        return switch (sortType) {
+            case "LATEST" -> LATEST;
+            case "PRICE_ASC" -> PRICE_ASC;
+            case "PRICE_DESC" -> PRICE_DESC;
+            default -> SCORE;
+        };
+    }
+
+    /**
+     * 문서 정렬 Comparator (앞선 문서가 작음)
+     *
+     * @return Comparator
+     */
+    public Comparator<ProductSearchDocument> comparator() {
+        return comparator;
+    }
+
+    /**
+     * 문서 위치를 다음 페이지 커서로 인코딩
+     *
+     * @param document 페이지 마지막 문서
+     * @return 커서 문자열
+     */
+    public String cursorOf(ProductSearchDocument document) {
+        List<String> values = new ArrayList<>();
+        values.add(name());
+        values.addAll(sortValues(document));
+        values.add(document.productGroupId().toString());
+        return new KeysetCursor(values).encode();
+    }
+
+    /**
+     * 커서를 비교용 위치 문서로 디코딩
+     *
+     * @param cursor 커서 문자열 (nullable)
+     * @return 커서 위치 문서 (커서가 없거나 다른 정렬 기준의 커서이면 empty)
+     */
+    public Optional<ProductSearchDocument> positionOf(String cursor) {
+        Optional<KeysetCursor> decoded = KeysetCursor.decode(cursor);
+        if (decoded.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> values = decoded.get().values();
+        if (values.size() < 3 || !name().equals(values.get(0))) {
+            return Optional.empty();
+        }
+        try {
+            Long productGroupId = Long.valueOf(values.get(values.size() - 1));
+            return Optional.of(probe(values.subList(1, values.size() - 1), productGroupId));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    abstract List<String> sortValues(ProductSearchDocument document);
+
+    abstract ProductSearchDocument probe(List<String> sortValues, Long productGroupId);
+
+    private static String priceValue(ProductSearchDocument document) {
+        return document.currentPrice() != null ? document.currentPrice().toPlainString() : "";
+    }
+
+    private static BigDecimal parsePrice(String value) {
+        return value.isEmpty() ? null : new BigDecimal(value);
+    }
+
+    private static ProductSearchDocument probeOf(
+            Long productGroupId,
+            BigDecimal currentPrice,
+            double score,
+            long reviewCount,
+            Instant createdAt) {
+        return new ProductSearchDocument(
+                productGroupId,
+                null,
+                null,
+                null,
+                null,
+                null,
+                List.of(),
+                List.of(),
+                null,
+                currentPrice,
+                null,
+                null,
+                0.0,
+                reviewCount,
+                score,
+                createdAt);
+    }
+}
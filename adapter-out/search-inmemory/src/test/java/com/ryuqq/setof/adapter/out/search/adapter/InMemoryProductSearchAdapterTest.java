@@ -0,0 +1,251 @@
+package com.ryuqq.setof.adapter.out.search.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.setof.application.common.response.SliceResponse;
+import com.ryuqq.setof.application.product.dto.bundle.ProductSearchDocument;
+import com.ryuqq.setof.application.product.dto.query.ProductKeywordSearchQuery;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * InMemoryProductSearchAdapter 단위 테스트
+ *
+ * <p>역색인 검색(AND), 필터, 정렬, 커서 페이징, 증분 색인/제거, 전체 교체를 검증합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("InMemoryProductSearchAdapter 단위 테스트")
+class InMemoryProductSearchAdapterTest {
+
+    private InMemoryProductSearchAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new InMemoryProductSearchAdapter();
+        adapter.replaceAll(
+                List.of(
+                        document(1L, "베이직 반팔 티셔츠", 10L, "나이키", 19000, 4.0, 100, "2025-01-01"),
+                        document(2L, "오버핏 반팔 티셔츠", 20L, "아디다스", 29000, 4.8, 50, "2025-01-02"),
+                        document(3L, "데님 와이드 팬츠", 10L, "나이키", 49000, 4.5, 10, "2025-01-03"),
+                        document(4L, "스트라이프 긴팔 티셔츠", 10L, "나이키", 39000, 0.0, 0, "2025-01-04")));
+    }
+
+    private static ProductSearchDocument document(
+            Long productGroupId,
+            String name,
+            Long brandId,
+            String brandName,
+            long price,
+            double averageRating,
+            long reviewCount,
+            String createdDate) {
+        return new ProductSearchDocument(
+                productGroupId,
+                100L,
+                name,
+                brandId,
+                brandName,
+                3L,
+                List.of(1L, 3L),
+                List.of("의류", "상의"),
+                BigDecimal.valueOf(price),
+                BigDecimal.valueOf(price),
+                null,
+                "ACTIVE",
+                averageRating,
+                reviewCount,
+                averageRating * reviewCount / (reviewCount + 10.0),
+                Instant.parse(createdDate + "T00:00:00Z"));
+    }
+
+    private static ProductKeywordSearchQuery query(String keyword, String sortType, int size) {
+        return new ProductKeywordSearchQuery(
+                keyword, null, null, null, null, null, sortType, null, null, size);
+    }
+
+    private static List<Long> ids(SliceResponse<ProductSearchDocument> slice) {
+        return slice.content().stream().map(ProductSearchDocument::productGroupId).toList();
+    }
+
+    @Nested
+    @DisplayName("search 메서드")
+    class SearchTest {
+
+        @Test
+        @DisplayName("성공 - 모든 검색 Gram을 포함한 문서만 랭킹 점수순으로 반환")
+        void shouldReturnDocumentsContainingAllGramsByScore() {
+            // when
+            SliceResponse<ProductSearchDocument> result =
+                    adapter.search(query("반팔 티셔츠", null, 20));
+
+            // then
+            assertThat(ids(result)).containsExactly(2L, 1L);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("성공 - 브랜드명과 카테고리명으로도 검색")
+        void shouldMatchBrandAndCategoryNames() {
+            assertThat(ids(adapter.search(query("나이키 팬츠", null, 20)))).containsExactly(3L);
+            assertThat(adapter.search(query("상의", null, 20)).content()).hasSize(4);
+        }
+
+        @Test
+        @DisplayName("성공 - 일치하는 Gram이 없으면 빈 결과")
+        void shouldReturnEmptyWhenNoMatch() {
+            assertThat(adapter.search(query("원피스", null, 20)).content()).isEmpty();
+            assertThat(adapter.search(query("!!", null, 20)).content()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공 - 브랜드/가격 필터 적용")
+        void shouldApplyFilters() {
+            // given
+            ProductKeywordSearchQuery query =
+                    new ProductKeywordSearchQuery(
+                            "티셔츠",
+                            null,
+                            List.of(10L),
+                            null,
+                            20000L,
+                            40000L,
+                            null,
+                            null,
+                            null,
+                            20);
+
+            // when & then
+            assertThat(ids(adapter.search(query))).containsExactly(4L);
+        }
+
+        @Test
+        @DisplayName("성공 - 가격 낮은순 정렬")
+        void shouldSortByPriceAscending() {
+            assertThat(ids(adapter.search(query("티셔츠", "PRICE_ASC", 20))))
+                    .containsExactly(1L, 2L, 4L);
+        }
+
+        @Test
+        @DisplayName("성공 - 커서로 다음 페이지를 중복/누락 없이 조회")
+        void shouldPageWithCursor() {
+            // given
+            List<Long> collected = new ArrayList<>();
+            String cursor = null;
+            boolean hasNext;
+
+            // when
+            do {
+                SliceResponse<ProductSearchDocument> page =
+                        adapter.search(
+                                new ProductKeywordSearchQuery(
+                                        null,
+                                        null,
+                                        null,
+                                        null,
+                                        null,
+                                        null,
+                                        "LATEST",
+                                        cursor,
+                                        null,
+                                        3));
+                collected.addAll(ids(page));
+                cursor = page.nextCursor();
+                hasNext = page.hasNext();
+            } while (hasNext);
+
+            // then
+            assertThat(collected).containsExactly(4L, 3L, 2L, 1L);
+        }
+
+        @Test
+        @DisplayName("성공 - 다른 정렬 기준의 커서는 무시하고 첫 페이지 반환")
+        void shouldIgnoreCursorOfDifferentRanking() {
+            // given
+            String latestCursor = adapter.search(query(null, "LATEST", 1)).nextCursor();
+
+            ProductKeywordSearchQuery priceQuery =
+                    new ProductKeywordSearchQuery(
+                            null,
+                            null,
+                            null,
+                            null,
+                            null,
+                            null,
+                            "PRICE_ASC",
+                            latestCursor,
+                            null,
+                            1);
+
+            // when
+            SliceResponse<ProductSearchDocument> result = adapter.search(priceQuery);
+
+            // then
+            assertThat(ids(result)).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("성공 - 커서 없이 마지막 상품그룹 ID만 있으면 해당 문서 다음부터 조회")
+        void shouldPageFromLegacyLastProductGroupId() {
+            // given
+            ProductKeywordSearchQuery legacyQuery =
+                    new ProductKeywordSearchQuery(
+                            null, null, null, null, null, null, "LATEST", null, 3L, 20);
+
+            // when
+            SliceResponse<ProductSearchDocument> result = adapter.search(legacyQuery);
+
+            // then
+            assertThat(ids(result)).containsExactly(2L, 1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("index/remove/replaceAll 메서드")
+    class IndexTest {
+
+        @Test
+        @DisplayName("성공 - 같은 ID로 색인하면 이전 Gram은 제거되고 새 Gram으로 검색")
+        void shouldReplaceDocumentOnIndex() {
+            // when
+            adapter.index(
+                    List.of(document(3L, "데님 반팔 셔츠", 10L, "나이키", 49000, 4.5, 10, "2025-01-03")));
+
+            // then
+            assertThat(adapter.search(query("팬츠", null, 20)).content()).isEmpty();
+            assertThat(ids(adapter.search(query("데님 셔츠", null, 20)))).containsExactly(3L);
+            assertThat(adapter.size()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("성공 - 제거된 문서는 검색되지 않음")
+        void shouldNotReturnRemovedDocument() {
+            // when
+            adapter.remove(List.of(1L));
+
+            // then
+            assertThat(ids(adapter.search(query("반팔", null, 20)))).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("성공 - 전체 교체 후 이전 문서는 검색되지 않음")
+        void shouldReplaceWholeIndex() {
+            // when
+            adapter.replaceAll(
+                    List.of(document(9L, "린넨 셔츠", 30L, "폴로", 59000, 0.0, 0, "2025-02-01")));
+
+            // then
+            assertThat(adapter.size()).isEqualTo(1);
+            assertThat(adapter.search(query("반팔", null, 20)).content()).isEmpty();
+            assertThat(ids(adapter.search(query("린넨", null, 20)))).containsExactly(9L);
+        }
+    }
+}
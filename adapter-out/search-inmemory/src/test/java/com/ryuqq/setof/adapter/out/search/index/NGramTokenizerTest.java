@@ -0,0 +1,73 @@
+package com.ryuqq.setof.adapter.out.search.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NGramTokenizer")
+class NGramTokenizerTest {
+
+    @Nested
+    @DisplayName("tokens")
+    class TokensTest {
+
+        @Test
+        @DisplayName("NFKC 정규화 후 소문자로 변환하고 문자/숫자 외 구분자로 분리")
+        void shouldNormalizeAndSplit() {
+            assertThat(NGramTokenizer.tokens("ＮＩＫＥ 반팔-티셔츠(2025)"))
+                    .containsExactly("nike", "반팔", "티셔츠", "2025");
+        }
+
+        @Test
+        @DisplayName("null 또는 공백은 빈 목록")
+        void shouldReturnEmptyForBlank() {
+            assertThat(NGramTokenizer.tokens(null)).isEmpty();
+            assertThat(NGramTokenizer.tokens("  ")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("queryGrams")
+    class QueryGramsTest {
+
+        @Test
+        @DisplayName("토큰별 Bigram 추출 (토큰 경계를 넘는 Gram은 만들지 않음)")
+        void shouldExtractBigramsPerToken() {
+            assertThat(NGramTokenizer.queryGrams("나이키 티셔츠"))
+                    .containsExactly("나이", "이키", "티셔", "셔츠");
+        }
+
+        @Test
+        @DisplayName("1글자 토큰은 Unigram")
+        void shouldKeepSingleCharacterToken() {
+            assertThat(NGramTokenizer.queryGrams("옷")).containsExactly("옷");
+        }
+    }
+
+    @Nested
+    @DisplayName("indexGrams")
+    class IndexGramsTest {
+
+        @Test
+        @DisplayName("필드 내 토큰을 이어 붙여 Unigram + Bigram 추출")
+        void shouldExtractUnigramsAndBigramsAcrossTokens() {
+            assertThat(NGramTokenizer.indexGrams(List.of("나이키 티")))
+                    .containsExactlyInAnyOrder("나", "이", "키", "티", "나이", "이키", "키티");
+        }
+
+        @Test
+        @DisplayName("띄어쓰기가 다른 검색어의 Gram을 모두 포함")
+        void shouldCoverQueryGramsRegardlessOfSpacing() {
+            List<String> fields = Arrays.asList("베이직 반팔 티셔츠", null, "상의");
+
+            assertThat(NGramTokenizer.indexGrams(fields))
+                    .containsAll(NGramTokenizer.queryGrams("반팔티셔츠"))
+                    .containsAll(NGramTokenizer.queryGrams("반팔 티셔츠"))
+                    .containsAll(NGramTokenizer.queryGrams("상의"));
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *     secret: your-256-bit-secret-key-here
  *     access-token-expiration: 3600  # 1시간 (초)
  *     refresh-token-expiration: 604800  # 7일 (초)
+ *     verified-token-cache-size: 10000  # 검증 결과 캐시 최대 항목 수 (0이면 미사용)
  * </pre>
  *
  * @author development-team
@@ -25,6 +26,7 @@ public class JwtProperties {
     private long accessTokenExpiration = 3600L; // 1시간 (초)
     private long refreshTokenExpiration = 604800L; // 7일 (초)
     private String issuer = "setof-commerce";
+    private long verifiedTokenCacheSize = 10_000L;
 
     public JwtProperties() {
         // Default constructor for Spring property binding
@@ -70,6 +72,14 @@ public class JwtProperties {
         this.issuer = issuer;
     }
 
+    public long getVerifiedTokenCacheSize() {
+        return verifiedTokenCacheSize;
+    }
+
+    public void setVerifiedTokenCacheSize(long verifiedTokenCacheSize) {
+        this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+    }
+
     /** Access Token 만료 시간 (밀리초) */
     public long getAccessTokenExpirationMs() {
         return accessTokenExpiration * 1000;
@@ -1,14 +1,23 @@
 package com.ryuqq.setof.adapter.out.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.ryuqq.setof.adapter.out.security.config.JwtProperties;
 import com.ryuqq.setof.application.auth.dto.response.TokenPairResponse;
+import com.ryuqq.setof.application.auth.dto.response.TokenVerificationResponse;
 import com.ryuqq.setof.application.auth.port.out.client.TokenProviderPort;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import javax.crypto.SecretKey;
 import org.springframework.stereotype.Component;
@@ -25,6 +34,12 @@ import org.springframework.stereotype.Component;
  *   <li>Refresh Token: 긴 만료 시간 (기본 7일), Access Token 갱신용
  * </ul>
  *
+ * <p><strong>검증 결과 캐시:</strong>
+ *
+ * <p>{@link #verify(String)}는 유효한 토큰의 검증 결과를 토큰 SHA-256 digest 키로 {@code exp}까지 캐시합니다 (Caffeine,
+ * 최대 {@code security.jwt.verified-token-cache-size}건). 같은 토큰의 반복 요청은 Base64 디코딩, JSON 파싱, HMAC 서명
+ * 검증을 다시 하지 않습니다. 원문 토큰은 보관하지 않으며, 만료/위조 토큰의 결과는 캐시하지 않습니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -32,16 +47,27 @@ import org.springframework.stereotype.Component;
 public class JwtTokenProviderAdapter implements TokenProviderPort {
 
     private static final String TOKEN_TYPE_CLAIM = "token_type";
-    private static final String ACCESS_TOKEN_TYPE = "access";
-    private static final String REFRESH_TOKEN_TYPE = "refresh";
+    private static final String ACCESS_TOKEN_TYPE = TokenVerificationResponse.ACCESS_TOKEN_TYPE;
+    private static final String REFRESH_TOKEN_TYPE = TokenVerificationResponse.REFRESH_TOKEN_TYPE;
 
     private final JwtProperties jwtProperties;
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, TokenVerificationResponse> verifiedTokens;
 
     public JwtTokenProviderAdapter(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
         this.secretKey =
                 Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedTokens =
+                Caffeine.newBuilder()
+                        .maximumSize(jwtProperties.getVerifiedTokenCacheSize())
+                        .expireAfter(
+                                Expiry.creating(
+                                        (String digest, TokenVerificationResponse verified) ->
+                                                untilExpiration(verified)))
+                        .build();
     }
 
     @Override
@@ -69,36 +95,52 @@ public class JwtTokenProviderAdapter implements TokenProviderPort {
                 jwtProperties.getRefreshTokenExpirationMs() / 1000);
     }
 
+    @Override
+    public TokenVerificationResponse verify(String token) {
+        if (token == null || token.isBlank()) {
+            return TokenVerificationResponse.invalid();
+        }
+        String digest = digest(token);
+        TokenVerificationResponse cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && System.currentTimeMillis() < cached.expiresAtMillis()) {
+            return cached;
+        }
+
+        TokenVerificationResponse verified = parse(token);
+        if (verified.status() == TokenVerificationResponse.Status.VALID) {
+            verifiedTokens.put(digest, verified);
+        }
+        return verified;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>유효하지 않은 토큰은 기존과 같이 {@link JwtException}을 던집니다.
+     */
     @Override
     public String extractMemberId(String accessToken) {
-        return extractClaims(accessToken).getSubject();
+        return extractSubject(accessToken);
     }
 
     @Override
     public boolean validateAccessToken(String accessToken) {
-        return validateToken(accessToken, ACCESS_TOKEN_TYPE);
+        return verify(accessToken).isValidAccessToken();
     }
 
     @Override
     public boolean validateRefreshToken(String refreshToken) {
-        return validateToken(refreshToken, REFRESH_TOKEN_TYPE);
+        return verify(refreshToken).isValidRefreshToken();
     }
 
     @Override
     public String extractMemberIdFromRefreshToken(String refreshToken) {
-        return extractClaims(refreshToken).getSubject();
+        return extractSubject(refreshToken);
     }
 
     @Override
     public boolean isAccessTokenExpired(String accessToken) {
-        try {
-            extractClaims(accessToken);
-            return false;
-        } catch (ExpiredJwtException e) {
-            return true;
-        } catch (JwtException e) {
-            return false;
-        }
+        return verify(accessToken).isExpired();
     }
 
     private String createToken(String memberId, String tokenType, long now, long expirationMs) {
@@ -115,17 +157,51 @@ public class JwtTokenProviderAdapter implements TokenProviderPort {
                 .compact();
     }
 
-    private boolean validateToken(String token, String expectedTokenType) {
+    private TokenVerificationResponse parse(String token) {
         try {
-            Claims claims = extractClaims(token);
-            String tokenType = claims.get(TOKEN_TYPE_CLAIM, String.class);
-            return expectedTokenType.equals(tokenType);
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            return TokenVerificationResponse.valid(
+                    claims.getSubject(),
+                    claims.get(TOKEN_TYPE_CLAIM, String.class),
+                    expirationMillis(claims));
+        } catch (ExpiredJwtException e) {
+            Claims claims = e.getClaims();
+            return TokenVerificationResponse.expired(
+                    claims.getSubject(),
+                    claims.get(TOKEN_TYPE_CLAIM, String.class),
+                    expirationMillis(claims));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return TokenVerificationResponse.invalid();
+        }
+    }
+
+    private String extractSubject(String token) {
+        TokenVerificationResponse verified = verify(token);
+        if (verified.status() == TokenVerificationResponse.Status.VALID) {
+            return verified.memberId();
         }
+        return jwtParser.parseSignedClaims(token).getPayload().getSubject();
     }
 
-    private Claims extractClaims(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    private static long expirationMillis(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null ? expiration.getTime() : 0L;
+    }
+
+    private static Duration untilExpiration(TokenVerificationResponse verified) {
+        long remaining = verified.expiresAtMillis() - System.currentTimeMillis();
+        return Duration.ofMillis(Math.max(remaining, 0L));
+    }
+
+    /** 캐시 키: 토큰 원문 대신 SHA-256 digest (Base64URL) */
+    private static String digest(String token) {
+        try {
+            byte[] hash =
+                    MessageDigest.getInstance("SHA-256")
+                            .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 }
@@ -0,0 +1,63 @@
+package com.ryuqq.setof.application.auth.dto.response;
+
+/**
+ * Token Verification Response
+ *
+ * <p>토큰을 한 번 파싱/서명 검증한 결과를 담는 응답 DTO입니다. 유효성, 토큰 종류, 만료 여부, 회원 ID를 함께 제공하므로 호출자는 같은 토큰을
+ * 다시 검증하지 않습니다.
+ *
+ * @param status 검증 상태
+ * @param memberId 회원 ID (INVALID면 null)
+ * @param tokenType 토큰 종류 ("access" / "refresh", INVALID면 null)
+ * @param expiresAtMillis 만료 시각 (epoch millis, INVALID면 0)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record TokenVerificationResponse(
+        Status status, String memberId, String tokenType, long expiresAtMillis) {
+
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    private static final TokenVerificationResponse INVALID =
+            new TokenVerificationResponse(Status.INVALID, null, null, 0L);
+
+    /** 토큰 검증 상태 */
+    public enum Status {
+        /** 서명 유효, 만료 전 */
+        VALID,
+        /** 서명 유효, 만료됨 (Silent Refresh 대상) */
+        EXPIRED,
+        /** 형식 오류 또는 서명 불일치 */
+        INVALID
+    }
+
+    public static TokenVerificationResponse valid(
+            String memberId, String tokenType, long expiresAtMillis) {
+        return new TokenVerificationResponse(Status.VALID, memberId, tokenType, expiresAtMillis);
+    }
+
+    public static TokenVerificationResponse expired(
+            String memberId, String tokenType, long expiresAtMillis) {
+        return new TokenVerificationResponse(Status.EXPIRED, memberId, tokenType, expiresAtMillis);
+    }
+
+    public static TokenVerificationResponse invalid() {
+        return INVALID;
+    }
+
+    /** 유효한 Access Token 여부 */
+    public boolean isValidAccessToken() {
+        return status == Status.VALID && ACCESS_TOKEN_TYPE.equals(tokenType);
+    }
+
+    /** 유효한 Refresh Token 여부 */
+    public boolean isValidRefreshToken() {
+        return status == Status.VALID && REFRESH_TOKEN_TYPE.equals(tokenType);
+    }
+
+    /** 서명은 유효하지만 만료된 토큰 여부 */
+    public boolean isExpired() {
+        return status == Status.EXPIRED;
+    }
+}
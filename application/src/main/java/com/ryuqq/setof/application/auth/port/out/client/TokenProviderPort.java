@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.auth.port.out.client;
 
 import com.ryuqq.setof.application.auth.dto.response.TokenPairResponse;
+import com.ryuqq.setof.application.auth.dto.response.TokenVerificationResponse;
 
 /**
  * Token Provider Port
@@ -34,6 +35,17 @@ public interface TokenProviderPort {
      */
     TokenPairResponse generateTokenPair(String memberId);
 
+    /**
+     * 토큰 검증 (1회 파싱)
+     *
+     * <p>서명 검증 결과, 토큰 종류, 만료 여부, 회원 ID를 한 번에 반환합니다. 요청 처리 중 같은 토큰에 대해 아래 개별 메서드를 여러 번 호출하지
+     * 말고 이 결과를 재사용합니다.
+     *
+     * @param token Access Token 또는 Refresh Token 값
+     * @return 검증 결과
+     */
+    TokenVerificationResponse verify(String token);
+
     /**
      * Access Token 유효성 검증
      *
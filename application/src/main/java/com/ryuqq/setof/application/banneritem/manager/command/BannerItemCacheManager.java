@@ -0,0 +1,93 @@
+package com.ryuqq.setof.application.banneritem.manager.command;
+
+import com.ryuqq.setof.application.banneritem.dto.response.BannerItemResponse;
+import com.ryuqq.setof.application.common.port.out.CachePort;
+import com.ryuqq.setof.domain.cms.vo.BannerId;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * BannerItem Cache Manager
+ *
+ * <p>배너별 전시 중인 배너 아이템 목록 캐시의 조회/무효화를 관리합니다. 메인 화면 배너는 Hot Key이므로 {@link
+ * CachePort#getOrLoad}로 동시 Miss를 한 번의 DB 조회로 합칩니다.
+ *
+ * <p><strong>전시 기간:</strong> 전시 시작/종료 시각은 TTL({@code cms.banner.cache.ttl}, 기본 1분) 안에서 반영됩니다.
+ *
+ * <p><strong>무효화 시점:</strong> 배너 아이템 등록 시 해당 배너만 즉시 한 번, 커밋 후 한 번 더 삭제합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class BannerItemCacheManager {
+
+    private static final Logger log = LoggerFactory.getLogger(BannerItemCacheManager.class);
+
+    private static final String KEY_PREFIX = "cache::banner-items::";
+
+    private final CachePort<Object> cachePort;
+    private final Duration ttl;
+
+    public BannerItemCacheManager(
+            CachePort<Object> cachePort, @Value("${cms.banner.cache.ttl:1m}") Duration ttl) {
+        this.cachePort = cachePort;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 배너의 전시 중인 아이템 목록 조회, Miss 시 적재 후 저장
+     *
+     * @param bannerId 배너 ID
+     * @param loader DB 조회 함수
+     * @return 배너 아이템 목록
+     */
+    public List<BannerItemResponse> getActiveItems(
+            BannerId bannerId, Supplier<List<BannerItemResponse>> loader) {
+        BannerItemResponse[] items =
+                cachePort.getOrLoad(
+                        toKey(bannerId),
+                        BannerItemResponse[].class,
+                        ttl,
+                        () -> loader.get().toArray(BannerItemResponse[]::new));
+        return List.of(items);
+    }
+
+    /**
+     * 배너 아이템 목록 캐시 무효화
+     *
+     * @param bannerId 배너 ID
+     */
+    public void evict(BannerId bannerId) {
+        evictQuietly(bannerId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            evictQuietly(bannerId);
+                        }
+                    });
+        }
+    }
+
+    private void evictQuietly(BannerId bannerId) {
+        try {
+            cachePort.evict(toKey(bannerId));
+        } catch (RuntimeException e) {
+            log.error("Failed to evict banner item cache. bannerId={}", bannerId.value(), e);
+        }
+    }
+
+    private String toKey(BannerId bannerId) {
+        return KEY_PREFIX + bannerId.value();
+    }
+}
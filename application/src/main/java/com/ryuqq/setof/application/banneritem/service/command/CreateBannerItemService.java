@@ -2,6 +2,7 @@ package com.ryuqq.setof.application.banneritem.service.command;
 
 import com.ryuqq.setof.application.banneritem.dto.command.CreateBannerItemCommand;
 import com.ryuqq.setof.application.banneritem.factory.command.BannerItemCommandFactory;
+import com.ryuqq.setof.application.banneritem.manager.command.BannerItemCacheManager;
 import com.ryuqq.setof.application.banneritem.manager.command.BannerItemPersistenceManager;
 import com.ryuqq.setof.application.banneritem.port.in.command.CreateBannerItemUseCase;
 import com.ryuqq.setof.domain.cms.aggregate.banner.BannerItem;
@@ -22,18 +23,22 @@ public class CreateBannerItemService implements CreateBannerItemUseCase {
 
     private final BannerItemCommandFactory commandFactory;
     private final BannerItemPersistenceManager persistenceManager;
+    private final BannerItemCacheManager cacheManager;
 
     public CreateBannerItemService(
             BannerItemCommandFactory commandFactory,
-            BannerItemPersistenceManager persistenceManager) {
+            BannerItemPersistenceManager persistenceManager,
+            BannerItemCacheManager cacheManager) {
         this.commandFactory = commandFactory;
         this.persistenceManager = persistenceManager;
+        this.cacheManager = cacheManager;
     }
 
     @Override
     public Long create(CreateBannerItemCommand command) {
         BannerItem bannerItem = commandFactory.toDomain(command);
         BannerItemId bannerItemId = persistenceManager.persist(bannerItem);
+        cacheManager.evict(bannerItem.bannerId());
         return bannerItemId.value();
     }
 
@@ -41,6 +46,7 @@ public class CreateBannerItemService implements CreateBannerItemUseCase {
     public List<Long> createAll(List<CreateBannerItemCommand> commands) {
         List<BannerItem> bannerItems = commandFactory.toDomainList(commands);
         List<BannerItemId> bannerItemIds = persistenceManager.persistAll(bannerItems);
+        bannerItems.stream().map(BannerItem::bannerId).distinct().forEach(cacheManager::evict);
         return bannerItemIds.stream().map(BannerItemId::value).toList();
     }
 }
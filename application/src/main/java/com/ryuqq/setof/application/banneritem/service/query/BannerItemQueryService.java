@@ -2,6 +2,7 @@ package com.ryuqq.setof.application.banneritem.service.query;
 
 import com.ryuqq.setof.application.banneritem.assembler.BannerItemAssembler;
 import com.ryuqq.setof.application.banneritem.dto.response.BannerItemResponse;
+import com.ryuqq.setof.application.banneritem.manager.command.BannerItemCacheManager;
 import com.ryuqq.setof.application.banneritem.manager.query.BannerItemReadManager;
 import com.ryuqq.setof.application.banneritem.port.in.query.GetBannerItemsUseCase;
 import com.ryuqq.setof.domain.cms.aggregate.banner.BannerItem;
@@ -13,6 +14,8 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * BannerItemQueryService - BannerItem 조회 서비스
  *
+ * <p>단일 배너 조회는 {@link BannerItemCacheManager}를 통해 캐시에서 조회합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -22,17 +25,22 @@ public class BannerItemQueryService implements GetBannerItemsUseCase {
 
     private final BannerItemReadManager readManager;
     private final BannerItemAssembler assembler;
+    private final BannerItemCacheManager cacheManager;
 
     public BannerItemQueryService(
-            BannerItemReadManager readManager, BannerItemAssembler assembler) {
+            BannerItemReadManager readManager,
+            BannerItemAssembler assembler,
+            BannerItemCacheManager cacheManager) {
         this.readManager = readManager;
         this.assembler = assembler;
+        this.cacheManager = cacheManager;
     }
 
     @Override
     public List<BannerItemResponse> getActiveByBannerId(BannerId bannerId) {
-        List<BannerItem> items = readManager.findActiveByBannerId(bannerId);
-        return assembler.toResponseList(items);
+        return cacheManager.getActiveItems(
+                bannerId,
+                () -> assembler.toResponseList(readManager.findActiveByBannerId(bannerId)));
     }
 
     @Override
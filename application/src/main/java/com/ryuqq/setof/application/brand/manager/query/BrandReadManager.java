@@ -55,6 +55,23 @@ public class BrandReadManager {
         return brandQueryPort.findById(id);
     }
 
+    /**
+     * Brand ID 목록으로 일괄 조회
+     *
+     * <p>존재하지 않는 ID는 예외 없이 결과에서 제외됩니다.
+     *
+     * @param brandIds Brand ID 목록 (Long)
+     * @return 조회된 Brand 목록
+     */
+    @Transactional(readOnly = true)
+    public List<Brand> findByIds(List<Long> brandIds) {
+        if (brandIds.isEmpty()) {
+            return List.of();
+        }
+        List<BrandId> ids = brandIds.stream().map(BrandId::of).toList();
+        return brandQueryPort.findByIds(ids);
+    }
+
     /**
      * 브랜드 코드로 조회 (필수)
      *
@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.brand.port.in.query;
 
 import com.ryuqq.setof.application.brand.dto.response.BrandResponse;
+import java.util.List;
 
 /**
  * Get Brand UseCase (Query)
@@ -19,4 +20,14 @@ public interface GetBrandUseCase {
      * @return 브랜드 상세 정보
      */
     BrandResponse execute(Long brandId);
+
+    /**
+     * 브랜드 ID 목록으로 일괄 조회
+     *
+     * <p>존재하지 않는 ID는 예외 없이 결과에서 제외됩니다.
+     *
+     * @param brandIds 브랜드 ID 목록
+     * @return 브랜드 상세 정보 목록
+     */
+    List<BrandResponse> execute(List<Long> brandIds);
 }
@@ -25,6 +25,16 @@ public interface BrandQueryPort {
      */
     Optional<Brand> findById(BrandId id);
 
+    /**
+     * ID 목록으로 Brand 일괄 조회
+     *
+     * <p>존재하지 않는 ID는 결과에서 제외됩니다.
+     *
+     * @param ids Brand ID 목록 (Value Object)
+     * @return Brand Domain 목록
+     */
+    List<Brand> findByIds(List<BrandId> ids);
+
     /**
      * 브랜드 코드로 Brand 단건 조회
      *
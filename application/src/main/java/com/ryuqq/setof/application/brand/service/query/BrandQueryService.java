@@ -49,6 +49,12 @@ public class BrandQueryService implements GetBrandUseCase, GetBrandsUseCase {
         return brandAssembler.toBrandResponse(brand);
     }
 
+    @Override
+    public List<BrandResponse> execute(List<Long> brandIds) {
+        List<Brand> brands = brandReadManager.findByIds(brandIds);
+        return brands.stream().map(brandAssembler::toBrandResponse).toList();
+    }
+
     @Override
     public PageResponse<BrandSummaryResponse> execute(BrandSearchQuery query) {
         BrandSearchCriteria criteria = brandQueryFactory.createCriteria(query);
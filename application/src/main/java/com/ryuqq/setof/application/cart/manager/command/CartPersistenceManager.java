@@ -5,6 +5,7 @@ import com.ryuqq.setof.application.cart.port.out.query.CartQueryPort;
 import com.ryuqq.setof.domain.cart.aggregate.Cart;
 import com.ryuqq.setof.domain.cart.vo.CartId;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Cart Persistence Manager
@@ -31,11 +32,13 @@ public class CartPersistenceManager {
      *
      * <p>저장 후 DB에서 다시 조회하여 CartItem ID가 할당된 Cart를 반환합니다.
      *
-     * <p>CartItem의 소프트 딜리트/복원도 persist를 통해 처리됩니다.
+     * <p>CartItem의 소프트 딜리트/복원도 persist를 통해 처리됩니다. 기존 Cart는 {@link Cart#changes()} 변경분만
+     * 반영됩니다.
      *
      * @param cart 저장할 Cart
      * @return 저장된 Cart (CartItem ID 포함)
      */
+    @Transactional
     public Cart persist(Cart cart) {
         CartId savedId = cartPersistencePort.persist(cart);
         return cartQueryPort.getById(savedId);
@@ -12,12 +12,13 @@ import com.ryuqq.setof.application.cart.port.in.query.GetEnrichedCartUseCase;
 import com.ryuqq.setof.application.category.dto.response.CategoryPathResponse;
 import com.ryuqq.setof.application.category.dto.response.CategoryPathResponse.BreadcrumbItem;
 import com.ryuqq.setof.application.category.port.in.query.GetCategoryPathUseCase;
+import com.ryuqq.setof.application.common.component.ParallelQueryExecutor;
 import com.ryuqq.setof.application.product.dto.response.ProductGroupResponse;
 import com.ryuqq.setof.application.product.dto.response.ProductResponse;
 import com.ryuqq.setof.application.product.port.in.query.GetProductGroupUseCase;
 import com.ryuqq.setof.application.productimage.dto.response.ProductImageResponse;
 import com.ryuqq.setof.application.productimage.port.in.query.GetProductImageUseCase;
-import com.ryuqq.setof.application.productstock.port.out.query.ProductStockQueryPort;
+import com.ryuqq.setof.application.productstock.manager.query.ProductStockReadManager;
 import com.ryuqq.setof.application.seller.dto.response.SellerResponse;
 import com.ryuqq.setof.application.seller.port.in.query.GetSellerUseCase;
 import com.ryuqq.setof.domain.productstock.aggregate.ProductStock;
@@ -27,9 +28,11 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
@@ -42,15 +45,14 @@ import org.springframework.stereotype.Service;
  *
  * <ol>
  *   <li>장바구니 기본 정보 조회
- *   <li>상품그룹 정보 일괄 조회 (상품명, 브랜드ID, 카테고리ID, 가격 등)
- *   <li>브랜드 정보 일괄 조회 (브랜드명)
- *   <li>셀러 정보 일괄 조회 (셀러명)
- *   <li>상품 이미지 일괄 조회 (대표 이미지)
- *   <li>재고 정보 일괄 조회 (재고 수량)
- *   <li>카테고리 경로 일괄 조회 (breadcrumb)
+ *   <li>상품그룹 / 셀러 / 상품 이미지 / 재고 일괄 조회 (병렬)
+ *   <li>브랜드 / 카테고리 경로 일괄 조회 (상품그룹 결과 기반, 병렬)
  *   <li>정보 조합
  * </ol>
  *
+ * <p>모든 부가 정보는 ID 목록 단위 일괄 조회로 가져오므로, 장바구니 항목 수와 관계없이 조회 쿼리 수가 일정합니다. 서로 독립적인 조회는
+ * {@link ParallelQueryExecutor}로 동시에 실행하며, 개별 조회가 실패하면 해당 정보만 기본값으로 대체합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -64,8 +66,9 @@ public class GetEnrichedCartService implements GetEnrichedCartUseCase {
     private final GetBrandUseCase getBrandUseCase;
     private final GetSellerUseCase getSellerUseCase;
     private final GetProductImageUseCase getProductImageUseCase;
-    private final ProductStockQueryPort productStockQueryPort;
+    private final ProductStockReadManager productStockReadManager;
     private final GetCategoryPathUseCase getCategoryPathUseCase;
+    private final ParallelQueryExecutor parallelQueryExecutor;
 
     public GetEnrichedCartService(
             GetCartUseCase getCartUseCase,
@@ -73,15 +76,17 @@ public class GetEnrichedCartService implements GetEnrichedCartUseCase {
             GetBrandUseCase getBrandUseCase,
             GetSellerUseCase getSellerUseCase,
             GetProductImageUseCase getProductImageUseCase,
-            ProductStockQueryPort productStockQueryPort,
-            GetCategoryPathUseCase getCategoryPathUseCase) {
+            ProductStockReadManager productStockReadManager,
+            GetCategoryPathUseCase getCategoryPathUseCase,
+            ParallelQueryExecutor parallelQueryExecutor) {
         this.getCartUseCase = getCartUseCase;
         this.getProductGroupUseCase = getProductGroupUseCase;
         this.getBrandUseCase = getBrandUseCase;
         this.getSellerUseCase = getSellerUseCase;
         this.getProductImageUseCase = getProductImageUseCase;
-        this.productStockQueryPort = productStockQueryPort;
+        this.productStockReadManager = productStockReadManager;
         this.getCategoryPathUseCase = getCategoryPathUseCase;
+        this.parallelQueryExecutor = parallelQueryExecutor;
     }
 
     @Override
@@ -93,12 +98,35 @@ public class GetEnrichedCartService implements GetEnrichedCartUseCase {
             return EnrichedCartResponse.from(cartResponse, Collections.emptyList());
         }
 
-        Map<Long, ProductGroupResponse> productGroupMap = fetchProductGroups(items);
-        Map<Long, BrandResponse> brandMap = fetchBrands(productGroupMap);
-        Map<Long, SellerResponse> sellerMap = fetchSellers(items);
-        Map<Long, String> imageMap = fetchMainImages(items);
-        Map<Long, Integer> stockMap = fetchStocks(items);
-        Map<Long, List<CategoryInfo>> categoryMap = fetchCategories(productGroupMap);
+        List<Long> productGroupIds =
+                items.stream().map(CartItemResponse::productGroupId).distinct().toList();
+        List<Long> sellerIds = items.stream().map(CartItemResponse::sellerId).distinct().toList();
+        List<Long> productIds = items.stream().map(CartItemResponse::productId).distinct().toList();
+
+        ParallelQueryExecutor.Scope scope = parallelQueryExecutor.openScope();
+
+        // 1단계: 장바구니 항목만으로 조회 가능한 정보
+        CompletableFuture<Map<Long, ProductGroupResponse>> productGroupsFuture =
+                scope.submitOrDefault(() -> fetchProductGroups(productGroupIds), Map.of());
+        CompletableFuture<Map<Long, SellerResponse>> sellersFuture =
+                scope.submitOrDefault(() -> fetchSellers(sellerIds), Map.of());
+        CompletableFuture<Map<Long, String>> imagesFuture =
+                scope.submitOrDefault(() -> fetchMainImages(productGroupIds), Map.of());
+        CompletableFuture<Map<Long, Integer>> stocksFuture =
+                scope.submit(() -> fetchStocks(productIds));
+
+        // 2단계: 상품그룹 정보에 의존하는 정보
+        Map<Long, ProductGroupResponse> productGroupMap = productGroupsFuture.join();
+        CompletableFuture<Map<Long, BrandResponse>> brandsFuture =
+                scope.submitOrDefault(() -> fetchBrands(productGroupMap), Map.of());
+        CompletableFuture<Map<Long, List<CategoryInfo>>> categoriesFuture =
+                scope.submitOrDefault(() -> fetchCategories(productGroupMap), Map.of());
+
+        Map<Long, SellerResponse> sellerMap = sellersFuture.join();
+        Map<Long, String> imageMap = imagesFuture.join();
+        Map<Long, Integer> stockMap = parallelQueryExecutor.join(stocksFuture);
+        Map<Long, BrandResponse> brandMap = brandsFuture.join();
+        Map<Long, List<CategoryInfo>> categoryMap = categoriesFuture.join();
 
         List<EnrichedCartItemResponse> enrichedItems =
                 items.stream()
@@ -117,82 +145,52 @@ public class GetEnrichedCartService implements GetEnrichedCartUseCase {
         return EnrichedCartResponse.from(cartResponse, enrichedItems);
     }
 
-    private Map<Long, ProductGroupResponse> fetchProductGroups(List<CartItemResponse> items) {
-        Set<Long> productGroupIds =
-                items.stream().map(CartItemResponse::productGroupId).collect(Collectors.toSet());
-
-        Map<Long, ProductGroupResponse> result = new HashMap<>();
-        for (Long productGroupId : productGroupIds) {
-            try {
-                ProductGroupResponse response = getProductGroupUseCase.execute(productGroupId);
-                result.put(productGroupId, response);
-            } catch (Exception e) {
-                // 조회 실패 시 무시 (기본값 사용)
-            }
-        }
-        return result;
+    private Map<Long, ProductGroupResponse> fetchProductGroups(List<Long> productGroupIds) {
+        return getProductGroupUseCase.execute(productGroupIds).stream()
+                .collect(
+                        Collectors.toMap(
+                                ProductGroupResponse::productGroupId, Function.identity()));
     }
 
     private Map<Long, BrandResponse> fetchBrands(Map<Long, ProductGroupResponse> productGroupMap) {
-        Set<Long> brandIds =
+        List<Long> brandIds =
                 productGroupMap.values().stream()
                         .map(ProductGroupResponse::brandId)
-                        .filter(id -> id != null)
-                        .collect(Collectors.toSet());
-
-        Map<Long, BrandResponse> result = new HashMap<>();
-        for (Long brandId : brandIds) {
-            try {
-                BrandResponse response = getBrandUseCase.execute(brandId);
-                result.put(brandId, response);
-            } catch (Exception e) {
-                // 조회 실패 시 무시 (기본값 사용)
-            }
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList();
+
+        if (brandIds.isEmpty()) {
+            return Map.of();
         }
-        return result;
+
+        return getBrandUseCase.execute(brandIds).stream()
+                .collect(Collectors.toMap(BrandResponse::id, Function.identity()));
     }
 
-    private Map<Long, SellerResponse> fetchSellers(List<CartItemResponse> items) {
-        Set<Long> sellerIds =
-                items.stream().map(CartItemResponse::sellerId).collect(Collectors.toSet());
-
-        Map<Long, SellerResponse> result = new HashMap<>();
-        for (Long sellerId : sellerIds) {
-            try {
-                SellerResponse response = getSellerUseCase.execute(sellerId);
-                result.put(sellerId, response);
-            } catch (Exception e) {
-                // 조회 실패 시 무시 (기본값 사용)
-            }
-        }
-        return result;
+    private Map<Long, SellerResponse> fetchSellers(List<Long> sellerIds) {
+        return getSellerUseCase.execute(sellerIds).stream()
+                .collect(Collectors.toMap(SellerResponse::id, Function.identity()));
     }
 
-    private Map<Long, String> fetchMainImages(List<CartItemResponse> items) {
-        Set<Long> productGroupIds =
-                items.stream().map(CartItemResponse::productGroupId).collect(Collectors.toSet());
+    private Map<Long, String> fetchMainImages(List<Long> productGroupIds) {
+        Map<Long, List<ProductImageResponse>> imagesByGroupId =
+                getProductImageUseCase.getByProductGroupIds(productGroupIds).stream()
+                        .collect(Collectors.groupingBy(ProductImageResponse::productGroupId));
 
         Map<Long, String> result = new HashMap<>();
-        for (Long productGroupId : productGroupIds) {
-            try {
-                List<ProductImageResponse> images =
-                        getProductImageUseCase.getByProductGroupId(productGroupId);
-                images.stream()
-                        .filter(img -> MAIN_IMAGE_TYPE.equals(img.imageType()))
-                        .findFirst()
-                        .or(() -> images.stream().findFirst())
-                        .ifPresent(img -> result.put(productGroupId, img.cdnUrl()));
-            } catch (Exception e) {
-                // 조회 실패 시 무시 (기본값 사용)
-            }
-        }
+        imagesByGroupId.forEach(
+                (productGroupId, images) ->
+                        images.stream()
+                                .filter(img -> MAIN_IMAGE_TYPE.equals(img.imageType()))
+                                .findFirst()
+                                .or(() -> images.stream().findFirst())
+                                .ifPresent(img -> result.put(productGroupId, img.cdnUrl())));
         return result;
     }
 
-    private Map<Long, Integer> fetchStocks(List<CartItemResponse> items) {
-        List<Long> productIds = items.stream().map(CartItemResponse::productId).distinct().toList();
-
-        List<ProductStock> stocks = productStockQueryPort.findByProductIds(productIds);
+    private Map<Long, Integer> fetchStocks(List<Long> productIds) {
+        List<ProductStock> stocks = productStockReadManager.findByProductIds(productIds);
 
         return stocks.stream()
                 .collect(
@@ -204,23 +202,23 @@ public class GetEnrichedCartService implements GetEnrichedCartUseCase {
 
     private Map<Long, List<CategoryInfo>> fetchCategories(
             Map<Long, ProductGroupResponse> productGroupMap) {
-        Set<Long> categoryIds =
+        List<Long> categoryIds =
                 productGroupMap.values().stream()
                         .map(ProductGroupResponse::categoryId)
-                        .filter(id -> id != null)
-                        .collect(Collectors.toSet());
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList();
+
+        if (categoryIds.isEmpty()) {
+            return Map.of();
+        }
 
         Map<Long, List<CategoryInfo>> result = new HashMap<>();
-        for (Long categoryId : categoryIds) {
-            try {
-                CategoryPathResponse pathResponse =
-                        getCategoryPathUseCase.getCategoryPath(categoryId);
-                List<CategoryInfo> categoryInfos =
-                        pathResponse.breadcrumbs().stream().map(this::toCategoryInfo).toList();
-                result.put(categoryId, categoryInfos);
-            } catch (Exception e) {
-                // 조회 실패 시 무시 (기본값 사용)
-            }
+        for (CategoryPathResponse pathResponse :
+                getCategoryPathUseCase.getCategoryPaths(categoryIds)) {
+            List<CategoryInfo> categoryInfos =
+                    pathResponse.breadcrumbs().stream().map(this::toCategoryInfo).toList();
+            result.put(pathResponse.categoryId(), categoryInfos);
         }
         return result;
     }
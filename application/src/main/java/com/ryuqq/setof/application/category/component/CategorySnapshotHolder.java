@@ -0,0 +1,150 @@
+package com.ryuqq.setof.application.category.component;
+
+import com.ryuqq.setof.application.category.manager.query.CategoryReadManager;
+import com.ryuqq.setof.application.common.port.out.CacheVersionPort;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 트리 스냅샷 보관소
+ *
+ * <p>노드마다 {@link CategoryTreeSnapshot} 하나를 메모리에 두고 원자적으로 교체합니다. 카테고리는 하루 몇 번만 바뀌므로 조회 요청은 DB를
+ * 거치지 않습니다.
+ *
+ * <p><strong>갱신 규칙:</strong>
+ *
+ * <ul>
+ *   <li>최초 조회 시 적재 (동시 요청은 한 번의 적재를 기다림)
+ *   <li>{@code version-check-interval}마다 한 요청이 Redis 버전({@code
+ *       cache:version:category-tree})을 확인하고, 달라졌으면 다시 적재합니다. 나머지 요청은 기존 스냅샷을 그대로
+ *       사용합니다.
+ *   <li>버전을 올리지 않는 경로(레거시 어드민 등)의 변경은 {@code max-age}가 지나면 반영됩니다.
+ *   <li>버전 확인이나 재적재가 실패하면 기존 스냅샷을 유지합니다.
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class CategorySnapshotHolder {
+
+    private static final Logger log = LoggerFactory.getLogger(CategorySnapshotHolder.class);
+
+    static final String VERSION_NAME = "category-tree";
+
+    private final CategoryReadManager categoryReadManager;
+    private final CacheVersionPort cacheVersionPort;
+    private final long versionCheckIntervalNanos;
+    private final long maxAgeNanos;
+    private final AtomicReference<LoadedSnapshot> loaded = new AtomicReference<>();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile long nextVersionCheckAt;
+
+    public CategorySnapshotHolder(
+            CategoryReadManager categoryReadManager,
+            CacheVersionPort cacheVersionPort,
+            @Value("${category.snapshot.version-check-interval:1s}") Duration versionCheckInterval,
+            @Value("${category.snapshot.max-age:10m}") Duration maxAge) {
+        this.categoryReadManager = categoryReadManager;
+        this.cacheVersionPort = cacheVersionPort;
+        this.versionCheckIntervalNanos = versionCheckInterval.toNanos();
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    /**
+     * 현재 스냅샷 조회
+     *
+     * @return 카테고리 트리 스냅샷
+     */
+    public CategoryTreeSnapshot current() {
+        LoadedSnapshot current = loaded.get();
+        if (current == null) {
+            return loadInitial();
+        }
+        long now = System.nanoTime();
+        if (now - nextVersionCheckAt >= 0 && reloadLock.tryLock()) {
+            try {
+                current = refreshIfChanged(loaded.get(), now);
+            } finally {
+                reloadLock.unlock();
+            }
+        }
+        return current.snapshot();
+    }
+
+    /**
+     * 카테고리 변경 후 호출: 버전을 올려 다른 노드에 알리고 이 노드의 스냅샷을 즉시 교체
+     *
+     * <p>트랜잭션 커밋 이후에 호출해야 다른 노드가 변경 전 데이터로 다시 적재하지 않습니다.
+     */
+    public void invalidate() {
+        long version = cacheVersionPort.increment(VERSION_NAME);
+        reloadLock.lock();
+        try {
+            reload(version);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private CategoryTreeSnapshot loadInitial() {
+        reloadLock.lock();
+        try {
+            LoadedSnapshot current = loaded.get();
+            if (current != null) {
+                return current.snapshot();
+            }
+            return reload(readVersion(0L)).snapshot();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private LoadedSnapshot refreshIfChanged(LoadedSnapshot current, long now) {
+        if (now - nextVersionCheckAt < 0) {
+            return current;
+        }
+        nextVersionCheckAt = now + versionCheckIntervalNanos;
+        long version = readVersion(current.snapshot().version());
+        boolean expired = now - current.loadedAtNanos() >= maxAgeNanos;
+        if (version == current.snapshot().version() && !expired) {
+            return current;
+        }
+        try {
+            return reload(version);
+        } catch (RuntimeException e) {
+            log.warn(
+                    "Failed to reload category snapshot, keeping version {}",
+                    current.snapshot().version(),
+                    e);
+            return current;
+        }
+    }
+
+    private long readVersion(long fallback) {
+        try {
+            return cacheVersionPort.getVersion(VERSION_NAME);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read category snapshot version: {}", e.getMessage());
+            return fallback;
+        }
+    }
+
+    private LoadedSnapshot reload(long version) {
+        CategoryTreeSnapshot snapshot =
+                CategoryTreeSnapshot.build(version, categoryReadManager.findAllActive());
+        long now = System.nanoTime();
+        LoadedSnapshot reloaded = new LoadedSnapshot(snapshot, now);
+        nextVersionCheckAt = now + versionCheckIntervalNanos;
+        loaded.set(reloaded);
+        return reloaded;
+    }
+
+    private record LoadedSnapshot(CategoryTreeSnapshot snapshot, long loadedAtNanos) {}
+}
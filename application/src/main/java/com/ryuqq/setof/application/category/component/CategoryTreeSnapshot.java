@@ -0,0 +1,249 @@
+package com.ryuqq.setof.application.category.component;
+
+import com.ryuqq.setof.application.category.dto.response.CategoryPathResponse;
+import com.ryuqq.setof.application.category.dto.response.CategoryPathResponse.BreadcrumbItem;
+import com.ryuqq.setof.application.category.dto.response.CategoryTreeResponse;
+import com.ryuqq.setof.domain.category.aggregate.Category;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 카테고리 트리 스냅샷 (불변)
+ *
+ * <p>활성 카테고리 전체로 한 번 구성한 뒤 교체만 하는 읽기 전용 구조입니다. 트리/경로/하위 조회는 모두 미리 계산된 결과를 반환합니다.
+ *
+ * <p><strong>구성:</strong> 부모 인덱스 배열과 자식 인접 배열(CSR: {@code childOffsets}/{@code childIndices},
+ * sortOrder 순)을 만든 뒤, BFS 순서로 경로를, BFS 역순으로 서브트리를 한 번씩 계산합니다.
+ *
+ * <p><strong>보관:</strong>
+ *
+ * <ul>
+ *   <li>ID → 인덱스 맵
+ *   <li>인덱스별 {@link CategoryPathResponse} (루트부터의 breadcrumb)
+ *   <li>인덱스별 {@link CategoryTreeResponse} 서브트리와 최상위 트리 목록
+ * </ul>
+ *
+ * <p>부모가 스냅샷에 없는(비활성 부모 아래) 카테고리는 트리에 연결되지 않으므로 {@link #contains(Long)}가 false이며, 호출자는 DB 조회로
+ * 대체합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class CategoryTreeSnapshot {
+
+    private static final int NO_PARENT = -1;
+
+    private final long version;
+    private final Map<Long, Integer> indexById;
+    private final CategoryPathResponse[] paths;
+    private final CategoryTreeResponse[] nodes;
+    private final List<CategoryTreeResponse> roots;
+
+    private CategoryTreeSnapshot(
+            long version,
+            Map<Long, Integer> indexById,
+            CategoryPathResponse[] paths,
+            CategoryTreeResponse[] nodes,
+            List<CategoryTreeResponse> roots) {
+        this.version = version;
+        this.indexById = indexById;
+        this.paths = paths;
+        this.nodes = nodes;
+        this.roots = roots;
+    }
+
+    /**
+     * 활성 카테고리 목록으로 스냅샷 구성
+     *
+     * @param version 스냅샷 버전
+     * @param categories 활성 카테고리 전체
+     * @return 스냅샷
+     */
+    public static CategoryTreeSnapshot build(long version, List<Category> categories) {
+        int size = categories.size();
+        Category[] sorted =
+                categories.stream()
+                        .sorted(Comparator.comparingInt(Category::getSortOrder))
+                        .toArray(Category[]::new);
+
+        Map<Long, Integer> indexById = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            indexById.put(sorted[i].getIdValue(), i);
+        }
+
+        int[] parentIndex = new int[size];
+        int[] childCounts = new int[size + 1];
+        int rootCount = 0;
+        for (int i = 0; i < size; i++) {
+            Long parentId = sorted[i].getParentId();
+            if (parentId == null || parentId == 0L) {
+                parentIndex[i] = NO_PARENT;
+                rootCount++;
+            } else {
+                Integer parent = indexById.get(parentId);
+                parentIndex[i] = parent != null ? parent : NO_PARENT;
+                if (parent != null) {
+                    childCounts[parent + 1]++;
+                }
+            }
+        }
+
+        int[] childOffsets = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            childOffsets[i + 1] = childOffsets[i] + childCounts[i + 1];
+        }
+        int[] childIndices = new int[childOffsets[size]];
+        int[] rootIndices = new int[rootCount];
+        int[] cursor = Arrays.copyOf(childOffsets, size);
+        int rootCursor = 0;
+        for (int i = 0; i < size; i++) {
+            if (parentIndex[i] != NO_PARENT) {
+                childIndices[cursor[parentIndex[i]]++] = i;
+            } else if (isRoot(sorted[i])) {
+                rootIndices[rootCursor++] = i;
+            }
+        }
+
+        int[] order = breadthFirstOrder(rootIndices, childOffsets, childIndices, size);
+        CategoryPathResponse[] paths = buildPaths(sorted, parentIndex, order);
+        CategoryTreeResponse[] nodes = buildNodes(sorted, childOffsets, childIndices, order);
+
+        List<CategoryTreeResponse> roots = new ArrayList<>(rootCount);
+        for (int root : rootIndices) {
+            roots.add(nodes[root]);
+        }
+        return new CategoryTreeSnapshot(
+                version,
+                Map.copyOf(indexById),
+                paths,
+                nodes,
+                List.copyOf(roots));
+    }
+
+    /**
+     * 스냅샷 버전
+     *
+     * @return 버전
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 트리에 연결된 카테고리인지 확인
+     *
+     * @param categoryId 카테고리 ID
+     * @return 루트부터 연결된 활성 카테고리면 true
+     */
+    public boolean contains(Long categoryId) {
+        Integer index = indexById.get(categoryId);
+        return index != null && nodes[index] != null;
+    }
+
+    /**
+     * 전체 카테고리 트리
+     *
+     * @return 최상위 카테고리 트리 목록 (sortOrder 순)
+     */
+    public List<CategoryTreeResponse> tree() {
+        return roots;
+    }
+
+    /**
+     * 카테고리 경로 조회
+     *
+     * @param categoryId 카테고리 ID
+     * @return 루트부터의 경로 (트리에 없으면 Empty)
+     */
+    public Optional<CategoryPathResponse> path(Long categoryId) {
+        Integer index = indexById.get(categoryId);
+        return index != null ? Optional.ofNullable(paths[index]) : Optional.empty();
+    }
+
+    /**
+     * 하위 카테고리 트리 조회
+     *
+     * @param categoryId 부모 카테고리 ID
+     * @return 하위 카테고리 트리 목록 (트리에 없으면 Empty)
+     */
+    public Optional<List<CategoryTreeResponse>> children(Long categoryId) {
+        Integer index = indexById.get(categoryId);
+        if (index == null || nodes[index] == null) {
+            return Optional.empty();
+        }
+        return Optional.of(nodes[index].children());
+    }
+
+    private static boolean isRoot(Category category) {
+        return category.getParentId() == null || category.getParentId() == 0L;
+    }
+
+    /** 루트에서 도달 가능한 인덱스를 부모가 자식보다 먼저 오도록 나열 (도달 불가 인덱스는 제외) */
+    private static int[] breadthFirstOrder(
+            int[] rootIndices, int[] childOffsets, int[] childIndices, int size) {
+        int[] order = new int[size];
+        int head = 0;
+        int tail = 0;
+        for (int root : rootIndices) {
+            order[tail++] = root;
+        }
+        while (head < tail) {
+            int current = order[head++];
+            for (int c = childOffsets[current]; c < childOffsets[current + 1]; c++) {
+                order[tail++] = childIndices[c];
+            }
+        }
+        return Arrays.copyOf(order, tail);
+    }
+
+    private static CategoryPathResponse[] buildPaths(
+            Category[] categories, int[] parentIndex, int[] order) {
+        CategoryPathResponse[] paths = new CategoryPathResponse[categories.length];
+        for (int index : order) {
+            Category category = categories[index];
+            List<BreadcrumbItem> breadcrumbs = new ArrayList<>();
+            if (parentIndex[index] != NO_PARENT) {
+                breadcrumbs.addAll(paths[parentIndex[index]].breadcrumbs());
+            }
+            breadcrumbs.add(
+                    BreadcrumbItem.of(
+                            category.getIdValue(),
+                            category.getCodeValue(),
+                            category.getNameKoValue(),
+                            category.getDepthValue()));
+            paths[index] =
+                    CategoryPathResponse.of(category.getIdValue(), List.copyOf(breadcrumbs));
+        }
+        return paths;
+    }
+
+    /** 자식이 부모보다 먼저 만들어지도록 BFS 역순으로 서브트리 구성 */
+    private static CategoryTreeResponse[] buildNodes(
+            Category[] categories, int[] childOffsets, int[] childIndices, int[] order) {
+        CategoryTreeResponse[] nodes = new CategoryTreeResponse[categories.length];
+        for (int o = order.length - 1; o >= 0; o--) {
+            int index = order[o];
+            Category category = categories[index];
+            List<CategoryTreeResponse> children =
+                    new ArrayList<>(childOffsets[index + 1] - childOffsets[index]);
+            for (int c = childOffsets[index]; c < childOffsets[index + 1]; c++) {
+                children.add(nodes[childIndices[c]]);
+            }
+            nodes[index] =
+                    CategoryTreeResponse.of(
+                            category.getIdValue(),
+                            category.getCodeValue(),
+                            category.getNameKoValue(),
+                            category.getDepthValue(),
+                            category.getSortOrder(),
+                            category.isLeaf(),
+                            List.copyOf(children));
+        }
+        return nodes;
+    }
+}
@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.category.port.in.query;
 
 import com.ryuqq.setof.application.category.dto.response.CategoryPathResponse;
+import java.util.List;
 
 /**
  * Get Category Path UseCase (Query)
@@ -19,4 +20,14 @@ public interface GetCategoryPathUseCase {
      * @return 카테고리 경로 정보 (breadcrumb)
      */
     CategoryPathResponse getCategoryPath(Long categoryId);
+
+    /**
+     * 여러 카테고리의 상위 경로 일괄 조회
+     *
+     * <p>경로에 포함된 카테고리를 한 번에 조회합니다. 존재하지 않는 ID는 결과에서 제외됩니다.
+     *
+     * @param categoryIds 카테고리 ID 목록
+     * @return 카테고리 경로 정보 목록
+     */
+    List<CategoryPathResponse> getCategoryPaths(List<Long> categoryIds);
 }
@@ -1,6 +1,8 @@
 package com.ryuqq.setof.application.category.service.query;
 
 import com.ryuqq.setof.application.category.assembler.CategoryAssembler;
+import com.ryuqq.setof.application.category.component.CategorySnapshotHolder;
+import com.ryuqq.setof.application.category.component.CategoryTreeSnapshot;
 import com.ryuqq.setof.application.category.dto.query.CategorySearchQuery;
 import com.ryuqq.setof.application.category.dto.response.CategoryPathResponse;
 import com.ryuqq.setof.application.category.dto.response.CategoryResponse;
@@ -8,12 +10,18 @@ import com.ryuqq.setof.application.category.dto.response.CategoryTreeResponse;
 import com.ryuqq.setof.application.category.factory.query.CategoryQueryFactory;
 import com.ryuqq.setof.application.category.manager.query.CategoryReadManager;
 import com.ryuqq.setof.application.category.port.in.query.GetCategoriesUseCase;
+import com.ryuqq.setof.application.category.port.in.query.GetCategoryChildrenUseCase;
 import com.ryuqq.setof.application.category.port.in.query.GetCategoryPathUseCase;
 import com.ryuqq.setof.application.category.port.in.query.GetCategoryTreeUseCase;
 import com.ryuqq.setof.application.category.port.in.query.GetCategoryUseCase;
 import com.ryuqq.setof.domain.category.aggregate.Category;
 import com.ryuqq.setof.domain.category.query.criteria.CategorySearchCriteria;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 /**
@@ -26,6 +34,9 @@ import org.springframework.stereotype.Service;
  *   <li>CategoryAssembler로 Response DTO 변환
  * </ol>
  *
+ * <p>트리/경로/하위 조회는 {@link CategorySnapshotHolder}의 인메모리 스냅샷에서 응답하며, 스냅샷에 없는 카테고리(비활성 카테고리
+ * 또는 비활성 부모 아래 카테고리)만 DB에서 조회합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -34,19 +45,23 @@ public class CategoryQueryService
         implements GetCategoryUseCase,
                 GetCategoriesUseCase,
                 GetCategoryTreeUseCase,
-                GetCategoryPathUseCase {
+                GetCategoryPathUseCase,
+                GetCategoryChildrenUseCase {
 
     private final CategoryReadManager categoryReadManager;
     private final CategoryQueryFactory categoryQueryFactory;
     private final CategoryAssembler categoryAssembler;
+    private final CategorySnapshotHolder categorySnapshotHolder;
 
     public CategoryQueryService(
             CategoryReadManager categoryReadManager,
             CategoryQueryFactory categoryQueryFactory,
-            CategoryAssembler categoryAssembler) {
+            CategoryAssembler categoryAssembler,
+            CategorySnapshotHolder categorySnapshotHolder) {
         this.categoryReadManager = categoryReadManager;
         this.categoryQueryFactory = categoryQueryFactory;
         this.categoryAssembler = categoryAssembler;
+        this.categorySnapshotHolder = categorySnapshotHolder;
     }
 
     @Override
@@ -72,12 +87,49 @@ public class CategoryQueryService
 
     @Override
     public List<CategoryTreeResponse> getCategoryTree() {
-        List<Category> allCategories = categoryReadManager.findAllActive();
-        return categoryAssembler.toCategoryTreeResponses(allCategories);
+        return categorySnapshotHolder.current().tree();
+    }
+
+    @Override
+    public List<CategoryTreeResponse> getCategoryChildren(Long categoryId) {
+        return categorySnapshotHolder
+                .current()
+                .children(categoryId)
+                .orElseGet(
+                        () -> {
+                            // 스냅샷 밖의 카테고리: 존재 확인 후 활성 하위 트리 없음
+                            categoryReadManager.findById(categoryId);
+                            return List.of();
+                        });
     }
 
     @Override
     public CategoryPathResponse getCategoryPath(Long categoryId) {
+        return categorySnapshotHolder
+                .current()
+                .path(categoryId)
+                .orElseGet(() -> loadCategoryPath(categoryId));
+    }
+
+    @Override
+    public List<CategoryPathResponse> getCategoryPaths(List<Long> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return List.of();
+        }
+
+        CategoryTreeSnapshot snapshot = categorySnapshotHolder.current();
+        List<CategoryPathResponse> paths = new ArrayList<>(categoryIds.size());
+        List<Long> missedIds = new ArrayList<>();
+        for (Long categoryId : categoryIds) {
+            snapshot.path(categoryId).ifPresentOrElse(paths::add, () -> missedIds.add(categoryId));
+        }
+        if (!missedIds.isEmpty()) {
+            paths.addAll(loadCategoryPaths(missedIds));
+        }
+        return paths;
+    }
+
+    private CategoryPathResponse loadCategoryPath(Long categoryId) {
         Category category = categoryReadManager.findById(categoryId);
 
         // 경로에서 ID 추출
@@ -88,4 +140,34 @@ public class CategoryQueryService
 
         return categoryAssembler.toCategoryPathResponse(categoryId, pathCategories);
     }
+
+    private List<CategoryPathResponse> loadCategoryPaths(List<Long> categoryIds) {
+        List<Category> categories = categoryReadManager.findByIds(categoryIds);
+        if (categories.isEmpty()) {
+            return List.of();
+        }
+
+        // 모든 경로의 카테고리를 한 번에 조회
+        List<Long> pathIds =
+                categories.stream()
+                        .flatMap(category -> category.getPath().extractIds().stream())
+                        .distinct()
+                        .toList();
+        Map<Long, Category> pathCategoryMap =
+                categoryReadManager.findByIds(pathIds).stream()
+                        .collect(Collectors.toMap(Category::getIdValue, Function.identity()));
+
+        return categories.stream()
+                .map(
+                        category -> {
+                            List<Category> pathCategories =
+                                    category.getPath().extractIds().stream()
+                                            .map(pathCategoryMap::get)
+                                            .filter(Objects::nonNull)
+                                            .toList();
+                            return categoryAssembler.toCategoryPathResponse(
+                                    category.getIdValue(), pathCategories);
+                        })
+                .toList();
+    }
 }
@@ -4,8 +4,11 @@ import com.ryuqq.setof.application.checkout.dto.command.CompleteCheckoutCommand;
 import com.ryuqq.setof.application.checkout.manager.query.CheckoutReadManager;
 import com.ryuqq.setof.application.checkout.port.in.command.CompleteCheckoutUseCase;
 import com.ryuqq.setof.application.checkout.port.out.command.CheckoutPersistencePort;
-import com.ryuqq.setof.application.common.port.out.DistributedLockPort;
+import com.ryuqq.setof.application.common.port.out.IdempotencyStorePort;
+import com.ryuqq.setof.application.common.port.out.IdempotencyStorePort.IdempotencyRecord;
+import com.ryuqq.setof.application.common.port.out.StockCacheSyncPort;
 import com.ryuqq.setof.application.common.port.out.StockCounterPort;
+import com.ryuqq.setof.application.common.port.out.StockCounterPort.StockReservationResult;
 import com.ryuqq.setof.application.discountusagehistory.factory.command.DiscountUsageHistoryCommandFactory;
 import com.ryuqq.setof.application.discountusagehistory.manager.command.DiscountUsageHistoryPersistenceManager;
 import com.ryuqq.setof.application.order.dto.command.CreateOrderCommand;
@@ -23,15 +26,15 @@ import com.ryuqq.setof.domain.common.util.ClockHolder;
 import com.ryuqq.setof.domain.order.aggregate.Order;
 import com.ryuqq.setof.domain.payment.aggregate.Payment;
 import com.ryuqq.setof.domain.payment.exception.PaymentCompletionInProgressException;
-import com.ryuqq.setof.domain.payment.vo.PaymentLockKey;
 import com.ryuqq.setof.domain.payment.vo.PaymentMoney;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -43,25 +46,31 @@ import org.springframework.transaction.support.TransactionTemplate;
  * <p>흐름:
  *
  * <ol>
- *   <li>paymentId 기반 분산락 획득
+ *   <li>paymentId 기반 멱등 레코드 선점 (이미 완료된 결제면 즉시 반환, 처리 중이면 즉시 충돌)
  *   <li>Payment 조회 및 상태 검증
  *   <li>Checkout 조회 및 상태 검증
- *   <li>Redis 재고 차감 (DECRBY)
+ *   <li>Redis 재고 일괄 차감 (All-or-Nothing Lua 스크립트, 단일 라운드트립)
  *   <li>Payment 승인 처리
  *   <li>판매자별 Order 생성 (할인 정보 포함)
  *   <li>할인 사용 이력 기록 (추후 Checkout 확장 시 활성화)
  *   <li>Checkout 완료 처리
- *   <li>분산락 해제
+ *   <li>커밋 후 완료 기록 (처리 실패 시 레코드 해제, 완료 기록 실패는 로그만 남기고 레코드 해제)
  * </ol>
  *
+ * <p>클라이언트 재시도와 PG 웹훅이 같은 결제를 동시에 완료하려 해도 락 대기 없이 한 요청만 처리되고, 이후 요청은 완료 기록을 보고 바로
+ * 성공으로 끝납니다. 완료 기록이 만료된 뒤의 요청은 Payment 상태 검증에서 걸러집니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
 @Service
 public class CompleteCheckoutService implements CompleteCheckoutUseCase {
 
-    private static final long LOCK_WAIT_SECONDS = 5;
-    private static final long LOCK_LEASE_SECONDS = 30;
+    private static final Logger log = LoggerFactory.getLogger(CompleteCheckoutService.class);
+
+    private static final String IDEMPOTENCY_KEY_PREFIX = "idempotency:payment:complete:";
+    private static final Duration IN_PROGRESS_TTL = Duration.ofSeconds(30);
+    private static final Duration COMPLETED_TTL = Duration.ofHours(24);
 
     private final PaymentReadManager paymentReadManager;
     private final CheckoutReadManager checkoutReadManager;
@@ -72,7 +81,8 @@ public class CompleteCheckoutService implements CompleteCheckoutUseCase {
     private final DiscountUsageHistoryCommandFactory discountUsageHistoryCommandFactory;
     private final DiscountUsageHistoryPersistenceManager discountUsageHistoryPersistenceManager;
     private final StockCounterPort stockCounterPort;
-    private final DistributedLockPort distributedLockPort;
+    private final StockCacheSyncPort stockCacheSyncPort;
+    private final IdempotencyStorePort idempotencyStorePort;
     private final TransactionTemplate transactionTemplate;
     private final ClockHolder clockHolder;
 
@@ -86,7 +96,8 @@ public class CompleteCheckoutService implements CompleteCheckoutUseCase {
             DiscountUsageHistoryCommandFactory discountUsageHistoryCommandFactory,
             DiscountUsageHistoryPersistenceManager discountUsageHistoryPersistenceManager,
             StockCounterPort stockCounterPort,
-            DistributedLockPort distributedLockPort,
+            StockCacheSyncPort stockCacheSyncPort,
+            IdempotencyStorePort idempotencyStorePort,
             TransactionTemplate transactionTemplate,
             ClockHolder clockHolder) {
         this.paymentReadManager = paymentReadManager;
@@ -98,7 +109,8 @@ public class CompleteCheckoutService implements CompleteCheckoutUseCase {
         this.discountUsageHistoryCommandFactory = discountUsageHistoryCommandFactory;
         this.discountUsageHistoryPersistenceManager = discountUsageHistoryPersistenceManager;
         this.stockCounterPort = stockCounterPort;
-        this.distributedLockPort = distributedLockPort;
+        this.stockCacheSyncPort = stockCacheSyncPort;
+        this.idempotencyStorePort = idempotencyStorePort;
         this.transactionTemplate = transactionTemplate;
         this.clockHolder = clockHolder;
     }
@@ -112,20 +124,49 @@ public class CompleteCheckoutService implements CompleteCheckoutUseCase {
      */
     @Override
     public void completeCheckout(CompleteCheckoutCommand command) {
-        PaymentLockKey lockKey = PaymentLockKey.forComplete(command.paymentId());
-
-        boolean lockAcquired =
-                distributedLockPort.tryLock(
-                        lockKey, LOCK_WAIT_SECONDS, LOCK_LEASE_SECONDS, TimeUnit.SECONDS);
+        String key = IDEMPOTENCY_KEY_PREFIX + command.paymentId();
+        IdempotencyRecord<Void> record =
+                idempotencyStorePort.begin(key, Void.class, IN_PROGRESS_TTL);
 
-        if (!lockAcquired) {
+        if (record.isCompleted()) {
+            return;
+        }
+        if (!record.isAcquired()) {
             throw PaymentCompletionInProgressException.forPayment(command.paymentId());
         }
 
         try {
             transactionTemplate.executeWithoutResult(status -> executeCheckoutCompletion(command));
-        } finally {
-            distributedLockPort.unlock(lockKey);
+        } catch (RuntimeException e) {
+            idempotencyStorePort.release(key, record.ownerToken());
+            throw e;
+        }
+
+        recordCompletion(key, record.ownerToken(), command.paymentId());
+    }
+
+    /**
+     * 커밋된 완료 처리의 멱등 기록
+     *
+     * <p>체크아웃 완료는 이미 커밋되었으므로 기록 실패를 요청 실패로 돌려주지 않습니다. 레코드를 해제해 재시도가 처리 중 충돌로 막히지 않게 하며,
+     * 재시도는 Payment 상태 검증에서 걸러집니다.
+     */
+    private void recordCompletion(String key, String ownerToken, String paymentId) {
+        try {
+            idempotencyStorePort.complete(key, ownerToken, null, COMPLETED_TTL);
+        } catch (RuntimeException e) {
+            log.error(
+                    "Failed to record checkout completion. paymentId={}, releasing record",
+                    paymentId,
+                    e);
+            try {
+                idempotencyStorePort.release(key, ownerToken);
+            } catch (RuntimeException releaseFailure) {
+                log.error(
+                        "Failed to release checkout completion record. paymentId={}",
+                        paymentId,
+                        releaseFailure);
+            }
         }
     }
 
@@ -158,38 +199,25 @@ public class CompleteCheckoutService implements CompleteCheckoutUseCase {
     }
 
     private void decrementStocks(Map<Long, Integer> stockRequirements) {
-        Map<Long, Integer> decrementedStocks = new HashMap<>();
-
-        try {
-            for (Map.Entry<Long, Integer> entry : stockRequirements.entrySet()) {
-                Long productStockId = entry.getKey();
-                int requiredQuantity = entry.getValue();
-
-                int remainingStock = stockCounterPort.decrement(productStockId, requiredQuantity);
+        StockReservationResult result = stockCounterPort.decrementAll(stockRequirements);
 
-                if (remainingStock < 0) {
-                    // 음수면 재고 부족 - 롤백 후 예외 발생
-                    stockCounterPort.increment(productStockId, requiredQuantity);
-                    rollbackDecrements(decrementedStocks);
-                    throw InsufficientStockException.forProduct(
-                            productStockId, requiredQuantity, remainingStock + requiredQuantity);
-                }
+        List<Long> coldKeys = findColdKeys(result);
+        if (!coldKeys.isEmpty()) {
+            // Cache Miss(TTL 만료 등) - DB에서 키 복구 후 1회 재시도
+            stockCacheSyncPort.syncFromDatabase(coldKeys);
+            result = stockCounterPort.decrementAll(stockRequirements);
+        }
 
-                decrementedStocks.put(productStockId, requiredQuantity);
-            }
-        } catch (InsufficientStockException e) {
-            throw e;
-        } catch (Exception e) {
-            // 예기치 않은 오류 시 롤백
-            rollbackDecrements(decrementedStocks);
-            throw e;
+        if (!result.reserved()) {
+            throw InsufficientStockException.forProducts(result.insufficientProductStockIds());
         }
     }
 
-    private void rollbackDecrements(Map<Long, Integer> decrementedStocks) {
-        for (Map.Entry<Long, Integer> entry : decrementedStocks.entrySet()) {
-            stockCounterPort.increment(entry.getKey(), entry.getValue());
-        }
+    private List<Long> findColdKeys(StockReservationResult result) {
+        return result.shortages().entrySet().stream()
+                .filter(entry -> entry.getValue() == StockCacheSyncPort.NOT_FOUND)
+                .map(Map.Entry::getKey)
+                .toList();
     }
 
     private void createOrdersPerSeller(Checkout checkout, String paymentId, Instant now) {
@@ -6,19 +6,22 @@ import com.ryuqq.setof.application.checkout.dto.response.CheckoutResponse;
 import com.ryuqq.setof.application.checkout.factory.command.CheckoutCommandFactory;
 import com.ryuqq.setof.application.checkout.port.in.command.CreateCheckoutUseCase;
 import com.ryuqq.setof.application.checkout.port.out.command.CheckoutPersistencePort;
-import com.ryuqq.setof.application.common.port.out.DistributedLockPort;
+import com.ryuqq.setof.application.common.port.out.IdempotencyStorePort;
+import com.ryuqq.setof.application.common.port.out.IdempotencyStorePort.IdempotencyRecord;
+import com.ryuqq.setof.application.common.port.out.StockCacheSyncPort;
 import com.ryuqq.setof.application.common.port.out.StockCounterPort;
 import com.ryuqq.setof.application.payment.factory.command.PaymentCommandFactory;
 import com.ryuqq.setof.application.payment.port.out.command.PaymentPersistencePort;
 import com.ryuqq.setof.domain.checkout.aggregate.Checkout;
 import com.ryuqq.setof.domain.checkout.exception.DuplicateCheckoutException;
 import com.ryuqq.setof.domain.checkout.exception.InsufficientStockException;
-import com.ryuqq.setof.domain.checkout.vo.IdempotencyLockKey;
 import com.ryuqq.setof.domain.payment.aggregate.Payment;
 import com.ryuqq.setof.domain.payment.vo.PaymentMethod;
 import com.ryuqq.setof.domain.payment.vo.PgProvider;
+import java.time.Duration;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -30,30 +33,37 @@ import org.springframework.transaction.support.TransactionTemplate;
  * <p>흐름:
  *
  * <ol>
- *   <li>멱등키 기반 분산락 획득
+ *   <li>멱등 레코드 선점 (이미 완료된 멱등키면 저장된 응답 반환, 처리 중이면 즉시 충돌)
  *   <li>Redis 재고 확인 (차감 없음)
  *   <li>Checkout Aggregate 생성
  *   <li>Payment Aggregate 생성 (PENDING 상태)
  *   <li>영속화 (트랜잭션 내)
- *   <li>분산락 해제
+ *   <li>커밋 후 응답을 멱등 레코드에 저장 (생성 실패 시 레코드 해제, 저장 실패 시 로그 후 해제하고 응답은 정상 반환)
  * </ol>
  *
+ * <p>재시도 요청은 락을 기다리지 않고 저장된 응답을 그대로 돌려받습니다. 다른 회원이 같은 멱등키를 사용하면 응답을 공유하지 않고 충돌로
+ * 처리합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
 @Service
 public class CreateCheckoutService implements CreateCheckoutUseCase {
 
-    private static final long LOCK_WAIT_SECONDS = 5;
-    private static final long LOCK_LEASE_SECONDS = 30;
+    private static final Logger log = LoggerFactory.getLogger(CreateCheckoutService.class);
+
+    private static final String IDEMPOTENCY_KEY_PREFIX = "idempotency:checkout:create:";
+    private static final Duration IN_PROGRESS_TTL = Duration.ofSeconds(30);
+    private static final Duration COMPLETED_TTL = Duration.ofHours(24);
 
     private final CheckoutCommandFactory checkoutCommandFactory;
     private final PaymentCommandFactory paymentCommandFactory;
     private final CheckoutPersistencePort checkoutPersistencePort;
     private final PaymentPersistencePort paymentPersistencePort;
     private final CheckoutAssembler checkoutAssembler;
-    private final DistributedLockPort distributedLockPort;
+    private final IdempotencyStorePort idempotencyStorePort;
     private final StockCounterPort stockCounterPort;
+    private final StockCacheSyncPort stockCacheSyncPort;
     private final TransactionTemplate transactionTemplate;
 
     public CreateCheckoutService(
@@ -62,16 +72,18 @@ public class CreateCheckoutService implements CreateCheckoutUseCase {
             CheckoutPersistencePort checkoutPersistencePort,
             PaymentPersistencePort paymentPersistencePort,
             CheckoutAssembler checkoutAssembler,
-            DistributedLockPort distributedLockPort,
+            IdempotencyStorePort idempotencyStorePort,
             StockCounterPort stockCounterPort,
+            StockCacheSyncPort stockCacheSyncPort,
             TransactionTemplate transactionTemplate) {
         this.checkoutCommandFactory = checkoutCommandFactory;
         this.paymentCommandFactory = paymentCommandFactory;
         this.checkoutPersistencePort = checkoutPersistencePort;
         this.paymentPersistencePort = paymentPersistencePort;
         this.checkoutAssembler = checkoutAssembler;
-        this.distributedLockPort = distributedLockPort;
+        this.idempotencyStorePort = idempotencyStorePort;
         this.stockCounterPort = stockCounterPort;
+        this.stockCacheSyncPort = stockCacheSyncPort;
         this.transactionTemplate = transactionTemplate;
     }
 
@@ -79,29 +91,64 @@ public class CreateCheckoutService implements CreateCheckoutUseCase {
      * 체크아웃 생성
      *
      * @param command 체크아웃 생성 Command
-     * @return 생성된 체크아웃 응답 (paymentId 포함)
-     * @throws DuplicateCheckoutException 이미 처리 중인 멱등키인 경우
+     * @return 생성된 체크아웃 응답 (paymentId 포함, 이미 처리된 멱등키면 최초 응답)
+     * @throws DuplicateCheckoutException 이미 처리 중이거나 다른 회원이 사용한 멱등키인 경우
      * @throws InsufficientStockException 재고가 부족한 경우
      */
     @Override
     public CheckoutResponse createCheckout(CreateCheckoutCommand command) {
-        IdempotencyLockKey lockKey = new IdempotencyLockKey(command.idempotencyKey());
+        String key = IDEMPOTENCY_KEY_PREFIX + command.idempotencyKey();
+        IdempotencyRecord<CheckoutResponse> record =
+                idempotencyStorePort.begin(key, CheckoutResponse.class, IN_PROGRESS_TTL);
 
-        boolean lockAcquired =
-                distributedLockPort.tryLock(
-                        lockKey, LOCK_WAIT_SECONDS, LOCK_LEASE_SECONDS, TimeUnit.SECONDS);
-
-        if (!lockAcquired) {
+        if (record.isCompleted() && isSameMember(record.response(), command)) {
+            return record.response();
+        }
+        if (!record.isAcquired()) {
             throw DuplicateCheckoutException.forIdempotencyKey(command.idempotencyKey());
         }
 
+        CheckoutResponse response;
+        try {
+            response = transactionTemplate.execute(status -> executeCheckoutCreation(command));
+        } catch (RuntimeException e) {
+            idempotencyStorePort.release(key, record.ownerToken());
+            throw e;
+        }
+
+        recordCompletion(key, record.ownerToken(), response);
+        return response;
+    }
+
+    /**
+     * 커밋된 체크아웃 응답의 멱등 기록
+     *
+     * <p>체크아웃은 이미 커밋되었으므로 기록 실패를 요청 실패로 돌려주지 않습니다. 레코드를 해제해 재시도가 처리 중 충돌로 막히지 않게 하며,
+     * 이 경우 재시도는 새 체크아웃을 생성합니다.
+     */
+    private void recordCompletion(String key, String ownerToken, CheckoutResponse response) {
         try {
-            return transactionTemplate.execute(status -> executeCheckoutCreation(command));
-        } finally {
-            distributedLockPort.unlock(lockKey);
+            idempotencyStorePort.complete(key, ownerToken, response, COMPLETED_TTL);
+        } catch (RuntimeException e) {
+            log.error(
+                    "Failed to record checkout creation. checkoutId={}, releasing record",
+                    response.checkoutId(),
+                    e);
+            try {
+                idempotencyStorePort.release(key, ownerToken);
+            } catch (RuntimeException releaseFailure) {
+                log.error(
+                        "Failed to release checkout creation record. checkoutId={}",
+                        response.checkoutId(),
+                        releaseFailure);
+            }
         }
     }
 
+    private boolean isSameMember(CheckoutResponse response, CreateCheckoutCommand command) {
+        return response != null && command.memberId().equals(response.memberId());
+    }
+
     private CheckoutResponse executeCheckoutCreation(CreateCheckoutCommand command) {
         // 1. Checkout Aggregate 생성
         Checkout checkout = checkoutCommandFactory.createCheckout(command);
@@ -125,6 +172,12 @@ public class CreateCheckoutService implements CreateCheckoutUseCase {
     }
 
     private void validateStockAvailability(Map<Long, Integer> stockRequirements) {
+        if (stockCounterPort.hasStocks(stockRequirements)) {
+            return;
+        }
+
+        // Cache Miss(TTL 만료 등)일 수 있으므로 없는 키만 DB에서 복구 후 재확인
+        stockCacheSyncPort.syncFromDatabase(stockRequirements.keySet().stream().toList());
         if (!stockCounterPort.hasStocks(stockRequirements)) {
             throw InsufficientStockException.forProducts(
                     stockRequirements.keySet().stream().toList());
@@ -15,7 +15,7 @@ import java.util.List;
  * @param searchKeyword 검색어 - 클레임번호, 주문ID (선택)
  * @param startDate 시작 일시 (선택)
  * @param endDate 종료 일시 (선택)
- * @param lastClaimId 마지막 조회 클레임 ID - 커서 페이징용 (선택)
+ * @param lastClaimId 이전 응답의 nextCursor (Keyset 커서, 레거시 클레임 ID도 허용) (선택)
  * @param pageSize 페이지 크기
  * @author development-team
  * @since 2.0.0
@@ -7,6 +7,7 @@ import com.ryuqq.setof.application.claim.port.in.query.GetAdminClaimsUseCase;
 import com.ryuqq.setof.application.claim.port.out.query.ClaimQueryPort;
 import com.ryuqq.setof.application.common.response.SliceResponse;
 import com.ryuqq.setof.domain.claim.aggregate.Claim;
+import com.ryuqq.setof.domain.common.vo.KeysetCursor;
 import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -51,7 +52,9 @@ public class GetAdminClaimsService implements GetAdminClaimsUseCase {
         String nextCursor = null;
         if (hasNext && !content.isEmpty()) {
             Claim lastClaim = content.get(content.size() - 1);
-            nextCursor = lastClaim.claimId().value();
+            nextCursor =
+                    KeysetCursor.of(lastClaim.createdAt().toString(), lastClaim.id().toString())
+                            .encode();
         }
 
         return SliceResponse.of(responses, query.pageSize(), hasNext, nextCursor);
@@ -0,0 +1,171 @@
+package com.ryuqq.setof.application.common.component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Parallel Query Executor
+ *
+ * <p>서로 독립적인 조회를 Virtual Thread에서 동시에 실행하기 위한 공용 컴포넌트입니다.
+ *
+ * <p><strong>사용 규칙:</strong>
+ *
+ * <ul>
+ *   <li>ReadManager 호출처럼 I/O 대기가 대부분인 조회에만 사용
+ *   <li>각 작업은 자체 트랜잭션(ReadManager의 readOnly 트랜잭션)으로 실행되며, 호출자의 트랜잭션에 참여하지 않음
+ *   <li>쓰기 작업에는 사용 금지
+ *   <li>제출 시점의 MDC(요청 주체 등)를 작업 스레드로 복사하므로, MDC 기반 라우팅(read-your-writes)과 로그 상관관계가 병렬
+ *       조회에도 그대로 적용됨
+ * </ul>
+ *
+ * <p><strong>동시 실행 제한:</strong> 요청 하나가 띄운 작업은 {@link #openScope()}로 연 {@link Scope} 단위로
+ * {@code parallel-query.per-call-concurrency}(기본 4)개까지만 동시에 실행됩니다. 제한이 호출마다 따로 걸리므로 부하가 높아도 한
+ * 요청의 하위 조회가 다른 요청의 하위 조회 뒤에 줄 서지 않습니다.
+ *
+ * <p><strong>커넥션 풀 사이징:</strong> 각 작업은 실행되는 동안 커넥션 1개를 점유하므로, 최대 점유 커넥션은 (동시 요청 수 ×
+ * per-call-concurrency)입니다. HikariCP {@code maximum-pool-size}는 목표 동시 요청 수 × per-call-concurrency
+ * 이상으로 잡고, 이를 넘는 순간 부하는 HikariCP {@code connection-timeout} 대기로 흡수됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ParallelQueryExecutor implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelQueryExecutor.class);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int perCallConcurrency;
+
+    public ParallelQueryExecutor(
+            @Value("${parallel-query.per-call-concurrency:4}") int perCallConcurrency) {
+        this.perCallConcurrency = Math.max(1, perCallConcurrency);
+    }
+
+    /**
+     * 호출 단위 병렬 조회 범위 생성
+     *
+     * <p>요청 처리 한 번에 하나를 열고, 그 요청의 하위 조회를 모두 같은 Scope로 제출합니다.
+     *
+     * @return 동시 실행 수가 per-call-concurrency로 제한된 Scope
+     */
+    public Scope openScope() {
+        return new Scope(new Semaphore(perCallConcurrency));
+    }
+
+    /**
+     * 조회 결과 대기
+     *
+     * <p>작업에서 발생한 RuntimeException(예: NotFound 도메인 예외)은 {@link CompletionException}으로 감싸지 않고 그대로
+     * 전파합니다.
+     *
+     * @param future 조회 결과 Future
+     * @param <T> 조회 결과 타입
+     * @return 조회 결과
+     */
+    public <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void restoreContext(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.close();
+    }
+
+    /**
+     * 호출 단위 병렬 조회 범위
+     *
+     * <p>같은 Scope로 제출한 작업끼리만 동시 실행 허가를 나눠 씁니다.
+     */
+    public final class Scope {
+
+        private final Semaphore permits;
+
+        private Scope(Semaphore permits) {
+            this.permits = permits;
+        }
+
+        /**
+         * 조회 작업을 Virtual Thread에서 비동기 실행
+         *
+         * @param query 조회 작업
+         * @param <T> 조회 결과 타입
+         * @return 조회 결과 Future
+         */
+        public <T> CompletableFuture<T> submit(Supplier<T> query) {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            return CompletableFuture.supplyAsync(
+                    () -> {
+                        Map<String, String> previous = MDC.getCopyOfContextMap();
+                        restoreContext(context);
+                        try {
+                            return runWithPermit(query);
+                        } finally {
+                            restoreContext(previous);
+                        }
+                    },
+                    executor);
+        }
+
+        /**
+         * 조회 작업을 Virtual Thread에서 비동기 실행 (실패 시 기본값)
+         *
+         * <p>부가 정보 조회처럼 실패해도 전체 응답을 막지 않아야 하는 경우에 사용합니다.
+         *
+         * @param query 조회 작업
+         * @param fallback 실패 시 반환할 기본값
+         * @param <T> 조회 결과 타입
+         * @return 조회 결과 Future (예외로 완료되지 않음)
+         */
+        public <T> CompletableFuture<T> submitOrDefault(Supplier<T> query, T fallback) {
+            return submit(query)
+                    .exceptionally(
+                            e -> {
+                                log.warn(
+                                        "Parallel query failed, using fallback: {}",
+                                        e.getMessage());
+                                return fallback;
+                            });
+        }
+
+        private <T> T runWithPermit(Supplier<T> query) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for query permit", e);
+            }
+            try {
+                return query.get();
+            } finally {
+                permits.release();
+            }
+        }
+    }
+}
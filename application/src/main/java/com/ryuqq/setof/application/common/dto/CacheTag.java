@@ -0,0 +1,68 @@
+package com.ryuqq.setof.application.common.dto;
+
+/**
+ * 캐시 태그
+ *
+ * <p>캐시 값이 의존하는 엔티티를 나타냅니다. 값 저장 시 태그를 함께 등록하면, 해당 엔티티가 변경될 때 태그 단위로 관련 캐시를 한 번에
+ * 무효화할 수 있습니다.
+ *
+ * <p><strong>태그 형식:</strong> {@code {type}:{id}} (예: {@code seller:12}, {@code brand:3})
+ *
+ * <p><strong>사용 예시:</strong>
+ *
+ * <pre>{@code
+ * cachePort.set(key, value, ttl, List.of(CacheTag.seller(sellerId), CacheTag.brand(brandId)));
+ *
+ * // 셀러 정보 변경 시
+ * cachePort.evictByTag(CacheTag.seller(sellerId));
+ * }</pre>
+ *
+ * @param type 태그 대상 엔티티 종류
+ * @param id 태그 대상 엔티티 ID
+ * @author development-team
+ * @since 1.0.0
+ */
+public record CacheTag(String type, long id) {
+
+    private static final String SELLER = "seller";
+    private static final String BRAND = "brand";
+    private static final String PRODUCT_GROUP = "product-group";
+    private static final String CATEGORY = "category";
+
+    public CacheTag {
+        if (type == null || type.isBlank()) {
+            throw new IllegalArgumentException("type must not be blank");
+        }
+        if (type.indexOf(':') >= 0 || type.indexOf('{') >= 0 || type.indexOf('}') >= 0) {
+            throw new IllegalArgumentException("type must not contain ':', '{' or '}'");
+        }
+        if (id <= 0) {
+            throw new IllegalArgumentException("id must be positive");
+        }
+    }
+
+    public static CacheTag seller(long sellerId) {
+        return new CacheTag(SELLER, sellerId);
+    }
+
+    public static CacheTag brand(long brandId) {
+        return new CacheTag(BRAND, brandId);
+    }
+
+    public static CacheTag productGroup(long productGroupId) {
+        return new CacheTag(PRODUCT_GROUP, productGroupId);
+    }
+
+    public static CacheTag category(long categoryId) {
+        return new CacheTag(CATEGORY, categoryId);
+    }
+
+    /**
+     * 태그 문자열 반환
+     *
+     * @return {@code {type}:{id}} 형식 문자열
+     */
+    public String value() {
+        return type + ":" + id;
+    }
+}
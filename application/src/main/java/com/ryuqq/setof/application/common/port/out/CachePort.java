@@ -1,7 +1,10 @@
 package com.ryuqq.setof.application.common.port.out;
 
+import com.ryuqq.setof.application.common.dto.CacheTag;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Cache Port (출력 포트)
@@ -16,6 +19,8 @@ import java.util.Optional;
  *   <li>Cache 저장 (CachePort.set)
  * </ol>
  *
+ * <p>Hot Key는 위 과정을 직접 구현하지 않고 {@link #getOrLoad(String, Class, Duration, Supplier)}를 사용합니다.
+ *
  * <p><strong>Key Naming Convention:</strong>
  *
  * <pre>
@@ -23,6 +28,10 @@ import java.util.Optional;
  * 예: cache::orders::123
  * </pre>
  *
+ * <p><strong>무효화:</strong> 엔티티 변경 시에는 저장 시 등록한 {@link CacheTag} 기준으로 {@link #evictByTag(CacheTag)}를
+ * 사용합니다. 태그 무효화 비용은 해당 태그에 등록된 키 수에 비례하며, 전체 키스페이스를 순회하는 {@link #evictByPattern(String)}은
+ * 태그가 없는 레거시 키 정리에만 사용합니다.
+ *
  * @param <T> 캐시 대상 타입
  * @author Development Team
  * @since 1.0.0
@@ -46,6 +55,18 @@ public interface CachePort<T> {
      */
     void set(String key, T value, Duration ttl);
 
+    /**
+     * 캐시 저장 (TTL + 태그 지정)
+     *
+     * <p>값을 저장하고 각 태그의 키 목록에 등록합니다. 태그 키 목록은 등록된 값 중 가장 긴 TTL만큼 유지됩니다.
+     *
+     * @param key 캐시 키
+     * @param value 저장할 값
+     * @param ttl Time-To-Live
+     * @param tags 값이 의존하는 엔티티 태그
+     */
+    void set(String key, T value, Duration ttl, Collection<CacheTag> tags);
+
     /**
      * 캐시 조회
      *
@@ -57,11 +78,35 @@ public interface CachePort<T> {
     /**
      * 캐시 조회 (타입 지정)
      *
+     * <p>저장된 값을 지정한 타입의 코덱으로 한 번에 디코딩합니다. 저장된 타입이나 스키마 버전이 다르면 Cache Miss로 취급합니다.
+     *
      * @param key 캐시 키
-     * @param clazz 타입 클래스
-     * @return Optional<T> (Cache Hit 시 값, Miss 시 Empty)
+     * @param type 대상 타입 클래스
+     * @param <V> 대상 타입
+     * @return Optional<V> (Cache Hit 시 값, Miss 시 Empty)
      */
-    Optional<T> get(String key, Class<T> clazz);
+    <V extends T> Optional<V> get(String key, Class<V> type);
+
+    /**
+     * 캐시 조회, Miss 시 적재 후 저장
+     *
+     * <p><strong>Stampede 방지:</strong>
+     *
+     * <ul>
+     *   <li>같은 키의 동시 적재는 한 번만 실행되고 나머지 요청은 그 결과를 공유합니다 (노드 간에는 짧은 Lease로 제한).
+     *   <li>TTL이 지난 값은 stale 허용 구간 동안 즉시 반환되고, 백그라운드에서 한 번만 다시 적재됩니다.
+     *   <li>TTL에 무작위 여유(jitter)를 더해 만료 시점을 분산합니다.
+     *   <li>캐시 조회/저장이 실패하면 loader 결과를 그대로 반환합니다. loader 예외는 그대로 전파됩니다.
+     * </ul>
+     *
+     * @param key 캐시 키
+     * @param type 대상 타입 클래스
+     * @param ttl 신선도 기준 TTL
+     * @param loader 원본 조회 함수 (null 반환 시 캐시하지 않음)
+     * @param <V> 대상 타입
+     * @return 캐시 값 또는 적재 결과 (loader가 null을 반환하면 null)
+     */
+    <V extends T> V getOrLoad(String key, Class<V> type, Duration ttl, Supplier<V> loader);
 
     /**
      * 캐시 무효화
@@ -70,10 +115,20 @@ public interface CachePort<T> {
      */
     void evict(String key);
 
+    /**
+     * 태그 기반 캐시 무효화
+     *
+     * <p>태그에 등록된 모든 캐시 키를 삭제합니다. 처리 비용은 태그에 등록된 키 수에 비례합니다.
+     *
+     * @param tag 무효화할 태그
+     */
+    void evictByTag(CacheTag tag);
+
     /**
      * 패턴 기반 캐시 무효화
      *
-     * <p><strong>주의:</strong> KEYS 명령어 사용 금지, SCAN 사용
+     * <p><strong>주의:</strong> KEYS 명령어 사용 금지, SCAN 사용. 전체 키스페이스를 순회하므로 태그가 등록된 값은 {@link
+     * #evictByTag(CacheTag)}를 사용합니다.
      *
      * @param pattern 키 패턴 (예: "cache::orders::*")
      */
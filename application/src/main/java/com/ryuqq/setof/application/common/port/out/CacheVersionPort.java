@@ -0,0 +1,31 @@
+package com.ryuqq.setof.application.common.port.out;
+
+/**
+ * Cache Version Port (출력 포트)
+ *
+ * <p>노드별 인메모리 스냅샷의 변경 여부를 공유하기 위한 버전 카운터 포트입니다. 데이터를 변경한 노드가 버전을 올리면, 다른 노드는 주기적으로
+ * 버전을 비교하여 스냅샷을 다시 적재합니다.
+ *
+ * <p><strong>Key Naming Convention:</strong> {@code cache:version:{name}}
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface CacheVersionPort {
+
+    /**
+     * 현재 버전 조회
+     *
+     * @param name 버전 이름 (예: "category-tree")
+     * @return 현재 버전 (한 번도 올린 적이 없으면 0)
+     */
+    long getVersion(String name);
+
+    /**
+     * 버전 증가
+     *
+     * @param name 버전 이름
+     * @return 증가된 버전
+     */
+    long increment(String name);
+}
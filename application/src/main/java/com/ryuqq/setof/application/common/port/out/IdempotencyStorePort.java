@@ -0,0 +1,121 @@
+package com.ryuqq.setof.application.common.port.out;
+
+import java.time.Duration;
+
+/**
+ * Idempotency Store Port (출력 포트)
+ *
+ * <p>멱등키별 처리 상태와 결과를 저장하는 포트입니다. 분산락처럼 선행 요청이 끝날 때까지 대기하지 않고, 재시도 요청에 저장된 결과를 즉시
+ * 돌려주거나 처리 중임을 즉시 알립니다.
+ *
+ * <p><strong>사용 흐름:</strong>
+ *
+ * <ol>
+ *   <li>{@link #begin(String, Class, Duration)}으로 처리 중 레코드 선점 (원자적 SET NX)
+ *   <li>선점 성공 → 비즈니스 로직 실행 후 {@link #complete(String, String, Object, Duration)}로 결과 저장
+ *   <li>실행 실패 → {@link #release(String, String)}로 레코드 삭제 (같은 키로 재시도 가능)
+ *   <li>이미 완료 → 저장된 결과 재사용, 처리 중 → 호출 측에서 즉시 충돌 처리
+ * </ol>
+ *
+ * <p>처리 중 레코드는 TTL이 지나면 사라지므로, 프로세스가 중간에 죽어도 키가 영구히 묶이지 않습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface IdempotencyStorePort {
+
+    /**
+     * 처리 시작 (처리 중 레코드 선점)
+     *
+     * @param key 멱등키 (저장소 키로 그대로 사용)
+     * @param responseType 완료 결과 타입
+     * @param inProgressTtl 처리 중 레코드 TTL (선점 측이 완료/해제하지 못한 경우 자동 해제)
+     * @param <T> 완료 결과 타입
+     * @return 선점 성공(소유 토큰 포함), 처리 중, 완료(저장된 결과 포함) 중 하나
+     */
+    <T> IdempotencyRecord<T> begin(String key, Class<T> responseType, Duration inProgressTtl);
+
+    /**
+     * 처리 완료 (결과 저장)
+     *
+     * <p>레코드가 아직 같은 소유 토큰의 처리 중 상태일 때만 결과로 교체합니다.
+     *
+     * @param key 멱등키
+     * @param ownerToken {@link #begin}에서 받은 소유 토큰
+     * @param response 재시도 요청에 돌려줄 결과 (결과가 없는 처리는 null)
+     * @param ttl 완료 레코드 보관 기간
+     * @return 저장 성공 여부 (처리 중 레코드가 만료되어 소유권을 잃었으면 false)
+     */
+    boolean complete(String key, String ownerToken, Object response, Duration ttl);
+
+    /**
+     * 처리 실패 (처리 중 레코드 삭제)
+     *
+     * <p>같은 소유 토큰의 처리 중 레코드일 때만 삭제합니다.
+     *
+     * @param key 멱등키
+     * @param ownerToken {@link #begin}에서 받은 소유 토큰
+     */
+    void release(String key, String ownerToken);
+
+    /** 멱등 레코드 상태 */
+    enum IdempotencyState {
+        /** 이번 요청이 처리 중 레코드를 선점함 */
+        ACQUIRED,
+        /** 다른 요청이 처리 중 */
+        IN_PROGRESS,
+        /** 이미 처리 완료 (결과 재사용) */
+        COMPLETED
+    }
+
+    /**
+     * 처리 시작 결과
+     *
+     * @param state 레코드 상태
+     * @param ownerToken 선점 시 소유 토큰 (그 외 null)
+     * @param response 완료 시 저장된 결과 (그 외 null)
+     * @param <T> 완료 결과 타입
+     */
+    record IdempotencyRecord<T>(IdempotencyState state, String ownerToken, T response) {
+
+        /**
+         * 선점 성공 결과 생성
+         *
+         * @param ownerToken 소유 토큰
+         * @param <T> 완료 결과 타입
+         * @return 선점 결과
+         */
+        public static <T> IdempotencyRecord<T> acquired(String ownerToken) {
+            return new IdempotencyRecord<>(IdempotencyState.ACQUIRED, ownerToken, null);
+        }
+
+        /**
+         * 처리 중 결과 생성
+         *
+         * @param <T> 완료 결과 타입
+         * @return 처리 중 결과
+         */
+        public static <T> IdempotencyRecord<T> inProgress() {
+            return new IdempotencyRecord<>(IdempotencyState.IN_PROGRESS, null, null);
+        }
+
+        /**
+         * 완료 결과 생성
+         *
+         * @param response 저장된 결과
+         * @param <T> 완료 결과 타입
+         * @return 완료 결과
+         */
+        public static <T> IdempotencyRecord<T> completed(T response) {
+            return new IdempotencyRecord<>(IdempotencyState.COMPLETED, null, response);
+        }
+
+        public boolean isAcquired() {
+            return state == IdempotencyState.ACQUIRED;
+        }
+
+        public boolean isCompleted() {
+            return state == IdempotencyState.COMPLETED;
+        }
+    }
+}
@@ -75,6 +75,18 @@ public interface StockCacheSyncPort {
      */
     List<Long> syncToDatabase(List<Long> productStockIds);
 
+    /**
+     * 캐시 재고를 DB에 조건부 반영 (Batch)
+     *
+     * <p>DB 재고가 호출자가 읽은 값과 같은 행만 캐시 재고로 변경합니다. 읽은 뒤 관리자 수정 등으로 DB가 바뀐 행은 건너뛰어 그 변경을 덮어쓰지
+     * 않습니다.
+     *
+     * @param cacheStocks productStockId → 반영할 캐시 재고
+     * @param databaseStocks productStockId → 호출자가 읽은 DB 재고
+     * @return 동기화 성공한 ID 목록
+     */
+    List<Long> syncToDatabase(Map<Long, Integer> cacheStocks, Map<Long, Integer> databaseStocks);
+
     /**
      * 캐시-DB 정합성 검증
      *
@@ -18,6 +18,9 @@ import java.util.Map;
  *     throw new InsufficientStockException(productStockId);
  * }
  *
+ * // 복수 상품 일괄 차감 (All-or-Nothing, 롤백 불필요)
+ * StockReservationResult result = stockCounterPort.decrementAll(stockRequirements);
+ *
  * // 재고 복구 (주문 취소 시)
  * stockCounterPort.increment(productStockId, quantity);
  * }</pre>
@@ -32,10 +35,12 @@ import java.util.Map;
  *   <li>음수 재고 발생 시 즉시 롤백 필요
  * </ul>
  *
+ * <p>조회 전용 연산({@code getStock}, {@code getStocks})은 {@link StockCounterQueryPort}에 정의되어 있습니다.
+ *
  * @author Development Team
  * @since 1.0.0
  */
-public interface StockCounterPort {
+public interface StockCounterPort extends StockCounterQueryPort {
 
     /**
      * 재고 차감 (Atomic DECRBY)
@@ -69,22 +74,6 @@ public interface StockCounterPort {
      */
     int increment(Long productStockId, int quantity);
 
-    /**
-     * 현재 재고 수량 조회
-     *
-     * @param productStockId 상품 재고 ID
-     * @return 현재 재고 수량 (키 없으면 -1 반환)
-     */
-    int getStock(Long productStockId);
-
-    /**
-     * 복수 상품 재고 수량 조회 (Batch)
-     *
-     * @param productStockIds 상품 재고 ID 목록
-     * @return productStockId → 재고수량 매핑 (키 없으면 -1)
-     */
-    Map<Long, Integer> getStocks(List<Long> productStockIds);
-
     /**
      * 재고 충분 여부 확인
      *
@@ -104,6 +93,26 @@ public interface StockCounterPort {
      */
     boolean hasStocks(Map<Long, Integer> stockRequirements);
 
+    /**
+     * 복수 상품 재고 일괄 차감 (All-or-Nothing)
+     *
+     * <p>모든 상품의 재고가 충분한 경우에만 전체를 차감하고, 하나라도 부족하거나 키가 없으면 아무것도 차감하지 않습니다. 단일 라운드트립으로
+     * 원자적으로 수행되므로 호출자의 롤백(INCRBY)이 필요 없습니다.
+     *
+     * <p><strong>사용 예시:</strong>
+     *
+     * <pre>{@code
+     * StockReservationResult result = stockCounterPort.decrementAll(stockRequirements);
+     * if (!result.reserved()) {
+     *     throw InsufficientStockException.forProducts(result.insufficientProductStockIds());
+     * }
+     * }</pre>
+     *
+     * @param stockRequirements productStockId → 차감수량 매핑
+     * @return 차감 결과 (부족한 상품 재고 ID와 현재 재고 포함)
+     */
+    StockReservationResult decrementAll(Map<Long, Integer> stockRequirements);
+
     /**
      * 재고 초기화 (RDB → Redis 동기화)
      *
@@ -121,6 +130,24 @@ public interface StockCounterPort {
      */
     void initializeAll(Map<Long, Integer> stocks);
 
+    /**
+     * 키가 없는 상품만 재고 초기화 (Batch, SET NX)
+     *
+     * <p>Cache Miss 복구 시 사용합니다. 이미 존재하는 키는 진행 중인 차감을 덮어쓰지 않도록 건드리지 않습니다.
+     *
+     * @param stocks productStockId → 초기수량 매핑
+     */
+    void initializeAllIfAbsent(Map<Long, Integer> stocks);
+
+    /**
+     * 재고 키 TTL 갱신 (Batch)
+     *
+     * <p>주기적 정합성 검증 시 활성 키의 만료를 연장하여, TTL 만료로 인한 Cache Miss를 예방합니다. 존재하지 않는 키는 무시됩니다.
+     *
+     * @param productStockIds 상품 재고 ID 목록
+     */
+    void refreshTtl(List<Long> productStockIds);
+
     /**
      * 재고 키 존재 여부 확인
      *
@@ -137,4 +164,45 @@ public interface StockCounterPort {
      * @param productStockId 상품 재고 ID
      */
     void delete(Long productStockId);
+
+    /**
+     * 일괄 차감 결과
+     *
+     * @param reserved 전체 차감 성공 여부
+     * @param shortages 재고 부족 상품 productStockId → 현재 재고 매핑 (키 없으면 -1)
+     */
+    record StockReservationResult(boolean reserved, Map<Long, Integer> shortages) {
+
+        public StockReservationResult {
+            shortages = shortages == null ? Map.of() : Map.copyOf(shortages);
+        }
+
+        /**
+         * 전체 차감 성공 결과 생성
+         *
+         * @return 성공 결과
+         */
+        public static StockReservationResult success() {
+            return new StockReservationResult(true, Map.of());
+        }
+
+        /**
+         * 재고 부족 결과 생성
+         *
+         * @param shortages 재고 부족 상품 productStockId → 현재 재고 매핑
+         * @return 실패 결과
+         */
+        public static StockReservationResult insufficient(Map<Long, Integer> shortages) {
+            return new StockReservationResult(false, shortages);
+        }
+
+        /**
+         * 재고 부족 상품 재고 ID 목록
+         *
+         * @return 재고 부족 상품 재고 ID 목록
+         */
+        public List<Long> insufficientProductStockIds() {
+            return List.copyOf(shortages.keySet());
+        }
+    }
 }
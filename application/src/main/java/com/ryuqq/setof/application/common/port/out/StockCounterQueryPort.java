@@ -0,0 +1,32 @@
+package com.ryuqq.setof.application.common.port.out;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 분산 카운터 조회 포트 (출력 포트)
+ *
+ * <p>Redis 재고 카운터의 조회 전용 연산입니다. 조회 화면에서 실시간 재고를 읽는 ReadManager는 차감/초기화 연산 없이 이 포트만 의존합니다.
+ *
+ * @author Development Team
+ * @since 1.0.0
+ * @see StockCounterPort
+ */
+public interface StockCounterQueryPort {
+
+    /**
+     * 현재 재고 수량 조회
+     *
+     * @param productStockId 상품 재고 ID
+     * @return 현재 재고 수량 (키 없으면 -1 반환)
+     */
+    int getStock(Long productStockId);
+
+    /**
+     * 복수 상품 재고 수량 조회 (Batch)
+     *
+     * @param productStockIds 상품 재고 ID 목록
+     * @return productStockId → 재고수량 매핑 (키 없으면 -1)
+     */
+    Map<Long, Integer> getStocks(List<Long> productStockIds);
+}
@@ -0,0 +1,126 @@
+package com.ryuqq.setof.application.discount.component;
+
+import com.ryuqq.setof.application.discount.facade.ProductEffectivePriceRefreshFacade;
+import com.ryuqq.setof.domain.discount.vo.DiscountTargetType;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 최종 판매가 재계산 Queue
+ *
+ * <p>커밋된 변경 이벤트의 재계산 요청을 모아 전용 스레드 1개에서 비동기로 처리합니다. 요청 스레드는 재계산을 기다리지 않습니다.
+ *
+ * <p><strong>처리 방식:</strong>
+ *
+ * <ul>
+ *   <li>상품그룹 단위 요청은 대기 집합에 모은 뒤 한 번에 처리 (같은 상품그룹의 연속 변경은 1회로 합쳐지고, 나머지는 청크 단위
+ *       일괄 조회/저장)
+ *   <li>할인 정책 범위 요청은 도착 순서대로 처리
+ *   <li>모든 작업이 같은 스레드에서 순차 실행되므로 재계산이 커넥션 풀을 동시에 여러 개 점유하지 않음
+ * </ul>
+ *
+ * <p>처리에 실패한 요청은 버리고 로그만 남깁니다. 누락된 상품그룹은 다음 변경 이벤트나 만료 스케줄러의 재계산으로 복구되며, 조회 측은 판매가가
+ * 다르거나 만료된 인덱스를 실시간 계산으로 대체합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductEffectivePriceRefreshQueue implements DisposableBean {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ProductEffectivePriceRefreshQueue.class);
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final ProductEffectivePriceRefreshFacade productEffectivePriceRefreshFacade;
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(
+                    Thread.ofPlatform().name("effective-price-refresh").daemon(true).factory());
+    private final Set<Long> pendingProductGroupIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    public ProductEffectivePriceRefreshQueue(
+            ProductEffectivePriceRefreshFacade productEffectivePriceRefreshFacade) {
+        this.productEffectivePriceRefreshFacade = productEffectivePriceRefreshFacade;
+    }
+
+    /**
+     * 상품그룹 재계산 요청
+     *
+     * @param productGroupId 상품그룹 ID
+     */
+    public void enqueueProductGroup(Long productGroupId) {
+        pendingProductGroupIds.add(productGroupId);
+        if (drainScheduled.compareAndSet(false, true)) {
+            executor.execute(this::drainProductGroups);
+        }
+    }
+
+    /**
+     * 할인 정책 적용 범위 재계산 요청
+     *
+     * @param sellerId 셀러 ID
+     * @param targetType 적용 대상 타입
+     * @param targetIds 적용 대상 ID 목록
+     */
+    public void enqueuePolicyScope(
+            Long sellerId, DiscountTargetType targetType, List<Long> targetIds) {
+        executor.execute(
+                () -> {
+                    try {
+                        productEffectivePriceRefreshFacade.processPolicyScope(
+                                sellerId, targetType, targetIds);
+                    } catch (Exception e) {
+                        log.error(
+                                "Failed to refresh effective prices. sellerId={}, targetType={}",
+                                sellerId,
+                                targetType,
+                                e);
+                    }
+                });
+    }
+
+    private void drainProductGroups() {
+        drainScheduled.set(false);
+        List<Long> productGroupIds = new ArrayList<>();
+        Iterator<Long> iterator = pendingProductGroupIds.iterator();
+        while (iterator.hasNext()) {
+            productGroupIds.add(iterator.next());
+            iterator.remove();
+        }
+        if (productGroupIds.isEmpty()) {
+            return;
+        }
+        productGroupIds.sort(null);
+        try {
+            productEffectivePriceRefreshFacade.processProductGroups(productGroupIds);
+        } catch (Exception e) {
+            log.error("Failed to refresh effective prices. size={}", productGroupIds.size(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+}
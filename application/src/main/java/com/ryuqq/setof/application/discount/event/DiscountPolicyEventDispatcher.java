@@ -0,0 +1,58 @@
+package com.ryuqq.setof.application.discount.event;
+
+import com.ryuqq.setof.domain.discount.aggregate.DiscountPolicy;
+import com.ryuqq.setof.domain.discount.event.DiscountPolicyChangedEvent;
+import java.time.Instant;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * DiscountPolicy Event Dispatcher
+ *
+ * <p>할인 정책 변경 도메인 이벤트 발행 전담 컴포넌트
+ *
+ * <p>책임:
+ *
+ * <ul>
+ *   <li>할인 정책 등록/수정/상태 변경/적용 대상 변경 시 {@link DiscountPolicyChangedEvent} 발행
+ *   <li>이벤트 구독자(최종 판매가 재계산 등)와 Command Service 간 결합 제거
+ * </ul>
+ *
+ * <p>사용 시점: 변경 사항 저장 직후 호출
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class DiscountPolicyEventDispatcher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public DiscountPolicyEventDispatcher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 할인 정책 변경 이벤트 발행
+     *
+     * @param discountPolicy 변경이 반영된 할인 정책
+     * @param occurredAt 이벤트 발생 시각
+     */
+    public void publishChanged(DiscountPolicy discountPolicy, Instant occurredAt) {
+        eventPublisher.publishEvent(DiscountPolicyChangedEvent.from(discountPolicy, occurredAt));
+    }
+
+    /**
+     * 할인 정책 적용 대상 변경 이벤트 발행
+     *
+     * <p>변경 전후 적용 대상의 합집합을 영향 범위로 발행합니다.
+     *
+     * @param previous 변경 전 할인 정책
+     * @param current 변경 후 할인 정책
+     * @param occurredAt 이벤트 발생 시각
+     */
+    public void publishTargetsChanged(
+            DiscountPolicy previous, DiscountPolicy current, Instant occurredAt) {
+        eventPublisher.publishEvent(DiscountPolicyChangedEvent.from(previous, current, occurredAt));
+    }
+}
@@ -0,0 +1,106 @@
+package com.ryuqq.setof.application.discount.facade;
+
+import com.ryuqq.setof.application.discount.manager.query.DiscountPolicyReadManager;
+import com.ryuqq.setof.application.discount.manager.query.ProductEffectivePriceReadManager;
+import com.ryuqq.setof.domain.common.util.ClockHolder;
+import com.ryuqq.setof.domain.discount.aggregate.DiscountPolicy;
+import com.ryuqq.setof.domain.discount.aggregate.ProductEffectivePrice;
+import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 최종 판매가 조회 Facade
+ *
+ * <p>목록 화면에서 상품그룹별 최종 판매가를 일괄 조회합니다. 정책을 상품마다 다시 해석하지 않고 최종 판매가 인덱스를 그대로 사용합니다.
+ *
+ * <p><strong>조회 흐름:</strong>
+ *
+ * <ol>
+ *   <li>최종 판매가 인덱스 IN 조회 (1회)
+ *   <li>인덱스가 없거나 판매가가 바뀌었거나 유효 시한이 지난 상품그룹이 있을 때만 해당 셀러들의 유효 할인 정책 IN 조회 (1회) 후
+ *       실시간 계산
+ * </ol>
+ *
+ * <p>인덱스 재계산이 지연되어도 잘못된 가격을 노출하지 않습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductEffectivePriceQueryFacade {
+
+    private final ProductEffectivePriceReadManager productEffectivePriceReadManager;
+    private final DiscountPolicyReadManager discountPolicyReadManager;
+    private final ClockHolder clockHolder;
+
+    public ProductEffectivePriceQueryFacade(
+            ProductEffectivePriceReadManager productEffectivePriceReadManager,
+            DiscountPolicyReadManager discountPolicyReadManager,
+            ClockHolder clockHolder) {
+        this.productEffectivePriceReadManager = productEffectivePriceReadManager;
+        this.discountPolicyReadManager = discountPolicyReadManager;
+        this.clockHolder = clockHolder;
+    }
+
+    /**
+     * 상품그룹 목록의 최종 판매가 일괄 조회
+     *
+     * @param productGroups 상품그룹 목록
+     * @return 상품그룹 ID → 최종 판매가
+     */
+    public Map<Long, Long> findSalePrices(List<ProductGroup> productGroups) {
+        if (productGroups.isEmpty()) {
+            return Map.of();
+        }
+        Instant now = Instant.now(clockHolder.getClock());
+        Map<Long, ProductGroup> productGroupById =
+                productGroups.stream()
+                        .collect(
+                                Collectors.toMap(
+                                        ProductGroup::getIdValue,
+                                        Function.identity(),
+                                        (first, second) -> first));
+
+        Map<Long, Long> salePrices = new HashMap<>();
+        for (ProductEffectivePrice price :
+                productEffectivePriceReadManager.findByProductGroupIds(
+                        List.copyOf(productGroupById.keySet()))) {
+            ProductGroup productGroup = productGroupById.get(price.getProductGroupId());
+            if (productGroup != null
+                    && productGroup.getCurrentPriceValue().longValue() == price.getCurrentPrice()
+                    && price.isFreshAt(now)) {
+                salePrices.put(price.getProductGroupId(), price.getSalePrice());
+            }
+        }
+
+        List<ProductGroup> unindexed =
+                productGroupById.values().stream()
+                        .filter(productGroup -> !salePrices.containsKey(productGroup.getIdValue()))
+                        .toList();
+        if (unindexed.isEmpty()) {
+            return salePrices;
+        }
+
+        List<Long> sellerIds =
+                unindexed.stream().map(ProductGroup::getSellerIdValue).distinct().toList();
+        Map<Long, List<DiscountPolicy>> policiesBySeller =
+                discountPolicyReadManager.findValidPoliciesBySellerIds(sellerIds).stream()
+                        .collect(Collectors.groupingBy(DiscountPolicy::getSellerId));
+        for (ProductGroup productGroup : unindexed) {
+            ProductEffectivePrice computed =
+                    ProductEffectivePrice.compute(
+                            productGroup,
+                            policiesBySeller.getOrDefault(
+                                    productGroup.getSellerIdValue(), List.of()),
+                            now);
+            salePrices.put(productGroup.getIdValue(), computed.getSalePrice());
+        }
+        return salePrices;
+    }
+}
@@ -0,0 +1,188 @@
+package com.ryuqq.setof.application.discount.facade;
+
+import com.ryuqq.setof.application.discount.manager.command.ProductEffectivePricePersistenceManager;
+import com.ryuqq.setof.application.discount.manager.query.DiscountPolicyReadManager;
+import com.ryuqq.setof.application.discount.manager.query.ProductEffectivePriceReadManager;
+import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
+import com.ryuqq.setof.domain.common.util.ClockHolder;
+import com.ryuqq.setof.domain.discount.aggregate.DiscountPolicy;
+import com.ryuqq.setof.domain.discount.aggregate.ProductEffectivePrice;
+import com.ryuqq.setof.domain.discount.vo.DiscountTargetType;
+import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 최종 판매가 인덱스 재계산 Facade
+ *
+ * <p>할인 정책 변경 또는 상품 가격 변경 시 영향받는 상품그룹만 골라 최종 판매가를 다시 계산하고 저장합니다.
+ *
+ * <p>재계산 범위:
+ *
+ * <ul>
+ *   <li>ALL / SELLER: 셀러의 전체 상품그룹
+ *   <li>PRODUCT: 대상 상품그룹
+ *   <li>CATEGORY / BRAND: 셀러 상품그룹 중 대상 카테고리/브랜드에 속한 상품그룹
+ * </ul>
+ *
+ * <p>상품그룹은 ID Keyset으로 {@value #CHUNK_SIZE}건씩 조회하며, 청크마다 셀러 정책 1회 조회 + 일괄 저장 1회로 처리합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductEffectivePriceRefreshFacade {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final ProductGroupReadManager productGroupReadManager;
+    private final DiscountPolicyReadManager discountPolicyReadManager;
+    private final ProductEffectivePriceReadManager productEffectivePriceReadManager;
+    private final ProductEffectivePricePersistenceManager productEffectivePricePersistenceManager;
+    private final ClockHolder clockHolder;
+
+    public ProductEffectivePriceRefreshFacade(
+            ProductGroupReadManager productGroupReadManager,
+            DiscountPolicyReadManager discountPolicyReadManager,
+            ProductEffectivePriceReadManager productEffectivePriceReadManager,
+            ProductEffectivePricePersistenceManager productEffectivePricePersistenceManager,
+            ClockHolder clockHolder) {
+        this.productGroupReadManager = productGroupReadManager;
+        this.discountPolicyReadManager = discountPolicyReadManager;
+        this.productEffectivePriceReadManager = productEffectivePriceReadManager;
+        this.productEffectivePricePersistenceManager = productEffectivePricePersistenceManager;
+        this.clockHolder = clockHolder;
+    }
+
+    /**
+     * 할인 정책 적용 범위의 최종 판매가 재계산
+     *
+     * @param sellerId 셀러 ID
+     * @param targetType 적용 대상 타입
+     * @param targetIds 적용 대상 ID 목록 (ALL/SELLER는 무시)
+     * @return 재계산한 상품그룹 수
+     */
+    public int processPolicyScope(
+            Long sellerId, DiscountTargetType targetType, List<Long> targetIds) {
+        return switch (targetType) {
+            case ALL, SELLER -> processSellerProducts(sellerId, null, null);
+            case PRODUCT -> processProductGroups(targetIds);
+            case CATEGORY ->
+                    targetIds.stream()
+                            .mapToInt(
+                                    categoryId -> processSellerProducts(sellerId, categoryId, null))
+                            .sum();
+            case BRAND ->
+                    targetIds.stream()
+                            .mapToInt(brandId -> processSellerProducts(sellerId, null, brandId))
+                            .sum();
+        };
+    }
+
+    /**
+     * 상품그룹 ID 목록의 최종 판매가 재계산
+     *
+     * <p>조회되지 않는(삭제된) 상품그룹의 인덱스는 제거합니다.
+     *
+     * @param productGroupIds 상품그룹 ID 목록
+     * @return 재계산 또는 제거한 상품그룹 수
+     */
+    public int processProductGroups(List<Long> productGroupIds) {
+        int processed = 0;
+        for (int from = 0; from < productGroupIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk =
+                    productGroupIds.subList(
+                            from, Math.min(from + CHUNK_SIZE, productGroupIds.size()));
+            List<ProductGroup> productGroups = productGroupReadManager.findByIds(chunk);
+            Set<Long> foundIds =
+                    productGroups.stream()
+                            .map(ProductGroup::getIdValue)
+                            .collect(Collectors.toSet());
+            List<Long> removedIds = chunk.stream().filter(id -> !foundIds.contains(id)).toList();
+
+            productEffectivePricePersistenceManager.deleteByProductGroupIds(removedIds);
+            processed += refresh(productGroups) + removedIds.size();
+        }
+        return processed;
+    }
+
+    /**
+     * 인덱스가 없는 상품그룹만 최종 판매가 계산 (백필)
+     *
+     * <p>이미 인덱스가 있는 상품그룹은 건너뛰므로 반복 실행해도 기존 인덱스를 다시 쓰지 않습니다.
+     *
+     * @param productGroups 상품그룹 목록
+     * @return 새로 계산한 상품그룹 수
+     */
+    public int processMissing(List<ProductGroup> productGroups) {
+        List<ProductGroup> activeGroups =
+                productGroups.stream().filter(group -> !group.isDeleted()).toList();
+        if (activeGroups.isEmpty()) {
+            return 0;
+        }
+        Set<Long> indexedIds =
+                productEffectivePriceReadManager
+                        .findByProductGroupIds(
+                                activeGroups.stream().map(ProductGroup::getIdValue).toList())
+                        .stream()
+                        .map(ProductEffectivePrice::getProductGroupId)
+                        .collect(Collectors.toSet());
+        return refresh(
+                activeGroups.stream()
+                        .filter(group -> !indexedIds.contains(group.getIdValue()))
+                        .toList());
+    }
+
+    private int processSellerProducts(Long sellerId, Long categoryId, Long brandId) {
+        int processed = 0;
+        Long lastProductGroupId = null;
+        List<ProductGroup> chunk;
+        do {
+            chunk =
+                    productGroupReadManager.findByConditionsAfter(
+                            sellerId,
+                            categoryId,
+                            brandId,
+                            null,
+                            null,
+                            lastProductGroupId,
+                            CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            lastProductGroupId = chunk.get(chunk.size() - 1).getIdValue();
+            processed += refresh(chunk);
+        } while (chunk.size() == CHUNK_SIZE);
+        return processed;
+    }
+
+    private int refresh(List<ProductGroup> productGroups) {
+        if (productGroups.isEmpty()) {
+            return 0;
+        }
+        Instant now = Instant.now(clockHolder.getClock());
+        List<Long> sellerIds =
+                productGroups.stream().map(ProductGroup::getSellerIdValue).distinct().toList();
+        Map<Long, List<DiscountPolicy>> policiesBySeller =
+                discountPolicyReadManager.findUnexpiredPoliciesBySellerIds(sellerIds).stream()
+                        .collect(Collectors.groupingBy(DiscountPolicy::getSellerId));
+
+        List<ProductEffectivePrice> effectivePrices =
+                productGroups.stream()
+                        .map(
+                                group ->
+                                        ProductEffectivePrice.compute(
+                                                group,
+                                                policiesBySeller.getOrDefault(
+                                                        group.getSellerIdValue(), List.of()),
+                                                now))
+                        .toList();
+
+        productEffectivePricePersistenceManager.persistAll(effectivePrices);
+        return effectivePrices.size();
+    }
+}
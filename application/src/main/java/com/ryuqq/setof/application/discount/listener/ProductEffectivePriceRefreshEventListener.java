@@ -0,0 +1,80 @@
+package com.ryuqq.setof.application.discount.listener;
+
+import com.ryuqq.setof.application.discount.component.ProductEffectivePriceRefreshQueue;
+import com.ryuqq.setof.domain.discount.event.DiscountPolicyChangedEvent;
+import com.ryuqq.setof.domain.product.event.ProductGroupContentChangedEvent;
+import com.ryuqq.setof.domain.product.event.ProductGroupDeletedEvent;
+import com.ryuqq.setof.domain.product.event.ProductGroupUpdatedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 최종 판매가 인덱스 재계산 EventListener
+ *
+ * <p>할인 정책 변경(등록/수정/활성화/비활성화/삭제/적용 대상 변경)과 상품그룹 수정(가격 변경 포함)/삭제 이벤트를 받아, 영향받는 상품그룹의
+ * 최종 판매가만 증분 재계산합니다.
+ *
+ * <p>변경이 커밋된 뒤에만 재계산을 요청하며(트랜잭션 밖에서 발행된 이벤트는 즉시), 실제 재계산은 {@link
+ * ProductEffectivePriceRefreshQueue}가 요청 스레드와 분리해 모아서 처리합니다. 롤백된 변경으로 인덱스가 갱신되거나 요청 응답이
+ * 재계산만큼 지연되지 않습니다.
+ *
+ * <p>정책 시작/만료처럼 이벤트 없이 시간이 지나 바뀌는 가격은 {@link
+ * com.ryuqq.setof.application.discount.scheduler.ProductEffectivePriceExpiryScheduler}가 반영합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductEffectivePriceRefreshEventListener {
+
+    private final ProductEffectivePriceRefreshQueue productEffectivePriceRefreshQueue;
+
+    public ProductEffectivePriceRefreshEventListener(
+            ProductEffectivePriceRefreshQueue productEffectivePriceRefreshQueue) {
+        this.productEffectivePriceRefreshQueue = productEffectivePriceRefreshQueue;
+    }
+
+    /**
+     * 할인 정책 변경 이벤트 처리
+     *
+     * @param event 할인 정책 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePolicyChanged(DiscountPolicyChangedEvent event) {
+        productEffectivePriceRefreshQueue.enqueuePolicyScope(
+                event.sellerId(), event.targetType(), event.targetIds());
+    }
+
+    /**
+     * 상품그룹 수정 이벤트 처리
+     *
+     * @param event 상품그룹 수정 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductGroupUpdated(ProductGroupUpdatedEvent event) {
+        productEffectivePriceRefreshQueue.enqueueProductGroup(event.productGroupId().value());
+    }
+
+    /**
+     * 상품그룹 삭제 이벤트 처리
+     *
+     * @param event 상품그룹 삭제 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductGroupDeleted(ProductGroupDeletedEvent event) {
+        productEffectivePriceRefreshQueue.enqueueProductGroup(event.productGroupId().value());
+    }
+
+    /**
+     * 상품그룹 구성 변경 이벤트 처리
+     *
+     * <p>전체 상품 수정은 가격 변경을 포함할 수 있으므로 함께 재계산합니다.
+     *
+     * @param event 상품그룹 구성 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductGroupContentChanged(ProductGroupContentChangedEvent event) {
+        productEffectivePriceRefreshQueue.enqueueProductGroup(event.productGroupId().value());
+    }
+}
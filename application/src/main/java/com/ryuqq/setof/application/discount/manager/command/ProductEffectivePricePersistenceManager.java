@@ -0,0 +1,54 @@
+package com.ryuqq.setof.application.discount.manager.command;
+
+import com.ryuqq.setof.application.discount.port.out.command.ProductEffectivePricePersistencePort;
+import com.ryuqq.setof.domain.discount.aggregate.ProductEffectivePrice;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * ProductEffectivePrice Persistence Manager
+ *
+ * <p>상품 최종 판매가 인덱스 영속화를 담당하는 Manager
+ *
+ * <p>트랜잭션 경계를 관리
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductEffectivePricePersistenceManager {
+
+    private final ProductEffectivePricePersistencePort productEffectivePricePersistencePort;
+
+    public ProductEffectivePricePersistenceManager(
+            ProductEffectivePricePersistencePort productEffectivePricePersistencePort) {
+        this.productEffectivePricePersistencePort = productEffectivePricePersistencePort;
+    }
+
+    /**
+     * 최종 판매가 일괄 저장
+     *
+     * @param effectivePrices 저장할 최종 판매가 목록
+     */
+    @Transactional
+    public void persistAll(List<ProductEffectivePrice> effectivePrices) {
+        if (effectivePrices.isEmpty()) {
+            return;
+        }
+        productEffectivePricePersistencePort.persistAll(effectivePrices);
+    }
+
+    /**
+     * 상품 그룹 ID 목록의 최종 판매가 삭제
+     *
+     * @param productGroupIds 삭제할 상품 그룹 ID 목록
+     */
+    @Transactional
+    public void deleteByProductGroupIds(List<Long> productGroupIds) {
+        if (productGroupIds.isEmpty()) {
+            return;
+        }
+        productEffectivePricePersistencePort.deleteByProductGroupIds(productGroupIds);
+    }
+}
@@ -86,4 +86,30 @@ public class DiscountPolicyReadManager {
     public List<DiscountPolicy> findValidPolicies(Long sellerId) {
         return discountPolicyQueryPort.findValidPolicies(sellerId);
     }
+
+    /**
+     * 여러 셀러의 현재 유효한 할인 정책 일괄 조회
+     *
+     * @param sellerIds 셀러 ID 목록
+     * @return 현재 유효한 할인 정책 목록
+     */
+    public List<DiscountPolicy> findValidPoliciesBySellerIds(List<Long> sellerIds) {
+        if (sellerIds.isEmpty()) {
+            return List.of();
+        }
+        return discountPolicyQueryPort.findValidPoliciesBySellerIds(sellerIds);
+    }
+
+    /**
+     * 여러 셀러의 종료되지 않은 할인 정책 일괄 조회 (시작 전 정책 포함)
+     *
+     * @param sellerIds 셀러 ID 목록
+     * @return 활성 상태이며 유효 기간이 끝나지 않은 할인 정책 목록
+     */
+    public List<DiscountPolicy> findUnexpiredPoliciesBySellerIds(List<Long> sellerIds) {
+        if (sellerIds.isEmpty()) {
+            return List.of();
+        }
+        return discountPolicyQueryPort.findUnexpiredPoliciesBySellerIds(sellerIds);
+    }
 }
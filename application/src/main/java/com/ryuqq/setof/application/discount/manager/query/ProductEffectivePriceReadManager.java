@@ -0,0 +1,50 @@
+package com.ryuqq.setof.application.discount.manager.query;
+
+import com.ryuqq.setof.application.discount.port.out.query.ProductEffectivePriceQueryPort;
+import com.ryuqq.setof.domain.discount.aggregate.ProductEffectivePrice;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * ProductEffectivePrice Read Manager
+ *
+ * <p>상품 최종 판매가 인덱스 조회를 담당하는 Manager
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductEffectivePriceReadManager {
+
+    private final ProductEffectivePriceQueryPort productEffectivePriceQueryPort;
+
+    public ProductEffectivePriceReadManager(
+            ProductEffectivePriceQueryPort productEffectivePriceQueryPort) {
+        this.productEffectivePriceQueryPort = productEffectivePriceQueryPort;
+    }
+
+    /**
+     * 상품 그룹 ID 목록으로 최종 판매가 일괄 조회
+     *
+     * @param productGroupIds 상품 그룹 ID 목록
+     * @return 최종 판매가 목록 (인덱스가 없는 상품 그룹은 제외)
+     */
+    public List<ProductEffectivePrice> findByProductGroupIds(List<Long> productGroupIds) {
+        if (productGroupIds.isEmpty()) {
+            return List.of();
+        }
+        return productEffectivePriceQueryPort.findByProductGroupIds(productGroupIds);
+    }
+
+    /**
+     * 유효 시한이 지난 상품 그룹 ID 조회
+     *
+     * @param now 기준 시각
+     * @param limit 최대 조회 건수
+     * @return 재계산이 필요한 상품 그룹 ID 목록
+     */
+    public List<Long> findProductGroupIdsExpiredAt(Instant now, int limit) {
+        return productEffectivePriceQueryPort.findProductGroupIdsExpiredAt(now, limit);
+    }
+}
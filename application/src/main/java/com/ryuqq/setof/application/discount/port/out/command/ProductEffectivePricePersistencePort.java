@@ -0,0 +1,29 @@
+package com.ryuqq.setof.application.discount.port.out.command;
+
+import com.ryuqq.setof.domain.discount.aggregate.ProductEffectivePrice;
+import java.util.List;
+
+/**
+ * 상품 최종 판매가 인덱스 Persistence Port (Port-Out)
+ *
+ * <p>상품그룹별 최종 판매가를 영속화하는 쓰기 전용 Port입니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface ProductEffectivePricePersistencePort {
+
+    /**
+     * 최종 판매가 일괄 저장 (상품 그룹별 신규 생성 또는 수정)
+     *
+     * @param effectivePrices 저장할 최종 판매가 목록
+     */
+    void persistAll(List<ProductEffectivePrice> effectivePrices);
+
+    /**
+     * 상품 그룹 ID 목록의 최종 판매가 삭제
+     *
+     * @param productGroupIds 삭제할 상품 그룹 ID 목록
+     */
+    void deleteByProductGroupIds(List<Long> productGroupIds);
+}
@@ -64,6 +64,24 @@ public interface DiscountPolicyQueryPort {
      */
     List<DiscountPolicy> findValidPolicies(Long sellerId);
 
+    /**
+     * 여러 셀러의 현재 유효한 할인 정책 일괄 조회 (유효 기간 내)
+     *
+     * @param sellerIds 셀러 ID 목록
+     * @return 현재 유효한 할인 정책 목록
+     */
+    List<DiscountPolicy> findValidPoliciesBySellerIds(List<Long> sellerIds);
+
+    /**
+     * 여러 셀러의 종료되지 않은 할인 정책 일괄 조회 (시작 전 정책 포함)
+     *
+     * <p>최종 판매가 인덱스 계산 시, 앞으로 시작될 정책의 시작 시각을 유효 시한으로 사용하기 위해 조회합니다.
+     *
+     * @param sellerIds 셀러 ID 목록
+     * @return 활성 상태이며 유효 기간이 끝나지 않은 할인 정책 목록
+     */
+    List<DiscountPolicy> findUnexpiredPoliciesBySellerIds(List<Long> sellerIds);
+
     /**
      * 셀러의 할인 정책 개수 조회
      *
@@ -0,0 +1,33 @@
+package com.ryuqq.setof.application.discount.port.out.query;
+
+import com.ryuqq.setof.domain.discount.aggregate.ProductEffectivePrice;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 상품 최종 판매가 인덱스 Query Port (Port-Out)
+ *
+ * <p>할인이 반영된 상품그룹별 최종 판매가 조회를 위한 Port입니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface ProductEffectivePriceQueryPort {
+
+    /**
+     * 상품 그룹 ID 목록으로 최종 판매가 일괄 조회
+     *
+     * @param productGroupIds 상품 그룹 ID 목록
+     * @return 최종 판매가 목록 (인덱스가 없는 상품 그룹은 제외)
+     */
+    List<ProductEffectivePrice> findByProductGroupIds(List<Long> productGroupIds);
+
+    /**
+     * 유효 시한이 지난 상품 그룹 ID 조회
+     *
+     * @param now 기준 시각
+     * @param limit 최대 조회 건수
+     * @return 재계산이 필요한 상품 그룹 ID 목록
+     */
+    List<Long> findProductGroupIdsExpiredAt(Instant now, int limit);
+}
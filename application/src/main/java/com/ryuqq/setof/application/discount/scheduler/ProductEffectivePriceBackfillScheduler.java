@@ -0,0 +1,107 @@
+package com.ryuqq.setof.application.discount.scheduler;
+
+import com.ryuqq.setof.application.discount.facade.ProductEffectivePriceRefreshFacade;
+import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
+import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product Effective Price Backfill Scheduler
+ *
+ * <p>최종 판매가 인덱스가 없는 기존 상품그룹을 채우는 스케줄러입니다. 인덱스 도입 이전에 등록된 상품그룹이나 이벤트 처리에 실패한 상품그룹은 변경
+ * 이벤트가 다시 발생하기 전까지 인덱스가 없으므로, 기동 후 전체 상품그룹을 ID 순서로 한 번 순회하며 누락된 인덱스만 계산합니다.
+ *
+ * <p>스케줄러 동작:
+ *
+ * <ul>
+ *   <li>상품그룹을 ID Keyset으로 {@value #CHUNK_SIZE}건씩 조회하고, 인덱스가 없는 상품그룹만 계산해 저장
+ *   <li>실행 1회당 최대 {@value #MAX_CHUNKS}개 청크를 처리하고 다음 실행에서 이어서 진행
+ *   <li>마지막 청크까지 처리하면 이후 실행은 바로 종료 (인스턴스 재기동 시 처음부터 다시 순회)
+ *   <li>청크 처리에 실패하면 같은 청크부터 다음 실행에서 재시도
+ * </ul>
+ *
+ * <p>주의사항:
+ *
+ * <ul>
+ *   <li>기본 활성화. 스케줄링이 켜진({@code scheduling.enabled=true}) 인스턴스에서만 실행되며, {@code
+ *       discount.effective-price.backfill.enabled=false}로 끌 수 있음
+ *   <li>이미 인덱스가 있는 상품그룹은 다시 쓰지 않으므로, 백필이 끝난 뒤 재기동해도 조회 부하만 발생
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(
+        name = "discount.effective-price.backfill.enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class ProductEffectivePriceBackfillScheduler {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ProductEffectivePriceBackfillScheduler.class);
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_CHUNKS = 20;
+
+    private final ProductGroupReadManager productGroupReadManager;
+    private final ProductEffectivePriceRefreshFacade productEffectivePriceRefreshFacade;
+
+    private Long lastProductGroupId;
+    private boolean completed;
+
+    public ProductEffectivePriceBackfillScheduler(
+            ProductGroupReadManager productGroupReadManager,
+            ProductEffectivePriceRefreshFacade productEffectivePriceRefreshFacade) {
+        this.productGroupReadManager = productGroupReadManager;
+        this.productEffectivePriceRefreshFacade = productEffectivePriceRefreshFacade;
+    }
+
+    /**
+     * 누락된 최종 판매가 인덱스 백필
+     *
+     * <p>기본 10초 간격.
+     */
+    @Scheduled(fixedDelayString = "${discount.effective-price.backfill.fixed-delay-ms:10000}")
+    public void backfill() {
+        if (completed) {
+            return;
+        }
+        int backfilled = 0;
+
+        for (int chunkCount = 0; chunkCount < MAX_CHUNKS; chunkCount++) {
+            List<ProductGroup> chunk =
+                    productGroupReadManager.findByConditionsAfter(
+                            null, null, null, null, null, lastProductGroupId, CHUNK_SIZE);
+            if (!chunk.isEmpty()) {
+                try {
+                    backfilled += productEffectivePriceRefreshFacade.processMissing(chunk);
+                } catch (Exception e) {
+                    log.error(
+                            "[Scheduler] Failed to backfill effective prices."
+                                    + " lastProductGroupId={}",
+                            lastProductGroupId,
+                            e);
+                    break;
+                }
+                lastProductGroupId = chunk.get(chunk.size() - 1).getIdValue();
+            }
+            if (chunk.size() < CHUNK_SIZE) {
+                completed = true;
+                log.info(
+                        "[Scheduler] Effective price backfill completed. lastProductGroupId={}",
+                        lastProductGroupId);
+                break;
+            }
+        }
+
+        if (backfilled > 0) {
+            log.info("[Scheduler] Backfilled effective prices. count={}", backfilled);
+        }
+    }
+}
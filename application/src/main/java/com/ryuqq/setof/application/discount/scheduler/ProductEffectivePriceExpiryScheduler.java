@@ -0,0 +1,99 @@
+package com.ryuqq.setof.application.discount.scheduler;
+
+import com.ryuqq.setof.application.discount.facade.ProductEffectivePriceRefreshFacade;
+import com.ryuqq.setof.application.discount.manager.query.ProductEffectivePriceReadManager;
+import com.ryuqq.setof.domain.common.util.ClockHolder;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product Effective Price Expiry Scheduler
+ *
+ * <p>유효 시한(validUntil)이 지난 최종 판매가 인덱스를 재계산하는 스케줄러입니다. 할인 정책의 시작/만료는 이벤트 없이 시간 경과로
+ * 발생하므로, 인덱스 계산 시 기록해 둔 가장 이른 정책 경계 시각을 기준으로 만료된 행만 골라 다시 계산합니다.
+ *
+ * <p>스케줄러 동작:
+ *
+ * <ul>
+ *   <li>validUntil &lt;= now 인 상품그룹을 {@value #BATCH_SIZE}건씩 조회 (valid_until 인덱스 범위 탐색)
+ *   <li>재계산 결과의 validUntil은 다음 경계 시각(또는 null)으로 갱신되어 다음 배치에서 제외
+ *   <li>만료 대상이 남아 있지 않거나 최대 배치 수에 도달하면 종료
+ * </ul>
+ *
+ * <p>주의사항:
+ *
+ * <ul>
+ *   <li>기본 활성화. 스케줄링이 켜진({@code scheduling.enabled=true}) 인스턴스에서만 실행되며, {@code
+ *       discount.effective-price.expiry.enabled=false}로 끌 수 있음
+ *   <li>조회 측은 만료된 행을 실시간 계산으로 대체하므로, 스케줄러 지연은 성능에만 영향을 주고 가격 정합성에는 영향이 없음
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(
+        name = "discount.effective-price.expiry.enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class ProductEffectivePriceExpiryScheduler {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ProductEffectivePriceExpiryScheduler.class);
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCHES = 20;
+
+    private final ProductEffectivePriceReadManager productEffectivePriceReadManager;
+    private final ProductEffectivePriceRefreshFacade productEffectivePriceRefreshFacade;
+    private final ClockHolder clockHolder;
+
+    public ProductEffectivePriceExpiryScheduler(
+            ProductEffectivePriceReadManager productEffectivePriceReadManager,
+            ProductEffectivePriceRefreshFacade productEffectivePriceRefreshFacade,
+            ClockHolder clockHolder) {
+        this.productEffectivePriceReadManager = productEffectivePriceReadManager;
+        this.productEffectivePriceRefreshFacade = productEffectivePriceRefreshFacade;
+        this.clockHolder = clockHolder;
+    }
+
+    /**
+     * 만료된 최종 판매가 재계산
+     *
+     * <p>기본 1분 간격.
+     */
+    @Scheduled(fixedDelayString = "${discount.effective-price.expiry.fixed-delay-ms:60000}")
+    public void refreshExpired() {
+        Instant now = Instant.now(clockHolder.getClock());
+        int refreshed = 0;
+
+        for (int batch = 0; batch < MAX_BATCHES; batch++) {
+            List<Long> expiredIds =
+                    productEffectivePriceReadManager.findProductGroupIdsExpiredAt(now, BATCH_SIZE);
+            if (expiredIds.isEmpty()) {
+                break;
+            }
+            try {
+                refreshed += productEffectivePriceRefreshFacade.processProductGroups(expiredIds);
+            } catch (Exception e) {
+                log.error(
+                        "[Scheduler] Failed to refresh expired effective prices. size={}",
+                        expiredIds.size(),
+                        e);
+                break;
+            }
+            if (expiredIds.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        if (refreshed > 0) {
+            log.info("[Scheduler] Refreshed expired effective prices. count={}", refreshed);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.discount.service.command;
 
 import com.ryuqq.setof.application.discount.dto.command.ActivateDiscountPolicyCommand;
+import com.ryuqq.setof.application.discount.event.DiscountPolicyEventDispatcher;
 import com.ryuqq.setof.application.discount.manager.command.DiscountPolicyPersistenceManager;
 import com.ryuqq.setof.application.discount.manager.query.DiscountPolicyReadManager;
 import com.ryuqq.setof.application.discount.port.in.command.ActivateDiscountPolicyUseCase;
@@ -20,14 +21,17 @@ public class ActivateDiscountPolicyService implements ActivateDiscountPolicyUseC
 
     private final DiscountPolicyReadManager discountPolicyReadManager;
     private final DiscountPolicyPersistenceManager discountPolicyPersistenceManager;
+    private final DiscountPolicyEventDispatcher discountPolicyEventDispatcher;
     private final ClockHolder clockHolder;
 
     public ActivateDiscountPolicyService(
             DiscountPolicyReadManager discountPolicyReadManager,
             DiscountPolicyPersistenceManager discountPolicyPersistenceManager,
+            DiscountPolicyEventDispatcher discountPolicyEventDispatcher,
             ClockHolder clockHolder) {
         this.discountPolicyReadManager = discountPolicyReadManager;
         this.discountPolicyPersistenceManager = discountPolicyPersistenceManager;
+        this.discountPolicyEventDispatcher = discountPolicyEventDispatcher;
         this.clockHolder = clockHolder;
     }
 
@@ -40,5 +44,6 @@ public class ActivateDiscountPolicyService implements ActivateDiscountPolicyUseC
         DiscountPolicy activated = discountPolicy.activate(now);
 
         discountPolicyPersistenceManager.persist(activated);
+        discountPolicyEventDispatcher.publishChanged(activated, now);
     }
 }
@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.discount.service.command;
 
 import com.ryuqq.setof.application.discount.dto.command.DeactivateDiscountPolicyCommand;
+import com.ryuqq.setof.application.discount.event.DiscountPolicyEventDispatcher;
 import com.ryuqq.setof.application.discount.manager.command.DiscountPolicyPersistenceManager;
 import com.ryuqq.setof.application.discount.manager.query.DiscountPolicyReadManager;
 import com.ryuqq.setof.application.discount.port.in.command.DeactivateDiscountPolicyUseCase;
@@ -20,14 +21,17 @@ public class DeactivateDiscountPolicyService implements DeactivateDiscountPolicy
 
     private final DiscountPolicyReadManager discountPolicyReadManager;
     private final DiscountPolicyPersistenceManager discountPolicyPersistenceManager;
+    private final DiscountPolicyEventDispatcher discountPolicyEventDispatcher;
     private final ClockHolder clockHolder;
 
     public DeactivateDiscountPolicyService(
             DiscountPolicyReadManager discountPolicyReadManager,
             DiscountPolicyPersistenceManager discountPolicyPersistenceManager,
+            DiscountPolicyEventDispatcher discountPolicyEventDispatcher,
             ClockHolder clockHolder) {
         this.discountPolicyReadManager = discountPolicyReadManager;
         this.discountPolicyPersistenceManager = discountPolicyPersistenceManager;
+        this.discountPolicyEventDispatcher = discountPolicyEventDispatcher;
         this.clockHolder = clockHolder;
     }
 
@@ -40,5 +44,6 @@ public class DeactivateDiscountPolicyService implements DeactivateDiscountPolicy
         DiscountPolicy deactivated = discountPolicy.deactivate(now);
 
         discountPolicyPersistenceManager.persist(deactivated);
+        discountPolicyEventDispatcher.publishChanged(deactivated, now);
     }
 }
@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.discount.service.command;
 
 import com.ryuqq.setof.application.discount.dto.command.RegisterDiscountPolicyCommand;
+import com.ryuqq.setof.application.discount.event.DiscountPolicyEventDispatcher;
 import com.ryuqq.setof.application.discount.factory.command.DiscountPolicyCommandFactory;
 import com.ryuqq.setof.application.discount.manager.command.DiscountPolicyPersistenceManager;
 import com.ryuqq.setof.application.discount.port.in.command.RegisterDiscountPolicyUseCase;
@@ -26,12 +27,15 @@ public class RegisterDiscountPolicyService implements RegisterDiscountPolicyUseC
 
     private final DiscountPolicyCommandFactory discountPolicyCommandFactory;
     private final DiscountPolicyPersistenceManager discountPolicyPersistenceManager;
+    private final DiscountPolicyEventDispatcher discountPolicyEventDispatcher;
 
     public RegisterDiscountPolicyService(
             DiscountPolicyCommandFactory discountPolicyCommandFactory,
-            DiscountPolicyPersistenceManager discountPolicyPersistenceManager) {
+            DiscountPolicyPersistenceManager discountPolicyPersistenceManager,
+            DiscountPolicyEventDispatcher discountPolicyEventDispatcher) {
         this.discountPolicyCommandFactory = discountPolicyCommandFactory;
         this.discountPolicyPersistenceManager = discountPolicyPersistenceManager;
+        this.discountPolicyEventDispatcher = discountPolicyEventDispatcher;
     }
 
     @Override
@@ -39,6 +43,8 @@ public class RegisterDiscountPolicyService implements RegisterDiscountPolicyUseC
         DiscountPolicy discountPolicy = discountPolicyCommandFactory.create(command);
         DiscountPolicyId discountPolicyId =
                 discountPolicyPersistenceManager.persist(discountPolicy);
+        discountPolicyEventDispatcher.publishChanged(
+                discountPolicy, discountPolicy.getCreatedAt());
         return discountPolicyId.value();
     }
 }
@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.discount.service.command;
 
 import com.ryuqq.setof.application.discount.dto.command.UpdateDiscountPolicyCommand;
+import com.ryuqq.setof.application.discount.event.DiscountPolicyEventDispatcher;
 import com.ryuqq.setof.application.discount.manager.command.DiscountPolicyPersistenceManager;
 import com.ryuqq.setof.application.discount.manager.query.DiscountPolicyReadManager;
 import com.ryuqq.setof.application.discount.port.in.command.UpdateDiscountPolicyUseCase;
@@ -37,14 +38,17 @@ public class UpdateDiscountPolicyService implements UpdateDiscountPolicyUseCase
 
     private final DiscountPolicyReadManager discountPolicyReadManager;
     private final DiscountPolicyPersistenceManager discountPolicyPersistenceManager;
+    private final DiscountPolicyEventDispatcher discountPolicyEventDispatcher;
     private final ClockHolder clockHolder;
 
     public UpdateDiscountPolicyService(
             DiscountPolicyReadManager discountPolicyReadManager,
             DiscountPolicyPersistenceManager discountPolicyPersistenceManager,
+            DiscountPolicyEventDispatcher discountPolicyEventDispatcher,
             ClockHolder clockHolder) {
         this.discountPolicyReadManager = discountPolicyReadManager;
         this.discountPolicyPersistenceManager = discountPolicyPersistenceManager;
+        this.discountPolicyEventDispatcher = discountPolicyEventDispatcher;
         this.clockHolder = clockHolder;
     }
 
@@ -57,6 +61,7 @@ public class UpdateDiscountPolicyService implements UpdateDiscountPolicyUseCase
         DiscountPolicy updated = applyUpdates(discountPolicy, command, now);
 
         discountPolicyPersistenceManager.persist(updated);
+        discountPolicyEventDispatcher.publishChanged(updated, now);
     }
 
     private DiscountPolicy applyUpdates(
@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.discount.service.command;
 
 import com.ryuqq.setof.application.discount.dto.command.UpdateDiscountTargetsCommand;
+import com.ryuqq.setof.application.discount.event.DiscountPolicyEventDispatcher;
 import com.ryuqq.setof.application.discount.manager.command.DiscountPolicyPersistenceManager;
 import com.ryuqq.setof.application.discount.manager.query.DiscountPolicyReadManager;
 import com.ryuqq.setof.application.discount.port.in.command.UpdateDiscountTargetsUseCase;
@@ -20,14 +21,17 @@ public class UpdateDiscountTargetsService implements UpdateDiscountTargetsUseCas
 
     private final DiscountPolicyReadManager discountPolicyReadManager;
     private final DiscountPolicyPersistenceManager discountPolicyPersistenceManager;
+    private final DiscountPolicyEventDispatcher discountPolicyEventDispatcher;
     private final ClockHolder clockHolder;
 
     public UpdateDiscountTargetsService(
             DiscountPolicyReadManager discountPolicyReadManager,
             DiscountPolicyPersistenceManager discountPolicyPersistenceManager,
+            DiscountPolicyEventDispatcher discountPolicyEventDispatcher,
             ClockHolder clockHolder) {
         this.discountPolicyReadManager = discountPolicyReadManager;
         this.discountPolicyPersistenceManager = discountPolicyPersistenceManager;
+        this.discountPolicyEventDispatcher = discountPolicyEventDispatcher;
         this.clockHolder = clockHolder;
     }
 
@@ -40,5 +44,6 @@ public class UpdateDiscountTargetsService implements UpdateDiscountTargetsUseCas
         DiscountPolicy updated = discountPolicy.updateTargetIds(command.targetIds(), now);
 
         discountPolicyPersistenceManager.persist(updated);
+        discountPolicyEventDispatcher.publishTargetsChanged(discountPolicy, updated, now);
     }
 }
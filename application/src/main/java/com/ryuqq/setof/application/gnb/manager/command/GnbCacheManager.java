@@ -0,0 +1,82 @@
+package com.ryuqq.setof.application.gnb.manager.command;
+
+import com.ryuqq.setof.application.common.port.out.CachePort;
+import com.ryuqq.setof.application.gnb.dto.response.GnbResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Gnb Cache Manager
+ *
+ * <p>전시 중인 GNB 목록 캐시의 조회/무효화를 관리합니다. 모든 화면이 같은 키를 조회하는 Hot Key이므로 {@link
+ * CachePort#getOrLoad}로 동시 Miss를 한 번의 DB 조회로 합칩니다.
+ *
+ * <p><strong>전시 기간:</strong> 전시 시작/종료 시각은 TTL({@code cms.gnb.cache.ttl}, 기본 1분) 안에서 반영됩니다.
+ *
+ * <p><strong>무효화 시점:</strong> GNB 생성/수정/삭제 시 즉시 한 번, 커밋 후 한 번 더 삭제합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class GnbCacheManager {
+
+    private static final Logger log = LoggerFactory.getLogger(GnbCacheManager.class);
+
+    private static final String ACTIVE_GNBS_KEY = "cache::gnbs::active";
+
+    private final CachePort<Object> cachePort;
+    private final Duration ttl;
+
+    public GnbCacheManager(
+            CachePort<Object> cachePort, @Value("${cms.gnb.cache.ttl:1m}") Duration ttl) {
+        this.cachePort = cachePort;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 전시 중인 GNB 목록 조회, Miss 시 적재 후 저장
+     *
+     * @param loader DB 조회 함수
+     * @return GNB 목록
+     */
+    public List<GnbResponse> getActiveGnbs(Supplier<List<GnbResponse>> loader) {
+        GnbResponse[] gnbs =
+                cachePort.getOrLoad(
+                        ACTIVE_GNBS_KEY,
+                        GnbResponse[].class,
+                        ttl,
+                        () -> loader.get().toArray(GnbResponse[]::new));
+        return List.of(gnbs);
+    }
+
+    /** 전시 중인 GNB 목록 캐시 무효화 */
+    public void evictActiveGnbs() {
+        evictQuietly();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            evictQuietly();
+                        }
+                    });
+        }
+    }
+
+    private void evictQuietly() {
+        try {
+            cachePort.evict(ACTIVE_GNBS_KEY);
+        } catch (RuntimeException e) {
+            log.error("Failed to evict gnb cache. key={}", ACTIVE_GNBS_KEY, e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.ryuqq.setof.application.gnb.service.command;
 
 import com.ryuqq.setof.application.gnb.dto.command.CreateGnbCommand;
 import com.ryuqq.setof.application.gnb.factory.command.GnbCommandFactory;
+import com.ryuqq.setof.application.gnb.manager.command.GnbCacheManager;
 import com.ryuqq.setof.application.gnb.manager.command.GnbPersistenceManager;
 import com.ryuqq.setof.application.gnb.port.in.command.CreateGnbUseCase;
 import com.ryuqq.setof.domain.cms.aggregate.gnb.Gnb;
@@ -18,16 +19,22 @@ public class CreateGnbService implements CreateGnbUseCase {
 
     private final GnbCommandFactory gnbCommandFactory;
     private final GnbPersistenceManager gnbPersistenceManager;
+    private final GnbCacheManager gnbCacheManager;
 
     public CreateGnbService(
-            GnbCommandFactory gnbCommandFactory, GnbPersistenceManager gnbPersistenceManager) {
+            GnbCommandFactory gnbCommandFactory,
+            GnbPersistenceManager gnbPersistenceManager,
+            GnbCacheManager gnbCacheManager) {
         this.gnbCommandFactory = gnbCommandFactory;
         this.gnbPersistenceManager = gnbPersistenceManager;
+        this.gnbCacheManager = gnbCacheManager;
     }
 
     @Override
     public Long execute(CreateGnbCommand command) {
         Gnb gnb = gnbCommandFactory.createGnb(command);
-        return gnbPersistenceManager.persist(gnb).value();
+        Long gnbId = gnbPersistenceManager.persist(gnb).value();
+        gnbCacheManager.evictActiveGnbs();
+        return gnbId;
     }
 }
@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.gnb.service.command;
 
 import com.ryuqq.setof.application.gnb.dto.command.DeleteGnbCommand;
+import com.ryuqq.setof.application.gnb.manager.command.GnbCacheManager;
 import com.ryuqq.setof.application.gnb.manager.command.GnbPersistenceManager;
 import com.ryuqq.setof.application.gnb.manager.query.GnbReadManager;
 import com.ryuqq.setof.application.gnb.port.in.command.DeleteGnbUseCase;
@@ -18,11 +19,15 @@ public class DeleteGnbService implements DeleteGnbUseCase {
 
     private final GnbReadManager gnbReadManager;
     private final GnbPersistenceManager gnbPersistenceManager;
+    private final GnbCacheManager gnbCacheManager;
 
     public DeleteGnbService(
-            GnbReadManager gnbReadManager, GnbPersistenceManager gnbPersistenceManager) {
+            GnbReadManager gnbReadManager,
+            GnbPersistenceManager gnbPersistenceManager,
+            GnbCacheManager gnbCacheManager) {
         this.gnbReadManager = gnbReadManager;
         this.gnbPersistenceManager = gnbPersistenceManager;
+        this.gnbCacheManager = gnbCacheManager;
     }
 
     @Override
@@ -30,5 +35,6 @@ public class DeleteGnbService implements DeleteGnbUseCase {
         Gnb gnb = gnbReadManager.findById(command.gnbId());
         gnb.delete();
         gnbPersistenceManager.persist(gnb);
+        gnbCacheManager.evictActiveGnbs();
     }
 }
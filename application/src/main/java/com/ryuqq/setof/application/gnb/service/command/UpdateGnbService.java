@@ -2,6 +2,7 @@ package com.ryuqq.setof.application.gnb.service.command;
 
 import com.ryuqq.setof.application.gnb.dto.command.UpdateGnbCommand;
 import com.ryuqq.setof.application.gnb.factory.command.GnbCommandFactory;
+import com.ryuqq.setof.application.gnb.manager.command.GnbCacheManager;
 import com.ryuqq.setof.application.gnb.manager.command.GnbPersistenceManager;
 import com.ryuqq.setof.application.gnb.manager.query.GnbReadManager;
 import com.ryuqq.setof.application.gnb.port.in.command.UpdateGnbUseCase;
@@ -20,14 +21,17 @@ public class UpdateGnbService implements UpdateGnbUseCase {
     private final GnbReadManager gnbReadManager;
     private final GnbCommandFactory gnbCommandFactory;
     private final GnbPersistenceManager gnbPersistenceManager;
+    private final GnbCacheManager gnbCacheManager;
 
     public UpdateGnbService(
             GnbReadManager gnbReadManager,
             GnbCommandFactory gnbCommandFactory,
-            GnbPersistenceManager gnbPersistenceManager) {
+            GnbPersistenceManager gnbPersistenceManager,
+            GnbCacheManager gnbCacheManager) {
         this.gnbReadManager = gnbReadManager;
         this.gnbCommandFactory = gnbCommandFactory;
         this.gnbPersistenceManager = gnbPersistenceManager;
+        this.gnbCacheManager = gnbCacheManager;
     }
 
     @Override
@@ -35,5 +39,6 @@ public class UpdateGnbService implements UpdateGnbUseCase {
         Gnb gnb = gnbReadManager.findById(command.gnbId());
         gnbCommandFactory.applyUpdateGnb(gnb, command);
         gnbPersistenceManager.persist(gnb);
+        gnbCacheManager.evictActiveGnbs();
     }
 }
@@ -2,6 +2,7 @@ package com.ryuqq.setof.application.gnb.service.query;
 
 import com.ryuqq.setof.application.gnb.assembler.GnbAssembler;
 import com.ryuqq.setof.application.gnb.dto.response.GnbResponse;
+import com.ryuqq.setof.application.gnb.manager.command.GnbCacheManager;
 import com.ryuqq.setof.application.gnb.manager.query.GnbReadManager;
 import com.ryuqq.setof.application.gnb.port.in.query.GetAllGnbUseCase;
 import com.ryuqq.setof.application.gnb.port.in.query.GetGnbUseCase;
@@ -13,6 +14,8 @@ import org.springframework.stereotype.Service;
 /**
  * Gnb 조회 Service
  *
+ * <p>전시 중인 GNB 목록은 {@link GnbCacheManager}를 통해 캐시에서 조회합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -21,10 +24,15 @@ public class GnbQueryService implements GetGnbUseCase, GetAllGnbUseCase {
 
     private final GnbReadManager gnbReadManager;
     private final GnbAssembler gnbAssembler;
+    private final GnbCacheManager gnbCacheManager;
 
-    public GnbQueryService(GnbReadManager gnbReadManager, GnbAssembler gnbAssembler) {
+    public GnbQueryService(
+            GnbReadManager gnbReadManager,
+            GnbAssembler gnbAssembler,
+            GnbCacheManager gnbCacheManager) {
         this.gnbReadManager = gnbReadManager;
         this.gnbAssembler = gnbAssembler;
+        this.gnbCacheManager = gnbCacheManager;
     }
 
     @Override
@@ -35,7 +43,7 @@ public class GnbQueryService implements GetGnbUseCase, GetAllGnbUseCase {
 
     @Override
     public List<GnbResponse> execute() {
-        List<Gnb> gnbs = gnbReadManager.findAllActive();
-        return gnbAssembler.toResponses(gnbs);
+        return gnbCacheManager.getActiveGnbs(
+                () -> gnbAssembler.toResponses(gnbReadManager.findAllActive()));
     }
 }
@@ -67,7 +67,7 @@ public class GetOrdersService implements GetOrdersUseCase {
         String nextCursor = null;
         if (hasNext && !content.isEmpty()) {
             Order lastOrder = content.get(content.size() - 1);
-            nextCursor = lastOrder.id().value().toString();
+            nextCursor = criteria.nextCursorOf(lastOrder);
         }
 
         return SliceResponse.of(responses, query.pageSize(), hasNext, nextCursor);
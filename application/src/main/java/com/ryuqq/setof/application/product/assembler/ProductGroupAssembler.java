@@ -17,8 +17,10 @@ import com.ryuqq.setof.domain.product.vo.ProductGroupName;
 import com.ryuqq.setof.domain.refundpolicy.vo.RefundPolicyId;
 import com.ryuqq.setof.domain.seller.vo.SellerId;
 import com.ryuqq.setof.domain.shippingpolicy.vo.ShippingPolicyId;
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
 /**
@@ -162,16 +164,19 @@ public class ProductGroupAssembler {
      *
      * @param productGroup ProductGroup 도메인 객체
      * @param productCount 상품(SKU) 개수
+     * @param salePrice 최종 판매가 (null이면 판매가 사용)
      * @return ProductGroupSummaryResponse
      */
     public ProductGroupSummaryResponse toProductGroupSummaryResponse(
-            ProductGroup productGroup, int productCount) {
+            ProductGroup productGroup, int productCount, Long salePrice) {
+        BigDecimal currentPrice = productGroup.getCurrentPriceValue();
         return ProductGroupSummaryResponse.of(
                 productGroup.getIdValue(),
                 productGroup.getSellerIdValue(),
                 productGroup.getNameValue(),
                 productGroup.getOptionTypeValue(),
-                productGroup.getCurrentPriceValue(),
+                currentPrice,
+                salePrice != null ? BigDecimal.valueOf(salePrice) : currentPrice,
                 productGroup.getStatusValue(),
                 productCount);
     }
@@ -182,10 +187,13 @@ public class ProductGroupAssembler {
      * <p>productCount는 별도로 조회해야 하므로 0으로 설정
      *
      * @param productGroups ProductGroup 도메인 목록
+     * @param salePrices 상품그룹 ID → 최종 판매가
      * @return ProductGroupSummaryResponse 목록
      */
     public List<ProductGroupSummaryResponse> toProductGroupSummaryResponses(
-            List<ProductGroup> productGroups) {
-        return productGroups.stream().map(pg -> toProductGroupSummaryResponse(pg, 0)).toList();
+            List<ProductGroup> productGroups, Map<Long, Long> salePrices) {
+        return productGroups.stream()
+                .map(pg -> toProductGroupSummaryResponse(pg, 0, salePrices.get(pg.getIdValue())))
+                .toList();
     }
 }
@@ -0,0 +1,145 @@
+package com.ryuqq.setof.application.product.assembler;
+
+import com.ryuqq.setof.application.product.dto.bundle.ProductSearchDocument;
+import com.ryuqq.setof.application.product.dto.response.ProductSearchResponse;
+import com.ryuqq.setof.domain.brand.aggregate.Brand;
+import com.ryuqq.setof.domain.category.aggregate.Category;
+import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
+import com.ryuqq.setof.domain.review.aggregate.ProductRatingStats;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product Search Assembler
+ *
+ * <p>ProductGroup과 연관 Aggregate를 검색 문서로, 검색 문서를 검색 응답으로 변환합니다.
+ *
+ * <p><strong>랭킹 점수:</strong> 리뷰가 적은 상품의 평점이 과대평가되지 않도록 {@code 평균 평점 × 리뷰 수 / (리뷰 수 +
+ * 10)}으로 계산합니다. 리뷰가 많을수록 평균 평점에 수렴합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductSearchAssembler {
+
+    private static final double SCORE_DAMPING = 10.0;
+
+    /**
+     * ProductGroup 목록을 검색 문서 목록으로 변환
+     *
+     * @param productGroups 상품그룹 목록
+     * @param brands 브랜드 ID → Brand
+     * @param categories 카테고리 ID → Category (상위 카테고리 포함)
+     * @param ratingStats 상품그룹 ID → 평점 통계
+     * @param imageUrls 상품그룹 ID → 대표 이미지 URL
+     * @return 검색 문서 목록
+     */
+    public List<ProductSearchDocument> toDocuments(
+            List<ProductGroup> productGroups,
+            Map<Long, Brand> brands,
+            Map<Long, Category> categories,
+            Map<Long, ProductRatingStats> ratingStats,
+            Map<Long, String> imageUrls) {
+        List<ProductSearchDocument> documents = new ArrayList<>(productGroups.size());
+        for (ProductGroup productGroup : productGroups) {
+            documents.add(
+                    toDocument(
+                            productGroup,
+                            brands.get(productGroup.getBrandIdValue()),
+                            categories,
+                            ratingStats.get(productGroup.getIdValue()),
+                            imageUrls.get(productGroup.getIdValue())));
+        }
+        return documents;
+    }
+
+    /**
+     * 검색 문서 목록을 검색 응답 목록으로 변환
+     *
+     * @param documents 검색 문서 목록
+     * @return 검색 응답 목록
+     */
+    public List<ProductSearchResponse> toResponses(List<ProductSearchDocument> documents) {
+        return documents.stream().map(this::toResponse).toList();
+    }
+
+    private ProductSearchDocument toDocument(
+            ProductGroup productGroup,
+            Brand brand,
+            Map<Long, Category> categories,
+            ProductRatingStats stats,
+            String imageUrl) {
+        Set<Long> categoryIds = new LinkedHashSet<>();
+        Category category = categories.get(productGroup.getCategoryIdValue());
+        if (category != null) {
+            categoryIds.addAll(category.getPath().extractIds());
+        }
+        categoryIds.add(productGroup.getCategoryIdValue());
+
+        List<String> categoryNames = new ArrayList<>(categoryIds.size());
+        for (Long categoryId : categoryIds) {
+            Category pathCategory = categories.get(categoryId);
+            if (pathCategory != null) {
+                categoryNames.add(pathCategory.getNameKoValue());
+            }
+        }
+
+        double averageRating = stats != null ? stats.getAverageRatingAsDouble() : 0.0;
+        long reviewCount = stats != null ? stats.getReviewCount() : 0L;
+
+        return new ProductSearchDocument(
+                productGroup.getIdValue(),
+                productGroup.getSellerIdValue(),
+                productGroup.getNameValue(),
+                productGroup.getBrandIdValue(),
+                toBrandName(brand),
+                productGroup.getCategoryIdValue(),
+                List.copyOf(categoryIds),
+                categoryNames,
+                productGroup.getRegularPriceValue(),
+                productGroup.getCurrentPriceValue(),
+                imageUrl,
+                productGroup.getStatusValue(),
+                averageRating,
+                reviewCount,
+                averageRating * reviewCount / (reviewCount + SCORE_DAMPING),
+                productGroup.getCreatedAt());
+    }
+
+    private ProductSearchResponse toResponse(ProductSearchDocument document) {
+        return new ProductSearchResponse(
+                document.productGroupId(),
+                document.sellerId(),
+                document.name(),
+                document.brandId(),
+                document.brandName(),
+                document.regularPrice(),
+                document.currentPrice(),
+                document.imageUrl(),
+                document.status(),
+                document.averageRating(),
+                document.reviewCount(),
+                document.score(),
+                document.createdAt());
+    }
+
+    private String toBrandName(Brand brand) {
+        if (brand == null) {
+            return null;
+        }
+        String nameKo = brand.getNameKoValue();
+        String nameEn = brand.getNameEnValue();
+        if (nameEn == null || nameEn.isBlank()) {
+            return nameKo;
+        }
+        if (nameKo == null || nameKo.isBlank()) {
+            return nameEn;
+        }
+        return nameKo + " " + nameEn;
+    }
+}
@@ -0,0 +1,161 @@
+package com.ryuqq.setof.application.product.assembler;
+
+import com.ryuqq.setof.application.product.dto.bundle.ProductThumbnailSnapshot;
+import com.ryuqq.setof.application.product.dto.response.ProductGroupThumbnailResponse;
+import com.ryuqq.setof.domain.brand.aggregate.Brand;
+import com.ryuqq.setof.domain.discount.aggregate.DiscountPolicy;
+import com.ryuqq.setof.domain.discount.aggregate.ProductEffectivePrice;
+import com.ryuqq.setof.domain.discount.service.DiscountPolicyTable;
+import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
+import com.ryuqq.setof.domain.review.aggregate.ProductRatingStats;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product Thumbnail Assembler
+ *
+ * <p>ProductGroup과 연관 Aggregate를 썸네일 스냅샷으로, 스냅샷을 할인 적용된 썸네일 응답으로 변환합니다.
+ *
+ * <p><strong>할인 적용:</strong> 최종 판매가 인덱스({@link ProductEffectivePrice})가 있으면 그 값을 그대로 사용합니다. 인덱스가
+ * 없는 상품만 셀러의 현재 유효한 정책을 {@link DiscountPolicyTable}로 컴파일해 적용 대상(전체/상품/카테고리/셀러/브랜드)에
+ * 해당하는 정책의 할인을 판매가에서 차감합니다. 정책 테이블은 요청당 셀러별로 한 번만 컴파일합니다. 목록 노출용 가격이므로 고객별 사용 횟수
+ * 제한은 고려하지 않습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductThumbnailAssembler {
+
+    /**
+     * ProductGroup 목록을 썸네일 스냅샷 목록으로 변환
+     *
+     * @param productGroups 상품그룹 목록
+     * @param brands 브랜드 ID → Brand
+     * @param ratingStats 상품그룹 ID → 평점 통계
+     * @param imageUrls 상품그룹 ID → 대표 이미지 URL
+     * @return 썸네일 스냅샷 목록
+     */
+    public List<ProductThumbnailSnapshot> toSnapshots(
+            List<ProductGroup> productGroups,
+            Map<Long, Brand> brands,
+            Map<Long, ProductRatingStats> ratingStats,
+            Map<Long, String> imageUrls) {
+        List<ProductThumbnailSnapshot> snapshots = new ArrayList<>(productGroups.size());
+        for (ProductGroup productGroup : productGroups) {
+            ProductRatingStats stats = ratingStats.get(productGroup.getIdValue());
+            snapshots.add(
+                    new ProductThumbnailSnapshot(
+                            productGroup.getIdValue(),
+                            productGroup.getSellerIdValue(),
+                            productGroup.getNameValue(),
+                            productGroup.getBrandIdValue(),
+                            toBrandName(brands.get(productGroup.getBrandIdValue())),
+                            productGroup.getCategoryIdValue(),
+                            productGroup.getRegularPriceValue(),
+                            productGroup.getCurrentPriceValue(),
+                            imageUrls.get(productGroup.getIdValue()),
+                            stats != null ? stats.getAverageRatingAsDouble() : 0.0,
+                            stats != null ? stats.getReviewCount() : 0L,
+                            productGroup.getStatusValue(),
+                            productGroup.getCreatedAt()));
+        }
+        return snapshots;
+    }
+
+    /**
+     * 썸네일 스냅샷 목록을 할인 적용된 썸네일 응답 목록으로 변환
+     *
+     * @param snapshots 썸네일 스냅샷 목록 (응답 순서)
+     * @param effectivePrices 상품그룹 ID → 유효한 최종 판매가 인덱스
+     * @param policiesBySeller 셀러 ID → 현재 유효한 할인 정책 목록 (인덱스가 없는 상품 계산용)
+     * @param now 할인 계산 기준 시각
+     * @return 썸네일 응답 목록 (입력 순서 유지)
+     */
+    public List<ProductGroupThumbnailResponse> toResponses(
+            List<ProductThumbnailSnapshot> snapshots,
+            Map<Long, ProductEffectivePrice> effectivePrices,
+            Map<Long, List<DiscountPolicy>> policiesBySeller,
+            Instant now) {
+        List<ProductGroupThumbnailResponse> responses = new ArrayList<>(snapshots.size());
+        Map<Long, DiscountPolicyTable> tablesBySeller = new HashMap<>();
+        for (ProductThumbnailSnapshot snapshot : snapshots) {
+            ProductEffectivePrice effectivePrice = effectivePrices.get(snapshot.productGroupId());
+            if (effectivePrice != null) {
+                responses.add(
+                        toResponse(snapshot, BigDecimal.valueOf(effectivePrice.getSalePrice())));
+                continue;
+            }
+            List<DiscountPolicy> policies =
+                    policiesBySeller.getOrDefault(snapshot.sellerId(), List.of());
+            if (snapshot.currentPrice() == null || policies.isEmpty()) {
+                responses.add(toResponse(snapshot, snapshot.currentPrice()));
+                continue;
+            }
+            DiscountPolicyTable table =
+                    tablesBySeller.computeIfAbsent(
+                            snapshot.sellerId(), sellerId -> DiscountPolicyTable.compile(policies));
+            responses.add(toResponse(snapshot, toSalePrice(snapshot, table, now)));
+        }
+        return responses;
+    }
+
+    private ProductGroupThumbnailResponse toResponse(
+            ProductThumbnailSnapshot snapshot, BigDecimal salePrice) {
+        return new ProductGroupThumbnailResponse(
+                snapshot.productGroupId(),
+                snapshot.sellerId(),
+                snapshot.name(),
+                snapshot.brandId(),
+                snapshot.brandName(),
+                snapshot.imageUrl(),
+                snapshot.regularPrice(),
+                snapshot.currentPrice(),
+                salePrice,
+                snapshot.averageRating(),
+                snapshot.reviewCount(),
+                snapshot.status(),
+                snapshot.createdAt());
+    }
+
+    private BigDecimal toSalePrice(
+            ProductThumbnailSnapshot snapshot, DiscountPolicyTable table, Instant now) {
+        BigDecimal currentPrice = snapshot.currentPrice();
+        long discount =
+                table.calculateTotalDiscount(
+                        currentPrice.longValue(),
+                        toTargetId(snapshot.productGroupId()),
+                        toTargetId(snapshot.sellerId()),
+                        toTargetId(snapshot.categoryId()),
+                        toTargetId(snapshot.brandId()),
+                        now);
+        if (discount == 0L) {
+            return currentPrice;
+        }
+        return currentPrice.subtract(BigDecimal.valueOf(discount));
+    }
+
+    private long toTargetId(Long id) {
+        return id != null ? id : DiscountPolicyTable.NO_TARGET;
+    }
+
+    private String toBrandName(Brand brand) {
+        if (brand == null) {
+            return null;
+        }
+        String nameKo = brand.getNameKoValue();
+        String nameEn = brand.getNameEnValue();
+        if (nameEn == null || nameEn.isBlank()) {
+            return nameKo;
+        }
+        if (nameKo == null || nameKo.isBlank()) {
+            return nameEn;
+        }
+        return nameKo + " " + nameEn;
+    }
+}
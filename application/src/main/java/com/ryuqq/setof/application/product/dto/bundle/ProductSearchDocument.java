@@ -0,0 +1,55 @@
+package com.ryuqq.setof.application.product.dto.bundle;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Product Search Document
+ *
+ * <p>검색 인덱스에 적재되는 상품그룹 단위 문서입니다. 상품그룹, 브랜드, 카테고리(상위 경로 포함), 평점 통계를 색인 시점에 한 번
+ * 결합해 두어 검색 요청 시에는 DB를 조회하지 않습니다.
+ *
+ * @param productGroupId 상품그룹 ID
+ * @param sellerId 셀러 ID
+ * @param name 상품그룹명
+ * @param brandId 브랜드 ID
+ * @param brandName 브랜드명 (한글/영문 공백 연결, nullable)
+ * @param categoryId 카테고리 ID
+ * @param categoryIds 카테고리 경로 ID 목록 (상위 카테고리 포함)
+ * @param categoryNames 카테고리 경로명 목록 (상위 카테고리 포함)
+ * @param regularPrice 정가
+ * @param currentPrice 판매가
+ * @param imageUrl 대표 이미지 URL (nullable)
+ * @param status 상품그룹 상태
+ * @param averageRating 평균 평점
+ * @param reviewCount 리뷰 수
+ * @param score 랭킹 점수 (리뷰 수로 보정한 평점)
+ * @param createdAt 등록일시
+ * @author development-team
+ * @since 1.0.0
+ */
+public record ProductSearchDocument(
+        Long productGroupId,
+        Long sellerId,
+        String name,
+        Long brandId,
+        String brandName,
+        Long categoryId,
+        List<Long> categoryIds,
+        List<String> categoryNames,
+        BigDecimal regularPrice,
+        BigDecimal currentPrice,
+        String imageUrl,
+        String status,
+        double averageRating,
+        long reviewCount,
+        double score,
+        Instant createdAt) {
+
+    /** Compact Constructor - 방어적 복사 */
+    public ProductSearchDocument {
+        categoryIds = categoryIds != null ? List.copyOf(categoryIds) : List.of();
+        categoryNames = categoryNames != null ? List.copyOf(categoryNames) : List.of();
+    }
+}
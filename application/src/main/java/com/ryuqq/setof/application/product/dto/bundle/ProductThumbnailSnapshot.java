@@ -0,0 +1,41 @@
+package com.ryuqq.setof.application.product.dto.bundle;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Product Thumbnail Snapshot
+ *
+ * <p>상품 썸네일 캐시에 저장되는 할인 적용 전 상품그룹 요약입니다. 할인은 조회 시점마다 유효 정책이 달라지므로 스냅샷에 포함하지 않고, 응답
+ * 조립 시 일괄 적용합니다.
+ *
+ * @param productGroupId 상품그룹 ID
+ * @param sellerId 셀러 ID
+ * @param name 상품그룹명
+ * @param brandId 브랜드 ID
+ * @param brandName 브랜드명 (nullable)
+ * @param categoryId 카테고리 ID
+ * @param regularPrice 정가
+ * @param currentPrice 판매가
+ * @param imageUrl 대표 이미지 URL (nullable)
+ * @param averageRating 평균 평점
+ * @param reviewCount 리뷰 수
+ * @param status 상품그룹 상태
+ * @param createdAt 등록일시
+ * @author development-team
+ * @since 1.0.0
+ */
+public record ProductThumbnailSnapshot(
+        Long productGroupId,
+        Long sellerId,
+        String name,
+        Long brandId,
+        String brandName,
+        Long categoryId,
+        BigDecimal regularPrice,
+        BigDecimal currentPrice,
+        String imageUrl,
+        double averageRating,
+        long reviewCount,
+        String status,
+        Instant createdAt) {}
@@ -0,0 +1,55 @@
+package com.ryuqq.setof.application.product.dto.query;
+
+import java.util.List;
+
+/**
+ * Product Keyword Search Query
+ *
+ * <p>상품 키워드 검색 조건을 담는 불변 객체
+ *
+ * @param keyword 검색 키워드 (nullable, 없으면 필터 조건만 적용)
+ * @param categoryIds 카테고리 ID 목록 (하위 카테고리 포함 매칭, 비어 있으면 전체)
+ * @param brandIds 브랜드 ID 목록 (비어 있으면 전체)
+ * @param sellerId 셀러 ID (nullable)
+ * @param lowestPrice 최저 판매가 (nullable)
+ * @param highestPrice 최고 판매가 (nullable)
+ * @param sortType 정렬 기준 (LATEST, PRICE_ASC, PRICE_DESC / nullable, null이면 랭킹 점수순)
+ * @param cursor 이전 응답의 nextCursor (nullable, null이면 첫 페이지)
+ * @param lastProductGroupId 레거시 커서: 이전 페이지 마지막 상품그룹 ID (nullable, cursor가 없을 때만 사용)
+ * @param size 페이지 크기
+ * @author development-team
+ * @since 1.0.0
+ */
+public record ProductKeywordSearchQuery(
+        String keyword,
+        List<Long> categoryIds,
+        List<Long> brandIds,
+        Long sellerId,
+        Long lowestPrice,
+        Long highestPrice,
+        String sortType,
+        String cursor,
+        Long lastProductGroupId,
+        int size) {
+
+    /** 기본 페이지 크기 */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /** Compact Constructor - 기본값 적용 및 방어적 복사 */
+    public ProductKeywordSearchQuery {
+        categoryIds = categoryIds != null ? List.copyOf(categoryIds) : List.of();
+        brandIds = brandIds != null ? List.copyOf(brandIds) : List.of();
+        if (size <= 0) {
+            size = DEFAULT_PAGE_SIZE;
+        }
+    }
+
+    /**
+     * 검색 키워드 존재 여부
+     *
+     * @return 키워드가 있으면 true
+     */
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isBlank();
+    }
+}
@@ -12,6 +12,7 @@ import java.math.BigDecimal;
  * @param name 상품그룹명
  * @param optionType 옵션 타입
  * @param currentPrice 판매가
+ * @param salePrice 최종 판매가 (할인 적용)
  * @param status 상태
  * @param productCount 상품(SKU) 개수
  * @author development-team
@@ -23,6 +24,7 @@ public record ProductGroupSummaryResponse(
         String name,
         String optionType,
         BigDecimal currentPrice,
+        BigDecimal salePrice,
         String status,
         int productCount) {
 
@@ -33,9 +35,17 @@ public record ProductGroupSummaryResponse(
             String name,
             String optionType,
             BigDecimal currentPrice,
+            BigDecimal salePrice,
             String status,
             int productCount) {
         return new ProductGroupSummaryResponse(
-                productGroupId, sellerId, name, optionType, currentPrice, status, productCount);
+                productGroupId,
+                sellerId,
+                name,
+                optionType,
+                currentPrice,
+                salePrice,
+                status,
+                productCount);
     }
 }
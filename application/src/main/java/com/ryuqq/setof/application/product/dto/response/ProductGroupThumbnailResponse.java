@@ -0,0 +1,40 @@
+package com.ryuqq.setof.application.product.dto.response;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Product Group Thumbnail Response
+ *
+ * <p>상품그룹 썸네일 응답 DTO (현재 유효한 할인 정책 적용)
+ *
+ * @param productGroupId 상품그룹 ID
+ * @param sellerId 셀러 ID
+ * @param name 상품그룹명
+ * @param brandId 브랜드 ID
+ * @param brandName 브랜드명 (nullable)
+ * @param imageUrl 대표 이미지 URL (nullable)
+ * @param regularPrice 정가
+ * @param currentPrice 판매가
+ * @param salePrice 할인 적용가
+ * @param averageRating 평균 평점
+ * @param reviewCount 리뷰 수
+ * @param status 상품그룹 상태
+ * @param createdAt 등록일시
+ * @author development-team
+ * @since 1.0.0
+ */
+public record ProductGroupThumbnailResponse(
+        Long productGroupId,
+        Long sellerId,
+        String name,
+        Long brandId,
+        String brandName,
+        String imageUrl,
+        BigDecimal regularPrice,
+        BigDecimal currentPrice,
+        BigDecimal salePrice,
+        double averageRating,
+        long reviewCount,
+        String status,
+        Instant createdAt) {}
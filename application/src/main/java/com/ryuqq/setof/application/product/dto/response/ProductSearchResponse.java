@@ -0,0 +1,40 @@
+package com.ryuqq.setof.application.product.dto.response;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Product Search Response
+ *
+ * <p>상품 키워드 검색 결과 응답 DTO
+ *
+ * @param productGroupId 상품그룹 ID
+ * @param sellerId 셀러 ID
+ * @param name 상품그룹명
+ * @param brandId 브랜드 ID
+ * @param brandName 브랜드명 (nullable)
+ * @param regularPrice 정가
+ * @param currentPrice 판매가
+ * @param imageUrl 대표 이미지 URL (nullable)
+ * @param status 상품그룹 상태
+ * @param averageRating 평균 평점
+ * @param reviewCount 리뷰 수
+ * @param score 랭킹 점수
+ * @param createdAt 등록일시
+ * @author development-team
+ * @since 1.0.0
+ */
+public record ProductSearchResponse(
+        Long productGroupId,
+        Long sellerId,
+        String name,
+        Long brandId,
+        String brandName,
+        BigDecimal regularPrice,
+        BigDecimal currentPrice,
+        String imageUrl,
+        String status,
+        double averageRating,
+        long reviewCount,
+        double score,
+        Instant createdAt) {}
@@ -0,0 +1,69 @@
+package com.ryuqq.setof.application.product.event;
+
+import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
+import com.ryuqq.setof.domain.product.event.ProductGroupContentChangedEvent;
+import com.ryuqq.setof.domain.product.event.ProductGroupDeletedEvent;
+import com.ryuqq.setof.domain.product.event.ProductGroupUpdatedEvent;
+import com.ryuqq.setof.domain.product.vo.ProductGroupId;
+import java.time.Instant;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * ProductGroup Event Dispatcher
+ *
+ * <p>상품그룹 변경 도메인 이벤트 발행 전담 컴포넌트
+ *
+ * <p>책임:
+ *
+ * <ul>
+ *   <li>상품그룹 수정/삭제 시 도메인 이벤트 발행
+ *   <li>이미지/상세설명/고시정보 등 상품그룹 구성 변경 시 도메인 이벤트 발행
+ *   <li>이벤트 구독자(캐시 무효화 등)와 Command Service 간 결합 제거
+ * </ul>
+ *
+ * <p>사용 시점: 변경 사항 저장 직후 호출
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductGroupEventDispatcher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductGroupEventDispatcher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 상품그룹 변경 이벤트 발행
+     *
+     * <p>삭제 상태로 변경된 경우 {@link ProductGroupDeletedEvent}, 그 외에는 {@link ProductGroupUpdatedEvent}를
+     * 발행합니다.
+     *
+     * @param productGroup 변경이 반영된 상품그룹
+     * @param occurredAt 이벤트 발생 시각
+     */
+    public void publishChanged(ProductGroup productGroup, Instant occurredAt) {
+        if (productGroup.isDeleted()) {
+            eventPublisher.publishEvent(ProductGroupDeletedEvent.from(productGroup, occurredAt));
+            return;
+        }
+        eventPublisher.publishEvent(ProductGroupUpdatedEvent.from(productGroup, occurredAt));
+    }
+
+    /**
+     * 상품그룹 구성 변경 이벤트 발행
+     *
+     * <p>상품그룹 Aggregate 없이 ID만 알고 있는 변경(이미지/상세설명/고시정보, 전체 수정)에서 사용합니다.
+     *
+     * @param productGroupId 구성이 변경된 상품그룹 ID
+     * @param occurredAt 이벤트 발생 시각
+     */
+    public void publishContentChanged(Long productGroupId, Instant occurredAt) {
+        eventPublisher.publishEvent(
+                ProductGroupContentChangedEvent.from(
+                        ProductGroupId.of(productGroupId), occurredAt));
+    }
+}
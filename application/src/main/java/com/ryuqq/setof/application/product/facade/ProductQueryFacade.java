@@ -1,9 +1,11 @@
 package com.ryuqq.setof.application.product.facade;
 
+import com.ryuqq.setof.application.common.component.ParallelQueryExecutor;
 import com.ryuqq.setof.application.product.assembler.ProductGroupAssembler;
 import com.ryuqq.setof.application.product.dto.response.FullProductResponse;
 import com.ryuqq.setof.application.product.dto.response.ProductGroupResponse;
 import com.ryuqq.setof.application.product.dto.response.ProductResponse;
+import com.ryuqq.setof.application.product.manager.command.FullProductCacheManager;
 import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
 import com.ryuqq.setof.application.product.manager.query.ProductSkuReadManager;
 import com.ryuqq.setof.application.productdescription.assembler.ProductDescriptionAssembler;
@@ -17,14 +19,19 @@ import com.ryuqq.setof.application.productnotice.dto.response.ProductNoticeRespo
 import com.ryuqq.setof.application.productnotice.manager.query.ProductNoticeReadManager;
 import com.ryuqq.setof.application.productstock.assembler.ProductStockAssembler;
 import com.ryuqq.setof.application.productstock.dto.response.ProductStockResponse;
+import com.ryuqq.setof.application.productstock.manager.query.ProductStockCacheReadManager;
 import com.ryuqq.setof.application.productstock.manager.query.ProductStockReadManager;
 import com.ryuqq.setof.domain.product.aggregate.Product;
 import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
+import com.ryuqq.setof.domain.product.exception.ProductGroupNotFoundException;
 import com.ryuqq.setof.domain.productdescription.aggregate.ProductDescription;
 import com.ryuqq.setof.domain.productimage.aggregate.ProductImage;
 import com.ryuqq.setof.domain.productnotice.aggregate.ProductNotice;
 import com.ryuqq.setof.domain.productstock.aggregate.ProductStock;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
@@ -32,6 +39,20 @@ import org.springframework.stereotype.Component;
  *
  * <p>상품그룹 + SKU + 이미지 + 설명 + 고시 + 재고 통합 조회를 조율합니다.
  *
+ * <p><strong>로딩 모드:</strong>
+ *
+ * <ul>
+ *   <li>병렬 (기본): 상품그룹/SKU/이미지/설명/고시를 Virtual Thread에서 동시에 조회하고, 재고는 SKU 조회 직후 이어서 조회
+ *   <li>순차: {@code product.query.parallel-loading=false}로 설정 시 기존과 같이 순서대로 조회
+ * </ul>
+ *
+ * <p><strong>응답 캐시:</strong> 조립된 응답은 {@link FullProductCacheManager}를 통해 2단 캐시(Near Cache →
+ * Redis)에 저장되며, 상품그룹 변경 이벤트 발생 시 해당 상품그룹만 무효화됩니다. 같은 상품그룹의 동시 Cache Miss는 한 번만 DB를
+ * 조회합니다.
+ *
+ * <p>재고 수량은 캐시 적중 여부와 관계없이 매 요청마다 Redis 실시간 카운터(MGET 1회)를 덮어써서 반환하고, 키가 없거나 Redis 조회에
+ * 실패하면 DB 수량을 사용합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -44,6 +65,8 @@ public class ProductQueryFacade {
     private final ProductDescriptionReadManager descriptionReadManager;
     private final ProductNoticeReadManager noticeReadManager;
     private final ProductStockReadManager stockReadManager;
+    private final ProductStockCacheReadManager stockCacheReadManager;
+    private final FullProductCacheManager fullProductCacheManager;
 
     private final ProductGroupAssembler productGroupAssembler;
     private final ProductImageAssembler imageAssembler;
@@ -51,6 +74,9 @@ public class ProductQueryFacade {
     private final ProductNoticeAssembler noticeAssembler;
     private final ProductStockAssembler stockAssembler;
 
+    private final ParallelQueryExecutor parallelQueryExecutor;
+    private final boolean parallelLoading;
+
     public ProductQueryFacade(
             ProductGroupReadManager productGroupReadManager,
             ProductSkuReadManager productSkuReadManager,
@@ -58,22 +84,30 @@ public class ProductQueryFacade {
             ProductDescriptionReadManager descriptionReadManager,
             ProductNoticeReadManager noticeReadManager,
             ProductStockReadManager stockReadManager,
+            ProductStockCacheReadManager stockCacheReadManager,
+            FullProductCacheManager fullProductCacheManager,
             ProductGroupAssembler productGroupAssembler,
             ProductImageAssembler imageAssembler,
             ProductDescriptionAssembler descriptionAssembler,
             ProductNoticeAssembler noticeAssembler,
-            ProductStockAssembler stockAssembler) {
+            ProductStockAssembler stockAssembler,
+            ParallelQueryExecutor parallelQueryExecutor,
+            @Value("${product.query.parallel-loading:true}") boolean parallelLoading) {
         this.productGroupReadManager = productGroupReadManager;
         this.productSkuReadManager = productSkuReadManager;
         this.imageReadManager = imageReadManager;
         this.descriptionReadManager = descriptionReadManager;
         this.noticeReadManager = noticeReadManager;
         this.stockReadManager = stockReadManager;
+        this.stockCacheReadManager = stockCacheReadManager;
+        this.fullProductCacheManager = fullProductCacheManager;
         this.productGroupAssembler = productGroupAssembler;
         this.imageAssembler = imageAssembler;
         this.descriptionAssembler = descriptionAssembler;
         this.noticeAssembler = noticeAssembler;
         this.stockAssembler = stockAssembler;
+        this.parallelQueryExecutor = parallelQueryExecutor;
+        this.parallelLoading = parallelLoading;
     }
 
     /**
@@ -81,8 +115,52 @@ public class ProductQueryFacade {
      *
      * @param productGroupId 상품그룹 ID
      * @return 전체 상품 정보
+     * @throws ProductGroupNotFoundException 상품그룹이 존재하지 않으면
      */
     public FullProductResponse getFullProduct(Long productGroupId) {
+        FullProductResponse response =
+                fullProductCacheManager.getOrLoad(productGroupId, () -> load(productGroupId));
+        return withLiveStock(response);
+    }
+
+    /** DB 조회 (캐시에는 DB 재고 수량 기준 응답이 저장됨) */
+    private FullProductResponse load(Long productGroupId) {
+        return parallelLoading ? loadInParallel(productGroupId) : loadSequentially(productGroupId);
+    }
+
+    /** 독립적인 조회를 동시에 실행 (재고만 SKU 조회 결과에 의존) */
+    private FullProductResponse loadInParallel(Long productGroupId) {
+        ParallelQueryExecutor.Scope scope = parallelQueryExecutor.openScope();
+        CompletableFuture<ProductGroup> productGroupFuture =
+                scope.submit(() -> productGroupReadManager.findById(productGroupId));
+        CompletableFuture<List<Product>> productsFuture =
+                scope.submit(() -> productSkuReadManager.findByProductGroupId(productGroupId));
+        CompletableFuture<List<ProductImage>> imagesFuture =
+                scope.submit(() -> imageReadManager.findByProductGroupId(productGroupId));
+        CompletableFuture<ProductDescription> descriptionFuture =
+                scope.submit(
+                        () ->
+                                descriptionReadManager
+                                        .findByProductGroupId(productGroupId)
+                                        .orElse(null));
+        CompletableFuture<ProductNotice> noticeFuture =
+                scope.submit(
+                        () -> noticeReadManager.findByProductGroupId(productGroupId).orElse(null));
+        CompletableFuture<List<ProductStock>> stocksFuture =
+                productsFuture.thenCompose(products -> scope.submit(() -> findStocks(products)));
+
+        ProductGroup productGroup = parallelQueryExecutor.join(productGroupFuture);
+        List<Product> products = parallelQueryExecutor.join(productsFuture);
+        List<ProductImage> images = parallelQueryExecutor.join(imagesFuture);
+        ProductDescription description = parallelQueryExecutor.join(descriptionFuture);
+        ProductNotice notice = parallelQueryExecutor.join(noticeFuture);
+        List<ProductStock> stocks = parallelQueryExecutor.join(stocksFuture);
+
+        return assembleResponse(productGroup, products, images, description, notice, stocks);
+    }
+
+    /** 순서대로 조회 */
+    private FullProductResponse loadSequentially(Long productGroupId) {
         // 1. ProductGroup 조회
         ProductGroup productGroup = productGroupReadManager.findById(productGroupId);
 
@@ -100,14 +178,33 @@ public class ProductQueryFacade {
         ProductNotice notice = noticeReadManager.findByProductGroupId(productGroupId).orElse(null);
 
         // 6. Stocks 조회 (Product IDs로 조회)
-        List<Long> productIds = products.stream().map(Product::getIdValue).toList();
-        List<ProductStock> stocks =
-                productIds.isEmpty() ? List.of() : stockReadManager.findByProductIds(productIds);
+        List<ProductStock> stocks = findStocks(products);
 
         // 7. Response 변환 및 조립
         return assembleResponse(productGroup, products, images, description, notice, stocks);
     }
 
+    private List<ProductStock> findStocks(List<Product> products) {
+        List<Long> productIds = products.stream().map(Product::getIdValue).toList();
+        return productIds.isEmpty() ? List.of() : stockReadManager.findByProductIds(productIds);
+    }
+
+    /** Redis 실시간 재고 반영 (키가 없거나 조회 실패 시 DB 수량 유지) */
+    private FullProductResponse withLiveStock(FullProductResponse response) {
+        List<Long> productStockIds =
+                response.stocks().stream().map(ProductStockResponse::productStockId).toList();
+        Map<Long, Integer> liveQuantities =
+                stockCacheReadManager.findCachedQuantities(productStockIds);
+
+        return new FullProductResponse(
+                response.productGroup(),
+                response.products(),
+                response.images(),
+                response.description(),
+                response.notice(),
+                stockAssembler.withLiveQuantities(response.stocks(), liveQuantities));
+    }
+
     /** Response DTO 조립 */
     private FullProductResponse assembleResponse(
             ProductGroup productGroup,
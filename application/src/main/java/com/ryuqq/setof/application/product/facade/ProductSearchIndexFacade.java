@@ -0,0 +1,186 @@
+package com.ryuqq.setof.application.product.facade;
+
+import com.ryuqq.setof.application.brand.manager.query.BrandReadManager;
+import com.ryuqq.setof.application.category.manager.query.CategoryReadManager;
+import com.ryuqq.setof.application.product.assembler.ProductSearchAssembler;
+import com.ryuqq.setof.application.product.dto.bundle.ProductSearchDocument;
+import com.ryuqq.setof.application.product.manager.command.ProductSearchIndexManager;
+import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
+import com.ryuqq.setof.application.productimage.manager.query.ProductImageReadManager;
+import com.ryuqq.setof.application.review.manager.query.ProductRatingStatsReadManager;
+import com.ryuqq.setof.domain.brand.aggregate.Brand;
+import com.ryuqq.setof.domain.category.aggregate.Category;
+import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
+import com.ryuqq.setof.domain.review.aggregate.ProductRatingStats;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 검색 인덱스 Facade
+ *
+ * <p>상품그룹을 페이지 단위로 읽어 브랜드/카테고리/평점/대표 이미지를 페이지당 한 번씩 일괄 조회한 뒤 검색 문서로 변환하여 검색 인덱스에
+ * 적재합니다.
+ *
+ * <p><strong>적재 방식:</strong>
+ *
+ * <ul>
+ *   <li>전체 재구축: ACTIVE 상품그룹 전체를 ID Keyset으로 스캔하여 새 인덱스로 한 번에 교체
+ *   <li>증분 동기화: 기준 시각 이후 수정된 상품그룹(삭제 포함)을 (수정일시, ID) Keyset으로 스캔하여 ACTIVE는 색인, 그 외는 제거
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductSearchIndexFacade {
+
+    private static final int PAGE_SIZE = 500;
+    private static final String ACTIVE_STATUS = "ACTIVE";
+
+    private final ProductGroupReadManager productGroupReadManager;
+    private final BrandReadManager brandReadManager;
+    private final CategoryReadManager categoryReadManager;
+    private final ProductImageReadManager productImageReadManager;
+    private final ProductRatingStatsReadManager productRatingStatsReadManager;
+    private final ProductSearchIndexManager productSearchIndexManager;
+    private final ProductSearchAssembler productSearchAssembler;
+
+    public ProductSearchIndexFacade(
+            ProductGroupReadManager productGroupReadManager,
+            BrandReadManager brandReadManager,
+            CategoryReadManager categoryReadManager,
+            ProductImageReadManager productImageReadManager,
+            ProductRatingStatsReadManager productRatingStatsReadManager,
+            ProductSearchIndexManager productSearchIndexManager,
+            ProductSearchAssembler productSearchAssembler) {
+        this.productGroupReadManager = productGroupReadManager;
+        this.brandReadManager = brandReadManager;
+        this.categoryReadManager = categoryReadManager;
+        this.productImageReadManager = productImageReadManager;
+        this.productRatingStatsReadManager = productRatingStatsReadManager;
+        this.productSearchIndexManager = productSearchIndexManager;
+        this.productSearchAssembler = productSearchAssembler;
+    }
+
+    /**
+     * 검색 인덱스 전체 재구축
+     *
+     * @return 색인된 문서 수
+     */
+    public int executeRebuild() {
+        List<ProductSearchDocument> documents = new ArrayList<>();
+        Long lastProductGroupId = null;
+        List<ProductGroup> page;
+
+        do {
+            page =
+                    productGroupReadManager.findByConditionsAfter(
+                            null, null, null, null, ACTIVE_STATUS, lastProductGroupId, PAGE_SIZE);
+            if (page.isEmpty()) {
+                break;
+            }
+            lastProductGroupId = page.get(page.size() - 1).getIdValue();
+            documents.addAll(toDocuments(page));
+        } while (page.size() == PAGE_SIZE);
+
+        productSearchIndexManager.replaceAll(documents);
+        return documents.size();
+    }
+
+    /**
+     * 기준 시각 이후 변경분 증분 동기화
+     *
+     * @param updatedAfter 기준 수정일시 (포함)
+     * @return 반영된 상품그룹 수 (색인 + 제거)
+     */
+    public int executeSync(Instant updatedAfter) {
+        int synced = 0;
+        Instant lastUpdatedAt = null;
+        Long lastProductGroupId = null;
+        List<ProductGroup> page;
+
+        do {
+            page =
+                    productGroupReadManager.findByUpdatedAtAfter(
+                            updatedAfter, lastUpdatedAt, lastProductGroupId, PAGE_SIZE);
+            if (page.isEmpty()) {
+                break;
+            }
+            ProductGroup last = page.get(page.size() - 1);
+            lastUpdatedAt = last.getUpdatedAt();
+            lastProductGroupId = last.getIdValue();
+
+            List<ProductGroup> searchable = new ArrayList<>(page.size());
+            List<Long> removed = new ArrayList<>();
+            for (ProductGroup productGroup : page) {
+                if (productGroup.isActive() && productGroup.getDeletedAt() == null) {
+                    searchable.add(productGroup);
+                } else {
+                    removed.add(productGroup.getIdValue());
+                }
+            }
+
+            productSearchIndexManager.index(toDocuments(searchable));
+            productSearchIndexManager.remove(removed);
+            synced += page.size();
+        } while (page.size() == PAGE_SIZE);
+
+        return synced;
+    }
+
+    private List<ProductSearchDocument> toDocuments(List<ProductGroup> productGroups) {
+        if (productGroups.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> productGroupIds = productGroups.stream().map(ProductGroup::getIdValue).toList();
+        List<Long> brandIds =
+                productGroups.stream().map(ProductGroup::getBrandIdValue).distinct().toList();
+
+        Map<Long, Brand> brands =
+                brandReadManager.findByIds(brandIds).stream()
+                        .collect(Collectors.toMap(Brand::getIdValue, Function.identity()));
+        Map<Long, ProductRatingStats> ratingStats =
+                productRatingStatsReadManager.findByProductGroupIds(productGroupIds).stream()
+                        .collect(
+                                Collectors.toMap(
+                                        ProductRatingStats::getProductGroupId,
+                                        Function.identity()));
+
+        return productSearchAssembler.toDocuments(
+                productGroups,
+                brands,
+                findCategoriesWithAncestors(productGroups),
+                ratingStats,
+                productImageReadManager.findRepresentativeImageUrls(productGroupIds));
+    }
+
+    private Map<Long, Category> findCategoriesWithAncestors(List<ProductGroup> productGroups) {
+        List<Long> categoryIds =
+                productGroups.stream().map(ProductGroup::getCategoryIdValue).distinct().toList();
+        List<Category> categories = categoryReadManager.findByIds(categoryIds);
+
+        Set<Long> pathIds = new LinkedHashSet<>();
+        for (Category category : categories) {
+            pathIds.addAll(category.getPath().extractIds());
+        }
+        categoryIds.forEach(pathIds::remove);
+
+        Map<Long, Category> result = new HashMap<>();
+        categories.forEach(category -> result.put(category.getIdValue(), category));
+        if (!pathIds.isEmpty()) {
+            categoryReadManager
+                    .findByIds(List.copyOf(pathIds))
+                    .forEach(category -> result.put(category.getIdValue(), category));
+        }
+        return result;
+    }
+}
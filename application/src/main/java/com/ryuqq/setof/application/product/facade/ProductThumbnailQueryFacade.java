@@ -0,0 +1,188 @@
+package com.ryuqq.setof.application.product.facade;
+
+import com.ryuqq.setof.application.brand.manager.query.BrandReadManager;
+import com.ryuqq.setof.application.discount.manager.query.DiscountPolicyReadManager;
+import com.ryuqq.setof.application.discount.manager.query.ProductEffectivePriceReadManager;
+import com.ryuqq.setof.application.product.assembler.ProductThumbnailAssembler;
+import com.ryuqq.setof.application.product.dto.bundle.ProductThumbnailSnapshot;
+import com.ryuqq.setof.application.product.dto.response.ProductGroupThumbnailResponse;
+import com.ryuqq.setof.application.product.manager.command.ProductThumbnailCacheManager;
+import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
+import com.ryuqq.setof.application.productimage.manager.query.ProductImageReadManager;
+import com.ryuqq.setof.application.review.manager.query.ProductRatingStatsReadManager;
+import com.ryuqq.setof.domain.brand.aggregate.Brand;
+import com.ryuqq.setof.domain.common.util.ClockHolder;
+import com.ryuqq.setof.domain.discount.aggregate.DiscountPolicy;
+import com.ryuqq.setof.domain.discount.aggregate.ProductEffectivePrice;
+import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
+import com.ryuqq.setof.domain.review.aggregate.ProductRatingStats;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 썸네일 일괄 조회 Facade
+ *
+ * <p>최근 본 상품처럼 ID 목록으로 여러 상품그룹의 썸네일을 한 번에 조회합니다. 요청 건수와 무관하게 왕복 횟수가 일정하도록 모든 조회를
+ * 일괄로 수행합니다.
+ *
+ * <p><strong>조회 흐름:</strong>
+ *
+ * <ol>
+ *   <li>캐시 일괄 조회 (MGET 1회)
+ *   <li>캐시 미스만 DB에서 IN 조회 (상품그룹/브랜드/평점/이미지 각 1회) 후 캐시에 일괄 저장
+ *   <li>최종 판매가 인덱스 IN 조회 (1회)
+ *   <li>인덱스가 없거나 만료된 상품이 있을 때만 해당 셀러들의 유효 할인 정책 IN 조회 (1회) 후 실시간 계산
+ * </ol>
+ *
+ * <p>인덱스는 판매가가 스냅샷과 같고 유효 시한이 지나지 않은 경우에만 사용하므로, 인덱스 재계산이 지연되어도 잘못된 가격을 노출하지 않습니다.
+ *
+ * <p>응답은 요청 ID 순서를 유지하며, 중복 ID는 한 번만 포함하고 존재하지 않거나 삭제된 상품그룹은 제외합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductThumbnailQueryFacade {
+
+    private final ProductThumbnailCacheManager productThumbnailCacheManager;
+    private final ProductGroupReadManager productGroupReadManager;
+    private final BrandReadManager brandReadManager;
+    private final ProductImageReadManager productImageReadManager;
+    private final ProductRatingStatsReadManager productRatingStatsReadManager;
+    private final DiscountPolicyReadManager discountPolicyReadManager;
+    private final ProductEffectivePriceReadManager productEffectivePriceReadManager;
+    private final ProductThumbnailAssembler productThumbnailAssembler;
+    private final ClockHolder clockHolder;
+
+    public ProductThumbnailQueryFacade(
+            ProductThumbnailCacheManager productThumbnailCacheManager,
+            ProductGroupReadManager productGroupReadManager,
+            BrandReadManager brandReadManager,
+            ProductImageReadManager productImageReadManager,
+            ProductRatingStatsReadManager productRatingStatsReadManager,
+            DiscountPolicyReadManager discountPolicyReadManager,
+            ProductEffectivePriceReadManager productEffectivePriceReadManager,
+            ProductThumbnailAssembler productThumbnailAssembler,
+            ClockHolder clockHolder) {
+        this.productThumbnailCacheManager = productThumbnailCacheManager;
+        this.productGroupReadManager = productGroupReadManager;
+        this.brandReadManager = brandReadManager;
+        this.productImageReadManager = productImageReadManager;
+        this.productRatingStatsReadManager = productRatingStatsReadManager;
+        this.discountPolicyReadManager = discountPolicyReadManager;
+        this.productEffectivePriceReadManager = productEffectivePriceReadManager;
+        this.productThumbnailAssembler = productThumbnailAssembler;
+        this.clockHolder = clockHolder;
+    }
+
+    /**
+     * 상품그룹 썸네일 일괄 조회
+     *
+     * @param productGroupIds 상품그룹 ID 목록 (응답 순서)
+     * @return 할인 적용된 썸네일 목록 (요청 순서 유지)
+     */
+    public List<ProductGroupThumbnailResponse> execute(List<Long> productGroupIds) {
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(productGroupIds));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ProductThumbnailSnapshot> snapshots =
+                new HashMap<>(productThumbnailCacheManager.findAll(ids));
+        List<Long> missedIds = ids.stream().filter(id -> !snapshots.containsKey(id)).toList();
+        if (!missedIds.isEmpty()) {
+            List<ProductThumbnailSnapshot> loaded = loadSnapshots(missedIds);
+            productThumbnailCacheManager.saveAll(loaded);
+            loaded.forEach(snapshot -> snapshots.put(snapshot.productGroupId(), snapshot));
+        }
+
+        List<ProductThumbnailSnapshot> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ProductThumbnailSnapshot snapshot = snapshots.get(id);
+            if (snapshot != null) {
+                ordered.add(snapshot);
+            }
+        }
+
+        Instant now = Instant.now(clockHolder.getClock());
+        Map<Long, ProductEffectivePrice> effectivePrices = findFreshEffectivePrices(ordered, now);
+        List<ProductThumbnailSnapshot> unindexed =
+                ordered.stream()
+                        .filter(snapshot -> !effectivePrices.containsKey(snapshot.productGroupId()))
+                        .toList();
+
+        return productThumbnailAssembler.toResponses(
+                ordered, effectivePrices, findPoliciesBySeller(unindexed), now);
+    }
+
+    private List<ProductThumbnailSnapshot> loadSnapshots(List<Long> productGroupIds) {
+        List<ProductGroup> productGroups =
+                productGroupReadManager.findByIds(productGroupIds).stream()
+                        .filter(productGroup -> !productGroup.isDeleted())
+                        .toList();
+        if (productGroups.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> foundIds = productGroups.stream().map(ProductGroup::getIdValue).toList();
+        List<Long> brandIds =
+                productGroups.stream().map(ProductGroup::getBrandIdValue).distinct().toList();
+
+        Map<Long, Brand> brands =
+                brandReadManager.findByIds(brandIds).stream()
+                        .collect(Collectors.toMap(Brand::getIdValue, Function.identity()));
+        Map<Long, ProductRatingStats> ratingStats =
+                productRatingStatsReadManager.findByProductGroupIds(foundIds).stream()
+                        .collect(
+                                Collectors.toMap(
+                                        ProductRatingStats::getProductGroupId,
+                                        Function.identity()));
+
+        return productThumbnailAssembler.toSnapshots(
+                productGroups,
+                brands,
+                ratingStats,
+                productImageReadManager.findRepresentativeImageUrls(foundIds));
+    }
+
+    private Map<Long, ProductEffectivePrice> findFreshEffectivePrices(
+            List<ProductThumbnailSnapshot> snapshots, Instant now) {
+        Map<Long, ProductThumbnailSnapshot> snapshotById =
+                snapshots.stream()
+                        .collect(
+                                Collectors.toMap(
+                                        ProductThumbnailSnapshot::productGroupId,
+                                        Function.identity()));
+
+        List<Long> productGroupIds =
+                snapshots.stream().map(ProductThumbnailSnapshot::productGroupId).toList();
+
+        Map<Long, ProductEffectivePrice> fresh = new HashMap<>();
+        for (ProductEffectivePrice price :
+                productEffectivePriceReadManager.findByProductGroupIds(productGroupIds)) {
+            ProductThumbnailSnapshot snapshot = snapshotById.get(price.getProductGroupId());
+            if (snapshot != null
+                    && snapshot.currentPrice() != null
+                    && snapshot.currentPrice().longValue() == price.getCurrentPrice()
+                    && price.isFreshAt(now)) {
+                fresh.put(price.getProductGroupId(), price);
+            }
+        }
+        return fresh;
+    }
+
+    private Map<Long, List<DiscountPolicy>> findPoliciesBySeller(
+            List<ProductThumbnailSnapshot> snapshots) {
+        List<Long> sellerIds =
+                snapshots.stream().map(ProductThumbnailSnapshot::sellerId).distinct().toList();
+        return discountPolicyReadManager.findValidPoliciesBySellerIds(sellerIds).stream()
+                .collect(Collectors.groupingBy(DiscountPolicy::getSellerId));
+    }
+}
@@ -0,0 +1,67 @@
+package com.ryuqq.setof.application.product.listener;
+
+import com.ryuqq.setof.application.product.manager.command.FullProductCacheManager;
+import com.ryuqq.setof.application.product.manager.command.ProductThumbnailCacheManager;
+import com.ryuqq.setof.domain.product.event.ProductGroupContentChangedEvent;
+import com.ryuqq.setof.domain.product.event.ProductGroupDeletedEvent;
+import com.ryuqq.setof.domain.product.event.ProductGroupUpdatedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전체 상품 캐시 무효화 EventListener
+ *
+ * <p>상품그룹 수정/삭제/구성 변경 이벤트를 받아 해당 상품그룹의 전체 상품 조회 캐시와 썸네일 캐시만 무효화합니다.
+ *
+ * <p>이벤트는 발행한 트랜잭션 안에서 동기 처리되며, 커밋 후 재삭제는 {@link FullProductCacheManager}와 {@link
+ * ProductThumbnailCacheManager}가 보장합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class FullProductCacheEvictEventListener {
+
+    private final FullProductCacheManager fullProductCacheManager;
+    private final ProductThumbnailCacheManager productThumbnailCacheManager;
+
+    public FullProductCacheEvictEventListener(
+            FullProductCacheManager fullProductCacheManager,
+            ProductThumbnailCacheManager productThumbnailCacheManager) {
+        this.fullProductCacheManager = fullProductCacheManager;
+        this.productThumbnailCacheManager = productThumbnailCacheManager;
+    }
+
+    /**
+     * 상품그룹 수정 이벤트 처리
+     *
+     * @param event 상품그룹 수정 이벤트
+     */
+    @EventListener
+    public void handleUpdated(ProductGroupUpdatedEvent event) {
+        fullProductCacheManager.evict(event.productGroupId().value());
+        productThumbnailCacheManager.evict(event.productGroupId().value());
+    }
+
+    /**
+     * 상품그룹 삭제 이벤트 처리
+     *
+     * @param event 상품그룹 삭제 이벤트
+     */
+    @EventListener
+    public void handleDeleted(ProductGroupDeletedEvent event) {
+        fullProductCacheManager.evict(event.productGroupId().value());
+        productThumbnailCacheManager.evict(event.productGroupId().value());
+    }
+
+    /**
+     * 상품그룹 구성 변경 이벤트 처리
+     *
+     * @param event 상품그룹 구성 변경 이벤트
+     */
+    @EventListener
+    public void handleContentChanged(ProductGroupContentChangedEvent event) {
+        fullProductCacheManager.evict(event.productGroupId().value());
+        productThumbnailCacheManager.evict(event.productGroupId().value());
+    }
+}
@@ -0,0 +1,85 @@
+package com.ryuqq.setof.application.product.manager.command;
+
+import com.ryuqq.setof.application.product.dto.response.FullProductResponse;
+import com.ryuqq.setof.application.product.port.out.cache.FullProductCachePort;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Full Product Cache Manager
+ *
+ * <p>전체 상품 조회 응답 캐시의 조회/저장/무효화를 관리합니다.
+ *
+ * <p><strong>장애 격리:</strong> 캐시는 조회 가속용이므로 조회/저장 중 발생한 Redis 예외는 캐시 Adapter가 로그만 남기고 DB 조회
+ * 결과를 반환합니다. 무효화 실패는 이 Manager가 로그로 남깁니다.
+ *
+ * <p><strong>무효화 시점:</strong> 트랜잭션 안에서 호출되면 즉시 한 번, 커밋 후 한 번 더 삭제합니다. 커밋 전에 다른 요청이 이전 값으로 캐시를 다시
+ * 채우더라도 커밋 후 삭제로 정리됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class FullProductCacheManager {
+
+    private static final Logger log = LoggerFactory.getLogger(FullProductCacheManager.class);
+
+    private final FullProductCachePort fullProductCachePort;
+    private final boolean enabled;
+
+    public FullProductCacheManager(
+            FullProductCachePort fullProductCachePort,
+            @Value("${product.query.cache.enabled:true}") boolean enabled) {
+        this.fullProductCachePort = fullProductCachePort;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 캐시된 전체 상품 응답 조회, Miss 시 적재 후 저장
+     *
+     * <p>같은 상품그룹의 동시 Miss는 한 번만 적재됩니다. 캐시가 비활성화되어 있으면 바로 적재합니다.
+     *
+     * @param productGroupId 상품그룹 ID
+     * @param loader DB 조회 함수 (예외는 그대로 전파)
+     * @return 캐시된 응답 또는 적재 결과
+     */
+    public FullProductResponse getOrLoad(
+            Long productGroupId, Supplier<FullProductResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return fullProductCachePort.getOrLoad(productGroupId, loader);
+    }
+
+    /**
+     * 전체 상품 응답 캐시 무효화
+     *
+     * @param productGroupId 상품그룹 ID
+     */
+    public void evict(Long productGroupId) {
+        evictQuietly(productGroupId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            evictQuietly(productGroupId);
+                        }
+                    });
+        }
+    }
+
+    private void evictQuietly(Long productGroupId) {
+        try {
+            fullProductCachePort.evict(productGroupId);
+        } catch (RuntimeException e) {
+            log.error("Failed to evict full product cache. productGroupId={}", productGroupId, e);
+        }
+    }
+}
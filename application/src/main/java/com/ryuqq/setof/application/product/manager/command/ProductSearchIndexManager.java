@@ -0,0 +1,57 @@
+package com.ryuqq.setof.application.product.manager.command;
+
+import com.ryuqq.setof.application.product.dto.bundle.ProductSearchDocument;
+import com.ryuqq.setof.application.product.port.out.search.ProductSearchIndexPort;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product Search Index Manager
+ *
+ * <p>상품 검색 인덱스의 적재/제거/전체 교체를 관리합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductSearchIndexManager {
+
+    private final ProductSearchIndexPort productSearchIndexPort;
+
+    public ProductSearchIndexManager(ProductSearchIndexPort productSearchIndexPort) {
+        this.productSearchIndexPort = productSearchIndexPort;
+    }
+
+    /**
+     * 문서 색인 (기존 문서는 교체)
+     *
+     * @param documents 검색 문서 목록
+     */
+    public void index(List<ProductSearchDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        productSearchIndexPort.index(documents);
+    }
+
+    /**
+     * 문서 제거
+     *
+     * @param productGroupIds 상품그룹 ID 목록
+     */
+    public void remove(List<Long> productGroupIds) {
+        if (productGroupIds.isEmpty()) {
+            return;
+        }
+        productSearchIndexPort.remove(productGroupIds);
+    }
+
+    /**
+     * 인덱스 전체 교체
+     *
+     * @param documents 전체 검색 문서 목록
+     */
+    public void replaceAll(List<ProductSearchDocument> documents) {
+        productSearchIndexPort.replaceAll(documents);
+    }
+}
@@ -0,0 +1,108 @@
+package com.ryuqq.setof.application.product.manager.command;
+
+import com.ryuqq.setof.application.product.dto.bundle.ProductThumbnailSnapshot;
+import com.ryuqq.setof.application.product.port.out.cache.ProductThumbnailCachePort;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Product Thumbnail Cache Manager
+ *
+ * <p>상품 썸네일 스냅샷 캐시의 일괄 조회/저장/무효화를 관리합니다.
+ *
+ * <p><strong>장애 격리:</strong> 캐시는 조회 가속용이므로 조회/저장 중 발생한 예외는 로그만 남기고 전부 캐시 미스로 취급하여 DB 조회로
+ * 진행합니다.
+ *
+ * <p><strong>무효화 시점:</strong> {@link FullProductCacheManager}와 동일하게 즉시 한 번, 커밋 후 한 번 더 삭제합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductThumbnailCacheManager {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductThumbnailCacheManager.class);
+
+    private final ProductThumbnailCachePort productThumbnailCachePort;
+    private final boolean enabled;
+
+    public ProductThumbnailCacheManager(
+            ProductThumbnailCachePort productThumbnailCachePort,
+            @Value("${product.thumbnail.cache.enabled:true}") boolean enabled) {
+        this.productThumbnailCachePort = productThumbnailCachePort;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 캐시된 썸네일 스냅샷 일괄 조회
+     *
+     * @param productGroupIds 상품그룹 ID 목록
+     * @return 상품그룹 ID → 스냅샷 (비활성화 또는 조회 실패 시 빈 Map)
+     */
+    public Map<Long, ProductThumbnailSnapshot> findAll(List<Long> productGroupIds) {
+        if (!enabled || productGroupIds.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            return productThumbnailCachePort.getAll(productGroupIds);
+        } catch (RuntimeException e) {
+            log.warn(
+                    "Failed to read product thumbnail cache. size={}", productGroupIds.size(), e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * 썸네일 스냅샷 일괄 저장
+     *
+     * @param snapshots 저장할 스냅샷 목록
+     */
+    public void saveAll(List<ProductThumbnailSnapshot> snapshots) {
+        if (!enabled || snapshots.isEmpty()) {
+            return;
+        }
+
+        try {
+            productThumbnailCachePort.setAll(snapshots);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write product thumbnail cache. size={}", snapshots.size(), e);
+        }
+    }
+
+    /**
+     * 썸네일 스냅샷 캐시 무효화
+     *
+     * @param productGroupId 상품그룹 ID
+     */
+    public void evict(Long productGroupId) {
+        evictQuietly(productGroupId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            evictQuietly(productGroupId);
+                        }
+                    });
+        }
+    }
+
+    private void evictQuietly(Long productGroupId) {
+        try {
+            productThumbnailCachePort.evict(productGroupId);
+        } catch (RuntimeException e) {
+            log.error(
+                    "Failed to evict product thumbnail cache. productGroupId={}",
+                    productGroupId,
+                    e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.ryuqq.setof.application.product.port.out.query.ProductGroupQueryPort;
 import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
 import com.ryuqq.setof.domain.product.exception.ProductGroupNotFoundException;
 import com.ryuqq.setof.domain.product.vo.ProductGroupId;
+import java.time.Instant;
 import java.util.List;
 import org.springframework.stereotype.Component;
 
@@ -38,6 +39,22 @@ public class ProductGroupReadManager {
                 .orElseThrow(() -> new ProductGroupNotFoundException(productGroupId));
     }
 
+    /**
+     * ID 목록으로 ProductGroup 일괄 조회
+     *
+     * <p>존재하지 않는 ID는 예외 없이 결과에서 제외됩니다.
+     *
+     * @param productGroupIds 상품그룹 ID 목록
+     * @return ProductGroup 목록
+     */
+    public List<ProductGroup> findByIds(List<Long> productGroupIds) {
+        if (productGroupIds.isEmpty()) {
+            return List.of();
+        }
+        List<ProductGroupId> ids = productGroupIds.stream().map(ProductGroupId::of).toList();
+        return productGroupQueryPort.findByIds(ids);
+    }
+
     /**
      * 조건으로 ProductGroup 목록 조회
      *
@@ -77,6 +94,67 @@ public class ProductGroupReadManager {
         return productGroupQueryPort.countByConditions(sellerId, categoryId, brandId, name, status);
     }
 
+    /**
+     * 조건으로 ProductGroup 목록 Keyset 조회
+     *
+     * @param sellerId 셀러 ID (nullable)
+     * @param categoryId 카테고리 ID (nullable)
+     * @param brandId 브랜드 ID (nullable)
+     * @param name 상품그룹명 (nullable)
+     * @param status 상태 (nullable)
+     * @param lastProductGroupId 마지막으로 조회한 상품그룹 ID (nullable)
+     * @param limit 제한
+     * @return ProductGroup 목록
+     */
+    public List<ProductGroup> findByConditionsAfter(
+            Long sellerId,
+            Long categoryId,
+            Long brandId,
+            String name,
+            String status,
+            Long lastProductGroupId,
+            int limit) {
+        return productGroupQueryPort.findByConditionsAfter(
+                sellerId, categoryId, brandId, name, status, lastProductGroupId, limit);
+    }
+
+    /**
+     * 수정일시 이후 변경된 ProductGroup Keyset 조회 (삭제 포함)
+     *
+     * @param updatedAfter 기준 수정일시 (포함)
+     * @param lastUpdatedAt 마지막으로 조회한 수정일시 (nullable)
+     * @param lastProductGroupId 마지막으로 조회한 상품그룹 ID (nullable)
+     * @param limit 제한
+     * @return ProductGroup 목록 ((수정일시, ID) 오름차순)
+     */
+    public List<ProductGroup> findByUpdatedAtAfter(
+            Instant updatedAfter, Instant lastUpdatedAt, Long lastProductGroupId, int limit) {
+        return productGroupQueryPort.findByUpdatedAtAfter(
+                updatedAfter, lastUpdatedAt, lastProductGroupId, limit);
+    }
+
+    /**
+     * 조건에 맞는 ProductGroup 개수 조회 (상한 적용)
+     *
+     * @param sellerId 셀러 ID (nullable)
+     * @param categoryId 카테고리 ID (nullable)
+     * @param brandId 브랜드 ID (nullable)
+     * @param name 상품그룹명 (nullable)
+     * @param status 상태 (nullable)
+     * @param maxCount 최대 집계 개수
+     * @return min(실제 개수, maxCount)
+     */
+    public long countByConditionsUpTo(
+            Long sellerId,
+            Long categoryId,
+            Long brandId,
+            String name,
+            String status,
+            long maxCount) {
+        return productGroupQueryPort.countByConditionsUpTo(
+                sellerId, categoryId, brandId, name, status, maxCount);
+    }
+
     /**
      * ProductGroup 존재 여부 확인
      *
@@ -0,0 +1,37 @@
+package com.ryuqq.setof.application.product.manager.query;
+
+import com.ryuqq.setof.application.common.response.SliceResponse;
+import com.ryuqq.setof.application.product.dto.bundle.ProductSearchDocument;
+import com.ryuqq.setof.application.product.dto.query.ProductKeywordSearchQuery;
+import com.ryuqq.setof.application.product.port.out.query.ProductSearchQueryPort;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product Search Read Manager
+ *
+ * <p>상품 검색 인덱스 조회를 담당하는 Manager
+ *
+ * <p>검색 인덱스는 DB가 아닌 검색 엔진에서 조회하므로 트랜잭션을 열지 않습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductSearchReadManager {
+
+    private final ProductSearchQueryPort productSearchQueryPort;
+
+    public ProductSearchReadManager(ProductSearchQueryPort productSearchQueryPort) {
+        this.productSearchQueryPort = productSearchQueryPort;
+    }
+
+    /**
+     * 상품 키워드 검색
+     *
+     * @param query 검색 조건
+     * @return 검색 문서 Slice
+     */
+    public SliceResponse<ProductSearchDocument> search(ProductKeywordSearchQuery query) {
+        return productSearchQueryPort.search(query);
+    }
+}
@@ -0,0 +1,23 @@
+package com.ryuqq.setof.application.product.port.in.query;
+
+import com.ryuqq.setof.application.product.dto.response.ProductGroupThumbnailResponse;
+import java.util.List;
+
+/**
+ * Get ProductGroup Thumbnails UseCase (Query)
+ *
+ * <p>상품그룹 ID 목록으로 썸네일을 일괄 조회하는 Inbound Port
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface GetProductGroupThumbnailsUseCase {
+
+    /**
+     * 상품그룹 썸네일 일괄 조회
+     *
+     * @param productGroupIds 상품그룹 ID 목록 (응답 순서)
+     * @return 할인 적용된 썸네일 목록 (요청 순서 유지, 없는 상품그룹 제외)
+     */
+    List<ProductGroupThumbnailResponse> execute(List<Long> productGroupIds);
+}
@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.product.port.in.query;
 
 import com.ryuqq.setof.application.product.dto.response.ProductGroupResponse;
+import java.util.List;
 
 /**
  * Get ProductGroup UseCase (Query)
@@ -19,4 +20,14 @@ public interface GetProductGroupUseCase {
      * @return 상품그룹 응답
      */
     ProductGroupResponse execute(Long productGroupId);
+
+    /**
+     * 상품그룹 일괄 조회
+     *
+     * <p>존재하지 않는 ID는 예외 없이 결과에서 제외됩니다.
+     *
+     * @param productGroupIds 상품그룹 ID 목록
+     * @return 상품그룹 응답 목록
+     */
+    List<ProductGroupResponse> execute(List<Long> productGroupIds);
 }
@@ -1,5 +1,6 @@
 package com.ryuqq.setof.application.product.port.in.query;
 
+import com.ryuqq.setof.application.common.response.SliceResponse;
 import com.ryuqq.setof.application.product.dto.query.ProductGroupSearchQuery;
 import com.ryuqq.setof.application.product.dto.response.ProductGroupSummaryResponse;
 import java.util.List;
@@ -29,4 +30,27 @@ public interface GetProductGroupsUseCase {
      * @return 총 개수
      */
     long count(ProductGroupSearchQuery query);
+
+    /**
+     * 상품그룹 목록 커서 조회 (Keyset 페이징)
+     *
+     * <p>query의 page는 무시하고 size만큼 cursor 이후 항목을 조회합니다.
+     *
+     * @param query 검색 조건
+     * @param cursor 이전 응답의 nextCursor (nullable, null이면 첫 페이지)
+     * @return Slice 형태의 상품그룹 요약 목록
+     */
+    SliceResponse<ProductGroupSummaryResponse> executeSlice(
+            ProductGroupSearchQuery query, String cursor);
+
+    /**
+     * 상품그룹 개수 조회 (상한 적용)
+     *
+     * <p>정확한 전체 개수가 필요하지 않은 목록 화면용으로, maxCount를 넘으면 maxCount를 반환합니다.
+     *
+     * @param query 검색 조건
+     * @param maxCount 최대 집계 개수
+     * @return min(실제 개수, maxCount)
+     */
+    long countUpTo(ProductGroupSearchQuery query, long maxCount);
 }
@@ -0,0 +1,24 @@
+package com.ryuqq.setof.application.product.port.in.query;
+
+import com.ryuqq.setof.application.common.response.SliceResponse;
+import com.ryuqq.setof.application.product.dto.query.ProductKeywordSearchQuery;
+import com.ryuqq.setof.application.product.dto.response.ProductSearchResponse;
+
+/**
+ * Search ProductGroups UseCase (Query)
+ *
+ * <p>상품 키워드 검색을 담당하는 Inbound Port
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface SearchProductGroupsUseCase {
+
+    /**
+     * 상품 키워드 검색 (커서 기반)
+     *
+     * @param query 검색 조건
+     * @return 검색 결과 Slice
+     */
+    SliceResponse<ProductSearchResponse> execute(ProductKeywordSearchQuery query);
+}
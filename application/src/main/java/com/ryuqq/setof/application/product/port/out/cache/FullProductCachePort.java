@@ -0,0 +1,66 @@
+package com.ryuqq.setof.application.product.port.out.cache;
+
+import com.ryuqq.setof.application.product.dto.response.FullProductResponse;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Full Product Cache Port
+ *
+ * <p>전체 상품 조회 응답의 2단 캐시(In-Process Near Cache → Redis)를 담당하는 Port-Out 인터페이스
+ *
+ * <p><strong>캐시 구조:</strong>
+ *
+ * <ul>
+ *   <li>Key: cache:product:full:{productGroupId}
+ *   <li>Value: {@link FullProductResponse} (재고 수량은 적재 시점의 DB 값)
+ * </ul>
+ *
+ * <p><strong>구현체:</strong>
+ *
+ * <ul>
+ *   <li>adapter-out-redis: FullProductCacheAdapter
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface FullProductCachePort {
+
+    /**
+     * 캐시 조회 (Near Cache 우선, 없으면 Redis)
+     *
+     * @param productGroupId 상품그룹 ID
+     * @return 캐시된 응답 (Optional)
+     */
+    Optional<FullProductResponse> get(Long productGroupId);
+
+    /**
+     * 캐시 저장 (Near Cache + Redis)
+     *
+     * @param productGroupId 상품그룹 ID
+     * @param response 전체 상품 응답
+     */
+    void set(Long productGroupId, FullProductResponse response);
+
+    /**
+     * 캐시 조회, Miss 시 적재 후 저장
+     *
+     * <p>같은 상품그룹의 동시 Miss는 한 번만 적재하고 나머지 요청은 그 결과를 공유합니다. Redis 장애 시에는 loader 결과를 그대로
+     * 반환합니다.
+     *
+     * @param productGroupId 상품그룹 ID
+     * @param loader 원본 조회 함수 (예외는 그대로 전파)
+     * @return 캐시된 응답 또는 적재 결과
+     */
+    FullProductResponse getOrLoad(Long productGroupId, Supplier<FullProductResponse> loader);
+
+    /**
+     * 캐시 무효화
+     *
+     * <p>Redis 키를 삭제하고, 모든 인스턴스의 Near Cache에 무효화를 전파합니다.
+     *
+     * @param productGroupId 상품그룹 ID
+     */
+    void evict(Long productGroupId);
+}
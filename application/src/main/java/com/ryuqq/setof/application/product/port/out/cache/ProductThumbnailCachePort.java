@@ -0,0 +1,52 @@
+package com.ryuqq.setof.application.product.port.out.cache;
+
+import com.ryuqq.setof.application.product.dto.bundle.ProductThumbnailSnapshot;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Product Thumbnail Cache Port
+ *
+ * <p>상품 썸네일 스냅샷 캐시(Redis)를 담당하는 Port-Out 인터페이스. 목록 화면은 수십 건을 한 번에 조회하므로 단건이 아닌 일괄
+ * 조회/저장만 제공합니다.
+ *
+ * <p><strong>캐시 구조:</strong>
+ *
+ * <ul>
+ *   <li>Key: cache:product:thumbnail:{productGroupId}
+ *   <li>Value: {@link ProductThumbnailSnapshot} (할인 적용 전)
+ * </ul>
+ *
+ * <p><strong>구현체:</strong>
+ *
+ * <ul>
+ *   <li>adapter-out-redis: ProductThumbnailCacheAdapter
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface ProductThumbnailCachePort {
+
+    /**
+     * 캐시 일괄 조회 (MGET, 1회 왕복)
+     *
+     * @param productGroupIds 상품그룹 ID 목록
+     * @return 상품그룹 ID → 스냅샷 (캐시 미스는 제외)
+     */
+    Map<Long, ProductThumbnailSnapshot> getAll(List<Long> productGroupIds);
+
+    /**
+     * 캐시 일괄 저장 (Pipeline, 1회 왕복)
+     *
+     * @param snapshots 저장할 스냅샷 목록
+     */
+    void setAll(List<ProductThumbnailSnapshot> snapshots);
+
+    /**
+     * 캐시 무효화
+     *
+     * @param productGroupId 상품그룹 ID
+     */
+    void evict(Long productGroupId);
+}
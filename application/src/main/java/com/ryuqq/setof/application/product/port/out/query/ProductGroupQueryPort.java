@@ -2,6 +2,7 @@ package com.ryuqq.setof.application.product.port.out.query;
 
 import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
 import com.ryuqq.setof.domain.product.vo.ProductGroupId;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,16 @@ public interface ProductGroupQueryPort {
      */
     Optional<ProductGroup> findById(ProductGroupId productGroupId);
 
+    /**
+     * ID 목록으로 ProductGroup 일괄 조회
+     *
+     * <p>존재하지 않거나 삭제된 ID는 결과에서 제외됩니다.
+     *
+     * @param productGroupIds 상품그룹 ID 목록
+     * @return ProductGroup 목록
+     */
+    List<ProductGroup> findByIds(List<ProductGroupId> productGroupIds);
+
     /**
      * 조건으로 ProductGroup 목록 조회
      *
@@ -57,6 +68,64 @@ public interface ProductGroupQueryPort {
     long countByConditions(
             Long sellerId, Long categoryId, Long brandId, String name, String status);
 
+    /**
+     * 조건으로 ProductGroup 목록 Keyset 조회 (ID 내림차순)
+     *
+     * <p>OFFSET 대신 마지막으로 조회한 ID 이후부터 조회합니다.
+     *
+     * @param sellerId 셀러 ID (nullable)
+     * @param categoryId 카테고리 ID (nullable)
+     * @param brandId 브랜드 ID (nullable)
+     * @param name 상품그룹명 (nullable)
+     * @param status 상태 (nullable)
+     * @param lastProductGroupId 마지막으로 조회한 상품그룹 ID (nullable, null이면 첫 페이지)
+     * @param limit 제한
+     * @return ProductGroup 목록
+     */
+    List<ProductGroup> findByConditionsAfter(
+            Long sellerId,
+            Long categoryId,
+            Long brandId,
+            String name,
+            String status,
+            Long lastProductGroupId,
+            int limit);
+
+    /**
+     * 수정일시 이후 변경된 ProductGroup Keyset 조회 ((수정일시, ID) 오름차순)
+     *
+     * <p>검색 인덱스 증분 동기화용으로, 삭제된 상품그룹도 포함합니다.
+     *
+     * @param updatedAfter 기준 수정일시 (포함)
+     * @param lastUpdatedAt 마지막으로 조회한 수정일시 (nullable, null이면 첫 페이지)
+     * @param lastProductGroupId 마지막으로 조회한 상품그룹 ID (nullable, null이면 첫 페이지)
+     * @param limit 제한
+     * @return ProductGroup 목록
+     */
+    List<ProductGroup> findByUpdatedAtAfter(
+            Instant updatedAfter, Instant lastUpdatedAt, Long lastProductGroupId, int limit);
+
+    /**
+     * 조건에 맞는 ProductGroup 개수 조회 (상한 적용)
+     *
+     * <p>최대 maxCount건까지만 세어 대량 데이터에서도 COUNT 비용을 일정하게 유지합니다.
+     *
+     * @param sellerId 셀러 ID (nullable)
+     * @param categoryId 카테고리 ID (nullable)
+     * @param brandId 브랜드 ID (nullable)
+     * @param name 상품그룹명 (nullable)
+     * @param status 상태 (nullable)
+     * @param maxCount 최대 집계 개수
+     * @return min(실제 개수, maxCount)
+     */
+    long countByConditionsUpTo(
+            Long sellerId,
+            Long categoryId,
+            Long brandId,
+            String name,
+            String status,
+            long maxCount);
+
     /**
      * ProductGroup 존재 여부 확인
      *
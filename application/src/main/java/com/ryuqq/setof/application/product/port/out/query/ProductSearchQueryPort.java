@@ -0,0 +1,31 @@
+package com.ryuqq.setof.application.product.port.out.query;
+
+import com.ryuqq.setof.application.common.response.SliceResponse;
+import com.ryuqq.setof.application.product.dto.bundle.ProductSearchDocument;
+import com.ryuqq.setof.application.product.dto.query.ProductKeywordSearchQuery;
+
+/**
+ * Product Search Query Port
+ *
+ * <p>상품 키워드 검색을 담당하는 Port-Out 인터페이스. 토큰화, 랭킹, 커서 인코딩은 검색 엔진 구현체의 책임이며, 커서는 호출 측에서
+ * 해석하지 않는 불투명한 문자열입니다.
+ *
+ * <p><strong>구현체:</strong>
+ *
+ * <ul>
+ *   <li>adapter-out-search-inmemory: InMemoryProductSearchAdapter
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface ProductSearchQueryPort {
+
+    /**
+     * 상품 키워드 검색
+     *
+     * @param query 검색 조건
+     * @return 검색 문서 Slice (다음 페이지 커서 포함)
+     */
+    SliceResponse<ProductSearchDocument> search(ProductKeywordSearchQuery query);
+}
@@ -0,0 +1,44 @@
+package com.ryuqq.setof.application.product.port.out.search;
+
+import com.ryuqq.setof.application.product.dto.bundle.ProductSearchDocument;
+import java.util.List;
+
+/**
+ * Product Search Index Port
+ *
+ * <p>상품 검색 인덱스의 적재/제거를 담당하는 Port-Out 인터페이스
+ *
+ * <p><strong>구현체:</strong>
+ *
+ * <ul>
+ *   <li>adapter-out-search-inmemory: InMemoryProductSearchAdapter
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface ProductSearchIndexPort {
+
+    /**
+     * 문서 색인 (같은 상품그룹 ID의 기존 문서는 교체)
+     *
+     * @param documents 검색 문서 목록
+     */
+    void index(List<ProductSearchDocument> documents);
+
+    /**
+     * 문서 제거
+     *
+     * @param productGroupIds 제거할 상품그룹 ID 목록
+     */
+    void remove(List<Long> productGroupIds);
+
+    /**
+     * 인덱스 전체 교체
+     *
+     * <p>새 인덱스를 별도로 구성한 뒤 한 번에 교체하므로, 재구축 중에도 기존 인덱스로 검색이 계속됩니다.
+     *
+     * @param documents 전체 검색 문서 목록
+     */
+    void replaceAll(List<ProductSearchDocument> documents);
+}
@@ -0,0 +1,130 @@
+package com.ryuqq.setof.application.product.scheduler;
+
+import com.ryuqq.setof.application.product.facade.ProductSearchIndexFacade;
+import com.ryuqq.setof.domain.common.util.ClockHolder;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product Search Index Scheduler
+ *
+ * <p>인스턴스 로컬 상품 검색 인덱스를 DB와 동기화하는 스케줄러입니다. 검색 인덱스는 인스턴스마다 메모리에 따로 존재하므로, 모든 검색
+ * 서빙 인스턴스에서 동작해야 합니다.
+ *
+ * <p>스케줄러 동작:
+ *
+ * <ul>
+ *   <li>기동 시 전체 재구축 1회를 {@link ApplicationReadyEvent} 처리 안에서 동기 실행. Readiness 상태
+ *       (ACCEPTING_TRAFFIC)는 이 이벤트 처리가 끝난 뒤 전환되므로, 빈 인덱스로 검색 트래픽을 받지 않음
+ *   <li>초기 재구축이 실패하면 증분 동기화 주기마다 전체 재구축을 재시도
+ *   <li>증분 동기화: 마지막 동기화 시작 시각 이후 수정된 상품그룹을 반영 (기본 30초 간격)
+ *   <li>전체 재구축: 평점 통계, 브랜드/카테고리명 변경 등 상품그룹 수정일시에 드러나지 않는 변경을 반영 (기본 1시간 간격)
+ * </ul>
+ *
+ * <p>주의사항:
+ *
+ * <ul>
+ *   <li>{@code product.search.index.enabled=true}인 인스턴스에서만 동작
+ *   <li>{@code @Scheduled} 대신 전용 단일 스레드를 사용하여, 스케줄링이 비활성화된 인스턴스에서도 동작하고 재구축과 증분 동기화가
+ *       동시에 실행되지 않음
+ *   <li>증분 기준 시각은 커밋 지연을 고려해 {@code sync-overlap-ms}만큼 앞당겨 조회 (중복 반영은 멱등)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "product.search.index.enabled", havingValue = "true")
+public class ProductSearchIndexScheduler implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchIndexScheduler.class);
+
+    private final ProductSearchIndexFacade productSearchIndexFacade;
+    private final ClockHolder clockHolder;
+    private final long syncDelayMs;
+    private final long rebuildDelayMs;
+    private final Duration syncOverlap;
+    private final ScheduledExecutorService executor;
+
+    private volatile Instant syncedFrom;
+
+    public ProductSearchIndexScheduler(
+            ProductSearchIndexFacade productSearchIndexFacade,
+            ClockHolder clockHolder,
+            @Value("${product.search.index.sync-delay-ms:30000}") long syncDelayMs,
+            @Value("${product.search.index.rebuild-delay-ms:3600000}") long rebuildDelayMs,
+            @Value("${product.search.index.sync-overlap-ms:60000}") long syncOverlapMs) {
+        this.productSearchIndexFacade = productSearchIndexFacade;
+        this.clockHolder = clockHolder;
+        this.syncDelayMs = syncDelayMs;
+        this.rebuildDelayMs = rebuildDelayMs;
+        this.syncOverlap = Duration.ofMillis(syncOverlapMs);
+        this.executor =
+                Executors.newSingleThreadScheduledExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "product-search-index");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
+
+    /** 기동 완료 시 전체 재구축(동기) 후 주기 작업 등록 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+        executor.scheduleWithFixedDelay(
+                this::sync, syncDelayMs, syncDelayMs, TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(
+                this::rebuild, rebuildDelayMs, rebuildDelayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /** 검색 인덱스 전체 재구축 */
+    void rebuild() {
+        Instant startedAt = clockHolder.getClock().instant();
+        try {
+            int indexed = productSearchIndexFacade.executeRebuild();
+            syncedFrom = startedAt;
+            log.info(
+                    "[Scheduler] Rebuilt product search index. documents={}, elapsedMs={}",
+                    indexed,
+                    Duration.between(startedAt, clockHolder.getClock().instant()).toMillis());
+        } catch (Exception e) {
+            log.error("[Scheduler] Failed to rebuild product search index", e);
+        }
+    }
+
+    /** 마지막 동기화 이후 변경분 증분 동기화 (재구축 성공 전이면 전체 재구축 재시도) */
+    void sync() {
+        Instant from = syncedFrom;
+        if (from == null) {
+            rebuild();
+            return;
+        }
+        Instant startedAt = clockHolder.getClock().instant();
+        try {
+            int synced = productSearchIndexFacade.executeSync(from.minus(syncOverlap));
+            syncedFrom = startedAt;
+            if (synced > 0) {
+                log.info("[Scheduler] Synced product search index. productGroups={}", synced);
+            }
+        } catch (Exception e) {
+            log.error("[Scheduler] Failed to sync product search index from {}", from, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
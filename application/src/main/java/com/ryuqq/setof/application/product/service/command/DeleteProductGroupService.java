@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.product.service.command;
 
 import com.ryuqq.setof.application.product.dto.command.DeleteProductGroupCommand;
+import com.ryuqq.setof.application.product.event.ProductGroupEventDispatcher;
 import com.ryuqq.setof.application.product.factory.command.ProductGroupCommandFactory;
 import com.ryuqq.setof.application.product.manager.command.ProductGroupPersistenceManager;
 import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
@@ -19,6 +20,7 @@ import org.springframework.stereotype.Service;
  *   <li>셀러 소유권 검증
  *   <li>Soft Delete 처리
  *   <li>ProductGroupPersistenceManager로 저장
+ *   <li>상품그룹 삭제 이벤트 발행 (전체 상품/썸네일 캐시 무효화)
  * </ol>
  *
  * @author development-team
@@ -30,14 +32,17 @@ public class DeleteProductGroupService implements DeleteProductGroupUseCase {
     private final ProductGroupReadManager productGroupReadManager;
     private final ProductGroupPersistenceManager productGroupPersistenceManager;
     private final ProductGroupCommandFactory productGroupCommandFactory;
+    private final ProductGroupEventDispatcher productGroupEventDispatcher;
 
     public DeleteProductGroupService(
             ProductGroupReadManager productGroupReadManager,
             ProductGroupPersistenceManager productGroupPersistenceManager,
-            ProductGroupCommandFactory productGroupCommandFactory) {
+            ProductGroupCommandFactory productGroupCommandFactory,
+            ProductGroupEventDispatcher productGroupEventDispatcher) {
         this.productGroupReadManager = productGroupReadManager;
         this.productGroupPersistenceManager = productGroupPersistenceManager;
         this.productGroupCommandFactory = productGroupCommandFactory;
+        this.productGroupEventDispatcher = productGroupEventDispatcher;
     }
 
     @Override
@@ -51,6 +56,7 @@ public class DeleteProductGroupService implements DeleteProductGroupUseCase {
         ProductGroup deleted = productGroup.delete(now);
 
         productGroupPersistenceManager.persist(deleted);
+        productGroupEventDispatcher.publishChanged(deleted, now);
     }
 
     private void validateOwnership(ProductGroup productGroup, Long sellerId) {
@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.product.service.command;
 
 import com.ryuqq.setof.application.product.dto.command.MarkProductOutOfStockCommand;
+import com.ryuqq.setof.application.product.event.ProductGroupEventDispatcher;
 import com.ryuqq.setof.application.product.manager.command.ProductWriteManager;
 import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
 import com.ryuqq.setof.application.product.manager.query.ProductSkuReadManager;
@@ -21,6 +22,7 @@ import org.springframework.stereotype.Service;
  *   <li>ProductGroup을 통해 셀러 소유권 검증
  *   <li>품절 상태 변경 (markSoldOut/markInStock)
  *   <li>ProductWriteManager로 저장
+ *   <li>상품그룹 구성 변경 이벤트 발행 (전체 상품/썸네일 캐시 무효화)
  * </ol>
  *
  * @author development-team
@@ -32,16 +34,19 @@ public class MarkProductOutOfStockService implements MarkProductOutOfStockUseCas
     private final ProductSkuReadManager productSkuReadManager;
     private final ProductGroupReadManager productGroupReadManager;
     private final ProductWriteManager productWriteManager;
+    private final ProductGroupEventDispatcher productGroupEventDispatcher;
     private final ClockHolder clockHolder;
 
     public MarkProductOutOfStockService(
             ProductSkuReadManager productSkuReadManager,
             ProductGroupReadManager productGroupReadManager,
             ProductWriteManager productWriteManager,
+            ProductGroupEventDispatcher productGroupEventDispatcher,
             ClockHolder clockHolder) {
         this.productSkuReadManager = productSkuReadManager;
         this.productGroupReadManager = productGroupReadManager;
         this.productWriteManager = productWriteManager;
+        this.productGroupEventDispatcher = productGroupEventDispatcher;
         this.clockHolder = clockHolder;
     }
 
@@ -58,6 +63,7 @@ public class MarkProductOutOfStockService implements MarkProductOutOfStockUseCas
         Product updated = command.soldOut() ? product.markSoldOut(now) : product.markInStock(now);
 
         productWriteManager.save(updated);
+        productGroupEventDispatcher.publishContentChanged(product.getProductGroupIdValue(), now);
     }
 
     private void validateOwnership(ProductGroup productGroup, Long sellerId) {
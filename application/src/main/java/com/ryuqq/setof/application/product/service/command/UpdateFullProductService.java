@@ -1,9 +1,12 @@
 package com.ryuqq.setof.application.product.service.command;
 
 import com.ryuqq.setof.application.product.dto.command.UpdateFullProductCommand;
+import com.ryuqq.setof.application.product.event.ProductGroupEventDispatcher;
 import com.ryuqq.setof.application.product.facade.ProductModificationFacade;
 import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
 import com.ryuqq.setof.application.product.port.in.command.UpdateFullProductUseCase;
+import com.ryuqq.setof.domain.common.util.ClockHolder;
+import java.time.Instant;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +19,8 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * <p>트랜잭션 경계를 관리합니다.
  *
+ * <p>수정 후 상품그룹 구성 변경 이벤트를 발행하여 전체 상품 조회 캐시를 무효화합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -24,12 +29,18 @@ public class UpdateFullProductService implements UpdateFullProductUseCase {
 
     private final ProductModificationFacade modificationFacade;
     private final ProductGroupReadManager productGroupReadManager;
+    private final ProductGroupEventDispatcher productGroupEventDispatcher;
+    private final ClockHolder clockHolder;
 
     public UpdateFullProductService(
             ProductModificationFacade modificationFacade,
-            ProductGroupReadManager productGroupReadManager) {
+            ProductGroupReadManager productGroupReadManager,
+            ProductGroupEventDispatcher productGroupEventDispatcher,
+            ClockHolder clockHolder) {
         this.modificationFacade = modificationFacade;
         this.productGroupReadManager = productGroupReadManager;
+        this.productGroupEventDispatcher = productGroupEventDispatcher;
+        this.clockHolder = clockHolder;
     }
 
     /**
@@ -44,5 +55,8 @@ public class UpdateFullProductService implements UpdateFullProductUseCase {
         productGroupReadManager.findById(command.productGroupId());
 
         modificationFacade.updateAll(command);
+
+        productGroupEventDispatcher.publishContentChanged(
+                command.productGroupId(), Instant.now(clockHolder.getClock()));
     }
 }
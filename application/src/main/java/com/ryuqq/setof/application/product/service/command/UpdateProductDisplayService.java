@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.product.service.command;
 
 import com.ryuqq.setof.application.product.dto.command.UpdateProductDisplayCommand;
+import com.ryuqq.setof.application.product.event.ProductGroupEventDispatcher;
 import com.ryuqq.setof.application.product.manager.command.ProductWriteManager;
 import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
 import com.ryuqq.setof.application.product.manager.query.ProductSkuReadManager;
@@ -21,6 +22,7 @@ import org.springframework.stereotype.Service;
  *   <li>ProductGroup을 통해 셀러 소유권 검증
  *   <li>전시 상태 변경 (show/hide)
  *   <li>ProductWriteManager로 저장
+ *   <li>상품그룹 변경 이벤트 발행 (전체 상품 캐시 무효화)
  * </ol>
  *
  * @author development-team
@@ -32,16 +34,19 @@ public class UpdateProductDisplayService implements UpdateProductDisplayUseCase
     private final ProductSkuReadManager productSkuReadManager;
     private final ProductGroupReadManager productGroupReadManager;
     private final ProductWriteManager productWriteManager;
+    private final ProductGroupEventDispatcher productGroupEventDispatcher;
     private final ClockHolder clockHolder;
 
     public UpdateProductDisplayService(
             ProductSkuReadManager productSkuReadManager,
             ProductGroupReadManager productGroupReadManager,
             ProductWriteManager productWriteManager,
+            ProductGroupEventDispatcher productGroupEventDispatcher,
             ClockHolder clockHolder) {
         this.productSkuReadManager = productSkuReadManager;
         this.productGroupReadManager = productGroupReadManager;
         this.productWriteManager = productWriteManager;
+        this.productGroupEventDispatcher = productGroupEventDispatcher;
         this.clockHolder = clockHolder;
     }
 
@@ -58,6 +63,7 @@ public class UpdateProductDisplayService implements UpdateProductDisplayUseCase
         Product updated = command.displayYn() ? product.show(now) : product.hide(now);
 
         productWriteManager.save(updated);
+        productGroupEventDispatcher.publishChanged(productGroup, now);
     }
 
     private void validateOwnership(ProductGroup productGroup, Long sellerId) {
@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.product.service.command;
 
 import com.ryuqq.setof.application.product.dto.command.UpdateProductGroupCommand;
+import com.ryuqq.setof.application.product.event.ProductGroupEventDispatcher;
 import com.ryuqq.setof.application.product.factory.command.ProductGroupCommandFactory;
 import com.ryuqq.setof.application.product.manager.command.ProductGroupPersistenceManager;
 import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
@@ -25,6 +26,7 @@ import org.springframework.stereotype.Service;
  *   <li>셀러 소유권 검증
  *   <li>도메인 메서드로 수정
  *   <li>ProductGroupPersistenceManager로 저장
+ *   <li>상품그룹 수정 이벤트 발행 (전체 상품/썸네일 캐시 무효화)
  * </ol>
  *
  * @author development-team
@@ -36,14 +38,17 @@ public class UpdateProductGroupService implements UpdateProductGroupUseCase {
     private final ProductGroupReadManager productGroupReadManager;
     private final ProductGroupPersistenceManager productGroupPersistenceManager;
     private final ProductGroupCommandFactory productGroupCommandFactory;
+    private final ProductGroupEventDispatcher productGroupEventDispatcher;
 
     public UpdateProductGroupService(
             ProductGroupReadManager productGroupReadManager,
             ProductGroupPersistenceManager productGroupPersistenceManager,
-            ProductGroupCommandFactory productGroupCommandFactory) {
+            ProductGroupCommandFactory productGroupCommandFactory,
+            ProductGroupEventDispatcher productGroupEventDispatcher) {
         this.productGroupReadManager = productGroupReadManager;
         this.productGroupPersistenceManager = productGroupPersistenceManager;
         this.productGroupCommandFactory = productGroupCommandFactory;
+        this.productGroupEventDispatcher = productGroupEventDispatcher;
     }
 
     @Override
@@ -57,6 +62,7 @@ public class UpdateProductGroupService implements UpdateProductGroupUseCase {
         ProductGroup updated = applyUpdates(productGroup, command, now);
 
         productGroupPersistenceManager.persist(updated);
+        productGroupEventDispatcher.publishChanged(updated, now);
     }
 
     private void validateOwnership(ProductGroup productGroup, Long sellerId) {
@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.product.service.command;
 
 import com.ryuqq.setof.application.product.dto.command.UpdateProductGroupStatusCommand;
+import com.ryuqq.setof.application.product.event.ProductGroupEventDispatcher;
 import com.ryuqq.setof.application.product.factory.command.ProductGroupCommandFactory;
 import com.ryuqq.setof.application.product.manager.command.ProductGroupPersistenceManager;
 import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
@@ -20,6 +21,7 @@ import org.springframework.stereotype.Service;
  *   <li>셀러 소유권 검증
  *   <li>상태 변경
  *   <li>ProductGroupPersistenceManager로 저장
+ *   <li>상품그룹 변경 이벤트 발행 (전체 상품 캐시 무효화)
  * </ol>
  *
  * @author development-team
@@ -31,14 +33,17 @@ public class UpdateProductGroupStatusService implements UpdateProductGroupStatus
     private final ProductGroupReadManager productGroupReadManager;
     private final ProductGroupPersistenceManager productGroupPersistenceManager;
     private final ProductGroupCommandFactory productGroupCommandFactory;
+    private final ProductGroupEventDispatcher productGroupEventDispatcher;
 
     public UpdateProductGroupStatusService(
             ProductGroupReadManager productGroupReadManager,
             ProductGroupPersistenceManager productGroupPersistenceManager,
-            ProductGroupCommandFactory productGroupCommandFactory) {
+            ProductGroupCommandFactory productGroupCommandFactory,
+            ProductGroupEventDispatcher productGroupEventDispatcher) {
         this.productGroupReadManager = productGroupReadManager;
         this.productGroupPersistenceManager = productGroupPersistenceManager;
         this.productGroupCommandFactory = productGroupCommandFactory;
+        this.productGroupEventDispatcher = productGroupEventDispatcher;
     }
 
     @Override
@@ -53,6 +58,7 @@ public class UpdateProductGroupStatusService implements UpdateProductGroupStatus
 
         ProductGroup updated = applyStatusChange(productGroup, newStatus, now);
         productGroupPersistenceManager.persist(updated);
+        productGroupEventDispatcher.publishChanged(updated, now);
     }
 
     private void validateOwnership(ProductGroup productGroup, Long sellerId) {
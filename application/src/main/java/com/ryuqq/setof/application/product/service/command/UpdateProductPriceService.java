@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.product.service.command;
 
 import com.ryuqq.setof.application.product.dto.command.UpdateProductPriceCommand;
+import com.ryuqq.setof.application.product.event.ProductGroupEventDispatcher;
 import com.ryuqq.setof.application.product.factory.command.ProductGroupCommandFactory;
 import com.ryuqq.setof.application.product.manager.command.ProductGroupPersistenceManager;
 import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
@@ -21,6 +22,7 @@ import org.springframework.stereotype.Service;
  *   <li>가격 유효성 검증 (정가 >= 판매가)
  *   <li>도메인 메서드로 가격 수정
  *   <li>ProductGroupPersistenceManager로 저장
+ *   <li>상품그룹 변경 이벤트 발행 (전체 상품 캐시 무효화)
  * </ol>
  *
  * @author development-team
@@ -32,14 +34,17 @@ public class UpdateProductPriceService implements UpdateProductPriceUseCase {
     private final ProductGroupReadManager productGroupReadManager;
     private final ProductGroupPersistenceManager productGroupPersistenceManager;
     private final ProductGroupCommandFactory productGroupCommandFactory;
+    private final ProductGroupEventDispatcher productGroupEventDispatcher;
 
     public UpdateProductPriceService(
             ProductGroupReadManager productGroupReadManager,
             ProductGroupPersistenceManager productGroupPersistenceManager,
-            ProductGroupCommandFactory productGroupCommandFactory) {
+            ProductGroupCommandFactory productGroupCommandFactory,
+            ProductGroupEventDispatcher productGroupEventDispatcher) {
         this.productGroupReadManager = productGroupReadManager;
         this.productGroupPersistenceManager = productGroupPersistenceManager;
         this.productGroupCommandFactory = productGroupCommandFactory;
+        this.productGroupEventDispatcher = productGroupEventDispatcher;
     }
 
     @Override
@@ -64,6 +69,7 @@ public class UpdateProductPriceService implements UpdateProductPriceUseCase {
                         now);
 
         productGroupPersistenceManager.persist(updated);
+        productGroupEventDispatcher.publishChanged(updated, now);
     }
 
     private void validateOwnership(ProductGroup productGroup, Long sellerId) {
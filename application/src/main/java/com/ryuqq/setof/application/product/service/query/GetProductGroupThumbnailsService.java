@@ -0,0 +1,31 @@
+package com.ryuqq.setof.application.product.service.query;
+
+import com.ryuqq.setof.application.product.dto.response.ProductGroupThumbnailResponse;
+import com.ryuqq.setof.application.product.facade.ProductThumbnailQueryFacade;
+import com.ryuqq.setof.application.product.port.in.query.GetProductGroupThumbnailsUseCase;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상품그룹 썸네일 일괄 조회 Service
+ *
+ * <p>캐시 우선 일괄 조회와 할인 적용은 {@link ProductThumbnailQueryFacade}에 위임합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class GetProductGroupThumbnailsService implements GetProductGroupThumbnailsUseCase {
+
+    private final ProductThumbnailQueryFacade productThumbnailQueryFacade;
+
+    public GetProductGroupThumbnailsService(
+            ProductThumbnailQueryFacade productThumbnailQueryFacade) {
+        this.productThumbnailQueryFacade = productThumbnailQueryFacade;
+    }
+
+    @Override
+    public List<ProductGroupThumbnailResponse> execute(List<Long> productGroupIds) {
+        return productThumbnailQueryFacade.execute(productGroupIds);
+    }
+}
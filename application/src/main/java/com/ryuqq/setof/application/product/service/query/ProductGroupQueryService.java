@@ -1,5 +1,7 @@
 package com.ryuqq.setof.application.product.service.query;
 
+import com.ryuqq.setof.application.common.response.SliceResponse;
+import com.ryuqq.setof.application.discount.facade.ProductEffectivePriceQueryFacade;
 import com.ryuqq.setof.application.product.assembler.ProductGroupAssembler;
 import com.ryuqq.setof.application.product.dto.query.ProductGroupSearchQuery;
 import com.ryuqq.setof.application.product.dto.response.ProductGroupResponse;
@@ -8,9 +10,13 @@ import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager
 import com.ryuqq.setof.application.product.manager.query.ProductSkuReadManager;
 import com.ryuqq.setof.application.product.port.in.query.GetProductGroupUseCase;
 import com.ryuqq.setof.application.product.port.in.query.GetProductGroupsUseCase;
+import com.ryuqq.setof.domain.common.vo.CursorPageRequest;
+import com.ryuqq.setof.domain.common.vo.KeysetCursor;
 import com.ryuqq.setof.domain.product.aggregate.Product;
 import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 /**
@@ -18,6 +24,8 @@ import org.springframework.stereotype.Service;
  *
  * <p>상품그룹 단건 및 목록 조회를 담당
  *
+ * <p>목록의 최종 판매가는 {@link ProductEffectivePriceQueryFacade}로 최종 판매가 인덱스에서 일괄 조회합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -26,14 +34,17 @@ public class ProductGroupQueryService implements GetProductGroupUseCase, GetProd
 
     private final ProductGroupReadManager productGroupReadManager;
     private final ProductSkuReadManager productSkuReadManager;
+    private final ProductEffectivePriceQueryFacade productEffectivePriceQueryFacade;
     private final ProductGroupAssembler productGroupAssembler;
 
     public ProductGroupQueryService(
             ProductGroupReadManager productGroupReadManager,
             ProductSkuReadManager productSkuReadManager,
+            ProductEffectivePriceQueryFacade productEffectivePriceQueryFacade,
             ProductGroupAssembler productGroupAssembler) {
         this.productGroupReadManager = productGroupReadManager;
         this.productSkuReadManager = productSkuReadManager;
+        this.productEffectivePriceQueryFacade = productEffectivePriceQueryFacade;
         this.productGroupAssembler = productGroupAssembler;
     }
 
@@ -44,6 +55,28 @@ public class ProductGroupQueryService implements GetProductGroupUseCase, GetProd
         return productGroupAssembler.toProductGroupResponse(productGroup, products);
     }
 
+    @Override
+    public List<ProductGroupResponse> execute(List<Long> productGroupIds) {
+        List<ProductGroup> productGroups = productGroupReadManager.findByIds(productGroupIds);
+        if (productGroups.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> foundIds = productGroups.stream().map(ProductGroup::getIdValue).toList();
+        Map<Long, List<Product>> productsByGroupId =
+                productSkuReadManager.findByProductGroupIds(foundIds).stream()
+                        .collect(Collectors.groupingBy(Product::getProductGroupIdValue));
+
+        return productGroups.stream()
+                .map(
+                        productGroup ->
+                                productGroupAssembler.toProductGroupResponse(
+                                        productGroup,
+                                        productsByGroupId.getOrDefault(
+                                                productGroup.getIdValue(), List.of())))
+                .toList();
+    }
+
     @Override
     public List<ProductGroupSummaryResponse> execute(ProductGroupSearchQuery query) {
         List<ProductGroup> productGroups =
@@ -56,7 +89,7 @@ public class ProductGroupQueryService implements GetProductGroupUseCase, GetProd
                         query.offset(),
                         query.size());
 
-        return productGroupAssembler.toProductGroupSummaryResponses(productGroups);
+        return toSummaryResponses(productGroups);
     }
 
     @Override
@@ -68,4 +101,62 @@ public class ProductGroupQueryService implements GetProductGroupUseCase, GetProd
                 query.name(),
                 query.status());
     }
+
+    @Override
+    public SliceResponse<ProductGroupSummaryResponse> executeSlice(
+            ProductGroupSearchQuery query, String cursor) {
+        CursorPageRequest pageRequest = CursorPageRequest.of(cursor, query.size());
+        List<ProductGroup> productGroups =
+                productGroupReadManager.findByConditionsAfter(
+                        query.sellerId(),
+                        query.categoryId(),
+                        query.brandId(),
+                        query.name(),
+                        query.status(),
+                        toLastProductGroupId(pageRequest),
+                        pageRequest.fetchSize());
+
+        boolean hasNext = productGroups.size() > pageRequest.size();
+        List<ProductGroup> content =
+                hasNext ? productGroups.subList(0, pageRequest.size()) : productGroups;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ProductGroup last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.of(String.valueOf(last.getIdValue())).encode();
+        }
+
+        return SliceResponse.of(
+                toSummaryResponses(content),
+                pageRequest.size(),
+                hasNext,
+                nextCursor);
+    }
+
+    @Override
+    public long countUpTo(ProductGroupSearchQuery query, long maxCount) {
+        return productGroupReadManager.countByConditionsUpTo(
+                query.sellerId(),
+                query.categoryId(),
+                query.brandId(),
+                query.name(),
+                query.status(),
+                maxCount);
+    }
+
+    private List<ProductGroupSummaryResponse> toSummaryResponses(List<ProductGroup> productGroups) {
+        return productGroupAssembler.toProductGroupSummaryResponses(
+                productGroups, productEffectivePriceQueryFacade.findSalePrices(productGroups));
+    }
+
+    /**
+     * 커서에서 마지막 상품그룹 ID 추출
+     *
+     * <p>KeysetCursor가 아니면 레거시 숫자 ID 커서로 해석합니다.
+     */
+    private Long toLastProductGroupId(CursorPageRequest pageRequest) {
+        return KeysetCursor.decode(pageRequest.cursor())
+                .map(cursor -> Long.valueOf(cursor.lastValue()))
+                .orElseGet(pageRequest::cursorAsLong);
+    }
 }
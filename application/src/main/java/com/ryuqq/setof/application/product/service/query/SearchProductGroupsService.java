@@ -0,0 +1,42 @@
+package com.ryuqq.setof.application.product.service.query;
+
+import com.ryuqq.setof.application.common.response.SliceResponse;
+import com.ryuqq.setof.application.product.assembler.ProductSearchAssembler;
+import com.ryuqq.setof.application.product.dto.bundle.ProductSearchDocument;
+import com.ryuqq.setof.application.product.dto.query.ProductKeywordSearchQuery;
+import com.ryuqq.setof.application.product.dto.response.ProductSearchResponse;
+import com.ryuqq.setof.application.product.manager.query.ProductSearchReadManager;
+import com.ryuqq.setof.application.product.port.in.query.SearchProductGroupsUseCase;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상품 키워드 검색 Service
+ *
+ * <p>검색 인덱스에서만 조회하며 DB에는 접근하지 않습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class SearchProductGroupsService implements SearchProductGroupsUseCase {
+
+    private final ProductSearchReadManager productSearchReadManager;
+    private final ProductSearchAssembler productSearchAssembler;
+
+    public SearchProductGroupsService(
+            ProductSearchReadManager productSearchReadManager,
+            ProductSearchAssembler productSearchAssembler) {
+        this.productSearchReadManager = productSearchReadManager;
+        this.productSearchAssembler = productSearchAssembler;
+    }
+
+    @Override
+    public SliceResponse<ProductSearchResponse> execute(ProductKeywordSearchQuery query) {
+        SliceResponse<ProductSearchDocument> documents = productSearchReadManager.search(query);
+        return SliceResponse.of(
+                productSearchAssembler.toResponses(documents.content()),
+                documents.size(),
+                documents.hasNext(),
+                documents.nextCursor());
+    }
+}
@@ -1,5 +1,6 @@
 package com.ryuqq.setof.application.productdescription.service.command;
 
+import com.ryuqq.setof.application.product.event.ProductGroupEventDispatcher;
 import com.ryuqq.setof.application.productdescription.dto.command.UpdateProductDescriptionCommand;
 import com.ryuqq.setof.application.productdescription.factory.command.ProductDescriptionCommandFactory;
 import com.ryuqq.setof.application.productdescription.manager.command.ProductDescriptionPersistenceManager;
@@ -15,7 +16,7 @@ import org.springframework.stereotype.Service;
 /**
  * 상품설명 수정 서비스
  *
- * <p>상품설명을 수정합니다.
+ * <p>상품설명을 수정하고, 상품그룹 구성 변경 이벤트를 발행하여 전체 상품/썸네일 캐시를 무효화합니다.
  *
  * @author development-team
  * @since 1.0.0
@@ -26,14 +27,17 @@ public class UpdateProductDescriptionService implements UpdateProductDescription
     private final ProductDescriptionReadManager productDescriptionReadManager;
     private final ProductDescriptionPersistenceManager productDescriptionPersistenceManager;
     private final ProductDescriptionCommandFactory productDescriptionCommandFactory;
+    private final ProductGroupEventDispatcher productGroupEventDispatcher;
 
     public UpdateProductDescriptionService(
             ProductDescriptionReadManager productDescriptionReadManager,
             ProductDescriptionPersistenceManager productDescriptionPersistenceManager,
-            ProductDescriptionCommandFactory productDescriptionCommandFactory) {
+            ProductDescriptionCommandFactory productDescriptionCommandFactory,
+            ProductGroupEventDispatcher productGroupEventDispatcher) {
         this.productDescriptionReadManager = productDescriptionReadManager;
         this.productDescriptionPersistenceManager = productDescriptionPersistenceManager;
         this.productDescriptionCommandFactory = productDescriptionCommandFactory;
+        this.productGroupEventDispatcher = productGroupEventDispatcher;
     }
 
     @Override
@@ -49,5 +53,6 @@ public class UpdateProductDescriptionService implements UpdateProductDescription
         ProductDescription updated = productDescription.update(htmlContent, images, now);
 
         productDescriptionPersistenceManager.update(updated);
+        productGroupEventDispatcher.publishContentChanged(updated.getProductGroupIdValue(), now);
     }
 }
@@ -3,7 +3,10 @@ package com.ryuqq.setof.application.productimage.manager.query;
 import com.ryuqq.setof.application.productimage.port.out.query.ProductImageQueryPort;
 import com.ryuqq.setof.domain.productimage.aggregate.ProductImage;
 import com.ryuqq.setof.domain.productimage.exception.ProductImageNotFoundException;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
 /**
@@ -45,4 +48,53 @@ public class ProductImageReadManager {
     public List<ProductImage> findByProductGroupId(Long productGroupId) {
         return queryPort.findByProductGroupId(productGroupId);
     }
+
+    /**
+     * 상품그룹 ID 목록으로 이미지 목록 일괄 조회
+     *
+     * @param productGroupIds 상품그룹 ID 목록
+     * @return ProductImage 목록
+     */
+    public List<ProductImage> findByProductGroupIds(List<Long> productGroupIds) {
+        if (productGroupIds.isEmpty()) {
+            return List.of();
+        }
+        return queryPort.findByProductGroupIds(productGroupIds);
+    }
+
+    /**
+     * 상품그룹 ID 목록으로 대표 이미지 URL 일괄 조회
+     *
+     * <p>상품그룹별로 메인 이미지를 우선하고, 없으면 노출 순서가 가장 빠른 이미지를 대표 이미지로 선택합니다. CDN URL이 없으면 원본
+     * URL을 사용합니다.
+     *
+     * @param productGroupIds 상품그룹 ID 목록
+     * @return 상품그룹 ID → 대표 이미지 URL (이미지가 없는 상품그룹은 제외)
+     */
+    public Map<Long, String> findRepresentativeImageUrls(List<Long> productGroupIds) {
+        Map<Long, ProductImage> representatives = new HashMap<>();
+        Comparator<ProductImage> priority =
+                Comparator.comparing(ProductImage::isMain)
+                        .reversed()
+                        .thenComparingInt(ProductImage::getDisplayOrder);
+
+        for (ProductImage image : findByProductGroupIds(productGroupIds)) {
+            representatives.merge(
+                    image.getProductGroupIdValue(),
+                    image,
+                    (current, candidate) ->
+                            priority.compare(candidate, current) < 0 ? candidate : current);
+        }
+
+        Map<Long, String> imageUrls = new HashMap<>(representatives.size());
+        representatives.forEach(
+                (productGroupId, image) -> {
+                    String url =
+                            image.getCdnUrlValue() != null
+                                    ? image.getCdnUrlValue()
+                                    : image.getOriginUrlValue();
+                    imageUrls.put(productGroupId, url);
+                });
+        return imageUrls;
+    }
 }
@@ -26,4 +26,12 @@ public interface GetProductImageUseCase {
      * @return 상품이미지 목록
      */
     List<ProductImageResponse> getByProductGroupId(Long productGroupId);
+
+    /**
+     * 여러 상품그룹의 이미지 일괄 조회
+     *
+     * @param productGroupIds 상품그룹 ID 목록
+     * @return 상품이미지 목록 (상품그룹, 표시 순서 정렬)
+     */
+    List<ProductImageResponse> getByProductGroupIds(List<Long> productGroupIds);
 }
@@ -29,4 +29,12 @@ public interface ProductImageQueryPort {
      * @return ProductImage 목록
      */
     List<ProductImage> findByProductGroupId(Long productGroupId);
+
+    /**
+     * 상품그룹 ID 목록으로 이미지 목록 일괄 조회
+     *
+     * @param productGroupIds 상품그룹 ID 목록
+     * @return ProductImage 목록 (상품그룹, 표시 순서 정렬)
+     */
+    List<ProductImage> findByProductGroupIds(List<Long> productGroupIds);
 }
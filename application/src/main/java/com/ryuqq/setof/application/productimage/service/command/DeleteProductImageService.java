@@ -1,31 +1,58 @@
 package com.ryuqq.setof.application.productimage.service.command;
 
+import com.ryuqq.setof.application.product.event.ProductGroupEventDispatcher;
 import com.ryuqq.setof.application.productimage.manager.command.ProductImageWriteManager;
+import com.ryuqq.setof.application.productimage.manager.query.ProductImageReadManager;
 import com.ryuqq.setof.application.productimage.port.in.command.DeleteProductImageUseCase;
+import com.ryuqq.setof.domain.common.util.ClockHolder;
+import com.ryuqq.setof.domain.productimage.aggregate.ProductImage;
+import java.time.Instant;
 import org.springframework.stereotype.Service;
 
 /**
  * 상품이미지 삭제 Service
  *
+ * <p>삭제 후 상품그룹 구성 변경 이벤트를 발행하여 전체 상품/썸네일 캐시를 무효화합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
 @Service
 public class DeleteProductImageService implements DeleteProductImageUseCase {
 
+    private final ProductImageReadManager readManager;
     private final ProductImageWriteManager writeManager;
+    private final ProductGroupEventDispatcher productGroupEventDispatcher;
+    private final ClockHolder clockHolder;
 
-    public DeleteProductImageService(ProductImageWriteManager writeManager) {
+    public DeleteProductImageService(
+            ProductImageReadManager readManager,
+            ProductImageWriteManager writeManager,
+            ProductGroupEventDispatcher productGroupEventDispatcher,
+            ClockHolder clockHolder) {
+        this.readManager = readManager;
         this.writeManager = writeManager;
+        this.productGroupEventDispatcher = productGroupEventDispatcher;
+        this.clockHolder = clockHolder;
     }
 
     @Override
     public void delete(Long productImageId) {
+        // 삭제 전 소속 상품그룹 확인 (캐시 무효화 대상)
+        ProductImage productImage = readManager.findById(productImageId);
+
         writeManager.delete(productImageId);
+        publishContentChanged(productImage.getProductGroupIdValue());
     }
 
     @Override
     public void deleteByProductGroupId(Long productGroupId) {
         writeManager.deleteByProductGroupId(productGroupId);
+        publishContentChanged(productGroupId);
+    }
+
+    private void publishContentChanged(Long productGroupId) {
+        productGroupEventDispatcher.publishContentChanged(
+                productGroupId, Instant.now(clockHolder.getClock()));
     }
 }
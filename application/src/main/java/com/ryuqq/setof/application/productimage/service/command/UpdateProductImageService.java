@@ -1,17 +1,22 @@
 package com.ryuqq.setof.application.productimage.service.command;
 
+import com.ryuqq.setof.application.product.event.ProductGroupEventDispatcher;
 import com.ryuqq.setof.application.productimage.dto.command.UpdateProductImageCommand;
 import com.ryuqq.setof.application.productimage.manager.command.ProductImageWriteManager;
 import com.ryuqq.setof.application.productimage.manager.query.ProductImageReadManager;
 import com.ryuqq.setof.application.productimage.port.in.command.UpdateProductImageUseCase;
+import com.ryuqq.setof.domain.common.util.ClockHolder;
 import com.ryuqq.setof.domain.productimage.aggregate.ProductImage;
 import com.ryuqq.setof.domain.productimage.vo.ImageType;
 import com.ryuqq.setof.domain.productimage.vo.ImageUrl;
+import java.time.Instant;
 import org.springframework.stereotype.Service;
 
 /**
  * 상품이미지 수정 Service
  *
+ * <p>수정 후 상품그룹 구성 변경 이벤트를 발행하여 전체 상품/썸네일 캐시를 무효화합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -20,11 +25,18 @@ public class UpdateProductImageService implements UpdateProductImageUseCase {
 
     private final ProductImageReadManager readManager;
     private final ProductImageWriteManager writeManager;
+    private final ProductGroupEventDispatcher productGroupEventDispatcher;
+    private final ClockHolder clockHolder;
 
     public UpdateProductImageService(
-            ProductImageReadManager readManager, ProductImageWriteManager writeManager) {
+            ProductImageReadManager readManager,
+            ProductImageWriteManager writeManager,
+            ProductGroupEventDispatcher productGroupEventDispatcher,
+            ClockHolder clockHolder) {
         this.readManager = readManager;
         this.writeManager = writeManager;
+        this.productGroupEventDispatcher = productGroupEventDispatcher;
+        this.clockHolder = clockHolder;
     }
 
     @Override
@@ -38,5 +50,7 @@ public class UpdateProductImageService implements UpdateProductImageUseCase {
                         .changeDisplayOrder(command.displayOrder());
 
         writeManager.update(updatedImage);
+        productGroupEventDispatcher.publishContentChanged(
+                updatedImage.getProductGroupIdValue(), Instant.now(clockHolder.getClock()));
     }
 }
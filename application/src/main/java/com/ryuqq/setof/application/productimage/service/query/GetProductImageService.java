@@ -37,4 +37,10 @@ public class GetProductImageService implements GetProductImageUseCase {
         List<ProductImage> productImages = readManager.findByProductGroupId(productGroupId);
         return assembler.toResponses(productImages);
     }
+
+    @Override
+    public List<ProductImageResponse> getByProductGroupIds(List<Long> productGroupIds) {
+        List<ProductImage> productImages = readManager.findByProductGroupIds(productGroupIds);
+        return assembler.toResponses(productImages);
+    }
 }
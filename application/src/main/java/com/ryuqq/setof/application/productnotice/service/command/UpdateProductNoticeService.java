@@ -1,5 +1,6 @@
 package com.ryuqq.setof.application.productnotice.service.command;
 
+import com.ryuqq.setof.application.product.event.ProductGroupEventDispatcher;
 import com.ryuqq.setof.application.productnotice.dto.command.UpdateProductNoticeCommand;
 import com.ryuqq.setof.application.productnotice.factory.command.ProductNoticeCommandFactory;
 import com.ryuqq.setof.application.productnotice.manager.command.ProductNoticePersistenceManager;
@@ -14,7 +15,7 @@ import org.springframework.stereotype.Service;
 /**
  * 상품고시 수정 서비스
  *
- * <p>상품고시를 수정합니다.
+ * <p>상품고시를 수정하고, 상품그룹 구성 변경 이벤트를 발행하여 전체 상품/썸네일 캐시를 무효화합니다.
  *
  * @author development-team
  * @since 1.0.0
@@ -25,14 +26,17 @@ public class UpdateProductNoticeService implements UpdateProductNoticeUseCase {
     private final ProductNoticeReadManager productNoticeReadManager;
     private final ProductNoticePersistenceManager productNoticePersistenceManager;
     private final ProductNoticeCommandFactory productNoticeCommandFactory;
+    private final ProductGroupEventDispatcher productGroupEventDispatcher;
 
     public UpdateProductNoticeService(
             ProductNoticeReadManager productNoticeReadManager,
             ProductNoticePersistenceManager productNoticePersistenceManager,
-            ProductNoticeCommandFactory productNoticeCommandFactory) {
+            ProductNoticeCommandFactory productNoticeCommandFactory,
+            ProductGroupEventDispatcher productGroupEventDispatcher) {
         this.productNoticeReadManager = productNoticeReadManager;
         this.productNoticePersistenceManager = productNoticePersistenceManager;
         this.productNoticeCommandFactory = productNoticeCommandFactory;
+        this.productGroupEventDispatcher = productGroupEventDispatcher;
     }
 
     @Override
@@ -45,5 +49,6 @@ public class UpdateProductNoticeService implements UpdateProductNoticeUseCase {
         ProductNotice updated = productNotice.replaceItems(items, now);
 
         productNoticePersistenceManager.update(updated);
+        productGroupEventDispatcher.publishContentChanged(updated.getProductGroupId(), now);
     }
 }
@@ -7,6 +7,7 @@ import com.ryuqq.setof.domain.productstock.aggregate.ProductStock;
 import com.ryuqq.setof.domain.productstock.vo.StockQuantity;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
 /**
@@ -56,4 +57,30 @@ public class ProductStockAssembler {
     public List<ProductStockResponse> toResponses(List<ProductStock> productStocks) {
         return productStocks.stream().map(this::toResponse).toList();
     }
+
+    /**
+     * ProductStockResponse 목록에 실시간 수량 반영
+     *
+     * <p>실시간 수량이 없는 재고는 기존 응답(DB) 수량을 유지합니다. 캐시된 응답에도 재사용할 수 있도록 응답 DTO 기준으로 변환합니다.
+     *
+     * @param stockResponses ProductStockResponse 목록
+     * @param liveQuantities 재고 ID → 실시간 수량 (Redis)
+     * @return 실시간 수량이 반영된 ProductStockResponse 목록
+     */
+    public List<ProductStockResponse> withLiveQuantities(
+            List<ProductStockResponse> stockResponses, Map<Long, Integer> liveQuantities) {
+        if (liveQuantities.isEmpty()) {
+            return stockResponses;
+        }
+        return stockResponses.stream()
+                .map(
+                        stock ->
+                                ProductStockResponse.of(
+                                        stock.productStockId(),
+                                        stock.productId(),
+                                        liveQuantities.getOrDefault(
+                                                stock.productStockId(), stock.quantity()),
+                                        stock.updatedAt()))
+                .toList();
+    }
 }
@@ -0,0 +1,261 @@
+package com.ryuqq.setof.application.productstock.manager.command;
+
+import com.ryuqq.setof.application.common.port.out.StockCacheSyncPort;
+import com.ryuqq.setof.application.common.port.out.StockCounterPort;
+import com.ryuqq.setof.application.productstock.manager.query.ProductStockReadManager;
+import com.ryuqq.setof.domain.common.util.ClockHolder;
+import com.ryuqq.setof.domain.productstock.aggregate.ProductStock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * ProductStock Cache Sync Manager
+ *
+ * <p>{@link StockCacheSyncPort} 구현체로, Redis 재고 카운터({@link StockCounterPort})와 product_stocks 테이블 간의
+ * 동기화를 조율합니다.
+ *
+ * <p><strong>동기화 방향:</strong>
+ *
+ * <ul>
+ *   <li><b>DB → Redis</b>: Cache Miss 복구({@code SET NX}), 강제 동기화, 캐시 워밍
+ *   <li><b>Redis → DB</b>: 체크아웃에서 차감된 실시간 카운터를 product_stocks에 일괄 반영
+ * </ul>
+ *
+ * <p>Redis와 RDB 양쪽에 걸친 작업이므로 트랜잭션 경계를 Application Layer에서 관리하기 위해 Adapter가 아닌 Manager로
+ * 구현합니다. DB 접근은 ReadManager/PersistenceManager를 통해 수행합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductStockCacheSyncManager implements StockCacheSyncPort {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductStockCacheSyncManager.class);
+
+    private static final int WARM_BATCH_SIZE = 500;
+
+    private final ProductStockReadManager productStockReadManager;
+    private final ProductStockPersistenceManager productStockPersistenceManager;
+    private final StockCounterPort stockCounterPort;
+    private final ClockHolder clockHolder;
+
+    public ProductStockCacheSyncManager(
+            ProductStockReadManager productStockReadManager,
+            ProductStockPersistenceManager productStockPersistenceManager,
+            StockCounterPort stockCounterPort,
+            ClockHolder clockHolder) {
+        this.productStockReadManager = productStockReadManager;
+        this.productStockPersistenceManager = productStockPersistenceManager;
+        this.stockCounterPort = stockCounterPort;
+        this.clockHolder = clockHolder;
+    }
+
+    @Override
+    public int syncFromDatabase(Long productStockId) {
+        return syncFromDatabase(List.of(productStockId)).getOrDefault(productStockId, NOT_FOUND);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>키가 없는 경우에만 DB 값으로 초기화하므로, 동시에 차감된 카운터를 덮어쓰지 않습니다. 반환값은 초기화 이후의 Redis 값입니다.
+     */
+    @Override
+    public Map<Long, Integer> syncFromDatabase(List<Long> productStockIds) {
+        if (productStockIds == null || productStockIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Integer> databaseStocks =
+                toQuantityMap(productStockReadManager.findByIds(productStockIds));
+        stockCounterPort.initializeAllIfAbsent(databaseStocks);
+
+        Map<Long, Integer> cacheStocks = stockCounterPort.getStocks(productStockIds);
+        Map<Long, Integer> result = new LinkedHashMap<>();
+        for (Long productStockId : productStockIds) {
+            result.put(
+                    productStockId,
+                    databaseStocks.containsKey(productStockId)
+                            ? cacheStocks.getOrDefault(productStockId, NOT_FOUND)
+                            : NOT_FOUND);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean syncToDatabase(Long productStockId) {
+        return !syncToDatabase(List.of(productStockId)).isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>DB 재고를 먼저 읽고 Redis 재고를 읽은 뒤, 읽은 DB 값을 조건으로 반영합니다. 순서를 지키므로 관리자 수정({@code forceSync})이
+     * 사이에 끼어들어도 그 값을 덮어쓰지 않습니다.
+     */
+    @Override
+    public List<Long> syncToDatabase(List<Long> productStockIds) {
+        if (productStockIds == null || productStockIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> databaseStocks =
+                toQuantityMap(productStockReadManager.findByIds(productStockIds));
+        Map<Long, Integer> cacheStocks = stockCounterPort.getStocks(productStockIds);
+        return syncToDatabase(cacheStocks, databaseStocks);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Redis에 키가 있고 DB에 행이 있는 상품만 단일 UPDATE 문으로 반영합니다. 키가 없거나 음수인 값은 반영하지 않습니다. 일부 행이 조건
+     * 불일치로 건너뛰어지면 DB를 다시 읽어 실제 반영된 행만 반환합니다.
+     */
+    @Override
+    public List<Long> syncToDatabase(
+            Map<Long, Integer> cacheStocks, Map<Long, Integer> databaseStocks) {
+        if (cacheStocks == null || cacheStocks.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> entry : cacheStocks.entrySet()) {
+            if (entry.getValue() >= 0 && databaseStocks.containsKey(entry.getKey())) {
+                quantities.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+
+        Instant now = Instant.now(clockHolder.getClock());
+        long updated =
+                productStockPersistenceManager.updateQuantities(quantities, databaseStocks, now);
+        if (updated == quantities.size()) {
+            return List.copyOf(quantities.keySet());
+        }
+
+        Map<Long, Integer> currentStocks =
+                toQuantityMap(productStockReadManager.findByIds(List.copyOf(quantities.keySet())));
+        List<Long> written = new ArrayList<>(quantities.size());
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            if (entry.getValue().equals(currentStocks.get(entry.getKey()))) {
+                written.add(entry.getKey());
+            }
+        }
+        log.info(
+                "Skipped stock write-back for rows changed after read. requested={}, written={}",
+                quantities.size(),
+                written.size());
+        return written;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>ID가 없거나 검증 결과가 없으면 캐시/DB 모두 {@link #NOT_FOUND}인 결과를 반환합니다.
+     */
+    @Override
+    public StockConsistencyResult verifyConsistency(Long productStockId) {
+        if (productStockId == null) {
+            return StockConsistencyResult.of(null, NOT_FOUND, NOT_FOUND);
+        }
+        List<StockConsistencyResult> results = verifyConsistency(List.of(productStockId));
+        return results.isEmpty()
+                ? StockConsistencyResult.of(productStockId, NOT_FOUND, NOT_FOUND)
+                : results.get(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>MGET 1회와 DB IN 조회 1회로 검증합니다.
+     */
+    @Override
+    public List<StockConsistencyResult> verifyConsistency(List<Long> productStockIds) {
+        if (productStockIds == null || productStockIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> cacheStocks = stockCounterPort.getStocks(productStockIds);
+        Map<Long, Integer> databaseStocks =
+                toQuantityMap(productStockReadManager.findByIds(productStockIds));
+
+        List<StockConsistencyResult> results = new ArrayList<>(productStockIds.size());
+        for (Long productStockId : productStockIds) {
+            results.add(
+                    StockConsistencyResult.of(
+                            productStockId,
+                            cacheStocks.getOrDefault(productStockId, NOT_FOUND),
+                            databaseStocks.getOrDefault(productStockId, NOT_FOUND)));
+        }
+        return results;
+    }
+
+    @Override
+    public int forceSync(Long productStockId) {
+        Map<Long, Integer> databaseStocks =
+                toQuantityMap(productStockReadManager.findByIds(List.of(productStockId)));
+        Integer quantity = databaseStocks.get(productStockId);
+        if (quantity == null) {
+            return NOT_FOUND;
+        }
+
+        stockCounterPort.initialize(productStockId, quantity);
+        return quantity;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>없는 키는 DB 값으로 초기화하고, 이미 있는 키는 값을 유지한 채 TTL만 연장합니다. 세일 이벤트 전 판매자 단위 사전 워밍에 사용합니다.
+     */
+    @Override
+    public int warmCache(Long sellerId) {
+        if (sellerId != null) {
+            List<ProductStock> stocks = productStockReadManager.findBySellerId(sellerId);
+            int warmed = 0;
+            for (int from = 0; from < stocks.size(); from += WARM_BATCH_SIZE) {
+                int to = Math.min(from + WARM_BATCH_SIZE, stocks.size());
+                warmed += warm(stocks.subList(from, to));
+            }
+            return warmed;
+        }
+
+        int warmed = 0;
+        Long lastProductStockId = null;
+        List<ProductStock> page;
+        do {
+            page = productStockReadManager.findByIdGreaterThan(lastProductStockId, WARM_BATCH_SIZE);
+            if (page.isEmpty()) {
+                break;
+            }
+            warmed += warm(page);
+            lastProductStockId = page.get(page.size() - 1).getIdValue();
+        } while (page.size() == WARM_BATCH_SIZE);
+        return warmed;
+    }
+
+    private int warm(List<ProductStock> stocks) {
+        Map<Long, Integer> quantities = toQuantityMap(stocks);
+        stockCounterPort.initializeAllIfAbsent(quantities);
+        stockCounterPort.refreshTtl(List.copyOf(quantities.keySet()));
+        return quantities.size();
+    }
+
+    private Map<Long, Integer> toQuantityMap(List<ProductStock> stocks) {
+        Map<Long, Integer> quantities = new HashMap<>(stocks.size());
+        for (ProductStock stock : stocks) {
+            quantities.put(stock.getIdValue(), stock.getQuantityValue());
+        }
+        return quantities;
+    }
+}
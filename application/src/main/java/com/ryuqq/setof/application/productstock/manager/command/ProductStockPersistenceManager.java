@@ -2,6 +2,8 @@ package com.ryuqq.setof.application.productstock.manager.command;
 
 import com.ryuqq.setof.application.productstock.port.out.command.ProductStockPersistencePort;
 import com.ryuqq.setof.domain.productstock.aggregate.ProductStock;
+import java.time.Instant;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,4 +44,21 @@ public class ProductStockPersistenceManager {
     public void update(ProductStock productStock) {
         productStockPersistencePort.update(productStock);
     }
+
+    /**
+     * 재고 수량 조건부 일괄 업데이트
+     *
+     * @param quantities productStockId → 새 수량
+     * @param expectedQuantities productStockId → 기대 DB 수량
+     * @param now 수정 시각
+     * @return 업데이트된 행 수
+     */
+    @Transactional
+    public long updateQuantities(
+            Map<Long, Integer> quantities, Map<Long, Integer> expectedQuantities, Instant now) {
+        if (quantities == null || quantities.isEmpty()) {
+            return 0;
+        }
+        return productStockPersistencePort.updateQuantities(quantities, expectedQuantities, now);
+    }
 }
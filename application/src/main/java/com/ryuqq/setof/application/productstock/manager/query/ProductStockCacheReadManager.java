@@ -0,0 +1,54 @@
+package com.ryuqq.setof.application.productstock.manager.query;
+
+import com.ryuqq.setof.application.common.port.out.StockCounterQueryPort;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * ProductStock Cache Read Manager
+ *
+ * <p>Redis 실시간 재고 카운터 조회. Redis 조회이므로 트랜잭션을 사용하지 않습니다. 조회 화면용 보조 데이터이므로 Redis 장애 시
+ * 예외 대신 빈 결과를 반환하고, 호출자는 DB 수량으로 응답합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ProductStockCacheReadManager {
+
+    private final StockCounterQueryPort stockCounterQueryPort;
+
+    public ProductStockCacheReadManager(StockCounterQueryPort stockCounterQueryPort) {
+        this.stockCounterQueryPort = stockCounterQueryPort;
+    }
+
+    /**
+     * Redis에 적재된 실시간 재고 수량 조회 (MGET 1회)
+     *
+     * <p>키가 없는 재고는 결과에서 제외되므로, 호출자는 DB 수량으로 보완해야 합니다. Redis 조회에 실패하면 빈 결과를 반환합니다.
+     *
+     * @param productStockIds 재고 ID 목록
+     * @return 재고 ID → 실시간 수량 (키가 있는 재고만, 조회 실패 시 빈 Map)
+     */
+    public Map<Long, Integer> findCachedQuantities(List<Long> productStockIds) {
+        if (productStockIds == null || productStockIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Integer> cacheStocks;
+        try {
+            cacheStocks = stockCounterQueryPort.getStocks(productStockIds);
+        } catch (RuntimeException e) {
+            return Map.of();
+        }
+        Map<Long, Integer> quantities = new HashMap<>(cacheStocks.size());
+        for (Map.Entry<Long, Integer> entry : cacheStocks.entrySet()) {
+            if (entry.getValue() >= 0) {
+                quantities.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return quantities;
+    }
+}
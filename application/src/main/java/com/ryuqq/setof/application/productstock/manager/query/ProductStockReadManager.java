@@ -67,4 +67,41 @@ public class ProductStockReadManager {
                                 new IllegalArgumentException(
                                         "해당 재고 정보가 없습니다. productStockId: " + productStockId));
     }
+
+    /**
+     * 여러 재고 ID로 일괄 조회
+     *
+     * @param productStockIds 재고 ID 목록
+     * @return 재고 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ProductStock> findByIds(List<Long> productStockIds) {
+        if (productStockIds == null || productStockIds.isEmpty()) {
+            return List.of();
+        }
+        return productStockQueryPort.findByIds(productStockIds);
+    }
+
+    /**
+     * 판매자의 전체 재고 조회
+     *
+     * @param sellerId 판매자 ID
+     * @return 재고 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ProductStock> findBySellerId(Long sellerId) {
+        return productStockQueryPort.findBySellerId(sellerId);
+    }
+
+    /**
+     * 재고 ID 커서 기반 순차 조회
+     *
+     * @param lastProductStockId 마지막으로 조회한 재고 ID (처음이면 null)
+     * @param size 조회 크기
+     * @return 재고 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ProductStock> findByIdGreaterThan(Long lastProductStockId, int size) {
+        return productStockQueryPort.findByIdGreaterThan(lastProductStockId, size);
+    }
 }
@@ -1,6 +1,8 @@
 package com.ryuqq.setof.application.productstock.port.out.command;
 
 import com.ryuqq.setof.domain.productstock.aggregate.ProductStock;
+import java.time.Instant;
+import java.util.Map;
 
 /**
  * ProductStock Persistence Port (Out)
@@ -26,4 +28,18 @@ public interface ProductStockPersistencePort {
      * @param productStock 업데이트할 재고
      */
     void update(ProductStock productStock);
+
+    /**
+     * 재고 수량 조건부 일괄 업데이트
+     *
+     * <p>Redis 카운터 값을 DB에 반영할 때 사용합니다. 현재 DB 수량이 기대값과 같은 행만 단일 UPDATE 문으로 변경하므로, 값을 읽은 뒤
+     * 관리자 수정 등으로 바뀐 행은 덮어쓰지 않습니다. 버전을 증가시켜 진행 중인 낙관적 락 수정과 충돌하도록 합니다.
+     *
+     * @param quantities productStockId → 새 수량
+     * @param expectedQuantities productStockId → 기대 DB 수량 (값을 읽은 시점의 수량)
+     * @param now 수정 시각
+     * @return 업데이트된 행 수
+     */
+    long updateQuantities(
+            Map<Long, Integer> quantities, Map<Long, Integer> expectedQuantities, Instant now);
 }
@@ -37,4 +37,31 @@ public interface ProductStockQueryPort {
      * @return 재고 (없으면 empty)
      */
     Optional<ProductStock> findById(Long productStockId);
+
+    /**
+     * 여러 재고 ID로 일괄 조회
+     *
+     * @param productStockIds 재고 ID 목록
+     * @return 재고 목록
+     */
+    List<ProductStock> findByIds(List<Long> productStockIds);
+
+    /**
+     * 판매자의 전체 재고 조회 (삭제되지 않은 상품 기준)
+     *
+     * @param sellerId 판매자 ID
+     * @return 재고 목록
+     */
+    List<ProductStock> findBySellerId(Long sellerId);
+
+    /**
+     * 재고 ID 커서 기반 순차 조회
+     *
+     * <p>lastProductStockId보다 큰 재고를 ID 오름차순으로 size만큼 조회합니다. 전체 재고 스캔(정합성 검증) 용도입니다.
+     *
+     * @param lastProductStockId 마지막으로 조회한 재고 ID (처음이면 null)
+     * @param size 조회 크기
+     * @return 재고 목록
+     */
+    List<ProductStock> findByIdGreaterThan(Long lastProductStockId, Integer size);
 }
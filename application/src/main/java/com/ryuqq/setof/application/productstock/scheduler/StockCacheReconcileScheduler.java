@@ -0,0 +1,171 @@
+package com.ryuqq.setof.application.productstock.scheduler;
+
+import com.ryuqq.setof.application.common.port.out.StockCacheSyncPort;
+import com.ryuqq.setof.application.common.port.out.StockCacheSyncPort.StockConsistencyResult;
+import com.ryuqq.setof.application.common.port.out.StockCounterPort;
+import com.ryuqq.setof.application.productstock.manager.query.ProductStockReadManager;
+import com.ryuqq.setof.domain.productstock.aggregate.ProductStock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stock Cache Reconcile Scheduler
+ *
+ * <p>Redis 재고 카운터와 product_stocks 테이블을 주기적으로 대사(reconcile)하는 스케줄러입니다.
+ *
+ * <p>스케줄러 동작:
+ *
+ * <ul>
+ *   <li>재고 ID 커서로 product_stocks 전체를 페이지 단위 스캔
+ *   <li>페이지마다 MGET 1회로 {@link StockConsistencyResult} 일괄 생성
+ *   <li>Cache Miss → DB 값으로 초기화 (SET NX)
+ *   <li>불일치(Drift) → 체크아웃에서 차감된 Redis 값을 DB에 일괄 반영 (페이지를 읽은 시점의 DB 값이 바뀐 행은 제외)
+ *   <li>존재하는 키는 TTL 연장 → TTL 만료로 인한 Cache Miss 예방
+ * </ul>
+ *
+ * <p>핫 셀러 사전 워밍: {@code stock.reconcile.hot-seller-ids}에 지정된 판매자의 전체 SKU를 {@code
+ * stock.reconcile.warm-cron} 주기로 워밍합니다 (세일 이벤트 전 실행되도록 설정).
+ *
+ * <p>주의사항:
+ *
+ * <ul>
+ *   <li>{@code stock.reconcile.enabled=true}인 인스턴스에서만 동작 (다중 인스턴스 중복 실행 방지)
+ *   <li>페이지 처리 실패 시 해당 페이지는 스킵 (다음 주기에 재시도)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "stock.reconcile.enabled", havingValue = "true")
+public class StockCacheReconcileScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(StockCacheReconcileScheduler.class);
+
+    private static final int PAGE_SIZE = 500;
+
+    private final ProductStockReadManager productStockReadManager;
+    private final StockCounterPort stockCounterPort;
+    private final StockCacheSyncPort stockCacheSyncPort;
+    private final List<Long> hotSellerIds;
+
+    public StockCacheReconcileScheduler(
+            ProductStockReadManager productStockReadManager,
+            StockCounterPort stockCounterPort,
+            StockCacheSyncPort stockCacheSyncPort,
+            @Value("${stock.reconcile.hot-seller-ids:}") List<Long> hotSellerIds) {
+        this.productStockReadManager = productStockReadManager;
+        this.stockCounterPort = stockCounterPort;
+        this.stockCacheSyncPort = stockCacheSyncPort;
+        this.hotSellerIds = List.copyOf(hotSellerIds);
+    }
+
+    /**
+     * 재고 캐시-DB 대사
+     *
+     * <p>기본 5분 간격. 재고 키 TTL(기본 24시간)보다 충분히 짧아야 합니다.
+     */
+    @Scheduled(fixedDelayString = "${stock.reconcile.fixed-delay-ms:300000}")
+    public void reconcile() {
+        log.info("[Scheduler] Starting stock cache reconcile job");
+
+        int scanned = 0;
+        int warmed = 0;
+        int written = 0;
+        int failedPages = 0;
+        Long lastProductStockId = null;
+        List<ProductStock> page;
+
+        do {
+            page = productStockReadManager.findByIdGreaterThan(lastProductStockId, PAGE_SIZE);
+            if (page.isEmpty()) {
+                break;
+            }
+            lastProductStockId = page.get(page.size() - 1).getIdValue();
+            scanned += page.size();
+
+            try {
+                PageResult result = reconcilePage(page);
+                warmed += result.warmed();
+                written += result.written();
+            } catch (Exception e) {
+                failedPages++;
+                log.error(
+                        "[Scheduler] Failed to reconcile stock page ending at productStockId={}",
+                        lastProductStockId,
+                        e);
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        log.info(
+                "[Scheduler] Completed. scanned={}, warmed={}, writtenBack={}, failedPages={}",
+                scanned,
+                warmed,
+                written,
+                failedPages);
+    }
+
+    /**
+     * 핫 셀러 재고 사전 워밍
+     *
+     * <p>기본 매일 09:50 (세일 오픈 10분 전). 설정된 판매자가 없으면 아무것도 하지 않습니다.
+     */
+    @Scheduled(cron = "${stock.reconcile.warm-cron:0 50 9 * * *}")
+    public void warmHotSellers() {
+        for (Long sellerId : hotSellerIds) {
+            try {
+                int warmed = stockCacheSyncPort.warmCache(sellerId);
+                log.info("[Scheduler] Warmed stock cache. sellerId={}, skus={}", sellerId, warmed);
+            } catch (Exception e) {
+                log.error("[Scheduler] Failed to warm stock cache for sellerId={}", sellerId, e);
+            }
+        }
+    }
+
+    private PageResult reconcilePage(List<ProductStock> page) {
+        List<Long> productStockIds = new ArrayList<>(page.size());
+        Map<Long, Integer> databaseStocks = new HashMap<>(page.size());
+        for (ProductStock stock : page) {
+            productStockIds.add(stock.getIdValue());
+            databaseStocks.put(stock.getIdValue(), stock.getQuantityValue());
+        }
+
+        Map<Long, Integer> cacheStocks = stockCounterPort.getStocks(productStockIds);
+
+        Map<Long, Integer> misses = new HashMap<>();
+        Map<Long, Integer> drifted = new HashMap<>();
+        List<Long> cached = new ArrayList<>();
+        for (Long productStockId : productStockIds) {
+            StockConsistencyResult result =
+                    StockConsistencyResult.of(
+                            productStockId,
+                            cacheStocks.getOrDefault(productStockId, StockCacheSyncPort.NOT_FOUND),
+                            databaseStocks.get(productStockId));
+            if (result.isCacheMiss()) {
+                misses.put(productStockId, result.databaseStock());
+                continue;
+            }
+            cached.add(productStockId);
+            if (!result.consistent()) {
+                drifted.put(productStockId, result.cacheStock());
+            }
+        }
+
+        stockCounterPort.initializeAllIfAbsent(misses);
+        stockCounterPort.refreshTtl(cached);
+        // 페이지를 읽은 시점의 DB 값이 그대로인 행만 반영 (그 사이 관리자 수정은 덮어쓰지 않음)
+        List<Long> written = stockCacheSyncPort.syncToDatabase(drifted, databaseStocks);
+
+        return new PageResult(misses.size(), written.size());
+    }
+
+    private record PageResult(int warmed, int written) {}
+}
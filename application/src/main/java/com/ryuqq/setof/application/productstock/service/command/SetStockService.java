@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.productstock.service.command;
 
 import com.ryuqq.setof.application.common.port.out.DistributedLockPort;
+import com.ryuqq.setof.application.common.port.out.StockCacheSyncPort;
 import com.ryuqq.setof.application.productstock.dto.command.SetStockCommand;
 import com.ryuqq.setof.application.productstock.factory.command.ProductStockCommandFactory;
 import com.ryuqq.setof.application.productstock.manager.command.ProductStockPersistenceManager;
@@ -39,16 +40,19 @@ public class SetStockService implements SetStockUseCase {
     private final ProductStockPersistenceManager productStockPersistenceManager;
     private final ProductStockCommandFactory productStockCommandFactory;
     private final DistributedLockPort distributedLockPort;
+    private final StockCacheSyncPort stockCacheSyncPort;
 
     public SetStockService(
             ProductStockReadManager productStockReadManager,
             ProductStockPersistenceManager productStockPersistenceManager,
             ProductStockCommandFactory productStockCommandFactory,
-            DistributedLockPort distributedLockPort) {
+            DistributedLockPort distributedLockPort,
+            StockCacheSyncPort stockCacheSyncPort) {
         this.productStockReadManager = productStockReadManager;
         this.productStockPersistenceManager = productStockPersistenceManager;
         this.productStockCommandFactory = productStockCommandFactory;
         this.distributedLockPort = distributedLockPort;
+        this.stockCacheSyncPort = stockCacheSyncPort;
     }
 
     @Override
@@ -77,5 +81,8 @@ public class SetStockService implements SetStockUseCase {
         ProductStock updated = productStock.setQuantity(command.quantity(), now);
 
         productStockPersistenceManager.update(updated);
+
+        // 관리자 설정 값이 Redis 카운터에도 즉시 반영되도록 강제 동기화
+        stockCacheSyncPort.forceSync(updated.getIdValue());
     }
 }
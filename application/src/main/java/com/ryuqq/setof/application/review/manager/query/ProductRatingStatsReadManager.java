@@ -2,6 +2,7 @@ package com.ryuqq.setof.application.review.manager.query;
 
 import com.ryuqq.setof.application.review.port.out.query.ProductRatingStatsQueryPort;
 import com.ryuqq.setof.domain.review.aggregate.ProductRatingStats;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
 
@@ -32,6 +33,19 @@ public class ProductRatingStatsReadManager {
         return productRatingStatsQueryPort.findByProductGroupId(productGroupId);
     }
 
+    /**
+     * 상품 그룹 ID 목록으로 평점 통계 일괄 조회
+     *
+     * @param productGroupIds 상품 그룹 ID 목록
+     * @return ProductRatingStats 목록 (통계가 없는 상품 그룹은 제외)
+     */
+    public List<ProductRatingStats> findByProductGroupIds(List<Long> productGroupIds) {
+        if (productGroupIds.isEmpty()) {
+            return List.of();
+        }
+        return productRatingStatsQueryPort.findByProductGroupIds(productGroupIds);
+    }
+
     /**
      * 상품 그룹 ID로 평점 통계 조회 (없으면 새로 생성)
      *
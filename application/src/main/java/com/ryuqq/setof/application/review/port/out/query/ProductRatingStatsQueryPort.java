@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.review.port.out.query;
 
 import com.ryuqq.setof.domain.review.aggregate.ProductRatingStats;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,6 +19,16 @@ public interface ProductRatingStatsQueryPort {
      */
     Optional<ProductRatingStats> findByProductGroupId(Long productGroupId);
 
+    /**
+     * 상품 그룹 ID 목록으로 평점 통계 일괄 조회
+     *
+     * <p>통계가 없는 상품 그룹은 결과에서 제외됩니다.
+     *
+     * @param productGroupIds 상품 그룹 ID 목록
+     * @return ProductRatingStats Domain 목록
+     */
+    List<ProductRatingStats> findByProductGroupIds(List<Long> productGroupIds);
+
     /**
      * 상품 그룹 ID로 평점 통계 존재 여부 확인
      *
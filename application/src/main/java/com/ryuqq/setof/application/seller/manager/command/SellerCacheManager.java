@@ -0,0 +1,108 @@
+package com.ryuqq.setof.application.seller.manager.command;
+
+import com.ryuqq.setof.application.common.dto.CacheTag;
+import com.ryuqq.setof.application.common.port.out.CachePort;
+import com.ryuqq.setof.application.seller.dto.response.SellerResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Seller Cache Manager
+ *
+ * <p>셀러 상세 캐시의 조회/무효화를 관리합니다. 값은 {@link CacheTag#seller(long)} 태그로 저장하므로, 셀러가 변경되면 같은 태그로
+ * 등록된 셀러 의존 캐시가 {@link CachePort#evictByTag(CacheTag)} 한 번으로 함께 무효화됩니다.
+ *
+ * <p><strong>무효화 시점:</strong> 셀러 수정/승인 상태 변경/삭제 시 즉시 한 번, 커밋 후 한 번 더 삭제합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class SellerCacheManager {
+
+    private static final Logger log = LoggerFactory.getLogger(SellerCacheManager.class);
+
+    private static final String KEY_PREFIX = "cache::seller::";
+
+    private final CachePort<Object> cachePort;
+    private final Duration ttl;
+
+    public SellerCacheManager(
+            CachePort<Object> cachePort, @Value("${seller.cache.ttl:10m}") Duration ttl) {
+        this.cachePort = cachePort;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 셀러 상세 조회, Miss 시 적재 후 셀러 태그와 함께 저장
+     *
+     * <p>캐시 장애 시에는 DB 조회 결과를 그대로 반환합니다.
+     *
+     * @param sellerId 셀러 ID
+     * @param loader DB 조회 함수
+     * @return 셀러 상세
+     */
+    public SellerResponse getSeller(Long sellerId, Supplier<SellerResponse> loader) {
+        String key = toKey(sellerId);
+        Optional<SellerResponse> cached = readQuietly(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        SellerResponse seller = loader.get();
+        try {
+            cachePort.set(key, seller, ttl, List.of(CacheTag.seller(sellerId)));
+        } catch (RuntimeException e) {
+            log.warn("Failed to cache seller. sellerId={}", sellerId, e);
+        }
+        return seller;
+    }
+
+    /**
+     * 셀러 태그로 등록된 캐시 무효화
+     *
+     * @param sellerId 셀러 ID
+     */
+    public void evict(Long sellerId) {
+        evictQuietly(sellerId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            evictQuietly(sellerId);
+                        }
+                    });
+        }
+    }
+
+    private Optional<SellerResponse> readQuietly(String key) {
+        try {
+            return cachePort.get(key, SellerResponse.class);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read seller cache. key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    private void evictQuietly(Long sellerId) {
+        try {
+            cachePort.evictByTag(CacheTag.seller(sellerId));
+        } catch (RuntimeException e) {
+            log.error("Failed to evict seller cache. sellerId={}", sellerId, e);
+        }
+    }
+
+    private String toKey(Long sellerId) {
+        return KEY_PREFIX + sellerId;
+    }
+}
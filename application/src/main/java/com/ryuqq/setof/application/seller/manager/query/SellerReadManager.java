@@ -38,6 +38,22 @@ public class SellerReadManager {
                 .orElseThrow(() -> new SellerNotFoundException(sellerId));
     }
 
+    /**
+     * ID 목록으로 Seller 일괄 조회
+     *
+     * <p>존재하지 않는 ID는 예외 없이 결과에서 제외됩니다.
+     *
+     * @param sellerIds Seller ID 목록
+     * @return Seller 목록
+     */
+    public List<Seller> findByIds(List<Long> sellerIds) {
+        if (sellerIds.isEmpty()) {
+            return List.of();
+        }
+        List<SellerId> ids = sellerIds.stream().map(SellerId::of).toList();
+        return sellerQueryPort.findByIds(ids);
+    }
+
     /**
      * 조건으로 Seller 목록 조회
      *
@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.seller.port.in.query;
 
 import com.ryuqq.setof.application.seller.dto.response.SellerResponse;
+import java.util.List;
 
 /**
  * Get Seller UseCase (Query)
@@ -19,4 +20,14 @@ public interface GetSellerUseCase {
      * @return 셀러 상세 정보
      */
     SellerResponse execute(Long sellerId);
+
+    /**
+     * 셀러 ID 목록으로 일괄 조회
+     *
+     * <p>존재하지 않는 ID는 예외 없이 결과에서 제외됩니다.
+     *
+     * @param sellerIds 셀러 ID 목록
+     * @return 셀러 상세 정보 목록
+     */
+    List<SellerResponse> execute(List<Long> sellerIds);
 }
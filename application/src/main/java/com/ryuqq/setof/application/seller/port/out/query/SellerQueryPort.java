@@ -23,6 +23,16 @@ public interface SellerQueryPort {
      */
     Optional<Seller> findById(SellerId id);
 
+    /**
+     * ID 목록으로 Seller 일괄 조회
+     *
+     * <p>존재하지 않거나 삭제된 ID는 결과에서 제외됩니다.
+     *
+     * @param ids Seller ID 목록 (Value Object)
+     * @return Seller Domain 목록
+     */
+    List<Seller> findByIds(List<SellerId> ids);
+
     /**
      * 셀러명으로 검색
      *
@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.seller.service.command;
 
 import com.ryuqq.setof.application.seller.dto.command.DeleteSellerCommand;
+import com.ryuqq.setof.application.seller.manager.command.SellerCacheManager;
 import com.ryuqq.setof.application.seller.manager.command.SellerPersistenceManager;
 import com.ryuqq.setof.application.seller.manager.query.SellerReadManager;
 import com.ryuqq.setof.application.seller.port.in.command.DeleteSellerUseCase;
@@ -18,6 +19,7 @@ import org.springframework.stereotype.Service;
  *   <li>SellerReadManager로 기존 셀러 조회
  *   <li>도메인 delete() 메서드 호출
  *   <li>SellerPersistenceManager로 저장
+ *   <li>SellerCacheManager로 셀러 태그 캐시 무효화
  * </ol>
  *
  * @author development-team
@@ -28,14 +30,17 @@ public class DeleteSellerService implements DeleteSellerUseCase {
 
     private final SellerReadManager sellerReadManager;
     private final SellerPersistenceManager sellerPersistenceManager;
+    private final SellerCacheManager sellerCacheManager;
     private final ClockHolder clockHolder;
 
     public DeleteSellerService(
             SellerReadManager sellerReadManager,
             SellerPersistenceManager sellerPersistenceManager,
+            SellerCacheManager sellerCacheManager,
             ClockHolder clockHolder) {
         this.sellerReadManager = sellerReadManager;
         this.sellerPersistenceManager = sellerPersistenceManager;
+        this.sellerCacheManager = sellerCacheManager;
         this.clockHolder = clockHolder;
     }
 
@@ -51,5 +56,6 @@ public class DeleteSellerService implements DeleteSellerUseCase {
         Seller deletedSeller = existingSeller.delete(now);
 
         sellerPersistenceManager.persist(deletedSeller);
+        sellerCacheManager.evict(command.sellerId());
     }
 }
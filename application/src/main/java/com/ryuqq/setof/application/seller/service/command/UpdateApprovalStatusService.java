@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.seller.service.command;
 
 import com.ryuqq.setof.application.seller.dto.command.UpdateApprovalStatusCommand;
+import com.ryuqq.setof.application.seller.manager.command.SellerCacheManager;
 import com.ryuqq.setof.application.seller.manager.command.SellerPersistenceManager;
 import com.ryuqq.setof.application.seller.manager.query.SellerReadManager;
 import com.ryuqq.setof.application.seller.port.in.command.UpdateApprovalStatusUseCase;
@@ -19,6 +20,7 @@ import org.springframework.stereotype.Service;
  *   <li>SellerReadManager로 기존 셀러 조회
  *   <li>상태에 따른 도메인 메서드 호출 (approve, reject, suspend)
  *   <li>SellerPersistenceManager로 저장
+ *   <li>SellerCacheManager로 셀러 태그 캐시 무효화
  * </ol>
  *
  * @author development-team
@@ -29,14 +31,17 @@ public class UpdateApprovalStatusService implements UpdateApprovalStatusUseCase
 
     private final SellerReadManager sellerReadManager;
     private final SellerPersistenceManager sellerPersistenceManager;
+    private final SellerCacheManager sellerCacheManager;
     private final ClockHolder clockHolder;
 
     public UpdateApprovalStatusService(
             SellerReadManager sellerReadManager,
             SellerPersistenceManager sellerPersistenceManager,
+            SellerCacheManager sellerCacheManager,
             ClockHolder clockHolder) {
         this.sellerReadManager = sellerReadManager;
         this.sellerPersistenceManager = sellerPersistenceManager;
+        this.sellerCacheManager = sellerCacheManager;
         this.clockHolder = clockHolder;
     }
 
@@ -56,6 +61,7 @@ public class UpdateApprovalStatusService implements UpdateApprovalStatusUseCase
 
         if (updatedSeller != existingSeller) {
             sellerPersistenceManager.persist(updatedSeller);
+            sellerCacheManager.evict(command.sellerId());
         }
     }
 }
@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.seller.service.command;
 
 import com.ryuqq.setof.application.seller.dto.command.UpdateSellerCommand;
+import com.ryuqq.setof.application.seller.manager.command.SellerCacheManager;
 import com.ryuqq.setof.application.seller.manager.command.SellerPersistenceManager;
 import com.ryuqq.setof.application.seller.manager.query.SellerReadManager;
 import com.ryuqq.setof.application.seller.port.in.command.UpdateSellerUseCase;
@@ -30,6 +31,7 @@ import org.springframework.stereotype.Service;
  *   <li>SellerReadManager로 기존 셀러 조회
  *   <li>VO 생성 및 update 메서드 호출
  *   <li>SellerPersistenceManager로 저장
+ *   <li>SellerCacheManager로 셀러 태그 캐시 무효화
  * </ol>
  *
  * @author development-team
@@ -40,14 +42,17 @@ public class UpdateSellerService implements UpdateSellerUseCase {
 
     private final SellerReadManager sellerReadManager;
     private final SellerPersistenceManager sellerPersistenceManager;
+    private final SellerCacheManager sellerCacheManager;
     private final ClockHolder clockHolder;
 
     public UpdateSellerService(
             SellerReadManager sellerReadManager,
             SellerPersistenceManager sellerPersistenceManager,
+            SellerCacheManager sellerCacheManager,
             ClockHolder clockHolder) {
         this.sellerReadManager = sellerReadManager;
         this.sellerPersistenceManager = sellerPersistenceManager;
+        this.sellerCacheManager = sellerCacheManager;
         this.clockHolder = clockHolder;
     }
 
@@ -72,6 +77,7 @@ public class UpdateSellerService implements UpdateSellerUseCase {
                         Instant.now(clockHolder.getClock()));
 
         sellerPersistenceManager.persist(updatedSeller);
+        sellerCacheManager.evict(command.sellerId());
     }
 
     private BusinessInfo createBusinessInfo(UpdateSellerCommand command) {
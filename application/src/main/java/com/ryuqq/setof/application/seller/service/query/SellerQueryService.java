@@ -5,6 +5,7 @@ import com.ryuqq.setof.application.seller.assembler.SellerAssembler;
 import com.ryuqq.setof.application.seller.dto.query.SellerSearchQuery;
 import com.ryuqq.setof.application.seller.dto.response.SellerResponse;
 import com.ryuqq.setof.application.seller.dto.response.SellerSummaryResponse;
+import com.ryuqq.setof.application.seller.manager.command.SellerCacheManager;
 import com.ryuqq.setof.application.seller.manager.query.SellerReadManager;
 import com.ryuqq.setof.application.seller.port.in.query.GetSellerUseCase;
 import com.ryuqq.setof.application.seller.port.in.query.GetSellersUseCase;
@@ -18,7 +19,7 @@ import org.springframework.stereotype.Service;
  * <p>처리 순서:
  *
  * <ol>
- *   <li>SellerReadManager로 셀러 조회
+ *   <li>단건 조회는 SellerCacheManager 캐시 우선, Miss 시 SellerReadManager로 셀러 조회
  *   <li>SellerAssembler로 Response DTO 변환
  * </ol>
  *
@@ -30,17 +31,28 @@ public class SellerQueryService implements GetSellerUseCase, GetSellersUseCase {
 
     private final SellerReadManager sellerReadManager;
     private final SellerAssembler sellerAssembler;
+    private final SellerCacheManager sellerCacheManager;
 
     public SellerQueryService(
-            SellerReadManager sellerReadManager, SellerAssembler sellerAssembler) {
+            SellerReadManager sellerReadManager,
+            SellerAssembler sellerAssembler,
+            SellerCacheManager sellerCacheManager) {
         this.sellerReadManager = sellerReadManager;
         this.sellerAssembler = sellerAssembler;
+        this.sellerCacheManager = sellerCacheManager;
     }
 
     @Override
     public SellerResponse execute(Long sellerId) {
-        Seller seller = sellerReadManager.findById(sellerId);
-        return sellerAssembler.toSellerResponse(seller);
+        return sellerCacheManager.getSeller(
+                sellerId,
+                () -> sellerAssembler.toSellerResponse(sellerReadManager.findById(sellerId)));
+    }
+
+    @Override
+    public List<SellerResponse> execute(List<Long> sellerIds) {
+        List<Seller> sellers = sellerReadManager.findByIds(sellerIds);
+        return sellers.stream().map(sellerAssembler::toSellerResponse).toList();
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.ryuqq.setof.application.shipment.manager.command;
 
 import com.ryuqq.setof.application.shipment.port.out.command.ShipmentPersistencePort;
 import com.ryuqq.setof.domain.shipment.aggregate.Shipment;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,4 +40,17 @@ public class ShipmentPersistenceManager {
     public Long persist(Shipment shipment) {
         return shipmentPersistencePort.persist(shipment).value();
     }
+
+    /**
+     * Shipment 일괄 저장 (단일 트랜잭션)
+     *
+     * @param shipments 저장할 Shipment 목록
+     */
+    @Transactional
+    public void persistAll(List<Shipment> shipments) {
+        if (shipments.isEmpty()) {
+            return;
+        }
+        shipmentPersistencePort.persistAll(shipments);
+    }
 }
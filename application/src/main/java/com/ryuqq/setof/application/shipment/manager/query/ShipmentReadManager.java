@@ -90,6 +90,30 @@ public class ShipmentReadManager {
         return shipmentQueryPort.findActiveShipments();
     }
 
+    /**
+     * 추적 대상 Shipment 페이지 조회 (ID 커서)
+     *
+     * @param lastShipmentId 마지막으로 조회한 Shipment ID (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 추적 대상 Shipment 목록 (ID 오름차순)
+     */
+    public List<Shipment> findActiveShipments(Long lastShipmentId, int size) {
+        return shipmentQueryPort.findActiveShipments(lastShipmentId, size);
+    }
+
+    /**
+     * ID 목록으로 Shipment 일괄 조회
+     *
+     * @param shipmentIds Shipment ID 목록
+     * @return 존재하는 Shipment 목록
+     */
+    public List<Shipment> findByIds(List<Long> shipmentIds) {
+        if (shipmentIds.isEmpty()) {
+            return List.of();
+        }
+        return shipmentQueryPort.findByIds(shipmentIds.stream().map(ShipmentId::of).toList());
+    }
+
     /**
      * 택배사 ID + 운송장 번호로 Shipment 조회
      *
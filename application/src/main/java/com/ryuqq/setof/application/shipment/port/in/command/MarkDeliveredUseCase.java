@@ -1,5 +1,7 @@
 package com.ryuqq.setof.application.shipment.port.in.command;
 
+import java.util.List;
+
 /**
  * Mark Delivered UseCase (Command)
  *
@@ -16,4 +18,13 @@ public interface MarkDeliveredUseCase {
      * @param shipmentId 운송장 ID
      */
     void execute(Long shipmentId);
+
+    /**
+     * 배송 완료 일괄 처리 실행
+     *
+     * <p>대상 운송장을 한 번에 조회하고 단일 트랜잭션으로 저장합니다. 존재하지 않는 운송장 ID는 건너뜁니다.
+     *
+     * @param shipmentIds 운송장 ID 목록
+     */
+    void executeAll(List<Long> shipmentIds);
 }
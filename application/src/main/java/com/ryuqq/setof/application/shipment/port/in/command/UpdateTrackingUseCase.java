@@ -1,6 +1,7 @@
 package com.ryuqq.setof.application.shipment.port.in.command;
 
 import com.ryuqq.setof.application.shipment.dto.command.UpdateTrackingCommand;
+import java.util.Map;
 
 /**
  * Update Tracking UseCase (Command)
@@ -21,4 +22,13 @@ public interface UpdateTrackingUseCase {
      * @param command 추적 정보 업데이트 명령
      */
     void execute(Long shipmentId, UpdateTrackingCommand command);
+
+    /**
+     * 추적 정보 일괄 업데이트 실행
+     *
+     * <p>대상 운송장을 한 번에 조회하고 단일 트랜잭션으로 저장합니다. 존재하지 않는 운송장 ID는 건너뜁니다.
+     *
+     * @param commands 운송장 ID별 추적 정보 업데이트 명령
+     */
+    void executeAll(Map<Long, UpdateTrackingCommand> commands);
 }
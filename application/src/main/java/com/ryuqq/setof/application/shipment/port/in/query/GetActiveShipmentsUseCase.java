@@ -21,4 +21,15 @@ public interface GetActiveShipmentsUseCase {
      * @return 추적 대상 운송장 목록
      */
     List<Shipment> execute();
+
+    /**
+     * 추적 대상 운송장 페이지 조회
+     *
+     * <p>전체 목록을 한 번에 적재하지 않도록 ID 커서로 나누어 조회합니다.
+     *
+     * @param lastShipmentId 마지막으로 조회한 운송장 ID (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 추적 대상 운송장 목록 (ID 오름차순)
+     */
+    List<Shipment> getActiveShipments(Long lastShipmentId, int size);
 }
@@ -2,6 +2,7 @@ package com.ryuqq.setof.application.shipment.port.out.command;
 
 import com.ryuqq.setof.domain.shipment.aggregate.Shipment;
 import com.ryuqq.setof.domain.shipment.vo.ShipmentId;
+import java.util.List;
 
 /**
  * Shipment Persistence Port (Command)
@@ -20,4 +21,12 @@ public interface ShipmentPersistencePort {
      * @return 저장된 Shipment의 ID
      */
     ShipmentId persist(Shipment shipment);
+
+    /**
+     * Shipment 일괄 저장 (신규 생성 또는 수정)
+     *
+     * @param shipments 저장할 Shipment 목록 (Domain Aggregate)
+     * @return 저장된 Shipment ID 목록
+     */
+    List<ShipmentId> persistAll(List<Shipment> shipments);
 }
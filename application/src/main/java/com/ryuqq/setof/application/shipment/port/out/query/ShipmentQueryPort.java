@@ -49,6 +49,25 @@ public interface ShipmentQueryPort {
      */
     List<Shipment> findActiveShipments();
 
+    /**
+     * 추적 대상 Shipment 페이지 조회 (ID 커서)
+     *
+     * <p>DELIVERED, CANCELLED 상태가 아닌 운송장을 ID 오름차순으로 반환합니다.
+     *
+     * @param lastShipmentId 마지막으로 조회한 Shipment ID (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 추적 대상 Shipment 목록
+     */
+    List<Shipment> findActiveShipments(Long lastShipmentId, Integer size);
+
+    /**
+     * ID 목록으로 Shipment 일괄 조회
+     *
+     * @param ids Shipment ID 목록
+     * @return 존재하는 Shipment 목록
+     */
+    List<Shipment> findByIds(List<ShipmentId> ids);
+
     /**
      * 택배사 ID + 운송장 번호로 Shipment 조회
      *
@@ -0,0 +1,66 @@
+package com.ryuqq.setof.application.shipment.scheduler;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 택배사별 호출 간격 제한기
+ *
+ * <p>택배사 코드마다 다음 호출 가능 시각을 하나씩 예약하는 방식으로 초당 호출 수를 제한합니다. 호출 스레드는 예약한 시각까지 대기하므로 Virtual
+ * Thread에서 사용합니다.
+ *
+ * <p>초당 호출 수가 0 이하인 택배사는 제한하지 않습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+final class CarrierRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long defaultIntervalNanos;
+    private final Map<String, Long> intervalNanosByCarrier;
+    private final ConcurrentMap<String, AtomicLong> nextSlots = new ConcurrentHashMap<>();
+
+    CarrierRateLimiter(
+            double defaultPermitsPerSecond, Map<String, Double> permitsPerSecondByCarrier) {
+        this.defaultIntervalNanos = interval(defaultPermitsPerSecond);
+        this.intervalNanosByCarrier = new HashMap<>();
+        permitsPerSecondByCarrier.forEach(
+                (carrierCode, permits) ->
+                        intervalNanosByCarrier.put(carrierCode, interval(permits)));
+    }
+
+    /**
+     * 호출 허가 획득 (필요 시 대기)
+     *
+     * @param carrierCode 택배사 코드
+     * @throws InterruptedException 대기 중 인터럽트
+     */
+    void acquire(String carrierCode) throws InterruptedException {
+        long intervalNanos = intervalNanosByCarrier.getOrDefault(carrierCode, defaultIntervalNanos);
+        if (intervalNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        AtomicLong nextSlot = nextSlots.computeIfAbsent(carrierCode, code -> new AtomicLong(now));
+        long reserved =
+                nextSlot.getAndAccumulate(
+                        now, (next, current) -> Math.max(next, current) + intervalNanos);
+        long waitNanos = reserved - now;
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private static long interval(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            return 0;
+        }
+        return (long) (NANOS_PER_SECOND / permitsPerSecond);
+    }
+}
@@ -1,6 +1,6 @@
 package com.ryuqq.setof.application.shipment.scheduler;
 
-import com.ryuqq.setof.application.carrier.port.in.query.GetCarrierUseCase;
+import com.ryuqq.setof.application.carrier.port.in.query.GetCarriersUseCase;
 import com.ryuqq.setof.application.shipment.dto.client.TrackingApiResult;
 import com.ryuqq.setof.application.shipment.dto.command.UpdateTrackingCommand;
 import com.ryuqq.setof.application.shipment.port.in.command.MarkDeliveredUseCase;
@@ -9,10 +9,28 @@ import com.ryuqq.setof.application.shipment.port.in.query.GetActiveShipmentsUseC
 import com.ryuqq.setof.application.shipment.port.out.client.DeliveryTrackingPort;
 import com.ryuqq.setof.domain.carrier.aggregate.Carrier;
 import com.ryuqq.setof.domain.shipment.aggregate.Shipment;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -25,9 +43,10 @@ import org.springframework.stereotype.Component;
  *
  * <ul>
  *   <li>1시간 간격으로 실행
- *   <li>활성 상태(PENDING, IN_TRANSIT, OUT_FOR_DELIVERY)의 운송장 조회
- *   <li>스마트택배 API를 통해 추적 정보 조회
- *   <li>추적 정보 업데이트 및 배송 완료 처리
+ *   <li>활성 상태(PENDING, IN_TRANSIT, OUT_FOR_DELIVERY)의 운송장을 ID 커서로 페이지 단위 조회
+ *   <li>택배사 코드는 실행마다 한 번만 조회
+ *   <li>스마트택배 API 호출은 Virtual Thread로 동시 실행 (동시 호출 수 + 택배사별 초당 호출 수 제한)
+ *   <li>페이지마다 배송 완료/추적 정보 업데이트를 일괄 저장
  * </ul>
  *
  * <p>주의사항:
@@ -35,34 +54,62 @@ import org.springframework.stereotype.Component;
  * <ul>
  *   <li>반품 배송은 별도 처리 (이 스케줄러에서 제외)
  *   <li>API 호출 실패 시 해당 운송장은 스킵 (다음 주기에 재시도)
- *   <li>배송 완료 감지 시 자동으로 상태 변경
+ *   <li>일괄 저장 실패 시 건별 저장으로 재시도하여 실패한 운송장만 스킵
+ *   <li>{@code shipment.tracking.enabled=false}인 모듈(재고 대사만 실행하는 bootstrap-web-api)에서는 등록하지 않음
  * </ul>
  *
+ * <p>메트릭: {@code shipment.tracking.run} (실행 시간), {@code shipment.tracking.shipments} (outcome별
+ * 처리 건수)
+ *
  * @author development-team
  * @since 1.0.0
  */
 @Component
+@ConditionalOnProperty(
+        name = "shipment.tracking.enabled",
+        havingValue = "true",
+        matchIfMissing = true)
 public class ShipmentTrackingScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(ShipmentTrackingScheduler.class);
 
     private final GetActiveShipmentsUseCase getActiveShipmentsUseCase;
-    private final GetCarrierUseCase getCarrierUseCase;
+    private final GetCarriersUseCase getCarriersUseCase;
     private final DeliveryTrackingPort deliveryTrackingPort;
     private final UpdateTrackingUseCase updateTrackingUseCase;
     private final MarkDeliveredUseCase markDeliveredUseCase;
+    private final int pageSize;
+    private final int maxConcurrency;
+    private final CarrierRateLimiter rateLimiter;
+    private final Timer runTimer;
+    private final Map<Outcome, Counter> outcomeCounters;
 
     public ShipmentTrackingScheduler(
             GetActiveShipmentsUseCase getActiveShipmentsUseCase,
-            GetCarrierUseCase getCarrierUseCase,
+            GetCarriersUseCase getCarriersUseCase,
             DeliveryTrackingPort deliveryTrackingPort,
             UpdateTrackingUseCase updateTrackingUseCase,
-            MarkDeliveredUseCase markDeliveredUseCase) {
+            MarkDeliveredUseCase markDeliveredUseCase,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${shipment.tracking.page-size:500}") int pageSize,
+            @Value("${shipment.tracking.max-concurrency:32}") int maxConcurrency,
+            @Value("${shipment.tracking.permits-per-second:10}") double permitsPerSecond,
+            @Value("${shipment.tracking.carrier-permits-per-second:}")
+                    List<String> carrierPermitsPerSecond) {
         this.getActiveShipmentsUseCase = getActiveShipmentsUseCase;
-        this.getCarrierUseCase = getCarrierUseCase;
+        this.getCarriersUseCase = getCarriersUseCase;
         this.deliveryTrackingPort = deliveryTrackingPort;
         this.updateTrackingUseCase = updateTrackingUseCase;
         this.markDeliveredUseCase = markDeliveredUseCase;
+        this.pageSize = pageSize;
+        this.maxConcurrency = maxConcurrency;
+        this.rateLimiter =
+                new CarrierRateLimiter(
+                        permitsPerSecond, parseCarrierPermits(carrierPermitsPerSecond));
+
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        this.runTimer = meterRegistry != null ? registerRunTimer(meterRegistry) : null;
+        this.outcomeCounters = registerOutcomeCounters(meterRegistry);
     }
 
     /**
@@ -73,57 +120,108 @@ public class ShipmentTrackingScheduler {
     @Scheduled(cron = "0 0 * * * *")
     public void updateTrackingInfo() {
         log.info("[Scheduler] Starting shipment tracking update job");
+        long startNanos = System.nanoTime();
 
-        List<Shipment> activeShipments = getActiveShipmentsUseCase.execute();
-        log.info("[Scheduler] Found {} active shipments to track", activeShipments.size());
-
-        int successCount = 0;
-        int failCount = 0;
-        int deliveredCount = 0;
+        Map<Long, String> carrierCodes = loadCarrierCodes();
+        Map<Outcome, Integer> counts = new EnumMap<>(Outcome.class);
+        Semaphore inFlight = new Semaphore(maxConcurrency);
+        int scanned = 0;
 
-        for (Shipment shipment : activeShipments) {
-            try {
-                boolean updated = processShipment(shipment);
-                if (updated) {
-                    successCount++;
-                    if (shipment.isDelivered()) {
-                        deliveredCount++;
-                    }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Long lastShipmentId = null;
+            List<Shipment> page;
+            do {
+                page = getActiveShipmentsUseCase.getActiveShipments(lastShipmentId, pageSize);
+                if (page.isEmpty()) {
+                    break;
                 }
-            } catch (Exception e) {
-                failCount++;
-                log.error(
-                        "[Scheduler] Failed to update tracking for shipmentId={}",
-                        shipment.getIdValue(),
-                        e);
-            }
+                lastShipmentId = page.get(page.size() - 1).getIdValue();
+                scanned += page.size();
+                processPage(page, carrierCodes, executor, inFlight, counts);
+            } while (page.size() == pageSize);
+        } catch (RuntimeException e) {
+            log.error("[Scheduler] Shipment tracking job aborted after {} shipments", scanned, e);
         }
 
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        recordMetrics(elapsed, counts);
         log.info(
-                "[Scheduler] Completed. success={}, failed={}, delivered={}",
-                successCount,
-                failCount,
-                deliveredCount);
+                "[Scheduler] Completed in {}ms. scanned={}, updated={}, delivered={}, noData={},"
+                        + " failed={}",
+                elapsed.toMillis(),
+                scanned,
+                counts.getOrDefault(Outcome.UPDATED, 0),
+                counts.getOrDefault(Outcome.DELIVERED, 0),
+                counts.getOrDefault(Outcome.NO_DATA, 0),
+                counts.getOrDefault(Outcome.FAILED, 0));
+    }
+
+    /**
+     * 페이지 단위 처리: 추적 API 동시 호출 후 결과를 일괄 저장
+     *
+     * @param page 운송장 페이지
+     * @param carrierCodes 택배사 ID → 택배사 코드
+     * @param executor Virtual Thread Executor
+     * @param inFlight 동시 호출 수 제한
+     * @param counts outcome별 처리 건수 (누적)
+     */
+    private void processPage(
+            List<Shipment> page,
+            Map<Long, String> carrierCodes,
+            ExecutorService executor,
+            Semaphore inFlight,
+            Map<Outcome, Integer> counts) {
+        List<Future<TrackingOutcome>> futures = new ArrayList<>(page.size());
+        for (Shipment shipment : page) {
+            futures.add(executor.submit(() -> track(shipment, carrierCodes, inFlight)));
+        }
+
+        List<Long> deliveredIds = new ArrayList<>();
+        Map<Long, UpdateTrackingCommand> updates = new LinkedHashMap<>();
+        for (int i = 0; i < futures.size(); i++) {
+            TrackingOutcome outcome = await(futures.get(i), page.get(i).getIdValue());
+            switch (outcome.outcome()) {
+                case DELIVERED -> deliveredIds.add(outcome.shipmentId());
+                case UPDATED -> updates.put(outcome.shipmentId(), outcome.command());
+                default -> increment(counts, outcome.outcome(), 1);
+            }
+        }
+
+        applyDelivered(deliveredIds, counts);
+        applyUpdates(updates, counts);
     }
 
     /**
-     * 개별 운송장 처리
+     * 개별 운송장 추적 API 호출 (Virtual Thread에서 실행)
      *
      * @param shipment 운송장
-     * @return 업데이트 여부
+     * @param carrierCodes 택배사 ID → 택배사 코드
+     * @param inFlight 동시 호출 수 제한
+     * @return 추적 결과
      */
-    private boolean processShipment(Shipment shipment) {
+    private TrackingOutcome track(
+            Shipment shipment, Map<Long, String> carrierCodes, Semaphore inFlight)
+            throws InterruptedException {
         Long shipmentId = shipment.getIdValue();
-        Long carrierId = shipment.getCarrierId();
         String invoiceNumber = shipment.getInvoiceNumberValue();
+        String carrierCode = carrierCodes.get(shipment.getCarrierId());
+        if (carrierCode == null) {
+            log.warn(
+                    "[Scheduler] Unknown carrier. shipmentId={}, carrierId={}",
+                    shipmentId,
+                    shipment.getCarrierId());
+            return TrackingOutcome.of(shipmentId, Outcome.FAILED);
+        }
 
-        // 택배사 정보 조회
-        Carrier carrier = getCarrierUseCase.execute(carrierId);
-        String carrierCode = carrier.getCodeValue();
-
-        // 스마트택배 API 호출
-        Optional<TrackingApiResult> resultOpt =
-                deliveryTrackingPort.fetchTrackingInfo(carrierCode, invoiceNumber);
+        // 호출 간격 대기는 동시 호출 슬롯을 점유하기 전에 마친다 (대기 중인 스레드가 다른 택배사 호출을 막지 않도록)
+        Optional<TrackingApiResult> resultOpt;
+        rateLimiter.acquire(carrierCode);
+        inFlight.acquire();
+        try {
+            resultOpt = deliveryTrackingPort.fetchTrackingInfo(carrierCode, invoiceNumber);
+        } finally {
+            inFlight.release();
+        }
 
         if (resultOpt.isEmpty()) {
             log.debug(
@@ -131,22 +229,15 @@ public class ShipmentTrackingScheduler {
                     shipmentId,
                     carrierCode,
                     maskInvoice(invoiceNumber));
-            return false;
+            return TrackingOutcome.of(shipmentId, Outcome.NO_DATA);
         }
 
         TrackingApiResult result = resultOpt.get();
 
-        // 배송 완료 처리
         if (result.isDelivered() && !shipment.isDelivered()) {
-            markDeliveredUseCase.execute(shipmentId);
-            log.info(
-                    "[Scheduler] Shipment delivered. shipmentId={}, invoice={}",
-                    shipmentId,
-                    maskInvoice(invoiceNumber));
-            return true;
+            return TrackingOutcome.of(shipmentId, Outcome.DELIVERED);
         }
 
-        // 추적 정보 업데이트
         if (result.hasTrackingData()) {
             UpdateTrackingCommand command =
                     new UpdateTrackingCommand(
@@ -154,16 +245,150 @@ public class ShipmentTrackingScheduler {
                             result.lastMessage(),
                             result.lastTrackedAt(),
                             result.status());
+            return new TrackingOutcome(shipmentId, Outcome.UPDATED, command);
+        }
 
-            updateTrackingUseCase.execute(shipmentId, command);
-            log.debug(
-                    "[Scheduler] Updated tracking. shipmentId={}, location={}",
+        return TrackingOutcome.of(shipmentId, Outcome.NO_DATA);
+    }
+
+    private TrackingOutcome await(Future<TrackingOutcome> future, Long shipmentId) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Shipment tracking interrupted", e);
+        } catch (ExecutionException e) {
+            log.error(
+                    "[Scheduler] Failed to fetch tracking for shipmentId={}",
                     shipmentId,
-                    result.lastLocation());
-            return true;
+                    e.getCause());
+            return TrackingOutcome.of(shipmentId, Outcome.FAILED);
         }
+    }
 
-        return false;
+    /** 배송 완료 일괄 저장 (실패 시 건별 재시도) */
+    private void applyDelivered(List<Long> shipmentIds, Map<Outcome, Integer> counts) {
+        if (shipmentIds.isEmpty()) {
+            return;
+        }
+        try {
+            markDeliveredUseCase.executeAll(shipmentIds);
+            increment(counts, Outcome.DELIVERED, shipmentIds.size());
+            return;
+        } catch (Exception e) {
+            log.warn(
+                    "[Scheduler] Bulk delivery update failed, retrying one by one. size={}",
+                    shipmentIds.size(),
+                    e);
+        }
+        for (Long shipmentId : shipmentIds) {
+            try {
+                markDeliveredUseCase.execute(shipmentId);
+                increment(counts, Outcome.DELIVERED, 1);
+            } catch (Exception e) {
+                increment(counts, Outcome.FAILED, 1);
+                log.error("[Scheduler] Failed to mark delivered. shipmentId={}", shipmentId, e);
+            }
+        }
+    }
+
+    /** 추적 정보 일괄 저장 (실패 시 건별 재시도) */
+    private void applyUpdates(
+            Map<Long, UpdateTrackingCommand> updates, Map<Outcome, Integer> counts) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        try {
+            updateTrackingUseCase.executeAll(updates);
+            increment(counts, Outcome.UPDATED, updates.size());
+            return;
+        } catch (Exception e) {
+            log.warn(
+                    "[Scheduler] Bulk tracking update failed, retrying one by one. size={}",
+                    updates.size(),
+                    e);
+        }
+        updates.forEach(
+                (shipmentId, command) -> {
+                    try {
+                        updateTrackingUseCase.execute(shipmentId, command);
+                        increment(counts, Outcome.UPDATED, 1);
+                    } catch (Exception e) {
+                        increment(counts, Outcome.FAILED, 1);
+                        log.error(
+                                "[Scheduler] Failed to update tracking. shipmentId={}",
+                                shipmentId,
+                                e);
+                    }
+                });
+    }
+
+    private Map<Long, String> loadCarrierCodes() {
+        List<Carrier> carriers = getCarriersUseCase.getAllCarriers();
+        Map<Long, String> carrierCodes = new HashMap<>(carriers.size() * 2);
+        for (Carrier carrier : carriers) {
+            carrierCodes.put(carrier.getIdValue(), carrier.getCodeValue());
+        }
+        return carrierCodes;
+    }
+
+    private static void increment(Map<Outcome, Integer> counts, Outcome outcome, int amount) {
+        counts.merge(outcome, amount, Integer::sum);
+    }
+
+    private void recordMetrics(Duration elapsed, Map<Outcome, Integer> counts) {
+        if (runTimer != null) {
+            runTimer.record(elapsed);
+        }
+        counts.forEach(
+                (outcome, count) -> {
+                    Counter counter = outcomeCounters.get(outcome);
+                    if (counter != null) {
+                        counter.increment(count);
+                    }
+                });
+    }
+
+    private static Timer registerRunTimer(MeterRegistry meterRegistry) {
+        return Timer.builder("shipment.tracking.run")
+                .description("배송 추적 스케줄러 1회 실행 시간")
+                .register(meterRegistry);
+    }
+
+    private static Map<Outcome, Counter> registerOutcomeCounters(MeterRegistry meterRegistry) {
+        Map<Outcome, Counter> counters = new EnumMap<>(Outcome.class);
+        if (meterRegistry == null) {
+            return counters;
+        }
+        for (Outcome outcome : Outcome.values()) {
+            counters.put(
+                    outcome,
+                    Counter.builder("shipment.tracking.shipments")
+                            .description("배송 추적 스케줄러 처리 건수")
+                            .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                            .register(meterRegistry));
+        }
+        return counters;
+    }
+
+    /**
+     * 택배사별 초당 호출 수 설정 파싱
+     *
+     * @param entries "택배사코드:초당호출수" 목록 (예: 04:20)
+     * @return 택배사 코드 → 초당 호출 수
+     */
+    private static Map<String, Double> parseCarrierPermits(List<String> entries) {
+        Map<String, Double> permits = new HashMap<>();
+        for (String entry : entries) {
+            int separator = entry.lastIndexOf(':');
+            if (separator <= 0) {
+                continue;
+            }
+            permits.put(
+                    entry.substring(0, separator).trim(),
+                    Double.parseDouble(entry.substring(separator + 1).trim()));
+        }
+        return permits;
     }
 
     private String maskInvoice(String invoiceNumber) {
@@ -172,4 +397,19 @@ public class ShipmentTrackingScheduler {
         }
         return invoiceNumber.substring(0, 4) + "****";
     }
+
+    private enum Outcome {
+        UPDATED,
+        DELIVERED,
+        NO_DATA,
+        FAILED
+    }
+
+    private record TrackingOutcome(
+            Long shipmentId, Outcome outcome, UpdateTrackingCommand command) {
+
+        static TrackingOutcome of(Long shipmentId, Outcome outcome) {
+            return new TrackingOutcome(shipmentId, outcome, null);
+        }
+    }
 }
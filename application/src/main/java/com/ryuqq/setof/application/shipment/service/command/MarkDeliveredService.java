@@ -5,6 +5,7 @@ import com.ryuqq.setof.application.shipment.manager.command.ShipmentPersistenceM
 import com.ryuqq.setof.application.shipment.manager.query.ShipmentReadManager;
 import com.ryuqq.setof.application.shipment.port.in.command.MarkDeliveredUseCase;
 import com.ryuqq.setof.domain.shipment.aggregate.Shipment;
+import java.util.List;
 import org.springframework.stereotype.Service;
 
 /**
@@ -43,4 +44,16 @@ public class MarkDeliveredService implements MarkDeliveredUseCase {
         Shipment delivered = shipmentCommandFactory.applyMarkDelivered(shipment);
         shipmentPersistenceManager.persist(delivered);
     }
+
+    @Override
+    public void executeAll(List<Long> shipmentIds) {
+        if (shipmentIds.isEmpty()) {
+            return;
+        }
+        List<Shipment> delivered =
+                shipmentReadManager.findByIds(shipmentIds).stream()
+                        .map(shipmentCommandFactory::applyMarkDelivered)
+                        .toList();
+        shipmentPersistenceManager.persistAll(delivered);
+    }
 }
@@ -6,6 +6,8 @@ import com.ryuqq.setof.application.shipment.manager.command.ShipmentPersistenceM
 import com.ryuqq.setof.application.shipment.manager.query.ShipmentReadManager;
 import com.ryuqq.setof.application.shipment.port.in.command.UpdateTrackingUseCase;
 import com.ryuqq.setof.domain.shipment.aggregate.Shipment;
+import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Service;
 
 /**
@@ -46,4 +48,21 @@ public class UpdateTrackingService implements UpdateTrackingUseCase {
         Shipment updated = shipmentCommandFactory.applyTrackingUpdate(shipment, command);
         shipmentPersistenceManager.persist(updated);
     }
+
+    @Override
+    public void executeAll(Map<Long, UpdateTrackingCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+        List<Shipment> shipments =
+                shipmentReadManager.findByIds(List.copyOf(commands.keySet()));
+        List<Shipment> updated =
+                shipments.stream()
+                        .map(
+                                shipment ->
+                                        shipmentCommandFactory.applyTrackingUpdate(
+                                                shipment, commands.get(shipment.getIdValue())))
+                        .toList();
+        shipmentPersistenceManager.persistAll(updated);
+    }
 }
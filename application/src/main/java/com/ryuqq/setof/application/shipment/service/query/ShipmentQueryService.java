@@ -53,6 +53,11 @@ public class ShipmentQueryService
         return shipmentReadManager.findActiveShipments();
     }
 
+    @Override
+    public List<Shipment> getActiveShipments(Long lastShipmentId, int size) {
+        return shipmentReadManager.findActiveShipments(lastShipmentId, size);
+    }
+
     @Override
     public Optional<Shipment> execute(Long carrierId, String invoiceNumber) {
         return shipmentReadManager.findByCarrierIdAndInvoiceNumber(carrierId, invoiceNumber);
@@ -131,7 +131,7 @@ class EventListenerArchTest {
                             .areDeclaredInClassesThat()
                             .haveSimpleNameEndingWith("EventListener")
                             .and()
-                            .areAnnotatedWith(EventListener.class)
+                            .areMetaAnnotatedWith(EventListener.class)
                             .should()
                             .haveNameMatching("handle.*")
                             .because("EventListener 메서드는 handle*() 네이밍을 권장합니다");
@@ -154,8 +154,10 @@ class EventListenerArchTest {
                             .and()
                             .doNotHaveFullName(".*<init>.*")
                             .should()
-                            .beAnnotatedWith(EventListener.class)
-                            .because("EventListener의 public 메서드는 @EventListener 어노테이션을 가져야 합니다");
+                            .beMetaAnnotatedWith(EventListener.class)
+                            .because(
+                                    "EventListener의 public 메서드는 @EventListener"
+                                            + "(또는 @TransactionalEventListener) 어노테이션을 가져야 합니다");
 
             rule.check(classes);
         }
@@ -0,0 +1,264 @@
+package com.ryuqq.setof.application.cart.service.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.application.brand.dto.response.BrandResponse;
+import com.ryuqq.setof.application.brand.port.in.query.GetBrandUseCase;
+import com.ryuqq.setof.application.cart.dto.response.CartItemResponse;
+import com.ryuqq.setof.application.cart.dto.response.CartResponse;
+import com.ryuqq.setof.application.cart.dto.response.EnrichedCartItemResponse;
+import com.ryuqq.setof.application.cart.dto.response.EnrichedCartResponse;
+import com.ryuqq.setof.application.cart.port.in.query.GetCartUseCase;
+import com.ryuqq.setof.application.category.dto.response.CategoryPathResponse;
+import com.ryuqq.setof.application.category.dto.response.CategoryPathResponse.BreadcrumbItem;
+import com.ryuqq.setof.application.category.port.in.query.GetCategoryPathUseCase;
+import com.ryuqq.setof.application.common.component.ParallelQueryExecutor;
+import com.ryuqq.setof.application.product.dto.response.ProductGroupResponse;
+import com.ryuqq.setof.application.product.dto.response.ProductResponse;
+import com.ryuqq.setof.application.product.port.in.query.GetProductGroupUseCase;
+import com.ryuqq.setof.application.productimage.dto.response.ProductImageResponse;
+import com.ryuqq.setof.application.productimage.port.in.query.GetProductImageUseCase;
+import com.ryuqq.setof.application.productstock.manager.query.ProductStockReadManager;
+import com.ryuqq.setof.application.seller.dto.response.SellerResponse;
+import com.ryuqq.setof.application.seller.port.in.query.GetSellerUseCase;
+import com.ryuqq.setof.domain.productstock.ProductStockFixture;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * GetEnrichedCartService 테스트
+ *
+ * <p>장바구니 부가 정보 일괄 조회, 정보 조합 및 부분 실패 시 기본값 대체에 대한 단위 테스트
+ */
+@DisplayName("GetEnrichedCartService")
+@ExtendWith(MockitoExtension.class)
+class GetEnrichedCartServiceTest {
+
+    private static final UUID MEMBER_ID = UUID.fromString("01936ddc-8d37-7c6e-8ad6-18c76adc9dfa");
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock private GetCartUseCase getCartUseCase;
+    @Mock private GetProductGroupUseCase getProductGroupUseCase;
+    @Mock private GetBrandUseCase getBrandUseCase;
+    @Mock private GetSellerUseCase getSellerUseCase;
+    @Mock private GetProductImageUseCase getProductImageUseCase;
+    @Mock private ProductStockReadManager productStockReadManager;
+    @Mock private GetCategoryPathUseCase getCategoryPathUseCase;
+
+    private ParallelQueryExecutor parallelQueryExecutor;
+    private GetEnrichedCartService service;
+
+    @BeforeEach
+    void setUp() {
+        parallelQueryExecutor = new ParallelQueryExecutor(4);
+        service =
+                new GetEnrichedCartService(
+                        getCartUseCase,
+                        getProductGroupUseCase,
+                        getBrandUseCase,
+                        getSellerUseCase,
+                        getProductImageUseCase,
+                        productStockReadManager,
+                        getCategoryPathUseCase,
+                        parallelQueryExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelQueryExecutor.destroy();
+    }
+
+    @Nested
+    @DisplayName("getEnrichedCart")
+    class GetEnrichedCart {
+
+        @Test
+        @DisplayName("장바구니가 비어 있으면 부가 정보를 조회하지 않는다")
+        void shouldSkipLookupsForEmptyCart() {
+            // Given
+            when(getCartUseCase.getCart(MEMBER_ID)).thenReturn(cart(List.of()));
+
+            // When
+            EnrichedCartResponse result = service.getEnrichedCart(MEMBER_ID);
+
+            // Then
+            assertThat(result.items()).isEmpty();
+            verify(getProductGroupUseCase, never()).execute(anyList());
+            verify(productStockReadManager, never()).findByProductIds(any());
+        }
+
+        @Test
+        @DisplayName("중복 없는 ID 목록으로 한 번씩 일괄 조회해 항목 정보를 조합한다")
+        void shouldEnrichItemsWithBatchLookups() {
+            // Given
+            CartItemResponse first = cartItem(1L, 101L, 10L, 5L);
+            CartItemResponse second = cartItem(2L, 102L, 10L, 5L);
+            when(getCartUseCase.getCart(MEMBER_ID)).thenReturn(cart(List.of(first, second)));
+            when(getProductGroupUseCase.execute(List.of(10L))).thenReturn(List.of(productGroup()));
+            SellerResponse seller = SellerResponse.of(5L, "셀러", null, null, "APPROVED", null, null);
+            when(getSellerUseCase.execute(List.of(5L))).thenReturn(List.of(seller));
+            when(getProductImageUseCase.getByProductGroupIds(List.of(10L)))
+                    .thenReturn(
+                            List.of(
+                                    image(1L, "DETAIL", "https://cdn/detail.jpg"),
+                                    image(2L, "MAIN", "https://cdn/main.jpg")));
+            when(productStockReadManager.findByProductIds(List.of(101L, 102L)))
+                    .thenReturn(
+                            List.of(
+                                    ProductStockFixture.createWithQuantity(1L, 101L, 3),
+                                    ProductStockFixture.createWithQuantity(2L, 102L, 0)));
+            BrandResponse brand = BrandResponse.of(7L, "B7", "브랜드", "Brand", null, "ACTIVE");
+            when(getBrandUseCase.execute(List.of(7L))).thenReturn(List.of(brand));
+            when(getCategoryPathUseCase.getCategoryPaths(List.of(3L)))
+                    .thenReturn(
+                            List.of(
+                                    new CategoryPathResponse(
+                                            3L,
+                                            List.of(
+                                                    new BreadcrumbItem(1L, "C1", "의류", 1),
+                                                    new BreadcrumbItem(3L, "C3", "상의", 2)))));
+
+            // When
+            EnrichedCartResponse result = service.getEnrichedCart(MEMBER_ID);
+
+            // Then
+            assertThat(result.items()).hasSize(2);
+            EnrichedCartItemResponse enrichedFirst = result.items().get(0);
+            assertThat(enrichedFirst.productGroupName()).isEqualTo("반팔 티셔츠");
+            assertThat(enrichedFirst.brandName()).isEqualTo("브랜드");
+            assertThat(enrichedFirst.sellerName()).isEqualTo("셀러");
+            assertThat(enrichedFirst.optionValue()).isEqualTo("BLACK / M");
+            assertThat(enrichedFirst.imageUrl()).isEqualTo("https://cdn/main.jpg");
+            assertThat(enrichedFirst.stockQuantity()).isEqualTo(3);
+            assertThat(enrichedFirst.soldOut()).isFalse();
+            assertThat(enrichedFirst.discountRate()).isEqualTo(20);
+            assertThat(enrichedFirst.categories()).hasSize(2);
+
+            EnrichedCartItemResponse enrichedSecond = result.items().get(1);
+            assertThat(enrichedSecond.stockQuantity()).isZero();
+            assertThat(enrichedSecond.soldOut()).isTrue();
+        }
+
+        @Test
+        @DisplayName("부가 정보 조회가 실패하면 해당 정보만 비워서 반환한다")
+        void shouldDegradeWhenEnrichmentLookupFails() {
+            // Given
+            CartItemResponse item = cartItem(1L, 101L, 10L, 5L);
+            when(getCartUseCase.getCart(MEMBER_ID)).thenReturn(cart(List.of(item)));
+            when(getProductGroupUseCase.execute(List.of(10L)))
+                    .thenThrow(new IllegalStateException("product group lookup failed"));
+            when(getSellerUseCase.execute(List.of(5L))).thenReturn(List.of());
+            when(getProductImageUseCase.getByProductGroupIds(List.of(10L))).thenReturn(List.of());
+            when(productStockReadManager.findByProductIds(List.of(101L)))
+                    .thenReturn(List.of(ProductStockFixture.createWithQuantity(1L, 101L, 3)));
+
+            // When
+            EnrichedCartResponse result = service.getEnrichedCart(MEMBER_ID);
+
+            // Then
+            EnrichedCartItemResponse enriched = result.items().get(0);
+            assertThat(enriched.productGroupName()).isNull();
+            assertThat(enriched.brandName()).isNull();
+            assertThat(enriched.categories()).isEmpty();
+            assertThat(enriched.stockQuantity()).isEqualTo(3);
+            verify(getBrandUseCase, never()).execute(anyList());
+        }
+
+        @Test
+        @DisplayName("재고 조회가 실패하면 원래 예외를 그대로 전파한다")
+        void shouldPropagateStockLookupFailure() {
+            // Given
+            CartItemResponse item = cartItem(1L, 101L, 10L, 5L);
+            when(getCartUseCase.getCart(MEMBER_ID)).thenReturn(cart(List.of(item)));
+            when(getProductGroupUseCase.execute(List.of(10L))).thenReturn(List.of());
+            when(getSellerUseCase.execute(List.of(5L))).thenReturn(List.of());
+            when(getProductImageUseCase.getByProductGroupIds(List.of(10L))).thenReturn(List.of());
+            when(productStockReadManager.findByProductIds(List.of(101L)))
+                    .thenThrow(new IllegalStateException("stock lookup failed"));
+
+            // When & Then
+            assertThatThrownBy(() -> service.getEnrichedCart(MEMBER_ID))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("stock lookup failed");
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private CartResponse cart(List<CartItemResponse> items) {
+        return new CartResponse(
+                1L,
+                MEMBER_ID,
+                items,
+                BigDecimal.ZERO,
+                BigDecimal.ZERO,
+                items.size(),
+                items.size(),
+                items.size(),
+                NOW,
+                NOW);
+    }
+
+    private CartItemResponse cartItem(
+            Long cartItemId, Long productId, Long productGroupId, Long sellerId) {
+        return new CartItemResponse(
+                cartItemId,
+                cartItemId,
+                productId,
+                productGroupId,
+                sellerId,
+                1,
+                BigDecimal.valueOf(8_000),
+                BigDecimal.valueOf(8_000),
+                true,
+                NOW);
+    }
+
+    private ProductGroupResponse productGroup() {
+        ProductResponse product =
+                ProductResponse.of(
+                        101L,
+                        10L,
+                        "COMBINATION",
+                        "색상",
+                        "BLACK",
+                        "사이즈",
+                        "M",
+                        BigDecimal.ZERO,
+                        false,
+                        true);
+        return ProductGroupResponse.of(
+                10L,
+                5L,
+                3L,
+                7L,
+                "반팔 티셔츠",
+                "COMBINATION",
+                BigDecimal.valueOf(10_000),
+                BigDecimal.valueOf(8_000),
+                "ACTIVE",
+                1L,
+                1L,
+                List.of(product));
+    }
+
+    private ProductImageResponse image(Long id, String imageType, String cdnUrl) {
+        return new ProductImageResponse(id, 10L, imageType, cdnUrl, cdnUrl, id.intValue(), NOW);
+    }
+}
@@ -0,0 +1,104 @@
+package com.ryuqq.setof.application.category.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.application.category.manager.query.CategoryReadManager;
+import com.ryuqq.setof.application.common.port.out.CacheVersionPort;
+import com.ryuqq.setof.domain.category.CategoryFixture;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("CategorySnapshotHolder")
+@ExtendWith(MockitoExtension.class)
+class CategorySnapshotHolderTest {
+
+    private static final String VERSION_NAME = "category-tree";
+
+    @Mock private CategoryReadManager categoryReadManager;
+    @Mock private CacheVersionPort cacheVersionPort;
+
+    private CategorySnapshotHolder holder(Duration versionCheckInterval) {
+        return new CategorySnapshotHolder(
+                categoryReadManager, cacheVersionPort, versionCheckInterval, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("버전이 같으면 스냅샷을 재사용")
+    void shouldReuseSnapshotWhileVersionIsUnchanged() {
+        // Given
+        when(cacheVersionPort.getVersion(VERSION_NAME)).thenReturn(3L);
+        when(categoryReadManager.findAllActive()).thenReturn(CategoryFixture.createHierarchy());
+        CategorySnapshotHolder holder = holder(Duration.ZERO);
+
+        // When
+        CategoryTreeSnapshot first = holder.current();
+        CategoryTreeSnapshot second = holder.current();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(second.version()).isEqualTo(3L);
+        verify(categoryReadManager, times(1)).findAllActive();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 버전을 올리면 다시 적재")
+    void shouldReloadWhenVersionChanges() {
+        // Given
+        when(cacheVersionPort.getVersion(VERSION_NAME)).thenReturn(1L, 2L);
+        when(categoryReadManager.findAllActive())
+                .thenReturn(
+                        List.of(CategoryFixture.createRoot()), CategoryFixture.createHierarchy());
+        CategorySnapshotHolder holder = holder(Duration.ZERO);
+        holder.current();
+
+        // When
+        CategoryTreeSnapshot reloaded = holder.current();
+
+        // Then
+        assertThat(reloaded.version()).isEqualTo(2L);
+        assertThat(reloaded.contains(23L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("버전 조회 실패 시 기존 스냅샷 유지")
+    void shouldKeepSnapshotWhenVersionLookupFails() {
+        // Given
+        when(cacheVersionPort.getVersion(VERSION_NAME))
+                .thenReturn(1L)
+                .thenThrow(new IllegalStateException("redis down"));
+        when(categoryReadManager.findAllActive()).thenReturn(CategoryFixture.createHierarchy());
+        CategorySnapshotHolder holder = holder(Duration.ZERO);
+        CategoryTreeSnapshot first = holder.current();
+
+        // When
+        CategoryTreeSnapshot current = holder.current();
+
+        // Then
+        assertThat(current).isSameAs(first);
+        verify(categoryReadManager, times(1)).findAllActive();
+    }
+
+    @Test
+    @DisplayName("invalidate는 버전을 올리고 즉시 다시 적재")
+    void shouldIncrementVersionAndReloadOnInvalidate() {
+        // Given
+        when(cacheVersionPort.increment(VERSION_NAME)).thenReturn(5L);
+        when(categoryReadManager.findAllActive()).thenReturn(CategoryFixture.createHierarchy());
+        CategorySnapshotHolder holder = holder(Duration.ofMinutes(1));
+
+        // When
+        holder.invalidate();
+
+        // Then
+        assertThat(holder.current().version()).isEqualTo(5L);
+        verify(categoryReadManager, times(1)).findAllActive();
+    }
+}
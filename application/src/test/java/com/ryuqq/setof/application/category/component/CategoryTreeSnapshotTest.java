@@ -0,0 +1,81 @@
+package com.ryuqq.setof.application.category.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.setof.application.category.dto.response.CategoryPathResponse;
+import com.ryuqq.setof.application.category.dto.response.CategoryTreeResponse;
+import com.ryuqq.setof.domain.category.CategoryFixture;
+import com.ryuqq.setof.domain.category.aggregate.Category;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CategoryTreeSnapshot")
+class CategoryTreeSnapshotTest {
+
+    @Test
+    @DisplayName("sortOrder 순으로 트리를 구성하고 하위 목록을 공유")
+    void shouldBuildTreeOrderedBySortOrder() {
+        // Given
+        List<Category> categories =
+                List.of(
+                        category(2L, null, "/2/", 0, 2),
+                        category(1L, null, "/1/", 0, 1),
+                        category(12L, 1L, "/1/12/", 1, 2),
+                        category(11L, 1L, "/1/11/", 1, 1),
+                        category(111L, 11L, "/1/11/111/", 2, 1));
+
+        // When
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(7L, categories);
+
+        // Then
+        assertThat(snapshot.version()).isEqualTo(7L);
+        assertThat(snapshot.tree()).extracting(CategoryTreeResponse::id).containsExactly(1L, 2L);
+        assertThat(snapshot.tree().get(0).children())
+                .extracting(CategoryTreeResponse::id)
+                .containsExactly(11L, 12L);
+        assertThat(snapshot.children(1L)).contains(snapshot.tree().get(0).children());
+        assertThat(snapshot.children(111L)).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("루트부터 자신까지의 breadcrumb 경로를 미리 계산")
+    void shouldPrecomputeBreadcrumbPaths() {
+        // Given
+        CategoryTreeSnapshot snapshot =
+                CategoryTreeSnapshot.build(1L, CategoryFixture.createHierarchy());
+
+        // When
+        CategoryPathResponse path = snapshot.path(23L).orElseThrow();
+
+        // Then
+        assertThat(path.categoryId()).isEqualTo(23L);
+        assertThat(path.breadcrumbs())
+                .extracting(CategoryPathResponse.BreadcrumbItem::id)
+                .containsExactly(1L, 5L, 23L);
+    }
+
+    @Test
+    @DisplayName("부모가 스냅샷에 없는 카테고리는 트리와 경로에서 제외")
+    void shouldExcludeCategoriesWithoutActiveParent() {
+        // Given
+        List<Category> categories =
+                List.of(category(1L, null, "/1/", 0, 1), category(31L, 30L, "/30/31/", 1, 1));
+
+        // When
+        CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, categories);
+
+        // Then
+        assertThat(snapshot.contains(31L)).isFalse();
+        assertThat(snapshot.path(31L)).isEmpty();
+        assertThat(snapshot.children(31L)).isEmpty();
+        assertThat(snapshot.path(999L)).isEmpty();
+        assertThat(snapshot.tree()).extracting(CategoryTreeResponse::id).containsExactly(1L);
+    }
+
+    private static Category category(
+            Long id, Long parentId, String path, int depth, int sortOrder) {
+        return CategoryFixture.createCustom(
+                id, parentId, "CAT" + id, "카테고리" + id, path, depth, sortOrder, false, true);
+    }
+}
@@ -6,20 +6,24 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.ryuqq.setof.application.category.assembler.CategoryAssembler;
+import com.ryuqq.setof.application.category.component.CategorySnapshotHolder;
 import com.ryuqq.setof.application.category.dto.query.CategorySearchQuery;
 import com.ryuqq.setof.application.category.dto.response.CategoryPathResponse;
 import com.ryuqq.setof.application.category.dto.response.CategoryResponse;
 import com.ryuqq.setof.application.category.dto.response.CategoryTreeResponse;
 import com.ryuqq.setof.application.category.factory.query.CategoryQueryFactory;
 import com.ryuqq.setof.application.category.manager.query.CategoryReadManager;
+import com.ryuqq.setof.application.common.port.out.CacheVersionPort;
 import com.ryuqq.setof.domain.category.CategoryFixture;
 import com.ryuqq.setof.domain.category.aggregate.Category;
 import com.ryuqq.setof.domain.category.query.criteria.CategorySearchCriteria;
+import java.time.Duration;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,6 +39,7 @@ class CategoryQueryServiceTest {
 
     @Mock private CategoryReadManager categoryReadManager;
     @Mock private CategoryQueryFactory categoryQueryFactory;
+    @Mock private CacheVersionPort cacheVersionPort;
 
     private CategoryAssembler categoryAssembler;
     private CategoryQueryService categoryQueryService;
@@ -42,9 +47,18 @@ class CategoryQueryServiceTest {
     @BeforeEach
     void setUp() {
         categoryAssembler = new CategoryAssembler();
+        CategorySnapshotHolder categorySnapshotHolder =
+                new CategorySnapshotHolder(
+                        categoryReadManager,
+                        cacheVersionPort,
+                        Duration.ofMinutes(1),
+                        Duration.ofMinutes(10));
         categoryQueryService =
                 new CategoryQueryService(
-                        categoryReadManager, categoryQueryFactory, categoryAssembler);
+                        categoryReadManager,
+                        categoryQueryFactory,
+                        categoryAssembler,
+                        categorySnapshotHolder);
     }
 
     @Nested
@@ -164,6 +178,24 @@ class CategoryQueryServiceTest {
             verify(categoryReadManager, times(1)).findAllActive();
         }
 
+        @Test
+        @DisplayName("반복 조회는 스냅샷에서 응답하여 DB를 다시 조회하지 않음")
+        void shouldServeRepeatedTreeRequestsFromSnapshot() {
+            // Given
+            when(categoryReadManager.findAllActive())
+                    .thenReturn(CategoryFixture.createHierarchy());
+
+            // When
+            List<CategoryTreeResponse> first = categoryQueryService.getCategoryTree();
+            List<CategoryTreeResponse> second = categoryQueryService.getCategoryTree();
+
+            // Then
+            assertEquals(first, second);
+            assertEquals(1, first.size());
+            assertEquals(5L, first.get(0).children().get(0).id());
+            verify(categoryReadManager, times(1)).findAllActive();
+        }
+
         @Test
         @DisplayName("카테고리가 없으면 빈 트리 반환")
         void shouldReturnEmptyTreeWhenNoCategories() {
@@ -223,5 +255,129 @@ class CategoryQueryServiceTest {
             assertFalse(result.breadcrumbs().isEmpty());
             assertEquals(3, result.breadcrumbs().size());
         }
+
+        @Test
+        @DisplayName("스냅샷에 있는 카테고리는 DB 조회 없이 경로 반환")
+        void shouldReturnCategoryPathFromSnapshot() {
+            // Given
+            when(categoryReadManager.findAllActive())
+                    .thenReturn(CategoryFixture.createHierarchy());
+
+            // When
+            CategoryPathResponse result = categoryQueryService.getCategoryPath(23L);
+
+            // Then
+            assertEquals(23L, result.categoryId());
+            assertEquals(
+                    List.of(1L, 5L, 23L),
+                    result.breadcrumbs().stream()
+                            .map(CategoryPathResponse.BreadcrumbItem::id)
+                            .toList());
+            verify(categoryReadManager, never()).findById(any());
+            verify(categoryReadManager, never()).findByIds(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("getCategoryPaths")
+    class GetCategoryPathsTest {
+
+        @Test
+        @DisplayName("여러 카테고리 경로를 경로 카테고리 일괄 조회 1회로 조합")
+        void shouldReturnCategoryPathsWithSinglePathLookup() {
+            // Given
+            List<Long> categoryIds = List.of(5L, 23L);
+            List<Category> categories =
+                    List.of(CategoryFixture.createMiddle(), CategoryFixture.createSmall());
+            List<Category> pathCategories = CategoryFixture.createHierarchy();
+
+            when(categoryReadManager.findByIds(categoryIds)).thenReturn(categories);
+            when(categoryReadManager.findByIds(List.of(1L, 5L, 23L))).thenReturn(pathCategories);
+
+            // When
+            List<CategoryPathResponse> result = categoryQueryService.getCategoryPaths(categoryIds);
+
+            // Then
+            assertEquals(2, result.size());
+            assertEquals(5L, result.get(0).categoryId());
+            assertEquals(2, result.get(0).breadcrumbs().size());
+            assertEquals(23L, result.get(1).categoryId());
+            assertEquals(3, result.get(1).breadcrumbs().size());
+            verify(categoryReadManager, times(2)).findByIds(anyList());
+        }
+
+        @Test
+        @DisplayName("빈 ID 목록이면 조회 없이 빈 목록 반환")
+        void shouldReturnEmptyListWhenNoCategoryIds() {
+            // When
+            List<CategoryPathResponse> result = categoryQueryService.getCategoryPaths(List.of());
+
+            // Then
+            assertTrue(result.isEmpty());
+            verify(categoryReadManager, times(0)).findByIds(anyList());
+        }
+
+        @Test
+        @DisplayName("스냅샷에 없는 카테고리만 DB에서 조회")
+        void shouldLoadOnlySnapshotMissesFromDatabase() {
+            // Given
+            Category root = CategoryFixture.createRoot();
+            Category middle = CategoryFixture.createMiddle();
+            when(categoryReadManager.findAllActive()).thenReturn(List.of(root, middle));
+            when(categoryReadManager.findByIds(List.of(23L)))
+                    .thenReturn(List.of(CategoryFixture.createSmall()));
+            when(categoryReadManager.findByIds(List.of(1L, 5L, 23L)))
+                    .thenReturn(CategoryFixture.createHierarchy());
+
+            // When
+            List<CategoryPathResponse> result =
+                    categoryQueryService.getCategoryPaths(List.of(5L, 23L));
+
+            // Then
+            assertEquals(2, result.size());
+            assertEquals(5L, result.get(0).categoryId());
+            assertEquals(2, result.get(0).breadcrumbs().size());
+            assertEquals(23L, result.get(1).categoryId());
+            assertEquals(3, result.get(1).breadcrumbs().size());
+            verify(categoryReadManager, times(2)).findByIds(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("getCategoryChildren")
+    class GetCategoryChildrenTest {
+
+        @Test
+        @DisplayName("스냅샷에서 하위 카테고리 트리 반환")
+        void shouldReturnChildrenFromSnapshot() {
+            // Given
+            when(categoryReadManager.findAllActive())
+                    .thenReturn(CategoryFixture.createHierarchy());
+
+            // When
+            List<CategoryTreeResponse> result = categoryQueryService.getCategoryChildren(1L);
+
+            // Then
+            assertEquals(1, result.size());
+            assertEquals(5L, result.get(0).id());
+            assertEquals(23L, result.get(0).children().get(0).id());
+            verify(categoryReadManager, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("스냅샷에 없는 카테고리는 존재 확인 후 빈 목록 반환")
+        void shouldReturnEmptyListWhenCategoryIsNotInSnapshot() {
+            // Given
+            Category inactive = CategoryFixture.createInactive();
+            when(categoryReadManager.findById(inactive.getIdValue())).thenReturn(inactive);
+
+            // When
+            List<CategoryTreeResponse> result =
+                    categoryQueryService.getCategoryChildren(inactive.getIdValue());
+
+            // Then
+            assertTrue(result.isEmpty());
+            verify(categoryReadManager, times(1)).findById(inactive.getIdValue());
+        }
     }
 }
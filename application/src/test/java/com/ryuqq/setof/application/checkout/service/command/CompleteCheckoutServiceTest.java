@@ -0,0 +1,194 @@
+package com.ryuqq.setof.application.checkout.service.command;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.application.checkout.dto.command.CompleteCheckoutCommand;
+import com.ryuqq.setof.application.checkout.manager.query.CheckoutReadManager;
+import com.ryuqq.setof.application.checkout.port.out.command.CheckoutPersistencePort;
+import com.ryuqq.setof.application.common.port.out.IdempotencyStorePort;
+import com.ryuqq.setof.application.common.port.out.IdempotencyStorePort.IdempotencyRecord;
+import com.ryuqq.setof.application.common.port.out.StockCacheSyncPort;
+import com.ryuqq.setof.application.common.port.out.StockCounterPort;
+import com.ryuqq.setof.application.discountusagehistory.factory.command.DiscountUsageHistoryCommandFactory;
+import com.ryuqq.setof.application.discountusagehistory.manager.command.DiscountUsageHistoryPersistenceManager;
+import com.ryuqq.setof.application.order.factory.command.OrderCommandFactory;
+import com.ryuqq.setof.application.order.port.out.command.OrderPersistencePort;
+import com.ryuqq.setof.application.payment.manager.query.PaymentReadManager;
+import com.ryuqq.setof.application.payment.port.out.command.PaymentPersistencePort;
+import com.ryuqq.setof.domain.common.util.ClockHolder;
+import com.ryuqq.setof.domain.payment.exception.PaymentCompletionInProgressException;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * CompleteCheckoutService 테스트
+ *
+ * <p>paymentId 멱등 레코드 기반 중복 완료 요청 처리와 커밋 후 완료 기록 실패 처리에 대한 단위 테스트
+ */
+@DisplayName("CompleteCheckoutService")
+@ExtendWith(MockitoExtension.class)
+class CompleteCheckoutServiceTest {
+
+    private static final String PAYMENT_ID = "01936f2a-0000-7000-8000-000000000002";
+    private static final String STORE_KEY = "idempotency:payment:complete:" + PAYMENT_ID;
+    private static final String OWNER_TOKEN = "owner-token";
+
+    @Mock private PaymentReadManager paymentReadManager;
+    @Mock private CheckoutReadManager checkoutReadManager;
+    @Mock private CheckoutPersistencePort checkoutPersistencePort;
+    @Mock private PaymentPersistencePort paymentPersistencePort;
+    @Mock private OrderPersistencePort orderPersistencePort;
+    @Mock private OrderCommandFactory orderCommandFactory;
+    @Mock private DiscountUsageHistoryCommandFactory discountUsageHistoryCommandFactory;
+
+    @Mock private DiscountUsageHistoryPersistenceManager discountUsageHistoryPersistenceManager;
+    @Mock private StockCounterPort stockCounterPort;
+    @Mock private StockCacheSyncPort stockCacheSyncPort;
+    @Mock private IdempotencyStorePort idempotencyStorePort;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private ClockHolder clockHolder;
+
+    private CompleteCheckoutService completeCheckoutService;
+
+    @BeforeEach
+    void setUp() {
+        completeCheckoutService =
+                new CompleteCheckoutService(
+                        paymentReadManager,
+                        checkoutReadManager,
+                        checkoutPersistencePort,
+                        paymentPersistencePort,
+                        orderPersistencePort,
+                        orderCommandFactory,
+                        discountUsageHistoryCommandFactory,
+                        discountUsageHistoryPersistenceManager,
+                        stockCounterPort,
+                        stockCacheSyncPort,
+                        idempotencyStorePort,
+                        transactionTemplate,
+                        clockHolder);
+    }
+
+    @Nested
+    @DisplayName("completeCheckout")
+    class CompleteCheckoutTest {
+
+        @Test
+        @DisplayName("선점 성공 시 완료 처리 후 멱등 레코드를 완료로 기록한다")
+        void shouldRecordCompletionAfterCommit() {
+            // Given
+            when(idempotencyStorePort.begin(eq(STORE_KEY), eq(Void.class), any()))
+                    .thenReturn(IdempotencyRecord.acquired(OWNER_TOKEN));
+
+            // When
+            completeCheckoutService.completeCheckout(createCommand());
+
+            // Then
+            verify(transactionTemplate).executeWithoutResult(any());
+            verify(idempotencyStorePort).complete(eq(STORE_KEY), eq(OWNER_TOKEN), isNull(), any());
+            verify(idempotencyStorePort, never()).release(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("이미 완료된 결제면 재처리 없이 바로 반환한다")
+        void shouldReturnImmediatelyWhenAlreadyCompleted() {
+            // Given
+            when(idempotencyStorePort.begin(eq(STORE_KEY), eq(Void.class), any()))
+                    .thenReturn(IdempotencyRecord.completed(null));
+
+            // When
+            completeCheckoutService.completeCheckout(createCommand());
+
+            // Then
+            verifyNoInteractions(transactionTemplate, paymentReadManager, stockCounterPort);
+            verify(idempotencyStorePort, never()).complete(anyString(), anyString(), any(), any());
+        }
+
+        @Test
+        @DisplayName("처리 중인 결제면 대기 없이 즉시 예외가 발생한다")
+        void shouldFailFastWhenInProgress() {
+            // Given
+            when(idempotencyStorePort.begin(eq(STORE_KEY), eq(Void.class), any()))
+                    .thenReturn(IdempotencyRecord.inProgress());
+
+            // When & Then
+            assertThrows(
+                    PaymentCompletionInProgressException.class,
+                    () -> completeCheckoutService.completeCheckout(createCommand()));
+            verifyNoInteractions(transactionTemplate);
+        }
+
+        @Test
+        @DisplayName("완료 처리 실패 시 멱등 레코드를 해제하여 재시도를 허용한다")
+        void shouldReleaseRecordOnFailure() {
+            // Given
+            when(idempotencyStorePort.begin(eq(STORE_KEY), eq(Void.class), any()))
+                    .thenReturn(IdempotencyRecord.acquired(OWNER_TOKEN));
+            doThrow(new IllegalStateException("DB 오류"))
+                    .when(transactionTemplate)
+                    .executeWithoutResult(any());
+
+            // When & Then
+            assertThrows(
+                    IllegalStateException.class,
+                    () -> completeCheckoutService.completeCheckout(createCommand()));
+            verify(idempotencyStorePort).release(STORE_KEY, OWNER_TOKEN);
+            verify(idempotencyStorePort, never()).complete(anyString(), anyString(), any(), any());
+        }
+
+        @Test
+        @DisplayName("커밋 후 완료 기록에 실패해도 요청은 성공하고 레코드를 해제한다")
+        void shouldReleaseRecordWhenCompletionRecordFails() {
+            // Given
+            when(idempotencyStorePort.begin(eq(STORE_KEY), eq(Void.class), any()))
+                    .thenReturn(IdempotencyRecord.acquired(OWNER_TOKEN));
+            doThrow(new IllegalStateException("Redis 오류"))
+                    .when(idempotencyStorePort)
+                    .complete(eq(STORE_KEY), eq(OWNER_TOKEN), isNull(), any());
+
+            // When & Then
+            assertDoesNotThrow(() -> completeCheckoutService.completeCheckout(createCommand()));
+            verify(idempotencyStorePort).release(STORE_KEY, OWNER_TOKEN);
+        }
+
+        @Test
+        @DisplayName("완료 기록과 레코드 해제가 모두 실패해도 요청은 성공한다")
+        void shouldSucceedWhenReleaseAlsoFails() {
+            // Given
+            when(idempotencyStorePort.begin(eq(STORE_KEY), eq(Void.class), any()))
+                    .thenReturn(IdempotencyRecord.acquired(OWNER_TOKEN));
+            doThrow(new IllegalStateException("Redis 오류"))
+                    .when(idempotencyStorePort)
+                    .complete(eq(STORE_KEY), eq(OWNER_TOKEN), isNull(), any());
+            doThrow(new IllegalStateException("Redis 오류"))
+                    .when(idempotencyStorePort)
+                    .release(STORE_KEY, OWNER_TOKEN);
+
+            // When & Then
+            assertDoesNotThrow(() -> completeCheckoutService.completeCheckout(createCommand()));
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private CompleteCheckoutCommand createCommand() {
+        return new CompleteCheckoutCommand(PAYMENT_ID, "pg-tx-001", new BigDecimal("10000"));
+    }
+}
@@ -0,0 +1,240 @@
+package com.ryuqq.setof.application.checkout.service.command;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.application.checkout.assembler.CheckoutAssembler;
+import com.ryuqq.setof.application.checkout.dto.command.CreateCheckoutCommand;
+import com.ryuqq.setof.application.checkout.dto.response.CheckoutResponse;
+import com.ryuqq.setof.application.checkout.factory.command.CheckoutCommandFactory;
+import com.ryuqq.setof.application.checkout.port.out.command.CheckoutPersistencePort;
+import com.ryuqq.setof.application.common.port.out.IdempotencyStorePort;
+import com.ryuqq.setof.application.common.port.out.IdempotencyStorePort.IdempotencyRecord;
+import com.ryuqq.setof.application.common.port.out.StockCacheSyncPort;
+import com.ryuqq.setof.application.common.port.out.StockCounterPort;
+import com.ryuqq.setof.application.payment.factory.command.PaymentCommandFactory;
+import com.ryuqq.setof.application.payment.port.out.command.PaymentPersistencePort;
+import com.ryuqq.setof.domain.checkout.exception.DuplicateCheckoutException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * CreateCheckoutService 테스트
+ *
+ * <p>멱등 레코드 기반 중복 요청 처리에 대한 단위 테스트
+ */
+@DisplayName("CreateCheckoutService")
+@ExtendWith(MockitoExtension.class)
+class CreateCheckoutServiceTest {
+
+    private static final String IDEMPOTENCY_KEY = "idem-001";
+    private static final String STORE_KEY = "idempotency:checkout:create:" + IDEMPOTENCY_KEY;
+    private static final String MEMBER_ID = "01936f2a-0000-7000-8000-000000000001";
+    private static final String OWNER_TOKEN = "owner-token";
+
+    @Mock private CheckoutCommandFactory checkoutCommandFactory;
+    @Mock private PaymentCommandFactory paymentCommandFactory;
+    @Mock private CheckoutPersistencePort checkoutPersistencePort;
+    @Mock private PaymentPersistencePort paymentPersistencePort;
+    @Mock private CheckoutAssembler checkoutAssembler;
+    @Mock private IdempotencyStorePort idempotencyStorePort;
+    @Mock private StockCounterPort stockCounterPort;
+    @Mock private StockCacheSyncPort stockCacheSyncPort;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private CreateCheckoutService createCheckoutService;
+
+    @BeforeEach
+    void setUp() {
+        createCheckoutService =
+                new CreateCheckoutService(
+                        checkoutCommandFactory,
+                        paymentCommandFactory,
+                        checkoutPersistencePort,
+                        paymentPersistencePort,
+                        checkoutAssembler,
+                        idempotencyStorePort,
+                        stockCounterPort,
+                        stockCacheSyncPort,
+                        transactionTemplate);
+    }
+
+    @Nested
+    @DisplayName("createCheckout")
+    class CreateCheckoutTest {
+
+        @Test
+        @DisplayName("선점 성공 시 체크아웃을 생성하고 응답을 멱등 레코드에 저장한다")
+        void shouldStoreResponseAfterCreation() {
+            // Given
+            CheckoutResponse response = createResponse(MEMBER_ID);
+            when(idempotencyStorePort.begin(eq(STORE_KEY), eq(CheckoutResponse.class), any()))
+                    .thenReturn(IdempotencyRecord.acquired(OWNER_TOKEN));
+            doReturn(response).when(transactionTemplate).execute(any());
+
+            // When
+            CheckoutResponse result = createCheckoutService.createCheckout(createCommand());
+
+            // Then
+            assertSame(response, result);
+            verify(idempotencyStorePort)
+                    .complete(eq(STORE_KEY), eq(OWNER_TOKEN), eq(response), any());
+            verify(idempotencyStorePort, never()).release(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("이미 완료된 멱등키면 생성 없이 저장된 응답을 반환한다")
+        void shouldReplayCompletedResponse() {
+            // Given
+            CheckoutResponse stored = createResponse(MEMBER_ID);
+            when(idempotencyStorePort.begin(eq(STORE_KEY), eq(CheckoutResponse.class), any()))
+                    .thenReturn(IdempotencyRecord.completed(stored));
+
+            // When
+            CheckoutResponse result = createCheckoutService.createCheckout(createCommand());
+
+            // Then
+            assertSame(stored, result);
+            verify(transactionTemplate, never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("다른 회원의 완료된 멱등키면 응답을 공유하지 않고 예외가 발생한다")
+        void shouldRejectCompletedResponseOfOtherMember() {
+            // Given
+            CheckoutResponse stored = createResponse("other-member");
+            when(idempotencyStorePort.begin(eq(STORE_KEY), eq(CheckoutResponse.class), any()))
+                    .thenReturn(IdempotencyRecord.completed(stored));
+
+            // When & Then
+            assertThrows(
+                    DuplicateCheckoutException.class,
+                    () -> createCheckoutService.createCheckout(createCommand()));
+            verify(transactionTemplate, never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("처리 중인 멱등키면 대기 없이 즉시 예외가 발생한다")
+        void shouldFailFastWhenInProgress() {
+            // Given
+            when(idempotencyStorePort.begin(eq(STORE_KEY), eq(CheckoutResponse.class), any()))
+                    .thenReturn(IdempotencyRecord.inProgress());
+
+            // When & Then
+            assertThrows(
+                    DuplicateCheckoutException.class,
+                    () -> createCheckoutService.createCheckout(createCommand()));
+            verify(transactionTemplate, never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("생성 실패 시 멱등 레코드를 해제하여 재시도를 허용한다")
+        void shouldReleaseRecordOnFailure() {
+            // Given
+            when(idempotencyStorePort.begin(eq(STORE_KEY), eq(CheckoutResponse.class), any()))
+                    .thenReturn(IdempotencyRecord.acquired(OWNER_TOKEN));
+            doThrow(new IllegalStateException("DB 오류")).when(transactionTemplate).execute(any());
+
+            // When & Then
+            assertThrows(
+                    IllegalStateException.class,
+                    () -> createCheckoutService.createCheckout(createCommand()));
+            verify(idempotencyStorePort).release(STORE_KEY, OWNER_TOKEN);
+            verify(idempotencyStorePort, never()).complete(anyString(), anyString(), any(), any());
+        }
+
+        @Test
+        @DisplayName("커밋 후 응답 저장에 실패해도 응답을 반환하고 멱등 레코드를 해제한다")
+        void shouldReturnResponseWhenCompleteFails() {
+            // Given
+            CheckoutResponse response = createResponse(MEMBER_ID);
+            when(idempotencyStorePort.begin(eq(STORE_KEY), eq(CheckoutResponse.class), any()))
+                    .thenReturn(IdempotencyRecord.acquired(OWNER_TOKEN));
+            doReturn(response).when(transactionTemplate).execute(any());
+            doThrow(new IllegalStateException("Redis 오류"))
+                    .when(idempotencyStorePort)
+                    .complete(eq(STORE_KEY), eq(OWNER_TOKEN), eq(response), any());
+
+            // When
+            CheckoutResponse result = createCheckoutService.createCheckout(createCommand());
+
+            // Then
+            assertSame(response, result);
+            verify(idempotencyStorePort).release(STORE_KEY, OWNER_TOKEN);
+        }
+
+        @Test
+        @DisplayName("응답 저장과 레코드 해제가 모두 실패해도 응답을 반환한다")
+        void shouldReturnResponseWhenCompleteAndReleaseFail() {
+            // Given
+            CheckoutResponse response = createResponse(MEMBER_ID);
+            when(idempotencyStorePort.begin(eq(STORE_KEY), eq(CheckoutResponse.class), any()))
+                    .thenReturn(IdempotencyRecord.acquired(OWNER_TOKEN));
+            doReturn(response).when(transactionTemplate).execute(any());
+            doThrow(new IllegalStateException("Redis 오류"))
+                    .when(idempotencyStorePort)
+                    .complete(eq(STORE_KEY), eq(OWNER_TOKEN), eq(response), any());
+            doThrow(new IllegalStateException("Redis 오류"))
+                    .when(idempotencyStorePort)
+                    .release(STORE_KEY, OWNER_TOKEN);
+
+            // When
+            CheckoutResponse result = createCheckoutService.createCheckout(createCommand());
+
+            // Then
+            assertSame(response, result);
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private CreateCheckoutCommand createCommand() {
+        return new CreateCheckoutCommand(
+                IDEMPOTENCY_KEY,
+                MEMBER_ID,
+                List.of(),
+                "TOSS",
+                "CARD",
+                "홍길동",
+                "01012345678",
+                "06234",
+                "서울시 강남구",
+                "테헤란로 123",
+                null);
+    }
+
+    private CheckoutResponse createResponse(String memberId) {
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        return new CheckoutResponse(
+                "checkout-001",
+                "payment-001",
+                memberId,
+                "PENDING",
+                List.of(),
+                "홍길동",
+                "01012345678",
+                "06234",
+                "서울시 강남구",
+                "테헤란로 123",
+                new BigDecimal("10000"),
+                now,
+                now.plusSeconds(1800));
+    }
+}
@@ -0,0 +1,161 @@
+package com.ryuqq.setof.application.common.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+/**
+ * ParallelQueryExecutor 테스트
+ *
+ * <p>호출 단위 동시 실행 제한, MDC 전파, 결과 대기 시 예외 전파에 대한 단위 테스트
+ */
+@DisplayName("ParallelQueryExecutor")
+class ParallelQueryExecutorTest {
+
+    private ParallelQueryExecutor parallelQueryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        parallelQueryExecutor = new ParallelQueryExecutor(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelQueryExecutor.destroy();
+        MDC.clear();
+    }
+
+    @Nested
+    @DisplayName("Scope")
+    class ScopeTest {
+
+        @Test
+        @DisplayName("같은 Scope의 작업은 per-call-concurrency개까지만 동시에 실행한다")
+        void shouldBoundConcurrencyWithinScope() {
+            // Given
+            ParallelQueryExecutor.Scope scope = parallelQueryExecutor.openScope();
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+
+            // When
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                futures.add(scope.submit(() -> trackConcurrency(running, maxRunning)));
+            }
+            futures.forEach(parallelQueryExecutor::join);
+
+            // Then
+            assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("다른 Scope의 작업은 서로의 허가를 기다리지 않는다")
+        void shouldNotShareLimitAcrossScopes() throws Exception {
+            // Given
+            CountDownLatch release = new CountDownLatch(1);
+            ParallelQueryExecutor.Scope busy = parallelQueryExecutor.openScope();
+            busy.submit(() -> await(release));
+            busy.submit(() -> await(release));
+
+            // When
+            CompletableFuture<String> other =
+                    parallelQueryExecutor.openScope().submit(() -> "done");
+
+            // Then
+            try {
+                assertThat(other.get(1, TimeUnit.SECONDS)).isEqualTo("done");
+            } finally {
+                release.countDown();
+            }
+        }
+
+        @Test
+        @DisplayName("제출 시점의 MDC를 작업 스레드로 복사한다")
+        void shouldPropagateMdcToTask() {
+            // Given
+            MDC.put("memberId", "member-1");
+            ParallelQueryExecutor.Scope scope = parallelQueryExecutor.openScope();
+
+            // When
+            CompletableFuture<String> withSubject = scope.submit(() -> MDC.get("memberId"));
+            MDC.clear();
+            CompletableFuture<String> withoutSubject = scope.submit(() -> MDC.get("memberId"));
+
+            // Then
+            assertThat(parallelQueryExecutor.join(withSubject)).isEqualTo("member-1");
+            assertThat(parallelQueryExecutor.join(withoutSubject)).isNull();
+        }
+
+        @Test
+        @DisplayName("submitOrDefault는 실패 시 기본값으로 완료한다")
+        void shouldUseFallbackOnFailure() {
+            // When
+            CompletableFuture<String> future =
+                    parallelQueryExecutor
+                            .openScope()
+                            .submitOrDefault(
+                                    () -> {
+                                        throw new IllegalStateException("boom");
+                                    },
+                                    "fallback");
+
+            // Then
+            assertThat(parallelQueryExecutor.join(future)).isEqualTo("fallback");
+        }
+    }
+
+    @Nested
+    @DisplayName("join")
+    class JoinTest {
+
+        @Test
+        @DisplayName("작업의 RuntimeException을 감싸지 않고 그대로 전파한다")
+        void shouldRethrowOriginalException() {
+            // Given
+            CompletableFuture<String> future =
+                    parallelQueryExecutor
+                            .openScope()
+                            .submit(
+                                    () -> {
+                                        throw new IllegalArgumentException("not found");
+                                    });
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> parallelQueryExecutor.join(future));
+        }
+    }
+
+    private static int trackConcurrency(AtomicInteger running, AtomicInteger maxRunning) {
+        int current = running.incrementAndGet();
+        maxRunning.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running.decrementAndGet();
+        }
+        return current;
+    }
+
+    private static String await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "released";
+    }
+}
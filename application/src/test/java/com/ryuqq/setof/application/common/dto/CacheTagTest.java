@@ -0,0 +1,54 @@
+package com.ryuqq.setof.application.common.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CacheTag")
+class CacheTagTest {
+
+    @Nested
+    @DisplayName("value")
+    class ValueTest {
+
+        @Test
+        @DisplayName("type:id 형식으로 반환")
+        void shouldFormatTypeAndId() {
+            // Then
+            assertEquals("seller:12", CacheTag.seller(12L).value());
+            assertEquals("brand:3", CacheTag.brand(3L).value());
+            assertEquals("product-group:7", CacheTag.productGroup(7L).value());
+            assertEquals("category:5", CacheTag.category(5L).value());
+        }
+    }
+
+    @Nested
+    @DisplayName("생성 검증")
+    class ValidationTest {
+
+        @Test
+        @DisplayName("id가 0 이하면 예외")
+        void shouldRejectNonPositiveId() {
+            // Then
+            assertThrows(IllegalArgumentException.class, () -> CacheTag.seller(0L));
+        }
+
+        @Test
+        @DisplayName("type이 비어 있으면 예외")
+        void shouldRejectBlankType() {
+            // Then
+            assertThrows(IllegalArgumentException.class, () -> new CacheTag(" ", 1L));
+        }
+
+        @Test
+        @DisplayName("type에 구분자가 포함되면 예외")
+        void shouldRejectSeparatorInType() {
+            // Then
+            assertThrows(IllegalArgumentException.class, () -> new CacheTag("seller:1", 1L));
+            assertThrows(IllegalArgumentException.class, () -> new CacheTag("{seller}", 1L));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.ryuqq.setof.application.discount.component;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.application.discount.facade.ProductEffectivePriceRefreshFacade;
+import com.ryuqq.setof.domain.discount.vo.DiscountTargetType;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * ProductEffectivePriceRefreshQueue 테스트
+ *
+ * <p>재계산 요청의 비동기 처리, 상품그룹 요청 병합 및 실패 격리에 대한 단위 테스트
+ */
+@DisplayName("ProductEffectivePriceRefreshQueue")
+@ExtendWith(MockitoExtension.class)
+class ProductEffectivePriceRefreshQueueTest {
+
+    @Mock private ProductEffectivePriceRefreshFacade productEffectivePriceRefreshFacade;
+
+    private ProductEffectivePriceRefreshQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new ProductEffectivePriceRefreshQueue(productEffectivePriceRefreshFacade);
+    }
+
+    @Nested
+    @DisplayName("enqueueProductGroup")
+    class EnqueueProductGroup {
+
+        @Test
+        @DisplayName("요청한 상품그룹을 전용 스레드에서 재계산한다")
+        void shouldRefreshEnqueuedProductGroup() {
+            // When
+            queue.enqueueProductGroup(1L);
+            queue.destroy();
+
+            // Then
+            verify(productEffectivePriceRefreshFacade).processProductGroups(List.of(1L));
+        }
+
+        @Test
+        @DisplayName("처리 전에 쌓인 요청은 중복을 합쳐 한 번에 재계산한다")
+        void shouldMergePendingProductGroups() {
+            // Given - 앞선 정책 재계산이 끝나기 전에 상품그룹 요청이 쌓이는 상황
+            CountDownLatch release = new CountDownLatch(1);
+            when(productEffectivePriceRefreshFacade.processPolicyScope(
+                            1L, DiscountTargetType.SELLER, List.of()))
+                    .thenAnswer(
+                            invocation -> {
+                                release.await();
+                                return 0;
+                            });
+            queue.enqueuePolicyScope(1L, DiscountTargetType.SELLER, List.of());
+
+            // When
+            queue.enqueueProductGroup(2L);
+            queue.enqueueProductGroup(1L);
+            queue.enqueueProductGroup(2L);
+            release.countDown();
+            queue.destroy();
+
+            // Then
+            verify(productEffectivePriceRefreshFacade, times(1)).processProductGroups(anyList());
+            verify(productEffectivePriceRefreshFacade).processProductGroups(List.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("재계산이 실패해도 이후 요청은 계속 처리한다")
+        void shouldContinueAfterFailure() {
+            // Given
+            when(productEffectivePriceRefreshFacade.processPolicyScope(
+                            1L, DiscountTargetType.SELLER, List.of()))
+                    .thenThrow(new IllegalStateException("db"));
+
+            // When
+            queue.enqueuePolicyScope(1L, DiscountTargetType.SELLER, List.of());
+            queue.enqueueProductGroup(2L);
+            queue.destroy();
+
+            // Then
+            verify(productEffectivePriceRefreshFacade).processProductGroups(List.of(2L));
+        }
+    }
+
+    @Nested
+    @DisplayName("enqueuePolicyScope")
+    class EnqueuePolicyScope {
+
+        @Test
+        @DisplayName("할인 정책 적용 범위를 전용 스레드에서 재계산한다")
+        void shouldRefreshPolicyScope() {
+            // When
+            queue.enqueuePolicyScope(1L, DiscountTargetType.PRODUCT, List.of(10L, 11L));
+            queue.destroy();
+
+            // Then
+            verify(productEffectivePriceRefreshFacade)
+                    .processPolicyScope(1L, DiscountTargetType.PRODUCT, List.of(10L, 11L));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.ryuqq.setof.application.discount.facade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.application.discount.manager.query.DiscountPolicyReadManager;
+import com.ryuqq.setof.application.discount.manager.query.ProductEffectivePriceReadManager;
+import com.ryuqq.setof.domain.discount.aggregate.ProductEffectivePrice;
+import com.ryuqq.setof.domain.product.ProductGroupFixture;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("ProductEffectivePriceQueryFacade")
+@ExtendWith(MockitoExtension.class)
+class ProductEffectivePriceQueryFacadeTest {
+
+    private static final Long SELLER_ID = 1L;
+    private static final Instant NOW = Instant.parse("2025-06-01T00:00:00Z");
+
+    @Mock private ProductEffectivePriceReadManager productEffectivePriceReadManager;
+    @Mock private DiscountPolicyReadManager discountPolicyReadManager;
+
+    private ProductEffectivePriceQueryFacade facade;
+
+    @BeforeEach
+    void setUp() {
+        facade =
+                new ProductEffectivePriceQueryFacade(
+                        productEffectivePriceReadManager,
+                        discountPolicyReadManager,
+                        () -> Clock.fixed(NOW, ZoneId.of("UTC")));
+    }
+
+    @Nested
+    @DisplayName("findSalePrices")
+    class FindSalePricesTest {
+
+        @Test
+        @DisplayName("유효한 인덱스가 있으면 정책을 조회하지 않고 인덱스의 최종 판매가를 사용")
+        void shouldUseFreshIndex() {
+            // Given
+            when(productEffectivePriceReadManager.findByProductGroupIds(List.of(1L)))
+                    .thenReturn(
+                            List.of(
+                                    ProductEffectivePrice.reconstitute(
+                                            1L, SELLER_ID, 45000L, 40000L, null, NOW)));
+
+            // When
+            Map<Long, Long> salePrices =
+                    facade.findSalePrices(List.of(ProductGroupFixture.createWithId(1L)));
+
+            // Then
+            assertThat(salePrices).containsExactlyEntriesOf(Map.of(1L, 40000L));
+            verify(discountPolicyReadManager, never()).findValidPoliciesBySellerIds(anyList());
+        }
+
+        @Test
+        @DisplayName("인덱스가 없거나 판매가가 다르거나 만료되었으면 셀러 정책으로 실시간 계산")
+        void shouldComputeWhenIndexMissingOrStale() {
+            // Given
+            when(productEffectivePriceReadManager.findByProductGroupIds(anyList()))
+                    .thenReturn(
+                            List.of(
+                                    ProductEffectivePrice.reconstitute(
+                                            1L, SELLER_ID, 50000L, 40000L, null, NOW),
+                                    ProductEffectivePrice.reconstitute(
+                                            2L,
+                                            SELLER_ID,
+                                            45000L,
+                                            40000L,
+                                            NOW.minusSeconds(1),
+                                            NOW.minusSeconds(60))));
+            when(discountPolicyReadManager.findValidPoliciesBySellerIds(List.of(SELLER_ID)))
+                    .thenReturn(List.of());
+
+            // When
+            Map<Long, Long> salePrices =
+                    facade.findSalePrices(
+                            List.of(
+                                    ProductGroupFixture.createWithId(1L),
+                                    ProductGroupFixture.createWithId(2L),
+                                    ProductGroupFixture.createWithId(3L)));
+
+            // Then
+            assertThat(salePrices)
+                    .containsExactlyInAnyOrderEntriesOf(Map.of(1L, 45000L, 2L, 45000L, 3L, 45000L));
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 조회하지 않는다")
+        void shouldSkipEmptyList() {
+            // When
+            Map<Long, Long> salePrices = facade.findSalePrices(List.of());
+
+            // Then
+            assertThat(salePrices).isEmpty();
+            verify(productEffectivePriceReadManager, never()).findByProductGroupIds(anyList());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.ryuqq.setof.application.discount.facade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.application.discount.manager.command.ProductEffectivePricePersistenceManager;
+import com.ryuqq.setof.application.discount.manager.query.DiscountPolicyReadManager;
+import com.ryuqq.setof.application.discount.manager.query.ProductEffectivePriceReadManager;
+import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
+import com.ryuqq.setof.domain.discount.aggregate.ProductEffectivePrice;
+import com.ryuqq.setof.domain.discount.vo.DiscountTargetType;
+import com.ryuqq.setof.domain.product.ProductGroupFixture;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("ProductEffectivePriceRefreshFacade")
+@ExtendWith(MockitoExtension.class)
+class ProductEffectivePriceRefreshFacadeTest {
+
+    private static final Long SELLER_ID = 1L;
+    private static final Instant NOW = Instant.parse("2025-06-01T00:00:00Z");
+
+    @Mock private ProductGroupReadManager productGroupReadManager;
+    @Mock private DiscountPolicyReadManager discountPolicyReadManager;
+    @Mock private ProductEffectivePriceReadManager productEffectivePriceReadManager;
+    @Mock private ProductEffectivePricePersistenceManager productEffectivePricePersistenceManager;
+
+    private ProductEffectivePriceRefreshFacade facade;
+
+    @BeforeEach
+    void setUp() {
+        facade =
+                new ProductEffectivePriceRefreshFacade(
+                        productGroupReadManager,
+                        discountPolicyReadManager,
+                        productEffectivePriceReadManager,
+                        productEffectivePricePersistenceManager,
+                        () -> Clock.fixed(NOW, ZoneId.of("UTC")));
+    }
+
+    @Nested
+    @DisplayName("processPolicyScope")
+    class ProcessPolicyScopeTest {
+
+        @Test
+        @DisplayName("셀러 전체 정책이면 셀러 상품그룹을 Keyset으로 조회하여 재계산")
+        void shouldRefreshAllSellerProducts() {
+            // Given
+            when(productGroupReadManager.findByConditionsAfter(
+                            SELLER_ID, null, null, null, null, null, 500))
+                    .thenReturn(List.of(ProductGroupFixture.createWithId(1L)));
+            when(discountPolicyReadManager.findUnexpiredPoliciesBySellerIds(List.of(SELLER_ID)))
+                    .thenReturn(List.of());
+
+            // When
+            int processed =
+                    facade.processPolicyScope(SELLER_ID, DiscountTargetType.SELLER, List.of());
+
+            // Then
+            assertEquals(1, processed);
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<ProductEffectivePrice>> captor =
+                    ArgumentCaptor.forClass(List.class);
+            verify(productEffectivePricePersistenceManager).persistAll(captor.capture());
+            assertEquals(45000L, captor.getValue().get(0).getSalePrice());
+            assertEquals(NOW, captor.getValue().get(0).getComputedAt());
+        }
+
+        @Test
+        @DisplayName("상품 대상 정책이면 대상 상품그룹만 재계산하고 삭제된 상품그룹 인덱스는 제거")
+        void shouldRefreshTargetProductsAndRemoveDeleted() {
+            // Given
+            when(productGroupReadManager.findByIds(List.of(1L, 99L)))
+                    .thenReturn(List.of(ProductGroupFixture.createWithId(1L)));
+            when(discountPolicyReadManager.findUnexpiredPoliciesBySellerIds(List.of(SELLER_ID)))
+                    .thenReturn(List.of());
+
+            // When
+            int processed =
+                    facade.processPolicyScope(
+                            SELLER_ID, DiscountTargetType.PRODUCT, List.of(1L, 99L));
+
+            // Then
+            assertEquals(2, processed);
+            verify(productEffectivePricePersistenceManager).deleteByProductGroupIds(List.of(99L));
+            verify(productEffectivePricePersistenceManager).persistAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("processMissing")
+    class ProcessMissingTest {
+
+        @Test
+        @DisplayName("인덱스가 없는 상품그룹만 계산하고 삭제된 상품그룹은 건너뛴다")
+        void shouldRefreshOnlyUnindexedProductGroups() {
+            // Given
+            when(productEffectivePriceReadManager.findByProductGroupIds(List.of(1L, 2L)))
+                    .thenReturn(
+                            List.of(
+                                    ProductEffectivePrice.reconstitute(
+                                            1L, SELLER_ID, 45000L, 45000L, null, NOW)));
+            when(discountPolicyReadManager.findUnexpiredPoliciesBySellerIds(List.of(SELLER_ID)))
+                    .thenReturn(List.of());
+
+            // When
+            int processed =
+                    facade.processMissing(
+                            List.of(
+                                    ProductGroupFixture.createWithId(1L),
+                                    ProductGroupFixture.createWithId(2L),
+                                    ProductGroupFixture.createDeleted()));
+
+            // Then
+            assertEquals(1, processed);
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<ProductEffectivePrice>> captor =
+                    ArgumentCaptor.forClass(List.class);
+            verify(productEffectivePricePersistenceManager).persistAll(captor.capture());
+            assertEquals(2L, captor.getValue().get(0).getProductGroupId());
+        }
+
+        @Test
+        @DisplayName("모두 인덱스가 있으면 저장하지 않는다")
+        void shouldSkipWhenAllIndexed() {
+            // Given
+            when(productEffectivePriceReadManager.findByProductGroupIds(List.of(1L)))
+                    .thenReturn(
+                            List.of(
+                                    ProductEffectivePrice.reconstitute(
+                                            1L, SELLER_ID, 45000L, 45000L, null, NOW)));
+
+            // When
+            int processed = facade.processMissing(List.of(ProductGroupFixture.createWithId(1L)));
+
+            // Then
+            assertEquals(0, processed);
+            verify(productEffectivePricePersistenceManager, never()).persistAll(anyList());
+        }
+    }
+}
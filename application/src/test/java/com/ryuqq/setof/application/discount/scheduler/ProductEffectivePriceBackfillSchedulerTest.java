@@ -0,0 +1,116 @@
+package com.ryuqq.setof.application.discount.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.application.discount.facade.ProductEffectivePriceRefreshFacade;
+import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
+import com.ryuqq.setof.domain.product.ProductGroupFixture;
+import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * ProductEffectivePriceBackfillScheduler 테스트
+ *
+ * <p>Keyset 순회, 완료 후 종료 및 실패 청크 재시도에 대한 단위 테스트
+ */
+@DisplayName("ProductEffectivePriceBackfillScheduler")
+@ExtendWith(MockitoExtension.class)
+class ProductEffectivePriceBackfillSchedulerTest {
+
+    @Mock private ProductGroupReadManager productGroupReadManager;
+    @Mock private ProductEffectivePriceRefreshFacade productEffectivePriceRefreshFacade;
+
+    private ProductEffectivePriceBackfillScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler =
+                new ProductEffectivePriceBackfillScheduler(
+                        productGroupReadManager, productEffectivePriceRefreshFacade);
+    }
+
+    @Nested
+    @DisplayName("backfill")
+    class Backfill {
+
+        @Test
+        @DisplayName("마지막 상품그룹 ID 이후로 이어서 조회하고 마지막 청크 이후에는 실행하지 않는다")
+        void shouldWalkKeysetAndStopAfterLastChunk() {
+            // Given
+            List<ProductGroup> fullChunk = chunk(1L, 500L);
+            List<ProductGroup> lastChunk = chunk(501L, 501L);
+            when(productGroupReadManager.findByConditionsAfter(
+                            null, null, null, null, null, null, 500))
+                    .thenReturn(fullChunk);
+            when(productGroupReadManager.findByConditionsAfter(
+                            null, null, null, null, null, 500L, 500))
+                    .thenReturn(lastChunk);
+
+            // When
+            scheduler.backfill();
+            scheduler.backfill();
+
+            // Then
+            verify(productEffectivePriceRefreshFacade).processMissing(fullChunk);
+            verify(productEffectivePriceRefreshFacade).processMissing(lastChunk);
+            verify(productGroupReadManager, times(2))
+                    .findByConditionsAfter(any(), any(), any(), any(), any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("청크 처리에 실패하면 다음 실행에서 같은 청크부터 다시 시도한다")
+        void shouldRetryFailedChunk() {
+            // Given
+            List<ProductGroup> lastChunk = chunk(1L, 2L);
+            when(productGroupReadManager.findByConditionsAfter(
+                            null, null, null, null, null, null, 500))
+                    .thenReturn(lastChunk);
+            when(productEffectivePriceRefreshFacade.processMissing(lastChunk))
+                    .thenThrow(new IllegalStateException("db"))
+                    .thenReturn(2);
+
+            // When
+            scheduler.backfill();
+            scheduler.backfill();
+            scheduler.backfill();
+
+            // Then
+            verify(productEffectivePriceRefreshFacade, times(2)).processMissing(lastChunk);
+        }
+
+        @Test
+        @DisplayName("상품그룹이 없으면 계산하지 않고 종료한다")
+        void shouldCompleteWhenNoProductGroups() {
+            // Given
+            when(productGroupReadManager.findByConditionsAfter(
+                            null, null, null, null, null, null, 500))
+                    .thenReturn(List.of());
+
+            // When
+            scheduler.backfill();
+
+            // Then
+            verify(productEffectivePriceRefreshFacade, never()).processMissing(anyList());
+        }
+    }
+
+    private List<ProductGroup> chunk(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(ProductGroupFixture::createWithId)
+                .toList();
+    }
+}
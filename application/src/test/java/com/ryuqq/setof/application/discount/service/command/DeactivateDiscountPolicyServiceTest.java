@@ -6,6 +6,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.ryuqq.setof.application.discount.dto.command.DeactivateDiscountPolicyCommand;
+import com.ryuqq.setof.application.discount.event.DiscountPolicyEventDispatcher;
 import com.ryuqq.setof.application.discount.manager.command.DiscountPolicyPersistenceManager;
 import com.ryuqq.setof.application.discount.manager.query.DiscountPolicyReadManager;
 import com.ryuqq.setof.domain.common.util.ClockHolder;
@@ -52,6 +53,7 @@ class DeactivateDiscountPolicyServiceTest {
 
     @Mock private DiscountPolicyReadManager discountPolicyReadManager;
     @Mock private DiscountPolicyPersistenceManager discountPolicyPersistenceManager;
+    @Mock private DiscountPolicyEventDispatcher discountPolicyEventDispatcher;
     @Mock private ClockHolder clockHolder;
 
     private DeactivateDiscountPolicyService deactivateDiscountPolicyService;
@@ -60,7 +62,10 @@ class DeactivateDiscountPolicyServiceTest {
     void setUp() {
         deactivateDiscountPolicyService =
                 new DeactivateDiscountPolicyService(
-                        discountPolicyReadManager, discountPolicyPersistenceManager, clockHolder);
+                        discountPolicyReadManager,
+                        discountPolicyPersistenceManager,
+                        discountPolicyEventDispatcher,
+                        clockHolder);
     }
 
     @Nested
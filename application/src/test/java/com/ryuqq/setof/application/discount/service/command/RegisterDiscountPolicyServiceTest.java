@@ -7,6 +7,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.ryuqq.setof.application.discount.dto.command.RegisterDiscountPolicyCommand;
+import com.ryuqq.setof.application.discount.event.DiscountPolicyEventDispatcher;
 import com.ryuqq.setof.application.discount.factory.command.DiscountPolicyCommandFactory;
 import com.ryuqq.setof.application.discount.manager.command.DiscountPolicyPersistenceManager;
 import com.ryuqq.setof.domain.discount.aggregate.DiscountPolicy;
@@ -48,6 +49,7 @@ class RegisterDiscountPolicyServiceTest {
 
     @Mock private DiscountPolicyCommandFactory discountPolicyCommandFactory;
     @Mock private DiscountPolicyPersistenceManager discountPolicyPersistenceManager;
+    @Mock private DiscountPolicyEventDispatcher discountPolicyEventDispatcher;
 
     private RegisterDiscountPolicyService registerDiscountPolicyService;
 
@@ -55,7 +57,9 @@ class RegisterDiscountPolicyServiceTest {
     void setUp() {
         registerDiscountPolicyService =
                 new RegisterDiscountPolicyService(
-                        discountPolicyCommandFactory, discountPolicyPersistenceManager);
+                        discountPolicyCommandFactory,
+                        discountPolicyPersistenceManager,
+                        discountPolicyEventDispatcher);
     }
 
     @Nested
@@ -0,0 +1,242 @@
+package com.ryuqq.setof.application.product.facade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.application.common.component.ParallelQueryExecutor;
+import com.ryuqq.setof.application.product.assembler.ProductGroupAssembler;
+import com.ryuqq.setof.application.product.dto.response.FullProductResponse;
+import com.ryuqq.setof.application.product.manager.command.FullProductCacheManager;
+import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
+import com.ryuqq.setof.application.product.manager.query.ProductSkuReadManager;
+import com.ryuqq.setof.application.productdescription.assembler.ProductDescriptionAssembler;
+import com.ryuqq.setof.application.productdescription.manager.query.ProductDescriptionReadManager;
+import com.ryuqq.setof.application.productimage.assembler.ProductImageAssembler;
+import com.ryuqq.setof.application.productimage.manager.query.ProductImageReadManager;
+import com.ryuqq.setof.application.productnotice.assembler.ProductNoticeAssembler;
+import com.ryuqq.setof.application.productnotice.manager.query.ProductNoticeReadManager;
+import com.ryuqq.setof.application.productstock.assembler.ProductStockAssembler;
+import com.ryuqq.setof.application.productstock.dto.response.ProductStockResponse;
+import com.ryuqq.setof.application.productstock.manager.query.ProductStockCacheReadManager;
+import com.ryuqq.setof.application.productstock.manager.query.ProductStockReadManager;
+import com.ryuqq.setof.domain.product.ProductFixture;
+import com.ryuqq.setof.domain.product.ProductGroupFixture;
+import com.ryuqq.setof.domain.product.exception.ProductGroupNotFoundException;
+import com.ryuqq.setof.domain.productimage.ProductImageFixture;
+import com.ryuqq.setof.domain.productstock.ProductStockFixture;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("ProductQueryFacade")
+@ExtendWith(MockitoExtension.class)
+class ProductQueryFacadeTest {
+
+    private static final Long PRODUCT_GROUP_ID = 1L;
+
+    @Mock private ProductGroupReadManager productGroupReadManager;
+    @Mock private ProductSkuReadManager productSkuReadManager;
+    @Mock private ProductImageReadManager imageReadManager;
+    @Mock private ProductDescriptionReadManager descriptionReadManager;
+    @Mock private ProductNoticeReadManager noticeReadManager;
+    @Mock private ProductStockReadManager stockReadManager;
+    @Mock private ProductStockCacheReadManager stockCacheReadManager;
+    @Mock private FullProductCacheManager fullProductCacheManager;
+
+    private ParallelQueryExecutor parallelQueryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        parallelQueryExecutor = new ParallelQueryExecutor(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelQueryExecutor.destroy();
+    }
+
+    private ProductQueryFacade createFacade(boolean parallelLoading) {
+        lenient()
+                .when(fullProductCacheManager.getOrLoad(anyLong(), any()))
+                .thenAnswer(
+                        invocation ->
+                                invocation.<Supplier<FullProductResponse>>getArgument(1).get());
+        return new ProductQueryFacade(
+                productGroupReadManager,
+                productSkuReadManager,
+                imageReadManager,
+                descriptionReadManager,
+                noticeReadManager,
+                stockReadManager,
+                stockCacheReadManager,
+                fullProductCacheManager,
+                new ProductGroupAssembler(),
+                new ProductImageAssembler(),
+                new ProductDescriptionAssembler(),
+                new ProductNoticeAssembler(),
+                new ProductStockAssembler(),
+                parallelQueryExecutor,
+                parallelLoading);
+    }
+
+    private void givenProduct() {
+        when(productGroupReadManager.findById(PRODUCT_GROUP_ID))
+                .thenReturn(ProductGroupFixture.createWithId(PRODUCT_GROUP_ID));
+        when(productSkuReadManager.findByProductGroupId(PRODUCT_GROUP_ID))
+                .thenReturn(List.of(ProductFixture.createWithId(10L)));
+        when(imageReadManager.findByProductGroupId(PRODUCT_GROUP_ID))
+                .thenReturn(List.of(ProductImageFixture.reconstitute()));
+        when(descriptionReadManager.findByProductGroupId(PRODUCT_GROUP_ID))
+                .thenReturn(Optional.empty());
+        when(noticeReadManager.findByProductGroupId(PRODUCT_GROUP_ID))
+                .thenReturn(Optional.empty());
+        when(stockReadManager.findByProductIds(List.of(10L)))
+                .thenReturn(List.of(ProductStockFixture.createWithQuantity(100L, 10L, 50)));
+    }
+
+    @Nested
+    @DisplayName("getFullProduct - 병렬 로딩")
+    class ParallelLoadingTest {
+
+        @Test
+        @DisplayName("전체 상품 정보를 조립하고 재고는 Redis 실시간 수량을 사용")
+        void shouldAssembleWithLiveStockQuantity() {
+            // Given
+            givenProduct();
+            when(stockCacheReadManager.findCachedQuantities(List.of(100L)))
+                    .thenReturn(Map.of(100L, 7));
+
+            // When
+            FullProductResponse result = createFacade(true).getFullProduct(PRODUCT_GROUP_ID);
+
+            // Then
+            assertNotNull(result.productGroup());
+            assertEquals(1, result.products().size());
+            assertEquals(1, result.images().size());
+            assertNull(result.description());
+            assertNull(result.notice());
+            assertEquals(1, result.stocks().size());
+            assertEquals(7, result.stocks().get(0).quantity());
+        }
+
+        @Test
+        @DisplayName("Redis에 재고 키가 없으면 DB 수량 사용")
+        void shouldUseDatabaseQuantityWhenCacheMiss() {
+            // Given
+            givenProduct();
+            when(stockCacheReadManager.findCachedQuantities(anyList())).thenReturn(Map.of());
+
+            // When
+            FullProductResponse result = createFacade(true).getFullProduct(PRODUCT_GROUP_ID);
+
+            // Then
+            assertEquals(50, result.stocks().get(0).quantity());
+        }
+
+        @Test
+        @DisplayName("상품그룹이 없으면 ProductGroupNotFoundException을 그대로 전파")
+        void shouldPropagateNotFoundException() {
+            // Given
+            when(productGroupReadManager.findById(PRODUCT_GROUP_ID))
+                    .thenThrow(new ProductGroupNotFoundException(PRODUCT_GROUP_ID));
+
+            // When & Then
+            ProductQueryFacade facade = createFacade(true);
+            assertThrows(
+                    ProductGroupNotFoundException.class,
+                    () -> facade.getFullProduct(PRODUCT_GROUP_ID));
+        }
+    }
+
+    @Nested
+    @DisplayName("getFullProduct - 순차 로딩")
+    class SequentialLoadingTest {
+
+        @Test
+        @DisplayName("병렬 로딩과 동일한 결과를 반환")
+        void shouldReturnSameResultAsParallelLoading() {
+            // Given
+            givenProduct();
+            when(stockCacheReadManager.findCachedQuantities(List.of(100L)))
+                    .thenReturn(Map.of(100L, 7));
+
+            // When
+            FullProductResponse sequential = createFacade(false).getFullProduct(PRODUCT_GROUP_ID);
+            FullProductResponse parallel = createFacade(true).getFullProduct(PRODUCT_GROUP_ID);
+
+            // Then
+            assertEquals(parallel, sequential);
+        }
+    }
+
+    @Nested
+    @DisplayName("getFullProduct - 응답 캐시")
+    class ResponseCacheTest {
+
+        @Test
+        @DisplayName("캐시 적중 시 DB를 조회하지 않고 재고만 Redis 실시간 수량으로 덮어씀")
+        void shouldOverlayLiveStockOnCacheHit() {
+            // Given
+            FullProductResponse cached =
+                    new FullProductResponse(
+                            null,
+                            List.of(),
+                            List.of(),
+                            null,
+                            null,
+                            List.of(ProductStockResponse.of(100L, 10L, 50, Instant.EPOCH)));
+            ProductQueryFacade facade = createFacade(true);
+            doReturn(cached).when(fullProductCacheManager).getOrLoad(eq(PRODUCT_GROUP_ID), any());
+            when(stockCacheReadManager.findCachedQuantities(List.of(100L)))
+                    .thenReturn(Map.of(100L, 3));
+
+            // When
+            FullProductResponse result = facade.getFullProduct(PRODUCT_GROUP_ID);
+
+            // Then
+            assertEquals(3, result.stocks().get(0).quantity());
+            verify(productGroupReadManager, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("캐시 미스 시 DB 수량 기준 응답을 캐시에 저장")
+        void shouldCacheDatabaseQuantityOnCacheMiss() {
+            // Given
+            givenProduct();
+            when(stockCacheReadManager.findCachedQuantities(List.of(100L)))
+                    .thenReturn(Map.of(100L, 7));
+
+            // When
+            FullProductResponse result = createFacade(true).getFullProduct(PRODUCT_GROUP_ID);
+
+            // Then
+            assertEquals(7, result.stocks().get(0).quantity());
+            ArgumentCaptor<Supplier<FullProductResponse>> loader =
+                    ArgumentCaptor.forClass(Supplier.class);
+            verify(fullProductCacheManager).getOrLoad(eq(PRODUCT_GROUP_ID), loader.capture());
+            assertEquals(50, loader.getValue().get().stocks().get(0).quantity());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.ryuqq.setof.application.product.facade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.application.brand.manager.query.BrandReadManager;
+import com.ryuqq.setof.application.category.manager.query.CategoryReadManager;
+import com.ryuqq.setof.application.product.assembler.ProductSearchAssembler;
+import com.ryuqq.setof.application.product.dto.bundle.ProductSearchDocument;
+import com.ryuqq.setof.application.product.manager.command.ProductSearchIndexManager;
+import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
+import com.ryuqq.setof.application.productimage.manager.query.ProductImageReadManager;
+import com.ryuqq.setof.application.review.manager.query.ProductRatingStatsReadManager;
+import com.ryuqq.setof.domain.product.ProductGroupFixture;
+import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * ProductSearchIndexFacade 테스트
+ *
+ * <p>전체 재구축의 Keyset 페이지 순회/일괄 교체와 증분 동기화의 색인/제거 분기에 대한 단위 테스트
+ */
+@DisplayName("ProductSearchIndexFacade")
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexFacadeTest {
+
+    private static final int PAGE_SIZE = 500;
+    private static final Instant SINCE = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock private ProductGroupReadManager productGroupReadManager;
+    @Mock private BrandReadManager brandReadManager;
+    @Mock private CategoryReadManager categoryReadManager;
+    @Mock private ProductImageReadManager productImageReadManager;
+    @Mock private ProductRatingStatsReadManager productRatingStatsReadManager;
+    @Mock private ProductSearchIndexManager productSearchIndexManager;
+
+    private ProductSearchIndexFacade facade;
+
+    @BeforeEach
+    void setUp() {
+        facade =
+                new ProductSearchIndexFacade(
+                        productGroupReadManager,
+                        brandReadManager,
+                        categoryReadManager,
+                        productImageReadManager,
+                        productRatingStatsReadManager,
+                        productSearchIndexManager,
+                        new ProductSearchAssembler());
+    }
+
+    @Nested
+    @DisplayName("executeRebuild")
+    class ExecuteRebuild {
+
+        @Test
+        @DisplayName("마지막 ID를 커서로 페이지를 끝까지 읽은 뒤 인덱스를 한 번에 교체한다")
+        void shouldScanAllPagesAndReplaceIndexOnce() {
+            // Given
+            List<ProductGroup> firstPage =
+                    LongStream.rangeClosed(1, PAGE_SIZE)
+                            .mapToObj(ProductGroupFixture::createWithId)
+                            .toList();
+            when(productGroupReadManager.findByConditionsAfter(
+                            null, null, null, null, "ACTIVE", null, PAGE_SIZE))
+                    .thenReturn(firstPage);
+            when(productGroupReadManager.findByConditionsAfter(
+                            null, null, null, null, "ACTIVE", (long) PAGE_SIZE, PAGE_SIZE))
+                    .thenReturn(List.of(ProductGroupFixture.createWithId(PAGE_SIZE + 1L)));
+
+            // When
+            int indexed = facade.executeRebuild();
+
+            // Then
+            assertThat(indexed).isEqualTo(PAGE_SIZE + 1);
+            ArgumentCaptor<List<ProductSearchDocument>> captor = documentsCaptor();
+            verify(productSearchIndexManager).replaceAll(captor.capture());
+            assertThat(captor.getValue()).hasSize(PAGE_SIZE + 1);
+            assertThat(captor.getValue().get(PAGE_SIZE).productGroupId())
+                    .isEqualTo(PAGE_SIZE + 1L);
+            assertThat(captor.getValue().get(0).status()).isEqualTo("ACTIVE");
+        }
+
+        @Test
+        @DisplayName("ACTIVE 상품그룹이 없으면 빈 인덱스로 교체한다")
+        void shouldReplaceWithEmptyIndexWhenNothingActive() {
+            // Given
+            when(productGroupReadManager.findByConditionsAfter(
+                            null, null, null, null, "ACTIVE", null, PAGE_SIZE))
+                    .thenReturn(List.of());
+
+            // When
+            int indexed = facade.executeRebuild();
+
+            // Then
+            assertThat(indexed).isZero();
+            verify(productSearchIndexManager).replaceAll(List.of());
+        }
+    }
+
+    @Nested
+    @DisplayName("executeSync")
+    class ExecuteSync {
+
+        @Test
+        @DisplayName("ACTIVE 상품그룹은 색인하고 비활성/삭제 상품그룹은 인덱스에서 제거한다")
+        void shouldIndexActiveAndRemoveOthers() {
+            // Given
+            ProductGroup active = ProductGroupFixture.createWithId(1L);
+            ProductGroup inactive = ProductGroupFixture.createInactive();
+            ProductGroup deleted = ProductGroupFixture.createDeleted();
+            when(productGroupReadManager.findByUpdatedAtAfter(SINCE, null, null, PAGE_SIZE))
+                    .thenReturn(List.of(active, inactive, deleted));
+
+            // When
+            int synced = facade.executeSync(SINCE);
+
+            // Then
+            assertThat(synced).isEqualTo(3);
+            ArgumentCaptor<List<ProductSearchDocument>> captor = documentsCaptor();
+            verify(productSearchIndexManager).index(captor.capture());
+            assertThat(captor.getValue())
+                    .extracting(ProductSearchDocument::productGroupId)
+                    .containsExactly(1L);
+            verify(productSearchIndexManager)
+                    .remove(List.of(inactive.getIdValue(), deleted.getIdValue()));
+        }
+
+        @Test
+        @DisplayName("변경분이 없으면 색인/제거를 빈 목록으로도 호출하지 않는다")
+        void shouldDoNothingWithoutChanges() {
+            // Given
+            when(productGroupReadManager.findByUpdatedAtAfter(any(), any(), any(), anyInt()))
+                    .thenReturn(List.of());
+
+            // When
+            int synced = facade.executeSync(SINCE);
+
+            // Then
+            assertThat(synced).isZero();
+            verify(productSearchIndexManager, never()).index(any());
+            verify(productSearchIndexManager, never()).remove(any());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<ProductSearchDocument>> documentsCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
@@ -0,0 +1,230 @@
+package com.ryuqq.setof.application.product.facade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.application.brand.manager.query.BrandReadManager;
+import com.ryuqq.setof.application.discount.manager.query.DiscountPolicyReadManager;
+import com.ryuqq.setof.application.discount.manager.query.ProductEffectivePriceReadManager;
+import com.ryuqq.setof.application.product.assembler.ProductThumbnailAssembler;
+import com.ryuqq.setof.application.product.dto.bundle.ProductThumbnailSnapshot;
+import com.ryuqq.setof.application.product.dto.response.ProductGroupThumbnailResponse;
+import com.ryuqq.setof.application.product.manager.command.ProductThumbnailCacheManager;
+import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
+import com.ryuqq.setof.application.productimage.manager.query.ProductImageReadManager;
+import com.ryuqq.setof.application.review.manager.query.ProductRatingStatsReadManager;
+import com.ryuqq.setof.domain.discount.aggregate.DiscountPolicy;
+import com.ryuqq.setof.domain.discount.aggregate.ProductEffectivePrice;
+import com.ryuqq.setof.domain.discount.vo.CostShare;
+import com.ryuqq.setof.domain.discount.vo.DiscountGroup;
+import com.ryuqq.setof.domain.discount.vo.DiscountPolicyId;
+import com.ryuqq.setof.domain.discount.vo.DiscountRate;
+import com.ryuqq.setof.domain.discount.vo.DiscountTargetType;
+import com.ryuqq.setof.domain.discount.vo.DiscountType;
+import com.ryuqq.setof.domain.discount.vo.MaximumDiscountAmount;
+import com.ryuqq.setof.domain.discount.vo.MinimumOrderAmount;
+import com.ryuqq.setof.domain.discount.vo.PolicyName;
+import com.ryuqq.setof.domain.discount.vo.Priority;
+import com.ryuqq.setof.domain.discount.vo.UsageLimit;
+import com.ryuqq.setof.domain.discount.vo.ValidPeriod;
+import com.ryuqq.setof.domain.product.ProductGroupFixture;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("ProductThumbnailQueryFacade")
+@ExtendWith(MockitoExtension.class)
+class ProductThumbnailQueryFacadeTest {
+
+    private static final Long SELLER_ID = 1L;
+    private static final Instant FIXED_TIME = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Instant NOW = Instant.parse("2025-06-01T00:00:00Z");
+    private static final Instant FAR_FUTURE_TIME = Instant.parse("2099-12-31T23:59:59Z");
+
+    @Mock private ProductThumbnailCacheManager productThumbnailCacheManager;
+    @Mock private ProductGroupReadManager productGroupReadManager;
+    @Mock private BrandReadManager brandReadManager;
+    @Mock private ProductImageReadManager productImageReadManager;
+    @Mock private ProductRatingStatsReadManager productRatingStatsReadManager;
+    @Mock private DiscountPolicyReadManager discountPolicyReadManager;
+    @Mock private ProductEffectivePriceReadManager productEffectivePriceReadManager;
+
+    private ProductThumbnailQueryFacade facade;
+
+    @BeforeEach
+    void setUp() {
+        facade =
+                new ProductThumbnailQueryFacade(
+                        productThumbnailCacheManager,
+                        productGroupReadManager,
+                        brandReadManager,
+                        productImageReadManager,
+                        productRatingStatsReadManager,
+                        discountPolicyReadManager,
+                        productEffectivePriceReadManager,
+                        new ProductThumbnailAssembler(),
+                        () -> Clock.fixed(NOW, ZoneId.of("UTC")));
+    }
+
+    @Nested
+    @DisplayName("execute")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("캐시 미스만 DB에서 일괄 조회하고 요청 순서를 유지")
+        void shouldLoadOnlyMissesAndKeepRequestOrder() {
+            // Given
+            when(productThumbnailCacheManager.findAll(List.of(2L, 1L)))
+                    .thenReturn(Map.of(2L, createSnapshot(2L, 20000)));
+            when(productGroupReadManager.findByIds(List.of(1L)))
+                    .thenReturn(List.of(ProductGroupFixture.createWithId(1L)));
+            when(brandReadManager.findByIds(List.of(1L))).thenReturn(List.of());
+            when(productRatingStatsReadManager.findByProductGroupIds(List.of(1L)))
+                    .thenReturn(List.of());
+            when(productImageReadManager.findRepresentativeImageUrls(List.of(1L)))
+                    .thenReturn(Map.of(1L, "https://cdn.example.com/1.jpg"));
+            when(discountPolicyReadManager.findValidPoliciesBySellerIds(List.of(SELLER_ID)))
+                    .thenReturn(List.of());
+
+            // When
+            List<ProductGroupThumbnailResponse> result = facade.execute(List.of(2L, 1L, 2L));
+
+            // Then
+            assertEquals(
+                    List.of(2L, 1L),
+                    result.stream().map(ProductGroupThumbnailResponse::productGroupId).toList());
+            assertEquals("https://cdn.example.com/1.jpg", result.get(1).imageUrl());
+            verify(productThumbnailCacheManager).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("모두 캐시 적중하면 상품그룹 DB 조회 없이 할인만 일괄 적용")
+        void shouldApplyDiscountWithoutLoadingWhenAllCached() {
+            // Given
+            when(productThumbnailCacheManager.findAll(List.of(1L, 2L)))
+                    .thenReturn(
+                            Map.of(1L, createSnapshot(1L, 45000), 2L, createSnapshot(2L, 20000)));
+            when(discountPolicyReadManager.findValidPoliciesBySellerIds(List.of(SELLER_ID)))
+                    .thenReturn(List.of(createRateDiscountPolicy()));
+
+            // When
+            List<ProductGroupThumbnailResponse> result = facade.execute(List.of(1L, 2L));
+
+            // Then
+            assertEquals(0, new BigDecimal("40500").compareTo(result.get(0).salePrice()));
+            assertEquals(0, new BigDecimal("18000").compareTo(result.get(1).salePrice()));
+            verifyNoInteractions(productGroupReadManager);
+            verify(productThumbnailCacheManager, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("최종 판매가 인덱스가 유효하면 할인 정책을 조회하지 않음")
+        void shouldUseEffectivePriceIndexWithoutResolvingPolicies() {
+            // Given
+            when(productThumbnailCacheManager.findAll(List.of(1L)))
+                    .thenReturn(Map.of(1L, createSnapshot(1L, 45000)));
+            when(productEffectivePriceReadManager.findByProductGroupIds(List.of(1L)))
+                    .thenReturn(
+                            List.of(
+                                    ProductEffectivePrice.reconstitute(
+                                            1L, SELLER_ID, 45000L, 40500L, FAR_FUTURE_TIME, NOW)));
+
+            // When
+            List<ProductGroupThumbnailResponse> result = facade.execute(List.of(1L));
+
+            // Then
+            assertEquals(0, new BigDecimal("40500").compareTo(result.get(0).salePrice()));
+            verify(discountPolicyReadManager, never()).findValidPoliciesBySellerIds(anyList());
+        }
+
+        @Test
+        @DisplayName("만료되었거나 판매가가 바뀐 인덱스는 무시하고 실시간 계산")
+        void shouldFallBackToLiveDiscountWhenIndexIsStale() {
+            // Given
+            when(productThumbnailCacheManager.findAll(List.of(1L)))
+                    .thenReturn(Map.of(1L, createSnapshot(1L, 45000)));
+            when(productEffectivePriceReadManager.findByProductGroupIds(List.of(1L)))
+                    .thenReturn(
+                            List.of(
+                                    ProductEffectivePrice.reconstitute(
+                                            1L, SELLER_ID, 50000L, 45000L, null, FIXED_TIME)));
+            when(discountPolicyReadManager.findValidPoliciesBySellerIds(List.of(SELLER_ID)))
+                    .thenReturn(List.of(createRateDiscountPolicy()));
+
+            // When
+            List<ProductGroupThumbnailResponse> result = facade.execute(List.of(1L));
+
+            // Then
+            assertEquals(0, new BigDecimal("40500").compareTo(result.get(0).salePrice()));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 상품그룹은 응답에서 제외")
+        void shouldSkipMissingProductGroups() {
+            // Given
+            when(productThumbnailCacheManager.findAll(List.of(99L))).thenReturn(Map.of());
+            when(productGroupReadManager.findByIds(List.of(99L))).thenReturn(List.of());
+
+            // When
+            List<ProductGroupThumbnailResponse> result = facade.execute(List.of(99L));
+
+            // Then
+            assertTrue(result.isEmpty());
+        }
+    }
+
+    private ProductThumbnailSnapshot createSnapshot(Long productGroupId, long currentPrice) {
+        return new ProductThumbnailSnapshot(
+                productGroupId,
+                SELLER_ID,
+                "상품 " + productGroupId,
+                1L,
+                "브랜드",
+                100L,
+                BigDecimal.valueOf(currentPrice + 5000),
+                BigDecimal.valueOf(currentPrice),
+                null,
+                4.5,
+                10L,
+                "ACTIVE",
+                FIXED_TIME);
+    }
+
+    private DiscountPolicy createRateDiscountPolicy() {
+        return DiscountPolicy.reconstitute(
+                DiscountPolicyId.of(1L),
+                SELLER_ID,
+                PolicyName.of("셀러 전체 할인"),
+                DiscountGroup.PRODUCT,
+                DiscountType.RATE,
+                DiscountTargetType.ALL,
+                List.of(),
+                DiscountRate.of(10),
+                null,
+                MaximumDiscountAmount.of(10000L),
+                MinimumOrderAmount.of(0L),
+                ValidPeriod.of(FIXED_TIME, FAR_FUTURE_TIME),
+                UsageLimit.of(1, 1000),
+                CostShare.of(new BigDecimal("50"), new BigDecimal("50")),
+                Priority.of(100),
+                true,
+                FIXED_TIME,
+                FIXED_TIME,
+                null);
+    }
+}
@@ -0,0 +1,116 @@
+package com.ryuqq.setof.application.product.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.application.product.facade.ProductSearchIndexFacade;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * ProductSearchIndexScheduler 테스트
+ *
+ * <p>기동 시 동기 재구축, 재구축 실패 후 재시도, 증분 동기화 기준 시각에 대한 단위 테스트
+ */
+@DisplayName("ProductSearchIndexScheduler")
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexSchedulerTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:10:00Z");
+    private static final long SYNC_OVERLAP_MS = 60_000L;
+
+    @Mock private ProductSearchIndexFacade productSearchIndexFacade;
+
+    private ProductSearchIndexScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler =
+                new ProductSearchIndexScheduler(
+                        productSearchIndexFacade,
+                        () -> Clock.fixed(NOW, ZoneId.of("UTC")),
+                        3_600_000L,
+                        3_600_000L,
+                        SYNC_OVERLAP_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.destroy();
+    }
+
+    @Nested
+    @DisplayName("start")
+    class Start {
+
+        @Test
+        @DisplayName("기동 이벤트 처리 안에서 전체 재구축을 마친 뒤 반환한다")
+        void shouldRebuildSynchronouslyOnStartup() {
+            // When
+            scheduler.start();
+
+            // Then
+            verify(productSearchIndexFacade).executeRebuild();
+        }
+    }
+
+    @Nested
+    @DisplayName("sync")
+    class Sync {
+
+        @Test
+        @DisplayName("재구축이 한 번도 성공하지 않았으면 증분 대신 전체 재구축을 재시도한다")
+        void shouldRetryRebuildBeforeFirstSuccess() {
+            // Given
+            when(productSearchIndexFacade.executeRebuild())
+                    .thenThrow(new IllegalStateException("db down"))
+                    .thenReturn(10);
+            scheduler.rebuild();
+
+            // When
+            scheduler.sync();
+
+            // Then
+            verify(productSearchIndexFacade, times(2)).executeRebuild();
+            verify(productSearchIndexFacade, never()).executeSync(any());
+        }
+
+        @Test
+        @DisplayName("재구축 시작 시각에서 overlap만큼 앞당긴 시각 이후 변경분을 동기화한다")
+        void shouldSyncFromLastStartMinusOverlap() {
+            // Given
+            scheduler.rebuild();
+
+            // When
+            scheduler.sync();
+
+            // Then
+            verify(productSearchIndexFacade).executeSync(NOW.minusMillis(SYNC_OVERLAP_MS));
+        }
+
+        @Test
+        @DisplayName("동기화 실패는 예외를 전파하지 않는다")
+        void shouldSwallowSyncFailure() {
+            // Given
+            scheduler.rebuild();
+            when(productSearchIndexFacade.executeSync(any()))
+                    .thenThrow(new IllegalStateException("db down"));
+
+            // When & Then
+            assertThatCode(scheduler::sync).doesNotThrowAnyException();
+        }
+    }
+}
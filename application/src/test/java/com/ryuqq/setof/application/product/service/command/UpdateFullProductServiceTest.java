@@ -7,11 +7,16 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.ryuqq.setof.application.product.dto.command.UpdateFullProductCommand;
+import com.ryuqq.setof.application.product.event.ProductGroupEventDispatcher;
 import com.ryuqq.setof.application.product.facade.ProductModificationFacade;
 import com.ryuqq.setof.application.product.manager.query.ProductGroupReadManager;
+import com.ryuqq.setof.domain.common.util.ClockHolder;
 import com.ryuqq.setof.domain.product.ProductGroupFixture;
 import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,15 +30,24 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class UpdateFullProductServiceTest {
 
+    private static final Instant FIXED_TIME = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Clock FIXED_CLOCK = Clock.fixed(FIXED_TIME, ZoneId.of("UTC"));
+
     @Mock private ProductModificationFacade modificationFacade;
     @Mock private ProductGroupReadManager productGroupReadManager;
+    @Mock private ProductGroupEventDispatcher productGroupEventDispatcher;
+    @Mock private ClockHolder clockHolder;
 
     private UpdateFullProductService updateFullProductService;
 
     @BeforeEach
     void setUp() {
         updateFullProductService =
-                new UpdateFullProductService(modificationFacade, productGroupReadManager);
+                new UpdateFullProductService(
+                        modificationFacade,
+                        productGroupReadManager,
+                        productGroupEventDispatcher,
+                        clockHolder);
     }
 
     @Nested
@@ -49,6 +63,7 @@ class UpdateFullProductServiceTest {
 
             when(productGroupReadManager.findById(1L)).thenReturn(existingProductGroup);
             doNothing().when(modificationFacade).updateAll(any());
+            when(clockHolder.getClock()).thenReturn(FIXED_CLOCK);
 
             // When
             updateFullProductService.updateFullProduct(command);
@@ -56,6 +71,8 @@ class UpdateFullProductServiceTest {
             // Then
             verify(productGroupReadManager, times(1)).findById(1L);
             verify(modificationFacade, times(1)).updateAll(command);
+            verify(productGroupEventDispatcher, times(1))
+                    .publishContentChanged(1L, FIXED_TIME);
         }
 
         private UpdateFullProductCommand createValidCommand() {
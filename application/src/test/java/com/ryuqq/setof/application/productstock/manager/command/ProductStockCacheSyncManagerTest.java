@@ -0,0 +1,234 @@
+package com.ryuqq.setof.application.productstock.manager.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.application.common.port.out.StockCacheSyncPort;
+import com.ryuqq.setof.application.common.port.out.StockCacheSyncPort.StockConsistencyResult;
+import com.ryuqq.setof.application.common.port.out.StockCounterPort;
+import com.ryuqq.setof.application.productstock.manager.query.ProductStockReadManager;
+import com.ryuqq.setof.domain.common.util.ClockHolder;
+import com.ryuqq.setof.domain.productstock.ProductStockFixture;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * ProductStockCacheSyncManager 테스트
+ *
+ * <p>Redis 카운터 → DB 조건부 반영, DB → Redis 복구, 정합성 검증에 대한 단위 테스트
+ */
+@DisplayName("ProductStockCacheSyncManager")
+@ExtendWith(MockitoExtension.class)
+class ProductStockCacheSyncManagerTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock private ProductStockReadManager productStockReadManager;
+    @Mock private ProductStockPersistenceManager productStockPersistenceManager;
+    @Mock private StockCounterPort stockCounterPort;
+
+    private ProductStockCacheSyncManager manager;
+
+    @BeforeEach
+    void setUp() {
+        ClockHolder clockHolder = () -> Clock.fixed(NOW, ZoneOffset.UTC);
+        manager =
+                new ProductStockCacheSyncManager(
+                        productStockReadManager,
+                        productStockPersistenceManager,
+                        stockCounterPort,
+                        clockHolder);
+    }
+
+    @Nested
+    @DisplayName("syncToDatabase")
+    class SyncToDatabase {
+
+        @Test
+        @DisplayName("읽은 DB 재고를 조건으로 Redis 재고를 반영한다")
+        void shouldWriteBackConditionally() {
+            // Given
+            Map<Long, Integer> cacheStocks = Map.of(1L, 7, 2L, 3);
+            Map<Long, Integer> databaseStocks = Map.of(1L, 10, 2L, 5);
+            when(productStockPersistenceManager.updateQuantities(
+                            cacheStocks, databaseStocks, NOW))
+                    .thenReturn(2L);
+
+            // When
+            List<Long> written = manager.syncToDatabase(cacheStocks, databaseStocks);
+
+            // Then
+            assertThat(written).containsExactlyInAnyOrder(1L, 2L);
+            verify(productStockReadManager, never()).findByIds(any());
+        }
+
+        @Test
+        @DisplayName("읽은 뒤 DB가 바뀐 행은 건너뛰고 실제 반영된 행만 반환한다")
+        void shouldReportOnlyRowsActuallyWritten() {
+            // Given - 2번 재고는 읽은 뒤 관리자가 20으로 변경
+            Map<Long, Integer> cacheStocks = Map.of(1L, 7, 2L, 3);
+            Map<Long, Integer> databaseStocks = Map.of(1L, 10, 2L, 5);
+            when(productStockPersistenceManager.updateQuantities(
+                            cacheStocks, databaseStocks, NOW))
+                    .thenReturn(1L);
+            when(productStockReadManager.findByIds(any()))
+                    .thenReturn(
+                            List.of(
+                                    ProductStockFixture.createWithQuantity(1L, 100L, 7),
+                                    ProductStockFixture.createWithQuantity(2L, 200L, 20)));
+
+            // When
+            List<Long> written = manager.syncToDatabase(cacheStocks, databaseStocks);
+
+            // Then
+            assertThat(written).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("캐시 키가 없거나 DB 행이 없는 재고는 반영하지 않는다")
+        void shouldSkipMissingKeysAndRows() {
+            // Given
+            Map<Long, Integer> cacheStocks = Map.of(1L, StockCacheSyncPort.NOT_FOUND, 3L, 4);
+            Map<Long, Integer> databaseStocks = Map.of(1L, 10);
+
+            // When
+            List<Long> written = manager.syncToDatabase(cacheStocks, databaseStocks);
+
+            // Then
+            assertThat(written).isEmpty();
+            verify(productStockPersistenceManager, never())
+                    .updateQuantities(anyMap(), anyMap(), any());
+        }
+
+        @Test
+        @DisplayName("ID 목록으로 호출하면 DB를 먼저 읽고 Redis를 읽는다")
+        void shouldReadDatabaseBeforeCache() {
+            // Given
+            List<Long> ids = List.of(1L);
+            when(productStockReadManager.findByIds(ids))
+                    .thenReturn(List.of(ProductStockFixture.createWithQuantity(1L, 100L, 10)));
+            when(stockCounterPort.getStocks(ids)).thenReturn(Map.of(1L, 7));
+            when(productStockPersistenceManager.updateQuantities(
+                            Map.of(1L, 7), Map.of(1L, 10), NOW))
+                    .thenReturn(1L);
+
+            // When
+            List<Long> written = manager.syncToDatabase(ids);
+
+            // Then
+            assertThat(written).containsExactly(1L);
+            InOrder inOrder = inOrder(productStockReadManager, stockCounterPort);
+            inOrder.verify(productStockReadManager).findByIds(ids);
+            inOrder.verify(stockCounterPort).getStocks(ids);
+        }
+    }
+
+    @Nested
+    @DisplayName("syncFromDatabase")
+    class SyncFromDatabase {
+
+        @Test
+        @DisplayName("DB 값으로 없는 키만 초기화하고 DB에 없는 재고는 NOT_FOUND를 반환한다")
+        void shouldInitializeAbsentKeys() {
+            // Given
+            List<Long> ids = List.of(1L, 2L);
+            when(productStockReadManager.findByIds(ids))
+                    .thenReturn(List.of(ProductStockFixture.createWithQuantity(1L, 100L, 10)));
+            when(stockCounterPort.getStocks(ids)).thenReturn(Map.of(1L, 8));
+
+            // When
+            Map<Long, Integer> result = manager.syncFromDatabase(ids);
+
+            // Then
+            verify(stockCounterPort).initializeAllIfAbsent(Map.of(1L, 10));
+            assertThat(result).containsEntry(1L, 8).containsEntry(2L, StockCacheSyncPort.NOT_FOUND);
+        }
+    }
+
+    @Nested
+    @DisplayName("verifyConsistency")
+    class VerifyConsistency {
+
+        @Test
+        @DisplayName("캐시와 DB 재고 차이를 계산한다")
+        void shouldCompareCacheWithDatabase() {
+            // Given
+            List<Long> ids = List.of(1L);
+            when(stockCounterPort.getStocks(ids)).thenReturn(Map.of(1L, 7));
+            when(productStockReadManager.findByIds(ids))
+                    .thenReturn(List.of(ProductStockFixture.createWithQuantity(1L, 100L, 10)));
+
+            // When
+            StockConsistencyResult result = manager.verifyConsistency(1L);
+
+            // Then
+            assertThat(result.consistent()).isFalse();
+            assertThat(result.difference()).isEqualTo(-3);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 재고는 예외 없이 NOT_FOUND 결과를 반환한다")
+        void shouldReturnNotFoundForUnknownId() {
+            // Given
+            List<Long> ids = List.of(99L);
+            when(stockCounterPort.getStocks(ids)).thenReturn(Map.of());
+            when(productStockReadManager.findByIds(ids)).thenReturn(List.of());
+
+            // When
+            StockConsistencyResult result = manager.verifyConsistency(99L);
+
+            // Then
+            assertThat(result.productStockId()).isEqualTo(99L);
+            assertThat(result.isCacheMiss()).isTrue();
+            assertThat(result.isDatabaseMissing()).isTrue();
+        }
+
+        @Test
+        @DisplayName("ID가 null이면 조회 없이 NOT_FOUND 결과를 반환한다")
+        void shouldReturnNotFoundForNullId() {
+            // When
+            StockConsistencyResult result = manager.verifyConsistency((Long) null);
+
+            // Then
+            assertThat(result.isDatabaseMissing()).isTrue();
+            verify(stockCounterPort, never()).getStocks(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("forceSync")
+    class ForceSync {
+
+        @Test
+        @DisplayName("DB 값으로 Redis 카운터를 덮어쓴다")
+        void shouldOverwriteCounterWithDatabaseValue() {
+            // Given
+            when(productStockReadManager.findByIds(List.of(1L)))
+                    .thenReturn(List.of(ProductStockFixture.createWithQuantity(1L, 100L, 30)));
+
+            // When
+            int quantity = manager.forceSync(1L);
+
+            // Then
+            assertThat(quantity).isEqualTo(30);
+            verify(stockCounterPort).initialize(eq(1L), eq(30));
+        }
+    }
+}
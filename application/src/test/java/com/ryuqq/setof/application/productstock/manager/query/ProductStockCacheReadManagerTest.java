@@ -0,0 +1,81 @@
+package com.ryuqq.setof.application.productstock.manager.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.application.common.port.out.StockCounterQueryPort;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductStockCacheReadManager")
+class ProductStockCacheReadManagerTest {
+
+    @Mock private StockCounterQueryPort stockCounterQueryPort;
+
+    private ProductStockCacheReadManager productStockCacheReadManager;
+
+    @BeforeEach
+    void setUp() {
+        productStockCacheReadManager = new ProductStockCacheReadManager(stockCounterQueryPort);
+    }
+
+    @Nested
+    @DisplayName("findCachedQuantities")
+    class FindCachedQuantitiesTest {
+
+        @Test
+        @DisplayName("음수(키 없음) 수량은 결과에서 제외")
+        void shouldExcludeMissingKeys() {
+            // Given
+            Map<Long, Integer> cacheStocks = new HashMap<>();
+            cacheStocks.put(100L, 7);
+            cacheStocks.put(101L, -1);
+            when(stockCounterQueryPort.getStocks(List.of(100L, 101L))).thenReturn(cacheStocks);
+
+            // When
+            Map<Long, Integer> result =
+                    productStockCacheReadManager.findCachedQuantities(List.of(100L, 101L));
+
+            // Then
+            assertEquals(Map.of(100L, 7), result);
+        }
+
+        @Test
+        @DisplayName("Redis 조회가 실패하면 예외 없이 빈 결과 반환")
+        void shouldReturnEmptyWhenCacheReadFails() {
+            // Given
+            when(stockCounterQueryPort.getStocks(List.of(100L)))
+                    .thenThrow(new IllegalStateException("redis unavailable"));
+
+            // When
+            Map<Long, Integer> result =
+                    productStockCacheReadManager.findCachedQuantities(List.of(100L));
+
+            // Then
+            assertTrue(result.isEmpty());
+        }
+
+        @Test
+        @DisplayName("재고 ID가 없으면 Redis를 조회하지 않음")
+        void shouldSkipEmptyIds() {
+            // When
+            Map<Long, Integer> result =
+                    productStockCacheReadManager.findCachedQuantities(List.of());
+
+            // Then
+            assertTrue(result.isEmpty());
+            verifyNoInteractions(stockCounterQueryPort);
+        }
+    }
+}
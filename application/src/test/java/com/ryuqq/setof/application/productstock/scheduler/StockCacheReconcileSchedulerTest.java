@@ -0,0 +1,106 @@
+package com.ryuqq.setof.application.productstock.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.application.common.port.out.StockCacheSyncPort;
+import com.ryuqq.setof.application.common.port.out.StockCounterPort;
+import com.ryuqq.setof.application.productstock.manager.query.ProductStockReadManager;
+import com.ryuqq.setof.domain.productstock.ProductStockFixture;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * StockCacheReconcileScheduler 테스트
+ *
+ * <p>페이지 단위 대사(Cache Miss 복구, TTL 연장, 불일치 조건부 반영)에 대한 단위 테스트
+ */
+@DisplayName("StockCacheReconcileScheduler")
+@ExtendWith(MockitoExtension.class)
+class StockCacheReconcileSchedulerTest {
+
+    @Mock private ProductStockReadManager productStockReadManager;
+    @Mock private StockCounterPort stockCounterPort;
+    @Mock private StockCacheSyncPort stockCacheSyncPort;
+
+    private StockCacheReconcileScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler =
+                new StockCacheReconcileScheduler(
+                        productStockReadManager,
+                        stockCounterPort,
+                        stockCacheSyncPort,
+                        List.of(10L));
+    }
+
+    @Nested
+    @DisplayName("reconcile")
+    class Reconcile {
+
+        @Test
+        @DisplayName("Miss는 초기화하고 불일치는 페이지를 읽은 시점 DB 값을 조건으로 반영한다")
+        void shouldWarmMissesAndWriteBackDriftAgainstPageValues() {
+            // Given
+            when(productStockReadManager.findByIdGreaterThan(null, 500))
+                    .thenReturn(
+                            List.of(
+                                    ProductStockFixture.createWithQuantity(1L, 100L, 10),
+                                    ProductStockFixture.createWithQuantity(2L, 200L, 5),
+                                    ProductStockFixture.createWithQuantity(3L, 300L, 8)));
+            when(stockCounterPort.getStocks(List.of(1L, 2L, 3L)))
+                    .thenReturn(Map.of(1L, 10, 2L, 3));
+            when(stockCacheSyncPort.syncToDatabase(anyMap(), anyMap())).thenReturn(List.of(2L));
+
+            // When
+            scheduler.reconcile();
+
+            // Then
+            verify(stockCounterPort).initializeAllIfAbsent(Map.of(3L, 8));
+            verify(stockCounterPort).refreshTtl(List.of(1L, 2L));
+            verify(stockCacheSyncPort)
+                    .syncToDatabase(Map.of(2L, 3), Map.of(1L, 10, 2L, 5, 3L, 8));
+        }
+
+        @Test
+        @DisplayName("페이지 처리 실패는 다음 페이지 진행을 막지 않는다")
+        void shouldContinueAfterFailedPage() {
+            // Given
+            when(productStockReadManager.findByIdGreaterThan(null, 500))
+                    .thenReturn(List.of(ProductStockFixture.createWithQuantity(1L, 100L, 10)));
+            when(stockCounterPort.getStocks(any())).thenThrow(new IllegalStateException("redis"));
+
+            // When
+            scheduler.reconcile();
+
+            // Then
+            verify(stockCacheSyncPort, never()).syncToDatabase(anyMap(), anyMap());
+        }
+    }
+
+    @Nested
+    @DisplayName("warmHotSellers")
+    class WarmHotSellers {
+
+        @Test
+        @DisplayName("설정된 판매자 재고를 워밍한다")
+        void shouldWarmConfiguredSellers() {
+            // When
+            scheduler.warmHotSellers();
+
+            // Then
+            verify(stockCacheSyncPort).warmCache(10L);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.ryuqq.setof.application.seller.manager.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.application.common.dto.CacheTag;
+import com.ryuqq.setof.application.common.port.out.CachePort;
+import com.ryuqq.setof.application.seller.dto.response.SellerResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SellerCacheManager")
+class SellerCacheManagerTest {
+
+    private static final Long SELLER_ID = 1L;
+    private static final String KEY = "cache::seller::1";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Mock private CachePort<Object> cachePort;
+
+    private SellerCacheManager sellerCacheManager;
+
+    @BeforeEach
+    void setUp() {
+        sellerCacheManager = new SellerCacheManager(cachePort, TTL);
+    }
+
+    @Nested
+    @DisplayName("getSeller")
+    class GetSellerTest {
+
+        @Test
+        @DisplayName("캐시 Hit이면 DB를 조회하지 않는다")
+        void shouldReturnCachedSeller() {
+            // Given
+            SellerResponse cached = mock(SellerResponse.class);
+            when(cachePort.get(KEY, SellerResponse.class)).thenReturn(Optional.of(cached));
+
+            // When
+            SellerResponse result =
+                    sellerCacheManager.getSeller(
+                            SELLER_ID,
+                            () -> {
+                                throw new AssertionError("loader must not be called");
+                            });
+
+            // Then
+            assertThat(result).isSameAs(cached);
+            verify(cachePort, never()).set(anyString(), any(), any(), anyCollection());
+        }
+
+        @Test
+        @DisplayName("캐시 Miss이면 적재 후 셀러 태그와 함께 저장")
+        void shouldStoreWithSellerTagOnMiss() {
+            // Given
+            SellerResponse loaded = mock(SellerResponse.class);
+            when(cachePort.get(KEY, SellerResponse.class)).thenReturn(Optional.empty());
+
+            // When
+            SellerResponse result = sellerCacheManager.getSeller(SELLER_ID, () -> loaded);
+
+            // Then
+            assertThat(result).isSameAs(loaded);
+            verify(cachePort).set(KEY, loaded, TTL, List.of(CacheTag.seller(SELLER_ID)));
+        }
+
+        @Test
+        @DisplayName("캐시 장애 시 DB 조회 결과를 반환")
+        void shouldFallBackToLoaderWhenCacheFails() {
+            // Given
+            SellerResponse loaded = mock(SellerResponse.class);
+            when(cachePort.get(KEY, SellerResponse.class))
+                    .thenThrow(new IllegalStateException("redis down"));
+            doThrow(new IllegalStateException("redis down"))
+                    .when(cachePort)
+                    .set(eq(KEY), eq(loaded), eq(TTL), anyCollection());
+
+            // When
+            SellerResponse result = sellerCacheManager.getSeller(SELLER_ID, () -> loaded);
+
+            // Then
+            assertThat(result).isSameAs(loaded);
+        }
+    }
+
+    @Nested
+    @DisplayName("evict")
+    class EvictTest {
+
+        @Test
+        @DisplayName("셀러 태그로 등록된 캐시를 무효화")
+        void shouldEvictBySellerTag() {
+            // When
+            sellerCacheManager.evict(SELLER_ID);
+
+            // Then
+            verify(cachePort).evictByTag(CacheTag.seller(SELLER_ID));
+        }
+
+        @Test
+        @DisplayName("무효화 실패는 호출자에게 전파하지 않는다")
+        void shouldSwallowEvictFailure() {
+            // Given
+            doThrow(new IllegalStateException("redis down"))
+                    .when(cachePort)
+                    .evictByTag(CacheTag.seller(SELLER_ID));
+
+            // When
+            sellerCacheManager.evict(SELLER_ID);
+
+            // Then
+            verify(cachePort).evictByTag(CacheTag.seller(SELLER_ID));
+        }
+    }
+}
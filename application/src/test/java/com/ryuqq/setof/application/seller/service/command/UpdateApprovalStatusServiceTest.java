@@ -6,6 +6,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.ryuqq.setof.application.seller.dto.command.UpdateApprovalStatusCommand;
+import com.ryuqq.setof.application.seller.manager.command.SellerCacheManager;
 import com.ryuqq.setof.application.seller.manager.command.SellerPersistenceManager;
 import com.ryuqq.setof.application.seller.manager.query.SellerReadManager;
 import com.ryuqq.setof.domain.common.util.ClockHolder;
@@ -47,6 +48,7 @@ class UpdateApprovalStatusServiceTest {
 
     @Mock private SellerReadManager sellerReadManager;
     @Mock private SellerPersistenceManager sellerPersistenceManager;
+    @Mock private SellerCacheManager sellerCacheManager;
     @Mock private ClockHolder clockHolder;
 
     private UpdateApprovalStatusService updateApprovalStatusService;
@@ -55,7 +57,10 @@ class UpdateApprovalStatusServiceTest {
     void setUp() {
         updateApprovalStatusService =
                 new UpdateApprovalStatusService(
-                        sellerReadManager, sellerPersistenceManager, clockHolder);
+                        sellerReadManager,
+                        sellerPersistenceManager,
+                        sellerCacheManager,
+                        clockHolder);
     }
 
     @Nested
@@ -80,6 +85,7 @@ class UpdateApprovalStatusServiceTest {
             // Then
             verify(sellerReadManager).findById(sellerId);
             verify(sellerPersistenceManager).persist(any(Seller.class));
+            verify(sellerCacheManager).evict(sellerId);
         }
 
         @Test
@@ -140,6 +146,7 @@ class UpdateApprovalStatusServiceTest {
             // Then
             verify(sellerReadManager).findById(sellerId);
             verify(sellerPersistenceManager, never()).persist(any(Seller.class));
+            verify(sellerCacheManager, never()).evict(any());
         }
     }
 
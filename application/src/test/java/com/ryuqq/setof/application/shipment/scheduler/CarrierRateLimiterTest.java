@@ -0,0 +1,93 @@
+package com.ryuqq.setof.application.shipment.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CarrierRateLimiter 테스트
+ *
+ * <p>택배사별 호출 간격 예약, 택배사 간 독립성 및 무제한 설정에 대한 단위 테스트
+ */
+@DisplayName("CarrierRateLimiter")
+class CarrierRateLimiterTest {
+
+    @Nested
+    @DisplayName("acquire")
+    class AcquireTest {
+
+        @Test
+        @DisplayName("같은 택배사의 연속 호출은 초당 호출 수 간격으로 대기")
+        void shouldSpaceCallsForSameCarrier() throws InterruptedException {
+            // Given
+            CarrierRateLimiter rateLimiter = new CarrierRateLimiter(5, Map.of());
+
+            // When
+            long startNanos = System.nanoTime();
+            rateLimiter.acquire("04");
+            rateLimiter.acquire("04");
+            rateLimiter.acquire("04");
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+            // Then
+            assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(400));
+        }
+
+        @Test
+        @DisplayName("다른 택배사 호출은 서로 대기하지 않는다")
+        void shouldNotShareSlotsAcrossCarriers() throws InterruptedException {
+            // Given
+            CarrierRateLimiter rateLimiter = new CarrierRateLimiter(1, Map.of());
+
+            // When
+            long startNanos = System.nanoTime();
+            rateLimiter.acquire("04");
+            rateLimiter.acquire("05");
+            rateLimiter.acquire("06");
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+            // Then
+            assertThat(elapsed).isLessThan(Duration.ofMillis(500));
+        }
+
+        @Test
+        @DisplayName("택배사별 설정이 기본값보다 우선한다")
+        void shouldUseCarrierOverride() throws InterruptedException {
+            // Given
+            CarrierRateLimiter rateLimiter = new CarrierRateLimiter(1, Map.of("04", 20.0));
+
+            // When
+            long startNanos = System.nanoTime();
+            rateLimiter.acquire("04");
+            rateLimiter.acquire("04");
+            rateLimiter.acquire("04");
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+            // Then
+            assertThat(elapsed)
+                    .isGreaterThanOrEqualTo(Duration.ofMillis(100))
+                    .isLessThan(Duration.ofMillis(900));
+        }
+
+        @Test
+        @DisplayName("초당 호출 수가 0 이하이면 제한하지 않는다")
+        void shouldNotLimitWhenPermitsAreNotPositive() throws InterruptedException {
+            // Given
+            CarrierRateLimiter rateLimiter = new CarrierRateLimiter(1, Map.of("04", 0.0));
+
+            // When
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < 10; i++) {
+                rateLimiter.acquire("04");
+            }
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+            // Then
+            assertThat(elapsed).isLessThan(Duration.ofMillis(500));
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.ryuqq.setof.application.shipment.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.application.carrier.port.in.query.GetCarriersUseCase;
+import com.ryuqq.setof.application.shipment.dto.client.TrackingApiResult;
+import com.ryuqq.setof.application.shipment.dto.command.UpdateTrackingCommand;
+import com.ryuqq.setof.application.shipment.port.in.command.MarkDeliveredUseCase;
+import com.ryuqq.setof.application.shipment.port.in.command.UpdateTrackingUseCase;
+import com.ryuqq.setof.application.shipment.port.in.query.GetActiveShipmentsUseCase;
+import com.ryuqq.setof.application.shipment.port.out.client.DeliveryTrackingPort;
+import com.ryuqq.setof.domain.carrier.aggregate.Carrier;
+import com.ryuqq.setof.domain.shipment.aggregate.Shipment;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+/**
+ * ShipmentTrackingScheduler 테스트
+ *
+ * <p>페이지 조회, 택배사 캐시, 일괄 저장 및 일괄 저장 실패 시 건별 재시도에 대한 단위 테스트
+ */
+@DisplayName("ShipmentTrackingScheduler")
+@ExtendWith(MockitoExtension.class)
+class ShipmentTrackingSchedulerTest {
+
+    private static final int PAGE_SIZE = 2;
+    private static final Long CARRIER_ID = 1L;
+    private static final String CARRIER_CODE = "04";
+
+    @Mock private GetActiveShipmentsUseCase getActiveShipmentsUseCase;
+    @Mock private GetCarriersUseCase getCarriersUseCase;
+    @Mock private DeliveryTrackingPort deliveryTrackingPort;
+    @Mock private UpdateTrackingUseCase updateTrackingUseCase;
+    @Mock private MarkDeliveredUseCase markDeliveredUseCase;
+
+    private MeterRegistry meterRegistry;
+    private ShipmentTrackingScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+
+        scheduler =
+                new ShipmentTrackingScheduler(
+                        getActiveShipmentsUseCase,
+                        getCarriersUseCase,
+                        deliveryTrackingPort,
+                        updateTrackingUseCase,
+                        markDeliveredUseCase,
+                        beanFactory.getBeanProvider(MeterRegistry.class),
+                        PAGE_SIZE,
+                        4,
+                        0,
+                        List.of());
+
+        Carrier carrier = mock(Carrier.class);
+        when(carrier.getIdValue()).thenReturn(CARRIER_ID);
+        when(carrier.getCodeValue()).thenReturn(CARRIER_CODE);
+        when(getCarriersUseCase.getAllCarriers()).thenReturn(List.of(carrier));
+    }
+
+    @Nested
+    @DisplayName("updateTrackingInfo")
+    class UpdateTrackingInfo {
+
+        @Test
+        @DisplayName("ID 커서로 페이지를 끝까지 조회하고 택배사는 한 번만 조회한다")
+        void shouldPageThroughActiveShipments() {
+            // Given
+            Shipment first = shipment(1L, CARRIER_ID);
+            Shipment second = shipment(2L, CARRIER_ID);
+            Shipment third = shipment(3L, CARRIER_ID);
+            when(getActiveShipmentsUseCase.getActiveShipments(null, PAGE_SIZE))
+                    .thenReturn(List.of(first, second));
+            when(getActiveShipmentsUseCase.getActiveShipments(2L, PAGE_SIZE))
+                    .thenReturn(List.of(third));
+            when(deliveryTrackingPort.fetchTrackingInfo(eq(CARRIER_CODE), anyString()))
+                    .thenReturn(Optional.empty());
+
+            // When
+            scheduler.updateTrackingInfo();
+
+            // Then
+            verify(getActiveShipmentsUseCase).getActiveShipments(null, PAGE_SIZE);
+            verify(getActiveShipmentsUseCase).getActiveShipments(2L, PAGE_SIZE);
+            verify(getCarriersUseCase, times(1)).getAllCarriers();
+            verify(deliveryTrackingPort, times(3)).fetchTrackingInfo(eq(CARRIER_CODE), anyString());
+            assertThat(outcomeCount("no_data")).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("배송 완료와 추적 정보 업데이트를 페이지마다 일괄 저장한다")
+        @SuppressWarnings("unchecked")
+        void shouldApplyResultsInBulk() {
+            // Given
+            Shipment delivered = shipment(1L, CARRIER_ID);
+            Shipment inTransit = shipment(2L, CARRIER_ID);
+            when(getActiveShipmentsUseCase.getActiveShipments(null, PAGE_SIZE))
+                    .thenReturn(List.of(delivered, inTransit));
+            when(getActiveShipmentsUseCase.getActiveShipments(2L, PAGE_SIZE)).thenReturn(List.of());
+            when(deliveryTrackingPort.fetchTrackingInfo(CARRIER_CODE, "INV0000001"))
+                    .thenReturn(Optional.of(result(true)));
+            when(deliveryTrackingPort.fetchTrackingInfo(CARRIER_CODE, "INV0000002"))
+                    .thenReturn(Optional.of(result(false)));
+
+            // When
+            scheduler.updateTrackingInfo();
+
+            // Then
+            verify(markDeliveredUseCase).executeAll(List.of(1L));
+            ArgumentCaptor<Map<Long, UpdateTrackingCommand>> captor =
+                    ArgumentCaptor.forClass(Map.class);
+            verify(updateTrackingUseCase).executeAll(captor.capture());
+            assertThat(captor.getValue()).containsOnlyKeys(2L);
+            verify(markDeliveredUseCase, never()).execute(any());
+            assertThat(outcomeCount("delivered")).isEqualTo(1.0);
+            assertThat(outcomeCount("updated")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("일괄 저장이 실패하면 건별로 다시 저장하고 실패한 운송장만 건너뛴다")
+        void shouldRetryOneByOneWhenBulkFails() {
+            // Given
+            Shipment first = shipment(1L, CARRIER_ID);
+            Shipment second = shipment(2L, CARRIER_ID);
+            when(getActiveShipmentsUseCase.getActiveShipments(null, PAGE_SIZE))
+                    .thenReturn(List.of(first, second));
+            when(getActiveShipmentsUseCase.getActiveShipments(2L, PAGE_SIZE)).thenReturn(List.of());
+            when(deliveryTrackingPort.fetchTrackingInfo(eq(CARRIER_CODE), anyString()))
+                    .thenReturn(Optional.of(result(false)));
+            doThrow(new IllegalStateException("bulk"))
+                    .when(updateTrackingUseCase)
+                    .executeAll(anyMap());
+            doThrow(new IllegalStateException("row"))
+                    .when(updateTrackingUseCase)
+                    .execute(eq(1L), any());
+
+            // When
+            scheduler.updateTrackingInfo();
+
+            // Then
+            verify(updateTrackingUseCase).execute(eq(2L), any());
+            assertThat(outcomeCount("updated")).isEqualTo(1.0);
+            assertThat(outcomeCount("failed")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("알 수 없는 택배사의 운송장은 API를 호출하지 않는다")
+        void shouldSkipUnknownCarrier() {
+            // Given
+            Shipment unknown = shipment(1L, 99L);
+            when(getActiveShipmentsUseCase.getActiveShipments(null, PAGE_SIZE))
+                    .thenReturn(List.of(unknown));
+
+            // When
+            scheduler.updateTrackingInfo();
+
+            // Then
+            verify(deliveryTrackingPort, never()).fetchTrackingInfo(anyString(), anyString());
+            assertThat(outcomeCount("failed")).isEqualTo(1.0);
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private Shipment shipment(Long shipmentId, Long carrierId) {
+        Shipment shipment = mock(Shipment.class);
+        when(shipment.getIdValue()).thenReturn(shipmentId);
+        when(shipment.getCarrierId()).thenReturn(carrierId);
+        when(shipment.getInvoiceNumberValue()).thenReturn(String.format("INV%07d", shipmentId));
+        return shipment;
+    }
+
+    private TrackingApiResult result(boolean delivered) {
+        Instant trackedAt = Instant.parse("2025-01-01T00:00:00Z");
+        return new TrackingApiResult(
+                CARRIER_CODE,
+                "INV",
+                delivered ? "DELIVERED" : "IN_TRANSIT",
+                "서울 강남",
+                delivered ? "배송완료" : "간선하차",
+                trackedAt,
+                delivered,
+                delivered ? trackedAt : null,
+                List.of());
+    }
+
+    private double outcomeCount(String outcome) {
+        return meterRegistry
+                .get("shipment.tracking.shipments")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,117 @@
+package com.ryuqq.setof.batch.legacy.notification;
+
+import com.ryuqq.setof.batch.legacy.notification.client.NhnCloudAlimTalkClient;
+import com.ryuqq.setof.batch.legacy.notification.dto.AlimTalkSendResult;
+import com.ryuqq.setof.batch.legacy.notification.dto.MessageQueueItem;
+import com.ryuqq.setof.batch.legacy.notification.enums.AlimTalkTemplateCode;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림톡 일괄 발송기
+ *
+ * <p>메시지를 TEMPLATE_CODE별로 묶어 NHN Cloud 다중 수신자 요청으로 나누고, 요청들을 Virtual Thread로 동시에 발송합니다. 동시
+ * 요청 수는 {@code nhn.alimtalk.bulk.parallelism}으로 제한합니다.
+ *
+ * <p>수신 번호가 없는 메시지는 API를 호출하지 않고 실패로 처리합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class AlimTalkBulkDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(AlimTalkBulkDispatcher.class);
+
+    private final NhnCloudAlimTalkClient alimTalkClient;
+    private final SimpleAsyncTaskExecutor dispatchExecutor;
+    private final int recipientsPerRequest;
+
+    public AlimTalkBulkDispatcher(
+            NhnCloudAlimTalkClient alimTalkClient,
+            @Value("${nhn.alimtalk.bulk.parallelism:4}") int parallelism,
+            @Value("${nhn.alimtalk.bulk.recipients-per-request:1000}") int recipientsPerRequest) {
+        this.alimTalkClient = alimTalkClient;
+        this.recipientsPerRequest =
+                Math.clamp(
+                        recipientsPerRequest, 1, NhnCloudAlimTalkClient.MAX_RECIPIENTS_PER_REQUEST);
+        this.dispatchExecutor = new SimpleAsyncTaskExecutor("alimtalk-dispatch-");
+        this.dispatchExecutor.setVirtualThreads(true);
+        this.dispatchExecutor.setConcurrencyLimit(Math.max(1, parallelism));
+    }
+
+    /**
+     * 메시지 일괄 발송
+     *
+     * @param messageQueueItems 발송할 메시지 목록
+     * @return 메시지별 발송 결과
+     */
+    public List<AlimTalkSendResult> dispatch(List<MessageQueueItem> messageQueueItems) {
+        List<AlimTalkSendResult> results = new ArrayList<>(messageQueueItems.size());
+        Map<AlimTalkTemplateCode, List<MessageQueueItem>> byTemplate =
+                new EnumMap<>(AlimTalkTemplateCode.class);
+
+        for (MessageQueueItem item : messageQueueItems) {
+            if (item.phoneNumber() == null || item.phoneNumber().isBlank()) {
+                results.add(
+                        AlimTalkSendResult.failure(
+                                item.messageId(), "INVALID_RECIPIENT", "Recipient number missing"));
+                continue;
+            }
+            byTemplate.computeIfAbsent(item.templateCode(), code -> new ArrayList<>()).add(item);
+        }
+
+        List<CompletableFuture<List<AlimTalkSendResult>>> requests = new ArrayList<>();
+        byTemplate.forEach(
+                (templateCode, items) -> {
+                    for (int from = 0; from < items.size(); from += recipientsPerRequest) {
+                        List<MessageQueueItem> batch =
+                                items.subList(
+                                        from, Math.min(items.size(), from + recipientsPerRequest));
+                        requests.add(send(templateCode, batch));
+                    }
+                });
+
+        for (CompletableFuture<List<AlimTalkSendResult>> request : requests) {
+            results.addAll(request.join());
+        }
+
+        log.debug(
+                "Dispatched alim talk: messages={}, templates={}, requests={}",
+                messageQueueItems.size(),
+                byTemplate.size(),
+                requests.size());
+        return results;
+    }
+
+    private CompletableFuture<List<AlimTalkSendResult>> send(
+            AlimTalkTemplateCode templateCode, List<MessageQueueItem> batch) {
+        return CompletableFuture.supplyAsync(
+                        () -> alimTalkClient.sendAlimTalkBulk(templateCode, batch),
+                        dispatchExecutor)
+                .exceptionally(
+                        e -> {
+                            log.error(
+                                    "Alim talk bulk request failed: templateCode={}, size={}",
+                                    templateCode,
+                                    batch.size(),
+                                    e);
+                            return batch.stream()
+                                    .map(
+                                            item ->
+                                                    AlimTalkSendResult.failure(
+                                                            item.messageId(),
+                                                            "UNKNOWN_ERROR",
+                                                            e.getMessage()))
+                                    .toList();
+                        });
+    }
+}
@@ -2,7 +2,6 @@ package com.ryuqq.setof.batch.legacy.notification;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ryuqq.setof.batch.legacy.notification.client.NhnCloudAlimTalkClient;
 import com.ryuqq.setof.batch.legacy.notification.dto.AlimTalkSendResult;
 import com.ryuqq.setof.batch.legacy.notification.dto.MessageQueueItem;
 import com.ryuqq.setof.batch.legacy.notification.enums.AlimTalkTemplateCode;
@@ -11,17 +10,21 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JdbcPagingItemReader;
 import org.springframework.batch.item.database.Order;
@@ -30,14 +33,21 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 알림톡 발송 배치 Job 설정
  *
  * <p>PENDING 상태의 메시지를 조회하여 NHN Cloud API로 발송
  *
+ * <p>청크 단위로 TEMPLATE_CODE별 다중 수신자 요청을 만들어 동시에 발송하고({@link AlimTalkBulkDispatcher}), 결과 상태는
+ * 청크당 한 번의 배치 UPDATE로 저장합니다.
+ *
  * <p>스케줄: 5분마다
  *
  * @author development-team
@@ -50,10 +60,18 @@ public class AlimTalkNotifyJobConfig {
 
     private final DataSource legacyDataSource;
     private final NamedParameterJdbcTemplate legacyJdbcTemplate;
-    private final NhnCloudAlimTalkClient alimTalkClient;
+    private final AlimTalkBulkDispatcher alimTalkBulkDispatcher;
     private final ObjectMapper objectMapper;
 
-    @Value("${batch.chunk-size:100}")
+    /**
+     * 발송은 했지만 상태 UPDATE가 아직 커밋되지 않은 결과
+     *
+     * <p>UPDATE 실패로 청크가 롤백되어 skip 스캔/재시도가 일어나도 같은 메시지를 다시 발송하지 않도록 보관합니다. Job이 실패로
+     * 끝나 커밋되지 못한 결과는 {@link #uncommittedResultsCleaner()}가 Job 종료 시 비웁니다.
+     */
+    private final Map<Long, AlimTalkSendResult> uncommittedResults = new ConcurrentHashMap<>();
+
+    @Value("${batch.alimtalk-notify.chunk-size:${batch.chunk-size:100}}")
     private int chunkSize;
 
     @Value("${batch.skip-limit:10}")
@@ -62,28 +80,52 @@ public class AlimTalkNotifyJobConfig {
     public AlimTalkNotifyJobConfig(
             @Qualifier("legacyDataSource") DataSource legacyDataSource,
             @Qualifier("legacyNamedJdbcTemplate") NamedParameterJdbcTemplate legacyJdbcTemplate,
-            NhnCloudAlimTalkClient alimTalkClient,
+            AlimTalkBulkDispatcher alimTalkBulkDispatcher,
             ObjectMapper objectMapper) {
         this.legacyDataSource = legacyDataSource;
         this.legacyJdbcTemplate = legacyJdbcTemplate;
-        this.alimTalkClient = alimTalkClient;
+        this.alimTalkBulkDispatcher = alimTalkBulkDispatcher;
         this.objectMapper = objectMapper;
     }
 
     @Bean
     public Job alimTalkNotifyJob(
             JobRepository jobRepository, @Qualifier("alimTalkNotifyStep") Step alimTalkNotifyStep) {
-        return new JobBuilder("alimTalkNotifyJob", jobRepository).start(alimTalkNotifyStep).build();
+        return new JobBuilder("alimTalkNotifyJob", jobRepository)
+                .listener(uncommittedResultsCleaner())
+                .start(alimTalkNotifyStep)
+                .build();
+    }
+
+    /**
+     * Job 종료 시 보관 결과 정리 Listener
+     *
+     * <p>Job이 실패하면 afterCommit이 호출되지 않은 결과가 남으므로, 다음 실행으로 넘기지 않고 비웁니다. 해당 메시지는 PENDING
+     * 상태로 남아 다음 실행에서 다시 조회됩니다.
+     */
+    JobExecutionListener uncommittedResultsCleaner() {
+        return new JobExecutionListener() {
+            @Override
+            public void afterJob(JobExecution jobExecution) {
+                if (uncommittedResults.isEmpty()) {
+                    return;
+                }
+                log.warn(
+                        "Discarding uncommitted alim talk results: count={}, status={}",
+                        uncommittedResults.size(),
+                        jobExecution.getStatus());
+                uncommittedResults.clear();
+            }
+        };
     }
 
     @Bean
     public Step alimTalkNotifyStep(
             JobRepository jobRepository, PlatformTransactionManager transactionManager) {
         return new StepBuilder("alimTalkNotifyStep", jobRepository)
-                .<MessageQueueItem, AlimTalkSendResult>chunk(chunkSize, transactionManager)
+                .<MessageQueueItem, MessageQueueItem>chunk(chunkSize, transactionManager)
                 .reader(pendingMessageReader())
-                .processor(alimTalkSendProcessor())
-                .writer(messageStatusWriter())
+                .writer(alimTalkDispatchWriter())
                 .faultTolerant()
                 .skipLimit(skipLimit)
                 .skip(Exception.class)
@@ -140,43 +182,88 @@ public class AlimTalkNotifyJobConfig {
         }
     }
 
+    /**
+     * 청크 일괄 발송 + 상태 일괄 저장 Writer
+     *
+     * <p>이전 시도에서 이미 발송한 메시지는 보관된 결과를 재사용하고, 나머지만 발송합니다.
+     */
     @Bean
-    public ItemProcessor<MessageQueueItem, AlimTalkSendResult> alimTalkSendProcessor() {
-        return item -> {
-            log.debug("Processing message: messageId={}", item.messageId());
-            return alimTalkClient.sendAlimTalk(item);
-        };
-    }
-
-    @Bean
-    public ItemWriter<AlimTalkSendResult> messageStatusWriter() {
-        return results -> {
-            String sql =
-                    """
-                    UPDATE message_queue
-                    SET STATUS = :status,
-                        UPDATE_DATE = :updateDate
-                    WHERE message_id = :messageId
-                    """;
-
-            for (AlimTalkSendResult result : results) {
-                Map<String, Object> params = new HashMap<>();
-                params.put("messageId", result.messageId());
-                params.put("status", result.status().getValue());
-                params.put("updateDate", LocalDateTime.now());
-
-                legacyJdbcTemplate.update(sql, params);
-
-                if (result.isSuccess()) {
-                    log.info("Message sent successfully: messageId={}", result.messageId());
+    public ItemWriter<MessageQueueItem> alimTalkDispatchWriter() {
+        return chunk -> {
+            List<AlimTalkSendResult> results = new ArrayList<>(chunk.size());
+            List<MessageQueueItem> toSend = new ArrayList<>(chunk.size());
+            for (MessageQueueItem item : chunk) {
+                AlimTalkSendResult sent = uncommittedResults.get(item.messageId());
+                if (sent != null) {
+                    results.add(sent);
                 } else {
-                    log.warn(
-                            "Message send failed: messageId={}, code={}, message={}",
-                            result.messageId(),
-                            result.responseCode(),
-                            result.responseMessage());
+                    toSend.add(item);
                 }
             }
+
+            for (AlimTalkSendResult result : alimTalkBulkDispatcher.dispatch(toSend)) {
+                uncommittedResults.put(result.messageId(), result);
+                results.add(result);
+            }
+            releaseOnCommit(results);
+
+            updateMessageStatuses(results);
+            logResults(results);
         };
     }
+
+    private void releaseOnCommit(List<AlimTalkSendResult> results) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            results.forEach(result -> uncommittedResults.remove(result.messageId()));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        results.forEach(result -> uncommittedResults.remove(result.messageId()));
+                    }
+                });
+    }
+
+    private void updateMessageStatuses(List<AlimTalkSendResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        String sql =
+                """
+                UPDATE message_queue
+                SET STATUS = :status,
+                    UPDATE_DATE = :updateDate
+                WHERE message_id = :messageId
+                """;
+
+        LocalDateTime updateDate = LocalDateTime.now();
+        SqlParameterSource[] batchParams =
+                results.stream()
+                        .map(
+                                result ->
+                                        new MapSqlParameterSource()
+                                                .addValue("messageId", result.messageId())
+                                                .addValue("status", result.status().getValue())
+                                                .addValue("updateDate", updateDate))
+                        .toArray(SqlParameterSource[]::new);
+
+        legacyJdbcTemplate.batchUpdate(sql, batchParams);
+    }
+
+    private void logResults(List<AlimTalkSendResult> results) {
+        int failed = 0;
+        for (AlimTalkSendResult result : results) {
+            if (!result.isSuccess()) {
+                failed++;
+                log.warn(
+                        "Message send failed: messageId={}, code={}, message={}",
+                        result.messageId(),
+                        result.responseCode(),
+                        result.responseMessage());
+            }
+        }
+        log.info("Alim talk chunk processed: sent={}, failed={}", results.size() - failed, failed);
+    }
 }
@@ -6,6 +6,11 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.ryuqq.setof.batch.legacy.notification.dto.AlimTalkSendResult;
 import com.ryuqq.setof.batch.legacy.notification.dto.MessageQueueItem;
+import com.ryuqq.setof.batch.legacy.notification.enums.AlimTalkTemplateCode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -28,6 +33,9 @@ public class NhnCloudAlimTalkClient {
 
     private static final Logger log = LoggerFactory.getLogger(NhnCloudAlimTalkClient.class);
 
+    /** NHN Cloud 알림톡 발송 요청 1건당 최대 수신자 수 */
+    public static final int MAX_RECIPIENTS_PER_REQUEST = 1000;
+
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
 
@@ -107,12 +115,101 @@ public class NhnCloudAlimTalkClient {
         }
     }
 
+    /**
+     * 같은 템플릿의 알림톡 일괄 발송 (다중 수신자 요청 1건)
+     *
+     * <p>수신자마다 recipientGroupingKey에 messageId를 담아 보내고, 응답의 sendResults를 같은 키로 매칭합니다. 요청 자체가
+     * 실패하면 모든 메시지를 실패로 반환합니다.
+     *
+     * @param templateCode 템플릿 코드
+     * @param messageQueueItems 발송할 메시지 목록 (최대 {@value #MAX_RECIPIENTS_PER_REQUEST}건)
+     * @return 메시지별 발송 결과 (입력 순서)
+     */
+    public List<AlimTalkSendResult> sendAlimTalkBulk(
+            AlimTalkTemplateCode templateCode, List<MessageQueueItem> messageQueueItems) {
+        if (messageQueueItems.size() > MAX_RECIPIENTS_PER_REQUEST) {
+            throw new IllegalArgumentException(
+                    "Too many recipients: " + messageQueueItems.size());
+        }
+        log.debug(
+                "Sending alim talk bulk: templateCode={}, size={}",
+                templateCode,
+                messageQueueItems.size());
+
+        if (dryRun) {
+            log.info(
+                    "[DRY-RUN] Would send alim talk bulk: templateCode={}, size={}",
+                    templateCode,
+                    messageQueueItems.size());
+            return messageQueueItems.stream()
+                    .map(item -> AlimTalkSendResult.success(item.messageId()))
+                    .toList();
+        }
+
+        try {
+            String url = String.format("%s/alimtalk/v2.2/appkeys/%s/messages", baseUrl, appKey);
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.set("X-Secret-Key", secretKey);
+
+            ObjectNode requestBody = buildBulkRequestBody(templateCode, messageQueueItems);
+            HttpEntity<String> request =
+                    new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers);
+
+            ResponseEntity<String> response =
+                    restTemplate.postForEntity(url, request, String.class);
+
+            return parseBulkResponse(messageQueueItems, response.getBody());
+
+        } catch (RestClientException e) {
+            log.error(
+                    "Failed to send alim talk bulk: templateCode={}, size={}, error={}",
+                    templateCode,
+                    messageQueueItems.size(),
+                    e.getMessage());
+            return failAll(messageQueueItems, "CONNECTION_ERROR", e.getMessage());
+
+        } catch (Exception e) {
+            log.error(
+                    "Unexpected error while sending alim talk bulk: templateCode={}, size={}",
+                    templateCode,
+                    messageQueueItems.size(),
+                    e);
+            return failAll(messageQueueItems, "UNKNOWN_ERROR", e.getMessage());
+        }
+    }
+
     private ObjectNode buildRequestBody(MessageQueueItem messageQueueItem) {
         ObjectNode body = objectMapper.createObjectNode();
         body.put("senderKey", senderKey);
         body.put("templateCode", messageQueueItem.templateCode().getCode());
 
         ArrayNode recipientList = objectMapper.createArrayNode();
+        recipientList.add(buildRecipient(messageQueueItem));
+        body.set("recipientList", recipientList);
+
+        return body;
+    }
+
+    private ObjectNode buildBulkRequestBody(
+            AlimTalkTemplateCode templateCode, List<MessageQueueItem> messageQueueItems) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("senderKey", senderKey);
+        body.put("templateCode", templateCode.getCode());
+
+        ArrayNode recipientList = objectMapper.createArrayNode();
+        for (MessageQueueItem messageQueueItem : messageQueueItems) {
+            ObjectNode recipient = buildRecipient(messageQueueItem);
+            recipient.put("recipientGroupingKey", String.valueOf(messageQueueItem.messageId()));
+            recipientList.add(recipient);
+        }
+        body.set("recipientList", recipientList);
+
+        return body;
+    }
+
+    private ObjectNode buildRecipient(MessageQueueItem messageQueueItem) {
         ObjectNode recipient = objectMapper.createObjectNode();
         recipient.put("recipientNo", messageQueueItem.phoneNumber());
 
@@ -129,10 +226,66 @@ public class NhnCloudAlimTalkClient {
             }
         }
 
-        recipientList.add(recipient);
-        body.set("recipientList", recipientList);
+        return recipient;
+    }
 
-        return body;
+    private List<AlimTalkSendResult> parseBulkResponse(
+            List<MessageQueueItem> messageQueueItems, String responseBody) {
+        JsonNode response;
+        try {
+            response = objectMapper.readTree(responseBody);
+        } catch (Exception e) {
+            log.error("Failed to parse bulk response: response={}", responseBody, e);
+            return failAll(messageQueueItems, "PARSE_ERROR", "Failed to parse response");
+        }
+
+        JsonNode header = response.get("header");
+        if (header == null || !header.path("isSuccessful").asBoolean()) {
+            String resultCode = header != null ? header.path("resultCode").asText() : "UNKNOWN";
+            String resultMessage =
+                    header != null ? header.path("resultMessage").asText() : "Unknown error";
+            log.warn(
+                    "Alim talk bulk failed: size={}, code={}, message={}",
+                    messageQueueItems.size(),
+                    resultCode,
+                    resultMessage);
+            return failAll(messageQueueItems, resultCode, resultMessage);
+        }
+
+        Map<String, JsonNode> sendResults = new HashMap<>();
+        for (JsonNode sendResult : response.path("message").path("sendResults")) {
+            sendResults.put(sendResult.path("recipientGroupingKey").asText(), sendResult);
+        }
+
+        List<AlimTalkSendResult> results = new ArrayList<>(messageQueueItems.size());
+        for (MessageQueueItem messageQueueItem : messageQueueItems) {
+            Long messageId = messageQueueItem.messageId();
+            JsonNode sendResult = sendResults.get(String.valueOf(messageId));
+            if (sendResult == null) {
+                results.add(
+                        AlimTalkSendResult.failure(
+                                messageId, "NO_RESULT", "Recipient result not found"));
+            } else if (sendResult.path("resultCode").asInt(-1) == 0) {
+                results.add(AlimTalkSendResult.success(messageId));
+            } else {
+                results.add(
+                        AlimTalkSendResult.failure(
+                                messageId,
+                                sendResult.path("resultCode").asText(),
+                                sendResult.path("resultMessage").asText()));
+            }
+        }
+        return results;
+    }
+
+    private List<AlimTalkSendResult> failAll(
+            List<MessageQueueItem> messageQueueItems, String responseCode, String responseMessage) {
+        return messageQueueItems.stream()
+                .map(
+                        item ->
+                                AlimTalkSendResult.failure(
+                                        item.messageId(), responseCode, responseMessage))
+                .toList();
     }
 
     private String maskPhoneNumber(String phone) {
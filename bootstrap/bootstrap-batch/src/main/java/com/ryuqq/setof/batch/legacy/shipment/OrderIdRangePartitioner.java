@@ -0,0 +1,78 @@
+package com.ryuqq.setof.batch.legacy.shipment;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 배송중 shipment의 order_id 범위 분할기
+ *
+ * <p>추적 대상 shipment의 최소/최대 order_id를 조회해 gridSize개의 연속 구간으로 나눕니다. 각 파티션의 ExecutionContext에
+ * {@code minOrderId}, {@code maxOrderId}(양 끝 포함)를 저장하며, 파티션 이름이 고정되어 있어 재시작 시 실패한 구간만 다시
+ * 실행됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public class OrderIdRangePartitioner implements Partitioner {
+
+    static final String MIN_ORDER_ID = "minOrderId";
+    static final String MAX_ORDER_ID = "maxOrderId";
+
+    private static final String RANGE_SQL =
+            """
+            SELECT MIN(s.order_id) AS min_id, MAX(s.order_id) AS max_id
+            FROM shipment s INNER JOIN orders o ON s.order_id = o.order_id
+            WHERE %s
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String whereClause;
+
+    public OrderIdRangePartitioner(JdbcTemplate jdbcTemplate, String whereClause) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.whereClause = whereClause;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        long[] range =
+                jdbcTemplate.queryForObject(
+                        RANGE_SQL.formatted(whereClause),
+                        (rs, rowNum) -> {
+                            long min = rs.getLong("min_id");
+                            return rs.wasNull()
+                                    ? null
+                                    : new long[] {min, rs.getLong("max_id")};
+                        });
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        if (range == null) {
+            // 대상이 없으면 빈 구간 하나만 생성 (Worker Step은 아무것도 읽지 않음)
+            partitions.put("partition0", rangeContext(1L, 0L));
+            return partitions;
+        }
+
+        long min = range[0];
+        long max = range[1];
+        int partitionCount = Math.max(1, gridSize);
+        long span = (max - min) / partitionCount + 1;
+
+        long start = min;
+        for (int i = 0; i < partitionCount && start <= max; i++) {
+            long end = Math.min(max, start + span - 1);
+            partitions.put("partition" + i, rangeContext(start, end));
+            start = end + 1;
+        }
+        return partitions;
+    }
+
+    private ExecutionContext rangeContext(long minOrderId, long maxOrderId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ORDER_ID, minOrderId);
+        context.putLong(MAX_ORDER_ID, maxOrderId);
+        return context;
+    }
+}
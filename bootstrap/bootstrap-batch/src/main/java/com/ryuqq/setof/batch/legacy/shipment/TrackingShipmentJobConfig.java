@@ -9,6 +9,7 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Future;
 import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,16 +19,22 @@ import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.integration.async.AsyncItemProcessor;
+import org.springframework.batch.integration.async.AsyncItemWriter;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JdbcPagingItemReader;
 import org.springframework.batch.item.database.Order;
 import org.springframework.batch.item.database.support.MySqlPagingQueryProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
 /**
@@ -35,6 +42,18 @@ import org.springframework.transaction.PlatformTransactionManager;
  *
  * <p>배송중인 주문의 실제 배송 상태를 조회하여 배송완료로 업데이트합니다.
  *
+ * <p>실행 모드:
+ *
+ * <ul>
+ *   <li>{@code batch.tracking-shipment.concurrency} &gt; 1: 청크 안의 배송 조회 API 호출을 Virtual Thread로 동시에
+ *       실행합니다 ({@link AsyncItemProcessor}). Writer는 청크 단위로 결과를 모아 기존과 동일하게 저장합니다.
+ *       동시 호출 수는 파티션 전체 합산 상한이며, 외부 배송 조회 API 부하를 고려해 기본값은 4입니다. 조회 재시도는
+ *       Processor 안에서 수행하고, Step에는 skip 정책만 적용됩니다.
+ *   <li>{@code batch.tracking-shipment.partitions} &gt; 1: order_id 범위로 나눈 파티션을 Worker Step으로 병렬
+ *       실행합니다. 각 파티션은 독립된 StepExecution이므로 재시작 시 실패한 구간만 이어서 처리합니다.
+ *   <li>둘 다 1이면 기존과 같이 단일 스레드로 한 건씩 처리합니다.
+ * </ul>
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -44,6 +63,11 @@ public class TrackingShipmentJobConfig {
     private static final Logger log = LoggerFactory.getLogger(TrackingShipmentJobConfig.class);
     private static final String JOB_NAME = "trackingShipmentJob";
     private static final String STEP_NAME = "trackingShipmentStep";
+    private static final String PARTITION_STEP_NAME = "trackingShipmentPartitionStep";
+    private static final String SHIPMENT_WHERE_CLAUSE =
+            "o.order_status = 'DELIVERY_PROCESSING' "
+                    + "AND s.shipment_type = 'PARCEL_SERVICE' "
+                    + "AND s.delivery_status = 'DELIVERY_PROCESSING'";
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
@@ -51,6 +75,8 @@ public class TrackingShipmentJobConfig {
     private final JdbcTemplate legacyJdbcTemplate;
     private final ShipmentTrackerClient shipmentTrackerClient;
     private final BatchProperties batchProperties;
+    private final int concurrency;
+    private final int partitions;
 
     public TrackingShipmentJobConfig(
             JobRepository jobRepository,
@@ -58,26 +84,55 @@ public class TrackingShipmentJobConfig {
             @Qualifier("legacyDataSource") DataSource legacyDataSource,
             @Qualifier("legacyJdbcTemplate") JdbcTemplate legacyJdbcTemplate,
             ShipmentTrackerClient shipmentTrackerClient,
-            BatchProperties batchProperties) {
+            BatchProperties batchProperties,
+            @Value("${batch.tracking-shipment.concurrency:4}") int concurrency,
+            @Value("${batch.tracking-shipment.partitions:1}") int partitions) {
         this.jobRepository = jobRepository;
         this.transactionManager = transactionManager;
         this.legacyDataSource = legacyDataSource;
         this.legacyJdbcTemplate = legacyJdbcTemplate;
         this.shipmentTrackerClient = shipmentTrackerClient;
         this.batchProperties = batchProperties;
+        this.concurrency = concurrency;
+        this.partitions = partitions;
     }
 
     @Bean
     public Job trackingShipmentJob() {
-        return new JobBuilder(JOB_NAME, jobRepository).start(trackingShipmentStep()).build();
+        Step step = partitions > 1 ? trackingShipmentPartitionStep() : trackingShipmentStep();
+        return new JobBuilder(JOB_NAME, jobRepository).start(step).build();
+    }
+
+    /**
+     * order_id 범위 파티션 Manager Step
+     *
+     * <p>파티션마다 {@link #trackingShipmentStep()}을 Worker로 실행합니다 (파티션 수만큼 동시 실행).
+     */
+    @Bean
+    public Step trackingShipmentPartitionStep() {
+        SimpleAsyncTaskExecutor partitionExecutor =
+                new SimpleAsyncTaskExecutor("tracking-shipment-partition-");
+        partitionExecutor.setConcurrencyLimit(partitions);
+
+        return new StepBuilder(PARTITION_STEP_NAME, jobRepository)
+                .partitioner(
+                        STEP_NAME,
+                        new OrderIdRangePartitioner(legacyJdbcTemplate, SHIPMENT_WHERE_CLAUSE))
+                .step(trackingShipmentStep())
+                .gridSize(partitions)
+                .taskExecutor(partitionExecutor)
+                .build();
     }
 
     @Bean
     public Step trackingShipmentStep() {
+        if (concurrency > 1) {
+            return asyncTrackingShipmentStep();
+        }
         return new StepBuilder(STEP_NAME, jobRepository)
                 .<ShipmentInfo, DeliveryCompletedShipment>chunk(
                         batchProperties.getChunkSize(), transactionManager)
-                .reader(shipmentItemReader())
+                .reader(shipmentItemReader(null, null))
                 .processor(shipmentItemProcessor())
                 .writer(shipmentItemWriter())
                 .faultTolerant()
@@ -88,26 +143,103 @@ public class TrackingShipmentJobConfig {
                 .build();
     }
 
+    /**
+     * 배송 조회를 청크 안에서 동시에 실행하는 Step
+     *
+     * <p>Processor는 아이템마다 Future를 반환하고, Writer가 청크의 Future를 모두 기다린 뒤 배송완료 건만 저장합니다.
+     *
+     * <p>Step 수준 retry는 이미 실패한 Future를 다시 읽을 뿐 조회를 다시 호출하지 않으므로, 조회 재시도는 {@link
+     * #retryingShipmentItemProcessor()}가 작업 스레드 안에서 retry-limit 횟수만큼 수행합니다. 재시도 후에도 실패한
+     * 조회는 Writer 시점에 원래 예외로 드러나 skip 정책으로 처리됩니다.
+     */
+    private Step asyncTrackingShipmentStep() {
+        return new StepBuilder(STEP_NAME, jobRepository)
+                .<ShipmentInfo, Future<DeliveryCompletedShipment>>chunk(
+                        batchProperties.getChunkSize(), transactionManager)
+                .reader(shipmentItemReader(null, null))
+                .processor(asyncShipmentItemProcessor())
+                .writer(asyncShipmentItemWriter())
+                .faultTolerant()
+                .skipLimit(batchProperties.getSkipLimit())
+                .skip(Exception.class)
+                .build();
+    }
+
+    /** 배송 조회를 {@link #trackingShipmentTaskExecutor()}에서 실행하고 Future를 반환하는 Processor */
+    AsyncItemProcessor<ShipmentInfo, DeliveryCompletedShipment> asyncShipmentItemProcessor() {
+        AsyncItemProcessor<ShipmentInfo, DeliveryCompletedShipment> asyncProcessor =
+                new AsyncItemProcessor<>();
+        asyncProcessor.setDelegate(retryingShipmentItemProcessor());
+        asyncProcessor.setTaskExecutor(trackingShipmentTaskExecutor());
+        return asyncProcessor;
+    }
+
+    /** 배송 조회 실패 시 retry-limit 횟수까지 다시 호출하는 Processor (동시 실행 모드 전용) */
+    ItemProcessor<ShipmentInfo, DeliveryCompletedShipment> retryingShipmentItemProcessor() {
+        ItemProcessor<ShipmentInfo, DeliveryCompletedShipment> delegate = shipmentItemProcessor();
+        RetryTemplate retryTemplate =
+                RetryTemplate.builder()
+                        .maxAttempts(Math.max(1, batchProperties.getRetryLimit()))
+                        .retryOn(Exception.class)
+                        .build();
+        return shipmentInfo -> retryTemplate.execute(context -> delegate.process(shipmentInfo));
+    }
+
+    /** 청크의 Future를 모두 기다린 뒤 null(배송 미완료)을 제외하고 저장하는 Writer */
+    AsyncItemWriter<DeliveryCompletedShipment> asyncShipmentItemWriter() {
+        AsyncItemWriter<DeliveryCompletedShipment> asyncWriter = new AsyncItemWriter<>();
+        asyncWriter.setDelegate(shipmentItemWriter());
+        return asyncWriter;
+    }
+
+    /**
+     * 배송 조회 API 호출용 Executor
+     *
+     * <p>Virtual Thread를 사용하고, 파티션 전체에서 동시 호출 수를 concurrency로 제한합니다.
+     */
+    @Bean
+    public TaskExecutor trackingShipmentTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("tracking-shipment-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrency);
+        return executor;
+    }
+
+    /**
+     * 배송중 shipment Reader
+     *
+     * <p>파티션 Worker로 실행되면 StepExecutionContext의 order_id 범위만 읽습니다. order_id 정렬 키 기준으로 상태를
+     * 저장하므로 재시작 시 마지막 커밋 이후부터 이어서 읽습니다.
+     */
     @Bean
     @StepScope
-    public JdbcPagingItemReader<ShipmentInfo> shipmentItemReader() {
+    public JdbcPagingItemReader<ShipmentInfo> shipmentItemReader(
+            @Value("#{stepExecutionContext['minOrderId']}") Long minOrderId,
+            @Value("#{stepExecutionContext['maxOrderId']}") Long maxOrderId) {
         JdbcPagingItemReader<ShipmentInfo> reader = new JdbcPagingItemReader<>();
         reader.setDataSource(legacyDataSource);
         reader.setPageSize(batchProperties.getChunkSize());
         reader.setRowMapper(shipmentRowMapper());
-        reader.setQueryProvider(shipmentQueryProvider());
+        reader.setQueryProvider(shipmentQueryProvider(minOrderId != null && maxOrderId != null));
+        if (minOrderId != null && maxOrderId != null) {
+            reader.setParameterValues(
+                    Map.of(
+                            OrderIdRangePartitioner.MIN_ORDER_ID, minOrderId,
+                            OrderIdRangePartitioner.MAX_ORDER_ID, maxOrderId));
+        }
 
         return reader;
     }
 
-    private MySqlPagingQueryProvider shipmentQueryProvider() {
+    private MySqlPagingQueryProvider shipmentQueryProvider(boolean ranged) {
         MySqlPagingQueryProvider queryProvider = new MySqlPagingQueryProvider();
         queryProvider.setSelectClause("s.order_id, s.invoice_no, s.company_code");
         queryProvider.setFromClause("shipment s INNER JOIN orders o ON s.order_id = o.order_id");
         queryProvider.setWhereClause(
-                "o.order_status = 'DELIVERY_PROCESSING' "
-                        + "AND s.shipment_type = 'PARCEL_SERVICE' "
-                        + "AND s.delivery_status = 'DELIVERY_PROCESSING'");
+                ranged
+                        ? SHIPMENT_WHERE_CLAUSE
+                                + " AND s.order_id BETWEEN :minOrderId AND :maxOrderId"
+                        : SHIPMENT_WHERE_CLAUSE);
 
         Map<String, Order> sortKeys = new HashMap<>();
         sortKeys.put("s.order_id", Order.ASCENDING);
@@ -0,0 +1,76 @@
+package com.ryuqq.setof.batch.legacy.notification;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.setof.batch.legacy.notification.dto.AlimTalkSendResult;
+import com.ryuqq.setof.batch.legacy.notification.dto.MessageQueueItem;
+import com.ryuqq.setof.batch.legacy.notification.enums.AlimTalkTemplateCode;
+import com.ryuqq.setof.batch.legacy.notification.enums.MessageStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AlimTalkBulkDispatcher 테스트
+ *
+ * <p>WireMock 응답 기준으로 요청 실패와 수신 번호 누락 시의 결과 매핑을 검증합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("AlimTalkBulkDispatcher")
+class AlimTalkBulkDispatcherTest extends AlimTalkWireMockTestSupport {
+
+    @Test
+    @DisplayName("요청이 실패하면 해당 요청의 메시지만 모두 실패로 반환한다")
+    void shouldFailWholeRequestOnErrorHeader() {
+        // Given
+        stubSend(
+                """
+                {"header": {"resultCode": -1000, "resultMessage": "Invalid appKey",
+                 "isSuccessful": false}}
+                """);
+        List<MessageQueueItem> items = messages(AlimTalkTemplateCode.MEMBER_JOIN, 1, 3);
+
+        // When
+        List<AlimTalkSendResult> results = dispatcher.dispatch(items);
+
+        // Then
+        assertThat(results)
+                .hasSize(3)
+                .allSatisfy(
+                        result -> {
+                            assertThat(result.status()).isEqualTo(MessageStatus.FAILED);
+                            assertThat(result.responseCode()).isEqualTo("-1000");
+                        });
+    }
+
+    @Test
+    @DisplayName("수신 번호가 없는 메시지는 API를 호출하지 않고 실패로 반환한다")
+    void shouldRejectMissingRecipientWithoutCall() {
+        // Given
+        stubSend(SEND_RESPONSE_TEMPLATE);
+        MessageQueueItem noRecipient =
+                new MessageQueueItem(
+                        1L,
+                        null,
+                        AlimTalkTemplateCode.MEMBER_JOIN,
+                        "{}",
+                        MessageStatus.PENDING,
+                        LocalDateTime.now());
+
+        // When
+        List<AlimTalkSendResult> results = dispatcher.dispatch(List.of(noRecipient));
+
+        // Then
+        wireMock.verify(exactly(0), postRequestedFor(urlPathEqualTo(SEND_PATH)));
+        assertThat(results)
+                .singleElement()
+                .extracting(AlimTalkSendResult::responseCode)
+                .isEqualTo("INVALID_RECIPIENT");
+    }
+}
@@ -0,0 +1,60 @@
+package com.ryuqq.setof.batch.legacy.notification;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.setof.batch.legacy.notification.dto.AlimTalkSendResult;
+import com.ryuqq.setof.batch.legacy.notification.dto.MessageQueueItem;
+import com.ryuqq.setof.batch.legacy.notification.enums.AlimTalkTemplateCode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AlimTalkBulkDispatcher 처리량 테스트
+ *
+ * <p>WireMock 요청마다 고정 지연을 주어 건별 발송 대비 처리 시간을 확인합니다. 기본 test 태스크에서 제외되며 {@code ./gradlew
+ * benchmarkTest}로 실행합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("AlimTalkBulkDispatcher 처리량 테스트")
+@Tag("benchmark")
+class AlimTalkBulkDispatcherThroughputTest extends AlimTalkWireMockTestSupport {
+
+    @Test
+    @DisplayName("템플릿별 다중 수신자 요청으로 묶어 건별 발송보다 10배 이상 빠르게 처리한다")
+    void shouldGroupByTemplateAndDispatchConcurrently() {
+        // Given
+        stubSend(SEND_RESPONSE_TEMPLATE);
+        List<MessageQueueItem> items = new ArrayList<>();
+        items.addAll(messages(AlimTalkTemplateCode.ORDER_COMPLETE, 1, 1200));
+        items.addAll(messages(AlimTalkTemplateCode.DELIVERY_START, 10_001, 500));
+        items.addAll(messages(AlimTalkTemplateCode.CANCEL_ORDER_AUTO, 20_001, 300));
+
+        // When
+        long startNanos = System.nanoTime();
+        List<AlimTalkSendResult> results = dispatcher.dispatch(items);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        // Then: ORDER_COMPLETE 1200건은 2개 요청, 나머지 템플릿은 1개 요청씩
+        wireMock.verify(exactly(4), postRequestedFor(urlPathEqualTo(SEND_PATH)));
+        assertThat(results).hasSize(items.size()).allMatch(AlimTalkSendResult::isSuccess);
+        Set<Long> expectedIds =
+                items.stream().map(MessageQueueItem::messageId).collect(Collectors.toSet());
+        assertThat(results.stream().map(AlimTalkSendResult::messageId).collect(Collectors.toSet()))
+                .isEqualTo(expectedIds);
+
+        Duration sequentialEstimate =
+                Duration.ofMillis((long) items.size() * RESPONSE_DELAY_MILLIS);
+        assertThat(elapsed).isLessThan(sequentialEstimate.dividedBy(10));
+    }
+}
@@ -0,0 +1,102 @@
+package com.ryuqq.setof.batch.legacy.notification;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.setof.batch.legacy.notification.dto.AlimTalkSendResult;
+import com.ryuqq.setof.batch.legacy.notification.dto.MessageQueueItem;
+import com.ryuqq.setof.batch.legacy.notification.enums.AlimTalkTemplateCode;
+import com.ryuqq.setof.batch.legacy.notification.enums.MessageStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * AlimTalkNotifyJobConfig 테스트
+ *
+ * <p>상태 UPDATE가 롤백된 발송 결과를 재시도에서 재사용하고, Job 종료 시 정리하는지에 대한 단위 테스트
+ */
+@DisplayName("AlimTalkNotifyJobConfig")
+@ExtendWith(MockitoExtension.class)
+class AlimTalkNotifyJobConfigTest {
+
+    @Mock private DataSource legacyDataSource;
+    @Mock private NamedParameterJdbcTemplate legacyJdbcTemplate;
+    @Mock private AlimTalkBulkDispatcher alimTalkBulkDispatcher;
+
+    private AlimTalkNotifyJobConfig config;
+    private ItemWriter<MessageQueueItem> writer;
+
+    @BeforeEach
+    void setUp() {
+        config =
+                new AlimTalkNotifyJobConfig(
+                        legacyDataSource,
+                        legacyJdbcTemplate,
+                        alimTalkBulkDispatcher,
+                        new ObjectMapper());
+        writer = config.alimTalkDispatchWriter();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("Job 종료 후에는 커밋되지 않은 발송 결과를 재사용하지 않는다")
+    void shouldDiscardUncommittedResultsAfterJob() {
+        // Given
+        MessageQueueItem item =
+                new MessageQueueItem(
+                        1L,
+                        "01000000001",
+                        AlimTalkTemplateCode.MEMBER_JOIN,
+                        "{}",
+                        MessageStatus.PENDING,
+                        LocalDateTime.now());
+        when(alimTalkBulkDispatcher.dispatch(anyList()))
+                .thenAnswer(
+                        invocation -> {
+                            List<MessageQueueItem> toSend = invocation.getArgument(0);
+                            return toSend.stream()
+                                    .map(sent -> AlimTalkSendResult.success(sent.messageId()))
+                                    .toList();
+                        });
+        when(legacyJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+
+        // When: 같은 Job 안의 재시도는 보관 결과를 재사용하고, Job 종료 후 실행은 다시 발송
+        assertThatThrownBy(() -> writer.write(new Chunk<>(List.of(item))))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThatThrownBy(() -> writer.write(new Chunk<>(List.of(item))))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        config.uncommittedResultsCleaner().afterJob(new JobExecution(1L));
+        assertThatThrownBy(() -> writer.write(new Chunk<>(List.of(item))))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        // Then
+        verify(alimTalkBulkDispatcher, times(2)).dispatch(List.of(item));
+    }
+}
@@ -0,0 +1,110 @@
+package com.ryuqq.setof.batch.legacy.notification;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.ryuqq.setof.batch.legacy.notification.client.NhnCloudAlimTalkClient;
+import com.ryuqq.setof.batch.legacy.notification.dto.MessageQueueItem;
+import com.ryuqq.setof.batch.legacy.notification.enums.AlimTalkTemplateCode;
+import com.ryuqq.setof.batch.legacy.notification.enums.MessageStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 알림톡 WireMock 테스트 지원
+ *
+ * <p>WireMock으로 NHN Cloud 알림톡 API를 대신하고(mock-server/mappings/nhn-alimtalk-send.json과 같은 응답), 요청마다
+ * 고정 지연을 주는 {@link AlimTalkBulkDispatcher}를 준비합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+abstract class AlimTalkWireMockTestSupport {
+
+    protected static final String APP_KEY = "test-app";
+    protected static final String SEND_PATH = "/alimtalk/v2.2/appkeys/" + APP_KEY + "/messages";
+    protected static final int RESPONSE_DELAY_MILLIS = 50;
+
+    protected static final String SEND_RESPONSE_TEMPLATE =
+            """
+            {
+              "header": {"resultCode": 0, "resultMessage": "SUCCESS", "isSuccessful": true},
+              "message": {
+                "requestId": "mock-request",
+                "sendResults": [
+                  {{#each (jsonPath request.body '$.recipientList') as |recipient|}}
+                  {{#unless @first}},{{/unless}}
+                  {
+                    "recipientNo": "{{recipient.recipientNo}}",
+                    "resultCode": 0,
+                    "resultMessage": "SUCCESS",
+                    "recipientGroupingKey": "{{recipient.recipientGroupingKey}}"
+                  }
+                  {{/each}}
+                ]
+              }
+            }
+            """;
+
+    protected WireMockServer wireMock;
+    protected AlimTalkBulkDispatcher dispatcher;
+
+    @BeforeEach
+    void setUpWireMock() {
+        wireMock = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+        wireMock.start();
+
+        NhnCloudAlimTalkClient client =
+                new NhnCloudAlimTalkClient(new RestTemplate(), new ObjectMapper());
+        ReflectionTestUtils.setField(client, "baseUrl", wireMock.baseUrl());
+        ReflectionTestUtils.setField(client, "appKey", APP_KEY);
+        ReflectionTestUtils.setField(client, "secretKey", "secret");
+        ReflectionTestUtils.setField(client, "senderKey", "sender");
+        ReflectionTestUtils.setField(client, "dryRun", false);
+
+        dispatcher = new AlimTalkBulkDispatcher(client, 4, 1000);
+    }
+
+    @AfterEach
+    void tearDownWireMock() {
+        wireMock.stop();
+    }
+
+    protected void stubSend(String bodyTemplate) {
+        wireMock.stubFor(
+                post(urlPathEqualTo(SEND_PATH))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(200)
+                                        .withFixedDelay(RESPONSE_DELAY_MILLIS)
+                                        .withHeader("Content-Type", "application/json")
+                                        .withBody(bodyTemplate)
+                                        .withTransformers("response-template")));
+    }
+
+    protected List<MessageQueueItem> messages(
+            AlimTalkTemplateCode templateCode, long firstMessageId, int count) {
+        List<MessageQueueItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long messageId = firstMessageId + i;
+            items.add(
+                    new MessageQueueItem(
+                            messageId,
+                            String.format("010%08d", messageId),
+                            templateCode,
+                            "{\"recipientNo\":\"" + String.format("010%08d", messageId) + "\"}",
+                            MessageStatus.PENDING,
+                            LocalDateTime.now()));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,122 @@
+package com.ryuqq.setof.batch.legacy.shipment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * OrderIdRangePartitioner 테스트
+ *
+ * <p>order_id 범위 분할 계산과 추적 대상이 없을 때의 빈 구간 생성에 대한 단위 테스트
+ */
+@DisplayName("OrderIdRangePartitioner")
+@ExtendWith(MockitoExtension.class)
+class OrderIdRangePartitionerTest {
+
+    private static final String WHERE_CLAUSE = "s.delivery_status = 'DELIVERY_PROCESSING'";
+
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    private OrderIdRangePartitioner partitioner;
+
+    @BeforeEach
+    void setUp() {
+        partitioner = new OrderIdRangePartitioner(jdbcTemplate, WHERE_CLAUSE);
+    }
+
+    @Nested
+    @DisplayName("partition")
+    class PartitionTest {
+
+        @Test
+        @DisplayName("최소~최대 order_id를 빈틈 없는 연속 구간으로 나눈다")
+        void shouldSplitIntoContiguousRanges() {
+            // Given
+            givenRange(new long[] {1L, 10L});
+
+            // When
+            Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+            // Then
+            assertThat(partitions).hasSize(4);
+            assertRange(partitions, "partition0", 1L, 3L);
+            assertRange(partitions, "partition1", 4L, 6L);
+            assertRange(partitions, "partition2", 7L, 9L);
+            assertRange(partitions, "partition3", 10L, 10L);
+        }
+
+        @Test
+        @DisplayName("구간 크기보다 파티션 수가 많으면 order_id 하나씩만 나눈다")
+        void shouldNotCreateEmptyRanges() {
+            // Given
+            givenRange(new long[] {100L, 101L});
+
+            // When
+            Map<String, ExecutionContext> partitions = partitioner.partition(8);
+
+            // Then
+            assertThat(partitions).hasSize(2);
+            assertRange(partitions, "partition0", 100L, 100L);
+            assertRange(partitions, "partition1", 101L, 101L);
+        }
+
+        @Test
+        @DisplayName("gridSize가 1 미만이면 전체 구간을 하나의 파티션으로 만든다")
+        void shouldCreateSinglePartitionForNonPositiveGridSize() {
+            // Given
+            givenRange(new long[] {5L, 50L});
+
+            // When
+            Map<String, ExecutionContext> partitions = partitioner.partition(0);
+
+            // Then
+            assertThat(partitions).hasSize(1);
+            assertRange(partitions, "partition0", 5L, 50L);
+        }
+
+        @Test
+        @DisplayName("추적 대상이 없으면 아무것도 읽지 않는 빈 구간 하나만 만든다")
+        void shouldCreateEmptyRangeWhenNoTarget() {
+            // Given
+            givenRange(null);
+
+            // When
+            Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+            // Then
+            assertThat(partitions).hasSize(1);
+            ExecutionContext context = partitions.get("partition0");
+            assertThat(context.getLong(OrderIdRangePartitioner.MIN_ORDER_ID))
+                    .isGreaterThan(context.getLong(OrderIdRangePartitioner.MAX_ORDER_ID));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRange(long[] range) {
+        when(jdbcTemplate.queryForObject(contains(WHERE_CLAUSE), any(RowMapper.class)))
+                .thenReturn(range);
+    }
+
+    private static void assertRange(
+            Map<String, ExecutionContext> partitions,
+            String name,
+            long minOrderId,
+            long maxOrderId) {
+        ExecutionContext context = partitions.get(name);
+        assertThat(context.getLong(OrderIdRangePartitioner.MIN_ORDER_ID)).isEqualTo(minOrderId);
+        assertThat(context.getLong(OrderIdRangePartitioner.MAX_ORDER_ID)).isEqualTo(maxOrderId);
+    }
+}
@@ -0,0 +1,152 @@
+package com.ryuqq.setof.batch.legacy.shipment;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.batch.config.BatchProperties;
+import com.ryuqq.setof.batch.legacy.shipment.client.ShipmentTrackerClient;
+import com.ryuqq.setof.batch.legacy.shipment.dto.DeliveryCompletedShipment;
+import com.ryuqq.setof.batch.legacy.shipment.dto.ShipmentInfo;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Future;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.integration.async.AsyncItemProcessor;
+import org.springframework.batch.integration.async.AsyncItemWriter;
+import org.springframework.batch.item.Chunk;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * TrackingShipmentJobConfig 테스트
+ *
+ * <p>동시 실행 Step의 Processor/Writer 조합이 Future를 풀어 배송완료 건만 저장하고, 조회 실패를 Processor 안에서 재시도하는지에
+ * 대한 단위 테스트
+ */
+@DisplayName("TrackingShipmentJobConfig")
+@ExtendWith(MockitoExtension.class)
+class TrackingShipmentJobConfigTest {
+
+    private static final LocalDateTime COMPLETED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock private JobRepository jobRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private DataSource legacyDataSource;
+    @Mock private JdbcTemplate legacyJdbcTemplate;
+    @Mock private ShipmentTrackerClient shipmentTrackerClient;
+
+    private AsyncItemProcessor<ShipmentInfo, DeliveryCompletedShipment> processor;
+    private AsyncItemWriter<DeliveryCompletedShipment> writer;
+
+    @BeforeEach
+    void setUp() {
+        TrackingShipmentJobConfig config =
+                new TrackingShipmentJobConfig(
+                        jobRepository,
+                        transactionManager,
+                        legacyDataSource,
+                        legacyJdbcTemplate,
+                        shipmentTrackerClient,
+                        new BatchProperties(),
+                        4,
+                        1);
+        processor = config.asyncShipmentItemProcessor();
+        writer = config.asyncShipmentItemWriter();
+    }
+
+    @Nested
+    @DisplayName("asyncTrackingShipmentStep")
+    class AsyncTrackingShipmentStepTest {
+
+        @Test
+        @DisplayName("Future를 풀어 배송완료 건만 저장하고 미완료(null) 건은 제외")
+        void shouldUnwrapFuturesAndFilterNullResults() throws Exception {
+            // Given
+            ShipmentInfo completed = new ShipmentInfo(1L, "111111111111", "04");
+            ShipmentInfo inTransit = new ShipmentInfo(2L, "222222222222", "04");
+            when(shipmentTrackerClient.trackShipment(completed))
+                    .thenReturn(Optional.of(COMPLETED_AT));
+            when(shipmentTrackerClient.trackShipment(inTransit)).thenReturn(Optional.empty());
+
+            // When
+            writer.write(
+                    new Chunk<>(
+                            List.of(processor.process(completed), processor.process(inTransit))));
+
+            // Then
+            verify(legacyJdbcTemplate)
+                    .update(
+                            contains("UPDATE shipment"),
+                            eq(Timestamp.valueOf(COMPLETED_AT)),
+                            eq(1L));
+            verify(legacyJdbcTemplate).update(contains("UPDATE orders"), eq(1L));
+            verify(legacyJdbcTemplate).update(contains("INSERT INTO orders_history"), eq(1L));
+            verify(legacyJdbcTemplate, never()).update(contains("UPDATE orders"), eq(2L));
+        }
+
+        @Test
+        @DisplayName("청크가 모두 배송 미완료면 저장하지 않는다")
+        void shouldSkipWriteWhenAllResultsAreNull() throws Exception {
+            // Given
+            ShipmentInfo inTransit = new ShipmentInfo(2L, "222222222222", "04");
+            when(shipmentTrackerClient.trackShipment(inTransit)).thenReturn(Optional.empty());
+            Future<DeliveryCompletedShipment> future = processor.process(inTransit);
+
+            // When
+            writer.write(new Chunk<>(List.of(future)));
+
+            // Then
+            verifyNoInteractions(legacyJdbcTemplate);
+        }
+
+        @Test
+        @DisplayName("일시적인 조회 실패는 Processor 안에서 재시도해 저장한다")
+        void shouldRetryTrackingInsideProcessor() throws Exception {
+            // Given
+            ShipmentInfo shipment = new ShipmentInfo(4L, "444444444444", "04");
+            when(shipmentTrackerClient.trackShipment(shipment))
+                    .thenThrow(new IllegalStateException("tracker timeout"))
+                    .thenReturn(Optional.of(COMPLETED_AT));
+
+            // When
+            writer.write(new Chunk<>(List.of(processor.process(shipment))));
+
+            // Then
+            verify(shipmentTrackerClient, times(2)).trackShipment(shipment);
+            verify(legacyJdbcTemplate).update(contains("UPDATE orders"), eq(4L));
+        }
+
+        @Test
+        @DisplayName("retry-limit만큼 재시도해도 실패하면 Writer에서 원래 예외로 드러난다")
+        void shouldRethrowOriginalExceptionOnWrite() throws Exception {
+            // Given
+            ShipmentInfo shipment = new ShipmentInfo(3L, "333333333333", "04");
+            IllegalStateException failure = new IllegalStateException("tracker unavailable");
+            when(shipmentTrackerClient.trackShipment(shipment)).thenThrow(failure);
+            Future<DeliveryCompletedShipment> future = processor.process(shipment);
+
+            // When & Then
+            assertThatThrownBy(() -> writer.write(new Chunk<>(List.of(future))))
+                    .isSameAs(failure);
+            verify(shipmentTrackerClient, times(new BatchProperties().getRetryLimit()))
+                    .trackShipment(shipment);
+            verifyNoInteractions(legacyJdbcTemplate);
+        }
+    }
+}
@@ -17,7 +17,7 @@ public class MigrationProperties {
     private final ScheduleProperties schedule;
 
     public MigrationProperties(BatchProperties batch, ScheduleProperties schedule) {
-        this.batch = batch != null ? batch : new BatchProperties(1000, 100, 3);
+        this.batch = batch != null ? batch : new BatchProperties(1000, 100, 3, 4);
         this.schedule =
                 schedule != null
                         ? schedule
@@ -38,8 +38,9 @@ public class MigrationProperties {
      * @param chunkSize Chunk 크기 (기본값: 1000)
      * @param skipLimit Skip 허용 횟수 (기본값: 100)
      * @param retryLimit 재시도 횟수 (기본값: 3)
+     * @param partitions 초기 마이그레이션 레거시 PK 구간 파티션 수 (기본값: 4)
      */
-    public record BatchProperties(int chunkSize, int skipLimit, int retryLimit) {
+    public record BatchProperties(int chunkSize, int skipLimit, int retryLimit, int partitions) {
 
         public BatchProperties {
             if (chunkSize <= 0) {
@@ -51,6 +52,9 @@ public class MigrationProperties {
             if (retryLimit < 0) {
                 retryLimit = 3;
             }
+            if (partitions <= 0) {
+                partitions = 4;
+            }
         }
     }
 
@@ -39,6 +39,13 @@ public class MigrationCheckpointController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /** 특정 도메인 파티션 체크포인트 조회 */
+    @GetMapping("/{domainName}/partitions")
+    public ResponseEntity<List<MigrationPartitionCheckpoint>> findPartitions(
+            @PathVariable String domainName) {
+        return ResponseEntity.ok(repository.findPartitions(domainName));
+    }
+
     /** 마이그레이션 가능한 체크포인트 조회 */
     @GetMapping("/migratable")
     public ResponseEntity<List<MigrationCheckpoint>> findMigratable() {
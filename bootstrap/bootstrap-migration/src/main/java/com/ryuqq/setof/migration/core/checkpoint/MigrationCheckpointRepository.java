@@ -4,6 +4,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
@@ -207,9 +208,182 @@ public class MigrationCheckpointRepository {
                 WHERE domain_name = ?
                 """;
         int updated = jdbcTemplate.update(sql, domainName);
+        jdbcTemplate.update(
+                "DELETE FROM migration_partition_checkpoint WHERE domain_name = ?", domainName);
         log.info("Checkpoint reset. domain={}, updated={}", domainName, updated);
     }
 
+    /**
+     * 도메인의 파티션 체크포인트 조회
+     *
+     * @param domainName 도메인명
+     * @return 파티션 번호 순 파티션 체크포인트 목록
+     */
+    public List<MigrationPartitionCheckpoint> findPartitions(String domainName) {
+        String sql =
+                """
+                SELECT * FROM migration_partition_checkpoint
+                WHERE domain_name = ?
+                ORDER BY partition_no
+                """;
+        return jdbcTemplate.query(sql, new MigrationPartitionCheckpointRowMapper(), domainName);
+    }
+
+    /**
+     * 파티션 계획 교체
+     *
+     * <p>기존 파티션 체크포인트를 지우고 새 구간들로 다시 등록합니다. 각 구간의 lastMigratedId는 구간 시작 PK - 1로 초기화됩니다.
+     *
+     * @param domainName 도메인명
+     * @param ranges 파티션 번호 순 레거시 PK 구간 목록 ({rangeStart, rangeEnd}, 양 끝 포함)
+     * @return 등록된 파티션 체크포인트 목록
+     */
+    @Transactional
+    public List<MigrationPartitionCheckpoint> replacePartitions(
+            String domainName, List<long[]> ranges) {
+        jdbcTemplate.update(
+                "DELETE FROM migration_partition_checkpoint WHERE domain_name = ?", domainName);
+
+        String sql =
+                """
+                INSERT INTO migration_partition_checkpoint
+                    (domain_name, partition_no, range_start, range_end, last_migrated_id, status)
+                VALUES (?, ?, ?, ?, ?, 'PENDING')
+                """;
+        List<Object[]> batchArgs = new ArrayList<>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            long[] range = ranges.get(i);
+            batchArgs.add(new Object[] {domainName, i, range[0], range[1], range[0] - 1});
+        }
+        jdbcTemplate.batchUpdate(sql, batchArgs);
+
+        log.info("Partitions planned. domain={}, partitions={}", domainName, ranges.size());
+        return findPartitions(domainName);
+    }
+
+    /**
+     * 파티션 실행 시작 시 상태 업데이트
+     *
+     * @param domainName 도메인명
+     * @param partitionNo 파티션 번호
+     */
+    @Transactional
+    public void startPartition(String domainName, int partitionNo) {
+        String sql =
+                """
+                UPDATE migration_partition_checkpoint SET
+                    status = 'RUNNING',
+                    error_message = NULL
+                WHERE domain_name = ? AND partition_no = ?
+                """;
+        jdbcTemplate.update(sql, domainName, partitionNo);
+    }
+
+    /**
+     * 파티션 청크 처리 완료 후 체크포인트 업데이트
+     *
+     * <p>파티션의 lastMigratedId와 건수, 도메인 체크포인트의 누적 건수를 함께 갱신합니다. 도메인 체크포인트의
+     * lastMigratedId는 모든 파티션이 완료될 때 {@link #closePartitions(String)}에서 갱신됩니다.
+     *
+     * @param domainName 도메인명
+     * @param partitionNo 파티션 번호
+     * @param lastMigratedId 마지막으로 처리한 레거시 PK
+     * @param chunkCount 이번 청크에서 처리한 건수
+     */
+    @Transactional
+    public void updatePartitionCheckpoint(
+            String domainName, int partitionNo, long lastMigratedId, long chunkCount) {
+        String sql =
+                """
+                UPDATE migration_partition_checkpoint SET
+                    last_migrated_id = ?,
+                    migrated_count = migrated_count + ?
+                WHERE domain_name = ? AND partition_no = ?
+                """;
+        jdbcTemplate.update(sql, lastMigratedId, chunkCount, domainName, partitionNo);
+        jdbcTemplate.update(
+                "UPDATE migration_checkpoint SET migrated_count = migrated_count + ?"
+                        + " WHERE domain_name = ?",
+                chunkCount,
+                domainName);
+        log.debug(
+                "Partition checkpoint updated. domain={}, partitionNo={}, lastMigratedId={},"
+                        + " chunkCount={}",
+                domainName,
+                partitionNo,
+                lastMigratedId,
+                chunkCount);
+    }
+
+    /**
+     * 파티션 완료 처리
+     *
+     * @param domainName 도메인명
+     * @param partitionNo 파티션 번호
+     */
+    @Transactional
+    public void completePartition(String domainName, int partitionNo) {
+        String sql =
+                """
+                UPDATE migration_partition_checkpoint SET
+                    status = 'COMPLETED',
+                    last_migrated_id = range_end
+                WHERE domain_name = ? AND partition_no = ?
+                """;
+        jdbcTemplate.update(sql, domainName, partitionNo);
+        log.info("Partition completed. domain={}, partitionNo={}", domainName, partitionNo);
+    }
+
+    /**
+     * 파티션 실패 처리
+     *
+     * @param domainName 도메인명
+     * @param partitionNo 파티션 번호
+     * @param errorMessage 에러 메시지
+     */
+    @Transactional
+    public void failPartition(String domainName, int partitionNo, String errorMessage) {
+        String sql =
+                """
+                UPDATE migration_partition_checkpoint SET
+                    status = 'FAILED',
+                    error_message = ?
+                WHERE domain_name = ? AND partition_no = ?
+                """;
+        jdbcTemplate.update(sql, errorMessage, domainName, partitionNo);
+        log.error(
+                "Partition failed. domain={}, partitionNo={}, error={}",
+                domainName,
+                partitionNo,
+                errorMessage);
+    }
+
+    /**
+     * 파티션 마감
+     *
+     * <p>모든 파티션이 완료된 경우 도메인 체크포인트의 lastMigratedId를 가장 큰 구간 끝 PK로 올립니다. 다음 실행은 이 PK 이후
+     * 구간만 새로 나눕니다.
+     *
+     * @param domainName 도메인명
+     */
+    @Transactional
+    public void closePartitions(String domainName) {
+        String sql =
+                """
+                UPDATE migration_checkpoint c
+                JOIN (
+                    SELECT domain_name, MAX(range_end) AS max_range_end
+                    FROM migration_partition_checkpoint
+                    WHERE domain_name = ?
+                    GROUP BY domain_name
+                    HAVING SUM(status <> 'COMPLETED') = 0
+                ) p ON p.domain_name = c.domain_name
+                SET c.last_migrated_id = GREATEST(c.last_migrated_id, p.max_range_end)
+                """;
+        int updated = jdbcTemplate.update(sql, domainName);
+        log.info("Partitions closed. domain={}, updated={}", domainName, updated);
+    }
+
     /**
      * 증분 동기화 완료 후 체크포인트 업데이트
      *
@@ -332,4 +506,28 @@ public class MigrationCheckpointRepository {
             return timestamp != null ? timestamp.toInstant() : null;
         }
     }
+
+    private static class MigrationPartitionCheckpointRowMapper
+            implements RowMapper<MigrationPartitionCheckpoint> {
+
+        @Override
+        public MigrationPartitionCheckpoint mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return new MigrationPartitionCheckpoint(
+                    rs.getLong("id"),
+                    rs.getString("domain_name"),
+                    rs.getInt("partition_no"),
+                    rs.getLong("range_start"),
+                    rs.getLong("range_end"),
+                    rs.getLong("last_migrated_id"),
+                    rs.getLong("migrated_count"),
+                    MigrationCheckpointStatus.valueOf(rs.getString("status")),
+                    rs.getString("error_message"),
+                    toInstant(rs.getTimestamp("created_at")),
+                    toInstant(rs.getTimestamp("updated_at")));
+        }
+
+        private Instant toInstant(Timestamp timestamp) {
+            return timestamp != null ? timestamp.toInstant() : null;
+        }
+    }
 }
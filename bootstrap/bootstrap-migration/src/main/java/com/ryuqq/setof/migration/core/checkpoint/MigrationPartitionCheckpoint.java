@@ -0,0 +1,46 @@
+package com.ryuqq.setof.migration.core.checkpoint;
+
+import java.time.Instant;
+
+/**
+ * 마이그레이션 파티션 체크포인트
+ *
+ * <p>초기 마이그레이션을 레거시 PK 구간으로 나눠 병렬 실행할 때 구간 하나의 진행 상태를 추적합니다. 구간마다 {@code lastMigratedId}를
+ * 따로 저장하므로 실패한 구간만 이어서 실행할 수 있습니다.
+ *
+ * @param id 파티션 체크포인트 ID
+ * @param domainName 도메인명
+ * @param partitionNo 파티션 번호 (0부터)
+ * @param rangeStart 구간 시작 레거시 PK (포함)
+ * @param rangeEnd 구간 끝 레거시 PK (포함)
+ * @param lastMigratedId 구간 안에서 마지막으로 마이그레이션한 레거시 PK
+ * @param migratedCount 구간 누적 마이그레이션 건수
+ * @param status 상태
+ * @param errorMessage 에러 메시지 (실패 시)
+ * @param createdAt 생성일시
+ * @param updatedAt 수정일시
+ * @author development-team
+ * @since 1.0.0
+ */
+public record MigrationPartitionCheckpoint(
+        Long id,
+        String domainName,
+        int partitionNo,
+        long rangeStart,
+        long rangeEnd,
+        long lastMigratedId,
+        long migratedCount,
+        MigrationCheckpointStatus status,
+        String errorMessage,
+        Instant createdAt,
+        Instant updatedAt) {
+
+    /**
+     * 파티션 완료 상태인지 확인
+     *
+     * @return COMPLETED 상태면 true
+     */
+    public boolean isCompleted() {
+        return status == MigrationCheckpointStatus.COMPLETED;
+    }
+}
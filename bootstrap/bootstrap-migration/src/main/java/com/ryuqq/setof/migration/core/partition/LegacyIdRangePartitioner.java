@@ -0,0 +1,121 @@
+package com.ryuqq.setof.migration.core.partition;
+
+import com.ryuqq.setof.migration.core.checkpoint.MigrationCheckpoint;
+import com.ryuqq.setof.migration.core.checkpoint.MigrationCheckpointRepository;
+import com.ryuqq.setof.migration.core.checkpoint.MigrationPartitionCheckpoint;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 레거시 PK 구간 분할기
+ *
+ * <p>초기 마이그레이션 대상 레거시 PK 공간을 gridSize개의 연속 구간으로 나누고, 구간마다 파티션 체크포인트를 등록합니다. 각 파티션의
+ * ExecutionContext에는 {@code partitionNo}, {@code lastMigratedId}(이 PK 다음부터 읽음), {@code
+ * rangeEnd}(포함)를 저장합니다.
+ *
+ * <p>완료되지 않은 파티션 체크포인트가 남아 있으면 새로 나누지 않고 그 파티션들만 각자의 lastMigratedId부터 이어서 실행합니다. 모든
+ * 파티션이 완료된 상태라면 도메인 체크포인트의 lastMigratedId와 완료된 파티션의 가장 큰 rangeEnd 중 큰 값 이후 구간만 새로
+ * 나눕니다. 이전 Job이 {@code closePartitions} 전에 중단되어 도메인 체크포인트가 갱신되지 않았더라도 이미 옮긴 구간을 다시 나누지
+ * 않습니다.
+ *
+ * <p>sync_status 도메인의 초기 마이그레이션은 이 분할기와 {@link PartitionCheckpointListener}를 사용하는 파티션 Step으로
+ * 구성합니다. 도메인별로 레거시 최대 PK 조회만 제공하면 됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public class LegacyIdRangePartitioner implements Partitioner {
+
+    private static final Logger log = LoggerFactory.getLogger(LegacyIdRangePartitioner.class);
+
+    public static final String PARTITION_NO = "partitionNo";
+    public static final String LAST_MIGRATED_ID = "lastMigratedId";
+    public static final String RANGE_END = "rangeEnd";
+
+    private final String domainName;
+    private final MigrationCheckpointRepository checkpointRepository;
+    private final LongSupplier maxLegacyIdSupplier;
+
+    public LegacyIdRangePartitioner(
+            String domainName,
+            MigrationCheckpointRepository checkpointRepository,
+            LongSupplier maxLegacyIdSupplier) {
+        this.domainName = domainName;
+        this.checkpointRepository = checkpointRepository;
+        this.maxLegacyIdSupplier = maxLegacyIdSupplier;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        List<MigrationPartitionCheckpoint> partitions =
+                checkpointRepository.findPartitions(domainName);
+
+        if (partitions.stream().allMatch(MigrationPartitionCheckpoint::isCompleted)) {
+            long domainLastMigratedId =
+                    checkpointRepository
+                            .findByDomainName(domainName)
+                            .map(MigrationCheckpoint::lastMigratedId)
+                            .orElse(0L);
+            long lastMigratedId =
+                    Math.max(
+                            domainLastMigratedId,
+                            partitions.stream()
+                                    .mapToLong(MigrationPartitionCheckpoint::rangeEnd)
+                                    .max()
+                                    .orElse(0L));
+            long maxLegacyId = maxLegacyIdSupplier.getAsLong();
+            partitions =
+                    checkpointRepository.replacePartitions(
+                            domainName, split(lastMigratedId, maxLegacyId, gridSize));
+        } else {
+            log.info("Resuming unfinished partitions. domain={}", domainName);
+        }
+
+        // 대상이 없으면 빈 Map을 반환 (Worker Step 없이 Manager Step 완료)
+        Map<String, ExecutionContext> contexts = new LinkedHashMap<>();
+        for (MigrationPartitionCheckpoint partition : partitions) {
+            if (partition.isCompleted()) {
+                continue;
+            }
+            ExecutionContext context = new ExecutionContext();
+            context.putInt(PARTITION_NO, partition.partitionNo());
+            context.putLong(LAST_MIGRATED_ID, partition.lastMigratedId());
+            context.putLong(RANGE_END, partition.rangeEnd());
+            contexts.put("partition" + partition.partitionNo(), context);
+        }
+        return contexts;
+    }
+
+    /**
+     * (afterId, maxId] 구간을 최대 gridSize개의 연속 구간으로 분할
+     *
+     * @param afterId 이 PK보다 큰 레거시 PK부터 분할
+     * @param maxId 분할 대상 최대 레거시 PK (포함)
+     * @param gridSize 파티션 수
+     * @return 구간 목록 ({rangeStart, rangeEnd}, 양 끝 포함)
+     */
+    static List<long[]> split(long afterId, long maxId, int gridSize) {
+        List<long[]> ranges = new ArrayList<>();
+        if (maxId <= afterId) {
+            return ranges;
+        }
+
+        int partitionCount = Math.max(1, gridSize);
+        long span = (maxId - afterId + partitionCount - 1) / partitionCount;
+
+        long start = afterId + 1;
+        while (start <= maxId) {
+            long end = Math.min(maxId, start + span - 1);
+            ranges.add(new long[] {start, end});
+            start = end + 1;
+        }
+        return ranges;
+    }
+}
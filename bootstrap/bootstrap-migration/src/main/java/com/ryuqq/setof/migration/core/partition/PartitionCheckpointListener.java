@@ -0,0 +1,52 @@
+package com.ryuqq.setof.migration.core.partition;
+
+import com.ryuqq.setof.migration.core.checkpoint.MigrationCheckpointRepository;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+/**
+ * 파티션 Worker Step 리스너
+ *
+ * <p>Worker Step 시작/종료 시점에 해당 파티션 체크포인트의 상태를 RUNNING, COMPLETED, FAILED로 갱신합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public class PartitionCheckpointListener implements StepExecutionListener {
+
+    private final String domainName;
+    private final MigrationCheckpointRepository checkpointRepository;
+
+    public PartitionCheckpointListener(
+            String domainName, MigrationCheckpointRepository checkpointRepository) {
+        this.domainName = domainName;
+        this.checkpointRepository = checkpointRepository;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        checkpointRepository.startPartition(domainName, partitionNo(stepExecution));
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        int partitionNo = partitionNo(stepExecution);
+        if (stepExecution.getStatus() == BatchStatus.COMPLETED) {
+            checkpointRepository.completePartition(domainName, partitionNo);
+        } else {
+            String errorMessage =
+                    stepExecution.getFailureExceptions().stream()
+                            .findFirst()
+                            .map(Throwable::getMessage)
+                            .orElse(stepExecution.getExitStatus().getExitDescription());
+            checkpointRepository.failPartition(domainName, partitionNo, errorMessage);
+        }
+        return stepExecution.getExitStatus();
+    }
+
+    private int partitionNo(StepExecution stepExecution) {
+        return stepExecution.getExecutionContext().getInt(LegacyIdRangePartitioner.PARTITION_NO);
+    }
+}
@@ -129,6 +129,58 @@ public class LegacyUserRepository {
         return legacyJdbcTemplate.query(sql, new LegacyUserRowMapper(), afterId, limit);
     }
 
+    /**
+     * 최대 사용자 ID 조회 (파티션 분할용)
+     *
+     * @return 최대 사용자 ID (사용자가 없으면 0)
+     */
+    public long findMaxUserId() {
+        String sql = "SELECT COALESCE(MAX(USER_ID), 0) FROM USERS";
+        Long maxUserId = legacyJdbcTemplate.queryForObject(sql, Long.class);
+        return maxUserId != null ? maxUserId : 0L;
+    }
+
+    /**
+     * PK 구간 안의 사용자 목록 조회 (파티션 마이그레이션용)
+     *
+     * <p>afterId보다 크고 maxId 이하인 사용자를 PK 순서대로 조회합니다.
+     *
+     * @param afterId 이 ID보다 큰 사용자만 조회
+     * @param maxId 구간 끝 사용자 ID (포함)
+     * @param limit 조회 개수
+     * @return 레거시 사용자 목록
+     */
+    public List<LegacyUserDto> findUsersInRangeAfterId(long afterId, long maxId, int limit) {
+        String sql =
+                """
+                SELECT
+                    USER_ID,
+                    SOCIAL_PK_ID,
+                    PHONE_NUMBER,
+                    EMAIL,
+                    PASSWORD_HASH,
+                    NAME,
+                    DATE_OF_BIRTH,
+                    GENDER,
+                    PROVIDER,
+                    STATUS,
+                    PRIVACY_CONSENT,
+                    SERVICE_TERMS_CONSENT,
+                    AD_CONSENT,
+                    WITHDRAWAL_REASON,
+                    WITHDRAWN_AT,
+                    CREATED_AT,
+                    UPDATED_AT,
+                    DELETED_AT
+                FROM USERS
+                WHERE USER_ID > ? AND USER_ID <= ?
+                ORDER BY USER_ID ASC
+                LIMIT ?
+                """;
+
+        return legacyJdbcTemplate.query(sql, new LegacyUserRowMapper(), afterId, maxId, limit);
+    }
+
     /**
      * 특정 시간 이후 수정된 사용자 목록 조회 (증분 동기화용)
      *
@@ -1,6 +1,10 @@
 package com.ryuqq.setof.migration.member;
 
 import com.ryuqq.setof.migration.core.checkpoint.MigrationCheckpointRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.item.Chunk;
@@ -11,6 +15,11 @@ import org.springframework.batch.item.ItemWriter;
  *
  * <p>변환된 Member 데이터를 신규 DB에 저장하고 체크포인트를 업데이트합니다.
  *
+ * <p>청크당 SQL은 고정 3회입니다: 기존 legacy_user_id IN 조회 1회, 신규 회원 JDBC 배치 INSERT 1회
+ * (rewriteBatchedStatements로 multi-row INSERT), 체크포인트 UPDATE 1회.
+ *
+ * <p>파티션 번호가 주어지면 도메인 체크포인트 대신 해당 파티션 체크포인트를 업데이트합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -21,12 +30,21 @@ public class MemberItemWriter implements ItemWriter<MemberMigrationData> {
 
     private final MemberMigrationRepository memberMigrationRepository;
     private final MigrationCheckpointRepository checkpointRepository;
+    private final Integer partitionNo;
 
     public MemberItemWriter(
             MemberMigrationRepository memberMigrationRepository,
             MigrationCheckpointRepository checkpointRepository) {
+        this(memberMigrationRepository, checkpointRepository, null);
+    }
+
+    public MemberItemWriter(
+            MemberMigrationRepository memberMigrationRepository,
+            MigrationCheckpointRepository checkpointRepository,
+            Integer partitionNo) {
         this.memberMigrationRepository = memberMigrationRepository;
         this.checkpointRepository = checkpointRepository;
+        this.partitionNo = partitionNo;
     }
 
     @Override
@@ -38,32 +56,48 @@ public class MemberItemWriter implements ItemWriter<MemberMigrationData> {
         var items = chunk.getItems();
         log.info("Writing {} members to new database", items.size());
 
-        // 배치 INSERT
+        // 이미 마이그레이션된 사용자 일괄 확인
+        List<Long> legacyUserIds = new ArrayList<>(items.size());
         for (MemberMigrationData data : items) {
-            try {
-                // 이미 마이그레이션된 사용자인지 확인
-                if (memberMigrationRepository.existsByLegacyUserId(data.legacyUserId())) {
-                    log.debug("Skipping already migrated user: legacyId={}", data.legacyUserId());
-                    continue;
-                }
+            legacyUserIds.add(data.legacyUserId());
+        }
+        Set<Long> existing = memberMigrationRepository.findExistingLegacyUserIds(legacyUserIds);
 
-                memberMigrationRepository.insertMemberDirectly(data);
-            } catch (Exception e) {
-                log.error(
-                        "Failed to insert member: legacyId={}, error={}",
-                        data.legacyUserId(),
-                        e.getMessage());
-                throw e;
+        // 신규 사용자만 배치 INSERT (청크 안 중복 ID는 첫 건만)
+        Set<Long> seen = new HashSet<>(existing);
+        List<MemberMigrationData> toInsert = new ArrayList<>(items.size());
+        for (MemberMigrationData data : items) {
+            if (seen.add(data.legacyUserId())) {
+                toInsert.add(data);
             }
         }
 
-        // 체크포인트 업데이트 (마지막 아이템의 레거시 ID)
+        try {
+            memberMigrationRepository.insertMembersDirectly(toInsert);
+        } catch (Exception e) {
+            log.error(
+                    "Failed to insert members: firstLegacyId={}, size={}, error={}",
+                    items.get(0).legacyUserId(),
+                    toInsert.size(),
+                    e.getMessage());
+            throw e;
+        }
+
+        // 체크포인트 업데이트 (마지막 아이템의 레거시 ID, 실제 INSERT 건수)
         MemberMigrationData lastItem = items.get(items.size() - 1);
-        checkpointRepository.updateCheckpoint(DOMAIN_NAME, lastItem.legacyUserId(), items.size());
+        if (partitionNo == null) {
+            checkpointRepository.updateCheckpoint(
+                    DOMAIN_NAME, lastItem.legacyUserId(), toInsert.size());
+        } else {
+            checkpointRepository.updatePartitionCheckpoint(
+                    DOMAIN_NAME, partitionNo, lastItem.legacyUserId(), toInsert.size());
+        }
 
         log.info(
-                "Chunk written successfully. lastMigratedId={}, count={}",
+                "Chunk written successfully. lastMigratedId={}, count={}, inserted={}, skipped={}",
                 lastItem.legacyUserId(),
-                items.size());
+                items.size(),
+                toInsert.size(),
+                items.size() - toInsert.size());
     }
 }
@@ -2,6 +2,8 @@ package com.ryuqq.setof.migration.member;
 
 import com.ryuqq.setof.migration.config.MigrationProperties;
 import com.ryuqq.setof.migration.core.checkpoint.MigrationCheckpointRepository;
+import com.ryuqq.setof.migration.core.partition.LegacyIdRangePartitioner;
+import com.ryuqq.setof.migration.core.partition.PartitionCheckpointListener;
 import java.util.Iterator;
 import java.util.List;
 import org.slf4j.Logger;
@@ -17,8 +19,10 @@ import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 /**
@@ -26,6 +30,9 @@ import org.springframework.transaction.PlatformTransactionManager;
  *
  * <p>레거시 USERS 테이블 → 신규 members 테이블 마이그레이션
  *
+ * <p>초기 마이그레이션은 레거시 USER_ID 구간별 파티션으로 병렬 실행합니다. 파티션 수는 {@code migration.batch.partitions}로
+ * 설정합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -69,44 +76,78 @@ public class MemberMigrationJobConfig {
                 .build();
     }
 
-    /** Member 마이그레이션 Step */
+    /**
+     * Member 마이그레이션 Step (Manager)
+     *
+     * <p>레거시 USER_ID 공간을 구간으로 나눠 Worker Step을 동시에 실행합니다. 구간별 진행 상태는 파티션 체크포인트에 저장되어 실패 후
+     * 재실행하면 완료되지 않은 구간만 각자의 위치부터 이어서 처리합니다.
+     */
     @Bean
     public Step memberMigrationStep() {
         return new StepBuilder("memberMigrationStep", jobRepository)
+                .partitioner("memberMigrationWorkerStep", memberMigrationPartitioner())
+                .step(memberMigrationWorkerStep())
+                .gridSize(migrationProperties.batch().partitions())
+                .taskExecutor(memberMigrationTaskExecutor())
+                .listener(new MemberMigrationStepListener(checkpointRepository))
+                .build();
+    }
+
+    /** Member 마이그레이션 Worker Step - 파티션 구간 하나를 처리 */
+    @Bean
+    public Step memberMigrationWorkerStep() {
+        return new StepBuilder("memberMigrationWorkerStep", jobRepository)
                 .<LegacyUserDto, MemberMigrationData>chunk(
                         migrationProperties.batch().chunkSize(), batchTransactionManager)
-                .reader(memberItemReader())
+                .reader(memberItemReader(null, null))
                 .processor(memberItemProcessor())
-                .writer(memberItemWriter())
+                .writer(memberItemWriter(null))
                 .faultTolerant()
                 .skipLimit(migrationProperties.batch().skipLimit())
                 .skip(Exception.class)
                 .retryLimit(migrationProperties.batch().retryLimit())
                 .retry(Exception.class)
-                .listener(new MemberMigrationStepListener(checkpointRepository))
+                .listener(new PartitionCheckpointListener(DOMAIN_NAME, checkpointRepository))
                 .build();
     }
 
-    /** ItemReader - 레거시 DB에서 사용자 조회 (PK 기반) */
+    /** Partitioner - 레거시 USER_ID 구간 분할 및 파티션 체크포인트 등록 */
+    @Bean
+    public LegacyIdRangePartitioner memberMigrationPartitioner() {
+        return new LegacyIdRangePartitioner(
+                DOMAIN_NAME, checkpointRepository, legacyUserRepository::findMaxUserId);
+    }
+
+    /** Worker Step 실행기 - 파티션 수만큼 Virtual Thread로 동시 실행 */
+    @Bean
+    public SimpleAsyncTaskExecutor memberMigrationTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("member-migration-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(migrationProperties.batch().partitions());
+        return executor;
+    }
+
+    /** ItemReader - 파티션 구간 안의 레거시 사용자 조회 (PK 기반) */
     @Bean
     @StepScope
-    public ItemReader<LegacyUserDto> memberItemReader() {
+    public ItemReader<LegacyUserDto> memberItemReader(
+            @Value("#{stepExecutionContext['lastMigratedId']}") Long lastMigratedId,
+            @Value("#{stepExecutionContext['rangeEnd']}") Long rangeEnd) {
+        log.info(
+                "Initialized partition reader: lastReadId={}, rangeEnd={}",
+                lastMigratedId,
+                rangeEnd);
+
         return new ItemReader<>() {
             private Iterator<LegacyUserDto> currentChunk;
-            private long lastReadId = -1;
-            private boolean initialized = false;
+            private long lastReadId = lastMigratedId;
 
             @Override
             public LegacyUserDto read() {
-                if (!initialized) {
-                    initializeLastReadId();
-                    initialized = true;
-                }
-
                 if (currentChunk == null || !currentChunk.hasNext()) {
                     List<LegacyUserDto> users =
-                            legacyUserRepository.findUsersAfterIdOrdered(
-                                    lastReadId, migrationProperties.batch().chunkSize());
+                            legacyUserRepository.findUsersInRangeAfterId(
+                                    lastReadId, rangeEnd, migrationProperties.batch().chunkSize());
 
                     if (users.isEmpty()) {
                         return null;
@@ -124,13 +165,6 @@ public class MemberMigrationJobConfig {
 
                 return null;
             }
-
-            private void initializeLastReadId() {
-                checkpointRepository
-                        .findByDomainName(DOMAIN_NAME)
-                        .ifPresent(cp -> lastReadId = cp.lastMigratedId());
-                log.info("Initialized lastReadId: {}", lastReadId);
-            }
         };
     }
 
@@ -140,9 +174,11 @@ public class MemberMigrationJobConfig {
         return new MemberItemProcessor();
     }
 
-    /** ItemWriter - 신규 DB에 저장 */
+    /** ItemWriter - 신규 DB에 저장 후 파티션 체크포인트 업데이트 */
     @Bean
-    public ItemWriter<MemberMigrationData> memberItemWriter() {
-        return new MemberItemWriter(memberMigrationRepository, checkpointRepository);
+    @StepScope
+    public ItemWriter<MemberMigrationData> memberItemWriter(
+            @Value("#{stepExecutionContext['partitionNo']}") Integer partitionNo) {
+        return new MemberItemWriter(memberMigrationRepository, checkpointRepository, partitionNo);
     }
 }
@@ -56,6 +56,7 @@ public class MemberMigrationJobListener implements JobExecutionListener {
         log.info("========================================");
 
         if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+            checkpointRepository.closePartitions(DOMAIN_NAME);
             checkpointRepository.completeMigration(DOMAIN_NAME, executionTimeMs);
         } else if (jobExecution.getStatus() == BatchStatus.FAILED) {
             String errorMessage = extractErrorMessage(jobExecution);
@@ -3,6 +3,12 @@ package com.ryuqq.setof.migration.member;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -25,6 +31,17 @@ public class MemberMigrationRepository {
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
+    private static final String INSERT_MEMBER_SQL =
+            """
+            INSERT INTO members (
+                id, phone_number, email, password_hash, name, date_of_birth,
+                gender, provider, social_id, status,
+                privacy_consent, service_terms_consent, ad_consent,
+                withdrawal_reason, withdrawn_at,
+                created_at, updated_at, deleted_at, legacy_user_id
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
     private final JdbcTemplate setofJdbcTemplate;
 
     public MemberMigrationRepository(
@@ -44,46 +61,74 @@ public class MemberMigrationRepository {
         return count != null && count > 0;
     }
 
+    /**
+     * 주어진 legacy_user_id 중 이미 마이그레이션된 ID 조회 (IN 조회 1회)
+     *
+     * @param legacyUserIds 레거시 사용자 ID 목록
+     * @return 이미 존재하는 legacy_user_id
+     */
+    public Set<Long> findExistingLegacyUserIds(Collection<Long> legacyUserIds) {
+        if (legacyUserIds.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(legacyUserIds.size(), "?"));
+        String sql =
+                "SELECT legacy_user_id FROM members WHERE legacy_user_id IN (" + placeholders + ")";
+        return new HashSet<>(
+                setofJdbcTemplate.queryForList(sql, Long.class, legacyUserIds.toArray()));
+    }
+
+    /**
+     * 변환된 마이그레이션 데이터를 JDBC 배치로 INSERT
+     *
+     * <p>JDBC URL의 rewriteBatchedStatements=true 설정으로 multi-row INSERT로 전송됩니다.
+     *
+     * @param members 마이그레이션 데이터 목록
+     */
+    public void insertMembersDirectly(List<MemberMigrationData> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(java.time.Instant.now());
+        List<Object[]> batchArgs = new ArrayList<>(members.size());
+        for (MemberMigrationData data : members) {
+            batchArgs.add(insertParams(data, now));
+        }
+        setofJdbcTemplate.batchUpdate(INSERT_MEMBER_SQL, batchArgs);
+    }
+
     /**
      * 변환된 마이그레이션 데이터를 직접 INSERT
      *
      * @param data 마이그레이션 데이터
      */
     public void insertMemberDirectly(MemberMigrationData data) {
-        String sql =
-                """
-                INSERT INTO members (
-                    id, phone_number, email, password_hash, name, date_of_birth,
-                    gender, provider, social_id, status,
-                    privacy_consent, service_terms_consent, ad_consent,
-                    withdrawal_reason, withdrawn_at,
-                    created_at, updated_at, deleted_at, legacy_user_id
-                ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-                """;
-
         Timestamp now = Timestamp.from(java.time.Instant.now());
+        setofJdbcTemplate.update(INSERT_MEMBER_SQL, insertParams(data, now));
+    }
 
-        setofJdbcTemplate.update(
-                sql,
-                data.memberId().toString(),
-                data.phoneNumber(),
-                data.email(),
-                data.passwordHash(),
-                data.name(),
-                data.dateOfBirth(),
-                data.gender(),
-                data.provider(),
-                data.socialPkId(),
-                data.status(),
-                data.privacyConsent(),
-                data.serviceTermsConsent(),
-                data.adConsent(),
-                data.withdrawalReason(),
-                toTimestamp(data.withdrawnAt()),
-                toTimestamp(data.createdAt(), now),
-                toTimestamp(data.updatedAt(), now),
-                toTimestamp(data.deletedAt()),
-                data.legacyUserId());
+    private Object[] insertParams(MemberMigrationData data, Timestamp now) {
+        return new Object[] {
+            data.memberId().toString(),
+            data.phoneNumber(),
+            data.email(),
+            data.passwordHash(),
+            data.name(),
+            data.dateOfBirth(),
+            data.gender(),
+            data.provider(),
+            data.socialPkId(),
+            data.status(),
+            data.privacyConsent(),
+            data.serviceTermsConsent(),
+            data.adConsent(),
+            data.withdrawalReason(),
+            toTimestamp(data.withdrawnAt()),
+            toTimestamp(data.createdAt(), now),
+            toTimestamp(data.updatedAt(), now),
+            toTimestamp(data.deletedAt()),
+            data.legacyUserId()
+        };
     }
 
     /**
@@ -0,0 +1,35 @@
+-- ============================================
+-- Migration Partition Checkpoint 테이블
+-- 스키마: setof_migration
+-- 용도: 초기 마이그레이션을 레거시 PK 구간으로 나눠 병렬 실행할 때 구간별 진행 상태 추적
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS migration_partition_checkpoint (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+
+    -- 파티션 식별
+    domain_name VARCHAR(50) NOT NULL COMMENT '도메인명 (migration_checkpoint.domain_name)',
+    partition_no INT NOT NULL COMMENT '파티션 번호 (0부터)',
+
+    -- 레거시 PK 구간 (양 끝 포함)
+    range_start BIGINT NOT NULL COMMENT '구간 시작 레거시 PK',
+    range_end BIGINT NOT NULL COMMENT '구간 끝 레거시 PK',
+
+    -- PK 기반 체크포인트
+    last_migrated_id BIGINT NOT NULL COMMENT '구간 안에서 마지막으로 마이그레이션한 레거시 PK',
+    migrated_count BIGINT NOT NULL DEFAULT 0 COMMENT '구간 누적 마이그레이션 건수',
+
+    -- 상태 관리
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT 'PENDING, RUNNING, COMPLETED, FAILED',
+    error_message TEXT COMMENT '에러 메시지',
+
+    -- 감사
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    -- 제약조건
+    CONSTRAINT uk_migration_partition_checkpoint UNIQUE (domain_name, partition_no),
+
+    -- 인덱스
+    INDEX idx_migration_partition_checkpoint_domain_status (domain_name, status)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='마이그레이션 파티션 체크포인트';
@@ -0,0 +1,222 @@
+package com.ryuqq.setof.migration.core.partition;
+
+import static com.ryuqq.setof.migration.core.checkpoint.MigrationCheckpointStatus.COMPLETED;
+import static com.ryuqq.setof.migration.core.checkpoint.MigrationCheckpointStatus.FAILED;
+import static com.ryuqq.setof.migration.core.checkpoint.MigrationCheckpointStatus.PENDING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.setof.migration.core.checkpoint.MigrationCheckpoint;
+import com.ryuqq.setof.migration.core.checkpoint.MigrationCheckpointRepository;
+import com.ryuqq.setof.migration.core.checkpoint.MigrationCheckpointStatus;
+import com.ryuqq.setof.migration.core.checkpoint.MigrationPartitionCheckpoint;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * LegacyIdRangePartitioner 테스트
+ *
+ * <p>레거시 PK 구간 분할, 파티션 체크포인트 등록 및 미완료 파티션 재개에 대한 단위 테스트
+ */
+@DisplayName("LegacyIdRangePartitioner")
+@ExtendWith(MockitoExtension.class)
+class LegacyIdRangePartitionerTest {
+
+    private static final String DOMAIN_NAME = "member";
+
+    @Mock private MigrationCheckpointRepository checkpointRepository;
+    @Mock private LongSupplier maxLegacyIdSupplier;
+
+    private LegacyIdRangePartitioner partitioner;
+
+    @BeforeEach
+    void setUp() {
+        partitioner =
+                new LegacyIdRangePartitioner(
+                        DOMAIN_NAME, checkpointRepository, maxLegacyIdSupplier);
+    }
+
+    @Nested
+    @DisplayName("split")
+    class Split {
+
+        @Test
+        @DisplayName("(afterId, maxId] 구간을 빈틈 없이 연속 구간으로 나눈다")
+        void shouldSplitIntoContiguousRanges() {
+            List<long[]> ranges = LegacyIdRangePartitioner.split(0L, 10L, 4);
+
+            assertThat(ranges)
+                    .containsExactly(
+                            new long[] {1L, 3L},
+                            new long[] {4L, 6L},
+                            new long[] {7L, 9L},
+                            new long[] {10L, 10L});
+        }
+
+        @Test
+        @DisplayName("구간 크기보다 파티션 수가 많으면 PK 하나씩만 나눈다")
+        void shouldNotCreateEmptyRanges() {
+            List<long[]> ranges = LegacyIdRangePartitioner.split(100L, 102L, 8);
+
+            assertThat(ranges)
+                    .containsExactly(new long[] {101L, 101L}, new long[] {102L, 102L});
+        }
+
+        @Test
+        @DisplayName("새 PK가 없으면 구간을 만들지 않는다")
+        void shouldReturnEmptyWhenNothingToMigrate() {
+            assertThat(LegacyIdRangePartitioner.split(500L, 500L, 4)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("partition")
+    class Partition {
+
+        @Test
+        @DisplayName("파티션이 없으면 도메인 체크포인트 이후 구간을 새로 나눠 등록한다")
+        @SuppressWarnings("unchecked")
+        void shouldPlanFromDomainCheckpoint() {
+            // Given
+            when(checkpointRepository.findPartitions(DOMAIN_NAME)).thenReturn(List.of());
+            MigrationCheckpoint checkpoint = domainCheckpoint(1_000L);
+            when(checkpointRepository.findByDomainName(DOMAIN_NAME))
+                    .thenReturn(Optional.of(checkpoint));
+            when(maxLegacyIdSupplier.getAsLong()).thenReturn(1_200L);
+            when(checkpointRepository.replacePartitions(eq(DOMAIN_NAME), anyList()))
+                    .thenReturn(
+                            List.of(
+                                    partition(0, 1_001L, 1_100L, 1_000L, PENDING),
+                                    partition(1, 1_101L, 1_200L, 1_100L, PENDING)));
+
+            // When
+            Map<String, ExecutionContext> contexts = partitioner.partition(2);
+
+            // Then
+            ArgumentCaptor<List<long[]>> captor = ArgumentCaptor.forClass(List.class);
+            verify(checkpointRepository).replacePartitions(eq(DOMAIN_NAME), captor.capture());
+            assertThat(captor.getValue())
+                    .containsExactly(new long[] {1_001L, 1_100L}, new long[] {1_101L, 1_200L});
+
+            assertThat(contexts).containsOnlyKeys("partition0", "partition1");
+            ExecutionContext second = contexts.get("partition1");
+            assertThat(second.getInt(LegacyIdRangePartitioner.PARTITION_NO)).isEqualTo(1);
+            assertThat(second.getLong(LegacyIdRangePartitioner.LAST_MIGRATED_ID))
+                    .isEqualTo(1_100L);
+            assertThat(second.getLong(LegacyIdRangePartitioner.RANGE_END)).isEqualTo(1_200L);
+        }
+
+        @Test
+        @DisplayName("미완료 파티션이 있으면 새로 나누지 않고 미완료 파티션만 각자의 위치부터 재개한다")
+        void shouldResumeUnfinishedPartitions() {
+            // Given
+            when(checkpointRepository.findPartitions(DOMAIN_NAME))
+                    .thenReturn(
+                            List.of(
+                                    partition(0, 1L, 100L, 100L, COMPLETED),
+                                    partition(1, 101L, 200L, 150L, FAILED),
+                                    partition(2, 201L, 300L, 200L, PENDING)));
+
+            // When
+            Map<String, ExecutionContext> contexts = partitioner.partition(3);
+
+            // Then
+            verify(checkpointRepository, never()).replacePartitions(anyString(), anyList());
+            verify(maxLegacyIdSupplier, never()).getAsLong();
+            assertThat(contexts).containsOnlyKeys("partition1", "partition2");
+            ExecutionContext failed = contexts.get("partition1");
+            assertThat(failed.getLong(LegacyIdRangePartitioner.LAST_MIGRATED_ID)).isEqualTo(150L);
+        }
+
+        @Test
+        @DisplayName("모든 파티션이 완료됐고 새 PK가 없으면 실행할 파티션이 없다")
+        void shouldReturnNoPartitionsWhenUpToDate() {
+            // Given
+            when(checkpointRepository.findPartitions(DOMAIN_NAME))
+                    .thenReturn(List.of(partition(0, 1L, 300L, 300L, COMPLETED)));
+            MigrationCheckpoint checkpoint = domainCheckpoint(300L);
+            when(checkpointRepository.findByDomainName(DOMAIN_NAME))
+                    .thenReturn(Optional.of(checkpoint));
+            when(maxLegacyIdSupplier.getAsLong()).thenReturn(300L);
+            when(checkpointRepository.replacePartitions(DOMAIN_NAME, List.of()))
+                    .thenReturn(List.of());
+
+            // When
+            Map<String, ExecutionContext> contexts = partitioner.partition(4);
+
+            // Then
+            assertThat(contexts).isEmpty();
+        }
+
+        @Test
+        @DisplayName("도메인 체크포인트가 마감 전 값이면 완료된 파티션의 구간 끝 이후부터 나눈다")
+        @SuppressWarnings("unchecked")
+        void shouldPlanAfterCompletedRangesWhenNotClosed() {
+            // Given
+            when(checkpointRepository.findPartitions(DOMAIN_NAME))
+                    .thenReturn(
+                            List.of(
+                                    partition(0, 1L, 100L, 100L, COMPLETED),
+                                    partition(1, 101L, 200L, 200L, COMPLETED)));
+            MigrationCheckpoint checkpoint = domainCheckpoint(0L);
+            when(checkpointRepository.findByDomainName(DOMAIN_NAME))
+                    .thenReturn(Optional.of(checkpoint));
+            when(maxLegacyIdSupplier.getAsLong()).thenReturn(300L);
+            when(checkpointRepository.replacePartitions(eq(DOMAIN_NAME), anyList()))
+                    .thenReturn(List.of(partition(0, 201L, 300L, 200L, PENDING)));
+
+            // When
+            partitioner.partition(1);
+
+            // Then
+            ArgumentCaptor<List<long[]>> captor = ArgumentCaptor.forClass(List.class);
+            verify(checkpointRepository).replacePartitions(eq(DOMAIN_NAME), captor.capture());
+            assertThat(captor.getValue()).containsExactly(new long[] {201L, 300L});
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private MigrationCheckpoint domainCheckpoint(long lastMigratedId) {
+        MigrationCheckpoint checkpoint = mock(MigrationCheckpoint.class);
+        when(checkpoint.lastMigratedId()).thenReturn(lastMigratedId);
+        return checkpoint;
+    }
+
+    private MigrationPartitionCheckpoint partition(
+            int partitionNo,
+            long rangeStart,
+            long rangeEnd,
+            long lastMigratedId,
+            MigrationCheckpointStatus status) {
+        return new MigrationPartitionCheckpoint(
+                (long) partitionNo + 1,
+                DOMAIN_NAME,
+                partitionNo,
+                rangeStart,
+                rangeEnd,
+                lastMigratedId,
+                0L,
+                status,
+                null,
+                null,
+                null);
+    }
+}
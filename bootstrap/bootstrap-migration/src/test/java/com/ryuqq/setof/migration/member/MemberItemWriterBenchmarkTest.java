@@ -0,0 +1,84 @@
+package com.ryuqq.setof.migration.member;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.setof.migration.core.checkpoint.MigrationCheckpoint;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.Chunk;
+
+/**
+ * MemberItemWriter 처리량 벤치마크
+ *
+ * <p>MySQL 컨테이너에서 같은 데이터를 건별 방식(존재 확인 + INSERT, 2N회)과 일괄 방식(IN 조회 + JDBC 배치 INSERT)으로 저장해
+ * 처리 시간을 비교합니다. 기본 test 태스크에서 제외되며 {@code ./gradlew benchmarkTest}로 실행합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("MemberItemWriter 처리량 벤치마크")
+@Tag("benchmark")
+class MemberItemWriterBenchmarkTest extends MemberMigrationMySqlTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberItemWriterBenchmarkTest.class);
+
+    private static final int TOTAL_MEMBERS = 10_000;
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Test
+    @DisplayName("일괄 Writer는 건별 존재 확인 + INSERT보다 빠르고 같은 결과를 저장한다")
+    void bulkWriterShouldOutperformPerRowWrites() {
+        List<MemberMigrationData> members = members(1, TOTAL_MEMBERS);
+
+        // 기준: 건별 존재 확인 + INSERT (기존 방식)
+        Duration perRow =
+                measure(
+                        () -> {
+                            for (MemberMigrationData data : members) {
+                                if (!memberMigrationRepository.existsByLegacyUserId(
+                                        data.legacyUserId())) {
+                                    memberMigrationRepository.insertMemberDirectly(data);
+                                }
+                            }
+                        });
+        assertThat(memberMigrationRepository.countMigratedMembers()).isEqualTo(TOTAL_MEMBERS);
+
+        jdbcTemplate.execute("TRUNCATE TABLE members");
+
+        MemberItemWriter writer =
+                new MemberItemWriter(memberMigrationRepository, checkpointRepository);
+        Duration bulk =
+                measure(
+                        () -> {
+                            for (int from = 0; from < members.size(); from += CHUNK_SIZE) {
+                                writer.write(new Chunk<>(members.subList(from, from + CHUNK_SIZE)));
+                            }
+                        });
+
+        log.info(
+                "members={}, chunkSize={}, perRow={}ms, bulk={}ms ({}x)",
+                TOTAL_MEMBERS,
+                CHUNK_SIZE,
+                perRow.toMillis(),
+                bulk.toMillis(),
+                String.format("%.1f", (double) perRow.toNanos() / bulk.toNanos()));
+
+        assertThat(memberMigrationRepository.countMigratedMembers()).isEqualTo(TOTAL_MEMBERS);
+        MigrationCheckpoint checkpoint =
+                checkpointRepository.findByDomainName("member").orElseThrow();
+        assertThat(checkpoint.lastMigratedId()).isEqualTo(TOTAL_MEMBERS);
+        assertThat(checkpoint.migratedCount()).isEqualTo(TOTAL_MEMBERS);
+        assertThat(bulk).isLessThan(perRow);
+    }
+
+    private Duration measure(Runnable runnable) {
+        long startNanos = System.nanoTime();
+        runnable.run();
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ryuqq.setof.migration.member;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+
+/**
+ * MemberItemWriter 테스트
+ *
+ * <p>MySQL 컨테이너에서 재시도 청크의 기존 ID/청크 내 중복 ID 처리를 검증합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("MemberItemWriter")
+class MemberItemWriterTest extends MemberMigrationMySqlTestSupport {
+
+    @Test
+    @DisplayName("이미 마이그레이션된 ID와 청크 안 중복 ID는 건너뛴다")
+    void shouldSkipExistingAndDuplicateLegacyIds() {
+        MemberItemWriter writer =
+                new MemberItemWriter(memberMigrationRepository, checkpointRepository);
+        writer.write(new Chunk<>(members(1, 5)));
+
+        // 4~5는 이미 존재, 6은 청크 안에서 중복
+        List<MemberMigrationData> retried = new ArrayList<>(members(4, 4));
+        retried.addAll(members(6, 1));
+        retried.addAll(members(8, 1));
+
+        writer.write(new Chunk<>(retried));
+
+        assertThat(memberMigrationRepository.countMigratedMembers()).isEqualTo(8);
+        assertThat(memberMigrationRepository.findExistingLegacyUserIds(List.of(1L, 8L, 9L)))
+                .containsExactlyInAnyOrder(1L, 8L);
+    }
+}
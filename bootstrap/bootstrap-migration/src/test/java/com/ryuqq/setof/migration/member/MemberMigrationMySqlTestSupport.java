@@ -0,0 +1,125 @@
+package com.ryuqq.setof.migration.member;
+
+import com.ryuqq.setof.migration.core.checkpoint.MigrationCheckpointRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 회원 마이그레이션 MySQL 테스트 지원
+ *
+ * <p>MySQL 컨테이너에 체크포인트 스키마와 members 테이블을 만들고, 테스트마다 members 테이블과 member 체크포인트를 초기화합니다.
+ * JDBC URL에는 운영과 같이 rewriteBatchedStatements=true를 사용합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Testcontainers
+abstract class MemberMigrationMySqlTestSupport {
+
+    private static final String CHECKPOINT_SCHEMA =
+            "db/migration/V1__create_migration_checkpoint_table.sql";
+    private static final String CHECKPOINT_SCHEMA_INCREMENTAL =
+            "db/migration/V2__extend_migration_checkpoint_for_incremental_sync.sql";
+    private static final String PARTITION_CHECKPOINT_SCHEMA =
+            "db/migration/V3__create_migration_partition_checkpoint_table.sql";
+
+    @Container
+    static MySQLContainer<?> mysql =
+            new MySQLContainer<>("mysql:8.0").withDatabaseName("setof").withUsername("root");
+
+    protected static JdbcTemplate jdbcTemplate;
+
+    protected MemberMigrationRepository memberMigrationRepository;
+    protected MigrationCheckpointRepository checkpointRepository;
+
+    @BeforeAll
+    static void setUpSchema() {
+        DataSource dataSource =
+                new DriverManagerDataSource(
+                        mysql.getJdbcUrl() + "?rewriteBatchedStatements=true",
+                        mysql.getUsername(),
+                        mysql.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        new ResourceDatabasePopulator(
+                        new ClassPathResource(CHECKPOINT_SCHEMA),
+                        new ClassPathResource(CHECKPOINT_SCHEMA_INCREMENTAL),
+                        new ClassPathResource(PARTITION_CHECKPOINT_SCHEMA))
+                .execute(dataSource);
+        jdbcTemplate.execute(
+                """
+                CREATE TABLE members (
+                    id CHAR(36) PRIMARY KEY,
+                    phone_number VARCHAR(20),
+                    email VARCHAR(255),
+                    password_hash VARCHAR(255),
+                    name VARCHAR(100),
+                    date_of_birth DATE,
+                    gender VARCHAR(10),
+                    provider VARCHAR(20),
+                    social_id VARCHAR(255),
+                    status VARCHAR(20),
+                    privacy_consent BOOLEAN,
+                    service_terms_consent BOOLEAN,
+                    ad_consent BOOLEAN,
+                    withdrawal_reason VARCHAR(255),
+                    withdrawn_at DATETIME(6),
+                    created_at DATETIME(6),
+                    updated_at DATETIME(6),
+                    deleted_at DATETIME(6),
+                    legacy_user_id BIGINT,
+                    UNIQUE KEY idx_members_legacy_user_id (legacy_user_id)
+                )
+                """);
+    }
+
+    @BeforeEach
+    void setUpRepositories() {
+        jdbcTemplate.execute("TRUNCATE TABLE members");
+        memberMigrationRepository = new MemberMigrationRepository(jdbcTemplate);
+        checkpointRepository = new MigrationCheckpointRepository(jdbcTemplate);
+        checkpointRepository.resetCheckpoint("member");
+    }
+
+    protected List<MemberMigrationData> members(long firstLegacyUserId, int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MemberMigrationData> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long legacyUserId = firstLegacyUserId + i;
+            members.add(
+                    new MemberMigrationData(
+                            UUID.randomUUID(),
+                            legacyUserId,
+                            null,
+                            String.format("010%08d", legacyUserId),
+                            "user" + legacyUserId + "@example.com",
+                            "hash",
+                            "회원" + legacyUserId,
+                            null,
+                            "N",
+                            "LOCAL",
+                            "ACTIVE",
+                            true,
+                            true,
+                            false,
+                            null,
+                            null,
+                            now,
+                            now,
+                            null));
+        }
+        return members;
+    }
+}
@@ -23,6 +23,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
  *   <li>adapter-out:persistence-mysql - MySQL 영속성 어댑터 (Entity, Repository)
  *   <li>adapter-out:persistence-redis - Redis 영속성 어댑터 (Cache)
  *   <li>adapter-out:security - Security 어댑터 (JWT, Password Encoder)
+ *   <li>adapter-out:search-inmemory - 상품 검색 어댑터 (In-Memory 역색인)
  * </ul>
  *
  * @author ryuqq
@@ -35,7 +36,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
             "com.ryuqq.setof.application",
             "com.ryuqq.setof.adapter.in.rest.admin",
             "com.ryuqq.setof.adapter.out.persistence",
-            "com.ryuqq.setof.adapter.out.security"
+            "com.ryuqq.setof.adapter.out.security",
+            "com.ryuqq.setof.adapter.out.search"
         })
 @EnableJpaRepositories(basePackages = "com.ryuqq.setof.adapter.out.persistence")
 @EntityScan(basePackages = "com.ryuqq.setof.adapter.out.persistence")
@@ -0,0 +1,20 @@
+package com.ryuqq.setof.admin.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 활성화 설정
+ *
+ * <p>Application Layer의 {@code @Scheduled} 컴포넌트(할인 판매가 인덱스 갱신, 배송 추적 등)를 Admin 인스턴스에서 실행합니다.
+ * 다중 인스턴스 배포 시 한 인스턴스에서만 {@code scheduling.enabled=true}로 설정하세요. 재고 캐시 대사는 Redis 재고 카운터가 있는
+ * bootstrap-web-api에서 실행합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true")
+public class SchedulingConfig {}
@@ -24,6 +24,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
  *   <li>adapter-out:persistence-redis - Redis 영속성 어댑터 (Cache)
  *   <li>adapter-out:security - Security 어댑터 (JWT, Password Encoder)
  *   <li>adapter-out:portone-client - PortOne 외부 API 어댑터 (계좌 검증)
+ *   <li>adapter-out:search-inmemory - 상품 검색 어댑터 (In-Memory 역색인)
  * </ul>
  *
  * @author ryuqq
@@ -37,7 +38,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
             "com.ryuqq.setof.adapter.in.rest",
             "com.ryuqq.setof.adapter.out.persistence",
             "com.ryuqq.setof.adapter.out.security",
-            "com.ryuqq.setof.adapter.out.client"
+            "com.ryuqq.setof.adapter.out.client",
+            "com.ryuqq.setof.adapter.out.search"
         })
 @EnableJpaRepositories(basePackages = "com.ryuqq.setof.adapter.out.persistence")
 @EntityScan(basePackages = "com.ryuqq.setof.adapter.out.persistence")
@@ -0,0 +1,20 @@
+package com.ryuqq.setof.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 활성화 설정
+ *
+ * <p>Redis 재고 카운터(persistence-redis)를 사용하는 재고 캐시 대사 스케줄러를 실행합니다. 다중 인스턴스 배포 시 한 인스턴스에서만
+ * {@code scheduling.enabled=true}로 설정하세요. 할인 판매가 인덱스/배송 추적 스케줄러는 Admin 인스턴스에서 실행하므로 이 모듈의
+ * 설정에서 비활성화합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true")
+public class SchedulingConfig {}
@@ -0,0 +1,197 @@
+package com.ryuqq.setof.domain.discount.service;
+
+import com.ryuqq.setof.domain.discount.aggregate.DiscountPolicy;
+import com.ryuqq.setof.domain.discount.vo.CostShare;
+import com.ryuqq.setof.domain.discount.vo.DiscountAmount;
+import com.ryuqq.setof.domain.discount.vo.DiscountGroup;
+import com.ryuqq.setof.domain.discount.vo.DiscountPolicyId;
+import com.ryuqq.setof.domain.discount.vo.DiscountRate;
+import com.ryuqq.setof.domain.discount.vo.DiscountTargetType;
+import com.ryuqq.setof.domain.discount.vo.DiscountType;
+import com.ryuqq.setof.domain.discount.vo.MaximumDiscountAmount;
+import com.ryuqq.setof.domain.discount.vo.MinimumOrderAmount;
+import com.ryuqq.setof.domain.discount.vo.PolicyName;
+import com.ryuqq.setof.domain.discount.vo.Priority;
+import com.ryuqq.setof.domain.discount.vo.UsageLimit;
+import com.ryuqq.setof.domain.discount.vo.ValidPeriod;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 할인 계산 벤치마크
+ *
+ * <p>활성 정책 1,000개에 대해 상품 10,000개의 총 할인 금액을 계산하는 처리량을 비교합니다.
+ *
+ * <ul>
+ *   <li>{@code listCalculator}: 상품마다 적용 대상 정책을 걸러 {@link DiscountCalculator}로 계산 (상품마다 컴파일)
+ *   <li>{@code compiledTable}: 미리 컴파일한 {@link DiscountPolicyTable}로 계산
+ *   <li>{@code compileAndEvaluate}: 요청마다 테이블을 컴파일하는 비용까지 포함
+ * </ul>
+ *
+ * <p>처리량은 상품 1건 기준(ops = 상품 수)입니다. {@code gc} 프로파일러의 {@code gc.alloc.rate.norm}으로 상품당 할당량을 함께
+ * 확인합니다.
+ *
+ * <pre>{@code
+ * ./gradlew :domain:jmh
+ * }</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DiscountCalculatorBenchmark {
+
+    private static final int ITEM_COUNT = 10_000;
+    private static final int POLICY_COUNT = 1_000;
+    private static final int SELLER_COUNT = 20;
+    private static final int CATEGORY_COUNT = 200;
+    private static final int BRAND_COUNT = 300;
+    private static final int PRODUCT_COUNT = 50_000;
+
+    private final DiscountCalculator calculator = new DiscountCalculator();
+
+    private List<DiscountPolicy> policies;
+    private DiscountPolicyTable table;
+    private Instant now;
+
+    private long[] amounts;
+    private long[] productGroupIds;
+    private long[] sellerIds;
+    private long[] categoryIds;
+    private long[] brandIds;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42L);
+        now = Instant.now();
+        policies = new ArrayList<>(POLICY_COUNT);
+        for (int i = 0; i < POLICY_COUNT; i++) {
+            policies.add(randomPolicy(random, i + 1L));
+        }
+        table = DiscountPolicyTable.compile(policies);
+
+        amounts = new long[ITEM_COUNT];
+        productGroupIds = new long[ITEM_COUNT];
+        sellerIds = new long[ITEM_COUNT];
+        categoryIds = new long[ITEM_COUNT];
+        brandIds = new long[ITEM_COUNT];
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            amounts[i] = 1_000L + random.nextInt(500_000);
+            productGroupIds[i] = random.nextInt(PRODUCT_COUNT);
+            sellerIds[i] = random.nextInt(SELLER_COUNT);
+            categoryIds[i] = random.nextInt(CATEGORY_COUNT);
+            brandIds[i] = random.nextInt(BRAND_COUNT);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEM_COUNT)
+    public long listCalculator() {
+        long sum = 0L;
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            List<DiscountPolicy> applicable = new ArrayList<>();
+            for (DiscountPolicy policy : policies) {
+                if (policy.isApplicableToProduct(
+                        productGroupIds[i], sellerIds[i], categoryIds[i], brandIds[i])) {
+                    applicable.add(policy);
+                }
+            }
+            sum += calculator.calculateTotalDiscount(applicable, amounts[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEM_COUNT)
+    public long compiledTable() {
+        return evaluate(table);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEM_COUNT)
+    public long compileAndEvaluate() {
+        return evaluate(DiscountPolicyTable.compile(policies));
+    }
+
+    private long evaluate(DiscountPolicyTable compiled) {
+        long sum = 0L;
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            sum +=
+                    compiled.calculateTotalDiscount(
+                            amounts[i],
+                            productGroupIds[i],
+                            sellerIds[i],
+                            categoryIds[i],
+                            brandIds[i],
+                            now);
+        }
+        return sum;
+    }
+
+    private DiscountPolicy randomPolicy(SplittableRandom random, long id) {
+        DiscountGroup[] groups = DiscountGroup.values();
+        DiscountTargetType[] targetTypes = DiscountTargetType.values();
+        DiscountGroup group = groups[random.nextInt(groups.length)];
+        DiscountTargetType targetType = targetTypes[random.nextInt(targetTypes.length)];
+        List<Long> targetIds = randomTargetIds(random, targetType);
+        boolean rate = random.nextBoolean();
+
+        return DiscountPolicy.reconstitute(
+                DiscountPolicyId.of(id),
+                (long) random.nextInt(SELLER_COUNT),
+                PolicyName.of("벤치마크 할인 " + id),
+                group,
+                rate ? DiscountType.RATE : DiscountType.FIXED_PRICE,
+                targetType,
+                targetIds,
+                rate ? DiscountRate.of(BigDecimal.valueOf(random.nextInt(1, 5000), 2)) : null,
+                rate ? null : DiscountAmount.of((long) random.nextInt(500, 20_000)),
+                rate
+                        ? MaximumDiscountAmount.of((long) random.nextInt(5_000, 50_000))
+                        : MaximumDiscountAmount.unlimited(),
+                MinimumOrderAmount.of(random.nextInt(4) == 0 ? 30_000L : 0L),
+                ValidPeriod.of(now.minus(30, ChronoUnit.DAYS), now.plus(30, ChronoUnit.DAYS)),
+                UsageLimit.unlimited(),
+                CostShare.platformOnly(),
+                Priority.of(random.nextInt(1, 1001)),
+                true,
+                now,
+                now,
+                null);
+    }
+
+    private List<Long> randomTargetIds(SplittableRandom random, DiscountTargetType targetType) {
+        int bound =
+                switch (targetType) {
+                    case ALL -> 0;
+                    case PRODUCT -> PRODUCT_COUNT;
+                    case SELLER -> SELLER_COUNT;
+                    case CATEGORY -> CATEGORY_COUNT;
+                    case BRAND -> BRAND_COUNT;
+                };
+        if (bound == 0) {
+            return List.of();
+        }
+        int size = targetType == DiscountTargetType.PRODUCT ? 50 : 3;
+        List<Long> targetIds = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            targetIds.add((long) random.nextInt(bound));
+        }
+        return targetIds;
+    }
+}
@@ -3,6 +3,7 @@ package com.ryuqq.setof.domain.cart.aggregate;
 import com.ryuqq.setof.domain.cart.exception.CartItemLimitExceededException;
 import com.ryuqq.setof.domain.cart.exception.CartItemNotFoundException;
 import com.ryuqq.setof.domain.cart.exception.QuantityLimitExceededException;
+import com.ryuqq.setof.domain.cart.vo.CartChanges;
 import com.ryuqq.setof.domain.cart.vo.CartId;
 import com.ryuqq.setof.domain.cart.vo.CartItem;
 import com.ryuqq.setof.domain.cart.vo.CartItemId;
@@ -38,6 +39,9 @@ import java.util.stream.Collectors;
  *   <li>장바구니 최대 100개 아이템
  *   <li>단일 상품 최대 99개
  * </ul>
+ *
+ * <p>변경 추적: 상태 변경 메서드는 복원 이후의 아이템 변경분({@link CartChanges})을 누적합니다. Persistence Layer는 이
+ * 변경분만 INSERT/UPDATE/DELETE 하므로 저장 비용이 장바구니 크기가 아닌 변경 크기에 비례합니다.
  */
 public class Cart {
 
@@ -49,15 +53,22 @@ public class Cart {
     private final List<CartItem> items;
     private final Instant createdAt;
     private final Instant updatedAt;
+    private final CartChanges changes;
 
     /** Private 생성자 - 외부 직접 생성 금지 */
     private Cart(
-            CartId id, UUID memberId, List<CartItem> items, Instant createdAt, Instant updatedAt) {
+            CartId id,
+            UUID memberId,
+            List<CartItem> items,
+            Instant createdAt,
+            Instant updatedAt,
+            CartChanges changes) {
         this.id = id;
         this.memberId = memberId;
         this.items = items != null ? new ArrayList<>(items) : new ArrayList<>();
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.changes = changes;
     }
 
     /**
@@ -74,7 +85,8 @@ public class Cart {
                 memberId,
                 new ArrayList<>(),
                 now,
-                now);
+                now,
+                CartChanges.empty());
     }
 
     /**
@@ -89,7 +101,7 @@ public class Cart {
      */
     public static Cart restore(
             CartId id, UUID memberId, List<CartItem> items, Instant createdAt, Instant updatedAt) {
-        return new Cart(id, memberId, items, createdAt, updatedAt);
+        return new Cart(id, memberId, items, createdAt, updatedAt, CartChanges.empty());
     }
 
     // ===== 상태 변경 메서드 (새 인스턴스 반환) =====
@@ -105,6 +117,7 @@ public class Cart {
      */
     public Cart addItem(CartItem newItem, Instant now) {
         List<CartItem> updatedItems = new ArrayList<>(this.items);
+        CartChanges updatedChanges;
 
         // 동일 상품 찾기
         Optional<CartItem> existingItem = findItemByProductStockId(newItem.productStockId());
@@ -124,15 +137,17 @@ public class Cart {
             // 기존 아이템 교체
             updatedItems.removeIf(item -> item.isSameProduct(newItem.productStockId()));
             updatedItems.add(merged);
+            updatedChanges = changes.recordModified(existing, merged);
         } else {
             // 신규 아이템 → 개수 제한 검증
             if (updatedItems.size() >= MAX_ITEM_COUNT) {
                 throw new CartItemLimitExceededException(updatedItems.size(), MAX_ITEM_COUNT);
             }
             updatedItems.add(newItem);
+            updatedChanges = changes.recordAdded(newItem);
         }
 
-        return new Cart(id, memberId, updatedItems, createdAt, now);
+        return new Cart(id, memberId, updatedItems, createdAt, now, updatedChanges);
     }
 
     /**
@@ -153,8 +168,10 @@ public class Cart {
                 this.items.stream()
                         .map(item -> item.hasId(cartItemId) ? item.withQuantity(newQuantity) : item)
                         .collect(Collectors.toList());
+        CartChanges updatedChanges =
+                changes.recordModified(targetItem, targetItem.withQuantity(newQuantity));
 
-        return new Cart(id, memberId, updatedItems, createdAt, now);
+        return new Cart(id, memberId, updatedItems, createdAt, now, updatedChanges);
     }
 
     /**
@@ -175,8 +192,10 @@ public class Cart {
                 this.items.stream()
                         .map(item -> item.hasId(cartItemId) ? item.withSelected(selected) : item)
                         .collect(Collectors.toList());
+        CartChanges updatedChanges =
+                changes.recordModified(targetItem, targetItem.withSelected(selected));
 
-        return new Cart(id, memberId, updatedItems, createdAt, now);
+        return new Cart(id, memberId, updatedItems, createdAt, now, updatedChanges);
     }
 
     /**
@@ -187,12 +206,15 @@ public class Cart {
      * @return 전체 선택 상태가 변경된 새 Cart 인스턴스
      */
     public Cart updateAllSelected(boolean selected, Instant now) {
-        List<CartItem> updatedItems =
-                this.items.stream()
-                        .map(item -> item.withSelected(selected))
-                        .collect(Collectors.toList());
+        List<CartItem> updatedItems = new ArrayList<>(this.items.size());
+        CartChanges updatedChanges = changes;
+        for (CartItem item : this.items) {
+            CartItem updated = item.withSelected(selected);
+            updatedItems.add(updated);
+            updatedChanges = updatedChanges.recordModified(item, updated);
+        }
 
-        return new Cart(id, memberId, updatedItems, createdAt, now);
+        return new Cart(id, memberId, updatedItems, createdAt, now, updatedChanges);
     }
 
     /**
@@ -213,7 +235,8 @@ public class Cart {
                         .filter(item -> !item.hasId(cartItemId))
                         .collect(Collectors.toList());
 
-        return new Cart(id, memberId, updatedItems, createdAt, now);
+        return new Cart(
+                id, memberId, updatedItems, createdAt, now, changes.recordRemoved(targetItem));
     }
 
     /**
@@ -224,12 +247,17 @@ public class Cart {
      * @return 아이템이 삭제된 새 Cart 인스턴스
      */
     public Cart removeItems(List<CartItemId> cartItemIds, Instant now) {
-        List<CartItem> updatedItems =
-                this.items.stream()
-                        .filter(item -> cartItemIds.stream().noneMatch(item::hasId))
-                        .collect(Collectors.toList());
+        List<CartItem> updatedItems = new ArrayList<>(this.items.size());
+        CartChanges updatedChanges = changes;
+        for (CartItem item : this.items) {
+            if (cartItemIds.stream().anyMatch(item::hasId)) {
+                updatedChanges = updatedChanges.recordRemoved(item);
+            } else {
+                updatedItems.add(item);
+            }
+        }
 
-        return new Cart(id, memberId, updatedItems, createdAt, now);
+        return new Cart(id, memberId, updatedItems, createdAt, now, updatedChanges);
     }
 
     /**
@@ -239,10 +267,17 @@ public class Cart {
      * @return 선택된 아이템이 삭제된 새 Cart 인스턴스
      */
     public Cart removeSelectedItems(Instant now) {
-        List<CartItem> updatedItems =
-                this.items.stream().filter(item -> !item.selected()).collect(Collectors.toList());
+        List<CartItem> updatedItems = new ArrayList<>(this.items.size());
+        CartChanges updatedChanges = changes;
+        for (CartItem item : this.items) {
+            if (item.selected()) {
+                updatedChanges = updatedChanges.recordRemoved(item);
+            } else {
+                updatedItems.add(item);
+            }
+        }
 
-        return new Cart(id, memberId, updatedItems, createdAt, now);
+        return new Cart(id, memberId, updatedItems, createdAt, now, updatedChanges);
     }
 
     /**
@@ -252,7 +287,11 @@ public class Cart {
      * @return 비워진 새 Cart 인스턴스
      */
     public Cart clear(Instant now) {
-        return new Cart(id, memberId, new ArrayList<>(), createdAt, now);
+        CartChanges updatedChanges = changes;
+        for (CartItem item : this.items) {
+            updatedChanges = updatedChanges.recordRemoved(item);
+        }
+        return new Cart(id, memberId, new ArrayList<>(), createdAt, now, updatedChanges);
     }
 
     /**
@@ -265,17 +304,16 @@ public class Cart {
      * @return 소프트 딜리트 처리된 새 Cart 인스턴스
      */
     public Cart softDeleteItems(List<CartItemId> cartItemIds, Instant now) {
-        List<CartItem> updatedItems =
-                this.items.stream()
-                        .map(
-                                item -> {
-                                    boolean shouldDelete =
-                                            cartItemIds.stream().anyMatch(item::hasId);
-                                    return shouldDelete ? item.withDeleted(now) : item;
-                                })
-                        .collect(Collectors.toList());
+        List<CartItem> updatedItems = new ArrayList<>(this.items.size());
+        CartChanges updatedChanges = changes;
+        for (CartItem item : this.items) {
+            boolean shouldDelete = cartItemIds.stream().anyMatch(item::hasId);
+            CartItem updated = shouldDelete ? item.withDeleted(now) : item;
+            updatedItems.add(updated);
+            updatedChanges = updatedChanges.recordModified(item, updated);
+        }
 
-        return new Cart(id, memberId, updatedItems, createdAt, now);
+        return new Cart(id, memberId, updatedItems, createdAt, now, updatedChanges);
     }
 
     /**
@@ -288,17 +326,16 @@ public class Cart {
      * @return 복원된 새 Cart 인스턴스
      */
     public Cart restoreItems(List<CartItemId> cartItemIds, Instant now) {
-        List<CartItem> updatedItems =
-                this.items.stream()
-                        .map(
-                                item -> {
-                                    boolean shouldRestore =
-                                            cartItemIds.stream().anyMatch(item::hasId);
-                                    return shouldRestore ? item.withRestored() : item;
-                                })
-                        .collect(Collectors.toList());
+        List<CartItem> updatedItems = new ArrayList<>(this.items.size());
+        CartChanges updatedChanges = changes;
+        for (CartItem item : this.items) {
+            boolean shouldRestore = cartItemIds.stream().anyMatch(item::hasId);
+            CartItem updated = shouldRestore ? item.withRestored() : item;
+            updatedItems.add(updated);
+            updatedChanges = updatedChanges.recordModified(item, updated);
+        }
 
-        return new Cart(id, memberId, updatedItems, createdAt, now);
+        return new Cart(id, memberId, updatedItems, createdAt, now, updatedChanges);
     }
 
     /**
@@ -326,7 +363,7 @@ public class Cart {
      * @return ID가 할당된 Cart
      */
     public Cart withId(CartId newId) {
-        return new Cart(newId, memberId, items, createdAt, updatedAt);
+        return new Cart(newId, memberId, items, createdAt, updatedAt, changes);
     }
 
     // ===== 조회 메서드 =====
@@ -469,6 +506,15 @@ public class Cart {
         return updatedAt;
     }
 
+    /**
+     * 복원 이후 누적된 아이템 변경분
+     *
+     * @return CartChanges
+     */
+    public CartChanges changes() {
+        return changes;
+    }
+
     // ===== Private Helper =====
 
     private static void validateMemberId(UUID memberId) {
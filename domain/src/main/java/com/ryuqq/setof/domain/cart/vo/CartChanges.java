@@ -0,0 +1,108 @@
+package com.ryuqq.setof.domain.cart.vo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CartChanges Value Object
+ *
+ * <p>복원(restore) 이후 Cart에 누적된 아이템 변경분입니다. Persistence Layer는 전체 아이템 대신 이 변경분만 반영합니다.
+ *
+ * <ul>
+ *   <li>addedItems: 새로 담긴 아이템 (ID 미할당, productStockId로 식별)
+ *   <li>modifiedItems: 수량/선택/소프트 딜리트 상태가 바뀐 기존 아이템 (최종 상태)
+ *   <li>removedItemIds: 물리 삭제된 기존 아이템 ID
+ * </ul>
+ *
+ * <p>같은 아이템을 여러 번 변경하면 마지막 상태만 남고, 새로 담은 아이템을 다시 삭제하면 변경분에서 사라집니다.
+ *
+ * @param addedItems 추가된 아이템 목록
+ * @param modifiedItems 변경된 기존 아이템 목록
+ * @param removedItemIds 삭제된 기존 아이템 ID 목록
+ */
+public record CartChanges(
+        List<CartItem> addedItems, List<CartItem> modifiedItems, List<CartItemId> removedItemIds) {
+
+    private static final CartChanges EMPTY = new CartChanges(List.of(), List.of(), List.of());
+
+    /** Compact Constructor - 방어적 복사 */
+    public CartChanges {
+        addedItems = List.copyOf(addedItems);
+        modifiedItems = List.copyOf(modifiedItems);
+        removedItemIds = List.copyOf(removedItemIds);
+    }
+
+    /**
+     * 변경분 없음
+     *
+     * @return 빈 CartChanges
+     */
+    public static CartChanges empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 아이템 추가 기록
+     *
+     * @param item 새로 담긴 아이템
+     * @return 추가가 반영된 CartChanges
+     */
+    public CartChanges recordAdded(CartItem item) {
+        List<CartItem> added = new ArrayList<>(addedItems);
+        added.add(item);
+        return new CartChanges(added, modifiedItems, removedItemIds);
+    }
+
+    /**
+     * 아이템 상태 변경 기록
+     *
+     * <p>상태가 실제로 바뀌지 않았으면 그대로 반환합니다. 아직 저장되지 않은 아이템은 추가 목록의 항목을 교체합니다.
+     *
+     * @param before 변경 전 아이템
+     * @param after 변경 후 아이템
+     * @return 변경이 반영된 CartChanges
+     */
+    public CartChanges recordModified(CartItem before, CartItem after) {
+        if (before.equals(after)) {
+            return this;
+        }
+        if (after.isNew()) {
+            List<CartItem> added = new ArrayList<>(addedItems);
+            added.removeIf(item -> item.isSameProduct(after.productStockId()));
+            added.add(after);
+            return new CartChanges(added, modifiedItems, removedItemIds);
+        }
+        List<CartItem> modified = new ArrayList<>(modifiedItems);
+        modified.removeIf(item -> item.hasId(after.id()));
+        modified.add(after);
+        return new CartChanges(addedItems, modified, removedItemIds);
+    }
+
+    /**
+     * 아이템 삭제 기록
+     *
+     * @param item 삭제된 아이템
+     * @return 삭제가 반영된 CartChanges
+     */
+    public CartChanges recordRemoved(CartItem item) {
+        if (item.isNew()) {
+            List<CartItem> added = new ArrayList<>(addedItems);
+            added.removeIf(addedItem -> addedItem.isSameProduct(item.productStockId()));
+            return new CartChanges(added, modifiedItems, removedItemIds);
+        }
+        List<CartItem> modified = new ArrayList<>(modifiedItems);
+        modified.removeIf(modifiedItem -> modifiedItem.hasId(item.id()));
+        List<CartItemId> removed = new ArrayList<>(removedItemIds);
+        removed.add(item.id());
+        return new CartChanges(addedItems, modified, removed);
+    }
+
+    /**
+     * 변경분이 없는지 확인
+     *
+     * @return 변경분이 없으면 true
+     */
+    public boolean isEmpty() {
+        return addedItems.isEmpty() && modifiedItems.isEmpty() && removedItemIds.isEmpty();
+    }
+}
@@ -0,0 +1,134 @@
+package com.ryuqq.setof.domain.common.vo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * KeysetCursor - 복합 정렬키 기반 Opaque 커서 Value Object
+ *
+ * <p>Keyset(Seek) 페이징에서 마지막 항목의 정렬키 값들(예: createdAt + id)을 순서대로 담아 하나의 불투명한 문자열로
+ * 인코딩합니다. 클라이언트는 커서 내부 구조를 알 필요 없이 응답받은 값을 그대로 다음 요청에 전달합니다.
+ *
+ * <p><strong>인코딩 규칙:</strong>
+ *
+ * <ul>
+ *   <li>버전 접두어({@value #VERSION}) + 정렬키 값들을 구분자로 연결
+ *   <li>URL-safe Base64 (padding 없음)로 인코딩
+ * </ul>
+ *
+ * <p><strong>사용 예시:</strong>
+ *
+ * <pre>{@code
+ * // 응답 생성 시 (마지막 항목 기준)
+ * String nextCursor = KeysetCursor.of(last.createdAt().toString(), last.id().toString()).encode();
+ *
+ * // 다음 요청 처리 시
+ * KeysetCursor.decode(request.cursor())
+ *         .ifPresent(cursor -> seekAfter(cursor.value(0), cursor.value(1)));
+ * }</pre>
+ *
+ * @param values 정렬키 값 목록 (정렬 우선순위 순서, 마지막은 고유 식별자)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record KeysetCursor(List<String> values) {
+
+    /** 커서 포맷 버전 */
+    public static final String VERSION = "k1";
+
+    private static final String SEPARATOR = "\u001F";
+
+    /** Compact Constructor - 유효성 검증 및 방어적 복사 */
+    public KeysetCursor {
+        if (values == null || values.isEmpty()) {
+            throw new IllegalArgumentException("커서 정렬키 값은 최소 1개 이상이어야 합니다");
+        }
+        for (String value : values) {
+            if (value == null || value.contains(SEPARATOR)) {
+                throw new IllegalArgumentException("커서 정렬키 값이 올바르지 않습니다: " + value);
+            }
+        }
+        values = List.copyOf(values);
+    }
+
+    /**
+     * KeysetCursor 생성
+     *
+     * @param values 정렬키 값 (정렬 우선순위 순서)
+     * @return KeysetCursor
+     */
+    public static KeysetCursor of(String... values) {
+        return new KeysetCursor(Arrays.asList(values));
+    }
+
+    /**
+     * Opaque 커서 문자열 디코딩
+     *
+     * <p>KeysetCursor 포맷이 아닌 문자열(레거시 ID 커서 등)이면 empty를 반환하여, 호출 측이 기존 방식으로 처리할 수 있도록
+     * 합니다.
+     *
+     * @param encoded 인코딩된 커서 문자열 (nullable)
+     * @return KeysetCursor (Optional)
+     */
+    public static Optional<KeysetCursor> decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return Optional.empty();
+        }
+        String decoded;
+        try {
+            decoded =
+                    new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        String[] tokens = decoded.split(SEPARATOR, -1);
+        if (tokens.length < 2 || !VERSION.equals(tokens[0])) {
+            return Optional.empty();
+        }
+        return Optional.of(new KeysetCursor(Arrays.asList(tokens).subList(1, tokens.length)));
+    }
+
+    /**
+     * Opaque 커서 문자열로 인코딩
+     *
+     * @return URL-safe Base64 커서 문자열
+     */
+    public String encode() {
+        String raw = VERSION + SEPARATOR + String.join(SEPARATOR, values);
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 지정 위치의 정렬키 값 반환
+     *
+     * @param index 정렬키 위치 (0부터 시작)
+     * @return 정렬키 값
+     */
+    public String value(int index) {
+        return values.get(index);
+    }
+
+    /**
+     * 정렬키 개수 반환
+     *
+     * @return 정렬키 개수
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * 마지막 정렬키(고유 식별자) 값 반환
+     *
+     * @return 식별자 값
+     */
+    public String lastValue() {
+        return values.get(values.size() - 1);
+    }
+}
@@ -331,6 +331,29 @@ public class DiscountPolicy {
         return targetIds.contains(targetId);
     }
 
+    /**
+     * 상품에 적용 가능한지 확인
+     *
+     * <p>적용 대상 타입에 맞는 상품 속성(상품그룹/카테고리/셀러/브랜드 ID)으로 대상 포함 여부를 판단합니다. 활성화 여부와 유효 기간은
+     * 판단하지 않습니다.
+     *
+     * @param productGroupId 상품그룹 ID
+     * @param sellerId 셀러 ID
+     * @param categoryId 카테고리 ID
+     * @param brandId 브랜드 ID
+     * @return 적용 대상이면 true
+     */
+    public boolean isApplicableToProduct(
+            Long productGroupId, Long sellerId, Long categoryId, Long brandId) {
+        return switch (targetType) {
+            case ALL -> true;
+            case PRODUCT -> targetIds.contains(productGroupId);
+            case CATEGORY -> targetIds.contains(categoryId);
+            case SELLER -> targetIds.contains(sellerId);
+            case BRAND -> targetIds.contains(brandId);
+        };
+    }
+
     /**
      * 활성화
      *
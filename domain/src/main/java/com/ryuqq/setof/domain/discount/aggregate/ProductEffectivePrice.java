@@ -0,0 +1,176 @@
+package com.ryuqq.setof.domain.discount.aggregate;
+
+import com.ryuqq.setof.domain.discount.service.DiscountPolicyTable;
+import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 최종 판매가 (Materialized Read Model)
+ *
+ * <p>상품그룹 판매가에 셀러의 유효 할인 정책을 적용한 결과를 상품그룹 단위로 미리 계산해 둔 값입니다. 목록 조회는 정책을 다시 해석하지
+ * 않고 이 값을 그대로 사용합니다.
+ *
+ * <p><strong>유효 시한:</strong> 적용 대상 정책 중 가장 먼저 종료되는 시각, 또는 아직 시작되지 않은 정책의 가장 빠른 시작 시각을
+ * {@code validUntil}로 기록합니다. 이 시각이 지나면 할인 구성이 바뀌므로 다시 계산해야 합니다.
+ *
+ * <p>Domain Layer Zero-Tolerance 규칙:
+ *
+ * <ul>
+ *   <li>Lombok 금지 - Pure Java 사용
+ *   <li>외부 의존성 없는 순수 도메인 로직
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public class ProductEffectivePrice {
+
+    private final Long productGroupId;
+    private final Long sellerId;
+    private final long currentPrice;
+    private final long salePrice;
+    private final Instant validUntil;
+    private final Instant computedAt;
+
+    private ProductEffectivePrice(
+            Long productGroupId,
+            Long sellerId,
+            long currentPrice,
+            long salePrice,
+            Instant validUntil,
+            Instant computedAt) {
+        this.productGroupId = productGroupId;
+        this.sellerId = sellerId;
+        this.currentPrice = currentPrice;
+        this.salePrice = salePrice;
+        this.validUntil = validUntil;
+        this.computedAt = computedAt;
+    }
+
+    /**
+     * 상품그룹과 셀러 할인 정책으로 최종 판매가 계산
+     *
+     * <p>활성 상태이고 삭제되지 않았으며 상품이 적용 대상에 포함되는 정책만 고려합니다. 그중 {@code now}에 유효한 정책은 {@link
+     * DiscountPolicyTable}로 {@code now} 기준 판매가에서 차감하고, 나머지(시작 전)는 유효 시한 계산에만 사용합니다.
+     *
+     * @param productGroup 상품그룹
+     * @param sellerPolicies 셀러의 할인 정책 목록 (시작 전 정책 포함 가능)
+     * @param now 계산 기준 시각
+     * @return ProductEffectivePrice 인스턴스
+     */
+    public static ProductEffectivePrice compute(
+            ProductGroup productGroup, List<DiscountPolicy> sellerPolicies, Instant now) {
+        long currentPrice = productGroup.getCurrentPriceValue().longValue();
+        List<DiscountPolicy> inEffect = new ArrayList<>();
+        Instant validUntil = null;
+
+        for (DiscountPolicy policy : sellerPolicies) {
+            if (!policy.isActive()
+                    || policy.isDeleted()
+                    || !policy.isApplicableToProduct(
+                            productGroup.getIdValue(),
+                            productGroup.getSellerIdValue(),
+                            productGroup.getCategoryIdValue(),
+                            productGroup.getBrandIdValue())) {
+                continue;
+            }
+
+            Instant startAt = policy.getValidPeriodStartAt();
+            Instant endAt = policy.getValidPeriodEndAt();
+            if (now.isAfter(endAt)) {
+                continue;
+            }
+            if (now.isBefore(startAt)) {
+                validUntil = earlier(validUntil, startAt);
+                continue;
+            }
+            inEffect.add(policy);
+            validUntil = earlier(validUntil, endAt);
+        }
+
+        long discount =
+                inEffect.isEmpty()
+                        ? 0L
+                        : DiscountPolicyTable.compile(inEffect)
+                                .calculateTotalDiscount(currentPrice, now);
+
+        return new ProductEffectivePrice(
+                productGroup.getIdValue(),
+                productGroup.getSellerIdValue(),
+                currentPrice,
+                currentPrice - discount,
+                validUntil,
+                now);
+    }
+
+    /**
+     * 영속성 복원용 Static Factory Method
+     *
+     * @param productGroupId 상품그룹 ID
+     * @param sellerId 셀러 ID
+     * @param currentPrice 판매가 (할인 전)
+     * @param salePrice 최종 판매가 (할인 후)
+     * @param validUntil 유효 시한 (null이면 무기한)
+     * @param computedAt 계산 시각
+     * @return ProductEffectivePrice 인스턴스
+     */
+    public static ProductEffectivePrice reconstitute(
+            Long productGroupId,
+            Long sellerId,
+            long currentPrice,
+            long salePrice,
+            Instant validUntil,
+            Instant computedAt) {
+        return new ProductEffectivePrice(
+                productGroupId, sellerId, currentPrice, salePrice, validUntil, computedAt);
+    }
+
+    private static Instant earlier(Instant current, Instant candidate) {
+        return current == null || candidate.isBefore(current) ? candidate : current;
+    }
+
+    /**
+     * 기준 시각에 계산 결과가 여전히 유효한지 확인
+     *
+     * @param now 기준 시각
+     * @return 유효 시한 전이면 true
+     */
+    public boolean isFreshAt(Instant now) {
+        return validUntil == null || now.isBefore(validUntil);
+    }
+
+    /**
+     * 할인 금액 반환
+     *
+     * @return 판매가 - 최종 판매가
+     */
+    public long getDiscountAmount() {
+        return currentPrice - salePrice;
+    }
+
+    public Long getProductGroupId() {
+        return productGroupId;
+    }
+
+    public Long getSellerId() {
+        return sellerId;
+    }
+
+    public long getCurrentPrice() {
+        return currentPrice;
+    }
+
+    public long getSalePrice() {
+        return salePrice;
+    }
+
+    public Instant getValidUntil() {
+        return validUntil;
+    }
+
+    public Instant getComputedAt() {
+        return computedAt;
+    }
+}
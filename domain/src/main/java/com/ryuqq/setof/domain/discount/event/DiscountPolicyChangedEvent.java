@@ -0,0 +1,83 @@
+package com.ryuqq.setof.domain.discount.event;
+
+import com.ryuqq.setof.domain.common.event.DomainEvent;
+import com.ryuqq.setof.domain.discount.aggregate.DiscountPolicy;
+import com.ryuqq.setof.domain.discount.vo.DiscountTargetType;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 할인 정책 변경 이벤트
+ *
+ * <p>할인 정책이 등록/수정/활성화/비활성화/삭제되거나 적용 대상이 바뀌어, 적용 범위 안 상품의 최종 판매가가 달라질 수 있을 때
+ * 발행됩니다.
+ *
+ * <p>적용 대상이 변경된 경우 {@code targetIds}는 변경 전후 대상의 합집합입니다. 대상에서 빠진 상품도 다시 계산해야 하기 때문입니다.
+ *
+ * <p>Domain Event 규칙:
+ *
+ * <ul>
+ *   <li>Record 타입 필수 (불변성 보장)
+ *   <li>occurredAt 필드 필수 (Instant)
+ *   <li>from() 정적 팩토리 메서드 필수
+ *   <li>과거형 네이밍 (*ChangedEvent)
+ * </ul>
+ *
+ * @param discountPolicyId 할인 정책 ID (신규 등록 직후에는 null)
+ * @param sellerId 셀러 ID
+ * @param targetType 적용 대상 타입
+ * @param targetIds 영향받는 적용 대상 ID 목록 (ALL이면 빈 목록)
+ * @param occurredAt 이벤트 발생 시각
+ */
+public record DiscountPolicyChangedEvent(
+        Long discountPolicyId,
+        Long sellerId,
+        DiscountTargetType targetType,
+        List<Long> targetIds,
+        Instant occurredAt)
+        implements DomainEvent {
+
+    /** Compact Constructor - 방어적 복사 */
+    public DiscountPolicyChangedEvent {
+        targetIds = targetIds == null ? List.of() : List.copyOf(targetIds);
+    }
+
+    /**
+     * 변경된 할인 정책으로부터 이벤트 생성
+     *
+     * @param discountPolicy 변경이 반영된 할인 정책
+     * @param occurredAt 이벤트 발생 시각
+     * @return DiscountPolicyChangedEvent 인스턴스
+     */
+    public static DiscountPolicyChangedEvent from(
+            DiscountPolicy discountPolicy, Instant occurredAt) {
+        return new DiscountPolicyChangedEvent(
+                discountPolicy.getIdValue(),
+                discountPolicy.getSellerId(),
+                discountPolicy.getTargetType(),
+                discountPolicy.getTargetIds(),
+                occurredAt);
+    }
+
+    /**
+     * 적용 대상 변경 전후 정책으로부터 이벤트 생성
+     *
+     * @param previous 변경 전 할인 정책
+     * @param current 변경 후 할인 정책
+     * @param occurredAt 이벤트 발생 시각
+     * @return 변경 전후 대상의 합집합을 담은 이벤트
+     */
+    public static DiscountPolicyChangedEvent from(
+            DiscountPolicy previous, DiscountPolicy current, Instant occurredAt) {
+        Set<Long> targetIds = new LinkedHashSet<>(previous.getTargetIds());
+        targetIds.addAll(current.getTargetIds());
+        return new DiscountPolicyChangedEvent(
+                current.getIdValue(),
+                current.getSellerId(),
+                current.getTargetType(),
+                List.copyOf(targetIds),
+                occurredAt);
+    }
+}
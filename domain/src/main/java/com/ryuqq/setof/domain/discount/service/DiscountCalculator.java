@@ -2,6 +2,7 @@ package com.ryuqq.setof.domain.discount.service;
 
 import com.ryuqq.setof.domain.discount.aggregate.DiscountPolicy;
 import com.ryuqq.setof.domain.discount.vo.DiscountGroup;
+import java.time.Instant;
 import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.List;
@@ -20,6 +21,8 @@ import java.util.Map;
  *   <li>Priority 값이 낮을수록 높은 우선순위
  * </ul>
  *
+ * <p>총 할인 금액 계산은 {@link DiscountPolicyTable}에 위임하여 목록 조회 경로와 같은 계산 규칙을 공유합니다.
+ *
  * <p>Domain Layer Zero-Tolerance 규칙:
  *
  * <ul>
@@ -32,29 +35,27 @@ public class DiscountCalculator {
     /**
      * 복수의 할인 정책을 적용하여 총 할인 금액 계산
      *
-     * <p>각 DiscountGroup에서 가장 우선순위가 높은 정책만 적용됩니다.
+     * <p>각 DiscountGroup에서 가장 우선순위가 높은 정책만 적용됩니다. 유효 기간은 현재 시각 기준으로 판단합니다.
      *
      * @param policies 적용 가능한 할인 정책 목록
      * @param originalAmount 원 금액
      * @return 총 할인 금액
      */
     public long calculateTotalDiscount(List<DiscountPolicy> policies, long originalAmount) {
-        Map<DiscountGroup, DiscountPolicy> bestPolicies = selectBestPoliciesPerGroup(policies);
-
-        long totalDiscount = 0L;
-        long remainingAmount = originalAmount;
-
-        for (DiscountPolicy policy : bestPolicies.values()) {
-            long discountAmount = policy.calculateDiscountAmount(remainingAmount);
-            totalDiscount += discountAmount;
-            remainingAmount -= discountAmount;
-
-            if (remainingAmount <= 0) {
-                break;
-            }
-        }
+        return calculateTotalDiscount(policies, originalAmount, Instant.now());
+    }
 
-        return Math.min(totalDiscount, originalAmount);
+    /**
+     * 기준 시각으로 복수의 할인 정책을 적용하여 총 할인 금액 계산
+     *
+     * @param policies 적용 가능한 할인 정책 목록
+     * @param originalAmount 원 금액
+     * @param now 유효 기간 판단 기준 시각
+     * @return 총 할인 금액
+     */
+    public long calculateTotalDiscount(
+            List<DiscountPolicy> policies, long originalAmount, Instant now) {
+        return DiscountPolicyTable.compile(policies).calculateTotalDiscount(originalAmount, now);
     }
 
     /**
@@ -0,0 +1,345 @@
+package com.ryuqq.setof.domain.discount.service;
+
+import com.ryuqq.setof.domain.discount.aggregate.DiscountPolicy;
+import com.ryuqq.setof.domain.discount.vo.DiscountGroup;
+import com.ryuqq.setof.domain.discount.vo.DiscountTargetType;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 컴파일된 할인 정책 테이블
+ *
+ * <p>할인 정책 목록을 한 번 컴파일해 두고 여러 상품의 할인 금액을 반복 계산할 때 사용합니다. 계산 시점에는 객체를 생성하지
+ * 않으며, {@link DiscountCalculator#calculateTotalDiscount(List, long)}와 {@code ProductEffectivePrice}도 이
+ * 테이블로 계산하므로 상세/목록/최종 판매가 인덱스가 같은 계산 규칙을 공유합니다.
+ *
+ * <p>컴파일 결과:
+ *
+ * <ul>
+ *   <li>정책 속성을 우선순위 순(Priority 오름차순, 동률이면 입력 순서) rank로 정렬한 원시 타입 배열
+ *   <li>DiscountGroup별 최우선 정책 rank 테이블 (전체 대상 / 적용 대상 타입별 대상 ID → rank)
+ * </ul>
+ *
+ * <p>계산 규칙은 {@link DiscountCalculator}와 같습니다.
+ *
+ * <ul>
+ *   <li>같은 DiscountGroup 내에서는 가장 우선순위가 높은 정책 하나만 선택 (선택된 정책이 적용 불가하면 해당 그룹은 0원)
+ *   <li>DiscountGroup 선언 순서대로 남은 금액에 중첩 적용
+ * </ul>
+ *
+ * <p>불변 객체이므로 여러 스레드에서 공유할 수 있습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class DiscountPolicyTable {
+
+    /** 대상 ID가 없음을 나타내는 값 (어떤 대상 정책에도 해당하지 않음) */
+    public static final long NO_TARGET = Long.MIN_VALUE;
+
+    private static final DiscountGroup[] GROUPS = DiscountGroup.values();
+    private static final DiscountTargetType[] TARGET_TYPES = DiscountTargetType.values();
+    private static final int NONE = -1;
+    private static final long BASIS_POINTS = 10_000L;
+    private static final long MAX_EXACT_RATE_AMOUNT = Long.MAX_VALUE / BASIS_POINTS;
+
+    private final boolean[] usable;
+    private final boolean[] rateType;
+    private final long[] rateBasisPoints;
+    private final long[] fixedAmount;
+    private final long[] maximumDiscount;
+    private final long[] minimumOrderAmount;
+    private final Instant[] validStartAt;
+    private final Instant[] validEndAt;
+
+    private final int[] bestOfGroup;
+    private final int[] bestForAllTargets;
+    private final TargetRankTable[] bestByTarget;
+
+    private DiscountPolicyTable(List<DiscountPolicy> policies) {
+        DiscountPolicy[] ranked = policies.toArray(DiscountPolicy[]::new);
+        Arrays.sort(ranked, Comparator.comparingInt(DiscountPolicy::getPriorityValue));
+
+        int size = ranked.length;
+        this.usable = new boolean[size];
+        this.rateType = new boolean[size];
+        this.rateBasisPoints = new long[size];
+        this.fixedAmount = new long[size];
+        this.maximumDiscount = new long[size];
+        this.minimumOrderAmount = new long[size];
+        this.validStartAt = new Instant[size];
+        this.validEndAt = new Instant[size];
+
+        this.bestOfGroup = new int[GROUPS.length];
+        this.bestForAllTargets = new int[GROUPS.length];
+        this.bestByTarget = new TargetRankTable[GROUPS.length * TARGET_TYPES.length];
+        Arrays.fill(bestOfGroup, NONE);
+        Arrays.fill(bestForAllTargets, NONE);
+        for (int i = 0; i < bestByTarget.length; i++) {
+            bestByTarget[i] = new TargetRankTable();
+        }
+
+        for (int rank = 0; rank < size; rank++) {
+            compilePolicy(rank, ranked[rank]);
+        }
+    }
+
+    /**
+     * 할인 정책 목록 컴파일
+     *
+     * @param policies 할인 정책 목록 (활성/유효 기간/최소 주문 금액은 계산 시점에 판단)
+     * @return DiscountPolicyTable
+     */
+    public static DiscountPolicyTable compile(List<DiscountPolicy> policies) {
+        return new DiscountPolicyTable(policies);
+    }
+
+    /**
+     * 적용 대상 구분 없이 총 할인 금액 계산
+     *
+     * <p>컴파일된 모든 정책이 적용 대상이라고 보고 계산합니다. {@code DiscountCalculator.calculateTotalDiscount(policies,
+     * originalAmount)}와 같습니다.
+     *
+     * @param originalAmount 원 금액
+     * @param now 유효 기간 판단 기준 시각
+     * @return 총 할인 금액
+     */
+    public long calculateTotalDiscount(long originalAmount, Instant now) {
+        long totalDiscount = 0L;
+        long remainingAmount = originalAmount;
+
+        for (int group = 0; group < GROUPS.length; group++) {
+            int rank = bestOfGroup[group];
+            if (rank == NONE) {
+                continue;
+            }
+            long discountAmount = discountOf(rank, remainingAmount, now);
+            totalDiscount += discountAmount;
+            remainingAmount -= discountAmount;
+
+            if (remainingAmount <= 0) {
+                break;
+            }
+        }
+
+        return Math.min(totalDiscount, originalAmount);
+    }
+
+    /**
+     * 상품 속성 기준 총 할인 금액 계산
+     *
+     * <p>적용 대상 타입별로 상품 속성(상품그룹/셀러/카테고리/브랜드 ID)에 해당하는 정책만 후보로 삼습니다. 대상 정책으로 걸러낸 목록을
+     * {@link DiscountCalculator#calculateTotalDiscount(List, long)}에 넘긴 결과와 같습니다.
+     *
+     * @param originalAmount 원 금액
+     * @param productGroupId 상품그룹 ID (없으면 {@link #NO_TARGET})
+     * @param sellerId 셀러 ID (없으면 {@link #NO_TARGET})
+     * @param categoryId 카테고리 ID (없으면 {@link #NO_TARGET})
+     * @param brandId 브랜드 ID (없으면 {@link #NO_TARGET})
+     * @param now 유효 기간 판단 기준 시각
+     * @return 총 할인 금액
+     */
+    public long calculateTotalDiscount(
+            long originalAmount,
+            long productGroupId,
+            long sellerId,
+            long categoryId,
+            long brandId,
+            Instant now) {
+        long totalDiscount = 0L;
+        long remainingAmount = originalAmount;
+
+        for (int group = 0; group < GROUPS.length; group++) {
+            int rank = bestForAllTargets[group];
+            rank = higher(rank, targetRank(group, DiscountTargetType.PRODUCT, productGroupId));
+            rank = higher(rank, targetRank(group, DiscountTargetType.SELLER, sellerId));
+            rank = higher(rank, targetRank(group, DiscountTargetType.CATEGORY, categoryId));
+            rank = higher(rank, targetRank(group, DiscountTargetType.BRAND, brandId));
+            if (rank == NONE) {
+                continue;
+            }
+            long discountAmount = discountOf(rank, remainingAmount, now);
+            totalDiscount += discountAmount;
+            remainingAmount -= discountAmount;
+
+            if (remainingAmount <= 0) {
+                break;
+            }
+        }
+
+        return Math.min(totalDiscount, originalAmount);
+    }
+
+    /**
+     * 컴파일된 정책 수 반환
+     *
+     * @return 정책 수
+     */
+    public int size() {
+        return usable.length;
+    }
+
+    private void compilePolicy(int rank, DiscountPolicy policy) {
+        usable[rank] = policy.isActive() && !policy.isDeleted();
+        rateType[rank] = policy.isRateDiscount();
+        if (rateType[rank]) {
+            BigDecimal rate = policy.getDiscountRateValue();
+            rateBasisPoints[rank] =
+                    rate != null
+                            ? rate.movePointRight(2).setScale(0, RoundingMode.DOWN).longValue()
+                            : 0L;
+            Long maximum = policy.getMaximumDiscountAmountValue();
+            maximumDiscount[rank] = maximum != null ? maximum : Long.MAX_VALUE;
+        } else {
+            Long amount = policy.getDiscountAmountValue();
+            fixedAmount[rank] = amount != null ? amount : 0L;
+        }
+        minimumOrderAmount[rank] = policy.getMinimumOrderAmountValue();
+        validStartAt[rank] = policy.getValidPeriodStartAt();
+        validEndAt[rank] = policy.getValidPeriodEndAt();
+
+        int group = policy.getDiscountGroup().ordinal();
+        if (bestOfGroup[group] == NONE) {
+            bestOfGroup[group] = rank;
+        }
+
+        DiscountTargetType targetType = policy.getTargetType();
+        if (targetType == DiscountTargetType.ALL) {
+            if (bestForAllTargets[group] == NONE) {
+                bestForAllTargets[group] = rank;
+            }
+            return;
+        }
+        TargetRankTable table = bestByTarget[tableIndex(group, targetType)];
+        for (Long targetId : policy.getTargetIds()) {
+            if (targetId != null) {
+                table.putIfAbsent(targetId, rank);
+            }
+        }
+    }
+
+    private int targetRank(int group, DiscountTargetType targetType, long targetId) {
+        if (targetId == NO_TARGET) {
+            return NONE;
+        }
+        return bestByTarget[tableIndex(group, targetType)].get(targetId);
+    }
+
+    private static int tableIndex(int group, DiscountTargetType targetType) {
+        return group * TARGET_TYPES.length + targetType.ordinal();
+    }
+
+    private static int higher(int rank, int candidate) {
+        if (rank == NONE) {
+            return candidate;
+        }
+        if (candidate == NONE) {
+            return rank;
+        }
+        return Math.min(rank, candidate);
+    }
+
+    /** {@link DiscountPolicy#calculateDiscountAmount(long)}와 동일한 계산 (기준 시각만 인자로 받음) */
+    private long discountOf(int rank, long amount, Instant now) {
+        if (!usable[rank]
+                || now.isBefore(validStartAt[rank])
+                || now.isAfter(validEndAt[rank])
+                || amount < minimumOrderAmount[rank]) {
+            return 0L;
+        }
+        if (!rateType[rank]) {
+            return Math.min(fixedAmount[rank], amount);
+        }
+        return Math.min(rateDiscount(amount, rateBasisPoints[rank]), maximumDiscount[rank]);
+    }
+
+    /** amount × rate / 100 (소수점 이하 버림). 곱셈이 long 범위를 넘는 금액만 BigDecimal로 계산 */
+    private static long rateDiscount(long amount, long basisPoints) {
+        if (Math.abs(amount) <= MAX_EXACT_RATE_AMOUNT) {
+            return amount * basisPoints / BASIS_POINTS;
+        }
+        return BigDecimal.valueOf(amount)
+                .multiply(BigDecimal.valueOf(basisPoints))
+                .divide(BigDecimal.valueOf(BASIS_POINTS), 0, RoundingMode.DOWN)
+                .longValue();
+    }
+
+    /**
+     * 대상 ID → 최우선 정책 rank 조회용 Open Addressing 테이블
+     *
+     * <p>박싱 없이 long 키를 조회하기 위한 선형 탐사 해시 테이블입니다. 먼저 등록된 rank(더 높은 우선순위)를 유지하며, 컴파일 중
+     * 사용률이 절반을 넘으면 두 배로 확장합니다.
+     */
+    private static final class TargetRankTable {
+
+        private static final int INITIAL_CAPACITY = 8;
+
+        private long[] keys;
+        private int[] ranks;
+        private int mask;
+        private int size;
+
+        TargetRankTable() {
+            allocate(INITIAL_CAPACITY);
+        }
+
+        void putIfAbsent(long key, int rank) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int slot = slotOf(key);
+            while (ranks[slot] != NONE) {
+                if (keys[slot] == key) {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            ranks[slot] = rank;
+            size++;
+        }
+
+        int get(long key) {
+            int slot = slotOf(key);
+            while (ranks[slot] != NONE) {
+                if (keys[slot] == key) {
+                    return ranks[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return NONE;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldRanks = ranks;
+            allocate(oldKeys.length * 2);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldRanks[i] != NONE) {
+                    int slot = slotOf(oldKeys[i]);
+                    while (ranks[slot] != NONE) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    ranks[slot] = oldRanks[i];
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            this.keys = new long[capacity];
+            this.ranks = new int[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(ranks, NONE);
+        }
+
+        private int slotOf(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
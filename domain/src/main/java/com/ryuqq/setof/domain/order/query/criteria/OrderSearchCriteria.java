@@ -1,6 +1,8 @@
 package com.ryuqq.setof.domain.order.query.criteria;
 
+import com.ryuqq.setof.domain.common.vo.KeysetCursor;
 import com.ryuqq.setof.domain.common.vo.SortDirection;
+import com.ryuqq.setof.domain.order.aggregate.Order;
 import com.ryuqq.setof.domain.order.vo.OrderSortBy;
 import java.time.Instant;
 import java.util.List;
@@ -33,7 +35,7 @@ import java.util.List;
  * @param endDate 종료 일시 (nullable)
  * @param sortBy 정렬 기준 (nullable, 기본값 CREATED_AT)
  * @param sortDirection 정렬 방향 (nullable, 기본값 DESC)
- * @param lastOrderId 마지막 조회 주문 ID - 커서 페이징용 (nullable)
+ * @param lastOrderId 커서 - {@link KeysetCursor} 인코딩 값 또는 레거시 주문 ID (nullable)
  * @param pageSize 페이지 크기
  * @author development-team
  * @since 1.0.0
@@ -251,4 +253,29 @@ public record OrderSearchCriteria(
     public int fetchSize() {
         return pageSize + 1;
     }
+
+    /**
+     * 마지막 주문 기준 다음 페이지 커서 생성
+     *
+     * <p>정렬 기준 값과 주문 ID를 함께 담은 {@link KeysetCursor}를 인코딩합니다. ID 정렬이거나 정렬 기준 값이 없으면 주문
+     * ID만 담습니다.
+     *
+     * @param lastOrder 현재 페이지의 마지막 주문
+     * @return Opaque 커서 문자열
+     */
+    public String nextCursorOf(Order lastOrder) {
+        String orderId = lastOrder.id().value().toString();
+        Object sortValue =
+                switch (effectiveSortBy()) {
+                    case ID -> null;
+                    case ORDER_DATE -> lastOrder.orderedAt();
+                    case CREATED_AT -> lastOrder.createdAt();
+                    case UPDATED_AT -> lastOrder.updatedAt();
+                    case TOTAL_AMOUNT -> lastOrder.totalAmount().value().toPlainString();
+                };
+        if (sortValue == null) {
+            return KeysetCursor.of(orderId).encode();
+        }
+        return KeysetCursor.of(sortValue.toString(), orderId).encode();
+    }
 }
@@ -0,0 +1,39 @@
+package com.ryuqq.setof.domain.product.event;
+
+import com.ryuqq.setof.domain.common.event.DomainEvent;
+import com.ryuqq.setof.domain.product.vo.ProductGroupId;
+import java.time.Instant;
+
+/**
+ * 상품그룹 구성 변경 이벤트
+ *
+ * <p>상품그룹에 속한 이미지/상세설명/고시정보 또는 전체 상품 구성이 변경되었을 때 발행되는 도메인 이벤트입니다. 상품그룹 Aggregate를 다시 조회하지
+ * 않고 ID만으로 발행할 수 있습니다.
+ *
+ * <p>Domain Event 규칙:
+ *
+ * <ul>
+ *   <li>Record 타입 필수 (불변성 보장)
+ *   <li>occurredAt 필드 필수 (Instant)
+ *   <li>from() 정적 팩토리 메서드 필수
+ *   <li>과거형 네이밍 (*ChangedEvent)
+ * </ul>
+ *
+ * @param productGroupId 상품그룹 ID
+ * @param occurredAt 이벤트 발생 시각
+ */
+public record ProductGroupContentChangedEvent(ProductGroupId productGroupId, Instant occurredAt)
+        implements DomainEvent {
+
+    /**
+     * 상품그룹 ID로부터 이벤트 생성
+     *
+     * @param productGroupId 구성이 변경된 상품그룹 ID
+     * @param occurredAt 이벤트 발생 시각
+     * @return ProductGroupContentChangedEvent 인스턴스
+     */
+    public static ProductGroupContentChangedEvent from(
+            ProductGroupId productGroupId, Instant occurredAt) {
+        return new ProductGroupContentChangedEvent(productGroupId, occurredAt);
+    }
+}
@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.ryuqq.setof.domain.cart.exception.CartItemLimitExceededException;
 import com.ryuqq.setof.domain.cart.exception.CartItemNotFoundException;
 import com.ryuqq.setof.domain.cart.exception.QuantityLimitExceededException;
+import com.ryuqq.setof.domain.cart.vo.CartChanges;
 import com.ryuqq.setof.domain.cart.vo.CartId;
 import com.ryuqq.setof.domain.cart.vo.CartItem;
 import com.ryuqq.setof.domain.cart.vo.CartItemId;
@@ -485,6 +486,121 @@ class CartTest {
         }
     }
 
+    @Nested
+    @DisplayName("changes() - 변경 추적")
+    class Changes {
+
+        @Test
+        @DisplayName("복원 직후에는 변경분이 없다")
+        void shouldHaveNoChangesAfterRestore() {
+            // when
+            Cart cart = createCartWithMultipleRestoredItems();
+
+            // then
+            assertTrue(cart.changes().isEmpty());
+        }
+
+        @Test
+        @DisplayName("선택 상태 변경 시 해당 아이템만 변경분에 기록된다")
+        void shouldRecordOnlyToggledItem() {
+            // given
+            Cart cart = createCartWithMultipleRestoredItems();
+
+            // when
+            Cart updated = cart.updateSelected(CartItemId.of(2L), false, NOW);
+
+            // then
+            CartChanges changes = updated.changes();
+            assertEquals(1, changes.modifiedItems().size());
+            assertEquals(CartItemId.of(2L), changes.modifiedItems().get(0).id());
+            assertFalse(changes.modifiedItems().get(0).selected());
+            assertTrue(changes.addedItems().isEmpty());
+            assertTrue(changes.removedItemIds().isEmpty());
+        }
+
+        @Test
+        @DisplayName("상태가 바뀌지 않는 변경은 기록하지 않는다")
+        void shouldIgnoreNoOpChanges() {
+            // given
+            Cart cart = createCartWithMultipleRestoredItems();
+
+            // when
+            Cart updated = cart.updateAllSelected(true, NOW);
+
+            // then
+            assertTrue(updated.changes().isEmpty());
+        }
+
+        @Test
+        @DisplayName("같은 아이템을 여러 번 변경하면 마지막 상태만 남는다")
+        void shouldKeepLastStateForRepeatedChanges() {
+            // given
+            Cart cart = createCartWithRestoredItem();
+
+            // when
+            Cart updated =
+                    cart.updateQuantity(CartItemId.of(1L), 5, NOW)
+                            .updateSelected(CartItemId.of(1L), false, NOW);
+
+            // then
+            List<CartItem> modified = updated.changes().modifiedItems();
+            assertEquals(1, modified.size());
+            assertEquals(5, modified.get(0).quantity());
+            assertFalse(modified.get(0).selected());
+        }
+
+        @Test
+        @DisplayName("신규 아이템과 기존 아이템 수량 합산이 구분되어 기록된다")
+        void shouldSeparateAddedAndMergedItems() {
+            // given
+            Cart cart = createCartWithRestoredItem();
+
+            // when
+            Cart updated =
+                    cart.addItem(createCartItem(100L, 1), NOW)
+                            .addItem(createCartItem(500L, 2), NOW);
+
+            // then
+            CartChanges changes = updated.changes();
+            assertEquals(1, changes.addedItems().size());
+            assertEquals(500L, changes.addedItems().get(0).productStockId());
+            assertEquals(1, changes.modifiedItems().size());
+            assertEquals(3, changes.modifiedItems().get(0).quantity());
+        }
+
+        @Test
+        @DisplayName("삭제된 기존 아이템은 변경 목록에서 빠지고 삭제 목록에 기록된다")
+        void shouldMoveModifiedItemToRemoved() {
+            // given
+            Cart cart = createCartWithMultipleRestoredItems();
+
+            // when
+            Cart updated =
+                    cart.updateQuantity(CartItemId.of(1L), 4, NOW)
+                            .removeItem(CartItemId.of(1L), NOW);
+
+            // then
+            CartChanges changes = updated.changes();
+            assertTrue(changes.modifiedItems().isEmpty());
+            assertEquals(List.of(CartItemId.of(1L)), changes.removedItemIds());
+        }
+
+        @Test
+        @DisplayName("소프트 딜리트는 대상 아이템만 변경분에 기록된다")
+        void shouldRecordSoftDeletedItemsOnly() {
+            // given
+            Cart cart = createCartWithMultipleRestoredItems();
+
+            // when
+            Cart updated = cart.softDeleteItems(List.of(CartItemId.of(1L), CartItemId.of(3L)), NOW);
+
+            // then
+            List<CartItem> modified = updated.changes().modifiedItems();
+            assertEquals(2, modified.size());
+            assertTrue(modified.stream().allMatch(CartItem::isDeleted));
+        }
+    }
+
     // ===== Helper Methods =====
 
     private CartItem createCartItem(Long productStockId, int quantity) {
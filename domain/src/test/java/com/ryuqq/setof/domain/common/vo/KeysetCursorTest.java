@@ -0,0 +1,91 @@
+package com.ryuqq.setof.domain.common.vo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("KeysetCursor")
+class KeysetCursorTest {
+
+    @Nested
+    @DisplayName("생성 테스트")
+    class CreateTest {
+
+        @Test
+        @DisplayName("정렬키 값 순서를 유지하여 생성")
+        void shouldKeepValueOrder() {
+            // When
+            KeysetCursor cursor = KeysetCursor.of("2025-01-01T00:00:00Z", "100");
+
+            // Then
+            assertEquals(List.of("2025-01-01T00:00:00Z", "100"), cursor.values());
+            assertEquals(2, cursor.size());
+            assertEquals("2025-01-01T00:00:00Z", cursor.value(0));
+            assertEquals("100", cursor.lastValue());
+        }
+
+        @Test
+        @DisplayName("정렬키 값이 없으면 예외")
+        void shouldThrowWhenEmpty() {
+            assertThrows(IllegalArgumentException.class, KeysetCursor::of);
+        }
+
+        @Test
+        @DisplayName("null 정렬키 값은 예외")
+        void shouldThrowWhenValueIsNull() {
+            assertThrows(
+                    IllegalArgumentException.class, () -> KeysetCursor.of("100", (String) null));
+        }
+    }
+
+    @Nested
+    @DisplayName("인코딩/디코딩 테스트")
+    class CodecTest {
+
+        @Test
+        @DisplayName("인코딩 후 디코딩하면 동일한 커서")
+        void shouldRoundTrip() {
+            // Given
+            KeysetCursor cursor =
+                    KeysetCursor.of("15000.00", "0f8fad5b-d9cb-469f-a165-70867728950e");
+
+            // When
+            Optional<KeysetCursor> decoded = KeysetCursor.decode(cursor.encode());
+
+            // Then
+            assertTrue(decoded.isPresent());
+            assertEquals(cursor, decoded.get());
+        }
+
+        @Test
+        @DisplayName("인코딩 결과는 URL-safe 문자만 포함")
+        void shouldEncodeUrlSafe() {
+            // When
+            String encoded = KeysetCursor.of("상품명 ?&=/", "1").encode();
+
+            // Then
+            assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+        }
+
+        @Test
+        @DisplayName("레거시 ID 커서는 empty 반환")
+        void shouldReturnEmptyForLegacyCursor() {
+            assertFalse(KeysetCursor.decode("12345").isPresent());
+            assertFalse(KeysetCursor.decode("0f8fad5b-d9cb-469f-a165-70867728950e").isPresent());
+        }
+
+        @Test
+        @DisplayName("null 또는 빈 문자열은 empty 반환")
+        void shouldReturnEmptyForBlank() {
+            assertFalse(KeysetCursor.decode(null).isPresent());
+            assertFalse(KeysetCursor.decode(" ").isPresent());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.ryuqq.setof.domain.discount.aggregate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ryuqq.setof.domain.discount.vo.CostShare;
+import com.ryuqq.setof.domain.discount.vo.DiscountGroup;
+import com.ryuqq.setof.domain.discount.vo.DiscountPolicyId;
+import com.ryuqq.setof.domain.discount.vo.DiscountRate;
+import com.ryuqq.setof.domain.discount.vo.DiscountTargetType;
+import com.ryuqq.setof.domain.discount.vo.DiscountType;
+import com.ryuqq.setof.domain.discount.vo.MaximumDiscountAmount;
+import com.ryuqq.setof.domain.discount.vo.MinimumOrderAmount;
+import com.ryuqq.setof.domain.discount.vo.PolicyName;
+import com.ryuqq.setof.domain.discount.vo.Priority;
+import com.ryuqq.setof.domain.discount.vo.UsageLimit;
+import com.ryuqq.setof.domain.discount.vo.ValidPeriod;
+import com.ryuqq.setof.domain.product.ProductGroupFixture;
+import com.ryuqq.setof.domain.product.aggregate.ProductGroup;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ProductEffectivePrice 테스트
+ *
+ * <p>상품 최종 판매가 계산과 유효 시한 판단을 테스트합니다.
+ */
+@DisplayName("ProductEffectivePrice")
+class ProductEffectivePriceTest {
+
+    private static final Long PRODUCT_GROUP_ID = 1L;
+    private static final Long SELLER_ID = 1L;
+
+    private final Instant now = Instant.now();
+    private final ProductGroup productGroup = ProductGroupFixture.createWithId(PRODUCT_GROUP_ID);
+
+    @Nested
+    @DisplayName("compute() - 최종 판매가 계산")
+    class Compute {
+
+        @Test
+        @DisplayName("적용 정책이 없으면 판매가 그대로이며 유효 시한이 없다")
+        void shouldKeepCurrentPriceWithoutPolicies() {
+            // when
+            ProductEffectivePrice price =
+                    ProductEffectivePrice.compute(productGroup, List.of(), now);
+
+            // then
+            assertEquals(45000L, price.getSalePrice());
+            assertEquals(0L, price.getDiscountAmount());
+            assertNull(price.getValidUntil());
+            assertTrue(price.isFreshAt(now.plus(Duration.ofDays(365))));
+        }
+
+        @Test
+        @DisplayName("유효한 정책을 적용하고 정책 종료 시각을 유효 시한으로 기록한다")
+        void shouldApplyPolicyInEffect() {
+            // given
+            Instant endAt = now.plus(Duration.ofDays(1));
+            DiscountPolicy policy =
+                    createRatePolicy(
+                            DiscountTargetType.ALL,
+                            List.of(),
+                            now.minus(Duration.ofDays(1)),
+                            endAt);
+
+            // when
+            ProductEffectivePrice price =
+                    ProductEffectivePrice.compute(productGroup, List.of(policy), now);
+
+            // then
+            assertEquals(40500L, price.getSalePrice());
+            assertEquals(endAt, price.getValidUntil());
+            assertFalse(price.isFreshAt(endAt));
+        }
+
+        @Test
+        @DisplayName("적용 대상에 포함되지 않는 상품은 할인하지 않는다")
+        void shouldSkipPolicyNotTargetingProduct() {
+            // given
+            DiscountPolicy policy =
+                    createRatePolicy(
+                            DiscountTargetType.PRODUCT,
+                            List.of(999L),
+                            now.minus(Duration.ofDays(1)),
+                            now.plus(Duration.ofDays(1)));
+
+            // when
+            ProductEffectivePrice price =
+                    ProductEffectivePrice.compute(productGroup, List.of(policy), now);
+
+            // then
+            assertEquals(45000L, price.getSalePrice());
+            assertNull(price.getValidUntil());
+        }
+
+        @Test
+        @DisplayName("시작 전 정책은 할인하지 않고 시작 시각을 유효 시한으로 기록한다")
+        void shouldRecordStartOfUpcomingPolicy() {
+            // given
+            Instant startAt = now.plus(Duration.ofHours(1));
+            DiscountPolicy policy =
+                    createRatePolicy(
+                            DiscountTargetType.BRAND,
+                            List.of(1L),
+                            startAt,
+                            now.plus(Duration.ofDays(1)));
+
+            // when
+            ProductEffectivePrice price =
+                    ProductEffectivePrice.compute(productGroup, List.of(policy), now);
+
+            // then
+            assertEquals(45000L, price.getSalePrice());
+            assertEquals(startAt, price.getValidUntil());
+            assertTrue(price.isFreshAt(now));
+            assertFalse(price.isFreshAt(startAt));
+        }
+    }
+
+    private DiscountPolicy createRatePolicy(
+            DiscountTargetType targetType, List<Long> targetIds, Instant startAt, Instant endAt) {
+        return DiscountPolicy.reconstitute(
+                DiscountPolicyId.of(1L),
+                SELLER_ID,
+                PolicyName.of("테스트 할인"),
+                DiscountGroup.PRODUCT,
+                DiscountType.RATE,
+                targetType,
+                targetIds,
+                DiscountRate.of(10),
+                null,
+                MaximumDiscountAmount.of(10000L),
+                MinimumOrderAmount.of(0L),
+                ValidPeriod.of(startAt, endAt),
+                UsageLimit.of(1, 1000),
+                CostShare.of(new BigDecimal("50"), new BigDecimal("50")),
+                Priority.of(100),
+                true,
+                startAt,
+                startAt,
+                null);
+    }
+}
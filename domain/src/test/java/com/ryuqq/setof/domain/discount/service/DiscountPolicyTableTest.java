@@ -0,0 +1,371 @@
+package com.ryuqq.setof.domain.discount.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.ryuqq.setof.domain.discount.aggregate.DiscountPolicy;
+import com.ryuqq.setof.domain.discount.vo.CostShare;
+import com.ryuqq.setof.domain.discount.vo.DiscountAmount;
+import com.ryuqq.setof.domain.discount.vo.DiscountGroup;
+import com.ryuqq.setof.domain.discount.vo.DiscountPolicyId;
+import com.ryuqq.setof.domain.discount.vo.DiscountRate;
+import com.ryuqq.setof.domain.discount.vo.DiscountTargetType;
+import com.ryuqq.setof.domain.discount.vo.DiscountType;
+import com.ryuqq.setof.domain.discount.vo.MaximumDiscountAmount;
+import com.ryuqq.setof.domain.discount.vo.MinimumOrderAmount;
+import com.ryuqq.setof.domain.discount.vo.PolicyName;
+import com.ryuqq.setof.domain.discount.vo.Priority;
+import com.ryuqq.setof.domain.discount.vo.UsageLimit;
+import com.ryuqq.setof.domain.discount.vo.ValidPeriod;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** DiscountPolicyTable Domain Service 테스트 */
+@DisplayName("DiscountPolicyTable Domain Service")
+class DiscountPolicyTableTest {
+
+    private static final Instant FIXED_TIME = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Long TEST_SELLER_ID = 1L;
+
+    private final DiscountCalculator calculator = new DiscountCalculator();
+
+    @Nested
+    @DisplayName("calculateTotalDiscount(amount, now) - 대상 구분 없는 계산")
+    class CalculateWithoutTarget {
+
+        @Test
+        @DisplayName("같은 그룹 내에서는 우선순위가 가장 높은 정책만 적용된다")
+        void shouldApplyHighestPriorityPolicyWithinGroup() {
+            // given
+            List<DiscountPolicy> policies =
+                    List.of(
+                            ratePolicy(1L, DiscountGroup.PRODUCT, 5, 100),
+                            ratePolicy(2L, DiscountGroup.PRODUCT, 10, 1));
+            DiscountPolicyTable table = DiscountPolicyTable.compile(policies);
+
+            // when
+            long totalDiscount = table.calculateTotalDiscount(50000L, Instant.now());
+
+            // then
+            assertEquals(5000L, totalDiscount);
+        }
+
+        @Test
+        @DisplayName("서로 다른 그룹은 남은 금액에 중첩 적용된다")
+        void shouldStackDiscountsAcrossGroups() {
+            // given
+            List<DiscountPolicy> policies =
+                    List.of(
+                            ratePolicy(1L, DiscountGroup.MEMBER, 5, 1),
+                            ratePolicy(2L, DiscountGroup.PRODUCT, 10, 1));
+            DiscountPolicyTable table = DiscountPolicyTable.compile(policies);
+
+            // when
+            long totalDiscount = table.calculateTotalDiscount(100000L, Instant.now());
+
+            // then
+            assertEquals(14500L, totalDiscount); // 10,000 + 90,000 * 5%
+        }
+
+        @Test
+        @DisplayName("최우선 정책이 비활성이면 해당 그룹은 할인되지 않는다")
+        void shouldNotFallBackWhenBestPolicyInactive() {
+            // given
+            DiscountPolicy inactiveBest =
+                    ratePolicy(1L, DiscountGroup.PRODUCT, 10, 1).deactivate(FIXED_TIME);
+            DiscountPolicy active = ratePolicy(2L, DiscountGroup.PRODUCT, 5, 50);
+            List<DiscountPolicy> policies = List.of(inactiveBest, active);
+            DiscountPolicyTable table = DiscountPolicyTable.compile(policies);
+
+            // when
+            long totalDiscount = table.calculateTotalDiscount(50000L, Instant.now());
+
+            // then
+            assertEquals(0L, totalDiscount);
+            assertEquals(perPolicyTotal(policies, 50000L), totalDiscount);
+        }
+
+        @Test
+        @DisplayName("최소 주문 금액 미만이면 할인되지 않는다")
+        void shouldNotApplyBelowMinimumOrderAmount() {
+            // given
+            DiscountPolicy policy =
+                    fixedPolicy(
+                            1L,
+                            DiscountGroup.PRODUCT,
+                            DiscountTargetType.ALL,
+                            List.of(),
+                            3000L,
+                            30000L,
+                            1);
+            DiscountPolicyTable table = DiscountPolicyTable.compile(List.of(policy));
+
+            // when & then
+            assertEquals(0L, table.calculateTotalDiscount(29999L, Instant.now()));
+            assertEquals(3000L, table.calculateTotalDiscount(30000L, Instant.now()));
+        }
+
+        @Test
+        @DisplayName("유효 기간 밖의 기준 시각이면 할인되지 않는다")
+        void shouldNotApplyOutsideValidPeriod() {
+            // given
+            DiscountPolicyTable table =
+                    DiscountPolicyTable.compile(
+                            List.of(ratePolicy(1L, DiscountGroup.PRODUCT, 10, 1)));
+
+            // when & then
+            assertEquals(0L, table.calculateTotalDiscount(50000L, Instant.EPOCH));
+        }
+    }
+
+    @Nested
+    @DisplayName("calculateTotalDiscount(amount, ids, now) - 상품 속성 기준 계산")
+    class CalculateWithTarget {
+
+        @Test
+        @DisplayName("상품 속성에 해당하는 대상 정책만 후보가 된다")
+        void shouldConsiderOnlyMatchingTargets() {
+            // given
+            List<DiscountPolicy> policies =
+                    List.of(
+                            fixedPolicy(
+                                    1L,
+                                    DiscountGroup.PRODUCT,
+                                    DiscountTargetType.BRAND,
+                                    List.of(7L),
+                                    5000L,
+                                    0L,
+                                    1),
+                            fixedPolicy(
+                                    2L,
+                                    DiscountGroup.PRODUCT,
+                                    DiscountTargetType.CATEGORY,
+                                    List.of(3L),
+                                    2000L,
+                                    0L,
+                                    10));
+            DiscountPolicyTable table = DiscountPolicyTable.compile(policies);
+
+            // when
+            Instant now = Instant.now();
+            long matchedBrand = table.calculateTotalDiscount(50000L, 100L, 1L, 3L, 7L, now);
+            long otherBrand = table.calculateTotalDiscount(50000L, 100L, 1L, 3L, 8L, now);
+            long noTarget =
+                    table.calculateTotalDiscount(
+                            50000L,
+                            100L,
+                            1L,
+                            DiscountPolicyTable.NO_TARGET,
+                            DiscountPolicyTable.NO_TARGET,
+                            now);
+
+            // then
+            assertEquals(5000L, matchedBrand);
+            assertEquals(2000L, otherBrand);
+            assertEquals(0L, noTarget);
+        }
+
+        @Test
+        @DisplayName("정책 수보다 대상 ID가 많아도 모든 대상 ID를 조회할 수 있다")
+        void shouldLookUpManyTargetIds() {
+            // given
+            List<Long> productGroupIds = new ArrayList<>();
+            for (long id = 1; id <= 1000; id++) {
+                productGroupIds.add(id);
+            }
+            DiscountPolicy policy =
+                    fixedPolicy(
+                            1L,
+                            DiscountGroup.PRODUCT,
+                            DiscountTargetType.PRODUCT,
+                            productGroupIds,
+                            1000L,
+                            0L,
+                            1);
+            DiscountPolicyTable table = DiscountPolicyTable.compile(List.of(policy));
+            Instant now = Instant.now();
+
+            // when & then
+            for (long id = 1; id <= 1000; id++) {
+                assertEquals(1000L, table.calculateTotalDiscount(50000L, id, 1L, 1L, 1L, now));
+            }
+            assertEquals(0L, table.calculateTotalDiscount(50000L, 1001L, 1L, 1L, 1L, now));
+        }
+
+        @Test
+        @DisplayName("무작위 정책/상품 조합에서 정책별 계산과 동일한 결과를 낸다")
+        void shouldMatchPerPolicyCalculation() {
+            // given
+            Random random = new Random(20250101L);
+            List<DiscountPolicy> policies = randomPolicies(random, 300);
+            DiscountPolicyTable table = DiscountPolicyTable.compile(policies);
+            Instant now = Instant.now();
+
+            for (int i = 0; i < 2000; i++) {
+                long amount = random.nextInt(300_000);
+                long productGroupId = random.nextInt(50);
+                long sellerId = random.nextInt(5);
+                long categoryId = random.nextInt(20);
+                long brandId = random.nextInt(20);
+
+                List<DiscountPolicy> applicable = new ArrayList<>();
+                for (DiscountPolicy policy : policies) {
+                    if (policy.isApplicableToProduct(
+                            productGroupId, sellerId, categoryId, brandId)) {
+                        applicable.add(policy);
+                    }
+                }
+
+                // when
+                long expected = perPolicyTotal(applicable, amount);
+                long actual =
+                        table.calculateTotalDiscount(
+                                amount, productGroupId, sellerId, categoryId, brandId, now);
+                long viaCalculator = calculator.calculateTotalDiscount(applicable, amount, now);
+
+                // then
+                assertEquals(expected, actual, "amount=" + amount + ", product=" + productGroupId);
+                assertEquals(expected, viaCalculator, "amount=" + amount);
+            }
+        }
+    }
+
+    /**
+     * 그룹별 최우선 정책에 {@link DiscountPolicy#calculateDiscountAmount(long)}를 차례로 적용한 기준 결과
+     *
+     * <p>테이블과 독립된 경로로 계산하므로 parity 검증의 기준값으로 사용합니다.
+     */
+    private long perPolicyTotal(List<DiscountPolicy> policies, long amount) {
+        long total = 0L;
+        for (long discount : calculator.calculateDiscountsByGroup(policies, amount).values()) {
+            total += discount;
+        }
+        return Math.min(total, amount);
+    }
+
+    private List<DiscountPolicy> randomPolicies(Random random, int count) {
+        DiscountGroup[] groups = DiscountGroup.values();
+        DiscountTargetType[] targetTypes = DiscountTargetType.values();
+        List<DiscountPolicy> policies = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            long id = i + 1L;
+            DiscountGroup group = groups[random.nextInt(groups.length)];
+            DiscountTargetType targetType = targetTypes[random.nextInt(targetTypes.length)];
+            List<Long> targetIds =
+                    targetType == DiscountTargetType.ALL
+                            ? List.of()
+                            : List.of((long) random.nextInt(20), (long) random.nextInt(50));
+            int priority = 1 + random.nextInt(20);
+            long minimumOrder = random.nextInt(4) == 0 ? random.nextInt(100_000) : 0L;
+
+            DiscountPolicy policy;
+            if (random.nextBoolean()) {
+                BigDecimal rate = BigDecimal.valueOf(random.nextInt(5000), 2);
+                Long maximum = random.nextBoolean() ? (long) random.nextInt(20_000) : null;
+                policy =
+                        policy(
+                                id,
+                                group,
+                                DiscountType.RATE,
+                                targetType,
+                                targetIds,
+                                DiscountRate.of(rate),
+                                null,
+                                MaximumDiscountAmount.of(maximum),
+                                minimumOrder,
+                                priority);
+            } else {
+                policy =
+                        fixedPolicy(
+                                id,
+                                group,
+                                targetType,
+                                targetIds,
+                                (long) random.nextInt(30_000),
+                                minimumOrder,
+                                priority);
+            }
+            if (random.nextInt(10) == 0) {
+                policy = policy.deactivate(FIXED_TIME);
+            }
+            policies.add(policy);
+        }
+        return policies;
+    }
+
+    private DiscountPolicy ratePolicy(Long id, DiscountGroup group, int rate, int priority) {
+        return policy(
+                id,
+                group,
+                DiscountType.RATE,
+                DiscountTargetType.ALL,
+                List.of(),
+                DiscountRate.of(rate),
+                null,
+                MaximumDiscountAmount.unlimited(),
+                0L,
+                priority);
+    }
+
+    private DiscountPolicy fixedPolicy(
+            Long id,
+            DiscountGroup group,
+            DiscountTargetType targetType,
+            List<Long> targetIds,
+            Long amount,
+            Long minimumOrder,
+            int priority) {
+        return policy(
+                id,
+                group,
+                DiscountType.FIXED_PRICE,
+                targetType,
+                targetIds,
+                null,
+                DiscountAmount.of(amount),
+                MaximumDiscountAmount.unlimited(),
+                minimumOrder,
+                priority);
+    }
+
+    private DiscountPolicy policy(
+            Long id,
+            DiscountGroup group,
+            DiscountType discountType,
+            DiscountTargetType targetType,
+            List<Long> targetIds,
+            DiscountRate discountRate,
+            DiscountAmount discountAmount,
+            MaximumDiscountAmount maximumDiscountAmount,
+            Long minimumOrder,
+            int priority) {
+        Instant now = Instant.now();
+        return DiscountPolicy.reconstitute(
+                DiscountPolicyId.of(id),
+                TEST_SELLER_ID,
+                PolicyName.of("테스트 할인"),
+                group,
+                discountType,
+                targetType,
+                targetIds,
+                discountRate,
+                discountAmount,
+                maximumDiscountAmount,
+                MinimumOrderAmount.of(minimumOrder),
+                ValidPeriod.of(now.minus(1, ChronoUnit.DAYS), now.plus(365, ChronoUnit.DAYS)),
+                UsageLimit.unlimited(),
+                CostShare.platformOnly(),
+                Priority.of(priority),
+                true,
+                FIXED_TIME,
+                FIXED_TIME,
+                null);
+    }
+}
@@ -0,0 +1,38 @@
+package com.ryuqq.setof.domain.product.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.ryuqq.setof.domain.product.vo.ProductGroupId;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** ProductGroupContentChangedEvent 단위 테스트 */
+@DisplayName("ProductGroupContentChangedEvent")
+class ProductGroupContentChangedEventTest {
+
+    private static final Instant FIXED_INSTANT = Instant.parse("2025-01-15T10:00:00Z");
+
+    @Nested
+    @DisplayName("from 팩토리 메서드")
+    class FromMethodTest {
+
+        @Test
+        @DisplayName("상품그룹 ID로 이벤트 생성")
+        void shouldCreateEventFromProductGroupId() {
+            // Given
+            ProductGroupId productGroupId = ProductGroupId.of(1L);
+
+            // When
+            ProductGroupContentChangedEvent event =
+                    ProductGroupContentChangedEvent.from(productGroupId, FIXED_INSTANT);
+
+            // Then
+            assertNotNull(event);
+            assertEquals(productGroupId, event.productGroupId());
+            assertEquals(FIXED_INSTANT, event.occurredAt());
+        }
+    }
+}
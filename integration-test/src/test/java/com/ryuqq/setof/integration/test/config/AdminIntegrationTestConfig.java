@@ -3,6 +3,8 @@ package com.ryuqq.setof.integration.test.config;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -11,10 +13,13 @@ import com.ryuqq.setof.application.auth.port.out.cache.RefreshTokenCacheCommandP
 import com.ryuqq.setof.application.auth.port.out.cache.RefreshTokenCacheQueryPort;
 import com.ryuqq.setof.application.common.port.out.CachePort;
 import com.ryuqq.setof.application.common.port.out.DistributedLockPort;
+import com.ryuqq.setof.application.common.port.out.IdempotencyStorePort;
+import com.ryuqq.setof.application.common.port.out.IdempotencyStorePort.IdempotencyRecord;
 import com.ryuqq.setof.application.common.port.out.StockCacheSyncPort;
 import com.ryuqq.setof.application.common.port.out.StockCounterPort;
-import java.util.Collections;
-import java.util.Set;
+import com.ryuqq.setof.application.common.port.out.StockCounterPort.StockReservationResult;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import org.mockito.invocation.InvocationOnMock;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -29,7 +34,7 @@ import org.springframework.context.annotation.Primary;
  * <h3>Mock 대상</h3>
  *
  * <ul>
- *   <li>Redis 관련: DistributedLockPort, CachePort, RefreshTokenCachePort
+ *   <li>Redis 관련: DistributedLockPort, IdempotencyStorePort, CachePort, RefreshTokenCachePort
  *   <li>Security: ResourceAccessChecker (권한 검증 우회)
  * </ul>
  *
@@ -61,27 +66,60 @@ public class AdminIntegrationTestConfig {
     // Redis Mock (분산락, 캐시)
     // ============================================================
 
-    /** 분산락 Mock - 멱등성 키 추적을 통한 중복 요청 감지 */
+    /** 분산락 Mock - 항상 획득 성공 */
     @Bean
     @Primary
     public DistributedLockPort distributedLockPort() {
-        Set<String> acquiredIdempotencyKeys = Collections.newSetFromMap(new ConcurrentHashMap<>());
-
         DistributedLockPort mock = mock(DistributedLockPort.class);
 
-        when(mock.tryLock(any(), anyLong(), anyLong(), any()))
+        when(mock.tryLock(any(), anyLong(), anyLong(), any())).thenReturn(true);
+
+        when(mock.isHeldByCurrentThread(any())).thenReturn(true);
+        when(mock.isLocked(any())).thenReturn(false);
+        return mock;
+    }
+
+    /**
+     * 멱등 레코드 저장소 - 인메모리 구현
+     *
+     * <p>같은 키로 두 번째 begin 호출 시 처리 중이면 IN_PROGRESS, 완료됐으면 저장된 응답을 반환합니다.
+     */
+    @Bean
+    @Primary
+    public IdempotencyStorePort idempotencyStorePort() {
+        Map<String, IdempotencyRecord<?>> records = new ConcurrentHashMap<>();
+
+        IdempotencyStorePort mock = mock(IdempotencyStorePort.class);
+
+        when(mock.begin(anyString(), any(), any()))
                 .thenAnswer(
                         (InvocationOnMock invocation) -> {
-                            Object lockKey = invocation.getArgument(0);
-                            if (lockKey.getClass().getSimpleName().equals("IdempotencyLockKey")) {
-                                String keyString = lockKey.toString();
-                                return acquiredIdempotencyKeys.add(keyString);
+                            String key = invocation.getArgument(0);
+                            IdempotencyRecord<?> acquired =
+                                    IdempotencyRecord.acquired(UUID.randomUUID().toString());
+                            IdempotencyRecord<?> existing = records.putIfAbsent(key, acquired);
+                            if (existing == null) {
+                                return acquired;
                             }
+                            return existing.isCompleted()
+                                    ? existing
+                                    : IdempotencyRecord.inProgress();
+                        });
+        when(mock.complete(anyString(), anyString(), any(), any()))
+                .thenAnswer(
+                        (InvocationOnMock invocation) -> {
+                            records.put(
+                                    invocation.getArgument(0),
+                                    IdempotencyRecord.completed(invocation.getArgument(2)));
                             return true;
                         });
-
-        when(mock.isHeldByCurrentThread(any())).thenReturn(true);
-        when(mock.isLocked(any())).thenReturn(false);
+        doAnswer(
+                        (InvocationOnMock invocation) -> {
+                            records.remove(invocation.getArgument(0));
+                            return null;
+                        })
+                .when(mock)
+                .release(anyString(), anyString());
         return mock;
     }
 
@@ -107,6 +145,7 @@ public class AdminIntegrationTestConfig {
         when(mock.exists(anyLong())).thenReturn(true);
         when(mock.getStock(anyLong())).thenReturn(100);
         when(mock.decrement(anyLong(), anyInt())).thenReturn(99);
+        when(mock.decrementAll(any())).thenReturn(StockReservationResult.success());
         when(mock.increment(anyLong(), anyInt())).thenReturn(101);
         return mock;
     }
@@ -107,8 +107,8 @@ class CheckoutIntegrationTest extends IntegrationTestBase {
                 },
                 executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
                 config = @SqlConfig(errorMode = SqlConfig.ErrorMode.CONTINUE_ON_ERROR))
-        @DisplayName("CHK-002: 동일 멱등성 키로 재요청 시 409 Conflict를 반환한다")
-        void shouldReturn409WhenDuplicateIdempotencyKey() {
+        @DisplayName("CHK-002: 동일 멱등성 키로 재요청 시 최초 응답을 그대로 반환한다")
+        void shouldReplayFirstResponseWhenDuplicateIdempotencyKey() {
             // given
             String accessToken = registerAndGetAccessToken();
             String idempotencyKey = UUID.randomUUID().toString();
@@ -127,15 +127,18 @@ class CheckoutIntegrationTest extends IntegrationTestBase {
             assertThat(firstResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
 
             // when - 동일한 멱등성 키로 두 번째 요청
-            ResponseEntity<String> secondResponse =
+            ResponseEntity<ApiResponse<CheckoutV2ApiResponse>> secondResponse =
                     restTemplate.exchange(
                             url,
                             HttpMethod.POST,
                             authenticatedEntity(request, accessToken),
-                            String.class);
+                            new ParameterizedTypeReference<>() {});
 
-            // then
-            assertThat(secondResponse.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+            // then - 새 체크아웃을 만들지 않고 최초 응답을 재사용
+            assertThat(secondResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(secondResponse.getBody()).isNotNull();
+            assertThat(secondResponse.getBody().data().checkoutId())
+                    .isEqualTo(firstResponse.getBody().data().checkoutId());
         }
     }
 